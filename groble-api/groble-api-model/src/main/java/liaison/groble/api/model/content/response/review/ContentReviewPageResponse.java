@@ -0,0 +1,45 @@
+package liaison.groble.api.model.content.response.review;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "콘텐츠 리뷰 커서 조회 응답")
+public class ContentReviewPageResponse {
+  @Schema(description = "리뷰 평균 별점", example = "4.3", type = "number", format = "decimal")
+  private BigDecimal averageRating;
+
+  @Schema(
+      description = "전체 리뷰 개수",
+      example = "125",
+      type = "integer",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private Long totalReviewCount;
+
+  @Schema(
+      description = "별점별 리뷰 개수 (키: 1~5, 5는 별점 5.0, 1은 2.0 미만)",
+      example = "{\"5\": 80, \"4\": 30, \"3\": 10, \"2\": 3, \"1\": 2}")
+  private Map<Integer, Long> ratingDistribution;
+
+  @Schema(description = "리뷰 목록", implementation = ContentDetailReviewResponse.class)
+  private List<ContentDetailReviewResponse> reviews;
+
+  @Schema(
+      description = "다음 페이지 요청에 사용할 커서 (마지막 페이지이면 null)",
+      example = "TEFURVNUfDIwMjUtMTEtMjhUMTI6MDB8MjA",
+      type = "string")
+  private String nextCursor;
+
+  @Schema(
+      description = "다음 페이지 존재 여부",
+      example = "true",
+      type = "boolean",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private boolean hasNext;
+}
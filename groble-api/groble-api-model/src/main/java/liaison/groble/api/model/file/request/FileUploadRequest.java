@@ -1,5 +1,8 @@
 package liaison.groble.api.model.file.request;
 
+import jakarta.validation.constraints.NotBlank;
+
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,7 +13,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class FileUploadRequest {
+  @NotBlank
+  @Schema(description = "파일 MIME 타입 (업로드 시 동일한 Content-Type 헤더 필요)", example = "application/pdf")
   private String contentType;
+
+  @NotBlank
+  @Schema(description = "원본 파일 이름", example = "document.pdf")
   private String originalFileName;
+
+  @Schema(description = "파일 저장 경로", example = "contents/document")
   private String directory;
 }
@@ -0,0 +1,25 @@
+package liaison.groble.api.model.file.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadCompleteRequest {
+  @NotBlank
+  @Schema(
+      description = "presigned URL 발급 시 받은 파일 키",
+      example = "contents/document/0f8fad5b-d9cb-469f-a165-70867728950e_document.pdf")
+  private String fileKey;
+
+  @NotBlank
+  @Schema(description = "원본 파일 이름", example = "document.pdf")
+  private String originalFileName;
+}
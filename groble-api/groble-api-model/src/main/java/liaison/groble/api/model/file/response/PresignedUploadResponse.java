@@ -0,0 +1,41 @@
+package liaison.groble.api.model.file.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponse {
+  @Schema(
+      description = "업로드 완료 요청 시 전달할 파일 키",
+      example = "contents/document/0f8fad5b-d9cb-469f-a165-70867728950e_document.pdf")
+  private String fileKey;
+
+  @Schema(description = "PUT 요청으로 파일을 업로드할 presigned URL")
+  private String uploadUrl;
+
+  @Schema(description = "presigned URL 만료 시각", example = "2025-11-21 10:15:00")
+  @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+  private LocalDateTime expiration;
+
+  @Schema(description = "업로드 시 지정해야 하는 Content-Type", example = "application/pdf")
+  private String contentType;
+
+  @Schema(description = "업로드 PUT 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)")
+  private Map<String, String> uploadHeaders;
+
+  @Schema(
+      description = "업로드 완료 후 파일 URL",
+      example = "https://storage.example.com/contents/document/document.pdf")
+  private String fileUrl;
+}
@@ -0,0 +1,36 @@
+package liaison.groble.api.model.notification.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(name = "BizppurioReportRequest", description = "비즈뿌리오 전달 결과 리포트 모델")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BizppurioReportRequest {
+  @Schema(description = "비즈뿌리오 메시지 키", example = "230101120000000000000001")
+  @JsonProperty("CMSGID")
+  private String messageKey;
+
+  @Schema(description = "메시지 타입", example = "at")
+  @JsonProperty("MEDIA")
+  private String media;
+
+  @Schema(description = "전달 결과 코드", example = "7000")
+  @JsonProperty("RESULT")
+  private String result;
+
+  @Schema(description = "전달 시각 (Unix time)", example = "1672542000")
+  @JsonProperty("UNIXTIME")
+  private String unixTime;
+
+  @Schema(description = "발송 요청 시 지정한 참조키", example = "5f2b1c0e9a8d4e7f8b6a3c2d1e0f9a8b")
+  @JsonProperty("REFKEY")
+  private String refKey;
+}
@@ -31,7 +31,8 @@ public class NotificationItemResponse {
         "SELLER_REJECTED",
         "CONTENT_APPROVED",
         "CONTENT_REJECTED",
-        "WELCOME_GROBLE"
+        "WELCOME_GROBLE",
+        "SCHEDULED_NOTICE"
       })
   private String subNotificationType;
 
@@ -0,0 +1,90 @@
+package liaison.groble.api.server.logging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.common.annotation.Logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link LoggingAspect} 호출당 오버헤드 벤치마크
+ *
+ * <p>Aspect 없는 직접 호출, 캡처를 끈 계측(Timer와 쿼리 수 기록만), 매 호출 캡처(표본 비율 1.0)를 비교합니다. 캡처를 끈 계측은
+ * 직접 호출 대비 수 마이크로초 이내여야 합니다. 실행: {@code ./gradlew :groble-api:groble-api-server:jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+  private SampleController direct;
+  private SampleController instrumented;
+  private SampleController capturing;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    direct = new SampleController();
+    instrumented = proxy(0.0);
+    capturing = proxy(1.0);
+  }
+
+  /** 기준: Aspect 없이 직접 호출 */
+  @Benchmark
+  public Object direct() {
+    return direct.getContents(42L, "latest");
+  }
+
+  /** 캡처 없이 Timer와 쿼리 수만 기록 */
+  @Benchmark
+  public Object instrumentedCaptureOff() {
+    return instrumented.getContents(42L, "latest");
+  }
+
+  /** 매 호출 파라미터와 결과를 최대 길이까지 직렬화 */
+  @Benchmark
+  public Object instrumentedCaptureAlways() {
+    return capturing.getContents(42L, "latest");
+  }
+
+  private static SampleController proxy(double captureSampleRate) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+    factory.setProxyTargetClass(true);
+    factory.addAspect(
+        new LoggingAspect(
+            new SimpleMeterRegistry(), new ObjectMapper(), captureSampleRate, 1024));
+    return factory.getProxy();
+  }
+
+  public static class SampleController {
+    private static final List<Map<String, Object>> CONTENTS =
+        List.of(
+            Map.of("contentId", 1L, "title", "노션 템플릿 모음", "price", 12000),
+            Map.of("contentId", 2L, "title", "1:1 커리어 코칭", "price", 50000),
+            Map.of("contentId", 3L, "title", "전자책: 사이드 프로젝트로 수익 내기", "price", 9900));
+
+    @Logging(item = "Benchmark", action = "getContents", includeParam = true, includeResult = true)
+    public ResponseEntity<List<Map<String, Object>>> getContents(Long marketId, String sort) {
+      return ResponseEntity.ok(CONTENTS);
+    }
+  }
+}
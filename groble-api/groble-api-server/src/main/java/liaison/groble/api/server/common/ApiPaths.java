@@ -87,6 +87,14 @@ public final class ApiPaths {
     private Auth() {}
   }
 
+  public static final class Bizppurio {
+    public static final String BASE = API_V1 + "/bizppurio";
+
+    public static final String REPORT = "/report";
+
+    private Bizppurio() {}
+  }
+
   public static final class Guest {
     public static final String BASE_AUTH = API_V1 + "/guest/auth";
 
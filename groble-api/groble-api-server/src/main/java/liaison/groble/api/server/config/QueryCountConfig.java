@@ -0,0 +1,19 @@
+package liaison.groble.api.server.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import liaison.groble.api.server.logging.QueryCountInspector;
+
+/** {@code @Logging} 엔드포인트별 쿼리 수 집계를 위해 Hibernate에 {@link QueryCountInspector}를 등록 */
+@Configuration
+public class QueryCountConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+    return properties ->
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+  }
+}
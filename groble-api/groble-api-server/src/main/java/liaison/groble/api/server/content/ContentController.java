@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -24,6 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 import liaison.groble.api.model.content.response.ContentDetailResponse;
 import liaison.groble.api.model.content.response.ContentPreviewCardResponse;
 import liaison.groble.api.model.content.response.HomeContentsResponse;
+import liaison.groble.api.model.content.response.review.ContentReviewPageResponse;
 import liaison.groble.api.model.content.response.review.ContentReviewResponse;
 import liaison.groble.api.model.content.response.swagger.ContentsCoachingCategory;
 import liaison.groble.api.model.content.response.swagger.ContentsDocumentCategory;
@@ -31,23 +34,29 @@ import liaison.groble.api.model.content.response.swagger.HomeContentsApiResponse
 import liaison.groble.api.model.content.response.swagger.UploadContentDownloadFile;
 import liaison.groble.api.model.content.response.swagger.UploadContentThumbnail;
 import liaison.groble.api.model.dashboard.request.referrer.ReferrerRequest;
+import liaison.groble.api.model.file.request.FileUploadRequest;
+import liaison.groble.api.model.file.request.PresignedUploadCompleteRequest;
 import liaison.groble.api.model.file.response.FileUploadResponse;
+import liaison.groble.api.model.file.response.PresignedUploadResponse;
 import liaison.groble.api.model.maker.response.ContactInfoResponse;
 import liaison.groble.api.model.maker.response.MakerInfoResponse;
 import liaison.groble.api.server.content.docs.ContentSwaggerDocs;
 import liaison.groble.api.server.util.FileUtil;
 import liaison.groble.api.server.util.FileValidationUtil;
+import liaison.groble.application.content.dto.CachedContentDTO;
 import liaison.groble.application.content.dto.ContentCardDTO;
 import liaison.groble.application.content.dto.ContentDetailDTO;
 import liaison.groble.application.content.dto.ContentViewCountDTO;
 import liaison.groble.application.content.dto.review.ContentReviewDTO;
+import liaison.groble.application.content.dto.review.ContentReviewPageDTO;
 import liaison.groble.application.content.service.ContentService;
 import liaison.groble.application.content.service.ContentViewCountService;
 import liaison.groble.application.dashboard.dto.referrer.ReferrerDTO;
-import liaison.groble.application.dashboard.service.ReferrerService;
+import liaison.groble.application.dashboard.service.ReferrerIngestionService;
 import liaison.groble.application.file.FileService;
 import liaison.groble.application.file.dto.FileDTO;
 import liaison.groble.application.file.dto.FileUploadDTO;
+import liaison.groble.application.file.dto.PresignedUploadDTO;
 import liaison.groble.application.maker.service.MakerInfoService;
 import liaison.groble.application.market.dto.ContactInfoDTO;
 import liaison.groble.common.annotation.Auth;
@@ -92,8 +101,13 @@ public class ContentController {
   private static final String CONTENT_COACHING_CATEGORY_PATH = "/contents/coaching/category";
   private static final String CONTENT_DOCUMENT_CATEGORY_PATH = "/contents/document/category";
   private static final String CONTENT_REVIEWS_PATH = "/content/{contentId}/reviews";
+  private static final String CONTENT_REVIEWS_CURSOR_PATH = "/content/{contentId}/reviews/cursor";
   private static final String CONTENT_VIEW_PATH = "/content/view/{contentId}";
   private static final String CONTENT_REFERRER_PATH = "/content/referrer/{contentId}";
+  private static final String CONTENT_DOCUMENT_PRESIGNED_UPLOAD_PATH =
+      "/content/document/upload/presigned";
+  private static final String CONTENT_DOCUMENT_PRESIGNED_COMPLETE_PATH =
+      "/content/document/upload/presigned/complete";
 
   // 응답 메시지 상수화
   private static final String CONTENT_DETAIL_SUCCESS_MESSAGE = "콘텐츠 상세 조회에 성공하였습니다.";
@@ -104,12 +118,14 @@ public class ContentController {
   private static final String CONTENT_REVIEWS_SUCCESS_MESSAGE = "콘텐츠 리뷰 목록 조회에 성공하였습니다.";
   private static final String CONTENT_VIEW_SUCCESS_MESSAGE = "콘텐츠 뷰어 화면을 성공적으로 조회했습니다.";
   private static final String CONTENT_REFERRAL_SUCCESS_MESSAGE = "콘텐츠 유입경로 저장에 성공하였습니다.";
+  private static final String CONTENT_DOCUMENT_PRESIGNED_UPLOAD_SUCCESS_MESSAGE =
+      "콘텐츠 자료 업로드 URL 발급에 성공하였습니다.";
 
   // Service
   private final ContentService contentService;
   private final FileService fileService;
   private final ContentViewCountService contentViewCountService;
-  private final ReferrerService referrerService;
+  private final ReferrerIngestionService referrerIngestionService;
   private final MakerInfoService makerInfoService;
 
   // Mapper
@@ -152,6 +168,38 @@ public class ContentController {
     return responseHelper.success(response, CONTENT_REVIEWS_SUCCESS_MESSAGE, HttpStatus.OK);
   }
 
+  @Operation(
+      summary = "[✅ 콘텐츠 리뷰 목록 커서 조회]",
+      description = "정렬 기준별로 리뷰와 답글을 size개씩 조회합니다. 다음 페이지는 응답의 nextCursor로 요청합니다.")
+  @ApiResponse(
+      responseCode = "200",
+      content = @Content(schema = @Schema(implementation = ContentReviewPageResponse.class)))
+  @GetMapping(CONTENT_REVIEWS_CURSOR_PATH)
+  public ResponseEntity<GrobleResponse<ContentReviewPageResponse>> getContentReviewPage(
+      @Auth(required = false) Accessor accessor,
+      @PathVariable("contentId") Long contentId,
+      @Parameter(
+              description = "정렬 기준",
+              schema =
+                  @Schema(
+                      allowableValues = {"LATEST", "RATING_HIGH", "RATING_LOW"},
+                      defaultValue = "LATEST"))
+          @RequestParam(value = "sort", defaultValue = "LATEST")
+          String sort,
+      @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(description = "조회할 리뷰 수 (최대 50)")
+          @RequestParam(value = "size", defaultValue = "20")
+          int size) {
+
+    ContentReviewPageDTO contentReviewPageDTO =
+        contentService.getContentReviewPage(contentId, sort, cursor, size, accessor.getUserId());
+    ContentReviewPageResponse response =
+        contentReviewMapper.toContentReviewPageResponse(contentReviewPageDTO);
+    return responseHelper.success(response, CONTENT_REVIEWS_SUCCESS_MESSAGE, HttpStatus.OK);
+  }
+
   // 콘텐츠 상세 조회
   @Operation(summary = "[✅ 콘텐츠 상세 정보 조회]", description = "콘텐츠 상세를 조회합니다.")
   @ApiResponse(
@@ -164,22 +212,36 @@ public class ContentController {
   @Logging(item = "Content", action = "getContentDetail", includeParam = true, includeResult = true)
   @GetMapping(CONTENT_DETAIL_PATH)
   public ResponseEntity<GrobleResponse<ContentDetailResponse>> getContentDetail(
-      @Auth(required = false) Accessor accessor, @PathVariable("contentId") Long contentId) {
-    ContentDetailDTO contentDetailDTO;
-
-    // 왜 인증된 사용자와 인증되지 않은 사용자를 나눴었지?
+      @Auth(required = false) Accessor accessor,
+      @PathVariable("contentId") Long contentId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    // 판매자 연락처는 상세 조회의 접근 검사(판매 중 여부 등)를 통과한 뒤에 조회
+    // 로그인 사용자 응답은 사용자별로 달라질 수 있어 캐시/ETag를 적용하지 않음
     if (accessor.isAuthenticated()) {
-      contentDetailDTO = contentService.getContentDetailForUser(accessor.getId(), contentId);
-    } else {
-      contentDetailDTO = contentService.getPublicContentDetail(contentId);
+      ContentDetailDTO contentDetailDTO =
+          contentService.getContentDetailForUser(accessor.getId(), contentId);
+      CachedContentDTO<ContactInfoDTO> contactInfo = contentService.getContactInfo(contentId);
+      return responseHelper.success(
+          toContentDetailResponse(contentDetailDTO, contactInfo.getValue()),
+          CONTENT_DETAIL_SUCCESS_MESSAGE,
+          HttpStatus.OK);
     }
 
-    ContactInfoDTO contactInfoDTO = contentService.getContactInfo(contentId);
-    ContactInfoResponse contactInfoResponse = marketMapper.toContactInfoResponse(contactInfoDTO);
+    CachedContentDTO<ContentDetailDTO> contentDetail =
+        contentService.getPublicContentDetail(contentId);
+    CachedContentDTO<ContactInfoDTO> contactInfo = contentService.getContactInfo(contentId);
+    return responseHelper.conditional(
+        CachedContentDTO.combineETags(contentDetail, contactInfo),
+        ifNoneMatch,
+        () -> toContentDetailResponse(contentDetail.getValue(), contactInfo.getValue()),
+        CONTENT_DETAIL_SUCCESS_MESSAGE,
+        HttpStatus.OK);
+  }
 
-    ContentDetailResponse response =
-        contentMapper.toContentDetailResponse(contentDetailDTO, contactInfoResponse);
-    return responseHelper.success(response, CONTENT_DETAIL_SUCCESS_MESSAGE, HttpStatus.OK);
+  private ContentDetailResponse toContentDetailResponse(
+      ContentDetailDTO contentDetailDTO, ContactInfoDTO contactInfoDTO) {
+    ContactInfoResponse contactInfoResponse = marketMapper.toContactInfoResponse(contactInfoDTO);
+    return contentMapper.toContentDetailResponse(contentDetailDTO, contactInfoResponse);
   }
 
   // 홈화면 콘텐츠 조회
@@ -199,13 +261,21 @@ public class ContentController {
                       summary = "sortOrder 기준 홈 콘텐츠 응답",
                       value = ContentSwaggerDocs.HOME_CONTENTS_SUCCESS_EXAMPLE)))
   @GetMapping(HOME_CONTENTS_PATH)
-  public ResponseEntity<GrobleResponse<HomeContentsResponse>> getHomeContents() {
-    List<ContentCardDTO> contentCardDTOS = contentService.getHomeContents();
-    List<ContentPreviewCardResponse> items =
-        contentCardDTOS.stream().map(contentMapper::toContentPreviewCardResponse).toList();
-
-    HomeContentsResponse payload = new HomeContentsResponse(items);
-    return responseHelper.success(payload, HOME_CONTENTS_SUCCESS_MESSAGE, HttpStatus.OK);
+  public ResponseEntity<GrobleResponse<HomeContentsResponse>> getHomeContents(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    CachedContentDTO<List<ContentCardDTO>> homeContents = contentService.getHomeContents();
+    return responseHelper.conditional(
+        homeContents.getETag(),
+        ifNoneMatch,
+        () -> {
+          List<ContentPreviewCardResponse> items =
+              homeContents.getValue().stream()
+                  .map(contentMapper::toContentPreviewCardResponse)
+                  .toList();
+          return new HomeContentsResponse(items);
+        },
+        HOME_CONTENTS_SUCCESS_MESSAGE,
+        HttpStatus.OK);
   }
 
   @Operation(summary = "[✅ 콘텐츠] 콘텐츠 메이커 정보 조회", description = "콘텐츠를 등록한 메이커의 인증 및 기본 정보를 조회합니다.")
@@ -376,6 +446,67 @@ public class ContentController {
     }
   }
 
+  // 대용량 콘텐츠 자료를 API 서버를 거치지 않고 S3에 직접 업로드하기 위한 presigned URL 발급
+  @Operation(
+      summary = "[✅ 콘텐츠 자료 직접 업로드] presigned URL 발급",
+      description =
+          "응답의 uploadUrl로 uploadHeaders를 포함해 PUT 요청을 보낸 뒤, "
+              + "fileKey로 업로드 완료 API를 호출해야 파일이 등록됩니다.")
+  @PostMapping(CONTENT_DOCUMENT_PRESIGNED_UPLOAD_PATH)
+  public ResponseEntity<GrobleResponse<PresignedUploadResponse>> issueContentDocumentUploadUrl(
+      @Auth Accessor accessor, @Valid @RequestBody FileUploadRequest request) {
+    String lowerFileName = request.getOriginalFileName().toLowerCase();
+    if (!lowerFileName.endsWith(".pdf") && !lowerFileName.endsWith(".zip")) {
+      return ResponseEntity.badRequest()
+          .body(
+              GrobleResponse.error("PDF 또는 ZIP 파일만 업로드할 수 있습니다.", HttpStatus.BAD_REQUEST.value()));
+    }
+
+    PresignedUploadDTO presignedUploadDTO =
+        fileService.issuePresignedUpload(
+            accessor.getUserId(),
+            request.getOriginalFileName(),
+            request.getContentType(),
+            "contents/document");
+    PresignedUploadResponse response =
+        PresignedUploadResponse.builder()
+            .fileKey(presignedUploadDTO.getFileKey())
+            .uploadUrl(presignedUploadDTO.getUploadUrl())
+            .expiration(presignedUploadDTO.getExpiration())
+            .contentType(presignedUploadDTO.getContentType())
+            .uploadHeaders(presignedUploadDTO.getUploadHeaders())
+            .fileUrl(presignedUploadDTO.getFileUrl())
+            .build();
+
+    return responseHelper.success(
+        response, CONTENT_DOCUMENT_PRESIGNED_UPLOAD_SUCCESS_MESSAGE, HttpStatus.OK);
+  }
+
+  @Operation(
+      summary = "[✅ 콘텐츠 자료 직접 업로드] 업로드 완료",
+      description = "presigned URL로 업로드한 파일을 검증하고 콘텐츠 자료로 등록합니다.")
+  @PostMapping(CONTENT_DOCUMENT_PRESIGNED_COMPLETE_PATH)
+  public ResponseEntity<GrobleResponse<FileUploadResponse>> completeContentDocumentUpload(
+      @Auth Accessor accessor, @Valid @RequestBody PresignedUploadCompleteRequest request) {
+    if (!request.getFileKey().startsWith("contents/document/")) {
+      return ResponseEntity.badRequest()
+          .body(GrobleResponse.error("잘못된 파일 키입니다.", HttpStatus.BAD_REQUEST.value()));
+    }
+
+    FileDTO fileDTO =
+        fileService.completePresignedUpload(
+            accessor.getUserId(), request.getFileKey(), request.getOriginalFileName());
+    FileUploadResponse response =
+        FileUploadResponse.of(
+            fileDTO.getOriginalFilename(),
+            fileDTO.getFileUrl(),
+            fileDTO.getContentType(),
+            "contents/document");
+
+    return responseHelper.success(
+        response, "콘텐츠 자료 업로드가 성공적으로 완료되었습니다.", HttpStatus.CREATED);
+  }
+
   @Operation(
       summary = "[✅ 콘텐츠 뷰어] 콘텐츠 뷰어 화면 조회",
       description =
@@ -468,7 +599,7 @@ public class ContentController {
     Long actorId = accessor != null ? accessor.getUserId() : null;
     boolean isGuest = accessor != null && accessor.isGuest();
     boolean isAuthenticated = accessor != null && accessor.isAuthenticated();
-    referrerService.recordContentReferrer(
+    referrerIngestionService.submitContentReferrer(
         contentId, referrerDTO, referer, userAgent, clientIp, actorId, isGuest, isAuthenticated);
     return responseHelper.success(null, CONTENT_REFERRAL_SUCCESS_MESSAGE, HttpStatus.OK);
   }
@@ -2,13 +2,16 @@ package liaison.groble.api.server.global;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import liaison.groble.api.model.content.response.dynamic.DynamicContentListResponse;
+import liaison.groble.application.content.dto.CachedContentDTO;
 import liaison.groble.application.content.dto.DynamicContentDTO;
 import liaison.groble.application.content.service.ContentService;
 import liaison.groble.common.response.GrobleResponse;
@@ -40,12 +43,15 @@ public class GrobleController {
   private final ResponseHelper responseHelper;
 
   @GetMapping(DYNAMIC_CONTENTS_PATH)
-  public ResponseEntity<GrobleResponse<DynamicContentListResponse>> getDynamicContentList() {
-    List<DynamicContentDTO> dynamicContentDTOS = contentService.getDynamicContents();
-
-    DynamicContentListResponse response =
-        dynamicContentMapper.toDynamicContentListResponse(dynamicContentDTOS);
-
-    return responseHelper.success(response, DYNAMIC_CONTENTS_RESPONSE_MESSAGE, HttpStatus.OK);
+  public ResponseEntity<GrobleResponse<DynamicContentListResponse>> getDynamicContentList(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    CachedContentDTO<List<DynamicContentDTO>> dynamicContents = contentService.getDynamicContents();
+
+    return responseHelper.conditional(
+        dynamicContents.getETag(),
+        ifNoneMatch,
+        () -> dynamicContentMapper.toDynamicContentListResponse(dynamicContents.getValue()),
+        DYNAMIC_CONTENTS_RESPONSE_MESSAGE,
+        HttpStatus.OK);
   }
 }
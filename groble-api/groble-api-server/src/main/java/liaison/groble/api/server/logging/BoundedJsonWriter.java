@@ -0,0 +1,96 @@
+package liaison.groble.api.server.logging;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 최대 길이까지만 JSON으로 직렬화하는 로그용 writer
+ *
+ * <p>스레드별 버퍼를 재사용하고, 최대 길이에 도달하면 직렬화를 중단해 큰 응답 본문도 일정한 비용으로 기록합니다.
+ */
+class BoundedJsonWriter {
+  static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+  private final ObjectMapper objectMapper;
+  private final int maxChars;
+  private final ThreadLocal<LimitedWriter> writers;
+
+  BoundedJsonWriter(ObjectMapper objectMapper, int maxChars) {
+    this.objectMapper = objectMapper;
+    this.maxChars = maxChars;
+    this.writers = ThreadLocal.withInitial(() -> new LimitedWriter(maxChars));
+  }
+
+  String write(Object value) {
+    LimitedWriter writer = writers.get();
+    writer.reset();
+    try {
+      objectMapper.writeValue(writer, value);
+    } catch (IOException e) {
+      // 최대 길이 도달은 Jackson이 JsonMappingException으로 감싸 던질 수 있으므로 writer 상태로 판단
+      if (!writer.truncated) {
+        return "<직렬화 실패: " + e.getClass().getSimpleName() + ">";
+      }
+    }
+    return writer.truncated ? writer.buffer + TRUNCATED_SUFFIX : writer.buffer.toString();
+  }
+
+  int getMaxChars() {
+    return maxChars;
+  }
+
+  private static final class LimitedWriter extends Writer {
+    /** 스택 트레이스 없이 재사용하는 중단 신호 */
+    private static final IOException LIMIT_REACHED =
+        new IOException("capture limit reached") {
+          @Override
+          public synchronized Throwable fillInStackTrace() {
+            return this;
+          }
+        };
+
+    private final StringBuilder buffer;
+    private final int maxChars;
+    private boolean truncated;
+
+    private LimitedWriter(int maxChars) {
+      this.buffer = new StringBuilder(maxChars);
+      this.maxChars = maxChars;
+    }
+
+    private void reset() {
+      buffer.setLength(0);
+      truncated = false;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+      int remaining = maxChars - buffer.length();
+      if (length > remaining) {
+        buffer.append(chars, offset, remaining);
+        truncated = true;
+        throw LIMIT_REACHED;
+      }
+      buffer.append(chars, offset, length);
+    }
+
+    @Override
+    public void write(String value, int offset, int length) throws IOException {
+      int remaining = maxChars - buffer.length();
+      if (length > remaining) {
+        buffer.append(value, offset, offset + remaining);
+        truncated = true;
+        throw LIMIT_REACHED;
+      }
+      buffer.append(value, offset, offset + length);
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,246 @@
+package liaison.groble.api.server.logging;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.payment.exception.PaymentException;
+import liaison.groble.common.annotation.Logging;
+import liaison.groble.common.exception.DomainException;
+import liaison.groble.common.exception.DuplicateMarketLinkException;
+import liaison.groble.common.exception.DuplicateNicknameException;
+import liaison.groble.common.exception.EntityNotFoundException;
+import liaison.groble.common.exception.ForbiddenException;
+import liaison.groble.common.exception.GrobleException;
+import liaison.groble.common.exception.InvalidRequestException;
+import liaison.groble.common.model.Accessor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Logging}이 붙은 엔드포인트의 처리 시간과 쿼리 수를 기록하는 Aspect
+ *
+ * <p>item/action/outcome 태그의 Timer(백분위 히스토그램)와 요청당 Hibernate 쿼리 수 분포를 남깁니다. 메서드별 미터는 최초
+ * 호출 때 한 번만 만들어 재사용하고, includeParam/includeResult 캡처는 표본 비율만큼만 최대 길이 안에서 직렬화해 기록합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class LoggingAspect {
+  static final String TIMER_NAME = "groble.endpoint.requests";
+  static final String QUERY_COUNT_NAME = "groble.endpoint.queries";
+
+  /** 직렬화하지 않고 타입 이름만 남기는 파라미터 */
+  private static final Class<?>[] SKIPPED_PARAM_TYPES = {
+    ServletRequest.class,
+    ServletResponse.class,
+    InputStreamSource.class,
+    Errors.class,
+    Accessor.class
+  };
+
+  private final MeterRegistry meterRegistry;
+  private final BoundedJsonWriter jsonWriter;
+  private final double captureSampleRate;
+  private final Map<Method, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+  public LoggingAspect(
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper,
+      @Value("${groble.logging.capture-sample-rate:0.01}") double captureSampleRate,
+      @Value("${groble.logging.capture-max-chars:1024}") int captureMaxChars) {
+    this.meterRegistry = meterRegistry;
+    this.jsonWriter = new BoundedJsonWriter(objectMapper, captureMaxChars);
+    this.captureSampleRate = captureSampleRate;
+  }
+
+  @Around("@annotation(logging)")
+  public Object record(ProceedingJoinPoint joinPoint, Logging logging) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    EndpointMeters endpoint = meters.get(method);
+    if (endpoint == null) {
+      endpoint = meters.computeIfAbsent(method, m -> new EndpointMeters(m, logging));
+    }
+
+    boolean capture = (logging.includeParam() || logging.includeResult()) && sampled();
+    long queriesBefore = QueryCountInspector.currentCount();
+    long startNanos = System.nanoTime();
+    Outcome outcome = Outcome.SERVER_ERROR;
+    Object result = null;
+    try {
+      result = joinPoint.proceed();
+      outcome = Outcome.of(result);
+      return result;
+    } catch (Throwable e) {
+      outcome = Outcome.of(e);
+      throw e;
+    } finally {
+      long elapsedNanos = System.nanoTime() - startNanos;
+      long queries = QueryCountInspector.currentCount() - queriesBefore;
+      endpoint.record(outcome, elapsedNanos, queries);
+      if (capture) {
+        logCapture(endpoint, logging, joinPoint.getArgs(), result, outcome, elapsedNanos, queries);
+      }
+    }
+  }
+
+  private boolean sampled() {
+    return captureSampleRate >= 1.0
+        || (captureSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < captureSampleRate);
+  }
+
+  private void logCapture(
+      EndpointMeters endpoint,
+      Logging logging,
+      Object[] args,
+      Object result,
+      Outcome outcome,
+      long elapsedNanos,
+      long queries) {
+    try {
+      String params = logging.includeParam() ? jsonWriter.write(loggableArgs(args)) : "-";
+      String body =
+          logging.includeResult() && result != null
+              ? jsonWriter.write(result instanceof ResponseEntity<?> r ? r.getBody() : result)
+              : "-";
+      log.info(
+          "[{}-{}] {} ({}ms, 쿼리 {}회) 파라미터={} 결과={}",
+          endpoint.item,
+          endpoint.action,
+          outcome,
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+          queries,
+          params,
+          body);
+    } catch (RuntimeException e) {
+      // 캡처 실패가 요청 처리에 영향을 주지 않도록 무시
+      log.debug("[{}-{}] 요청/응답 캡처 실패", endpoint.item, endpoint.action, e);
+    }
+  }
+
+  static Object[] loggableArgs(Object[] args) {
+    Object[] loggable = new Object[args.length];
+    for (int i = 0; i < args.length; i++) {
+      Object arg = args[i];
+      loggable[i] = arg != null && isSkipped(arg) ? arg.getClass().getSimpleName() : arg;
+    }
+    return loggable;
+  }
+
+  private static boolean isSkipped(Object arg) {
+    for (Class<?> type : SKIPPED_PARAM_TYPES) {
+      if (type.isInstance(arg)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 요청 결과 분류 (태그 값 수를 고정하기 위해 상태 코드 대신 범주만 사용) */
+  enum Outcome {
+    SUCCESS,
+    CLIENT_ERROR,
+    SERVER_ERROR;
+
+    static Outcome of(Object result) {
+      if (result instanceof ResponseEntity<?> response) {
+        return ofStatus(response.getStatusCode().value());
+      }
+      return SUCCESS;
+    }
+
+    static Outcome of(Throwable e) {
+      if (e instanceof GrobleException groble) {
+        return ofStatus(groble.getStatusCode());
+      }
+      if (e instanceof ResponseStatusException status) {
+        return ofStatus(status.getStatusCode().value());
+      }
+      // @ResponseStatus가 지정된 예외는 Spring이 그 상태 코드로 응답함
+      ResponseStatus responseStatus =
+          AnnotatedElementUtils.findMergedAnnotation(e.getClass(), ResponseStatus.class);
+      if (responseStatus != null) {
+        return ofStatus(responseStatus.code().value());
+      }
+      // 아래 예외는 GlobalExceptionHandler, PaymentExceptionHandler가 4xx로 응답함
+      if (e instanceof InvalidRequestException
+          || e instanceof PaymentException
+          || e instanceof EntityNotFoundException
+          || e instanceof DuplicateNicknameException
+          || e instanceof DuplicateMarketLinkException
+          || e instanceof ForbiddenException
+          || e instanceof DomainException
+          || e instanceof AccessDeniedException
+          || e instanceof IllegalArgumentException) {
+        return CLIENT_ERROR;
+      }
+      return SERVER_ERROR;
+    }
+
+    private static Outcome ofStatus(int status) {
+      if (status >= 500) {
+        return SERVER_ERROR;
+      }
+      return status >= 400 ? CLIENT_ERROR : SUCCESS;
+    }
+  }
+
+  /** 엔드포인트 메서드별로 한 번 등록해 재사용하는 미터 */
+  private final class EndpointMeters {
+    private final String item;
+    private final String action;
+    private final Timer[] timers = new Timer[Outcome.values().length];
+    private final DistributionSummary queryCount;
+
+    private EndpointMeters(Method method, Logging logging) {
+      this.item =
+          logging.item().isEmpty() ? method.getDeclaringClass().getSimpleName() : logging.item();
+      this.action = logging.action().isEmpty() ? method.getName() : logging.action();
+      for (Outcome outcome : Outcome.values()) {
+        timers[outcome.ordinal()] =
+            Timer.builder(TIMER_NAME)
+                .description("@Logging 엔드포인트 처리 시간")
+                .tags("item", item, "action", action, "outcome", outcome.name())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+      }
+      this.queryCount =
+          DistributionSummary.builder(QUERY_COUNT_NAME)
+              .description("@Logging 엔드포인트 요청당 Hibernate 쿼리 수")
+              .tags("item", item, "action", action)
+              .register(meterRegistry);
+    }
+
+    private void record(Outcome outcome, long elapsedNanos, long queries) {
+      timers[outcome.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+      queryCount.record(queries);
+    }
+  }
+}
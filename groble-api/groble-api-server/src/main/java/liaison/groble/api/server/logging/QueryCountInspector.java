@@ -0,0 +1,24 @@
+package liaison.groble.api.server.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드별로 세는 StatementInspector
+ *
+ * <p>카운터는 초기화하지 않고 계속 증가하며, 호출 측이 전후 값의 차이로 요청별 쿼리 수를 구합니다. JdbcTemplate으로 직접
+ * 실행한 쿼리는 Hibernate를 거치지 않으므로 집계되지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+
+  /** 현재 스레드에서 지금까지 실행된 쿼리 수 */
+  public static long currentCount() {
+    return COUNT.get()[0];
+  }
+}
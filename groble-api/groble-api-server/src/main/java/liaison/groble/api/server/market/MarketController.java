@@ -21,7 +21,7 @@ import liaison.groble.api.model.maker.response.MakerInfoResponse;
 import liaison.groble.api.model.maker.response.MakerIntroSectionResponse;
 import liaison.groble.application.content.dto.ContentCardDTO;
 import liaison.groble.application.dashboard.dto.referrer.ReferrerDTO;
-import liaison.groble.application.dashboard.service.ReferrerService;
+import liaison.groble.application.dashboard.service.ReferrerIngestionService;
 import liaison.groble.application.maker.service.MakerInfoService;
 import liaison.groble.application.market.dto.MarketEditDTO;
 import liaison.groble.application.market.dto.MarketIntroSectionDTO;
@@ -97,7 +97,7 @@ public class MarketController {
 
   // Util
   private final RequestUtil requestUtil;
-  private final ReferrerService referrerService;
+  private final ReferrerIngestionService referrerIngestionService;
 
   @Operation(
       summary = "[✅ 마켓 관리] 마켓 수정창 화면에서 메이커 정보 및 대표 콘텐츠 조회",
@@ -265,7 +265,7 @@ public class MarketController {
     Long actorId = accessor != null ? accessor.getUserId() : null;
     boolean isGuest = accessor != null && accessor.isGuest();
     boolean isAuthenticated = accessor != null && accessor.isAuthenticated();
-    referrerService.recordMarketReferrer(
+    referrerIngestionService.submitMarketReferrer(
         marketLinkUrl,
         referrerDTO,
         referer,
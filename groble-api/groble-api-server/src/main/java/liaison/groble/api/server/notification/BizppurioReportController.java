@@ -0,0 +1,59 @@
+package liaison.groble.api.server.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import liaison.groble.api.model.notification.request.BizppurioReportRequest;
+import liaison.groble.api.server.common.ApiPaths;
+import liaison.groble.application.notification.queue.KakaoDeliveryReportService;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+
+/** 비즈뿌리오 리포트 연동 URL (전달 결과 수신) */
+@Slf4j
+@Hidden
+@RestController
+@RequestMapping(ApiPaths.Bizppurio.BASE)
+public class BizppurioReportController {
+  private final KakaoDeliveryReportService kakaoDeliveryReportService;
+  private final byte[] callbackToken;
+
+  public BizppurioReportController(
+      KakaoDeliveryReportService kakaoDeliveryReportService,
+      @Value("${groble.kakao-queue.report.callback-token:}") String callbackToken) {
+    this.kakaoDeliveryReportService = kakaoDeliveryReportService;
+    this.callbackToken = callbackToken.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @PostMapping(ApiPaths.Bizppurio.REPORT)
+  public ResponseEntity<Void> receiveReport(
+      @RequestParam(value = "token", required = false) String token,
+      @RequestBody BizppurioReportRequest request) {
+    if (!isAuthorized(token)) {
+      log.warn("비즈뿌리오 리포트 거부 - 토큰 불일치, refKey: {}", request.getRefKey());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+
+    kakaoDeliveryReportService.applyReport(request.getRefKey(), request.getResult());
+    return ResponseEntity.ok().build();
+  }
+
+  private boolean isAuthorized(String token) {
+    // 토큰이 설정되지 않은 환경에서는 위조 리포트를 막기 위해 모두 거부
+    if (callbackToken.length == 0 || !StringUtils.hasText(token)) {
+      return false;
+    }
+    return MessageDigest.isEqual(callbackToken, token.getBytes(StandardCharsets.UTF_8));
+  }
+}
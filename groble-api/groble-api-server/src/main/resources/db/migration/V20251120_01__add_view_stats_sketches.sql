@@ -0,0 +1,18 @@
+-- 조회 통계 집계 스트리밍화 및 HyperLogLog 스케치 저장
+-- 1) 일별 통계에 고유 방문자 스케치 컬럼 추가 (월별 집계는 일별 스케치 병합으로 계산)
+ALTER TABLE content_view_stats
+  ADD COLUMN unique_viewer_sketch VARBINARY(4097) NULL COMMENT '고유 방문자 HyperLogLog 스케치' AFTER logged_in_viewer_count,
+  ADD COLUMN logged_in_viewer_sketch VARBINARY(4097) NULL COMMENT '로그인 방문자 HyperLogLog 스케치' AFTER unique_viewer_sketch,
+  ADD INDEX idx_cvs_period_date (period_type, stat_date);
+
+ALTER TABLE market_view_stats
+  ADD COLUMN unique_viewer_sketch VARBINARY(4097) NULL COMMENT '고유 방문자 HyperLogLog 스케치' AFTER logged_in_viewer_count,
+  ADD COLUMN logged_in_viewer_sketch VARBINARY(4097) NULL COMMENT '로그인 방문자 HyperLogLog 스케치' AFTER unique_viewer_sketch,
+  ADD INDEX idx_mvs_period_date (period_type, stat_date);
+
+-- 2) 기간 단위 키셋 스캔용 인덱스 (viewed_at, id)
+ALTER TABLE content_view_logs
+  ADD INDEX idx_cvl_viewed_at (viewed_at);
+
+ALTER TABLE market_view_logs
+  ADD INDEX idx_mvl_viewed_at (viewed_at);
@@ -0,0 +1,31 @@
+-- 정산 합계 증분 갱신
+-- 1) 가중 평균 수수료율 계산용 누적값 (Σ 판매금액 × 항목 수수료율) 컬럼 추가
+--    판매금액 DECIMAL(14,2) × 수수료율 DECIMAL(5,4)는 소수 6자리이므로 반올림 없이 담도록 DECIMAL(24,6)로 정의
+ALTER TABLE settlements
+  ADD COLUMN platform_fee_rate_weighted_sum DECIMAL(24,6) NOT NULL DEFAULT 0 COMMENT 'Σ 판매금액 × 적용 플랫폼 수수료율' AFTER vat_rate,
+  ADD COLUMN platform_fee_rate_display_weighted_sum DECIMAL(24,6) NOT NULL DEFAULT 0 COMMENT 'Σ 판매금액 × 표시 플랫폼 수수료율' AFTER platform_fee_rate_weighted_sum,
+  ADD COLUMN platform_fee_rate_baseline_weighted_sum DECIMAL(24,6) NOT NULL DEFAULT 0 COMMENT 'Σ 판매금액 × 기준 플랫폼 수수료율' AFTER platform_fee_rate_display_weighted_sum,
+  ADD COLUMN pg_fee_rate_weighted_sum DECIMAL(24,6) NOT NULL DEFAULT 0 COMMENT 'Σ 판매금액 × 적용 PG 수수료율' AFTER platform_fee_rate_baseline_weighted_sum,
+  ADD COLUMN pg_fee_rate_display_weighted_sum DECIMAL(24,6) NOT NULL DEFAULT 0 COMMENT 'Σ 판매금액 × 표시 PG 수수료율' AFTER pg_fee_rate_weighted_sum,
+  ADD COLUMN pg_fee_rate_baseline_weighted_sum DECIMAL(24,6) NOT NULL DEFAULT 0 COMMENT 'Σ 판매금액 × 기준 PG 수수료율' AFTER pg_fee_rate_display_weighted_sum;
+
+-- 2) 기존 정산의 누적값을 항목 기준으로 채움 (환불 항목 제외)
+UPDATE settlements s
+  JOIN (
+    SELECT settlement_id,
+           SUM(sales_amount * captured_platform_fee_rate) AS platform_sum,
+           SUM(sales_amount * captured_platform_fee_rate_display) AS platform_display_sum,
+           SUM(sales_amount * captured_platform_fee_rate_baseline) AS platform_baseline_sum,
+           SUM(sales_amount * captured_pg_fee_rate) AS pg_sum,
+           SUM(sales_amount * captured_pg_fee_rate_display) AS pg_display_sum,
+           SUM(sales_amount * captured_pg_fee_rate_baseline) AS pg_baseline_sum
+      FROM settlement_items
+     WHERE is_refunded = FALSE
+     GROUP BY settlement_id
+  ) t ON t.settlement_id = s.id
+   SET s.platform_fee_rate_weighted_sum = t.platform_sum,
+       s.platform_fee_rate_display_weighted_sum = t.platform_display_sum,
+       s.platform_fee_rate_baseline_weighted_sum = t.platform_baseline_sum,
+       s.pg_fee_rate_weighted_sum = t.pg_sum,
+       s.pg_fee_rate_display_weighted_sum = t.pg_display_sum,
+       s.pg_fee_rate_baseline_weighted_sum = t.pg_baseline_sum;
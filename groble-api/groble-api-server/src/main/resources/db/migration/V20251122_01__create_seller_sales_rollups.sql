@@ -0,0 +1,85 @@
+-- 판매자 대시보드 매출 롤업
+-- 1) 구매별 반영 상태 원장: 결제 완료/환불 이벤트를 멱등하게 반영하기 위한 기준
+CREATE TABLE seller_sales_purchases (
+    purchase_id BIGINT NOT NULL PRIMARY KEY,
+    seller_id BIGINT NOT NULL,
+    sales_date DATE NOT NULL,
+    customer_key VARCHAR(32) NULL COMMENT 'U:{userId} 또는 G:{guestUserId}',
+    amount DECIMAL(10,2) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT FALSE COMMENT '매출 집계 반영 여부 (결제완료 & 미취소)',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_seller_sales_purchases_seller ON seller_sales_purchases (seller_id, active);
+
+-- 2) 판매자 일별 매출
+CREATE TABLE seller_sales_daily (
+    seller_id BIGINT NOT NULL,
+    sales_date DATE NOT NULL,
+    revenue DECIMAL(15,2) NOT NULL DEFAULT 0,
+    sales_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, sales_date)
+);
+
+-- 3) 판매자 누적(ALL)/월별(yyyy-MM) 매출 및 고유 고객 수
+CREATE TABLE seller_sales_rollups (
+    seller_id BIGINT NOT NULL,
+    scope VARCHAR(7) NOT NULL COMMENT 'ALL 또는 yyyy-MM',
+    revenue DECIMAL(15,2) NOT NULL DEFAULT 0,
+    sales_count BIGINT NOT NULL DEFAULT 0,
+    customer_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, scope)
+);
+
+-- 4) 고유 고객 수 산출용 정확한 고객 집합 (구매 건수가 0이 되면 고객 수에서 제외)
+CREATE TABLE seller_sales_customers (
+    seller_id BIGINT NOT NULL,
+    scope VARCHAR(7) NOT NULL COMMENT 'ALL 또는 yyyy-MM',
+    customer_key VARCHAR(32) NOT NULL,
+    purchase_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, scope, customer_key)
+);
+
+-- 5) 기존 구매 이력으로 초기 적재
+INSERT INTO seller_sales_purchases (purchase_id, seller_id, sales_date, customer_key, amount, active)
+SELECT p.id,
+       c.user_id,
+       DATE(p.purchased_at),
+       CASE
+           WHEN p.user_id IS NOT NULL THEN CONCAT('U:', p.user_id)
+           WHEN p.guest_user_id IS NOT NULL THEN CONCAT('G:', p.guest_user_id)
+       END,
+       p.final_price,
+       (p.cancelled_at IS NULL AND o.status = 'PAID')
+  FROM purchases p
+  JOIN contents c ON c.id = p.content_id
+  JOIN orders o ON o.id = p.order_id
+ WHERE p.purchased_at IS NOT NULL;
+
+INSERT INTO seller_sales_daily (seller_id, sales_date, revenue, sales_count)
+SELECT seller_id, sales_date, SUM(amount), COUNT(*)
+  FROM seller_sales_purchases
+ WHERE active = TRUE
+ GROUP BY seller_id, sales_date;
+
+INSERT INTO seller_sales_customers (seller_id, scope, customer_key, purchase_count)
+SELECT seller_id, 'ALL', customer_key, COUNT(*)
+  FROM seller_sales_purchases
+ WHERE active = TRUE AND customer_key IS NOT NULL
+ GROUP BY seller_id, customer_key
+UNION ALL
+SELECT seller_id, DATE_FORMAT(sales_date, '%Y-%m'), customer_key, COUNT(*)
+  FROM seller_sales_purchases
+ WHERE active = TRUE AND customer_key IS NOT NULL
+ GROUP BY seller_id, DATE_FORMAT(sales_date, '%Y-%m'), customer_key;
+
+INSERT INTO seller_sales_rollups (seller_id, scope, revenue, sales_count, customer_count)
+SELECT seller_id, 'ALL', SUM(amount), COUNT(*), COUNT(DISTINCT customer_key)
+  FROM seller_sales_purchases
+ WHERE active = TRUE
+ GROUP BY seller_id
+UNION ALL
+SELECT seller_id, DATE_FORMAT(sales_date, '%Y-%m'), SUM(amount), COUNT(*), COUNT(DISTINCT customer_key)
+  FROM seller_sales_purchases
+ WHERE active = TRUE
+ GROUP BY seller_id, DATE_FORMAT(sales_date, '%Y-%m');
@@ -0,0 +1,66 @@
+-- 유입경로 일별 롤업: 대상(콘텐츠/마켓) x 일자 x (리퍼러 URL, 정규화 도메인, UTM 5종) 별 방문 수
+-- dimension_hash는 차원 값(NULL 구분 포함, 대소문자 무시)의 SHA-256으로, 긴 문자열 컬럼 대신 고유 키에 사용
+CREATE TABLE referrer_stats_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    target_type VARCHAR(10) NOT NULL COMMENT 'CONTENT 또는 MARKET',
+    target_key VARCHAR(500) NOT NULL COMMENT '콘텐츠 ID(문자열) 또는 마켓 링크 URL',
+    stat_date DATE NOT NULL COMMENT '집계 일자 (이벤트 시각 기준)',
+    dimension_hash CHAR(64) CHARACTER SET ascii NOT NULL COMMENT '차원 값 해시',
+    referrer_url VARCHAR(500) NULL,
+    referrer_domain VARCHAR(255) NULL COMMENT '정규화된 리퍼러 도메인 (소문자, 포트 제거)',
+    utm_source VARCHAR(255) NULL,
+    utm_medium VARCHAR(255) NULL,
+    utm_campaign VARCHAR(255) NULL,
+    utm_content VARCHAR(255) NULL,
+    utm_term VARCHAR(255) NULL,
+    visit_count BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_referrer_stats_daily (target_type, target_key, stat_date, dimension_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='유입경로 일별 롤업';
+
+-- 기존 원본 데이터 백필 (집계 쿼리와 동일한 도메인 정규화 규칙 적용)
+INSERT INTO referrer_stats_daily (
+    target_type, target_key, stat_date, dimension_hash, referrer_url, referrer_domain,
+    utm_source, utm_medium, utm_campaign, utm_content, utm_term, visit_count
+)
+SELECT
+    d.target_type,
+    d.target_key,
+    d.stat_date,
+    SHA2(CONCAT_WS(CHAR(31 USING utf8mb4),
+        COALESCE(LOWER(d.referrer_url), CHAR(0 USING utf8mb4)),
+        COALESCE(LOWER(d.referrer_domain), CHAR(0 USING utf8mb4)),
+        COALESCE(LOWER(d.utm_source), CHAR(0 USING utf8mb4)),
+        COALESCE(LOWER(d.utm_medium), CHAR(0 USING utf8mb4)),
+        COALESCE(LOWER(d.utm_campaign), CHAR(0 USING utf8mb4)),
+        COALESCE(LOWER(d.utm_content), CHAR(0 USING utf8mb4)),
+        COALESCE(LOWER(d.utm_term), CHAR(0 USING utf8mb4))), 256),
+    ANY_VALUE(d.referrer_url),
+    ANY_VALUE(d.referrer_domain),
+    ANY_VALUE(d.utm_source),
+    ANY_VALUE(d.utm_medium),
+    ANY_VALUE(d.utm_campaign),
+    ANY_VALUE(d.utm_content),
+    ANY_VALUE(d.utm_term),
+    COUNT(*)
+FROM (
+    SELECT
+        CASE WHEN rt.content_id IS NOT NULL THEN 'CONTENT' ELSE 'MARKET' END AS target_type,
+        COALESCE(rt.content_id, rt.market_link_url) AS target_key,
+        DATE(COALESCE(rt.event_timestamp, rt.created_at)) AS stat_date,
+        rt.referrer_url,
+        CASE
+            WHEN rt.referrer_domain IS NOT NULL AND rt.referrer_domain <> '' THEN
+                LOWER(SUBSTRING_INDEX(rt.referrer_domain, ':', 1))
+            WHEN rt.referrer_url IS NULL OR rt.referrer_url = '' THEN NULL
+            ELSE LOWER(SUBSTRING_INDEX(SUBSTRING_INDEX(
+                SUBSTRING_INDEX(rt.referrer_url, '://', -1), '/', 1), ':', 1))
+        END AS referrer_domain,
+        rt.utm_source,
+        rt.utm_medium,
+        rt.utm_campaign,
+        rt.utm_content,
+        rt.utm_term
+    FROM referrer_tracking rt
+    WHERE rt.content_id IS NOT NULL OR rt.market_link_url IS NOT NULL
+) d
+GROUP BY 1, 2, 3, 4;
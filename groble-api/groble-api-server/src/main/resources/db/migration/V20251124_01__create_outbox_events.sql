@@ -0,0 +1,18 @@
+-- 트랜잭셔널 아웃박스: 결제/환불 도메인 이벤트를 업무 트랜잭션과 함께 기록하고 릴레이가 비동기로 전달
+CREATE TABLE outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NULL,
+    payload LONGTEXT NOT NULL COMMENT '이벤트 JSON',
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING, PROCESSING, DONE, FAILED',
+    attempt_count INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL COMMENT 'PENDING: 다음 시도 시각, PROCESSING: 점유 만료 시각',
+    last_error VARCHAR(1000) NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    processed_at DATETIME(6) NULL
+);
+
+-- 릴레이 폴링(status, next_attempt_at)과 완료 건 정리(status, processed_at)용
+CREATE INDEX idx_outbox_events_status_next ON outbox_events (status, next_attempt_at);
+CREATE INDEX idx_outbox_events_status_processed ON outbox_events (status, processed_at);
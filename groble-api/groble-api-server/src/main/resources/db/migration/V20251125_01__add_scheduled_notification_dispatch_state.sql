@@ -0,0 +1,12 @@
+-- Lease and checkpoint columns so any node can dispatch (and resume) scheduled notification runs
+
+ALTER TABLE `scheduled_notification_runs`
+  ADD COLUMN `lease_owner` VARCHAR(64) DEFAULT NULL COMMENT '현재 발송 중인 노드 식별자',
+  ADD COLUMN `lease_expires_at` DATETIME(6) DEFAULT NULL COMMENT '점유 만료 시각, 초과 시 다른 노드가 이어서 발송',
+  ADD COLUMN `last_recipient_id` BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 처리한 수신자 ID (keyset 커서)',
+  ADD UNIQUE KEY `uk_scheduled_notification_runs_execution` (`scheduled_notification_id`, `execution_time`),
+  ADD KEY `idx_scheduled_notification_runs_dispatch` (`status`, `execution_time`);
+
+-- 예약 공지 알림(SCHEDULED_NOTICE) 추가를 위해 enum 컬럼을 문자열로 변경
+ALTER TABLE `notifications`
+  MODIFY COLUMN `sub_notification_type` VARCHAR(50) NOT NULL;
@@ -0,0 +1,10 @@
+-- Lease-based lock table so only one node runs a cluster-wide scheduled job at a time
+
+CREATE TABLE `scheduler_locks` (
+  `name` VARCHAR(64) NOT NULL COMMENT '잠금 대상 작업 이름',
+  `locked_by` VARCHAR(64) NOT NULL COMMENT '잠금을 보유한 노드 식별자',
+  `locked_until` DATETIME(6) NOT NULL COMMENT '잠금 만료 시각, 초과 시 다른 노드가 획득 가능',
+  `locked_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Cluster-wide scheduler locks';
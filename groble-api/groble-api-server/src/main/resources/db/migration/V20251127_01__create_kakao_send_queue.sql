@@ -0,0 +1,27 @@
+-- 알림톡 발송 큐: 렌더링된 메시지를 영속화하고 발송 워커가 처리율 제한 하에 발송·재시도·리포트 대사
+CREATE TABLE `kakao_send_queue` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `notification_type` VARCHAR(100) NOT NULL,
+  `template_code` VARCHAR(100) NOT NULL,
+  `phone_number` VARCHAR(20) NOT NULL,
+  `title` VARCHAR(255) DEFAULT NULL,
+  `content` TEXT NOT NULL,
+  `buttons` TEXT DEFAULT NULL COMMENT '버튼 JSON',
+  `sender_key` VARCHAR(100) DEFAULT NULL COMMENT 'NULL이면 기본 발신 프로필',
+  `ref_key` VARCHAR(32) NOT NULL COMMENT '비즈뿌리오 refkey, 전달 결과 리포트를 발송 건에 연결',
+  `status` VARCHAR(20) NOT NULL COMMENT 'PENDING, PROCESSING, SENT, DELIVERED, UNDELIVERED, DEAD',
+  `attempt_count` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME(6) NOT NULL COMMENT 'PENDING: 다음 시도 시각, PROCESSING: 점유 만료 시각',
+  `message_key` VARCHAR(64) DEFAULT NULL COMMENT '비즈뿌리오 messagekey',
+  `report_code` VARCHAR(10) DEFAULT NULL COMMENT '전달 결과 리포트 코드',
+  `last_error` VARCHAR(1000) DEFAULT NULL,
+  `created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  `sent_at` DATETIME(6) DEFAULT NULL,
+  `completed_at` DATETIME(6) DEFAULT NULL COMMENT '리포트 수신, 리포트 미수신 처리 또는 dead-letter 시각',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_kakao_send_queue_ref_key` (`ref_key`),
+  KEY `idx_kakao_send_queue_status_next` (`status`, `next_attempt_at`) COMMENT '발송 워커 폴링',
+  KEY `idx_kakao_send_queue_status_sent` (`status`, `sent_at`) COMMENT '리포트 미수신 대사',
+  KEY `idx_kakao_send_queue_status_completed` (`status`, `completed_at`) COMMENT '완료 건 정리'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='알림톡 발송 큐';
@@ -0,0 +1,18 @@
+-- 메일 발송 큐: 발송 요청을 영속화하고 발송 워커가 풀링된 SMTP 연결로 일괄 발송·재시도
+CREATE TABLE `email_send_queue` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `template` VARCHAR(50) NOT NULL COMMENT 'VERIFICATION, PASSWORD_RESET, SALE_NOTIFICATION',
+  `recipient` VARCHAR(255) NOT NULL,
+  `params` TEXT DEFAULT NULL COMMENT '템플릿 값 JSON, 발송 완료 또는 dead-letter 시 삭제',
+  `status` VARCHAR(20) NOT NULL COMMENT 'PENDING, PROCESSING, SENT, DEAD',
+  `attempt_count` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME(6) NOT NULL COMMENT 'PENDING: 다음 시도 시각, PROCESSING: 점유 만료 시각',
+  `expires_at` DATETIME(6) DEFAULT NULL COMMENT '이 시각 이후에는 발송하지 않음 (인증 코드 등)',
+  `last_error` VARCHAR(1000) DEFAULT NULL,
+  `created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  `sent_at` DATETIME(6) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_email_send_queue_status_next` (`status`, `next_attempt_at`) COMMENT '발송 워커 폴링',
+  KEY `idx_email_send_queue_status_sent` (`status`, `sent_at`) COMMENT '발송 완료 건 정리'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='메일 발송 큐';
@@ -0,0 +1,33 @@
+-- 콘텐츠 리뷰 집계: 공개 리뷰 목록의 평균 별점·리뷰 수·별점 분포를 리뷰 전체 조회 없이 제공
+CREATE TABLE content_review_summary (
+    content_id BIGINT PRIMARY KEY,
+    review_count INT NOT NULL DEFAULT 0 COMMENT 'ACTIVE 리뷰 수',
+    rating_sum DECIMAL(12,1) NOT NULL DEFAULT 0 COMMENT 'ACTIVE 리뷰 별점 합계',
+    rating1_count INT NOT NULL DEFAULT 0 COMMENT '별점 2.0 미만',
+    rating2_count INT NOT NULL DEFAULT 0 COMMENT '별점 2.0 이상 3.0 미만',
+    rating3_count INT NOT NULL DEFAULT 0 COMMENT '별점 3.0 이상 4.0 미만',
+    rating4_count INT NOT NULL DEFAULT 0 COMMENT '별점 4.0 이상 5.0 미만',
+    rating5_count INT NOT NULL DEFAULT 0 COMMENT '별점 5.0',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+INSERT INTO content_review_summary (
+    content_id, review_count, rating_sum,
+    rating1_count, rating2_count, rating3_count, rating4_count, rating5_count)
+SELECT content_id,
+       COUNT(*),
+       COALESCE(SUM(rating), 0),
+       COALESCE(SUM(rating < 2), 0),
+       COALESCE(SUM(rating >= 2 AND rating < 3), 0),
+       COALESCE(SUM(rating >= 3 AND rating < 4), 0),
+       COALESCE(SUM(rating >= 4 AND rating < 5), 0),
+       COALESCE(SUM(rating >= 5), 0)
+FROM content_reviews
+WHERE review_status = 'ACTIVE'
+GROUP BY content_id;
+
+-- 공개 리뷰 커서 조회용: 정렬 키 뒤에 id를 붙여 동일 값 사이의 순서를 고정하고 커서 조건을 인덱스 범위로 처리
+CREATE INDEX idx_content_reviews_content_status_created_id
+    ON content_reviews (content_id, review_status, created_at, id);
+CREATE INDEX idx_content_reviews_content_status_rating_id
+    ON content_reviews (content_id, review_status, rating, id);
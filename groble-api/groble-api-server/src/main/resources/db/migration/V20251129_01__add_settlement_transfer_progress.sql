@@ -0,0 +1,9 @@
+-- 정산 이체 진행 정보: 페이플 이체 실행 후 결과 반영 전에 중단된 처리중 정산을 복구하기 위한 기준
+ALTER TABLE settlements
+  ADD COLUMN processing_started_at DATETIME(6) NULL COMMENT '처리중 전환 시간',
+  ADD COLUMN payple_transfer_executed_at DATETIME(6) NULL COMMENT '페이플 이체 실행 접수 시간';
+
+-- 이미 처리중인 정산은 마지막 변경 시간을 처리중 전환 시간으로 간주
+UPDATE settlements
+SET processing_started_at = updated_at
+WHERE status = 'PROCESSING';
@@ -0,0 +1,49 @@
+package liaison.groble.api.server.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BoundedJsonWriterTest {
+  private static final int MAX_CHARS = 16;
+
+  private final BoundedJsonWriter writer = new BoundedJsonWriter(new ObjectMapper(), MAX_CHARS);
+
+  @Test
+  void write_returnsWholeJsonWithinLimit() {
+    assertThat(writer.write(Map.of("id", 1))).isEqualTo("{\"id\":1}");
+    // 정확히 최대 길이인 JSON은 잘리지 않음
+    assertThat(writer.write("x".repeat(MAX_CHARS - 2))).isEqualTo("\"" + "x".repeat(14) + "\"");
+  }
+
+  @Test
+  void write_truncatesAtMaxChars() {
+    String written = writer.write(List.of("a".repeat(100), "b".repeat(100)));
+
+    assertThat(written)
+        .isEqualTo("[\"" + "a".repeat(MAX_CHARS - 2) + BoundedJsonWriter.TRUNCATED_SUFFIX);
+  }
+
+  @Test
+  void write_reusesBufferAfterTruncation() {
+    writer.write("y".repeat(100));
+
+    assertThat(writer.write("ok")).isEqualTo("\"ok\"");
+  }
+
+  @Test
+  void write_reportsSerializationFailure() {
+    assertThat(writer.write(new Unserializable())).startsWith("<직렬화 실패: ");
+  }
+
+  static class Unserializable {
+    public String getValue() {
+      throw new IllegalStateException("broken getter");
+    }
+  }
+}
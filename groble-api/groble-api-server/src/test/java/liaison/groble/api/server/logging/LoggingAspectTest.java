@@ -0,0 +1,154 @@
+package liaison.groble.api.server.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.api.server.logging.LoggingAspect.Outcome;
+import liaison.groble.application.payment.exception.PaymentException;
+import liaison.groble.application.purchase.exception.ContentNotPurchasedException;
+import liaison.groble.common.annotation.Logging;
+import liaison.groble.common.exception.GrobleException;
+import liaison.groble.common.model.Accessor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoggingAspectTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private LoggingAspect loggingAspect;
+
+  @BeforeEach
+  void setUp() {
+    loggingAspect = new LoggingAspect(meterRegistry, new ObjectMapper(), 1.0, 1024);
+  }
+
+  @Test
+  void outcome_mapsGrobleExceptionByStatusCode() {
+    assertThat(Outcome.of(new GrobleException("없음", 404))).isEqualTo(Outcome.CLIENT_ERROR);
+    assertThat(Outcome.of(new GrobleException("장애", 503))).isEqualTo(Outcome.SERVER_ERROR);
+    assertThat(Outcome.of(new GrobleException("정상", 200))).isEqualTo(Outcome.SUCCESS);
+  }
+
+  @Test
+  void outcome_mapsResponseEntityByStatusCode() {
+    assertThat(Outcome.of(ResponseEntity.ok("data"))).isEqualTo(Outcome.SUCCESS);
+    assertThat(Outcome.of(ResponseEntity.badRequest().build())).isEqualTo(Outcome.CLIENT_ERROR);
+    assertThat(Outcome.of(ResponseEntity.internalServerError().build()))
+        .isEqualTo(Outcome.SERVER_ERROR);
+    assertThat(Outcome.of((Object) "plain body")).isEqualTo(Outcome.SUCCESS);
+  }
+
+  @Test
+  void outcome_classifiesOtherExceptions() {
+    assertThat(Outcome.of(new ResponseStatusException(HttpStatus.CONFLICT)))
+        .isEqualTo(Outcome.CLIENT_ERROR);
+    assertThat(Outcome.of(new IllegalArgumentException("잘못된 값")))
+        .isEqualTo(Outcome.CLIENT_ERROR);
+    assertThat(Outcome.of(new IllegalStateException("장애"))).isEqualTo(Outcome.SERVER_ERROR);
+  }
+
+  @Test
+  void outcome_followsStatusOfExceptionHandlerAndResponseStatus() {
+    // PaymentExceptionHandler가 400으로 응답
+    assertThat(Outcome.of(new PaymentException("카드 한도 초과"))).isEqualTo(Outcome.CLIENT_ERROR);
+    assertThat(Outcome.of(new ContentNotPurchasedException())).isEqualTo(Outcome.CLIENT_ERROR);
+  }
+
+  @Test
+  void record_tagsTimerWithOutcomeOfThrownException() throws Throwable {
+    ProceedingJoinPoint joinPoint = joinPoint("getContent");
+    when(joinPoint.proceed()).thenThrow(new GrobleException("없음", 404));
+
+    assertThatThrownBy(() -> loggingAspect.record(joinPoint, logging("getContent")))
+        .isInstanceOf(GrobleException.class);
+
+    assertThat(timerCount("CLIENT_ERROR")).isEqualTo(1);
+    assertThat(timerCount("SERVER_ERROR")).isZero();
+  }
+
+  @Test
+  void record_tagsTimerWithOutcomeOfResponseEntity() throws Throwable {
+    ProceedingJoinPoint joinPoint = joinPoint("getContent");
+    ResponseEntity<String> response = ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+    when(joinPoint.proceed()).thenReturn(response);
+
+    assertThat(loggingAspect.record(joinPoint, logging("getContent"))).isSameAs(response);
+
+    assertThat(timerCount("SERVER_ERROR")).isEqualTo(1);
+  }
+
+  @Test
+  void loggableArgs_replacesSkippedTypesWithTypeName() {
+    Object[] loggable =
+        LoggingAspect.loggableArgs(
+            new Object[] {
+              new MockHttpServletRequest(),
+              new MockHttpServletResponse(),
+              new MockMultipartFile("file", new byte[] {1, 2, 3}),
+              new BeanPropertyBindingResult(new Object(), "request"),
+              Accessor.builder().id(1L).build(),
+              "payload",
+              null
+            });
+
+    assertThat(loggable)
+        .containsExactly(
+            "MockHttpServletRequest",
+            "MockHttpServletResponse",
+            "MockMultipartFile",
+            "BeanPropertyBindingResult",
+            "Accessor",
+            "payload",
+            null);
+  }
+
+  private double timerCount(String outcome) {
+    return meterRegistry
+        .get(LoggingAspect.TIMER_NAME)
+        .tag("item", "content")
+        .tag("action", "get")
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  private static ProceedingJoinPoint joinPoint(String methodName) throws NoSuchMethodException {
+    MethodSignature signature = mock(MethodSignature.class);
+    when(signature.getMethod()).thenReturn(method(methodName));
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    when(joinPoint.getSignature()).thenReturn(signature);
+    when(joinPoint.getArgs()).thenReturn(new Object[] {1L});
+    return joinPoint;
+  }
+
+  private static Logging logging(String methodName) throws NoSuchMethodException {
+    return method(methodName).getAnnotation(Logging.class);
+  }
+
+  private static Method method(String methodName) throws NoSuchMethodException {
+    return SampleController.class.getDeclaredMethod(methodName, Long.class);
+  }
+
+  static class SampleController {
+    @Logging(item = "content", action = "get", includeParam = true, includeResult = true)
+    ResponseEntity<String> getContent(Long contentId) {
+      return ResponseEntity.ok("content");
+    }
+  }
+}
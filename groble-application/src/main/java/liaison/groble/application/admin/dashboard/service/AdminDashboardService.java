@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import liaison.groble.application.admin.dashboard.dto.AdminActiveGuestSessionDTO;
@@ -29,6 +31,7 @@ import liaison.groble.application.admin.dashboard.dto.AdminDashboardTrendPointDT
 import liaison.groble.application.purchase.service.PurchaseReader;
 import liaison.groble.application.session.ActiveSessionService;
 import liaison.groble.application.settlement.reader.SettlementReader;
+import liaison.groble.common.cache.LocalTtlCache;
 import liaison.groble.domain.content.enums.ContentStatus;
 import liaison.groble.domain.content.repository.ContentRepository;
 import liaison.groble.domain.dashboard.dto.FlatDashboardOverviewDTO;
@@ -68,6 +71,13 @@ public class AdminDashboardService {
 
   private static final int DEFAULT_TOP_CONTENT_LIMIT = 5;
 
+  // 여러 관리자가 실시간 방문자 화면을 폴링해도 Redis·DB 조회는 기간·건수 조합별로 이 주기에 한 번만 수행
+  private static final Duration ACTIVE_VISITORS_CACHE_TTL = Duration.ofSeconds(2);
+
+  private final LocalTtlCache<String, AdminActiveVisitorsDTO> activeVisitorsCache =
+      new LocalTtlCache<>(32, ACTIVE_VISITORS_CACHE_TTL);
+  private final Object activeVisitorsLock = new Object();
+
   @Transactional(readOnly = true)
   public AdminDashboardOverviewDTO getAdminDashboardOverview() {
     // 거래 통계 조회
@@ -194,7 +204,8 @@ public class AdminDashboardService {
         .build();
   }
 
-  @Transactional(readOnly = true)
+  // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않음 (조회 쿼리는 연관 계정까지 한 번에 가져옴)
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public AdminActiveVisitorsDTO getActiveVisitors(Duration window, int limit) {
     Duration effectiveWindow =
         (window == null || window.isZero() || window.isNegative()) ? Duration.ofMinutes(5) : window;
@@ -204,6 +215,23 @@ public class AdminDashboardService {
 
     int effectiveLimit = limit <= 0 ? 50 : Math.min(limit, 200);
 
+    String cacheKey = effectiveWindow.toSeconds() + ":" + effectiveLimit;
+    AdminActiveVisitorsDTO cached = activeVisitorsCache.get(cacheKey);
+    if (cached != null) {
+      return cached;
+    }
+    // 동시에 만료를 본 요청들이 함께 조회하지 않도록 하나만 갱신
+    synchronized (activeVisitorsLock) {
+      cached = activeVisitorsCache.get(cacheKey);
+      if (cached == null) {
+        cached = loadActiveVisitors(effectiveWindow, effectiveLimit);
+        activeVisitorsCache.put(cacheKey, cached);
+      }
+      return cached;
+    }
+  }
+
+  private AdminActiveVisitorsDTO loadActiveVisitors(Duration effectiveWindow, int effectiveLimit) {
     var snapshot = activeSessionService.getActiveSessions(effectiveWindow, effectiveLimit);
 
     List<MemberActiveSession> memberSessions = snapshot.getMemberSessions();
@@ -245,8 +273,8 @@ public class AdminDashboardService {
             .filter(Objects::nonNull)
             .collect(Collectors.toCollection(LinkedHashSet::new));
 
-    for (Long userId : userIds) {
-      userRepository.findById(userId).ifPresent(user -> users.put(userId, user));
+    for (User user : userRepository.findByIdIn(new ArrayList<>(userIds))) {
+      users.put(user.getId(), user);
     }
 
     return users;
@@ -264,8 +292,8 @@ public class AdminDashboardService {
             .filter(Objects::nonNull)
             .collect(Collectors.toCollection(LinkedHashSet::new));
 
-    for (Long guestId : guestIds) {
-      guestUserRepository.findById(guestId).ifPresent(guest -> guests.put(guestId, guest));
+    for (GuestUser guest : guestUserRepository.findByIdIn(new ArrayList<>(guestIds))) {
+      guests.put(guest.getId(), guest);
     }
 
     return guests;
@@ -10,6 +10,7 @@ import liaison.groble.application.admin.dto.AdminBusinessInfoUpdateDTO;
 import liaison.groble.application.admin.settlement.dto.PaypleAccountVerificationRequest;
 import liaison.groble.application.admin.settlement.dto.PayplePartnerAuthResult;
 import liaison.groble.application.admin.settlement.service.PaypleAccountVerificationFactory;
+import liaison.groble.application.admin.settlement.service.PayplePartnerAuthProvider;
 import liaison.groble.application.admin.settlement.service.PaypleSettlementService;
 import liaison.groble.application.payment.exception.PaypleApiException;
 import liaison.groble.application.user.service.UserReader;
@@ -29,6 +30,7 @@ public class AdminAccountVerificationService {
   private static final String PAYPLE_SUCCESS_CODE = "A0000";
 
   private final PaypleSettlementService paypleSettlementService;
+  private final PayplePartnerAuthProvider payplePartnerAuthProvider;
   private final PaypleAccountVerificationFactory paypleAccountVerificationFactory;
   private final UserReader userReader;
   private final SellerInfoRepository sellerInfoRepository;
@@ -39,7 +41,7 @@ public class AdminAccountVerificationService {
     Long targetUserId = sellerInfo.getUser().getId();
 
     try {
-      PayplePartnerAuthResult authResult = paypleSettlementService.requestPartnerAuth();
+      PayplePartnerAuthResult authResult = payplePartnerAuthProvider.getPartnerAuth();
 
       if (!authResult.isSuccess()) {
         String partnerFailMessage = String.format("페이플 파트너 인증 실패: %s", authResult.getMessage());
@@ -15,6 +15,7 @@ import org.springframework.util.StringUtils;
 import liaison.groble.application.admin.dto.AdminContentSummaryInfoDTO;
 import liaison.groble.application.admin.dto.AdminDocumentFileInfoDTO;
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.service.ContentCacheService;
 import liaison.groble.application.notification.dto.KakaoNotificationDTO;
 import liaison.groble.application.notification.enums.KakaoNotificationType;
 import liaison.groble.application.notification.mapper.NotificationMapper;
@@ -42,6 +43,7 @@ public class AdminContentService {
 
   private final ContentReader contentReader;
   private final ContentRepository contentRepository;
+  private final ContentCacheService contentCacheService;
   private final NotificationMapper notificationMapper;
   private final NotificationRepository notificationRepository;
   private final NotificationService notificationService;
@@ -108,6 +110,7 @@ public class AdminContentService {
     Content content = contentReader.getContentById(contentId);
     content.setAdminContentCheckingStatus(AdminContentCheckingStatus.VALIDATED);
     contentRepository.save(content);
+    contentCacheService.evictContent(contentId);
   }
 
   @Transactional
@@ -117,6 +120,7 @@ public class AdminContentService {
     content.setStatus(ContentStatus.PAUSED);
     content.setRejectReason(rejectReason);
     contentRepository.save(content);
+    contentCacheService.evictContent(contentId);
 
     sendContentSoldNotification(content);
   }
@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 import liaison.groble.application.admin.dto.AdminOrderCancelRequestDTO;
 import liaison.groble.application.admin.dto.AdminOrderCancellationReasonDTO;
 import liaison.groble.application.admin.dto.AdminOrderSummaryInfoDTO;
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.notification.dto.KakaoNotificationDTO;
 import liaison.groble.application.notification.enums.KakaoNotificationType;
 import liaison.groble.application.notification.service.KakaoNotificationService;
@@ -36,6 +37,7 @@ public class AdminOrderService {
   private final OrderRepository orderRepository;
   private final PurchaseReader purchaseReader;
   private final KakaoNotificationService kakaoNotificationService;
+  private final SellerSalesRollupService sellerSalesRollupService;
 
   // 모든 주문 목록 전체 조회 메서드
   public PageResponse<AdminOrderSummaryInfoDTO> getAllOrders(Pageable pageable) {
@@ -126,6 +128,7 @@ public class AdminOrderService {
       // 취소 거절 - 주문 상태를 다시 결제 완료로 변경
       order.changeStatus(Order.OrderStatus.PAID);
       orderRepository.save(order);
+      sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
 
       return AdminOrderCancelRequestDTO.builder()
           .merchantUid(merchantUid)
@@ -2,11 +2,15 @@ package liaison.groble.application.admin.settlement.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.json.simple.JSONObject;
@@ -14,7 +18,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import liaison.groble.application.admin.settlement.dto.AdminSettlementDetailDTO;
 import liaison.groble.application.admin.settlement.dto.AdminSettlementOverviewDTO;
@@ -27,6 +34,8 @@ import liaison.groble.application.admin.settlement.dto.SettlementApprovalDTO;
 import liaison.groble.application.admin.settlement.dto.SettlementApprovalDTO.FailedSettlementDTO;
 import liaison.groble.application.admin.settlement.dto.SettlementApprovalDTO.PaypleSettlementResultDTO;
 import liaison.groble.application.admin.settlement.dto.SettlementApprovalRequestDTO;
+import liaison.groble.application.admin.settlement.service.PaypleTransferDispatcher.TransferOrder;
+import liaison.groble.application.common.lock.SchedulerLock;
 import liaison.groble.application.notification.dto.KakaoNotificationDTO;
 import liaison.groble.application.notification.enums.KakaoNotificationType;
 import liaison.groble.application.notification.service.KakaoNotificationService;
@@ -56,6 +65,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Transactional
 public class AdminSettlementService {
+  private static final String TRANSFER_LOCK_NAME = "payple-settlement-transfer";
+  private static final Duration TRANSFER_LOCK_LEASE = Duration.ofMinutes(10);
+  private static final String STALE_PROCESSING_NOTE = "이체 결과 반영 전 처리 중단 - 페이플 이체 여부 확인 필요";
 
   private final SettlementRepository settlementRepository;
   private final PaypleSettlementService paypleSettlementService;
@@ -63,6 +75,10 @@ public class AdminSettlementService {
   private final PaypleConfig paypleConfig;
   private final PaypleAccountVerificationFactory paypleAccountVerificationFactory;
   private final KakaoNotificationService kakaoNotificationService;
+  private final PayplePartnerAuthProvider payplePartnerAuthProvider;
+  private final PaypleTransferDispatcher paypleTransferDispatcher;
+  private final SchedulerLock schedulerLock;
+  private final PlatformTransactionManager transactionManager;
 
   @Transactional(readOnly = true)
   public PageResponse<AdminSettlementOverviewDTO> getAllUsersSettlements(
@@ -138,7 +154,7 @@ public class AdminSettlementService {
 
   @Transactional(readOnly = true)
   public PaypleAccountRemainDTO getPaypleAccountRemain() {
-    PayplePartnerAuthResult authResult = paypleSettlementService.requestPartnerAuth();
+    PayplePartnerAuthResult authResult = payplePartnerAuthProvider.getPartnerAuth();
 
     if (!authResult.isSuccess()) {
       throw new PaypleApiException(
@@ -166,39 +182,94 @@ public class AdminSettlementService {
   /**
    * 정산 승인 및 실행 처리
    *
+   * <p>정산 검증·처리중 전환과 페이플 결과 반영은 각각 짧은 트랜잭션으로 처리하고, 페이플 호출은 트랜잭션 밖에서 수행합니다. 파트너 인증 토큰을 재사용하므로
+   * 이체 대기 그룹이 섞이지 않도록 정산 이체는 클러스터 잠금으로 한 번에 하나만 실행합니다.
+   *
    * @param requestDTO 정산 승인 요청 정보
    * @return 정산 승인 및 실행 결과
    */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public SettlementApprovalDTO approveAndExecuteSettlements(
       SettlementApprovalRequestDTO requestDTO) {
 
     log.info("정산 승인 및 실행 처리 시작 - 정산 수: {}", requestDTO.getSettlementIds().size());
 
-    // 1. 정산 조회 및 검증
-    List<Settlement> settlements = validateAndRetrieveSettlements(requestDTO.getSettlementIds());
+    if (!schedulerLock.tryAcquire(TRANSFER_LOCK_NAME, TRANSFER_LOCK_LEASE)) {
+      throw new IllegalStateException("다른 정산 이체가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+    try {
+      return executeApproval(requestDTO.getSettlementIds());
+    } finally {
+      schedulerLock.release(TRANSFER_LOCK_NAME);
+    }
+  }
+
+  private SettlementApprovalDTO executeApproval(List<Long> settlementIds) {
+    // 1. 정산 조회 및 검증 후 처리중 상태로 변경 (실제 승인은 페이플 성공 후)
+    ApprovalPlan plan = inTransaction(() -> prepareApproval(settlementIds));
 
-    // 2. 정산들 사전 검증 (실제 승인은 페이플 성공 후)
-    List<FailedSettlementDTO> failedSettlements = new ArrayList<>();
-    List<Settlement> validSettlements = new ArrayList<>();
-    List<ApprovalResult> approvalResults = new ArrayList<>();
+    PaypleSettlementResultDTO paypleResult = null;
+    int actualApprovedSettlementCount = 0;
+    Map<Long, KakaoNotificationDTO> notifications = Map.of();
+
+    if (!plan.transferOrders.isEmpty()) {
+      // 2. 페이플 정산 실행 (DB 트랜잭션 밖)
+      PaypleExecution execution = executePaypleGroupSettlementImmediately(plan);
+      paypleResult = execution.result;
+
+      // 3. 이체 실행 접수를 먼저 기록 (결과 반영 전에 중단되어도 복구 배치가 완료 처리)
+      if (paypleResult.isSuccess()) {
+        recordTransferExecuted(plan, execution);
+      }
+
+      // 4. 페이플 결과에 따라 정산 상태 반영
+      notifications = inTransaction(() -> applyPaypleResult(plan, execution));
+
+      if (paypleResult.isSuccess()) {
+        actualApprovedSettlementCount = plan.settlementIds.size();
+      } else {
+        // 성공 카운트들을 0으로 재설정
+        plan.totalApprovedItemCount = 0;
+        plan.totalExcludedRefundedItemCount = 0;
+        plan.totalApprovedAmount = BigDecimal.ZERO;
+      }
+    }
+
+    // 5. 커밋 이후 정산 완료 알림 발송
+    notifications.forEach(this::sendSettlementCompletedNotification);
 
-    int totalApprovedItemCount = 0;
-    int totalExcludedRefundedItemCount = 0;
-    BigDecimal totalApprovedAmount = BigDecimal.ZERO;
+    // 6. 결과 반환
+    return SettlementApprovalDTO.builder()
+        .success(plan.failedSettlements.isEmpty())
+        .approvedSettlementCount(actualApprovedSettlementCount)
+        .approvedItemCount(plan.totalApprovedItemCount)
+        .totalApprovedAmount(plan.totalApprovedAmount)
+        .approvedAt(LocalDateTime.now())
+        .paypleResult(paypleResult)
+        .failedSettlements(plan.failedSettlements.isEmpty() ? null : plan.failedSettlements)
+        .excludedRefundedItemCount(plan.totalExcludedRefundedItemCount)
+        .build();
+  }
 
+  /** 정산 검증 후 처리중으로 전환하고, 이체 대기 요청 목록과 빌링키 확보 방법을 준비 */
+  private ApprovalPlan prepareApproval(List<Long> settlementIds) {
+    List<Settlement> settlements = validateAndRetrieveSettlements(settlementIds);
+
+    // 정산들 사전 검증
+    ApprovalPlan plan = new ApprovalPlan();
+    List<Settlement> validSettlements = new ArrayList<>();
     for (Settlement settlement : settlements) {
       try {
         ApprovalResult result = validateSettlementForApproval(settlement);
 
         validSettlements.add(settlement);
-        approvalResults.add(result);
-        totalApprovedItemCount += result.getApprovedItemCount();
-        totalExcludedRefundedItemCount += result.getExcludedRefundedItemCount();
-        totalApprovedAmount = totalApprovedAmount.add(result.getApprovedAmount());
+        plan.totalApprovedItemCount += result.getApprovedItemCount();
+        plan.totalExcludedRefundedItemCount += result.getExcludedRefundedItemCount();
+        plan.totalApprovedAmount = plan.totalApprovedAmount.add(result.getApprovedAmount());
 
       } catch (Exception e) {
         log.error("정산 검증 실패 - ID: {}", settlement.getId(), e);
-        failedSettlements.add(
+        plan.failedSettlements.add(
             FailedSettlementDTO.builder()
                 .settlementId(settlement.getId())
                 .failureReason(e.getMessage())
@@ -206,86 +277,202 @@ public class AdminSettlementService {
       }
     }
 
-    // 3. 페이플 정산 실행 먼저 시도
-    PaypleSettlementResultDTO paypleResult = null;
-    int actualApprovedSettlementCount = 0;
+    List<SettlementItem> validItemsForPayple = extractValidItemsForPayple(validSettlements);
+    if (validItemsForPayple.isEmpty()) {
+      return plan;
+    }
+
+    // 페이플 이체 실행 전 정산들을 처리중 상태로 변경
+    for (Settlement settlement : validSettlements) {
+      settlement.startProcessing();
+      plan.settlementIds.add(settlement.getId());
+      log.info("정산 {} 처리 시작 - 상태: PROCESSING", settlement.getId());
+    }
 
-    if (!validSettlements.isEmpty()) {
-      List<SettlementItem> validItemsForPayple = extractValidItemsForPayple(validSettlements);
-      if (!validItemsForPayple.isEmpty()) {
-        // 페이플 이체 실행 전 정산들을 처리중 상태로 변경
-        for (Settlement settlement : validSettlements) {
-          settlement.startProcessing();
-          log.info("정산 {} 처리 시작 - 상태: PROCESSING", settlement.getId());
+    // 환경에 따른 이체 금액 결정 (운영은 1.7% 노출 수수료 기준)
+    for (SettlementItem item : validItemsForPayple) {
+      plan.transferOrders.add(new TransferOrder(item.getId(), resolveTransferAmount(item)));
+    }
+
+    prepareBillingTranId(plan, validItemsForPayple.get(0));
+    return plan;
+  }
+
+  /** 빌링키 확보 준비 - 저장된 정보 우선 사용, 없으면 계좌 인증 요청을 만들어 둠 */
+  private void prepareBillingTranId(ApprovalPlan plan, SettlementItem settlementItem) {
+    Settlement settlement = settlementItem.getSettlement();
+
+    if (settlement.isPaypleAccountVerified()) {
+      log.info(
+          "저장된 페이플 빌링키 사용 - Settlement ID: {}, billing_tran_id: {}",
+          settlement.getId(),
+          maskSensitiveData(settlement.getPaypleBillingTranId()));
+      plan.billingTranId = settlement.getPaypleBillingTranId();
+      return;
+    }
+
+    plan.verificationSettlementId = settlement.getId();
+    try {
+      plan.verificationRequest = buildAccountVerificationRequest(settlementItem);
+    } catch (Exception e) {
+      // 계좌 정보 오류는 페이플 실패와 같이 보류 처리
+      log.error("계좌 인증 요청 생성 실패 - Settlement ID: {}", settlement.getId(), e);
+      plan.billingTranIdError = e;
+    }
+  }
+
+  /** 페이플 결과에 따라 정산을 완료 또는 보류 처리하고, 발송할 완료 알림을 반환 */
+  private Map<Long, KakaoNotificationDTO> applyPaypleResult(
+      ApprovalPlan plan, PaypleExecution execution) {
+    List<Settlement> settlements = settlementRepository.findByIdIn(plan.settlementIds);
+
+    if (execution.verificationResult != null && !execution.transferRecorded) {
+      saveAccountVerificationResult(
+          settlements, plan.verificationSettlementId, execution.verificationResult);
+    }
+
+    PaypleSettlementResultDTO paypleResult = execution.result;
+    String paypleResponseNote = buildPaypleResponseNote(paypleResult);
+    Map<Long, KakaoNotificationDTO> notifications = new LinkedHashMap<>();
+
+    // 페이플 정산 성공 시에만 DB 상태를 COMPLETED로 변경
+    if (paypleResult.isSuccess()) {
+      for (Settlement settlement : settlements) {
+        settlement.completeSettlement(); // 웹훅에서도 호출되지만 즉시 실행이므로 여기서 완료 처리
+        if (paypleResponseNote != null) {
+          settlement.updateSettlementNote(paypleResponseNote);
         }
+        log.info("정산 최종 승인 완료 - ID: {}", settlement.getId());
+        buildSettlementCompletedNotification(settlement)
+            .ifPresent(notification -> notifications.put(settlement.getId(), notification));
+      }
+      return notifications;
+    }
 
-        paypleResult = executePaypleGroupSettlementImmediately(validItemsForPayple);
-        String paypleResponseNote = buildPaypleResponseNote(paypleResult);
+    log.error("페이플 정산 실패로 인한 정산 승인 취소 - 정산 수: {}", settlements.size());
+    String failureNote =
+        paypleResponseNote != null ? paypleResponseNote : "Payple FAILURE - 코드/메시지 없음";
+    // 페이플 실패 시 검증된 정산들을 실패 처리
+    for (Settlement settlement : settlements) {
+      settlement.failSettlement(); // 보류 상태로 변경
+      settlement.updateSettlementNote(failureNote);
+      plan.failedSettlements.add(
+          FailedSettlementDTO.builder()
+              .settlementId(settlement.getId())
+              .failureReason(failureNote)
+              .build());
+    }
+    return notifications;
+  }
 
-        // 4. 페이플 정산 성공 시에만 DB 상태를 COMPLETED로 변경
-        if (paypleResult != null && paypleResult.isSuccess()) {
-          for (Settlement settlement : validSettlements) {
-            settlement.completeSettlement(); // 웹훅에서도 호출되지만 즉시 실행이므로 여기서 완료 처리
-            if (paypleResponseNote != null) {
-              settlement.updateSettlementNote(paypleResponseNote);
+  /**
+   * 이체 실행 접수와 계좌 인증 결과(빌링키)를 별도 트랜잭션으로 먼저 저장
+   *
+   * <p>결과 반영 전에 서버가 중단되어도 웹훅이 빌링키로 정산을 찾을 수 있고, 복구 배치가 이체 실행 여부를 판단할 수 있습니다.
+   */
+  private void recordTransferExecuted(ApprovalPlan plan, PaypleExecution execution) {
+    try {
+      inTransaction(
+          () -> {
+            List<Settlement> settlements = settlementRepository.findByIdIn(plan.settlementIds);
+            if (execution.verificationResult != null) {
+              saveAccountVerificationResult(
+                  settlements, plan.verificationSettlementId, execution.verificationResult);
             }
-            actualApprovedSettlementCount++;
-            log.info("정산 최종 승인 완료 - ID: {}", settlement.getId());
-            sendSettlementCompletedNotification(settlement);
-          }
-        } else {
-          log.error("페이플 정산 실패로 인한 정산 승인 취소 - 정산 수: {}", validSettlements.size());
-          String failureNote =
-              paypleResponseNote != null ? paypleResponseNote : "Payple FAILURE - 코드/메시지 없음";
-          // 페이플 실패 시 검증된 정산들을 실패 처리
-          for (Settlement settlement : validSettlements) {
-            settlement.failSettlement(); // 보류 상태로 변경
-            settlement.updateSettlementNote(failureNote);
-            failedSettlements.add(
-                FailedSettlementDTO.builder()
-                    .settlementId(settlement.getId())
-                    .failureReason(failureNote)
-                    .build());
-          }
-          // 성공 카운트들을 0으로 재설정
-          totalApprovedItemCount = 0;
-          totalExcludedRefundedItemCount = 0;
-          totalApprovedAmount = BigDecimal.ZERO;
-        }
+            settlements.forEach(Settlement::markTransferExecuted);
+            return null;
+          });
+      execution.transferRecorded = true;
+    } catch (Exception e) {
+      log.error("이체 실행 접수 기록 실패 - 정산 ID: {}", plan.settlementIds, e);
+    }
+  }
+
+  /**
+   * 처리중으로 남은 정산 복구
+   *
+   * <p>페이플 이체 실행 후 결과 반영 전에 서버가 중단되면 정산이 처리중으로 남습니다. 이체 실행 접수가 기록된 정산은 승인과 같이 완료 처리하고, 기록이 없는
+   * 정산은 이체 여부를 알 수 없으므로 보류 처리해 관리자가 확인하도록 합니다. 진행 중인 승인과 겹치지 않도록 정산 이체 잠금을 잡고 실행합니다.
+   *
+   * @param staleAfter 처리중 전환 후 이 시간이 지난 정산만 복구
+   * @return 복구한 정산 수
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public int recoverStaleProcessingSettlements(Duration staleAfter) {
+    if (!schedulerLock.tryAcquire(TRANSFER_LOCK_NAME, TRANSFER_LOCK_LEASE)) {
+      return 0;
+    }
+    Map<Long, KakaoNotificationDTO> notifications = new LinkedHashMap<>();
+    int recovered;
+    try {
+      recovered =
+          inTransaction(() -> recoverStale(LocalDateTime.now().minus(staleAfter), notifications));
+    } finally {
+      schedulerLock.release(TRANSFER_LOCK_NAME);
+    }
+
+    notifications.forEach(this::sendSettlementCompletedNotification);
+    return recovered;
+  }
+
+  private int recoverStale(
+      LocalDateTime startedBefore, Map<Long, KakaoNotificationDTO> notifications) {
+    List<Settlement> settlements = settlementRepository.findProcessingStartedBefore(startedBefore);
+    for (Settlement settlement : settlements) {
+      if (settlement.isTransferExecuted()) {
+        settlement.completeSettlement();
+        log.warn("처리중 정산 복구 - 이체 실행 접수 기록으로 완료 처리 - ID: {}", settlement.getId());
+        buildSettlementCompletedNotification(settlement)
+            .ifPresent(notification -> notifications.put(settlement.getId(), notification));
+      } else {
+        settlement.failSettlement();
+        settlement.updateSettlementNote(STALE_PROCESSING_NOTE);
+        log.error("처리중 정산 복구 - 이체 실행 기록 없음, 보류 처리 - ID: {}", settlement.getId());
       }
     }
+    return settlements.size();
+  }
 
-    // 5. 결과 반환
-    return SettlementApprovalDTO.builder()
-        .success(failedSettlements.isEmpty())
-        .approvedSettlementCount(actualApprovedSettlementCount)
-        .approvedItemCount(totalApprovedItemCount)
-        .totalApprovedAmount(totalApprovedAmount)
-        .approvedAt(LocalDateTime.now())
-        .paypleResult(paypleResult)
-        .failedSettlements(failedSettlements.isEmpty() ? null : failedSettlements)
-        .excludedRefundedItemCount(totalExcludedRefundedItemCount)
-        .build();
+  private void saveAccountVerificationResult(
+      List<Settlement> settlements, Long settlementId, JSONObject verificationResult) {
+    settlements.stream()
+        .filter(settlement -> settlement.getId().equals(settlementId))
+        .findFirst()
+        .ifPresent(
+            settlement -> {
+              try {
+                paypleSettlementService.saveAccountVerificationResult(
+                    settlement, verificationResult);
+              } catch (Exception e) {
+                log.error("계좌 인증 결과 저장 실패 - Settlement ID: {}", settlementId, e);
+              }
+            });
+  }
+
+  private <T> T inTransaction(Supplier<T> action) {
+    return new TransactionTemplate(transactionManager).execute(status -> action.get());
   }
 
   public AdminSettlementDetailDTO completeSettlementManually(Long settlementId) {
     Settlement settlement = settlementReader.getSettlementById(settlementId);
 
     settlement.completeManually("정산 수동 완료 처리 성공");
-    sendSettlementCompletedNotification(settlement);
+    buildSettlementCompletedNotification(settlement)
+        .ifPresent(notification -> sendSettlementCompletedNotification(settlementId, notification));
 
     log.info("정산 수동 완료 처리 - ID: {}, settledAt: {}", settlement.getId(), settlement.getSettledAt());
 
     return getSettlementDetail(settlementId);
   }
 
-  private void sendSettlementCompletedNotification(Settlement settlement) {
+  private Optional<KakaoNotificationDTO> buildSettlementCompletedNotification(
+      Settlement settlement) {
     try {
       String phoneNumber =
           Optional.ofNullable(settlement.getUser()).map(User::getPhoneNumber).orElse(null);
       if (!hasText(phoneNumber)) {
         log.warn("정산 완료 알림톡 발송 스킵 - 수신번호 없음 settlementId: {}", settlement.getId());
-        return;
+        return Optional.empty();
       }
 
       LocalDate settlementDate =
@@ -296,7 +483,7 @@ public class AdminSettlementService {
           Optional.ofNullable(settlement.getSettlementAmountDisplay())
               .orElse(settlement.getSettlementAmount());
 
-      kakaoNotificationService.sendNotification(
+      return Optional.of(
           KakaoNotificationDTO.builder()
               .type(KakaoNotificationType.SETTLEMENT_COMPLETED)
               .phoneNumber(phoneNumber)
@@ -305,10 +492,19 @@ public class AdminSettlementService {
               .contentTypeLabel(resolveContentTypeLabel(settlement))
               .settlementAmount(settlementAmount)
               .build());
+    } catch (Exception e) {
+      log.error("정산 완료 알림톡 생성 실패 - settlementId: {}", settlement.getId(), e);
+      return Optional.empty();
+    }
+  }
 
-      log.info("정산 완료 알림톡 발송 완료 - settlementId: {}", settlement.getId());
+  private void sendSettlementCompletedNotification(
+      Long settlementId, KakaoNotificationDTO notification) {
+    try {
+      kakaoNotificationService.sendNotification(notification);
+      log.info("정산 완료 알림톡 발송 완료 - settlementId: {}", settlementId);
     } catch (Exception e) {
-      log.error("정산 완료 알림톡 발송 실패 - settlementId: {}", settlement.getId(), e);
+      log.error("정산 완료 알림톡 발송 실패 - settlementId: {}", settlementId, e);
     }
   }
 
@@ -443,59 +639,28 @@ public class AdminSettlementService {
   }
 
   /** 페이플 그룹 정산 승인 후 즉시 실행 */
-  private PaypleSettlementResultDTO executePaypleGroupSettlementImmediately(
-      List<SettlementItem> validItems) {
-    log.info("페이플 그룹 정산 승인 후 즉시 실행 시작 - 유효 항목 수: {}", validItems.size());
+  private PaypleExecution executePaypleGroupSettlementImmediately(ApprovalPlan plan) {
+    log.info("페이플 그룹 정산 승인 후 즉시 실행 시작 - 유효 항목 수: {}", plan.transferOrders.size());
 
+    PaypleExecution execution = new PaypleExecution();
+    PayplePartnerAuthResult authResult = null;
     try {
-      // 1. 파트너 인증
-      PayplePartnerAuthResult authResult = paypleSettlementService.requestPartnerAuth();
+      // 1. 파트너 인증 (유효한 토큰이 있으면 재사용)
+      authResult = payplePartnerAuthProvider.getPartnerAuth();
 
       if (!authResult.isSuccess()) {
         throw new PaypleApiException("페이플 파트너 인증 실패: " + authResult.getMessage());
       }
 
       // 2. 빌링키 확보 (저장된 정보 우선 사용, 없으면 새로 계좌 인증)
-      String billingTranId =
-          getOrCreateBillingTranId(validItems.get(0), authResult.getAccessToken());
-
-      // 3. 각 정산 항목에 대해 이체 대기 요청
-      String groupKey = null;
-      for (SettlementItem item : validItems) {
-        // 환경에 따른 이체 금액 결정 (운영은 1.7% 노출 수수료 기준)
-        String transferAmount = resolveTransferAmount(item);
-
-        log.info(
-            "정산 항목 {} 이체 대기 요청 - 금액: {}원 (테스트모드: {})",
-            item.getId(),
-            transferAmount,
-            paypleConfig.isTestMode());
-
-        JSONObject transferResult =
-            paypleSettlementService.requestTransfer(
-                billingTranId, transferAmount, authResult.getAccessToken() // 액세스 토큰 전달
-                );
-
-        String result = getStringValue(transferResult, "result");
-        log.info("정산 항목 {} 이체 대기 요청 완료: {}", item.getId(), result);
-
-        // 이체 대기 요청 실패 시 즉시 중단
-        if (!"A0000".equals(result)) {
-          String errorMessage = getStringValue(transferResult, "message");
-          log.error("이체 대기 요청 실패 - result: {}, message: {}", result, errorMessage);
-          throw new PaypleApiException("이체 대기 요청 실패: " + errorMessage);
-        }
+      String billingTranId = resolveBillingTranId(plan, authResult.getAccessToken(), execution);
 
-        // 첫 번째 이체 대기 요청에서 group_key 추출
-        if (groupKey == null) {
-          groupKey = extractGroupKey(transferResult);
-          if (groupKey == null) {
-            throw new PaypleApiException("이체 대기 요청에서 group_key를 추출할 수 없습니다");
-          }
-        }
-      }
+      // 3. 각 정산 항목에 대해 이체 대기 요청 (병렬)
+      String groupKey =
+          paypleTransferDispatcher.requestTransfers(
+              billingTranId, plan.transferOrders, authResult.getAccessToken());
 
-      // 5. 이체 대기 성공 후 즉시 실행
+      // 4. 이체 대기 성공 후 즉시 실행
       JSONObject executeResult =
           paypleSettlementService.requestTransferExecute(
               groupKey,
@@ -516,22 +681,29 @@ public class AdminSettlementService {
 
       // 이체 실행 완료 후 추가 처리 불필요 (웹훅에서 최종 결과 수신)
 
-      return PaypleSettlementResultDTO.builder()
-          .success(true)
-          .responseCode(authResult.getResult())
-          .responseMessage(authResult.getMessage())
-          .accessToken(authResult.getAccessToken())
-          .expiresIn(authResult.getExpiresIn())
-          .build();
+      execution.result =
+          PaypleSettlementResultDTO.builder()
+              .success(true)
+              .responseCode(authResult.getResult())
+              .responseMessage(authResult.getMessage())
+              .accessToken(authResult.getAccessToken())
+              .expiresIn(authResult.getExpiresIn())
+              .build();
 
     } catch (Exception e) {
       log.error("페이플 그룹 정산 승인 후 즉시 실행 실패", e);
-      return PaypleSettlementResultDTO.builder()
-          .success(false)
-          .responseCode("ERROR")
-          .responseMessage("페이플 정산 승인 및 실행 실패: " + e.getMessage())
-          .build();
+      // 실패한 그룹에 남은 이체 대기 건이 다음 실행에 섞이지 않도록 다음 정산은 새 토큰으로 시작
+      if (authResult != null && authResult.isSuccess()) {
+        payplePartnerAuthProvider.invalidate(authResult);
+      }
+      execution.result =
+          PaypleSettlementResultDTO.builder()
+              .success(false)
+              .responseCode("ERROR")
+              .responseMessage("페이플 정산 승인 및 실행 실패: " + e.getMessage())
+              .build();
     }
+    return execution;
   }
 
   /** 계좌 인증 요청 생성 (SellerInfo에서 계좌 정보 가져오기) */
@@ -553,36 +725,32 @@ public class AdminSettlementService {
   /**
    * 빌링키 확보 - 저장된 정보 우선 사용, 없으면 새로 계좌 인증
    *
-   * @param settlementItem 정산 항목 (사용자 정보를 위해)
+   * <p>계좌 인증 결과는 이체 실행 접수 기록과 함께 Settlement에 저장합니다.
+   *
+   * @param plan 승인 준비 결과
    * @param accessToken 페이플 액세스 토큰
+   * @param execution 계좌 인증 결과를 담을 실행 결과
    * @return 빌링 거래 ID
    */
-  private String getOrCreateBillingTranId(SettlementItem settlementItem, String accessToken) {
-    Settlement settlement = settlementItem.getSettlement();
-
-    // 1. 이미 저장된 빌링키가 있는지 확인
-    if (settlement.isPaypleAccountVerified()) {
-      log.info(
-          "저장된 페이플 빌링키 사용 - Settlement ID: {}, billing_tran_id: {}",
-          settlement.getId(),
-          maskSensitiveData(settlement.getPaypleBillingTranId()));
-
-      return settlement.getPaypleBillingTranId();
+  private String resolveBillingTranId(
+      ApprovalPlan plan, String accessToken, PaypleExecution execution) {
+    // 1. 이미 저장된 빌링키가 있으면 사용
+    if (plan.billingTranId != null) {
+      return plan.billingTranId;
+    }
+    if (plan.billingTranIdError != null) {
+      throw new PaypleApiException("빌링키 확보 실패", plan.billingTranIdError);
     }
 
     // 2. 저장된 빌링키가 없으면 새로 계좌 인증 수행
-    log.info("저장된 빌링키가 없어 새로 계좌 인증 수행 - Settlement ID: {}", settlement.getId());
+    log.info("저장된 빌링키가 없어 새로 계좌 인증 수행 - Settlement ID: {}", plan.verificationSettlementId);
 
     try {
-      PaypleAccountVerificationRequest accountRequest =
-          buildAccountVerificationRequest(settlementItem);
       JSONObject accountResult =
-          paypleSettlementService.requestAccountVerification(accountRequest, accessToken);
-
-      // 3. 계좌 인증 성공 시 결과를 Settlement에 저장
-      paypleSettlementService.saveAccountVerificationResult(settlement, accountResult);
+          paypleSettlementService.requestAccountVerification(plan.verificationRequest, accessToken);
+      execution.verificationResult = accountResult;
 
-      // 4. 빌링키 추출
+      // 3. 빌링키 추출
       String billingTranId = extractBillingTranId(accountResult);
       if (billingTranId == null) {
         throw new PaypleApiException("계좌 인증에서 빌링키를 가져올 수 없습니다");
@@ -591,11 +759,34 @@ public class AdminSettlementService {
       return billingTranId;
 
     } catch (Exception e) {
-      log.error("빌링키 확보 실패 - Settlement ID: {}", settlement.getId(), e);
+      log.error("빌링키 확보 실패 - Settlement ID: {}", plan.verificationSettlementId, e);
       throw new PaypleApiException("빌링키 확보 실패", e);
     }
   }
 
+  /** 승인 준비 결과 (검증 집계, 이체 대기 요청 목록, 빌링키 확보 방법) */
+  private static class ApprovalPlan {
+    private final List<Long> settlementIds = new ArrayList<>();
+    private final List<FailedSettlementDTO> failedSettlements = new ArrayList<>();
+    private final List<TransferOrder> transferOrders = new ArrayList<>();
+    private int totalApprovedItemCount;
+    private int totalExcludedRefundedItemCount;
+    private BigDecimal totalApprovedAmount = BigDecimal.ZERO;
+
+    private String billingTranId;
+    private Long verificationSettlementId;
+    private PaypleAccountVerificationRequest verificationRequest;
+    private Exception billingTranIdError;
+  }
+
+  /** 트랜잭션 밖에서 수행한 페이플 호출 결과 */
+  private static class PaypleExecution {
+    private PaypleSettlementResultDTO result;
+    private JSONObject verificationResult;
+    // 이체 실행 접수와 계좌 인증 결과를 먼저 저장했는지 여부
+    private boolean transferRecorded;
+  }
+
   /** 승인 결과를 담는 내부 클래스 */
   private static class ApprovalResult {
     private final int approvedItemCount;
@@ -646,22 +837,6 @@ public class AdminSettlementService {
     return billingTranId != null ? billingTranId.toString() : null;
   }
 
-  /**
-   * 이체 대기 요청 결과에서 그룹키 추출
-   *
-   * @param transferResult 이체 대기 요청 API 응답
-   * @return 그룹키 또는 null
-   */
-  private String extractGroupKey(JSONObject transferResult) {
-    if (transferResult == null) {
-      return null;
-    }
-
-    // 성공한 이체 대기 요청에서 그룹키만 추출 (실패 검증은 호출부에서 처리)
-    Object groupKey = transferResult.get("group_key");
-    return groupKey != null ? groupKey.toString() : null;
-  }
-
   /** JSONObject에서 안전하게 문자열 추출 */
   private String getStringValue(JSONObject json, String key) {
     if (json == null) {
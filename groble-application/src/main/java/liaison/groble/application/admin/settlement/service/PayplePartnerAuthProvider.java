@@ -0,0 +1,77 @@
+package liaison.groble.application.admin.settlement.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.admin.settlement.dto.PayplePartnerAuthResult;
+import liaison.groble.application.common.token.ExpiringTokenCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 페이플 정산지급대행 파트너 인증 토큰 제공자
+ *
+ * <p>파트너 인증으로 받은 액세스 토큰을 expires_in 동안 재사용합니다. 만료가 가까워지면 한 스레드만 재인증하고, 인증에 실패한 결과는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PayplePartnerAuthProvider {
+  private static final String CACHE_KEY = "settlement";
+
+  private final PaypleSettlementService paypleSettlementService;
+  private final ExpiringTokenCache<String, PayplePartnerAuthResult> tokenCache;
+  private final Duration defaultTtl;
+
+  public PayplePartnerAuthProvider(
+      PaypleSettlementService paypleSettlementService,
+      @Value("${groble.payple-token.refresh-before:60s}") Duration refreshBefore,
+      @Value("${groble.payple-token.settlement-default-ttl:10m}") Duration defaultTtl) {
+    this.paypleSettlementService = paypleSettlementService;
+    this.tokenCache = new ExpiringTokenCache<>(refreshBefore);
+    this.defaultTtl = defaultTtl;
+  }
+
+  /**
+   * 유효한 파트너 인증 결과를 반환합니다. 캐시된 토큰이 없거나 만료가 임박하면 새로 인증합니다.
+   *
+   * @return 파트너 인증 결과 (실패 결과도 그대로 반환되므로 호출 측에서 isSuccess 확인 필요)
+   */
+  public PayplePartnerAuthResult getPartnerAuth() {
+    return tokenCache.get(CACHE_KEY, key -> issue());
+  }
+
+  /**
+   * 페이플이 거절했거나 사용 중 오류가 난 토큰을 폐기합니다. 그사이 새로 발급된 토큰은 유지됩니다.
+   *
+   * @param authResult 폐기할 인증 결과
+   */
+  public void invalidate(PayplePartnerAuthResult authResult) {
+    tokenCache.invalidate(CACHE_KEY, authResult);
+  }
+
+  private ExpiringTokenCache.Issued<PayplePartnerAuthResult> issue() {
+    PayplePartnerAuthResult authResult = paypleSettlementService.requestPartnerAuth();
+    if (!authResult.isSuccess()) {
+      return new ExpiringTokenCache.Issued<>(authResult, Duration.ZERO);
+    }
+
+    Duration ttl = resolveTtl(authResult.getExpiresIn());
+    log.info("페이플 파트너 인증 토큰 갱신 - 유효시간: {}초", ttl.toSeconds());
+    return new ExpiringTokenCache.Issued<>(authResult, ttl);
+  }
+
+  /** expires_in(초)을 유효 시간으로 변환합니다. 값이 없거나 잘못되면 기본 유효 시간을 사용합니다. */
+  private Duration resolveTtl(String expiresIn) {
+    if (expiresIn == null || expiresIn.isBlank()) {
+      return defaultTtl;
+    }
+    try {
+      return Duration.ofSeconds(Long.parseLong(expiresIn.trim()));
+    } catch (NumberFormatException e) {
+      log.warn("페이플 파트너 인증 expires_in 형식 오류 - 기본 유효시간 사용: {}", expiresIn);
+      return defaultTtl;
+    }
+  }
+}
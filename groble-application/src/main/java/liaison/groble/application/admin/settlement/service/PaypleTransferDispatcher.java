@@ -0,0 +1,180 @@
+package liaison.groble.application.admin.settlement.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.json.simple.JSONObject;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.common.executor.ExecutorPool;
+import liaison.groble.application.common.executor.InstrumentedExecutors;
+import liaison.groble.application.payment.exception.PaypleApiException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 페이플 이체 대기 요청 병렬 처리기
+ *
+ * <p>정산 항목별 이체 대기 요청을 최대 transferParallelism건까지 동시에 보냅니다. 한 건이라도 실패하면 아직 시작하지 않은 요청은 건너뛰고, 이미 등록된
+ * 이체 대기 건은 그룹 단위로 취소해 다음 실행에 섞이지 않도록 합니다. DB 트랜잭션 밖에서 호출해야 합니다.
+ */
+@Slf4j
+@Component
+public class PaypleTransferDispatcher implements DisposableBean {
+  private static final String SUCCESS_CODE = "A0000";
+
+  private final PaypleSettlementService paypleSettlementService;
+  private final ThreadPoolTaskExecutor transferExecutor;
+  private final Duration transferTimeout;
+
+  /** 이체 대기 요청 단위 */
+  public record TransferOrder(Long settlementItemId, String amount) {}
+
+  public PaypleTransferDispatcher(
+      PaypleSettlementService paypleSettlementService,
+      MeterRegistry meterRegistry,
+      @Value("${groble.payple-settlement.transfer-parallelism:8}") int transferParallelism,
+      @Value("${groble.payple-settlement.transfer-timeout:2m}") Duration transferTimeout) {
+    this.paypleSettlementService = paypleSettlementService;
+    this.transferTimeout = transferTimeout;
+
+    int parallelism = Math.max(1, transferParallelism);
+    this.transferExecutor =
+        InstrumentedExecutors.create(
+            "payple-transfer", ExecutorPool.fixed(parallelism), meterRegistry);
+  }
+
+  /**
+   * 이체 대기 요청을 병렬로 보내고 그룹키를 반환합니다.
+   *
+   * @param billingTranId 계좌 인증으로 받은 빌링키
+   * @param orders 이체 대기 요청 목록
+   * @param accessToken 파트너 인증 토큰
+   * @return 이체 실행에 사용할 그룹키
+   * @throws PaypleApiException 한 건이라도 실패한 경우 (등록된 이체 대기 건은 취소됨)
+   */
+  public String requestTransfers(
+      String billingTranId, List<TransferOrder> orders, String accessToken) {
+    log.info("페이플 이체 대기 요청 시작 - 항목 수: {}", orders.size());
+
+    AtomicBoolean aborted = new AtomicBoolean();
+    List<CompletableFuture<JSONObject>> futures = new ArrayList<>(orders.size());
+    for (TransferOrder order : orders) {
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () -> requestTransfer(billingTranId, order, accessToken, aborted),
+              transferExecutor));
+    }
+
+    long deadline = System.nanoTime() + transferTimeout.toNanos();
+    String groupKey = null;
+    PaypleApiException failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      TransferOrder order = orders.get(i);
+      JSONObject transferResult;
+      try {
+        transferResult = futures.get(i).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        aborted.set(true);
+        failure = firstFailure(failure, "이체 대기 요청 실패: " + e.getCause().getMessage(), e);
+        continue;
+      } catch (TimeoutException e) {
+        aborted.set(true);
+        failure = firstFailure(failure, "이체 대기 요청 응답 시간 초과", e);
+        continue;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        aborted.set(true);
+        failure = firstFailure(failure, "이체 대기 요청 중단", e);
+        break;
+      }
+
+      // 다른 항목 실패로 요청하지 않은 경우
+      if (transferResult == null) {
+        continue;
+      }
+
+      String itemGroupKey = getString(transferResult, "group_key");
+      if (groupKey == null && itemGroupKey != null) {
+        groupKey = itemGroupKey;
+      }
+
+      String result = getString(transferResult, "result");
+      log.info("정산 항목 {} 이체 대기 요청 완료: {}", order.settlementItemId(), result);
+      if (!SUCCESS_CODE.equals(result)) {
+        String errorMessage = getString(transferResult, "message");
+        log.error("이체 대기 요청 실패 - result: {}, message: {}", result, errorMessage);
+        failure = firstFailure(failure, "이체 대기 요청 실패: " + errorMessage, null);
+      }
+    }
+
+    if (failure == null && groupKey == null) {
+      failure = new PaypleApiException("이체 대기 요청에서 group_key를 추출할 수 없습니다");
+    }
+    if (failure != null) {
+      cancelPendingTransfers(groupKey, accessToken);
+      throw failure;
+    }
+    return groupKey;
+  }
+
+  @Override
+  public void destroy() {
+    transferExecutor.shutdown();
+  }
+
+  private JSONObject requestTransfer(
+      String billingTranId, TransferOrder order, String accessToken, AtomicBoolean aborted) {
+    if (aborted.get()) {
+      return null;
+    }
+    log.info("정산 항목 {} 이체 대기 요청 - 금액: {}원", order.settlementItemId(), order.amount());
+
+    JSONObject transferResult =
+        paypleSettlementService.requestTransfer(billingTranId, order.amount(), accessToken);
+    if (!SUCCESS_CODE.equals(getString(transferResult, "result"))) {
+      aborted.set(true);
+    }
+    return transferResult;
+  }
+
+  /** 실패한 배치의 이체 대기 건을 취소합니다. 취소에 실패해도 원래 실패를 우선 전달합니다. */
+  private void cancelPendingTransfers(String groupKey, String accessToken) {
+    if (groupKey == null) {
+      return;
+    }
+    try {
+      JSONObject cancelResult =
+          paypleSettlementService.requestTransferCancel(groupKey, "ALL", accessToken, "정산 실패");
+      log.info("실패한 정산의 이체 대기 취소 - 결과: {}", getString(cancelResult, "result"));
+    } catch (Exception e) {
+      log.error("실패한 정산의 이체 대기 취소 실패", e);
+    }
+  }
+
+  private static PaypleApiException firstFailure(
+      PaypleApiException current, String message, Throwable cause) {
+    if (current != null) {
+      return current;
+    }
+    return cause != null ? new PaypleApiException(message, cause) : new PaypleApiException(message);
+  }
+
+  private static String getString(JSONObject json, String key) {
+    if (json == null) {
+      return null;
+    }
+    Object value = json.get(key);
+    return value != null ? value.toString() : null;
+  }
+}
@@ -3,6 +3,7 @@ package liaison.groble.application.auth.helper;
 import org.springframework.stereotype.Component;
 
 import liaison.groble.common.exception.EntityNotFoundException;
+import liaison.groble.common.port.security.PrincipalCachePort;
 import liaison.groble.domain.role.entity.Role;
 import liaison.groble.domain.role.repository.RoleRepository;
 import liaison.groble.domain.user.entity.User;
@@ -16,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserHelper {
 
   private final RoleRepository roleRepository;
+  private final PrincipalCachePort principalCachePort;
 
   /** 기본 역할 추가 */
   public void addDefaultRole(User user) {
@@ -37,6 +39,7 @@ public class UserHelper {
 
     if (!hasRole) {
       user.addRole(roleSeller);
+      principalCachePort.evictPrincipal(user.getId());
     }
   }
 }
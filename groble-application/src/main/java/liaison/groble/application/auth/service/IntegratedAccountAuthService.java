@@ -18,6 +18,7 @@ import liaison.groble.application.auth.helper.TermsHelper;
 import liaison.groble.application.auth.helper.TokenHelper;
 import liaison.groble.application.auth.helper.UserHelper;
 import liaison.groble.application.user.service.UserReader;
+import liaison.groble.common.port.security.PrincipalCachePort;
 import liaison.groble.common.port.security.SecurityPort;
 import liaison.groble.domain.market.entity.Market;
 import liaison.groble.domain.market.repository.MarketRepository;
@@ -55,6 +56,7 @@ public class IntegratedAccountAuthService {
   private final MarketRepository marketRepository;
   // Port
   private final SecurityPort securityPort;
+  private final PrincipalCachePort principalCachePort;
   private final VerificationCodePort verificationCodePort;
 
   // Helper
@@ -119,6 +121,7 @@ public class IntegratedAccountAuthService {
 
       existingUser.updateLoginTime();
       User savedUser = userRepository.save(existingUser);
+      principalCachePort.evictPrincipal(savedUser.getId());
       TokenDTO tokenDTO = tokenHelper.issueTokens(savedUser);
       processPostSignUpTasks(signUpDTO.getEmail(), savedUser);
       return buildSignUpResult(signUpDTO.getEmail(), tokenDTO);
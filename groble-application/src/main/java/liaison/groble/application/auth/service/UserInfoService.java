@@ -6,6 +6,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.application.content.service.ContentCacheService;
 import liaison.groble.application.user.service.UserReader;
 import liaison.groble.common.exception.DuplicateNicknameException;
 import liaison.groble.domain.user.entity.User;
@@ -22,6 +23,7 @@ public class UserInfoService {
   // Repository
   private final UserReader userReader;
   private final UserRepository userRepository;
+  private final ContentCacheService contentCacheService;
 
   public String setNickname(Long userId, String nickname) {
     // 1) User 조회
@@ -49,6 +51,7 @@ public class UserInfoService {
     } catch (DataIntegrityViolationException ex) {
       throw new DuplicateNicknameException("이미 사용 중인 닉네임입니다.");
     }
+    contentCacheService.evictSeller(userId);
 
     return user.getNickname();
   }
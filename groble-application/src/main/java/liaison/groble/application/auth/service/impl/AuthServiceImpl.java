@@ -11,6 +11,7 @@ import liaison.groble.application.auth.dto.UserWithdrawalDTO;
 import liaison.groble.application.auth.service.AuthService;
 import liaison.groble.application.content.ContentReader;
 import liaison.groble.application.user.service.UserReader;
+import liaison.groble.common.port.security.PrincipalCachePort;
 import liaison.groble.common.port.security.SecurityPort;
 import liaison.groble.domain.market.repository.MarketRepository;
 import liaison.groble.domain.user.entity.IntegratedAccount;
@@ -31,6 +32,7 @@ public class AuthServiceImpl implements AuthService {
   private final ContentReader contentReader;
   private final UserRepository userRepository;
   private final SecurityPort securityPort;
+  private final PrincipalCachePort principalCachePort;
   private final UserWithdrawalHistoryRepository userWithdrawalHistoryRepository;
   private final MarketRepository marketRepository;
 
@@ -95,6 +97,7 @@ public class AuthServiceImpl implements AuthService {
 
     // 4. 탈퇴 이력 저장
     saveWithdrawalHistory(user, reason, userWithdrawalDTO.getAdditionalComment());
+    principalCachePort.evictPrincipal(userId);
   }
 
   private void clearMarketInfo(User user) {
@@ -0,0 +1,242 @@
+package liaison.groble.application.common.buffer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고정 크기 쓰기 지연(write-behind) 버퍼
+ *
+ * <p>요청 스레드는 큐에 적재만 하고, 전용 플러시 스레드가 건수(flushSize) 또는 주기(flushInterval) 기준으로 모아서 writer에 일괄 전달합니다.
+ * 큐가 가득 차면 {@link DropPolicy}에 따라 처리하며, 종료 시 플러시 스레드가 남은 항목을 모두 플러시합니다. 시작 전에는 호출 스레드에서 즉시
+ * 기록하고, 종료 이후의 적재 요청은 거부합니다.
+ *
+ * @param <T> 적재 항목 타입
+ */
+@Slf4j
+public class WriteBehindBuffer<T> {
+  private static final String METRIC_PREFIX = "write_behind.buffer";
+
+  /** 버퍼 포화 시 처리 정책 */
+  public enum DropPolicy {
+    /** 새로 들어온 항목을 버림 */
+    DROP_NEWEST,
+    /** 가장 오래된 항목을 버리고 새 항목을 적재 */
+    DROP_OLDEST,
+    /** 호출 스레드에서 즉시 기록 (유실 없음, 호출자 지연 발생) */
+    WRITE_THROUGH
+  }
+
+  private final String name;
+  private final BlockingQueue<T> queue;
+  private final int flushSize;
+  private final long flushIntervalNanos;
+  private final DropPolicy dropPolicy;
+  private final Consumer<List<T>> writer;
+
+  private final Counter enqueuedCounter;
+  private final Counter droppedCounter;
+  private final Counter rejectedCounter;
+  private final Counter flushedCounter;
+  private final Counter failedCounter;
+  private final Timer flushTimer;
+
+  // 적재(읽기 잠금)와 종료 전환(쓰기 잠금)을 직렬화해, 종료 후 큐에 남는 항목이 없도록 함
+  private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+  private volatile boolean running;
+  private boolean stopped;
+  private Thread flusher;
+
+  public WriteBehindBuffer(
+      String name,
+      int capacity,
+      int flushSize,
+      Duration flushInterval,
+      DropPolicy dropPolicy,
+      Consumer<List<T>> writer,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.flushSize = Math.max(1, Math.min(flushSize, capacity));
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.dropPolicy = dropPolicy;
+    this.writer = writer;
+
+    Gauge.builder(METRIC_PREFIX + ".size", queue, BlockingQueue::size)
+        .tag("buffer", name)
+        .description("버퍼 적재 건수")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".utilization", queue, q -> (double) q.size() / capacity)
+        .tag("buffer", name)
+        .description("버퍼 사용률 (0~1)")
+        .register(meterRegistry);
+    this.enqueuedCounter = counter(meterRegistry, "enqueued");
+    this.droppedCounter = counter(meterRegistry, "dropped");
+    this.rejectedCounter = counter(meterRegistry, "rejected");
+    this.flushedCounter = counter(meterRegistry, "flushed");
+    this.failedCounter = counter(meterRegistry, "failed");
+    this.flushTimer =
+        Timer.builder(METRIC_PREFIX + ".flush")
+            .tag("buffer", name)
+            .description("일괄 기록 소요 시간")
+            .register(meterRegistry);
+  }
+
+  public synchronized void start() {
+    stateLock.writeLock().lock();
+    try {
+      if (running || stopped) {
+        return;
+      }
+      running = true;
+    } finally {
+      stateLock.writeLock().unlock();
+    }
+    flusher = new Thread(this::runFlushLoop, "write-behind-" + name);
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /**
+   * 플러시 스레드에 종료를 알리고 남은 항목을 모두 플러시할 때까지 기다립니다. 종료 이후 적재 요청은 거부됩니다.
+   *
+   * <p>대기 시간 안에 끝나지 않으면 남은 항목은 플러시 스레드가 계속 기록하며, 두 스레드가 동시에 기록하지 않도록 이 스레드에서는 플러시하지 않습니다.
+   *
+   * @param timeout 플러시 스레드 종료 대기 시간
+   */
+  public synchronized void stop(Duration timeout) {
+    stateLock.writeLock().lock();
+    try {
+      if (!running) {
+        return;
+      }
+      running = false;
+      stopped = true;
+    } finally {
+      stateLock.writeLock().unlock();
+    }
+
+    LockSupport.unpark(flusher);
+    try {
+      flusher.join(timeout.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (flusher.isAlive()) {
+      log.warn("쓰기 지연 버퍼 종료 대기 시간 초과 - buffer: {}, remaining: {}", name, queue.size());
+      return;
+    }
+    log.info("쓰기 지연 버퍼 종료 - buffer: {}, remaining: {}", name, queue.size());
+  }
+
+  /**
+   * 항목을 버퍼에 적재합니다.
+   *
+   * @return 적재(또는 즉시 기록) 여부, 정책에 의해 버려졌거나 종료 이후라면 false
+   */
+  public boolean offer(T item) {
+    stateLock.readLock().lock();
+    try {
+      if (stopped) {
+        rejectedCounter.increment();
+        return false;
+      }
+      if (!running) {
+        write(List.of(item));
+        return true;
+      }
+      return enqueue(item);
+    } finally {
+      stateLock.readLock().unlock();
+    }
+  }
+
+  private boolean enqueue(T item) {
+    if (queue.offer(item)) {
+      enqueuedCounter.increment();
+      if (queue.size() >= flushSize) {
+        LockSupport.unpark(flusher);
+      }
+      return true;
+    }
+
+    switch (dropPolicy) {
+      case DROP_OLDEST:
+        if (queue.poll() != null) {
+          droppedCounter.increment();
+        }
+        if (queue.offer(item)) {
+          enqueuedCounter.increment();
+          return true;
+        }
+        droppedCounter.increment();
+        return false;
+      case WRITE_THROUGH:
+        write(List.of(item));
+        return true;
+      case DROP_NEWEST:
+      default:
+        droppedCounter.increment();
+        return false;
+    }
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void runFlushLoop() {
+    while (running) {
+      // 주기 도래 또는 flushSize 도달 시 unpark로 깨어남
+      LockSupport.parkNanos(this, flushIntervalNanos);
+      drain();
+    }
+    // 종료 신호 이후 남은 항목도 이 스레드에서만 기록
+    drain();
+  }
+
+  private void drain() {
+    List<T> batch = new ArrayList<>(flushSize);
+    while (queue.drainTo(batch, flushSize) > 0) {
+      write(batch);
+      batch = new ArrayList<>(flushSize);
+    }
+  }
+
+  private void write(List<T> batch) {
+    long startedAt = System.nanoTime();
+    try {
+      writer.accept(batch);
+      flushedCounter.increment(batch.size());
+    } catch (Exception e) {
+      failedCounter.increment(batch.size());
+      log.error("쓰기 지연 버퍼 기록 실패 - buffer: {}, size: {}", name, batch.size(), e);
+    } finally {
+      flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_PREFIX + ".items")
+        .tag("buffer", name)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
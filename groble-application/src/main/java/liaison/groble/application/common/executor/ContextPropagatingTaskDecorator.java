@@ -0,0 +1,86 @@
+package liaison.groble.application.common.executor;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 작업을 제출한 스레드의 MDC(traceId/spanId 등)와 SecurityContext를 실행 스레드로 옮기는 TaskDecorator
+ *
+ * <p>실행이 끝나면 실행 스레드의 이전 상태로 되돌리므로 CallerRunsPolicy로 호출 스레드에서 실행되어도 요청 컨텍스트가 훼손되지
+ * 않습니다. traceId가 없는 작업(스케줄러 등)은 실행마다 새 traceId를 부여합니다. 대기열 대기 시간과 실행 시간을 풀 이름 태그로
+ * 기록합니다.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+  static final String MDC_KEY_TRACE_ID = "traceId"; // TraceIdFilter와 같은 키
+
+  private final Timer queueWait;
+  private final Timer execution;
+
+  /**
+   * @param recordQueueWait 제출 시각부터 실행 시작까지를 기록할지 여부 (반복 실행되는 스케줄 작업은 제출 시각이 한 번뿐이므로
+   *     false)
+   */
+  public ContextPropagatingTaskDecorator(
+      String name, MeterRegistry meterRegistry, boolean recordQueueWait) {
+    this.queueWait =
+        recordQueueWait
+            ? Timer.builder("groble.executor.queue.wait")
+                .description("작업 제출부터 실행 시작까지 대기 시간")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+            : null;
+    this.execution =
+        Timer.builder("groble.executor.execution")
+            .description("작업 실행 시간")
+            .tag("name", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  @Override
+  public Runnable decorate(Runnable task) {
+    Map<String, String> capturedMdc = MDC.getCopyOfContextMap();
+    SecurityContext capturedSecurity = SecurityContextHolder.getContext();
+    long submittedAt = System.nanoTime();
+
+    return () -> {
+      long startedAt = System.nanoTime();
+      if (queueWait != null) {
+        queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+      }
+
+      Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+      SecurityContext previousSecurity = SecurityContextHolder.getContext();
+      applyMdc(capturedMdc);
+      if (MDC.get(MDC_KEY_TRACE_ID) == null) {
+        MDC.put(MDC_KEY_TRACE_ID, UUID.randomUUID().toString().replace("-", ""));
+      }
+      SecurityContextHolder.setContext(capturedSecurity);
+      try {
+        task.run();
+      } finally {
+        execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        applyMdc(previousMdc);
+        SecurityContextHolder.setContext(previousSecurity);
+      }
+    };
+  }
+
+  private static void applyMdc(Map<String, String> contextMap) {
+    if (contextMap == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(contextMap);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package liaison.groble.application.common.executor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 작업 종류별로 분리된 스레드 풀(벌크헤드) 설정 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorPool {
+  private int coreSize = 1;
+  private int maxSize = 1;
+  private int queueCapacity = Integer.MAX_VALUE;
+  private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+  private Duration awaitTermination = Duration.ofSeconds(30);
+
+  public ExecutorPool(
+      int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+    this(coreSize, maxSize, queueCapacity, rejectionPolicy, Duration.ofSeconds(30));
+  }
+
+  /** 크기가 고정되고 대기열 제한이 없는 풀 */
+  public static ExecutorPool fixed(int size) {
+    return new ExecutorPool(size, size, Integer.MAX_VALUE, RejectionPolicy.ABORT);
+  }
+
+  /** 풀과 대기열이 모두 찬 뒤 들어온 작업의 처리 방식 */
+  public enum RejectionPolicy {
+    /** 제출한 스레드에서 직접 실행 (유실 없음, 요청 스레드가 지연될 수 있음) */
+    CALLER_RUNS,
+    /** RejectedExecutionException 발생 */
+    ABORT,
+    /** 작업을 버림 (조회수·내부 알림처럼 유실을 허용하는 작업) */
+    DISCARD;
+
+    RejectedExecutionHandler toHandler() {
+      return switch (this) {
+        case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+        case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+      };
+    }
+  }
+}
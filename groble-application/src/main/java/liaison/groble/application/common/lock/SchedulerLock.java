@@ -0,0 +1,50 @@
+package liaison.groble.application.common.lock;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import liaison.groble.domain.lock.repository.SchedulerLockRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클러스터 단위 스케줄러 잠금
+ *
+ * <p>모든 노드에서 같은 주기로 실행되는 작업 중 한 노드만 수행하도록 DB 잠금을 획득합니다. 잠금에는 만료 시각이 있어 보유 노드가 비정상 종료되어도
+ * 만료 후 다른 노드가 이어받으며, 오래 걸리는 작업은 진행 중에 {@link #extend}로 만료 시각을 연장해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLock {
+  private final SchedulerLockRepository schedulerLockRepository;
+  private final String nodeId = resolveNodeId();
+
+  public boolean tryAcquire(String name, Duration lease) {
+    return schedulerLockRepository.tryAcquire(name, nodeId, lease);
+  }
+
+  /** @return 잠금을 여전히 보유하고 있으면 true, 만료되어 다른 노드가 가져갔으면 false */
+  public boolean extend(String name, Duration lease) {
+    return schedulerLockRepository.extend(name, nodeId, lease);
+  }
+
+  public void release(String name) {
+    schedulerLockRepository.release(name, nodeId);
+  }
+
+  private static String resolveNodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    if (host.length() > 40) {
+      host = host.substring(0, 40);
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
@@ -0,0 +1,66 @@
+package liaison.groble.application.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 버킷 처리율 제한기
+ *
+ * <p>초당 permitsPerSecond개씩 토큰이 채워지고 최대 burst개까지 쌓입니다. {@link #acquire()}는 토큰이 생길 때까지 호출 스레드를
+ * 대기시키므로, 여러 발송 스레드가 하나의 버킷을 공유하면 전체 발송 속도가 설정값을 넘지 않습니다.
+ */
+public class TokenBucket {
+  private final long nanosPerPermit;
+  private final long maxStoredNanos;
+
+  // 다음 토큰이 발급 가능한 시각 (과거일수록 쌓인 토큰이 많음)
+  private long nextFreeNanos;
+
+  public TokenBucket(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다: " + permitsPerSecond);
+    }
+    this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    this.maxStoredNanos = nanosPerPermit * (Math.max(1, burst) - 1);
+    this.nextFreeNanos = System.nanoTime() - maxStoredNanos;
+  }
+
+  /** 토큰 하나를 얻을 때까지 대기합니다. */
+  public void acquire() {
+    long waitNanos = reserve(System.nanoTime());
+    while (waitNanos > 0) {
+      long deadline = System.nanoTime() + waitNanos;
+      LockSupport.parkNanos(this, waitNanos);
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      waitNanos = deadline - System.nanoTime();
+    }
+  }
+
+  /** 대기 없이 토큰을 얻을 수 있으면 소비하고 true를 반환합니다. */
+  public synchronized boolean tryAcquire() {
+    long now = System.nanoTime();
+    if (now - nextFreeNanos < 0) {
+      return false;
+    }
+    reserve(now);
+    return true;
+  }
+
+  /**
+   * 토큰 하나를 예약하고 사용 가능해질 때까지 남은 시간을 반환합니다.
+   *
+   * @return 대기해야 할 나노초 (0이면 즉시 사용 가능)
+   */
+  synchronized long reserve(long now) {
+    // burst를 넘는 유휴 시간은 토큰으로 쌓지 않음
+    long earliest = now - maxStoredNanos;
+    if (nextFreeNanos - earliest < 0) {
+      nextFreeNanos = earliest;
+    }
+    long grantedAt = nextFreeNanos;
+    nextFreeNanos += nanosPerPermit;
+    return Math.max(0L, grantedAt - now);
+  }
+}
@@ -26,7 +26,7 @@ public class SmsService {
   }
 
   // 비동기 SMS 전송
-  @Async
+  @Async("notificationExecutor")
   public CompletableFuture<Void> sendSmsAsync(
       String phoneNumber, SmsTemplate template, Object... args) {
     String content = template.format(args);
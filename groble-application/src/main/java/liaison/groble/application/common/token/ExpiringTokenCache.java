@@ -0,0 +1,115 @@
+package liaison.groble.application.common.token;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 만료 시간이 있는 인증 토큰 캐시
+ *
+ * <p>토큰이 없거나 만료(refreshBefore만큼 앞당겨 판단)되면 발급 함수를 호출합니다. 같은 키에 대해 동시에 갱신이 필요해도 발급은 한 스레드만
+ * 수행하고(single flight), 나머지 스레드는 그 결과를 기다려 함께 사용합니다. 유효 시간이 0 이하인 토큰은 캐시하지 않습니다.
+ *
+ * @param <K> 토큰 구분 키
+ * @param <V> 토큰 타입
+ */
+public class ExpiringTokenCache<K, V> {
+
+  /** 발급된 토큰과 유효 시간 */
+  public record Issued<V>(V value, Duration ttl) {}
+
+  private final long refreshBeforeNanos;
+  private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  public ExpiringTokenCache(Duration refreshBefore) {
+    this.refreshBeforeNanos = refreshBefore.toNanos();
+  }
+
+  /**
+   * 유효한 토큰을 반환하고, 없으면 발급합니다.
+   *
+   * @param key 토큰 구분 키
+   * @param issuer 토큰 발급 함수 (발급 실패 시 예외는 대기 중인 모든 호출자에게 전달됨)
+   * @return 토큰
+   */
+  public V get(K key, Function<? super K, Issued<V>> issuer) {
+    V cached = validValue(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      // 앞선 발급이 막 끝났을 수 있으므로 다시 확인
+      cached = validValue(key);
+      if (cached != null) {
+        call.complete(cached);
+        return cached;
+      }
+
+      Issued<V> issued = issuer.apply(key);
+      long lifetimeNanos = issued.ttl().toNanos() - refreshBeforeNanos;
+      if (lifetimeNanos > 0) {
+        entries.put(key, new Entry<>(issued.value(), System.nanoTime() + lifetimeNanos));
+      } else {
+        entries.remove(key);
+      }
+      call.complete(issued.value());
+      return issued.value();
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  /** 키의 토큰을 폐기합니다. */
+  public void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * 캐시된 토큰이 주어진 토큰과 같을 때만 폐기합니다. 다른 스레드가 이미 새로 발급한 토큰은 유지됩니다.
+   *
+   * @param key 토큰 구분 키
+   * @param value 사용 중 거절된 토큰
+   */
+  public void invalidate(K key, V value) {
+    entries.computeIfPresent(key, (k, entry) -> Objects.equals(entry.value, value) ? null : entry);
+  }
+
+  private V validValue(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry != null && entry.expiresAtNanos - System.nanoTime() > 0) {
+      return entry.value;
+    }
+    return null;
+  }
+
+  private V await(CompletableFuture<V> call) {
+    try {
+      return call.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private record Entry<V>(V value, long expiresAtNanos) {}
+}
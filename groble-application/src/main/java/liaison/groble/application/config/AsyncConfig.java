@@ -2,7 +2,6 @@ package liaison.groble.application.config;
 
 import java.util.Arrays;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -10,17 +9,27 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import liaison.groble.application.common.executor.InstrumentedExecutors;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 비동기·스케줄 작업용 스레드 풀 설정
+ *
+ * <p>작업 종류별로 풀을 분리(벌크헤드)해 조회수 집계나 웹훅 적체가 결제 알림 처리 스레드를 점유하지 않도록 합니다. 모든 풀은 요청의
+ * MDC(traceId/spanId)와 SecurityContext를 실행 스레드로 전파하고 풀 이름별 지표를 남깁니다.
+ */
 @Slf4j
 @EnableAsync
 @Configuration
 @RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
   private final MeterRegistry meterRegistry;
+  private final ExecutorProperties executorProperties;
 
   /**
    * 1) 앱 내 일반 비동기 작업용 Executor
@@ -29,37 +38,34 @@ public class AsyncConfig implements AsyncConfigurer {
    */
   @Bean
   public ThreadPoolTaskExecutor defaultAsyncExecutor() {
-    ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
-    exec.setCorePoolSize(4); // 평상시 4스레드 유지
-    exec.setMaxPoolSize(10); // 피크 시 최대 10스레드
-    exec.setQueueCapacity(500); // 최대 500개 대기
-    exec.setThreadNamePrefix("app-async-"); // 스레드명 접두어
-    exec.setRejectedExecutionHandler(
-        new ThreadPoolExecutor.CallerRunsPolicy() // 큐 만료 시 호출 스레드에서 실행
-        );
-    exec.initialize();
-    return exec;
+    return InstrumentedExecutors.create(
+        "app-async", executorProperties.getDefaults(), meterRegistry);
   }
 
-  /**
-   * 2) 이메일 전송 전용 Executor
-   *
-   * <p>- SMTP 왕복 200~300ms + 렌더링 오버헤드 ~50ms 가정
-   *
-   * <p>- core 2 스레드로 약 5TPS, max 5 스레드로 약 12TPS 처리 가능
-   */
-  @Bean(name = "mailExecutor")
-  public ThreadPoolTaskExecutor mailExecutor() {
-    ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
-    exec.setCorePoolSize(2); // 평상시 2스레드
-    exec.setMaxPoolSize(5); // 피크 시 최대 5스레드
-    exec.setQueueCapacity(200); // 최대 200개 대기 (≈40초 버퍼)
-    exec.setThreadNamePrefix("mail-async-"); // 메일 전용 스레드명
-    exec.setWaitForTasksToCompleteOnShutdown(true);
-    exec.setAwaitTerminationSeconds(30); // 종료 시 최대 30초 대기
-    exec.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-    exec.initialize();
-    return exec;
+  /** 2) 콘텐츠·마켓 조회수 집계용 Executor */
+  @Bean
+  public ThreadPoolTaskExecutor viewCountExecutor() {
+    return InstrumentedExecutors.create("view-count", executorProperties.getViews(), meterRegistry);
+  }
+
+  /** 3) 결제 완료 알림, SMS 등 사용자 알림용 Executor */
+  @Bean
+  public ThreadPoolTaskExecutor notificationExecutor() {
+    return InstrumentedExecutors.create(
+        "notification", executorProperties.getNotifications(), meterRegistry);
+  }
+
+  /** 4) Discord 웹훅 등 내부 알림용 Executor */
+  @Bean
+  public ThreadPoolTaskExecutor webhookExecutor() {
+    return InstrumentedExecutors.create("webhook", executorProperties.getWebhooks(), meterRegistry);
+  }
+
+  /** {@code @Scheduled} 작업용 스케줄러 (기본 단일 스레드 대신 풀 사용, 실행마다 새 traceId 부여) */
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler() {
+    return InstrumentedExecutors.createScheduler(
+        "scheduler", executorProperties.getSchedulerPoolSize(), meterRegistry);
   }
 
   /**
@@ -0,0 +1,33 @@
+package liaison.groble.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.common.executor.ExecutorPool;
+import liaison.groble.application.common.executor.ExecutorPool.RejectionPolicy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/** 작업 종류별 비동기 스레드 풀 설정 (groble.executor.*) */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "groble.executor")
+public class ExecutorProperties {
+
+  /** 대상을 지정하지 않은 @Async 작업 */
+  private ExecutorPool defaults = new ExecutorPool(4, 10, 500, RejectionPolicy.CALLER_RUNS);
+
+  /** 콘텐츠·마켓 조회수 집계 (포화 시 요청 스레드를 막지 않고 버림) */
+  private ExecutorPool views = new ExecutorPool(2, 4, 2_000, RejectionPolicy.DISCARD);
+
+  /** 결제 완료 알림, SMS 등 사용자 알림 (유실 없이 호출 스레드에서 실행) */
+  private ExecutorPool notifications = new ExecutorPool(4, 8, 1_000, RejectionPolicy.CALLER_RUNS);
+
+  /** Discord 웹훅 등 내부 알림 (포화 시 버림) */
+  private ExecutorPool webhooks = new ExecutorPool(2, 4, 500, RejectionPolicy.DISCARD);
+
+  /** {@code @Scheduled} 작업 스레드 수 */
+  private int schedulerPoolSize = 4;
+}
@@ -0,0 +1,24 @@
+package liaison.groble.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import liaison.groble.application.common.ratelimit.TokenBucket;
+
+/**
+ * 알림톡 발송 처리율 제한 설정
+ *
+ * <p>비즈뿌리오 초당 발송 한도는 노드 단위로 적용됩니다. 예약 알림을 포함한 모든 알림톡은 발송 큐를 거치므로 큐 워커가 이 토큰 버킷으로 발송 속도를
+ * 제한합니다.
+ */
+@Configuration
+public class KakaoRateLimitConfig {
+
+  @Bean
+  public TokenBucket kakaoSendRateLimiter(
+      @Value("${groble.kakao-queue.rate-per-second:30}") double ratePerSecond,
+      @Value("${groble.kakao-queue.burst:30}") int burst) {
+    return new TokenBucket(ratePerSecond, burst);
+  }
+}
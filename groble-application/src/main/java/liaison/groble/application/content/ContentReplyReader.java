@@ -19,4 +19,8 @@ public class ContentReplyReader {
   public List<FlatReviewReplyDTO> findRepliesByReviewId(Long reviewId) {
     return contentReplyCustomRepository.findRepliesByReviewId(reviewId);
   }
+
+  public List<FlatReviewReplyDTO> findRepliesByReviewIds(List<Long> reviewIds) {
+    return contentReplyCustomRepository.findRepliesByReviewIds(reviewIds);
+  }
 }
@@ -9,11 +9,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import liaison.groble.common.exception.EntityNotFoundException;
+import liaison.groble.domain.content.dto.ContentReviewCursor;
 import liaison.groble.domain.content.dto.FlatContentReviewDetailDTO;
 import liaison.groble.domain.content.dto.FlatContentReviewReplyDTO;
+import liaison.groble.domain.content.dto.FlatContentReviewSummaryDTO;
 import liaison.groble.domain.content.entity.ContentReview;
+import liaison.groble.domain.content.enums.ReviewSortType;
 import liaison.groble.domain.content.repository.ContentReviewCustomRepository;
 import liaison.groble.domain.content.repository.ContentReviewRepository;
+import liaison.groble.domain.content.repository.ContentReviewSummaryRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ContentReviewReader {
   private final ContentReviewCustomRepository contentReviewCustomRepository;
   private final ContentReviewRepository contentReviewRepository;
+  private final ContentReviewSummaryRepository contentReviewSummaryRepository;
 
   public ContentReview getContentReviewById(Long reviewId) {
     return contentReviewRepository
@@ -80,6 +85,16 @@ public class ContentReviewReader {
     return contentReviewCustomRepository.findReviewsWithRepliesByContentId(contentId);
   }
 
+  public List<FlatContentReviewReplyDTO> findReviewsByContentIdAfter(
+      Long contentId, ReviewSortType sortType, ContentReviewCursor cursor, int limit) {
+    return contentReviewCustomRepository.findReviewsByContentIdAfter(
+        contentId, sortType, cursor, limit);
+  }
+
+  public Optional<FlatContentReviewSummaryDTO> getReviewSummary(Long contentId) {
+    return contentReviewSummaryRepository.findByContentId(contentId);
+  }
+
   public Page<FlatContentReviewDetailDTO> getContentReviews(
       Long userId, Long contentId, Pageable pageable) {
     return contentReviewCustomRepository.getContentReviewPageDTOs(userId, contentId, pageable);
@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import liaison.groble.domain.content.entity.ContentReview;
 import liaison.groble.domain.content.repository.ContentReviewCustomRepository;
 import liaison.groble.domain.content.repository.ContentReviewRepository;
+import liaison.groble.domain.content.repository.ContentReviewSummaryRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,11 +16,17 @@ import lombok.RequiredArgsConstructor;
 public class ContentReviewWriter {
   private final ContentReviewCustomRepository contentReviewCustomRepository;
   private final ContentReviewRepository contentReviewRepository;
+  private final ContentReviewSummaryRepository contentReviewSummaryRepository;
 
   public ContentReview save(ContentReview contentReview) {
     return contentReviewRepository.save(contentReview);
   }
 
+  /** 변경 내용을 즉시 DB에 반영합니다. 이어서 {@link #refreshReviewSummary}를 호출할 때 사용합니다. */
+  public ContentReview saveAndFlush(ContentReview contentReview) {
+    return contentReviewRepository.saveAndFlush(contentReview);
+  }
+
   public void updateContentReviewStatusToDeleteRequested(Long userId, Long reviewId) {
     contentReviewCustomRepository.updateContentReviewStatusToDeleteRequested(userId, reviewId);
   }
@@ -31,4 +38,12 @@ public class ContentReviewWriter {
   public void deleteGuestContentReview(Long guestUserId, Long reviewId) {
     contentReviewCustomRepository.deleteGuestContentReview(guestUserId, reviewId);
   }
+
+  /**
+   * 리뷰 생성·수정·상태 변경 후 콘텐츠의 리뷰 집계(평균 별점, 리뷰 수, 별점 분포)를 갱신합니다. 집계는 DB의 리뷰 행으로 다시 계산하므로, 엔티티 변경은
+   * {@link #saveAndFlush}로 먼저 반영해야 합니다.
+   */
+  public void refreshReviewSummary(Long contentId) {
+    contentReviewSummaryRepository.refresh(contentId);
+  }
 }
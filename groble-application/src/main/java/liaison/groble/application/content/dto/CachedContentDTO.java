@@ -0,0 +1,32 @@
+package liaison.groble.application.content.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 캐시에서 조회한 값과 직렬화 결과 기반의 강한(strong) ETag */
+@Getter
+@RequiredArgsConstructor
+public class CachedContentDTO<T> {
+  private final T value;
+  private final String eTag;
+
+  /** 여러 캐시 값으로 구성된 응답의 ETag를 만듭니다. 하나라도 ETag가 없으면 null을 반환합니다. */
+  public static String combineETags(CachedContentDTO<?>... parts) {
+    StringBuilder joined = new StringBuilder();
+    for (CachedContentDTO<?> part : parts) {
+      if (part.getETag() == null) {
+        return null;
+      }
+      joined.append(part.getETag());
+    }
+    return toETag(joined.toString());
+  }
+
+  public static String toETag(String serialized) {
+    return "\"" + DigestUtils.md5DigestAsHex(serialized.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+}
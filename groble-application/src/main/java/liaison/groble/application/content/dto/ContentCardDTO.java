@@ -5,9 +5,11 @@ import java.time.LocalDateTime;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class ContentCardDTO {
   private Long contentId;
   private LocalDateTime createdAt;
@@ -5,9 +5,11 @@ import java.util.List;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class ContentDetailDTO {
   private Long contentId;
   private String status;
@@ -6,9 +6,11 @@ import liaison.groble.domain.content.enums.ContentType;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class ContentOptionDTO {
   private Long contentOptionId;
   private String name;
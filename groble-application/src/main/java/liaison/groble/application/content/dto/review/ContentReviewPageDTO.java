@@ -0,0 +1,20 @@
+package liaison.groble.application.content.dto.review;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ContentReviewPageDTO {
+  private BigDecimal averageRating;
+  private Long totalReviewCount;
+  // 별점(1~5)별 리뷰 수
+  private Map<Integer, Long> ratingDistribution;
+  private List<ContentDetailReviewDTO> reviews;
+  private String nextCursor;
+  private boolean hasNext;
+}
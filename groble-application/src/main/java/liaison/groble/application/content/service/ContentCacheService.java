@@ -0,0 +1,238 @@
+package liaison.groble.application.content.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.dto.CachedContentDTO;
+import liaison.groble.common.cache.LocalTtlCache;
+import liaison.groble.domain.content.entity.Content;
+import liaison.groble.domain.content.enums.ContentPaymentType;
+import liaison.groble.domain.port.ContentCachePort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 콘텐츠 응답 2단계 캐시 (로컬 LRU → Redis → DB)
+ *
+ * <p>캐시 키에 범위(scope)별 버전을 포함시켜, 무효화는 값 삭제 대신 버전 증가로 처리합니다. 버전은 Redis에 두고 인스턴스별로 짧게 캐시하므로, 다른
+ * 인스턴스에는 최대 version-ttl 이후 변경이 반영됩니다. 값은 JSON으로 직렬화해 저장하며 직렬화 결과로 강한 ETag를 계산합니다.
+ *
+ * <p>판매자 정보가 바뀌면 해당 판매자의 콘텐츠 범위만 버전을 올리므로, 다른 판매자의 콘텐츠 캐시는 유지됩니다. 콘텐츠 상세에는 옵션 판매 이력도
+ * 담기므로 판매가 생기면 그 콘텐츠 범위만 버전을 올립니다.
+ */
+@Slf4j
+@Service
+public class ContentCacheService {
+  public static final String FEED_SCOPE = "feed";
+  private static final String METRIC_NAME = "content.cache.lookups";
+
+  private final ContentCachePort contentCachePort;
+  private final ContentReader contentReader;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+  private final LocalTtlCache<String, CachedContentDTO<?>> localCache;
+  private final LocalTtlCache<String, Long> localVersions;
+  private final Duration redisTtl;
+
+  private final Counter localHitCounter;
+  private final Counter redisHitCounter;
+  private final Counter missCounter;
+
+  public ContentCacheService(
+      ContentCachePort contentCachePort,
+      ContentReader contentReader,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${groble.content-cache.local-max-size:2000}") int localMaxSize,
+      @Value("${groble.content-cache.local-ttl:60s}") Duration localTtl,
+      @Value("${groble.content-cache.version-ttl:5s}") Duration versionTtl,
+      @Value("${groble.content-cache.redis-ttl:30m}") Duration redisTtl) {
+    this.contentCachePort = contentCachePort;
+    this.contentReader = contentReader;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.localCache = new LocalTtlCache<>(localMaxSize, localTtl);
+    this.localVersions = new LocalTtlCache<>(localMaxSize, versionTtl);
+    this.redisTtl = redisTtl;
+
+    this.localHitCounter = counter(meterRegistry, "local", "hit");
+    this.redisHitCounter = counter(meterRegistry, "redis", "hit");
+    this.missCounter = counter(meterRegistry, "redis", "miss");
+  }
+
+  public static String contentScope(Long contentId) {
+    return "content:" + contentId;
+  }
+
+  /**
+   * 캐시에서 값을 조회하고, 없으면 loader로 조회한 뒤 두 계층에 저장합니다. 캐시 적중 시 DB 커넥션을 사용하지 않도록 loader만 읽기 전용
+   * 트랜잭션에서 실행합니다.
+   *
+   * @param name 캐시 항목 이름 (예: detail:1)
+   * @param scopes 이 항목을 무효화하는 범위 목록
+   * @param type 역직렬화 타입
+   * @param loader 캐시 미스 시 DB 조회 함수
+   */
+  public <T> CachedContentDTO<T> getOrLoad(
+      String name, List<String> scopes, TypeReference<T> type, Supplier<T> loader) {
+    String key = versionedKey(name, scopes);
+
+    @SuppressWarnings("unchecked")
+    CachedContentDTO<T> cached = (CachedContentDTO<T>) localCache.get(key);
+    if (cached != null) {
+      localHitCounter.increment();
+      return cached;
+    }
+
+    cached = getFromRedis(key, type);
+    if (cached != null) {
+      redisHitCounter.increment();
+      localCache.put(key, cached);
+      return cached;
+    }
+    missCounter.increment();
+
+    T value = readOnlyTransaction.execute(status -> loader.get());
+    String serialized;
+    try {
+      serialized = objectMapper.writeValueAsString(value);
+    } catch (Exception e) {
+      log.warn("콘텐츠 캐시 직렬화 실패 - key: {}", key, e);
+      return new CachedContentDTO<>(value, null);
+    }
+    cached = new CachedContentDTO<>(value, CachedContentDTO.toETag(serialized));
+    localCache.put(key, cached);
+    putToRedis(key, serialized);
+    return cached;
+  }
+
+  /** 콘텐츠 상세와 홈/동적 목록 캐시를 커밋 이후 무효화합니다. */
+  public void evictContent(Long contentId) {
+    if (contentId == null) {
+      return;
+    }
+    afterCommit(() -> incrementVersions(List.of(contentScope(contentId), FEED_SCOPE)));
+  }
+
+  /**
+   * 판매로 옵션 판매 이력(hasSalesHistory) 표시가 바뀔 수 있는 콘텐츠 상세 캐시를 커밋 이후 무효화합니다. 판매 이력은 단건 결제 콘텐츠에는 노출되지
+   * 않아 무효화하지 않으며, 홈/동적 목록은 판매 이력을 담지 않아 유지합니다.
+   */
+  public void evictSoldContent(Content content) {
+    if (content == null
+        || content.getId() == null
+        || content.getPaymentType() == ContentPaymentType.ONE_TIME) {
+      return;
+    }
+    Long contentId = content.getId();
+    afterCommit(() -> incrementVersions(List.of(contentScope(contentId))));
+  }
+
+  /** 판매자 정보(닉네임, 프로필 이미지, 연락처)가 포함된 해당 판매자의 콘텐츠 캐시를 커밋 이후 무효화합니다. */
+  public void evictSeller(Long sellerId) {
+    if (sellerId == null) {
+      return;
+    }
+    List<String> scopes = new ArrayList<>();
+    for (Long contentId : contentReader.findIdsByUserId(sellerId)) {
+      scopes.add(contentScope(contentId));
+    }
+    scopes.add(FEED_SCOPE);
+    afterCommit(() -> incrementVersions(scopes));
+  }
+
+  private void afterCommit(Runnable action) {
+    // 커밋 전에 무효화하면 동시 요청이 변경 전 값을 새 버전으로 다시 캐시할 수 있음
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+      return;
+    }
+    action.run();
+  }
+
+  private void incrementVersions(List<String> scopes) {
+    for (String scope : scopes) {
+      try {
+        localVersions.put(scope, contentCachePort.incrementVersion(scope));
+      } catch (Exception e) {
+        localVersions.invalidate(scope);
+        log.warn("콘텐츠 캐시 무효화 실패 - scope: {}", scope, e);
+      }
+    }
+  }
+
+  private String versionedKey(String name, List<String> scopes) {
+    StringBuilder key = new StringBuilder(name);
+    for (String scope : scopes) {
+      key.append(':').append(currentVersion(scope));
+    }
+    return key.toString();
+  }
+
+  private long currentVersion(String scope) {
+    Long version = localVersions.get(scope);
+    if (version != null) {
+      return version;
+    }
+    try {
+      version = contentCachePort.getVersion(scope);
+    } catch (Exception e) {
+      // Redis 장애 시 로컬 캐시만 사용 (같은 인스턴스의 무효화는 로컬 버전으로 반영)
+      log.warn("콘텐츠 캐시 버전 조회 실패 - scope: {}", scope, e);
+      return -1L;
+    }
+    localVersions.put(scope, version);
+    return version;
+  }
+
+  private <T> CachedContentDTO<T> getFromRedis(String key, TypeReference<T> type) {
+    try {
+      String serialized = contentCachePort.get(key);
+      if (serialized != null) {
+        return new CachedContentDTO<>(
+            objectMapper.readValue(serialized, type), CachedContentDTO.toETag(serialized));
+      }
+    } catch (Exception e) {
+      log.warn("콘텐츠 캐시 조회 실패 - key: {}", key, e);
+    }
+    return null;
+  }
+
+  private void putToRedis(String key, String serialized) {
+    try {
+      contentCachePort.put(key, serialized, redisTtl);
+    } catch (Exception e) {
+      log.warn("콘텐츠 캐시 저장 실패 - key: {}", key, e);
+    }
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+    return Counter.builder(METRIC_NAME)
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
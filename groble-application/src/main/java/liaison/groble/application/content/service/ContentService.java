@@ -2,16 +2,21 @@ package liaison.groble.application.content.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -19,8 +24,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.ContentReplyReader;
 import liaison.groble.application.content.ContentReviewReader;
+import liaison.groble.application.content.dto.CachedContentDTO;
 import liaison.groble.application.content.dto.ContentCardDTO;
 import liaison.groble.application.content.dto.ContentDTO;
 import liaison.groble.application.content.dto.ContentDetailDTO;
@@ -28,6 +37,7 @@ import liaison.groble.application.content.dto.ContentOptionDTO;
 import liaison.groble.application.content.dto.DynamicContentDTO;
 import liaison.groble.application.content.dto.review.ContentDetailReviewDTO;
 import liaison.groble.application.content.dto.review.ContentReviewDTO;
+import liaison.groble.application.content.dto.review.ContentReviewPageDTO;
 import liaison.groble.application.content.dto.review.ReviewReplyDTO;
 import liaison.groble.application.content.exception.ContentEditException;
 import liaison.groble.application.content.exception.InActiveContentException;
@@ -38,10 +48,14 @@ import liaison.groble.application.user.service.UserReader;
 import liaison.groble.common.exception.ContactNotFoundException;
 import liaison.groble.common.exception.EntityNotFoundException;
 import liaison.groble.common.exception.ForbiddenException;
+import liaison.groble.common.exception.InvalidRequestException;
 import liaison.groble.common.response.PageResponse;
+import liaison.groble.domain.content.dto.ContentReviewCursor;
 import liaison.groble.domain.content.dto.FlatContentPreviewDTO;
 import liaison.groble.domain.content.dto.FlatContentReviewReplyDTO;
+import liaison.groble.domain.content.dto.FlatContentReviewSummaryDTO;
 import liaison.groble.domain.content.dto.FlatDynamicContentDTO;
+import liaison.groble.domain.content.dto.FlatReviewReplyDTO;
 import liaison.groble.domain.content.entity.Category;
 import liaison.groble.domain.content.entity.CoachingOption;
 import liaison.groble.domain.content.entity.Content;
@@ -51,6 +65,7 @@ import liaison.groble.domain.content.enums.AdminContentCheckingStatus;
 import liaison.groble.domain.content.enums.ContentPaymentType;
 import liaison.groble.domain.content.enums.ContentStatus;
 import liaison.groble.domain.content.enums.ContentType;
+import liaison.groble.domain.content.enums.ReviewSortType;
 import liaison.groble.domain.content.enums.SubscriptionSellStatus;
 import liaison.groble.domain.content.repository.CategoryRepository;
 import liaison.groble.domain.content.repository.ContentCustomRepository;
@@ -78,6 +93,7 @@ public class ContentService {
   private final UserReader userReader;
   private final ContentReader contentReader;
   private final ContentReviewReader contentReviewReader;
+  private final ContentReplyReader contentReplyReader;
   private final SellerContactReader sellerContactReader;
 
   // Repository
@@ -90,6 +106,8 @@ public class ContentService {
   // Service
   private final DiscordContentRegisterReportService discordContentRegisterReportService;
   private final SubscriptionService subscriptionService;
+  private final ContentViewCountBuffer contentViewCountBuffer;
+  private final ContentCacheService contentCacheService;
 
   @Transactional(readOnly = true)
   public ContentReviewDTO getContentReviews(Long contentId, String sort, Long userId) {
@@ -100,12 +118,9 @@ public class ContentService {
         flatList.stream().collect(Collectors.groupingBy(FlatContentReviewReplyDTO::getReviewId));
 
     List<ContentDetailReviewDTO> reviews =
-        groupedByReview.entrySet().stream()
+        groupedByReview.values().stream()
             .map(
-                entry -> {
-                  List<FlatContentReviewReplyDTO> reviewGroup = entry.getValue();
-                  FlatContentReviewReplyDTO firstRow = reviewGroup.get(0);
-
+                reviewGroup -> {
                   List<ReviewReplyDTO> replies =
                       reviewGroup.stream()
                           .filter(row -> row.getReplyId() != null)
@@ -118,39 +133,170 @@ public class ContentService {
                                       .replyContent(row.getReplyContent())
                                       .build())
                           .collect(Collectors.toList());
-                  return ContentDetailReviewDTO.builder()
-                      .reviewId(firstRow.getReviewId())
-                      .isReviewManage(
-                          userId != null && userId.equals(firstRow.getReviewerId()) ? true : false)
-                      .createdAt(firstRow.getReviewCreatedAt())
-                      .reviewerProfileImageUrl(firstRow.getReviewerProfileImageUrl())
-                      .reviewerNickname(maskNickname(firstRow.getReviewerNickname()))
-                      .reviewContent(firstRow.getReviewContent())
-                      .selectedOptionName(firstRow.getSelectedOptionName())
-                      .rating(firstRow.getRating())
-                      .merchantUid(firstRow.getMerchantUid())
-                      .reviewReplies(replies)
-                      .build();
+                  return toContentDetailReviewDTO(reviewGroup.get(0), replies, userId);
                 })
             .sorted(getComparator(sort))
             .collect(Collectors.toList());
 
-    BigDecimal averageRating =
-        reviews.isEmpty()
-            ? BigDecimal.ZERO
-            : reviews.stream()
-                .map(ContentDetailReviewDTO::getRating)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(reviews.size()), 2, RoundingMode.HALF_UP);
-
+    // 평균 별점과 리뷰 수는 리뷰 작성·삭제 시 갱신되는 집계에서 조회
+    FlatContentReviewSummaryDTO summary = getReviewSummary(contentId);
     return ContentReviewDTO.builder()
-        .averageRating(averageRating)
-        .totalReviewCount((long) reviews.size())
+        .averageRating(averageRating(summary))
+        .totalReviewCount(summary.getReviewCount())
         .reviews(reviews)
         .build();
   }
 
+  /**
+   * 공개 리뷰를 커서 기반으로 조회합니다.
+   *
+   * <p>정렬 키와 리뷰 ID로 만든 커서 다음 위치부터 size개만 인덱스 범위로 읽고, 답글은 조회한 리뷰들에 대해 한 번에 가져옵니다. 평균 별점·리뷰 수·별점
+   * 분포는 리뷰 집계에서 조회합니다.
+   *
+   * @param cursor 직전 응답의 nextCursor, 첫 페이지는 null
+   */
+  @Transactional(readOnly = true)
+  public ContentReviewPageDTO getContentReviewPage(
+      Long contentId, String sort, String cursor, int size, Long userId) {
+    ReviewSortType sortType = toReviewSortType(sort);
+    int limit = Math.min(Math.max(size, 1), MAX_REVIEW_PAGE_SIZE);
+
+    List<FlatContentReviewReplyDTO> rows =
+        contentReviewReader.findReviewsByContentIdAfter(
+            contentId, sortType, decodeReviewCursor(sortType, cursor), limit + 1);
+    boolean hasNext = rows.size() > limit;
+    if (hasNext) {
+      rows = rows.subList(0, limit);
+    }
+
+    Map<Long, List<ReviewReplyDTO>> repliesByReview =
+        rows.isEmpty()
+            ? Collections.emptyMap()
+            : contentReplyReader
+                .findRepliesByReviewIds(
+                    rows.stream().map(FlatContentReviewReplyDTO::getReviewId).toList())
+                .stream()
+                .collect(
+                    Collectors.groupingBy(
+                        FlatReviewReplyDTO::getReviewId,
+                        Collectors.mapping(
+                            reply ->
+                                ReviewReplyDTO.builder()
+                                    .replyId(reply.getReplyId())
+                                    .createdAt(reply.getCreatedAt())
+                                    .replierNickname(reply.getReplierNickname())
+                                    .replyContent(reply.getReplyContent())
+                                    .build(),
+                            Collectors.toList())));
+
+    List<ContentDetailReviewDTO> reviews =
+        rows.stream()
+            .map(
+                row ->
+                    toContentDetailReviewDTO(
+                        row,
+                        repliesByReview.getOrDefault(row.getReviewId(), List.of()),
+                        userId))
+            .toList();
+
+    FlatContentReviewSummaryDTO summary = getReviewSummary(contentId);
+    Map<Integer, Long> ratingDistribution = new LinkedHashMap<>();
+    ratingDistribution.put(5, summary.getRating5Count());
+    ratingDistribution.put(4, summary.getRating4Count());
+    ratingDistribution.put(3, summary.getRating3Count());
+    ratingDistribution.put(2, summary.getRating2Count());
+    ratingDistribution.put(1, summary.getRating1Count());
+
+    return ContentReviewPageDTO.builder()
+        .averageRating(averageRating(summary))
+        .totalReviewCount(summary.getReviewCount())
+        .ratingDistribution(ratingDistribution)
+        .reviews(reviews)
+        .nextCursor(hasNext ? encodeReviewCursor(sortType, rows.get(rows.size() - 1)) : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  private ContentDetailReviewDTO toContentDetailReviewDTO(
+      FlatContentReviewReplyDTO row, List<ReviewReplyDTO> replies, Long userId) {
+    return ContentDetailReviewDTO.builder()
+        .reviewId(row.getReviewId())
+        .isReviewManage(userId != null && userId.equals(row.getReviewerId()))
+        .createdAt(row.getReviewCreatedAt())
+        .reviewerProfileImageUrl(row.getReviewerProfileImageUrl())
+        .reviewerNickname(maskNickname(row.getReviewerNickname()))
+        .reviewContent(row.getReviewContent())
+        .selectedOptionName(row.getSelectedOptionName())
+        .rating(row.getRating())
+        .merchantUid(row.getMerchantUid())
+        .reviewReplies(replies)
+        .build();
+  }
+
+  private FlatContentReviewSummaryDTO getReviewSummary(Long contentId) {
+    return contentReviewReader
+        .getReviewSummary(contentId)
+        .orElseGet(
+            () ->
+                FlatContentReviewSummaryDTO.builder()
+                    .contentId(contentId)
+                    .ratingSum(BigDecimal.ZERO)
+                    .build());
+  }
+
+  private BigDecimal averageRating(FlatContentReviewSummaryDTO summary) {
+    if (summary.getReviewCount() == 0) {
+      return BigDecimal.ZERO;
+    }
+    return summary
+        .getRatingSum()
+        .divide(BigDecimal.valueOf(summary.getReviewCount()), 2, RoundingMode.HALF_UP);
+  }
+
+  private ReviewSortType toReviewSortType(String sort) {
+    try {
+      return ReviewSortType.valueOf(sort.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      return ReviewSortType.LATEST;
+    }
+  }
+
+  // 커서: Base64URL("정렬 기준|정렬 키|리뷰 ID"), 별점이 없는 리뷰의 정렬 키는 빈 문자열
+  private String encodeReviewCursor(ReviewSortType sortType, FlatContentReviewReplyDTO last) {
+    String key =
+        sortType == ReviewSortType.LATEST
+            ? last.getReviewCreatedAt().toString()
+            : last.getRating() == null ? "" : last.getRating().toPlainString();
+    String raw =
+        String.join(
+            REVIEW_CURSOR_DELIMITER, sortType.name(), key, String.valueOf(last.getReviewId()));
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private ContentReviewCursor decodeReviewCursor(ReviewSortType sortType, String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(Pattern.quote(REVIEW_CURSOR_DELIMITER), -1);
+      // 다른 정렬 기준으로 발급된 커서는 정렬 키가 달라 사용할 수 없음
+      if (parts.length != 3 || !sortType.name().equals(parts[0])) {
+        throw new InvalidRequestException("유효하지 않은 리뷰 커서입니다.");
+      }
+      Long reviewId = Long.valueOf(parts[2]);
+      if (sortType == ReviewSortType.LATEST) {
+        return new ContentReviewCursor(LocalDateTime.parse(parts[1]), null, reviewId);
+      }
+      BigDecimal rating = parts[1].isEmpty() ? null : new BigDecimal(parts[1]);
+      return new ContentReviewCursor(null, rating, reviewId);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidRequestException("유효하지 않은 리뷰 커서입니다.");
+    }
+  }
+
   private Comparator<ContentDetailReviewDTO> getComparator(String sort) {
     switch (sort.toUpperCase()) {
       case "RATING_HIGH":
@@ -294,7 +440,7 @@ public class ContentService {
     return saveAndConvertToDTO(content);
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
   public ContentDetailDTO getContentDetailForUser(Long userId, Long contentId) {
     log.info("로그인 사용자 콘텐츠 조회: userId={}, contentId={}", userId, contentId);
 
@@ -314,11 +460,10 @@ public class ContentService {
     }
 
     if (!isOwner) {
-      // 조회수 증가 (다른 사용자의 콘텐츠 조회 시에만)
-      content.incrementViewCount();
-      contentRepository.save(content);
+      // 조회수 증가 (다른 사용자의 콘텐츠 조회 시에만, 버퍼에 모아 주기적으로 반영)
+      contentViewCountBuffer.increment(contentId);
 
-      log.info("다른 사용자 콘텐츠 조회: contentId={}, newViewCount={}", contentId, content.getViewCount());
+      log.info("다른 사용자 콘텐츠 조회: contentId={}", contentId);
     } else {
       log.info("내 콘텐츠 조회: contentId={}, status={}", contentId, content.getStatus());
     }
@@ -400,13 +545,27 @@ public class ContentService {
   }
 
   /**
-   * 콘텐츠 상세 정보를 조회합니다.
+   * 콘텐츠 상세 정보를 조회합니다. 응답은 콘텐츠 버전 기준으로 캐시되며, 조회수는 캐시 적중 여부와 무관하게 증가합니다.
    *
    * @param contentId 상품 ID
-   * @return 상품 상세 정보
+   * @return 상품 상세 정보와 ETag
    */
-  @Transactional
-  public ContentDetailDTO getPublicContentDetail(Long contentId) {
+  public CachedContentDTO<ContentDetailDTO> getPublicContentDetail(Long contentId) {
+    CachedContentDTO<ContentDetailDTO> detail =
+        contentCacheService.getOrLoad(
+            "detail:" + contentId,
+            List.of(ContentCacheService.contentScope(contentId)),
+            new TypeReference<>() {},
+            () -> loadPublicContentDetail(contentId));
+
+    // 조회수 증가 (버퍼에 모아 주기적으로 반영)
+    contentViewCountBuffer.increment(contentId);
+
+    log.info("비로그인 사용자 콘텐츠 조회: contentId={}", contentId);
+    return detail;
+  }
+
+  private ContentDetailDTO loadPublicContentDetail(Long contentId) {
     Content content = contentReader.getContentById(contentId);
 
     if (!isViewableByPublic(content)) {
@@ -414,12 +573,6 @@ public class ContentService {
       throw new InActiveContentException("현재 판매 중이지 않은 콘텐츠입니다.");
     }
 
-    // 조회수 증가
-    content.incrementViewCount();
-    contentRepository.save(content);
-
-    log.info("비로그인 사용자 콘텐츠 조회: contentId={}, newViewCount={}", contentId, content.getViewCount());
-
     // 콘텐츠 이미지 URL 목록 (현재는 썸네일만 있음)
     List<String> contentImageUrls = new ArrayList<>();
     if (content.getThumbnailUrl() != null) {
@@ -526,15 +679,22 @@ public class ContentService {
   /**
    * 홈화면에 노출할 콘텐츠 목록을 sortOrder 기준으로 조회합니다.
    *
-   * @return 콘텐츠 카드 DTO 목록
+   * @return 콘텐츠 카드 DTO 목록과 ETag
    */
-  @Transactional(readOnly = true)
-  public List<ContentCardDTO> getHomeContents() {
-    List<FlatContentPreviewDTO> flatDTOs = contentCustomRepository.findHomeContents();
-    return flatDTOs.stream().map(this::convertFlatDTOToCardDTO).collect(Collectors.toList());
+  public CachedContentDTO<List<ContentCardDTO>> getHomeContents() {
+    return contentCacheService.getOrLoad(
+        "home",
+        List.of(ContentCacheService.FEED_SCOPE),
+        new TypeReference<>() {},
+        () ->
+            contentCustomRepository.findHomeContents().stream()
+                .map(this::convertFlatDTOToCardDTO)
+                .collect(Collectors.toList()));
   }
 
   private static final String REVIEWER_NICKNAME_MASK_SUFFIX = "*****";
+  private static final int MAX_REVIEW_PAGE_SIZE = 50;
+  private static final String REVIEW_CURSOR_DELIMITER = "|";
 
   private String maskNickname(String nickname) {
     if (nickname == null || nickname.isBlank()) {
@@ -557,6 +717,7 @@ public class ContentService {
   /** Content를 저장하고 DTO로 변환합니다. */
   private ContentDTO saveAndConvertToDTO(Content content) {
     content = contentRepository.save(content);
+    contentCacheService.evictContent(content.getId());
     log.info("콘텐츠 저장 완료. ID: {}, 유저 ID: {}", content.getId(), content.getUser().getId());
     return convertToDTO(content);
   }
@@ -983,6 +1144,7 @@ public class ContentService {
     // 2. 삭제
     content.setStatus(ContentStatus.DELETED);
     contentRepository.save(content);
+    contentCacheService.evictContent(contentId);
     log.info("콘텐츠 삭제 완료. 유저 ID: {}, 콘텐츠 ID: {}", userId, contentId);
   }
 
@@ -1028,6 +1190,7 @@ public class ContentService {
       if (isSubscription) {
         content.setSubscriptionSellStatus(SubscriptionSellStatus.OPEN);
       }
+      contentCacheService.evictContent(contentId);
 
       final LocalDateTime nowInSeoul = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
 
@@ -1081,10 +1244,16 @@ public class ContentService {
     return PageResponse.from(page, items, meta);
   }
 
-  public List<DynamicContentDTO> getDynamicContents() {
-    List<FlatDynamicContentDTO> flatDynamicContentDTOS =
-        contentCustomRepository.findAllDynamicContents();
-    return flatDynamicContentDTOS.stream().map(this::convertFlatDTOToDynamicDTO).toList();
+  public CachedContentDTO<List<DynamicContentDTO>> getDynamicContents() {
+    return contentCacheService.getOrLoad(
+        "dynamic",
+        List.of(ContentCacheService.FEED_SCOPE),
+        new TypeReference<>() {},
+        () -> {
+          List<FlatDynamicContentDTO> flatDynamicContentDTOS =
+              contentCustomRepository.findAllDynamicContents();
+          return flatDynamicContentDTOS.stream().map(this::convertFlatDTOToDynamicDTO).toList();
+        });
   }
 
   private DynamicContentDTO convertFlatDTOToDynamicDTO(FlatDynamicContentDTO flat) {
@@ -1360,8 +1529,15 @@ public class ContentService {
     return str != null ? str : "null";
   }
 
-  @Transactional(readOnly = true)
-  public ContactInfoDTO getContactInfo(Long contentId) {
+  public CachedContentDTO<ContactInfoDTO> getContactInfo(Long contentId) {
+    return contentCacheService.getOrLoad(
+        "contact:" + contentId,
+        List.of(ContentCacheService.contentScope(contentId)),
+        new TypeReference<>() {},
+        () -> loadContactInfo(contentId));
+  }
+
+  private ContactInfoDTO loadContactInfo(Long contentId) {
     Content content = contentReader.getContentById(contentId);
     User user = content.getUser();
     try {
@@ -0,0 +1,107 @@
+package liaison.groble.application.content.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import liaison.groble.domain.content.repository.ContentRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘텐츠 조회수 누적 버퍼
+ *
+ * <p>상세 조회마다 contents 행을 읽고-수정-저장하는 대신 콘텐츠별 증가분을 메모리에 모아 두고, 주기적으로 증가분 가산 UPDATE를
+ * 일괄 실행합니다. 증가/회수는 ConcurrentHashMap의 원자적 merge/remove로 처리되어 동시 조회 시에도 유실되지 않으며,
+ * 반영 실패 시 증가분을 다시 적재해 다음 주기에 재시도합니다.
+ */
+@Slf4j
+@Service
+public class ContentViewCountBuffer implements SmartLifecycle {
+  private static final String METRIC_NAME = "content.view_count.buffer";
+  // 조회 로그 버퍼(ViewLogWriteBehindService)와 동일하게 웹 서버 종료 이후, DataSource 종료 이전에 플러시
+  private static final int PHASE = Integer.MAX_VALUE - 2048;
+
+  private final ContentRepository contentRepository;
+  private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+  private final Counter flushedCounter;
+  private final Counter failedCounter;
+
+  private volatile boolean running;
+
+  public ContentViewCountBuffer(ContentRepository contentRepository, MeterRegistry meterRegistry) {
+    this.contentRepository = contentRepository;
+    Gauge.builder(METRIC_NAME + ".pending", pending, Map::size)
+        .description("반영 대기 중인 콘텐츠 수")
+        .register(meterRegistry);
+    this.flushedCounter =
+        Counter.builder(METRIC_NAME + ".views").tag("outcome", "flushed").register(meterRegistry);
+    this.failedCounter =
+        Counter.builder(METRIC_NAME + ".views").tag("outcome", "failed").register(meterRegistry);
+  }
+
+  public void increment(Long contentId) {
+    if (contentId == null) {
+      return;
+    }
+    pending.merge(contentId, 1L, Long::sum);
+  }
+
+  /** 누적된 증가분을 DB에 반영합니다. */
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Long> deltas = new HashMap<>();
+    for (Long contentId : pending.keySet()) {
+      Long delta = pending.remove(contentId);
+      if (delta != null && delta > 0) {
+        deltas.put(contentId, delta);
+      }
+    }
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    long views = deltas.values().stream().mapToLong(Long::longValue).sum();
+    try {
+      contentRepository.incrementViewCounts(deltas);
+      flushedCounter.increment(views);
+    } catch (Exception e) {
+      failedCounter.increment(views);
+      deltas.forEach((contentId, delta) -> pending.merge(contentId, delta, Long::sum));
+      log.warn("콘텐츠 조회수 반영 실패 - contents: {}, views: {}", deltas.size(), views, e);
+    }
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    flush();
+    if (!pending.isEmpty()) {
+      log.warn("종료 시 반영되지 않은 콘텐츠 조회수 - contents: {}", pending.size());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
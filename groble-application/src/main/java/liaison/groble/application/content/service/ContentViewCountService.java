@@ -7,11 +7,11 @@ import org.springframework.stereotype.Service;
 
 import liaison.groble.application.content.ContentReader;
 import liaison.groble.application.content.dto.ContentViewCountDTO;
+import liaison.groble.application.dashboard.service.ViewLogWriteBehindService;
 import liaison.groble.application.dashboard.service.ViewTrackingKeyGenerator;
 import liaison.groble.application.dashboard.service.ViewTrackingKeyGenerator.ViewerIdentity;
 import liaison.groble.domain.content.entity.Content;
 import liaison.groble.domain.dashboard.entity.ContentViewLog;
-import liaison.groble.domain.dashboard.repository.ContentViewLogRepository;
 import liaison.groble.domain.port.DailyViewPort;
 
 import lombok.RequiredArgsConstructor;
@@ -24,8 +24,8 @@ public class ContentViewCountService {
   // 관리자 계정 ID 상수
   private static final Long ADMIN_USER_ID = 1L;
 
-  // Repository
-  private final ContentViewLogRepository contentViewLogRepository;
+  // Buffer
+  private final ViewLogWriteBehindService viewLogWriteBehindService;
 
   // Reader
   private final ContentReader contentReader;
@@ -34,7 +34,7 @@ public class ContentViewCountService {
   private final DailyViewPort dailyViewPort;
   private final ViewTrackingKeyGenerator viewTrackingKeyGenerator;
 
-  @Async
+  @Async("viewCountExecutor")
   public void recordContentView(Long contentId, ContentViewCountDTO contentViewCountDTO) {
     // 관리자 계정(groble@groble.im, userId=1)에 대해서는 조회수 집계를 하지 않음
     if (ADMIN_USER_ID.equals(contentViewCountDTO.getUserId())) {
@@ -91,7 +91,8 @@ public class ContentViewCountService {
               .viewedAt(LocalDateTime.now())
               .build();
 
-      contentViewLogRepository.save(log);
+      // 버퍼에 적재 후 다건 INSERT로 일괄 기록
+      viewLogWriteBehindService.enqueue(log);
     }
   }
 }
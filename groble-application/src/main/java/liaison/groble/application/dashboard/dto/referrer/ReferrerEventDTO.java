@@ -0,0 +1,22 @@
+package liaison.groble.application.dashboard.dto.referrer;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** 비동기 처리를 위해 적재되는 유입 이벤트 (콘텐츠 또는 마켓 중 하나만 지정) */
+@Getter
+@Builder
+public class ReferrerEventDTO {
+  private Long contentId;
+  private String marketLinkUrl;
+  private ReferrerDTO referrerDTO;
+  private String refererHeader;
+  private String userAgent;
+  private String clientIp;
+  private Long userId;
+  private boolean guest;
+  private boolean authenticated;
+  private LocalDateTime receivedAt;
+}
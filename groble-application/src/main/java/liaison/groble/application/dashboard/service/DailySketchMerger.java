@@ -0,0 +1,61 @@
+package liaison.groble.application.dashboard.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
+
+/**
+ * 일별 통계 스케치를 일자 단위로 병합 (콘텐츠/마켓 월별 집계 공용)
+ *
+ * <p>한 일자의 행을 모두 모은 뒤 모든 행에 스케치가 있을 때만 결과에 반영합니다. 스케치가 없는 행이 섞인 일자와 일별 행이 아예 없는 일자(일별 집계
+ * 누락)는 {@link #missingDates}로 돌려주어, 호출자가 해당 일자만 원본 로그로 다시 집계하게 합니다. 행은 stat_date 오름차순으로 전달해야
+ * 합니다.
+ */
+public class DailySketchMerger {
+  private final ViewStatsAccumulator accumulator;
+  private final Set<LocalDate> mergedDates = new HashSet<>();
+
+  private ViewStatsAccumulator day = new ViewStatsAccumulator();
+  private LocalDate dayDate;
+  private boolean dayComplete = true;
+
+  public DailySketchMerger(ViewStatsAccumulator accumulator) {
+    this.accumulator = accumulator;
+  }
+
+  public void add(FlatViewStatsSketchDTO stats) {
+    if (!stats.getStatDate().equals(dayDate)) {
+      completeDay();
+      dayDate = stats.getStatDate();
+    }
+    if (dayComplete) {
+      dayComplete = day.mergeDaily(stats);
+    }
+  }
+
+  /** 병합을 마치고 기간 중 일별 스케치로 채우지 못한 일자를 오름차순으로 반환합니다. */
+  public List<LocalDate> missingDates(LocalDate startDate, LocalDate endDate) {
+    completeDay();
+    List<LocalDate> missing = new ArrayList<>();
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      if (!mergedDates.contains(date)) {
+        missing.add(date);
+      }
+    }
+    return missing;
+  }
+
+  private void completeDay() {
+    if (dayDate != null && dayComplete) {
+      accumulator.merge(day);
+      mergedDates.add(dayDate);
+    }
+    day = new ViewStatsAccumulator();
+    dayDate = null;
+    dayComplete = true;
+  }
+}
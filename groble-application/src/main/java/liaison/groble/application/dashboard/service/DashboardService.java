@@ -27,7 +27,6 @@ import liaison.groble.application.dashboard.dto.DashboardOverviewDTO;
 import liaison.groble.application.dashboard.dto.DashboardViewStatsDTO;
 import liaison.groble.application.dashboard.dto.MarketViewStatsDTO;
 import liaison.groble.application.dashboard.dto.referrer.ReferrerStatsDTO;
-import liaison.groble.application.purchase.service.PurchaseReader;
 import liaison.groble.application.user.service.UserReader;
 import liaison.groble.common.response.PageResponse;
 import liaison.groble.domain.common.enums.PeriodType;
@@ -78,7 +77,9 @@ public class DashboardService {
   // Reader
   private final UserReader userReader;
   private final ContentReader contentReader;
-  private final PurchaseReader purchaseReader;
+
+  // Service
+  private final SellerSalesRollupService sellerSalesRollupService;
 
   // Repository
   private final ContentViewLogRepository contentViewLogRepository;
@@ -97,8 +98,9 @@ public class DashboardService {
   @Transactional(readOnly = true)
   public DashboardOverviewDTO getDashboardOverview(Long userId) {
     SellerInfo sellerInfo = userReader.getSellerInfoWithUser(userId);
+    // 판매 이력 전체를 집계하지 않고 증분 유지되는 롤업(누적/이번 달 2행)만 조회
     FlatDashboardOverviewDTO flatDashboardOverviewDTO =
-        purchaseReader.getDashboardOverviewStats(userId);
+        sellerSalesRollupService.getOverview(userId);
 
     Long totalContentViews =
         getTotalContentViews(userId, LocalDate.of(2025, 8, 1), LocalDate.now());
@@ -0,0 +1,26 @@
+package liaison.groble.application.dashboard.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.common.buffer.WriteBehindBuffer.DropPolicy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "groble.referrer.ingestion")
+public class ReferrerIngestionProperties {
+
+  private boolean enabled = true;
+  private int capacity = 10_000;
+  private int flushSize = 200;
+  private Duration flushInterval = Duration.ofSeconds(1);
+  private Duration shutdownTimeout = Duration.ofSeconds(10);
+  // 유입 집계는 유실보다 요청 지연이 더 치명적이므로 포화 시 새 이벤트를 버림
+  private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+}
@@ -0,0 +1,123 @@
+package liaison.groble.application.dashboard.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import liaison.groble.application.common.buffer.WriteBehindBuffer;
+import liaison.groble.application.dashboard.dto.referrer.ReferrerDTO;
+import liaison.groble.application.dashboard.dto.referrer.ReferrerEventDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유입 이벤트 비동기 적재 서비스
+ *
+ * <p>요청 스레드는 이벤트를 고정 크기 버퍼에 넣고 바로 응답하며, 플러시 스레드가 모인 이벤트를 {@link
+ * ReferrerService#recordBatch}로 일괄 처리합니다. 비활성화하거나 종료된 이후에는 호출 스레드에서 즉시 처리됩니다.
+ */
+@Slf4j
+@Service
+public class ReferrerIngestionService implements SmartLifecycle {
+  // 웹 서버 graceful shutdown(Integer.MAX_VALUE - 1024) 이후에 종료되도록 더 낮은 phase 사용
+  private static final int PHASE = Integer.MAX_VALUE - 2048;
+
+  private final ReferrerIngestionProperties properties;
+  private final WriteBehindBuffer<ReferrerEventDTO> buffer;
+
+  public ReferrerIngestionService(
+      ReferrerIngestionProperties properties,
+      ReferrerService referrerService,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.buffer =
+        new WriteBehindBuffer<>(
+            "referrer_event",
+            properties.getCapacity(),
+            properties.getFlushSize(),
+            properties.getFlushInterval(),
+            properties.getDropPolicy(),
+            referrerService::recordBatch,
+            meterRegistry);
+  }
+
+  public void submitContentReferrer(
+      Long contentId,
+      ReferrerDTO referrerDTO,
+      String refererHeader,
+      String userAgent,
+      String clientIp,
+      Long userId,
+      boolean isGuest,
+      boolean isAuthenticated) {
+    if (referrerDTO == null) {
+      log.warn("Received null ReferrerDTO for contentId={}.", contentId);
+      return;
+    }
+    buffer.offer(
+        ReferrerEventDTO.builder()
+            .contentId(contentId)
+            .referrerDTO(referrerDTO)
+            .refererHeader(refererHeader)
+            .userAgent(userAgent)
+            .clientIp(clientIp)
+            .userId(userId)
+            .guest(isGuest)
+            .authenticated(isAuthenticated)
+            .receivedAt(LocalDateTime.now())
+            .build());
+  }
+
+  public void submitMarketReferrer(
+      String marketLinkUrl,
+      ReferrerDTO referrerDTO,
+      String refererHeader,
+      String userAgent,
+      String clientIp,
+      Long userId,
+      boolean isGuest,
+      boolean isAuthenticated) {
+    if (referrerDTO == null) {
+      log.warn("Received null ReferrerDTO for marketLinkUrl={}.", marketLinkUrl);
+      return;
+    }
+    buffer.offer(
+        ReferrerEventDTO.builder()
+            .marketLinkUrl(marketLinkUrl)
+            .referrerDTO(referrerDTO)
+            .refererHeader(refererHeader)
+            .userAgent(userAgent)
+            .clientIp(clientIp)
+            .userId(userId)
+            .guest(isGuest)
+            .authenticated(isAuthenticated)
+            .receivedAt(LocalDateTime.now())
+            .build());
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled()) {
+      log.info("유입 이벤트 비동기 적재 비활성화 - 즉시 처리 모드");
+      return;
+    }
+    buffer.start();
+  }
+
+  @Override
+  public void stop() {
+    buffer.stop(properties.getShutdownTimeout());
+  }
+
+  @Override
+  public boolean isRunning() {
+    return buffer.isRunning();
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
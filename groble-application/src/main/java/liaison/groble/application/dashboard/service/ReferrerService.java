@@ -5,10 +5,12 @@ import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -20,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import liaison.groble.application.content.ContentReader;
 import liaison.groble.application.dashboard.dto.referrer.ReferrerDTO;
+import liaison.groble.application.dashboard.dto.referrer.ReferrerEventDTO;
 import liaison.groble.application.user.service.UserReader;
 import liaison.groble.domain.content.entity.Content;
 import liaison.groble.domain.dashboard.entity.ContentReferrerEvent;
@@ -31,6 +34,7 @@ import liaison.groble.domain.dashboard.repository.ContentReferrerEventRepository
 import liaison.groble.domain.dashboard.repository.ContentReferrerStatsRepository;
 import liaison.groble.domain.dashboard.repository.MarketReferrerEventRepository;
 import liaison.groble.domain.dashboard.repository.MarketReferrerStatsRepository;
+import liaison.groble.domain.dashboard.repository.ReferrerStatsDailyRepository;
 import liaison.groble.domain.dashboard.repository.ReferrerTrackingRepository;
 import liaison.groble.domain.dashboard.support.ReferrerDomainUtils;
 import liaison.groble.domain.market.entity.Market;
@@ -115,110 +119,109 @@ public class ReferrerService {
   private final MarketReferrerStatsRepository marketReferrerStatsRepository;
   private final MarketReferrerEventRepository marketReferrerEventRepository;
   private final ReferrerTrackingRepository referrerTrackingRepository;
+  private final ReferrerStatsDailyRepository referrerStatsDailyRepository;
+  private final ReferrerSessionWindow referrerSessionWindow;
   private final UserReader userReader;
   private final ContentReader contentReader;
   private final ObjectMapper objectMapper;
   private final MeterRegistry meterRegistry;
   private final ConcurrentMap<String, Boolean> marketLinkCache = new ConcurrentHashMap<>();
 
-  public void recordContentReferrer(
-      Long contentId,
-      ReferrerDTO referrerDTO,
-      String refererHeader,
-      String userAgent,
-      String clientIp,
-      Long userId,
-      boolean isGuest,
-      boolean isAuthenticated) {
-    if (referrerDTO == null) {
-      log.warn("Received null ReferrerDTO for contentId={}.", contentId);
-      return;
+  /**
+   * 비동기로 적재된 유입 이벤트를 일괄 처리합니다.
+   *
+   * <p>이벤트별로 자가 유입·중복·내부 이동 규칙을 적용한 뒤, 원본 기록은 다건 INSERT로 저장하고 유입 통계는 통계 행별 증가분을 모아 한 번씩 가산합니다.
+   */
+  public void recordBatch(List<ReferrerEventDTO> events) {
+    ReferrerBatch batch = new ReferrerBatch();
+    for (ReferrerEventDTO event : events) {
+      if (event.getContentId() != null) {
+        collectContentReferrer(event, batch);
+      } else {
+        collectMarketReferrer(event, batch);
+      }
     }
+    flushBatch(batch);
+  }
+
+  private void collectContentReferrer(ReferrerEventDTO event, ReferrerBatch batch) {
+    Long contentId = event.getContentId();
+    ReferrerDTO referrerDTO = event.getReferrerDTO();
+    Long userId = event.getUserId();
 
     // 5. 자가 유입 (Self-view)
     if (userId != null) {
-      try {
-        Content content = contentReader.getContentById(contentId);
-        if (content.getUser() != null && userId.equals(content.getUser().getId())) {
-          log.debug(
-              "Skipping content referrer tracking for own content. contentId={}, userId={}",
-              contentId,
-              userId);
-          recordMetric("content", "self_view");
-          return;
-        }
-      } catch (Exception e) {
-        log.warn(
-            "Could not verify content ownership for self-view check. contentId={}, userId={}",
+      Long ownerId = batch.contentOwnerIds.computeIfAbsent(contentId, this::findContentOwnerId);
+      if (userId.equals(ownerId)) {
+        log.debug(
+            "Skipping content referrer tracking for own content. contentId={}, userId={}",
             contentId,
-            userId,
-            e);
+            userId);
+        recordMetric("content", "self_view");
+        return;
       }
     }
 
-    String actorType = resolveActorType(userId, isGuest, isAuthenticated);
+    String actorType = resolveActorType(userId, event.isGuest(), event.isAuthenticated());
 
-    boolean persisted;
+    ReferrerTracking tracking;
     try {
-      persisted =
-          persistContentReferrerTracking(
+      tracking =
+          buildContentReferrerTracking(
+              batch,
               contentId,
               referrerDTO,
-              refererHeader,
-              userAgent,
-              clientIp,
+              event.getRefererHeader(),
+              event.getUserAgent(),
+              event.getClientIp(),
               userId,
               actorType,
-              isAuthenticated);
+              event.isAuthenticated());
     } catch (Exception e) {
-      log.error("Failed to persist content referrer tracking for contentId={}", contentId, e);
+      log.error("Failed to build content referrer tracking for contentId={}", contentId, e);
       recordMetric("content", "error");
       return;
     }
 
-    if (!persisted) {
+    if (tracking == null) {
       return;
     }
+    batch.trackings.add(tracking);
 
     try {
-      ContentReferrerStats stats = findOrCreateContentReferrerStats(contentId, referrerDTO);
-      stats.incrementVisitCount();
-      contentReferrerStatsRepository.save(stats);
-
-      ContentReferrerEvent event =
+      ReferrerStatsKey key = resolveStatsKey(referrerDTO);
+      List<Object> lookupKey = key.lookupKey(contentId);
+      Long statsId = batch.contentStatsIds.get(lookupKey);
+      if (statsId == null) {
+        statsId = findOrCreateContentReferrerStats(contentId, key).getId();
+        batch.contentStatsIds.put(lookupKey, statsId);
+      }
+      batch.contentStatsDeltas.merge(statsId, 1, Integer::sum);
+      batch.contentEvents.add(
           ContentReferrerEvent.builder()
-              .referrerStatsId(stats.getId())
+              .referrerStatsId(statsId)
               .contentId(contentId)
-              .eventDate(LocalDateTime.now())
-              .build();
-
-      contentReferrerEventRepository.save(event);
-
+              .eventDate(event.getReceivedAt())
+              .build());
     } catch (Exception e) {
       log.error("Failed to record content referrer stats for contentId: " + contentId, e);
     }
   }
 
-  public void recordMarketReferrer(
-      String marketLinkUrl,
-      ReferrerDTO referrerDTO,
-      String refererHeader,
-      String userAgent,
-      String clientIp,
-      Long userId,
-      boolean isGuest,
-      boolean isAuthenticated) {
-    if (referrerDTO == null) {
-      log.warn("Received null ReferrerDTO for marketLinkUrl={}.", marketLinkUrl);
-      return;
-    }
+  private void collectMarketReferrer(ReferrerEventDTO event, ReferrerBatch batch) {
+    String marketLinkUrl = event.getMarketLinkUrl();
+    ReferrerDTO referrerDTO = event.getReferrerDTO();
+    Long userId = event.getUserId();
 
-    Market market;
-    try {
-      market = userReader.getMarketWithUser(marketLinkUrl);
-    } catch (Exception e) {
-      log.error("Failed to find market for referrer tracking: {}", marketLinkUrl, e);
-      return;
+    Market market = batch.markets.get(marketLinkUrl);
+    if (market == null) {
+      try {
+        market = userReader.getMarketWithUser(marketLinkUrl);
+        batch.markets.put(marketLinkUrl, market);
+      } catch (Exception e) {
+        log.error("Failed to find market for referrer tracking: {}", marketLinkUrl, e);
+        return;
+      }
     }
 
     // 5. 자가 유입 (Self-view)
@@ -231,47 +234,104 @@ public class ReferrerService {
       return;
     }
 
-    String actorType = resolveActorType(userId, isGuest, isAuthenticated);
+    String actorType = resolveActorType(userId, event.isGuest(), event.isAuthenticated());
 
-    boolean persisted;
+    ReferrerTracking tracking;
     try {
-      persisted =
-          persistMarketReferrerTracking(
+      tracking =
+          buildMarketReferrerTracking(
+              batch,
               marketLinkUrl,
               referrerDTO,
-              refererHeader,
-              userAgent,
-              clientIp,
+              event.getRefererHeader(),
+              event.getUserAgent(),
+              event.getClientIp(),
               userId,
               actorType,
-              isAuthenticated);
+              event.isAuthenticated());
     } catch (Exception e) {
       log.error(
-          "Failed to persist market referrer tracking for marketLinkUrl={}", marketLinkUrl, e);
+          "Failed to build market referrer tracking for marketLinkUrl={}", marketLinkUrl, e);
       recordMetric("market", "error");
       return;
     }
 
-    if (!persisted) {
+    if (tracking == null) {
       return;
     }
+    batch.trackings.add(tracking);
 
     try {
-      MarketReferrerStats stats = findOrCreateMarketReferrerStats(market.getId(), referrerDTO);
-      stats.incrementVisitCount();
-      marketReferrerStatsRepository.save(stats);
-
-      MarketReferrerEvent event =
+      ReferrerStatsKey key = resolveStatsKey(referrerDTO);
+      List<Object> lookupKey = key.lookupKey(market.getId());
+      Long statsId = batch.marketStatsIds.get(lookupKey);
+      if (statsId == null) {
+        statsId = findOrCreateMarketReferrerStats(market.getId(), key).getId();
+        batch.marketStatsIds.put(lookupKey, statsId);
+      }
+      batch.marketStatsDeltas.merge(statsId, 1, Integer::sum);
+      batch.marketEvents.add(
           MarketReferrerEvent.builder()
-              .referrerStatsId(stats.getId())
+              .referrerStatsId(statsId)
               .marketId(market.getId())
-              .eventDate(LocalDateTime.now())
-              .build();
+              .eventDate(event.getReceivedAt())
+              .build());
+    } catch (Exception e) {
+      log.error("Failed to record market referrer stats for marketLinkUrl: " + marketLinkUrl, e);
+    }
+  }
+
+  private void flushBatch(ReferrerBatch batch) {
+    if (batch.trackings.isEmpty()) {
+      return;
+    }
+
+    try {
+      referrerTrackingRepository.saveAllInBatch(batch.trackings);
+    } catch (Exception e) {
+      // 원본 저장에 실패하면 단건 처리와 동일하게 통계에도 반영하지 않음
+      log.error("Failed to persist referrer tracking batch. size={}", batch.trackings.size(), e);
+      recordMetric("batch", "error", batch.trackings.size());
+      return;
+    }
+    // 저장된 기록만 중복 판단 기준으로 삼도록 저장 이후에 반영
+    batch.pendingContentTrackings.forEach(
+        (key, tracking) ->
+            referrerSessionWindow.recordContentTracking(
+                (Long) key.get(0), (String) key.get(1), tracking));
+    batch.pendingMarketTrackings.forEach(
+        (key, tracking) ->
+            referrerSessionWindow.recordMarketTracking(
+                (String) key.get(0), (String) key.get(1), tracking));
 
-      marketReferrerEventRepository.save(event);
+    long contentCount = batch.trackings.stream().filter(t -> t.getContentId() != null).count();
+    recordMetric("content", "stored", contentCount);
+    recordMetric("market", "stored", batch.trackings.size() - contentCount);
 
+    incrementDailyStats(batch.trackings);
+
+    try {
+      contentReferrerStatsRepository.incrementVisitCounts(batch.contentStatsDeltas);
+      contentReferrerEventRepository.saveAllInBatch(batch.contentEvents);
     } catch (Exception e) {
-      log.error("Failed to record market referrer stats for marketLinkUrl: " + marketLinkUrl, e);
+      log.error("Failed to apply content referrer stats batch.", e);
+    }
+    try {
+      marketReferrerStatsRepository.incrementVisitCounts(batch.marketStatsDeltas);
+      marketReferrerEventRepository.saveAllInBatch(batch.marketEvents);
+    } catch (Exception e) {
+      log.error("Failed to apply market referrer stats batch.", e);
+    }
+  }
+
+  private Long findContentOwnerId(Long contentId) {
+    try {
+      Content content = contentReader.getContentById(contentId);
+      return content.getUser() != null ? content.getUser().getId() : null;
+    } catch (Exception e) {
+      log.warn(
+          "Could not verify content ownership for self-view check. contentId={}", contentId, e);
+      return null;
     }
   }
 
@@ -287,7 +347,8 @@ public class ReferrerService {
     return removed;
   }
 
-  private boolean persistContentReferrerTracking(
+  private ReferrerTracking buildContentReferrerTracking(
+      ReferrerBatch batch,
       Long contentId,
       ReferrerDTO referrerDTO,
       String refererHeader,
@@ -306,7 +367,7 @@ public class ReferrerService {
 
       recordMetric("content", "invalid_session");
 
-      return false;
+      return null;
     }
 
     LocalDateTime eventTimestamp = defaultEventTimestamp(referrerDTO.getTimestamp());
@@ -317,18 +378,21 @@ public class ReferrerService {
 
     // 6. 중복 집계 방지
 
-    Optional<ReferrerTracking> existing =
-        referrerTrackingRepository.findRecentContentTracking(sessionId, contentId.toString());
+    List<Object> windowKey = Arrays.asList(contentId, sessionId);
+    ReferrerTracking existing = batch.pendingContentTrackings.get(windowKey);
+    if (existing == null) {
+      existing = referrerSessionWindow.findLastContentTracking(contentId, sessionId);
+    }
 
-    if (existing.isPresent()
-        && isDuplicateTracking(existing.get(), referrerDTO, resolvedReferrerUrl, eventTimestamp)) {
+    if (existing != null
+        && isDuplicateTracking(existing, referrerDTO, resolvedReferrerUrl, eventTimestamp)) {
 
       log.debug(
           "Detected duplicate content tracking. contentId={}, sessionId={}", contentId, sessionId);
 
       recordMetric("content", "duplicate");
 
-      return false;
+      return null;
     }
 
     String referrerDomain = resolveReferrerDomain(resolvedReferrerUrl);
@@ -389,7 +453,7 @@ public class ReferrerService {
 
             recordMetric("content", "internal_navigation_skipped");
 
-            return false;
+            return null;
           }
         }
 
@@ -406,7 +470,7 @@ public class ReferrerService {
 
       recordMetric("content", "ignored_admin");
 
-      return false;
+      return null;
     }
 
     // 최종적으로 리퍼러가 없으면 (direct)로 설정
@@ -447,14 +511,13 @@ public class ReferrerService {
             actorType,
             isAuthenticated);
 
-    referrerTrackingRepository.save(tracking);
+    batch.pendingContentTrackings.put(windowKey, tracking);
 
-    recordMetric("content", "stored");
-
-    return true;
+    return tracking;
   }
 
-  private boolean persistMarketReferrerTracking(
+  private ReferrerTracking buildMarketReferrerTracking(
+      ReferrerBatch batch,
       String marketLinkUrl,
       ReferrerDTO referrerDTO,
       String refererHeader,
@@ -473,7 +536,7 @@ public class ReferrerService {
 
       recordMetric("market", "invalid_session");
 
-      return false;
+      return null;
     }
 
     LocalDateTime eventTimestamp = defaultEventTimestamp(referrerDTO.getTimestamp());
@@ -484,11 +547,14 @@ public class ReferrerService {
 
     // 6. 중복 집계 방지
 
-    Optional<ReferrerTracking> existing =
-        referrerTrackingRepository.findRecentMarketTracking(sessionId, marketLinkUrl);
+    List<Object> windowKey = Arrays.asList(marketLinkUrl, sessionId);
+    ReferrerTracking existing = batch.pendingMarketTrackings.get(windowKey);
+    if (existing == null) {
+      existing = referrerSessionWindow.findLastMarketTracking(marketLinkUrl, sessionId);
+    }
 
-    if (existing.isPresent()
-        && isDuplicateTracking(existing.get(), referrerDTO, resolvedReferrerUrl, eventTimestamp)) {
+    if (existing != null
+        && isDuplicateTracking(existing, referrerDTO, resolvedReferrerUrl, eventTimestamp)) {
 
       log.debug(
           "Detected duplicate market tracking. marketLinkUrl={}, sessionId={}",
@@ -497,7 +563,7 @@ public class ReferrerService {
 
       recordMetric("market", "duplicate");
 
-      return false;
+      return null;
     }
 
     String referrerDomain = resolveReferrerDomain(resolvedReferrerUrl);
@@ -544,7 +610,7 @@ public class ReferrerService {
 
               recordMetric("market", "internal_navigation_skipped");
 
-              return false;
+              return null;
             }
 
           } catch (URISyntaxException e) {
@@ -560,7 +626,7 @@ public class ReferrerService {
 
             recordMetric("market", "internal_navigation_skipped");
 
-            return false;
+            return null;
           }
         }
 
@@ -577,7 +643,7 @@ public class ReferrerService {
 
       recordMetric("market", "ignored_admin");
 
-      return false;
+      return null;
     }
 
     // 최종적으로 리퍼러가 없으면 (direct)로 설정
@@ -618,11 +684,9 @@ public class ReferrerService {
             actorType,
             isAuthenticated);
 
-    referrerTrackingRepository.save(tracking);
-
-    recordMetric("market", "stored");
+    batch.pendingMarketTrackings.put(windowKey, tracking);
 
-    return true;
+    return tracking;
   }
 
   private String resolveActorType(Long actorId, boolean isGuest, boolean isAuthenticated) {
@@ -1141,12 +1205,27 @@ public class ReferrerService {
     return left.equals(right);
   }
 
+  // 롤업 반영 실패가 원본 기록을 막지 않도록 분리 (원본 기준 재집계 가능)
+  private void incrementDailyStats(List<ReferrerTracking> trackings) {
+    try {
+      referrerStatsDailyRepository.incrementAll(trackings);
+    } catch (Exception e) {
+      recordMetric("batch", "rollup_failed", trackings.size());
+      log.warn("Failed to update referrer daily stats. size={}", trackings.size(), e);
+    }
+  }
+
   private void recordMetric(String type, String outcome) {
-    meterRegistry.counter(METRIC_NAME, "type", type, "outcome", outcome).increment();
+    recordMetric(type, outcome, 1);
   }
 
-  private ContentReferrerStats findOrCreateContentReferrerStats(
-      Long contentId, ReferrerDTO referrerDTO) {
+  private void recordMetric(String type, String outcome, long amount) {
+    if (amount > 0) {
+      meterRegistry.counter(METRIC_NAME, "type", type, "outcome", outcome).increment(amount);
+    }
+  }
+
+  private ReferrerStatsKey resolveStatsKey(ReferrerDTO referrerDTO) {
     String resolvedReferrerUrl =
         normalizeReferrerUrl(resolveReferrerUrl(referrerDTO, null), referrerDTO.getPageUrl());
     String referrerDomain = extractDomainFromUrl(resolvedReferrerUrl);
@@ -1158,12 +1237,22 @@ public class ReferrerService {
         referrerDTO.getUtmMedium() != null
             ? referrerDTO.getUtmMedium()
             : inferMediumFromDomain(referrerDomain);
-    String campaign = referrerDTO.getUtmCampaign();
+    return new ReferrerStatsKey(
+        resolvedReferrerUrl,
+        referrerDomain,
+        source,
+        medium,
+        referrerDTO.getUtmCampaign(),
+        referrerDTO.getUtmContent(),
+        referrerDTO.getUtmTerm());
+  }
 
+  private ContentReferrerStats findOrCreateContentReferrerStats(
+      Long contentId, ReferrerStatsKey key) {
     List<ContentReferrerStats> existingList =
         contentReferrerStatsRepository
             .findAllByContentIdAndReferrerDomainAndSourceAndMediumAndCampaign(
-                contentId, referrerDomain, source, medium, campaign);
+                contentId, key.referrerDomain(), key.source(), key.medium(), key.campaign());
 
     if (!existingList.isEmpty()) {
       if (existingList.size() > 1) {
@@ -1181,38 +1270,25 @@ public class ReferrerService {
     ContentReferrerStats stats =
         ContentReferrerStats.builder()
             .contentId(contentId)
-            .referrerUrl(resolvedReferrerUrl)
-            .referrerDomain(referrerDomain)
-            .source(source)
-            .medium(medium)
-            .campaign(campaign)
-            .content(referrerDTO.getUtmContent())
-            .term(referrerDTO.getUtmTerm())
-            .visitCount(0) // incrementVisitCount에서 1로 시작
+            .referrerUrl(key.referrerUrl())
+            .referrerDomain(key.referrerDomain())
+            .source(key.source())
+            .medium(key.medium())
+            .campaign(key.campaign())
+            .content(key.content())
+            .term(key.term())
+            .visitCount(0) // 배치 증가분 가산으로 반영
             .build();
     stats.parseReferrerUrl();
     return contentReferrerStatsRepository.save(stats);
   }
 
   private MarketReferrerStats findOrCreateMarketReferrerStats(
-      Long marketId, ReferrerDTO referrerDTO) {
-    String resolvedReferrerUrl =
-        normalizeReferrerUrl(resolveReferrerUrl(referrerDTO, null), referrerDTO.getPageUrl());
-    String referrerDomain = extractDomainFromUrl(resolvedReferrerUrl);
-    String source =
-        referrerDTO.getUtmSource() != null
-            ? referrerDTO.getUtmSource()
-            : mapDomainToSource(referrerDomain);
-    String medium =
-        referrerDTO.getUtmMedium() != null
-            ? referrerDTO.getUtmMedium()
-            : inferMediumFromDomain(referrerDomain);
-    String campaign = referrerDTO.getUtmCampaign();
-
+      Long marketId, ReferrerStatsKey key) {
     List<MarketReferrerStats> existingList =
         marketReferrerStatsRepository
             .findAllByMarketIdAndReferrerDomainAndSourceAndMediumAndCampaign(
-                marketId, referrerDomain, source, medium, campaign);
+                marketId, key.referrerDomain(), key.source(), key.medium(), key.campaign());
 
     if (!existingList.isEmpty()) {
       if (existingList.size() > 1) {
@@ -1230,14 +1306,14 @@ public class ReferrerService {
     MarketReferrerStats stats =
         MarketReferrerStats.builder()
             .marketId(marketId)
-            .referrerUrl(resolvedReferrerUrl)
-            .referrerDomain(referrerDomain)
-            .source(source)
-            .medium(medium)
-            .campaign(campaign)
-            .content(referrerDTO.getUtmContent())
-            .term(referrerDTO.getUtmTerm())
-            .visitCount(0) // incrementVisitCount에서 1로 시작
+            .referrerUrl(key.referrerUrl())
+            .referrerDomain(key.referrerDomain())
+            .source(key.source())
+            .medium(key.medium())
+            .campaign(key.campaign())
+            .content(key.content())
+            .term(key.term())
+            .visitCount(0) // 배치 증가분 가산으로 반영
             .build();
     stats.parseReferrerUrl();
     return marketReferrerStatsRepository.save(stats);
@@ -1283,4 +1359,35 @@ public class ReferrerService {
             || domain.contains("youtube.com")
             || domain.contains("tiktok.com"));
   }
+
+  /** 유입 통계 행 식별 값 (대상 ID와 도메인·소스·매체·캠페인이 같으면 같은 행) */
+  private record ReferrerStatsKey(
+      String referrerUrl,
+      String referrerDomain,
+      String source,
+      String medium,
+      String campaign,
+      String content,
+      String term) {
+
+    List<Object> lookupKey(Long targetId) {
+      return Arrays.asList(targetId, referrerDomain, source, medium, campaign);
+    }
+  }
+
+  /** 한 번의 플러시에서 모은 저장 대상과 배치 내 조회 결과 */
+  private static class ReferrerBatch {
+    private final List<ReferrerTracking> trackings = new ArrayList<>();
+    private final Map<Long, Long> contentOwnerIds = new HashMap<>();
+    private final Map<String, Market> markets = new HashMap<>();
+    private final Map<List<Object>, Long> contentStatsIds = new HashMap<>();
+    private final Map<List<Object>, Long> marketStatsIds = new HashMap<>();
+    private final Map<Long, Integer> contentStatsDeltas = new HashMap<>();
+    private final Map<Long, Integer> marketStatsDeltas = new HashMap<>();
+    private final List<ContentReferrerEvent> contentEvents = new ArrayList<>();
+    private final List<MarketReferrerEvent> marketEvents = new ArrayList<>();
+    // 저장 전까지는 세션 창 대신 배치 안에서만 중복 판단에 사용하는 (대상, 세션)별 마지막 기록
+    private final Map<List<Object>, ReferrerTracking> pendingContentTrackings = new HashMap<>();
+    private final Map<List<Object>, ReferrerTracking> pendingMarketTrackings = new HashMap<>();
+  }
 }
@@ -0,0 +1,51 @@
+package liaison.groble.application.dashboard.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.common.cache.LocalTtlCache;
+import liaison.groble.domain.dashboard.entity.ReferrerTracking;
+
+/**
+ * 세션별 최근 유입 기록 창
+ *
+ * <p>중복 집계 판단을 위해 (대상, 세션)별 마지막으로 수집한 유입 기록을 메모리에 보관합니다. referrer_tracking을 세션 ID로 다시 조회하던 방식을
+ * 대체하며, 인스턴스별로 유지되므로 같은 세션이 다른 인스턴스로 분산되면 중복 판단이 누락될 수 있습니다.
+ */
+@Component
+public class ReferrerSessionWindow {
+  private final LocalTtlCache<String, ReferrerTracking> lastTrackings;
+
+  public ReferrerSessionWindow(
+      @Value("${groble.referrer.dedup.max-sessions:100000}") int maxSessions,
+      @Value("${groble.referrer.dedup.ttl:10m}") Duration ttl) {
+    this.lastTrackings = new LocalTtlCache<>(maxSessions, ttl);
+  }
+
+  public ReferrerTracking findLastContentTracking(Long contentId, String sessionId) {
+    return lastTrackings.get(contentKey(contentId, sessionId));
+  }
+
+  public ReferrerTracking findLastMarketTracking(String marketLinkUrl, String sessionId) {
+    return lastTrackings.get(marketKey(marketLinkUrl, sessionId));
+  }
+
+  public void recordContentTracking(Long contentId, String sessionId, ReferrerTracking tracking) {
+    lastTrackings.put(contentKey(contentId, sessionId), tracking);
+  }
+
+  public void recordMarketTracking(
+      String marketLinkUrl, String sessionId, ReferrerTracking tracking) {
+    lastTrackings.put(marketKey(marketLinkUrl, sessionId), tracking);
+  }
+
+  private String contentKey(Long contentId, String sessionId) {
+    return "content:" + contentId + ":" + sessionId;
+  }
+
+  private String marketKey(String marketLinkUrl, String sessionId) {
+    return "market:" + marketLinkUrl + ":" + sessionId;
+  }
+}
@@ -0,0 +1,77 @@
+package liaison.groble.application.dashboard.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import liaison.groble.domain.dashboard.repository.SellerSalesRollupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판매자 매출 롤업 재계산 배치
+ *
+ * <p>purchases 테이블을 기준으로 판매자별 롤업을 다시 만듭니다. 증분 반영이 실패한 건을 보정하는 용도이며, 판매자마다 별도 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Service
+public class SellerSalesRollupJobService {
+
+  private final SellerSalesRollupRepository sellerSalesRollupRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public SellerSalesRollupJobService(
+      SellerSalesRollupRepository sellerSalesRollupRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${dashboard.seller-sales-rollup.batch-size:200}") int batchSize) {
+    this.sellerSalesRollupRepository = sellerSalesRollupRepository;
+    this.batchSize = batchSize;
+
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.transactionTemplate = template;
+  }
+
+  /** 구매 이력이 있는 모든 판매자의 롤업을 재계산합니다. */
+  public void rebuildAll() {
+    long lastSellerId = 0L;
+    int rebuilt = 0;
+    int failed = 0;
+
+    while (true) {
+      List<Long> sellerIds =
+          sellerSalesRollupRepository.findSellerIdsWithPurchases(lastSellerId, batchSize);
+      if (sellerIds.isEmpty()) {
+        break;
+      }
+
+      for (Long sellerId : sellerIds) {
+        if (rebuildSeller(sellerId)) {
+          rebuilt++;
+        } else {
+          failed++;
+        }
+      }
+      lastSellerId = sellerIds.get(sellerIds.size() - 1);
+    }
+
+    log.info("판매자 매출 롤업 재계산 완료 - 성공: {}명, 실패: {}명", rebuilt, failed);
+  }
+
+  /** 한 판매자의 롤업을 재계산합니다. */
+  public boolean rebuildSeller(Long sellerId) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> sellerSalesRollupRepository.rebuildSeller(sellerId));
+      return true;
+    } catch (Exception e) {
+      log.error("판매자 매출 롤업 재계산 실패 - sellerId: {}", sellerId, e);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package liaison.groble.application.dashboard.service;
+
+import java.time.YearMonth;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import liaison.groble.domain.dashboard.dto.FlatDashboardOverviewDTO;
+import liaison.groble.domain.dashboard.repository.SellerSalesRollupRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판매자 매출 롤업 증분 반영
+ *
+ * <p>결제 완료·취소 요청·환불 등 구매 상태가 바뀌는 지점에서 호출합니다. 결제 트랜잭션이 커밋된 뒤 별도 트랜잭션으로 반영하므로 롤업 갱신 실패가 결제를
+ * 롤백시키지 않으며, 누락분은 주기적인 재계산 배치가 보정합니다.
+ */
+@Slf4j
+@Service
+public class SellerSalesRollupService {
+  private static final String METRIC_NAME = "dashboard.seller_sales_rollup.syncs";
+
+  private final SellerSalesRollupRepository sellerSalesRollupRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Counter appliedCounter;
+  private final Counter unchangedCounter;
+  private final Counter failedCounter;
+
+  public SellerSalesRollupService(
+      SellerSalesRollupRepository sellerSalesRollupRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.sellerSalesRollupRepository = sellerSalesRollupRepository;
+
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.transactionTemplate = template;
+
+    this.appliedCounter = counter(meterRegistry, "applied");
+    this.unchangedCounter = counter(meterRegistry, "unchanged");
+    this.failedCounter = counter(meterRegistry, "failed");
+  }
+
+  /** 현재 트랜잭션이 커밋된 후 구매 상태를 롤업에 반영합니다. 트랜잭션 밖이면 즉시 반영합니다. */
+  public void syncPurchaseAfterCommit(Long purchaseId) {
+    if (purchaseId == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              syncPurchase(purchaseId);
+            }
+          });
+      return;
+    }
+    syncPurchase(purchaseId);
+  }
+
+  /** 판매자의 누적 및 이번 달 매출/고객 수를 롤업에서 조회합니다. */
+  public FlatDashboardOverviewDTO getOverview(Long sellerId) {
+    return sellerSalesRollupRepository.getOverview(sellerId, YearMonth.now());
+  }
+
+  private void syncPurchase(Long purchaseId) {
+    try {
+      Boolean applied =
+          transactionTemplate.execute(
+              status -> sellerSalesRollupRepository.syncPurchase(purchaseId));
+      if (Boolean.TRUE.equals(applied)) {
+        appliedCounter.increment();
+      } else {
+        unchangedCounter.increment();
+      }
+    } catch (Exception e) {
+      failedCounter.increment();
+      log.error("판매자 매출 롤업 반영 실패, 재계산 배치에서 보정 - purchaseId: {}", purchaseId, e);
+    }
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_NAME).tag("outcome", outcome).register(meterRegistry);
+  }
+}
@@ -0,0 +1,25 @@
+package liaison.groble.application.dashboard.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.common.buffer.WriteBehindBuffer.DropPolicy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "groble.view-log.buffer")
+public class ViewLogBufferProperties {
+
+  private boolean enabled = true;
+  private int capacity = 20_000;
+  private int flushSize = 500;
+  private Duration flushInterval = Duration.ofSeconds(1);
+  private Duration shutdownTimeout = Duration.ofSeconds(10);
+  private DropPolicy dropPolicy = DropPolicy.WRITE_THROUGH;
+}
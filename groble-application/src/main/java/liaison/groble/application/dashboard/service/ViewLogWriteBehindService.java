@@ -0,0 +1,91 @@
+package liaison.groble.application.dashboard.service;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import liaison.groble.application.common.buffer.WriteBehindBuffer;
+import liaison.groble.domain.dashboard.entity.ContentViewLog;
+import liaison.groble.domain.dashboard.entity.MarketViewLog;
+import liaison.groble.domain.dashboard.repository.ContentViewLogRepository;
+import liaison.groble.domain.dashboard.repository.MarketViewLogRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘텐츠/마켓 조회 로그 쓰기 지연 적재 서비스
+ *
+ * <p>조회 1건마다 INSERT 트랜잭션을 여는 대신 버퍼에 모아 다건 INSERT로 기록합니다. 웹 서버 종료(graceful shutdown) 이후, DataSource
+ * 종료 이전에 남은 로그를 모두 플러시합니다.
+ */
+@Slf4j
+@Service
+public class ViewLogWriteBehindService implements SmartLifecycle {
+  // 웹 서버 graceful shutdown(Integer.MAX_VALUE - 1024) 이후에 종료되도록 더 낮은 phase 사용
+  private static final int PHASE = Integer.MAX_VALUE - 2048;
+
+  private final ViewLogBufferProperties properties;
+  private final WriteBehindBuffer<ContentViewLog> contentViewLogBuffer;
+  private final WriteBehindBuffer<MarketViewLog> marketViewLogBuffer;
+
+  public ViewLogWriteBehindService(
+      ViewLogBufferProperties properties,
+      ContentViewLogRepository contentViewLogRepository,
+      MarketViewLogRepository marketViewLogRepository,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.contentViewLogBuffer =
+        new WriteBehindBuffer<>(
+            "content_view_log",
+            properties.getCapacity(),
+            properties.getFlushSize(),
+            properties.getFlushInterval(),
+            properties.getDropPolicy(),
+            contentViewLogRepository::saveAllInBatch,
+            meterRegistry);
+    this.marketViewLogBuffer =
+        new WriteBehindBuffer<>(
+            "market_view_log",
+            properties.getCapacity(),
+            properties.getFlushSize(),
+            properties.getFlushInterval(),
+            properties.getDropPolicy(),
+            marketViewLogRepository::saveAllInBatch,
+            meterRegistry);
+  }
+
+  public void enqueue(ContentViewLog contentViewLog) {
+    contentViewLogBuffer.offer(contentViewLog);
+  }
+
+  public void enqueue(MarketViewLog marketViewLog) {
+    marketViewLogBuffer.offer(marketViewLog);
+  }
+
+  @Override
+  public void start() {
+    // 비활성화 시 버퍼를 시작하지 않으며, 이 경우 적재 요청은 즉시 기록됨
+    if (!properties.isEnabled()) {
+      log.info("조회 로그 쓰기 지연 버퍼 비활성화 - 즉시 기록 모드");
+      return;
+    }
+    contentViewLogBuffer.start();
+    marketViewLogBuffer.start();
+  }
+
+  @Override
+  public void stop() {
+    contentViewLogBuffer.stop(properties.getShutdownTimeout());
+    marketViewLogBuffer.stop(properties.getShutdownTimeout());
+  }
+
+  @Override
+  public boolean isRunning() {
+    return contentViewLogBuffer.isRunning();
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
@@ -0,0 +1,117 @@
+package liaison.groble.application.dashboard.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
+import liaison.groble.domain.dashboard.support.HyperLogLog;
+
+/**
+ * 조회 통계 집계기 (콘텐츠/마켓 공용)
+ *
+ * <p>원본 로그를 청크 단위로 흘려보내거나 저장된 일별 스케치를 병합하면서, 대상(콘텐츠·마켓)별 조회수와 고유/로그인 방문자 HyperLogLog 스케치만
+ * 유지합니다. 메모리 사용량은 로그 건수가 아닌 대상 수에 비례합니다.
+ */
+public class ViewStatsAccumulator {
+  private final Map<Long, Entry> entries = new HashMap<>();
+
+  public void addLog(FlatViewLogDTO log) {
+    Entry entry = entries.computeIfAbsent(log.getTargetId(), id -> new Entry());
+    entry.viewCount++;
+
+    String visitorKey =
+        resolveVisitorKey(log.getViewerId(), log.getVisitorHash(), log.getViewerIp());
+    if (visitorKey != null) {
+      entry.uniqueViewers.add(visitorKey);
+    }
+    if (log.getViewerId() != null) {
+      entry.loggedInViewers().add("user:" + log.getViewerId());
+    }
+  }
+
+  /**
+   * 일별 통계 스케치를 병합합니다.
+   *
+   * @return 스케치가 없는(스케치 도입 이전) 행이면 false
+   */
+  public boolean mergeDaily(FlatViewStatsSketchDTO stats) {
+    Entry entry = entries.computeIfAbsent(stats.getTargetId(), id -> new Entry());
+    entry.viewCount += stats.getViewCount() != null ? stats.getViewCount() : 0L;
+
+    if (stats.getUniqueViewerSketch() == null) {
+      return false;
+    }
+    entry.uniqueViewers.merge(HyperLogLog.fromBytes(stats.getUniqueViewerSketch()));
+    if (stats.getLoggedInViewerSketch() != null) {
+      entry.loggedInViewers().merge(HyperLogLog.fromBytes(stats.getLoggedInViewerSketch()));
+    }
+    return true;
+  }
+
+  /** 다른 집계기의 조회수와 스케치를 합칩니다. */
+  public void merge(ViewStatsAccumulator other) {
+    other.entries.forEach(
+        (targetId, source) -> {
+          Entry entry = entries.computeIfAbsent(targetId, id -> new Entry());
+          entry.viewCount += source.viewCount;
+          entry.uniqueViewers.merge(source.uniqueViewers);
+          if (source.loggedInViewers != null) {
+            entry.loggedInViewers().merge(source.loggedInViewers);
+          }
+        });
+  }
+
+  public void forEach(BiConsumer<Long, Entry> consumer) {
+    entries.forEach(consumer);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private static String resolveVisitorKey(Long viewerId, String visitorHash, String viewerIp) {
+    if (viewerId != null) {
+      return "user:" + viewerId;
+    }
+    if (visitorHash != null && !visitorHash.isBlank()) {
+      return "anon:" + visitorHash;
+    }
+    return viewerIp;
+  }
+
+  public static class Entry {
+    private long viewCount;
+    private final HyperLogLog uniqueViewers = new HyperLogLog();
+    // 로그인 방문자가 없는 대상이 대부분이므로 필요할 때만 생성
+    private HyperLogLog loggedInViewers;
+
+    private HyperLogLog loggedInViewers() {
+      if (loggedInViewers == null) {
+        loggedInViewers = new HyperLogLog();
+      }
+      return loggedInViewers;
+    }
+
+    public long getViewCount() {
+      return viewCount;
+    }
+
+    public long getUniqueViewerCount() {
+      return uniqueViewers.estimate();
+    }
+
+    public long getLoggedInViewerCount() {
+      return loggedInViewers != null ? loggedInViewers.estimate() : 0L;
+    }
+
+    public byte[] getUniqueViewerSketch() {
+      return uniqueViewers.toBytes();
+    }
+
+    public byte[] getLoggedInViewerSketch() {
+      return loggedInViewers != null ? loggedInViewers.toBytes() : null;
+    }
+  }
+}
@@ -1,14 +1,26 @@
 package liaison.groble.application.file;
 
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.application.content.service.ContentCacheService;
 import liaison.groble.application.file.dto.FileDTO;
 import liaison.groble.application.file.dto.FileUploadDTO;
+import liaison.groble.application.file.dto.PresignedUploadDTO;
 import liaison.groble.application.user.service.UserReader;
+import liaison.groble.common.exception.EntityNotFoundException;
 import liaison.groble.common.exception.FileSizeLimitExceededException;
+import liaison.groble.common.exception.ForbiddenException;
 import liaison.groble.common.exception.InvalidFileTypeException;
 import liaison.groble.domain.file.entity.FileInfo;
+import liaison.groble.domain.file.entity.PresignedUrlInfo;
+import liaison.groble.domain.file.entity.StoredFileInfo;
 import liaison.groble.domain.file.enums.FileTypeGroup;
 import liaison.groble.domain.file.repository.FileRepository;
 import liaison.groble.domain.file.service.FileStorageService;
@@ -22,11 +34,16 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class FileService {
+  private static final Pattern SAFE_EXTENSION = Pattern.compile("[A-Za-z0-9]{1,10}");
 
   private final FileStorageService fileStorageService;
   private final FileRepository fileRepository;
   private final UserRepository userRepository;
   private final UserReader userReader;
+  private final ContentCacheService contentCacheService;
+
+  @Value("${file.presigned-upload.max-file-size:2GB}")
+  private DataSize presignedUploadMaxFileSize = DataSize.ofGigabytes(2);
 
   /** 파일을 S3에 업로드하고 DB에 정보를 저장합니다. 디렉토리 타입에 따라 다른 비즈니스 로직을 적용합니다. */
   @Transactional
@@ -40,11 +57,107 @@ public class FileService {
     long fileSize = fileUploadDTO.getFileSize();
     String directory = fileUploadDTO.getDirectory();
 
-    // S3에 파일 업로드
+    // S3에 파일 업로드 (크기를 함께 넘겨 메모리 버퍼링 없이 스트리밍)
     String fileUrl =
         fileStorageService.uploadFile(
-            fileUploadDTO.getInputStream(), fileName, contentType, directory);
+            fileUploadDTO.getInputStream(), fileSize, fileName, contentType, directory);
+
+    return saveUploadedFile(
+        userId, fileName, originalFileName, fileUrl, contentType, fileSize, directory);
+  }
+
+  /**
+   * 클라이언트가 S3에 직접 업로드할 presigned URL을 발급합니다. 대용량 파일이 API 서버를 거치지 않도록 하며, 업로드 후 {@link
+   * #completePresignedUpload}로 파일 정보를 등록해야 합니다.
+   */
+  public PresignedUploadDTO issuePresignedUpload(
+      Long userId, String originalFilename, String contentType, String directory) {
+    validateUserPermissionByDirectory(
+        userId,
+        FileUploadDTO.builder()
+            .originalFilename(originalFilename)
+            .contentType(contentType)
+            .directory(directory)
+            .build());
+
+    // 클라이언트가 보낸 파일명은 객체 키에 넣지 않음 (원본 파일명은 등록 시 메타데이터로만 저장)
+    String fileName = UUID.randomUUID() + extensionOf(originalFilename);
+    PresignedUrlInfo presignedUrlInfo =
+        fileStorageService.generatePresignedUploadUrl(fileName, contentType, directory, userId);
+
+    return PresignedUploadDTO.builder()
+        .fileKey(presignedUrlInfo.getKey())
+        .uploadUrl(presignedUrlInfo.getUrl())
+        .expiration(presignedUrlInfo.getExpiration())
+        .contentType(presignedUrlInfo.getContentType())
+        .uploadHeaders(presignedUrlInfo.getHeaders())
+        .fileUrl(presignedUrlInfo.getFileUrl())
+        .build();
+  }
+
+  /** presigned URL로 업로드된 파일을 검증하고 DB에 정보를 저장합니다. */
+  @Transactional
+  public FileDTO completePresignedUpload(Long userId, String fileKey, String originalFilename) {
+    StoredFileInfo storedFile =
+        fileStorageService
+            .findStoredFile(fileKey)
+            .orElseThrow(() -> new EntityNotFoundException("업로드된 파일을 찾을 수 없습니다: " + fileKey));
+
+    if (!userId.equals(storedFile.getUploaderId())) {
+      throw new ForbiddenException("본인이 업로드한 파일만 등록할 수 있습니다.");
+    }
+
+    // 재시도 요청은 기존 등록 결과를 그대로 반환
+    FileInfo existing = fileRepository.findByFileUrl(storedFile.getFileUrl());
+    if (existing != null) {
+      return FileDTO.builder()
+          .originalFilename(existing.getOriginalFilename())
+          .contentType(existing.getContentType())
+          .fileUrl(existing.getFileUrl())
+          .build();
+    }
+
+    int separator = fileKey.lastIndexOf('/');
+    String directory = separator > 0 ? fileKey.substring(0, separator) : "";
+    String fileName = fileKey.substring(separator + 1);
+
+    // presigned PUT은 업로드 크기를 제한할 수 없으므로 완료 시점에 검증하고 초과 파일은 삭제
+    try {
+      if (storedFile.getContentLength() > presignedUploadMaxFileSize.toBytes()) {
+        throw new FileSizeLimitExceededException(
+            "파일은 " + presignedUploadMaxFileSize.toMegabytes() + "MB 이하만 업로드할 수 있습니다.");
+      }
+      validateUserPermissionByDirectory(
+          userId,
+          FileUploadDTO.builder()
+              .originalFilename(originalFilename)
+              .contentType(storedFile.getContentType())
+              .fileSize(storedFile.getContentLength())
+              .directory(directory)
+              .build());
+    } catch (FileSizeLimitExceededException | InvalidFileTypeException e) {
+      fileStorageService.deleteFile(fileKey);
+      throw e;
+    }
 
+    return saveUploadedFile(
+        userId,
+        fileName,
+        originalFilename,
+        storedFile.getFileUrl(),
+        storedFile.getContentType(),
+        storedFile.getContentLength(),
+        directory);
+  }
+
+  private FileDTO saveUploadedFile(
+      Long userId,
+      String fileName,
+      String originalFileName,
+      String fileUrl,
+      String contentType,
+      long fileSize,
+      String directory) {
     // 파일 정보 DB에 저장
     FileInfo fileInfo =
         FileInfo.builder()
@@ -69,6 +182,19 @@ public class FileService {
         .build();
   }
 
+  /** 원본 파일명에서 영문·숫자로만 된 확장자를 ".ext" 형태로 추출합니다. 안전한 확장자가 없으면 빈 문자열을 반환합니다. */
+  private static String extensionOf(String originalFilename) {
+    if (originalFilename == null) {
+      return "";
+    }
+    String extension = originalFilename.substring(originalFilename.lastIndexOf('.') + 1);
+    if (extension.length() == originalFilename.length()
+        || !SAFE_EXTENSION.matcher(extension).matches()) {
+      return "";
+    }
+    return "." + extension.toLowerCase(Locale.ROOT);
+  }
+
   /** 디렉토리 타입에 따라 사용자 권한을 검증합니다. */
   private void validateUserPermissionByDirectory(Long userId, FileUploadDTO fileUploadDTO) {
     String directory = fileUploadDTO.getDirectory();
@@ -113,6 +239,7 @@ public class FileService {
 
     user.updateProfileImageUrl(fileInfo.getFileUrl());
     userRepository.save(user);
+    contentCacheService.evictSeller(userId);
   }
 
   /** 파일을 삭제합니다. */
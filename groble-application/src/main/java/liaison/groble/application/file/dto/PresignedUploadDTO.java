@@ -0,0 +1,18 @@
+package liaison.groble.application.file.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PresignedUploadDTO {
+  private String fileKey;
+  private String uploadUrl;
+  private LocalDateTime expiration;
+  private String contentType;
+  private Map<String, String> uploadHeaders;
+  private String fileUrl;
+}
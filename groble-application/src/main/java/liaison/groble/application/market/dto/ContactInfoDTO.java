@@ -6,9 +6,11 @@ import liaison.groble.domain.user.entity.SellerContact;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class ContactInfoDTO {
   private String instagram;
   private String email;
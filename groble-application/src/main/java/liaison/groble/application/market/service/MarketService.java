@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import liaison.groble.application.content.ContentReader;
 import liaison.groble.application.content.dto.ContentCardDTO;
+import liaison.groble.application.content.service.ContentCacheService;
 import liaison.groble.application.market.dto.ContactInfoDTO;
 import liaison.groble.application.market.dto.MarketEditDTO;
 import liaison.groble.application.market.dto.MarketIntroSectionDTO;
@@ -39,6 +40,7 @@ public class MarketService {
   private final ContentReader contentReader;
   private final UserReader userReader;
   private final SellerContactRepository sellerContactRepository;
+  private final ContentCacheService contentCacheService;
 
   @Transactional(readOnly = true)
   public MarketIntroSectionDTO getEditIntroSection(Long userId) {
@@ -129,6 +131,9 @@ public class MarketService {
     } else {
       clearRepresentativeContent(user);
     }
+
+    // 프로필 이미지·연락처 변경을 공개 콘텐츠 캐시에 반영
+    contentCacheService.evictSeller(userId);
   }
 
   public void checkMarketLink(String marketLinkUrl) {
@@ -156,6 +161,7 @@ public class MarketService {
     } else {
       saveSellerContact(user, ContactType.EMAIL, normalizedEmail);
     }
+    contentCacheService.evictSeller(userId);
   }
 
   private void updateSellerContacts(User user, ContactInfoDTO contactInfo) {
@@ -3,16 +3,17 @@ package liaison.groble.application.market.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.application.dashboard.service.DailySketchMerger;
+import liaison.groble.application.dashboard.service.ViewStatsAccumulator;
 import liaison.groble.domain.common.enums.PeriodType;
-import liaison.groble.domain.dashboard.entity.MarketViewLog;
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
 import liaison.groble.domain.dashboard.entity.MarketViewStats;
 import liaison.groble.domain.dashboard.repository.MarketViewLogRepository;
 import liaison.groble.domain.dashboard.repository.MarketViewStatsRepository;
@@ -25,6 +26,10 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 @Slf4j
 public class MarketStatsAggregationService {
+  // 키셋 청크 크기 (엔티티가 아닌 프로젝션으로 조회하므로 영속성 컨텍스트에 쌓이지 않음)
+  private static final int LOG_CHUNK_SIZE = 5_000;
+  private static final int STATS_CHUNK_SIZE = 1_000;
+
   private final MarketViewLogRepository marketViewLogRepository;
   private final MarketViewStatsRepository marketViewStatsRepository;
 
@@ -36,11 +41,13 @@ public class MarketStatsAggregationService {
     // 기존 집계 삭제 → 없으면 무시
     marketViewStatsRepository.deleteByStatDateAndPeriodType(yesterday, PeriodType.DAILY);
 
-    // 로그에서 새 집계 수집
-    List<MarketViewStats> stats = aggregateFromLogs(yesterday);
+    // 로그를 청크 단위로 스트리밍하며 집계
+    LocalDateTime start = yesterday.atStartOfDay();
+    ViewStatsAccumulator accumulator = new ViewStatsAccumulator();
+    aggregateFromLogs(accumulator, start, start.plusDays(1));
 
-    // 새 집계 저장
-    marketViewStatsRepository.saveAll(stats);
+    // 새 집계 저장 (일별은 월별 병합을 위해 스케치 포함)
+    marketViewStatsRepository.saveAll(toStats(accumulator, yesterday, PeriodType.DAILY));
   }
 
   public void aggregateMonthlyStats() {
@@ -52,119 +59,90 @@ public class MarketStatsAggregationService {
     // 1) 기존 월별 집계 삭제
     marketViewStatsRepository.deleteByStatDateAndPeriodType(monthStart, PeriodType.MONTHLY);
 
-    // 2) 로그에서 새 집계 수집
-    List<MarketViewStats> stats = aggregateMonthlyFromLogs(monthStart, monthEnd);
+    // 2) 일별 스케치 병합으로 새 집계 수집 (일별 행이 없거나 스케치가 없는 일자는 그 일자만 로그 스트리밍으로 보충)
+    ViewStatsAccumulator accumulator = new ViewStatsAccumulator();
+    List<LocalDate> missingDates = mergeDailySketches(accumulator, monthStart, monthEnd);
+    if (!missingDates.isEmpty()) {
+      log.warn("Daily sketches missing for {}, falling back to log scan", missingDates);
+      for (LocalDate date : missingDates) {
+        aggregateFromLogs(accumulator, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+      }
+    }
 
-    // 3) 새 집계 저장
-    marketViewStatsRepository.saveAll(stats);
+    // 3) 새 집계 저장 (월별 통계는 ‘그 달의 첫날’ 기준으로 저장)
+    marketViewStatsRepository.saveAll(toStats(accumulator, monthStart, PeriodType.MONTHLY));
   }
 
-  private List<MarketViewStats> aggregateFromLogs(LocalDate date) {
-    LocalDateTime start = date.atStartOfDay();
-    LocalDateTime end = start.plusDays(1);
-
-    // 1) 하루치 로그 조회
-    List<MarketViewLog> logs = marketViewLogRepository.findByViewedAtBetween(start, end);
-
-    // 2) 마켓별로 그룹핑
-    Map<Long, List<MarketViewLog>> grouped =
-        logs.stream().collect(Collectors.groupingBy(MarketViewLog::getMarketId));
-
-    // 3) 그룹별 집계 및 DTO 변환
-    return grouped.entrySet().stream()
-        .map(
-            entry -> {
-              Long marketId = entry.getKey();
-              List<MarketViewLog> items = entry.getValue();
-
-              long viewCount = items.size();
-
-              long uniqueViewerCount =
-                  items.stream()
-                      .map(
-                          log ->
-                              resolveVisitorKey(
-                                  log.getViewerId(), log.getVisitorHash(), log.getViewerIp()))
-                      .filter(Objects::nonNull)
-                      .distinct()
-                      .count();
-
-              long loggedInViewerCount =
-                  items.stream()
-                      .map(MarketViewLog::getViewerId)
-                      .filter(Objects::nonNull)
-                      .distinct()
-                      .count();
-
-              return MarketViewStats.builder()
-                  .marketId(marketId)
-                  .statDate(date)
-                  .periodType(PeriodType.DAILY)
-                  .viewCount(viewCount)
-                  .uniqueViewerCount(uniqueViewerCount)
-                  .loggedInViewerCount(loggedInViewerCount)
-                  .build();
-            })
-        .collect(Collectors.toList());
-  }
+  private void aggregateFromLogs(
+      ViewStatsAccumulator accumulator, LocalDateTime start, LocalDateTime end) {
+    LocalDateTime lastViewedAt = start;
+    Long lastId = 0L;
+    long scanned = 0;
+
+    while (true) {
+      List<FlatViewLogDTO> chunk =
+          marketViewLogRepository.findViewLogChunk(end, lastViewedAt, lastId, LOG_CHUNK_SIZE);
+      if (chunk.isEmpty()) {
+        break;
+      }
+      chunk.forEach(accumulator::addLog);
+      scanned += chunk.size();
+
+      FlatViewLogDTO last = chunk.get(chunk.size() - 1);
+      lastViewedAt = last.getViewedAt();
+      lastId = last.getId();
+      if (chunk.size() < LOG_CHUNK_SIZE) {
+        break;
+      }
+    }
 
-  private List<MarketViewStats> aggregateMonthlyFromLogs(LocalDate monthStart, LocalDate monthEnd) {
-    LocalDateTime start = monthStart.atStartOfDay();
-    // monthEnd 끝자락까지 포함하려면 다음날 00:00 전까지
-    LocalDateTime end = monthEnd.plusDays(1).atStartOfDay();
-
-    // 1) 해당 기간 로그 조회
-    List<MarketViewLog> logs = marketViewLogRepository.findByViewedAtBetween(start, end);
-
-    // 2) 마켓별로 그룹핑
-    Map<Long, List<MarketViewLog>> grouped =
-        logs.stream().collect(Collectors.groupingBy(MarketViewLog::getMarketId));
-
-    // 3) 그룹별로 집계 후 DTO 변환
-    return grouped.entrySet().stream()
-        .map(
-            entry -> {
-              Long marketId = entry.getKey();
-              List<MarketViewLog> items = entry.getValue();
-
-              long viewCount = items.size();
-
-              long uniqueViewerCount =
-                  items.stream()
-                      .map(
-                          log ->
-                              resolveVisitorKey(
-                                  log.getViewerId(), log.getVisitorHash(), log.getViewerIp()))
-                      .filter(Objects::nonNull)
-                      .distinct()
-                      .count();
-
-              long loggedInViewerCount =
-                  items.stream()
-                      .map(MarketViewLog::getViewerId)
-                      .filter(Objects::nonNull)
-                      .distinct()
-                      .count();
-
-              return MarketViewStats.builder()
-                  .marketId(marketId)
-                  .statDate(monthStart) // 월별 통계는 ‘그 달의 첫날’ 기준으로 저장
-                  .periodType(PeriodType.MONTHLY)
-                  .viewCount(viewCount)
-                  .uniqueViewerCount(uniqueViewerCount)
-                  .loggedInViewerCount(loggedInViewerCount)
-                  .build();
-            })
-        .collect(Collectors.toList());
+    log.info(
+        "Scanned {} view logs for {} targets ({} ~ {})", scanned, accumulator.size(), start, end);
   }
 
-  private String resolveVisitorKey(Long viewerId, String visitorHash, String viewerIp) {
-    if (viewerId != null) {
-      return "user:" + viewerId;
+  /** 일별 스케치를 병합하고, 스케치로 채우지 못한 일자를 반환합니다. */
+  private List<LocalDate> mergeDailySketches(
+      ViewStatsAccumulator accumulator, LocalDate startDate, LocalDate endDate) {
+    DailySketchMerger merger = new DailySketchMerger(accumulator);
+    LocalDate lastStatDate = startDate;
+    Long lastId = 0L;
+
+    while (true) {
+      List<FlatViewStatsSketchDTO> chunk =
+          marketViewStatsRepository.findDailySketchChunk(
+              endDate, lastStatDate, lastId, STATS_CHUNK_SIZE);
+      if (chunk.isEmpty()) {
+        break;
+      }
+      chunk.forEach(merger::add);
+
+      FlatViewStatsSketchDTO last = chunk.get(chunk.size() - 1);
+      lastStatDate = last.getStatDate();
+      lastId = last.getId();
+      if (chunk.size() < STATS_CHUNK_SIZE) {
+        break;
+      }
     }
-    if (visitorHash != null && !visitorHash.isBlank()) {
-      return "anon:" + visitorHash;
-    }
-    return viewerIp;
+    return merger.missingDates(startDate, endDate);
+  }
+
+  private List<MarketViewStats> toStats(
+      ViewStatsAccumulator accumulator, LocalDate statDate, PeriodType periodType) {
+    boolean withSketch = periodType == PeriodType.DAILY;
+    List<MarketViewStats> stats = new ArrayList<>(accumulator.size());
+    accumulator.forEach(
+        (marketId, entry) ->
+            stats.add(
+                MarketViewStats.builder()
+                    .marketId(marketId)
+                    .statDate(statDate)
+                    .periodType(periodType)
+                    .viewCount(entry.getViewCount())
+                    .uniqueViewerCount(entry.getUniqueViewerCount())
+                    .loggedInViewerCount(entry.getLoggedInViewerCount())
+                    .uniqueViewerSketch(withSketch ? entry.getUniqueViewerSketch() : null)
+                    .loggedInViewerSketch(withSketch ? entry.getLoggedInViewerSketch() : null)
+                    .build()));
+    return stats;
   }
 }
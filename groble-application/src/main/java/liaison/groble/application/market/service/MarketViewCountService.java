@@ -5,12 +5,12 @@ import java.time.LocalDateTime;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import liaison.groble.application.dashboard.service.ViewLogWriteBehindService;
 import liaison.groble.application.dashboard.service.ViewTrackingKeyGenerator;
 import liaison.groble.application.dashboard.service.ViewTrackingKeyGenerator.ViewerIdentity;
 import liaison.groble.application.market.dto.MarketViewCountDTO;
 import liaison.groble.application.user.service.UserReader;
 import liaison.groble.domain.dashboard.entity.MarketViewLog;
-import liaison.groble.domain.dashboard.repository.MarketViewLogRepository;
 import liaison.groble.domain.market.entity.Market;
 import liaison.groble.domain.port.DailyViewPort;
 
@@ -27,14 +27,14 @@ public class MarketViewCountService {
   // Reader
   private final UserReader userReader;
 
-  // Repository
-  private final MarketViewLogRepository marketViewLogRepository;
+  // Buffer
+  private final ViewLogWriteBehindService viewLogWriteBehindService;
 
   // Port
   private final DailyViewPort dailyViewPort;
   private final ViewTrackingKeyGenerator viewTrackingKeyGenerator;
 
-  @Async
+  @Async("viewCountExecutor")
   public void recordMarketView(String marketLinkUrl, MarketViewCountDTO marketViewCountDTO) {
     // 관리자 계정(groble@groble.im, userId=1)에 대해서는 조회수 집계를 하지 않음
     if (ADMIN_USER_ID.equals(marketViewCountDTO.getUserId())) {
@@ -85,7 +85,8 @@ public class MarketViewCountService {
               .viewedAt(LocalDateTime.now())
               .build();
 
-      marketViewLogRepository.save(log);
+      // 버퍼에 적재 후 다건 INSERT로 일괄 기록
+      viewLogWriteBehindService.enqueue(log);
     }
   }
 }
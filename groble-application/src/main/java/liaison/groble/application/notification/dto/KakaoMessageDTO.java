@@ -15,4 +15,6 @@ public class KakaoMessageDTO {
   private String title;
   private String content;
   private List<ButtonInfo> buttons;
+  // 비즈뿌리오 refkey (전달 결과 리포트를 발송 큐 항목과 연결, 없으면 새로 생성)
+  private String refKey;
 }
@@ -49,6 +49,11 @@ public class NotificationDetailsDTO {
     return NotificationDetailsDTO.builder().nickname(nickname).systemTitle(systemTitle).build();
   }
 
+  /** Factory method for SCHEDULED_NOTICE notifications */
+  public static NotificationDetailsDTO scheduledNotice(String nickname, String systemTitle) {
+    return NotificationDetailsDTO.builder().nickname(nickname).systemTitle(systemTitle).build();
+  }
+
   /** Factory method for CONTENT_REVIEW_REPLY notifications */
   public static NotificationDetailsDTO contentReviewReplied(
       Long contentId, Long reviewId, String thumbnailUrl) {
@@ -44,7 +44,7 @@ public class NotificationMapper {
     switch (notificationType) {
       case SYSTEM:
         switch (subNotificationType) {
-          case WELCOME_GROBLE -> builder.systemDetails(
+          case WELCOME_GROBLE, SCHEDULED_NOTICE -> builder.systemDetails(
               SystemDetails.builder()
                   .nickname(((SystemDetails) detailObject).getNickname())
                   .systemTitle(((SystemDetails) detailObject).getSystemTitle())
@@ -0,0 +1,337 @@
+package liaison.groble.application.notification.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.common.executor.ExecutorPool;
+import liaison.groble.application.common.executor.InstrumentedExecutors;
+import liaison.groble.domain.notification.queue.dto.EmailSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.EmailSendQueueRepository;
+import liaison.groble.external.mail.dto.MailRequest;
+import liaison.groble.external.mail.dto.MailSendResult;
+import liaison.groble.external.mail.service.SmtpMailSender;
+import liaison.groble.external.mail.template.MailTemplateType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 큐 워커
+ *
+ * <p>email_send_queue를 SKIP LOCKED로 점유한 뒤 SMTP 연결 수만큼 나눠, 나눈 묶음마다 풀링된 연결 하나로 여러 메일을 이어서 발송합니다. 일시적
+ * 오류와 점유 기간 안에 끝나지 않은 발송은 지수 백오프로 재시도하고, 수신 주소 거절처럼 재시도해도 성공할 수 없거나 최대 시도 횟수를 넘긴 메일, 유효
+ * 시간이 지난 메일은 DEAD(dead-letter)로 남깁니다.
+ *
+ * <p>발송 결과는 묶음 발송이 끝나는 즉시 그 묶음 단위로 기록하며, 발송 완료 지표는 기록이 반영된 메일만 집계합니다. 점유 기간 안에 시작하지 못한 묶음은
+ * 보내지 않고 재시도로 돌리고, 이미 발송 중인 묶음은 끝날 때까지 기다리지 않고 끝난 뒤 결과를 기록합니다.
+ *
+ * <p>전달은 최소 한 번(at-least-once) 보장입니다. SMTP 접수 후 결과를 기록하기 전에 점유가 만료되거나 기록이 실패하면 다른 워커가 같은 메일을 다시
+ * 점유해 발송하므로, 드물게 같은 메일이 두 번 발송될 수 있습니다.
+ */
+@Slf4j
+@Service
+public class EmailSendQueueWorker implements DisposableBean {
+  private static final String METRIC_NAME = "email.send.queue";
+  private static final int MAX_BATCHES_PER_RUN = 10;
+  private static final int CHUNK_SIZE = 1000;
+  private static final TypeReference<Map<String, String>> PARAMS_TYPE = new TypeReference<>() {};
+
+  private final EmailSendQueueRepository emailSendQueueRepository;
+  private final SmtpMailSender smtpMailSender;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolTaskExecutor sendExecutor;
+
+  private final int batchSize;
+  private final int connections;
+  private final Duration lease;
+  private final int maxAttempts;
+  private final Duration retryBaseDelay;
+  private final Duration retryMaxDelay;
+  private final Duration retention;
+
+  public EmailSendQueueWorker(
+      EmailSendQueueRepository emailSendQueueRepository,
+      SmtpMailSender smtpMailSender,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${groble.mail-queue.batch-size:100}") int batchSize,
+      @Value("${groble.mail-queue.lease:2m}") Duration lease,
+      @Value("${groble.mail-queue.max-attempts:5}") int maxAttempts,
+      @Value("${groble.mail-queue.retry-base-delay:30s}") Duration retryBaseDelay,
+      @Value("${groble.mail-queue.retry-max-delay:30m}") Duration retryMaxDelay,
+      @Value("${groble.mail-queue.retention:7d}") Duration retention,
+      @Value("${groble.mail-pool.size:4}") int connections) {
+    this.emailSendQueueRepository = emailSendQueueRepository;
+    this.smtpMailSender = smtpMailSender;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.connections = connections;
+    this.lease = lease;
+    this.maxAttempts = maxAttempts;
+    this.retryBaseDelay = retryBaseDelay;
+    this.retryMaxDelay = retryMaxDelay;
+    this.retention = retention;
+
+    this.sendExecutor =
+        InstrumentedExecutors.create("mail-send", ExecutorPool.fixed(connections), meterRegistry);
+  }
+
+  /** 대기 중인 메일을 배치 단위로 발송합니다. 한 번의 실행에서 최대 {@value #MAX_BATCHES_PER_RUN}개 배치까지 처리합니다. */
+  public void drain() {
+    try {
+      for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+        if (sendBatch() < batchSize) {
+          return;
+        }
+      }
+    } finally {
+      smtpMailSender.evictIdleConnections();
+    }
+  }
+
+  /**
+   * 메일 한 배치를 점유해 발송하고 결과를 기록합니다.
+   *
+   * @return 점유한 메일 수
+   */
+  public int sendBatch() {
+    List<EmailSendQueueItemDTO> items =
+        emailSendQueueRepository.claimBatch(batchSize, lease, maxAttempts);
+    if (items.isEmpty()) {
+      return 0;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    List<EmailSendQueueItemDTO> sendable = new ArrayList<>(items.size());
+    List<MailRequest> requests = new ArrayList<>(items.size());
+    for (EmailSendQueueItemDTO item : items) {
+      if (item.getExpiresAt() != null && item.getExpiresAt().isBefore(now)) {
+        dead(item, "유효 시간 경과");
+        continue;
+      }
+      try {
+        requests.add(
+            new MailRequest(
+                MailTemplateType.valueOf(item.getTemplate()),
+                item.getRecipient(),
+                objectMapper.readValue(item.getParams(), PARAMS_TYPE)));
+        sendable.add(item);
+      } catch (Exception e) {
+        // 템플릿이나 저장된 값을 읽을 수 없으면 재시도해도 성공할 수 없음
+        dead(item, describe(e));
+      }
+    }
+
+    // 연결 수만큼 나눠 묶음마다 연결 하나로 이어서 발송하고, 끝난 묶음부터 결과를 기록
+    int chunkSize = Math.max(1, (requests.size() + connections - 1) / connections);
+    List<Chunk> chunks = new ArrayList<>();
+    for (int from = 0; from < requests.size(); from += chunkSize) {
+      int to = Math.min(from + chunkSize, requests.size());
+      Chunk chunk = new Chunk(sendable.subList(from, to), requests.subList(from, to));
+      chunk.future = CompletableFuture.runAsync(chunk::send, sendExecutor);
+      chunks.add(chunk);
+    }
+
+    long deadline = System.nanoTime() + lease.toNanos();
+    for (Chunk chunk : chunks) {
+      try {
+        chunk.future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        // 기록하지 못한 메일은 점유가 만료된 뒤 다시 점유되어 재발송됨
+        log.error("메일 발송 결과 기록 실패 - 묶음 시작 id: {}", chunk.items.get(0).getId(), e.getCause());
+      } catch (TimeoutException e) {
+        if (chunk.abandon()) {
+          // 시작하지 못한 묶음은 보낸 메일이 없으므로 실패 시도로 보고 재시도 또는 DEAD 처리
+          log.warn("메일 발송 시간 초과, 미발송 묶음 재시도 - 묶음 시작 id: {}", chunk.items.get(0).getId());
+          for (EmailSendQueueItemDTO item : chunk.items) {
+            retryOrDead(item, describe(e));
+          }
+        } else {
+          // 발송 중인 묶음은 이미 보낸 메일이 있을 수 있어 실패로 기록하지 않고, 끝난 뒤 직접 결과를 기록
+          log.warn("메일 발송 시간 초과, 진행 중인 묶음은 완료 후 기록 - 묶음 시작 id: {}", chunk.items.get(0).getId());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return items.size();
+  }
+
+  /** 한 묶음의 발송 결과를 기록합니다. 발송 완료 지표는 기록이 반영된 메일만 집계합니다. */
+  private void record(List<EmailSendQueueItemDTO> items, List<MailSendResult> results) {
+    List<EmailSendQueueItemDTO> sent = new ArrayList<>();
+    for (int i = 0; i < results.size(); i++) {
+      EmailSendQueueItemDTO item = items.get(i);
+      MailSendResult result = results.get(i);
+      switch (result.status()) {
+        case SENT -> sent.add(item);
+        case REJECTED -> dead(item, result.error());
+        case FAILED -> retryOrDead(item, result.error());
+      }
+    }
+    if (sent.isEmpty()) {
+      return;
+    }
+
+    List<EmailSendQueueItemDTO> marked = emailSendQueueRepository.markSent(sent);
+    Set<Long> markedIds = new HashSet<>();
+    for (EmailSendQueueItemDTO item : marked) {
+      markedIds.add(item.getId());
+      recordSent(item);
+    }
+    for (EmailSendQueueItemDTO item : sent) {
+      if (!markedIds.contains(item.getId())) {
+        lostLease(item);
+      }
+    }
+  }
+
+  /** 보관 기간이 지난 발송 완료 건을 삭제합니다. */
+  public long purgeSent() {
+    LocalDateTime before = LocalDateTime.now().minus(retention);
+    long removed = 0;
+    int deleted;
+    do {
+      deleted = emailSendQueueRepository.deleteSentBefore(before, CHUNK_SIZE);
+      removed += deleted;
+    } while (deleted == CHUNK_SIZE);
+    return removed;
+  }
+
+  @Override
+  public void destroy() {
+    sendExecutor.shutdown();
+  }
+
+  private void retryOrDead(EmailSendQueueItemDTO item, String error) {
+    if (item.getAttemptCount() >= maxAttempts) {
+      log.error(
+          "메일 최대 재시도 초과 - id: {}, template: {}, attempts: {}, error: {}",
+          item.getId(),
+          item.getTemplate(),
+          item.getAttemptCount(),
+          error);
+      dead(item, error);
+      return;
+    }
+
+    Duration delay = backoff(item.getAttemptCount());
+    log.warn(
+        "메일 발송 실패, 재시도 예정 - id: {}, template: {}, attempt: {}, delay: {}, error: {}",
+        item.getId(),
+        item.getTemplate(),
+        item.getAttemptCount(),
+        delay,
+        error);
+    if (emailSendQueueRepository.markRetry(item, LocalDateTime.now().plus(delay), error)) {
+      count(item, "retried");
+    } else {
+      lostLease(item);
+    }
+  }
+
+  private void dead(EmailSendQueueItemDTO item, String error) {
+    if (emailSendQueueRepository.markDead(item, error)) {
+      count(item, "dead");
+    } else {
+      lostLease(item);
+    }
+  }
+
+  private void lostLease(EmailSendQueueItemDTO item) {
+    log.warn(
+        "점유가 만료되어 발송 결과를 기록하지 못한 메일 - id: {}, template: {}",
+        item.getId(),
+        item.getTemplate());
+    count(item, "lease_lost");
+  }
+
+  // 등록부터 SMTP 접수까지의 지연 (대기열 적체 확인용)
+  private void recordSent(EmailSendQueueItemDTO item) {
+    count(item, "sent");
+    if (item.getCreatedAt() != null) {
+      Timer.builder(METRIC_NAME + ".latency")
+          .tag("template", item.getTemplate())
+          .description("메일 발송 요청부터 SMTP 접수까지 걸린 시간")
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(Duration.between(item.getCreatedAt(), LocalDateTime.now()));
+    }
+  }
+
+  /** 연결 하나로 이어서 보낼 메일 묶음. 발송 스레드가 시작하거나 점유 시간 초과로 포기하는 쪽 중 먼저 선점한 쪽만 처리합니다. */
+  private final class Chunk {
+    private final List<EmailSendQueueItemDTO> items;
+    private final List<MailRequest> requests;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private CompletableFuture<Void> future;
+
+    private Chunk(List<EmailSendQueueItemDTO> items, List<MailRequest> requests) {
+      this.items = items;
+      this.requests = requests;
+    }
+
+    private void send() {
+      if (!claimed.compareAndSet(false, true)) {
+        return;
+      }
+      List<MailSendResult> results;
+      try {
+        results = smtpMailSender.sendAll(requests);
+      } catch (RuntimeException e) {
+        results = failAll(items.size(), describe(e));
+      }
+      record(items, results);
+    }
+
+    /** 아직 발송을 시작하지 않았으면 포기하고 true를 반환합니다. */
+    private boolean abandon() {
+      return claimed.compareAndSet(false, true);
+    }
+  }
+
+  private Duration backoff(int attempt) {
+    Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+    return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+  }
+
+  private void count(EmailSendQueueItemDTO item, String outcome) {
+    meterRegistry
+        .counter(METRIC_NAME, "template", item.getTemplate(), "outcome", outcome)
+        .increment();
+  }
+
+  private static List<MailSendResult> failAll(int size, String error) {
+    List<MailSendResult> results = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      results.add(MailSendResult.failed(error));
+    }
+    return results;
+  }
+
+  private static String describe(Throwable cause) {
+    return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+  }
+}
@@ -0,0 +1,101 @@
+package liaison.groble.application.notification.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림톡 전달 결과 대사
+ *
+ * <p>비즈뿌리오 접수 성공(code 1000)은 실제 전달을 의미하지 않으므로, 리포트 연동 URL로 받은 전달 결과를 refKey 기준으로 발송 큐에 반영합니다.
+ * 리포트 대기 시간이 지나도 결과가 오지 않은 건은 전달 실패로 정리하고, 전달 완료 건은 보관 기간 후 삭제합니다.
+ */
+@Slf4j
+@Service
+public class KakaoDeliveryReportService {
+  private static final String METRIC_NAME = "kakao.send.report";
+  private static final int CHUNK_SIZE = 1000;
+
+  private final KakaoSendQueueRepository kakaoSendQueueRepository;
+  private final MeterRegistry meterRegistry;
+  private final Set<String> deliveredCodes;
+  private final Duration reportTimeout;
+  private final Duration retention;
+
+  public KakaoDeliveryReportService(
+      KakaoSendQueueRepository kakaoSendQueueRepository,
+      MeterRegistry meterRegistry,
+      @Value("${groble.kakao-queue.report.delivered-codes:7000,4100,6600}")
+          List<String> deliveredCodes,
+      @Value("${groble.kakao-queue.report.timeout:24h}") Duration reportTimeout,
+      @Value("${groble.kakao-queue.retention:14d}") Duration retention) {
+    this.kakaoSendQueueRepository = kakaoSendQueueRepository;
+    this.meterRegistry = meterRegistry;
+    this.deliveredCodes = new HashSet<>(deliveredCodes);
+    this.reportTimeout = reportTimeout;
+    this.retention = retention;
+  }
+
+  /**
+   * 전달 결과 리포트를 반영합니다. 같은 리포트가 여러 번 와도 최초 1회만 반영됩니다.
+   *
+   * @param refKey 발송 시 지정한 참조키
+   * @param resultCode 리포트 결과 코드
+   */
+  public void applyReport(String refKey, String resultCode) {
+    if (!StringUtils.hasText(refKey)) {
+      log.warn("알림톡 리포트 무시 - refKey 없음, result: {}", resultCode);
+      return;
+    }
+
+    boolean delivered = resultCode != null && deliveredCodes.contains(resultCode);
+    if (!kakaoSendQueueRepository.applyReport(refKey, delivered, resultCode)) {
+      log.debug("알림톡 리포트 대상 없음 (중복 또는 큐 외 발송) - refKey: {}", refKey);
+      return;
+    }
+    if (!delivered) {
+      log.warn("알림톡 전달 실패 리포트 - refKey: {}, result: {}", refKey, resultCode);
+    }
+    meterRegistry
+        .counter(METRIC_NAME, "outcome", delivered ? "delivered" : "undelivered")
+        .increment();
+  }
+
+  /** 리포트 대기 시간이 지난 접수 건을 전달 실패로 정리합니다. */
+  public long markUnreported() {
+    LocalDateTime sentBefore = LocalDateTime.now().minus(reportTimeout);
+    long marked = 0;
+    int updated;
+    do {
+      updated = kakaoSendQueueRepository.markUnreportedBefore(sentBefore, CHUNK_SIZE);
+      marked += updated;
+    } while (updated == CHUNK_SIZE);
+    if (marked > 0) {
+      meterRegistry.counter(METRIC_NAME, "outcome", "unreported").increment(marked);
+    }
+    return marked;
+  }
+
+  /** 보관 기간이 지난 전달 완료 건을 삭제합니다. */
+  public long purgeDelivered() {
+    LocalDateTime before = LocalDateTime.now().minus(retention);
+    long removed = 0;
+    int deleted;
+    do {
+      deleted = kakaoSendQueueRepository.deleteDeliveredBefore(before, CHUNK_SIZE);
+      removed += deleted;
+    } while (deleted == CHUNK_SIZE);
+    return removed;
+  }
+}
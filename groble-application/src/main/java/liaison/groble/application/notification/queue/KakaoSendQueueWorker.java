@@ -0,0 +1,314 @@
+package liaison.groble.application.notification.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.common.ratelimit.TokenBucket;
+import liaison.groble.application.notification.dto.KakaoMessageDTO;
+import liaison.groble.application.notification.service.KakaoMessageSender;
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
+import liaison.groble.external.infotalk.dto.message.ButtonInfo;
+import liaison.groble.external.infotalk.dto.message.MessageResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림톡 발송 큐 워커
+ *
+ * <p>kakao_send_queue를 SKIP LOCKED로 점유해 템플릿별로 묶은 뒤, 고정 크기 발송 풀에서 예약 알림 발송과 공유하는 토큰 버킷으로 노드의 초당
+ * 발송 수를 제한하며 발송합니다. 같은 템플릿 요청이 템플릿·발신 프로필 단위로 거절(HTTP 4xx 또는 설정한 비즈뿌리오 응답 코드)되면 그 템플릿의
+ * 남은 메시지는 호출하지 않고 시도 횟수를 되돌려 대기로 돌려 처리율을 낭비하지 않습니다. 수신번호 오류처럼 메시지 한 건에 대한 오류는 그 메시지만
+ * 재시도합니다.
+ *
+ * <p>발송 결과는 건마다 즉시 기록해 접수 직후 도착한 전달 결과 리포트도 반영되도록 합니다. 일시적 오류와 점유 기간 안에 끝나지 않은 발송은 지수 백오프로
+ * 재시도하고 최대 시도 횟수를 넘기면 DEAD(dead-letter)로 남깁니다. 접수 응답을 받지 못한 발송을 재시도하므로 같은 메시지가 두 번 발송될 수
+ * 있습니다(at-least-once).
+ */
+@Slf4j
+@Service
+public class KakaoSendQueueWorker implements DisposableBean {
+  private static final String METRIC_NAME = "kakao.send.queue";
+  private static final int MAX_BATCHES_PER_RUN = 10;
+  private static final TypeReference<List<ButtonInfo>> BUTTONS_TYPE = new TypeReference<>() {};
+
+  private final KakaoSendQueueRepository kakaoSendQueueRepository;
+  private final KakaoMessageSender kakaoMessageSender;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final TokenBucket rateLimiter;
+  private final ThreadPoolTaskExecutor sendExecutor;
+
+  private final int batchSize;
+  private final Duration lease;
+  private final int maxAttempts;
+  private final Duration retryBaseDelay;
+  private final Duration retryMaxDelay;
+  private final Set<Integer> templateRejectionCodes;
+
+  public KakaoSendQueueWorker(
+      KakaoSendQueueRepository kakaoSendQueueRepository,
+      KakaoMessageSender kakaoMessageSender,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      TokenBucket kakaoSendRateLimiter,
+      @Value("${groble.kakao-queue.batch-size:200}") int batchSize,
+      @Value("${groble.kakao-queue.lease:2m}") Duration lease,
+      @Value("${groble.kakao-queue.max-attempts:6}") int maxAttempts,
+      @Value("${groble.kakao-queue.retry-base-delay:30s}") Duration retryBaseDelay,
+      @Value("${groble.kakao-queue.retry-max-delay:30m}") Duration retryMaxDelay,
+      @Value("${groble.kakao-queue.concurrency:8}") int concurrency,
+      @Value("${groble.kakao-queue.template-rejection-codes:}")
+          Set<Integer> templateRejectionCodes) {
+    this.kakaoSendQueueRepository = kakaoSendQueueRepository;
+    this.kakaoMessageSender = kakaoMessageSender;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.lease = lease;
+    this.maxAttempts = maxAttempts;
+    this.retryBaseDelay = retryBaseDelay;
+    this.retryMaxDelay = retryMaxDelay;
+    this.rateLimiter = kakaoSendRateLimiter;
+    this.templateRejectionCodes = templateRejectionCodes;
+
+    this.sendExecutor = new ThreadPoolTaskExecutor();
+    sendExecutor.setCorePoolSize(concurrency);
+    sendExecutor.setMaxPoolSize(concurrency);
+    sendExecutor.setThreadNamePrefix("kakao-send-");
+    sendExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    sendExecutor.setAwaitTerminationSeconds(30);
+    sendExecutor.initialize();
+  }
+
+  /** 대기 중인 메시지를 배치 단위로 발송합니다. 한 번의 실행에서 최대 {@value #MAX_BATCHES_PER_RUN}개 배치까지 처리합니다. */
+  public void drain() {
+    for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+      if (sendBatch() < batchSize) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 메시지 한 배치를 점유해 발송하고 결과를 기록합니다.
+   *
+   * @return 점유한 메시지 수
+   */
+  public int sendBatch() {
+    List<KakaoSendQueueItemDTO> items =
+        kakaoSendQueueRepository.claimBatch(batchSize, lease, maxAttempts);
+    if (items.isEmpty()) {
+      return 0;
+    }
+
+    // 템플릿별로 묶어 같은 템플릿의 거절을 그룹 전체에 반영
+    Map<String, TemplateGroup> groups = new HashMap<>();
+    Map<KakaoSendQueueItemDTO, CompletableFuture<Void>> inFlight = new LinkedHashMap<>();
+    for (KakaoSendQueueItemDTO item : items) {
+      TemplateGroup group =
+          groups.computeIfAbsent(item.getTemplateCode(), key -> new TemplateGroup());
+      inFlight.put(
+          item, CompletableFuture.runAsync(() -> record(item, send(item, group)), sendExecutor));
+    }
+
+    long deadline = System.nanoTime() + lease.toNanos();
+    for (Map.Entry<KakaoSendQueueItemDTO, CompletableFuture<Void>> entry : inFlight.entrySet()) {
+      KakaoSendQueueItemDTO item = entry.getKey();
+      try {
+        entry.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        retryOrDead(item, describe(e.getCause()));
+      } catch (TimeoutException e) {
+        // 아직 시작하지 않은 발송은 취소하고, 시간 초과도 실패 시도로 보고 재시도 또는 DEAD 처리
+        entry.getValue().cancel(false);
+        count(item, "timeout");
+        retryOrDead(item, describe(e));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return items.size();
+  }
+
+  @Override
+  public void destroy() {
+    sendExecutor.shutdown();
+  }
+
+  private Outcome send(KakaoSendQueueItemDTO item, TemplateGroup group) {
+    if (group.rejection != null) {
+      return Outcome.deferred("같은 템플릿 발송 거절로 보류: " + group.rejection);
+    }
+
+    KakaoMessageDTO message;
+    try {
+      message =
+          KakaoMessageDTO.builder()
+              .phoneNumber(item.getPhoneNumber())
+              .templateCode(item.getTemplateCode())
+              .title(item.getTitle())
+              .content(item.getContent())
+              .buttons(
+                  item.getButtons() == null
+                      ? null
+                      : objectMapper.readValue(item.getButtons(), BUTTONS_TYPE))
+              .refKey(item.getRefKey())
+              .build();
+    } catch (Exception e) {
+      // 저장된 버튼을 읽을 수 없으면 재시도해도 성공할 수 없음
+      return Outcome.dead(describe(e));
+    }
+
+    rateLimiter.acquire();
+    try {
+      MessageResponse response = kakaoMessageSender.send(message, item.getSenderKey());
+      if (response != null && response.isSuccess()) {
+        return Outcome.sent(response.getMessageKey());
+      }
+      String error = response != null ? response.getErrorMessage() : "응답 없음";
+      if (response != null && templateRejectionCodes.contains(response.getCode())) {
+        group.rejection = error;
+      }
+      return Outcome.retry(error);
+    } catch (IllegalArgumentException e) {
+      // 잘못된 수신번호 등 메시지 자체의 오류
+      return Outcome.dead(describe(e));
+    } catch (RuntimeException e) {
+      // 4xx는 인증·템플릿·발신 프로필 단위 거절로 보고 같은 템플릿 발송을 보류
+      if (e.getCause() instanceof HttpClientErrorException clientError) {
+        group.rejection = describe(clientError);
+      }
+      return Outcome.retry(describe(e));
+    }
+  }
+
+  private void record(KakaoSendQueueItemDTO item, Outcome outcome) {
+    if (outcome.sent()) {
+      if (kakaoSendQueueRepository.markSent(item, outcome.messageKey())) {
+        count(item, "sent");
+      } else {
+        lostLease(item);
+      }
+    } else if (outcome.dead()) {
+      dead(item, outcome.error());
+    } else if (outcome.deferred()) {
+      defer(item, outcome.error());
+    } else {
+      retryOrDead(item, outcome.error());
+    }
+  }
+
+  private void retryOrDead(KakaoSendQueueItemDTO item, String error) {
+    if (item.getAttemptCount() >= maxAttempts) {
+      log.error(
+          "알림톡 최대 재시도 초과 - id: {}, template: {}, attempts: {}, error: {}",
+          item.getId(),
+          item.getTemplateCode(),
+          item.getAttemptCount(),
+          error);
+      dead(item, error);
+      return;
+    }
+
+    Duration delay = backoff(item.getAttemptCount());
+    log.warn(
+        "알림톡 발송 실패, 재시도 예정 - id: {}, template: {}, attempt: {}, delay: {}, error: {}",
+        item.getId(),
+        item.getTemplateCode(),
+        item.getAttemptCount(),
+        delay,
+        error);
+    if (kakaoSendQueueRepository.markRetry(item, LocalDateTime.now().plus(delay), error)) {
+      count(item, "retried");
+    } else {
+      lostLease(item);
+    }
+  }
+
+  /** 호출하지 않고 보류한 메시지는 시도 횟수를 되돌려 다른 메시지의 거절로 DEAD가 되지 않도록 함 */
+  private void defer(KakaoSendQueueItemDTO item, String error) {
+    LocalDateTime nextAttemptAt = LocalDateTime.now().plus(retryBaseDelay);
+    if (kakaoSendQueueRepository.markDeferred(item, nextAttemptAt, error)) {
+      count(item, "deferred");
+    } else {
+      lostLease(item);
+    }
+  }
+
+  private void dead(KakaoSendQueueItemDTO item, String error) {
+    if (kakaoSendQueueRepository.markDead(item, error)) {
+      count(item, "dead");
+    } else {
+      lostLease(item);
+    }
+  }
+
+  private void lostLease(KakaoSendQueueItemDTO item) {
+    log.warn(
+        "점유가 만료되어 발송 결과를 기록하지 못한 알림톡 - id: {}, template: {}",
+        item.getId(),
+        item.getTemplateCode());
+    count(item, "lease_lost");
+  }
+
+  private Duration backoff(int attempt) {
+    Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+    return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+  }
+
+  private void count(KakaoSendQueueItemDTO item, String outcome) {
+    meterRegistry
+        .counter(METRIC_NAME, "template", item.getTemplateCode(), "outcome", outcome)
+        .increment();
+  }
+
+  private static String describe(Throwable cause) {
+    return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+  }
+
+  /** 한 배치 안에서 같은 템플릿 메시지의 거절 여부를 공유 */
+  private static final class TemplateGroup {
+    private volatile String rejection;
+  }
+
+  /** 메시지 한 건의 발송 결과 */
+  private record Outcome(
+      boolean sent, boolean dead, boolean deferred, String messageKey, String error) {
+    static Outcome sent(String messageKey) {
+      return new Outcome(true, false, false, messageKey, null);
+    }
+
+    static Outcome retry(String error) {
+      return new Outcome(false, false, false, null, error);
+    }
+
+    static Outcome dead(String error) {
+      return new Outcome(false, true, false, null, error);
+    }
+
+    static Outcome deferred(String error) {
+      return new Outcome(false, false, true, null, error);
+    }
+  }
+}
@@ -0,0 +1,390 @@
+package liaison.groble.application.notification.scheduled.service;
+
+import java.net.InetAddress;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.domain.notification.entity.detail.SystemDetails;
+import liaison.groble.domain.notification.enums.SubNotificationType;
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
+import liaison.groble.domain.notification.repository.NotificationRepository;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationDispatchRun;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecipient;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecurrence;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationChannel;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSegmentType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSendType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationStatus;
+import liaison.groble.domain.notification.scheduled.repository.ScheduledNotificationDispatchRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 알림 발송 엔진
+ *
+ * <p>발송 시각이 된 예약 알림의 실행 건을 만들고, DB 점유(lease)로 실행 건 하나를 한 노드만 발송하도록 보장합니다. 수신자는 사용자 ID 기준 keyset
+ * 페이지 단위로 조회하며, 페이지마다 발송 결과와 커서를 체크포인트로 기록합니다. 발송 중 노드가 내려가면 점유가 만료된 뒤 다른 노드가 마지막 커서부터
+ * 이어서 발송하므로, 중복 발송은 최대 한 페이지로 제한됩니다.
+ *
+ * <p>시스템 알림과 카카오 알림톡 모두 페이지 단위 배치 INSERT로 저장합니다. 알림톡은 발송 큐에 등록되어 큐 워커가 처리율 제한·재시도·전달 결과
+ * 리포트를 적용해 발송하므로, 실행 건의 성공 수는 발송 큐에 등록된 건수입니다.
+ */
+@Slf4j
+@Service
+public class ScheduledNotificationDispatcher implements DisposableBean {
+  private static final String METRIC_NAME = "scheduled_notification.deliveries";
+  private static final String DEFAULT_TIMEZONE = "Asia/Seoul";
+  private static final String CUSTOM_USER_IDS_FIELD = "userIds";
+  private static final ZoneId SERVER_ZONE = ZoneId.systemDefault();
+  // 장기간 중단 후 밀린 반복 실행은 가장 최근 1회만 생성 (계산 반복 상한)
+  private static final int MAX_MISSED_OCCURRENCES = 10_000;
+
+  private final ScheduledNotificationDispatchRepository dispatchRepository;
+  private final NotificationRepository notificationRepository;
+  private final KakaoSendQueueRepository kakaoSendQueueRepository;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private final int pageSize;
+  private final Duration lease;
+  private final int maxRetries;
+  private final int maxRunsPerPoll;
+  private final String owner = resolveOwner();
+
+  private volatile boolean stopping;
+
+  public ScheduledNotificationDispatcher(
+      ScheduledNotificationDispatchRepository dispatchRepository,
+      NotificationRepository notificationRepository,
+      KakaoSendQueueRepository kakaoSendQueueRepository,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${groble.scheduled-notification.dispatch.page-size:500}") int pageSize,
+      @Value("${groble.scheduled-notification.dispatch.lease:5m}") Duration lease,
+      @Value("${groble.scheduled-notification.dispatch.max-retries:3}") int maxRetries,
+      @Value("${groble.scheduled-notification.dispatch.max-runs-per-poll:5}") int maxRunsPerPoll) {
+    this.dispatchRepository = dispatchRepository;
+    this.notificationRepository = notificationRepository;
+    this.kakaoSendQueueRepository = kakaoSendQueueRepository;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.pageSize = pageSize;
+    this.lease = lease;
+    this.maxRetries = maxRetries;
+    this.maxRunsPerPoll = maxRunsPerPoll;
+  }
+
+  /** 발송 시각이 된 단건·반복 예약 알림의 실행 건을 생성하고, 취소된 예약 알림의 실행 건을 정리합니다. */
+  public void scheduleDueRuns() {
+    LocalDateTime now = LocalDateTime.now();
+    int created = dispatchRepository.createDueOnceRuns(now);
+    for (ScheduledNotificationRecurrence recurrence : dispatchRepository.findActiveRecurrences()) {
+      LocalDateTime executionTime = latestDueExecution(recurrence, now);
+      if (executionTime != null
+          && dispatchRepository.createRunIfAbsent(
+              recurrence.scheduledNotificationId(), executionTime)) {
+        created++;
+      }
+    }
+    int cancelled = dispatchRepository.cancelRunsOfInactiveNotifications(now);
+    if (created > 0 || cancelled > 0) {
+      log.info("예약 알림 실행 건 갱신 - created: {}, cancelled: {}", created, cancelled);
+    }
+  }
+
+  /** 발송 대기 중인 실행 건을 점유해 발송합니다. 한 번의 호출에서 최대 maxRunsPerPoll건까지 처리합니다. */
+  public void dispatchDueRuns() {
+    for (int i = 0; i < maxRunsPerPoll && !stopping; i++) {
+      Optional<ScheduledNotificationDispatchRun> run = dispatchRepository.claimRun(owner, lease);
+      if (run.isEmpty()) {
+        return;
+      }
+      dispatch(run.get());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    stopping = true;
+  }
+
+  void dispatch(ScheduledNotificationDispatchRun run) {
+    if (run.retryCount() > maxRetries) {
+      log.error("예약 알림 최대 재시도 초과 - runId: {}, retries: {}", run.runId(), run.retryCount());
+      fail(run, "최대 재시도 횟수를 초과했습니다.");
+      return;
+    }
+
+    List<Long> customUserIds;
+    try {
+      customUserIds = resolveCustomUserIds(run);
+    } catch (IllegalArgumentException e) {
+      // 세그먼트 조건 오류는 재시도해도 성공할 수 없으므로 즉시 실패 처리
+      fail(run, e.getMessage());
+      return;
+    }
+
+    log.info(
+        "예약 알림 발송 시작 - runId: {}, notificationId: {}, channel: {}, cursor: {}",
+        run.runId(),
+        run.scheduledNotificationId(),
+        run.channel(),
+        run.lastRecipientId());
+    try {
+      long cursor = run.lastRecipientId();
+      while (true) {
+        if (stopping) {
+          // 종료 중에는 커서를 유지한 채 반납해 다른 노드가 점유 만료를 기다리지 않고 이어서 발송
+          dispatchRepository.yieldRun(run.runId(), owner);
+          return;
+        }
+
+        RecipientPage page = nextPage(run, customUserIds, cursor);
+        if (page.recipients().isEmpty() && page.cursor() == cursor) {
+          break;
+        }
+        DeliveryResult result = deliver(run, page.recipients());
+        if (!dispatchRepository.checkpoint(
+            run.runId(),
+            owner,
+            page.cursor(),
+            page.recipients().size(),
+            result.success(),
+            result.failure(),
+            lease)) {
+          log.warn("예약 알림 점유를 잃었거나 취소되어 발송을 중단합니다 - runId: {}", run.runId());
+          return;
+        }
+        cursor = page.cursor();
+        if (page.last()) {
+          break;
+        }
+      }
+
+      if (dispatchRepository.completeRun(run.runId(), owner)
+          && run.sendType() == ScheduledNotificationSendType.ONCE) {
+        dispatchRepository.finishNotification(
+            run.scheduledNotificationId(), ScheduledNotificationStatus.SENT);
+      }
+      log.info("예약 알림 발송 완료 - runId: {}", run.runId());
+    } catch (Exception e) {
+      log.error("예약 알림 발송 실패, 다음 점유 시 이어서 발송 - runId: {}", run.runId(), e);
+      dispatchRepository.releaseRun(
+          run.runId(), owner, e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+  }
+
+  private void fail(ScheduledNotificationDispatchRun run, String errorMessage) {
+    if (dispatchRepository.failRun(run.runId(), owner, errorMessage)
+        && run.sendType() == ScheduledNotificationSendType.ONCE) {
+      dispatchRepository.finishNotification(
+          run.scheduledNotificationId(), ScheduledNotificationStatus.FAILED);
+    }
+  }
+
+  private RecipientPage nextPage(
+      ScheduledNotificationDispatchRun run, List<Long> customUserIds, long cursor) {
+    boolean requirePhoneNumber = run.channel() == ScheduledNotificationChannel.KAKAO_BIZ;
+    if (run.segmentType() != ScheduledNotificationSegmentType.CUSTOM) {
+      List<ScheduledNotificationRecipient> recipients =
+          dispatchRepository.findRecipients(
+              run.segmentType(), null, requirePhoneNumber, cursor, pageSize);
+      long nextCursor =
+          recipients.isEmpty() ? cursor : recipients.get(recipients.size() - 1).userId();
+      return new RecipientPage(recipients, nextCursor, recipients.size() < pageSize);
+    }
+
+    // 지정 사용자 목록은 ID 구간 단위로 나눠 조회 (비활성 사용자가 빠져도 커서는 구간 끝으로 이동)
+    List<Long> chunk = new ArrayList<>(pageSize);
+    int remaining = 0;
+    for (Long userId : customUserIds) {
+      if (userId > cursor) {
+        if (chunk.size() < pageSize) {
+          chunk.add(userId);
+        } else {
+          remaining++;
+        }
+      }
+    }
+    if (chunk.isEmpty()) {
+      return new RecipientPage(List.of(), cursor, true);
+    }
+    List<ScheduledNotificationRecipient> recipients =
+        dispatchRepository.findRecipients(
+            run.segmentType(), chunk, requirePhoneNumber, cursor, pageSize);
+    return new RecipientPage(recipients, chunk.get(chunk.size() - 1), remaining == 0);
+  }
+
+  private DeliveryResult deliver(
+      ScheduledNotificationDispatchRun run, List<ScheduledNotificationRecipient> recipients) {
+    if (recipients.isEmpty()) {
+      return new DeliveryResult(0, 0);
+    }
+    DeliveryResult result =
+        run.channel() == ScheduledNotificationChannel.KAKAO_BIZ
+            ? deliverKakao(run, recipients)
+            : deliverSystem(run, recipients);
+    count(run.channel(), "success", result.success());
+    count(run.channel(), "failure", result.failure());
+    return result;
+  }
+
+  private DeliveryResult deliverSystem(
+      ScheduledNotificationDispatchRun run, List<ScheduledNotificationRecipient> recipients) {
+    String systemTitle =
+        run.title() != null && !run.title().isBlank() ? run.title() : run.content();
+    Map<Long, String> detailsByReceiverId = new LinkedHashMap<>();
+    for (ScheduledNotificationRecipient recipient : recipients) {
+      SystemDetails details =
+          SystemDetails.builder()
+              .nickname(recipient.nickname())
+              .systemTitle(systemTitle)
+              .build();
+      try {
+        detailsByReceiverId.put(recipient.userId(), objectMapper.writeValueAsString(details));
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("시스템 알림 직렬화 실패", e);
+      }
+    }
+    int saved =
+        notificationRepository.saveAllSystemNotifications(
+            SubNotificationType.SCHEDULED_NOTICE, detailsByReceiverId);
+    return new DeliveryResult(saved, recipients.size() - saved);
+  }
+
+  private DeliveryResult deliverKakao(
+      ScheduledNotificationDispatchRun run, List<ScheduledNotificationRecipient> recipients) {
+    List<KakaoSendQueueItemDTO> items = new ArrayList<>(recipients.size());
+    for (ScheduledNotificationRecipient recipient : recipients) {
+      if (recipient.phoneNumber() == null || recipient.phoneNumber().isBlank()) {
+        continue;
+      }
+      items.add(
+          KakaoSendQueueItemDTO.builder()
+              .notificationType(SubNotificationType.SCHEDULED_NOTICE.name())
+              .templateCode(run.bizTemplateCode())
+              .phoneNumber(recipient.phoneNumber())
+              .title(run.title())
+              .content(run.content())
+              .senderKey(run.bizSenderKey())
+              .refKey(UUID.randomUUID().toString().replace("-", ""))
+              .build());
+    }
+    // 등록에 실패하면 예외를 전파해 체크포인트 없이 반납하고, 다음 점유 시 같은 페이지부터 다시 등록
+    kakaoSendQueueRepository.enqueue(items);
+    return new DeliveryResult(items.size(), recipients.size() - items.size());
+  }
+
+  private List<Long> resolveCustomUserIds(ScheduledNotificationDispatchRun run) {
+    if (run.segmentType() != ScheduledNotificationSegmentType.CUSTOM) {
+      return null;
+    }
+    if (run.segmentPayload() == null || run.segmentPayload().isBlank()) {
+      throw new IllegalArgumentException("CUSTOM 세그먼트 조건이 비어 있습니다.");
+    }
+
+    JsonNode userIds;
+    try {
+      userIds = objectMapper.readTree(run.segmentPayload()).get(CUSTOM_USER_IDS_FIELD);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("CUSTOM 세그먼트 조건을 해석할 수 없습니다.", e);
+    }
+    if (userIds == null || !userIds.isArray()) {
+      throw new IllegalArgumentException("CUSTOM 세그먼트 조건에 userIds 배열이 필요합니다.");
+    }
+
+    List<Long> ids = new ArrayList<>(userIds.size());
+    userIds.forEach(node -> ids.add(node.asLong()));
+    return ids.stream().filter(id -> id > 0).distinct().sorted().toList();
+  }
+
+  /**
+   * 마지막 실행 이후 현재까지 도래한 크론 실행 시각 중 가장 최근 시각을 계산합니다.
+   *
+   * @return 새로 실행할 시각, 도래한 시각이 없으면 null
+   */
+  LocalDateTime latestDueExecution(ScheduledNotificationRecurrence recurrence, LocalDateTime now) {
+    CronExpression cron;
+    ZoneId zone;
+    try {
+      cron = CronExpression.parse(recurrence.repeatCron());
+      zone =
+          ZoneId.of(
+              recurrence.timezone() != null && !recurrence.timezone().isBlank()
+                  ? recurrence.timezone()
+                  : DEFAULT_TIMEZONE);
+    } catch (IllegalArgumentException | DateTimeException e) {
+      log.warn(
+          "반복 예약 알림 설정 오류 - notificationId: {}, cron: {}",
+          recurrence.scheduledNotificationId(),
+          recurrence.repeatCron(),
+          e);
+      return null;
+    }
+
+    // 예약 시각 자체도 첫 실행 후보가 되도록 직전 시점부터 계산
+    LocalDateTime from = recurrence.scheduledAt().minusNanos(1);
+    if (recurrence.lastExecutionTime() != null && recurrence.lastExecutionTime().isAfter(from)) {
+      from = recurrence.lastExecutionTime();
+    }
+
+    ZonedDateTime limit = now.atZone(SERVER_ZONE);
+    ZonedDateTime cursor = from.atZone(SERVER_ZONE).withZoneSameInstant(zone);
+    ZonedDateTime due = null;
+    for (int i = 0; i < MAX_MISSED_OCCURRENCES; i++) {
+      ZonedDateTime next = cron.next(cursor);
+      if (next == null || next.isAfter(limit)) {
+        break;
+      }
+      due = next;
+      cursor = next;
+    }
+    return due != null ? due.withZoneSameInstant(SERVER_ZONE).toLocalDateTime() : null;
+  }
+
+  private void count(ScheduledNotificationChannel channel, String outcome, int amount) {
+    if (amount > 0) {
+      meterRegistry
+          .counter(METRIC_NAME, "channel", channel.name(), "outcome", outcome)
+          .increment(amount);
+    }
+  }
+
+  private static String resolveOwner() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    if (host.length() > 40) {
+      host = host.substring(0, 40);
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  private record RecipientPage(
+      List<ScheduledNotificationRecipient> recipients, long cursor, boolean last) {}
+
+  private record DeliveryResult(int success, int failure) {}
+}
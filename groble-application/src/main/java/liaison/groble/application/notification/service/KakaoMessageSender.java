@@ -18,12 +18,29 @@ public class KakaoMessageSender {
   private String kakaoSenderKey;
 
   public MessageResponse send(KakaoMessageDTO kakaoMessageDTO) {
+    return send(kakaoMessageDTO, kakaoSenderKey);
+  }
+
+  /** 발신 프로필 키를 지정해 발송합니다. 키가 없으면 기본 발신 프로필을 사용합니다. */
+  public MessageResponse send(KakaoMessageDTO kakaoMessageDTO, String senderKey) {
+    String resolvedSenderKey =
+        senderKey == null || senderKey.isBlank() ? kakaoSenderKey : senderKey;
+    if (kakaoMessageDTO.getRefKey() != null) {
+      return bizppurioMessageService.sendAlimtalk(
+          kakaoMessageDTO.getPhoneNumber(),
+          kakaoMessageDTO.getTemplateCode(),
+          kakaoMessageDTO.getTitle(),
+          kakaoMessageDTO.getContent(),
+          resolvedSenderKey,
+          kakaoMessageDTO.getButtons(),
+          kakaoMessageDTO.getRefKey());
+    }
     return bizppurioMessageService.sendAlimtalk(
         kakaoMessageDTO.getPhoneNumber(),
         kakaoMessageDTO.getTemplateCode(),
         kakaoMessageDTO.getTitle(),
         kakaoMessageDTO.getContent(),
-        kakaoSenderKey,
+        resolvedSenderKey,
         kakaoMessageDTO.getButtons());
   }
 }
@@ -1,69 +1,126 @@
 package liaison.groble.application.notification.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import liaison.groble.application.notification.dto.KakaoMessageDTO;
 import liaison.groble.application.notification.dto.KakaoNotificationDTO;
 import liaison.groble.application.notification.resolver.KakaoTemplateResolver;
 import liaison.groble.application.notification.template.KakaoTemplate;
 import liaison.groble.application.notification.template.NotificationUrlBuilder;
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
 import liaison.groble.external.infotalk.dto.message.ButtonInfo;
-import liaison.groble.external.infotalk.dto.message.MessageResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 알림톡 발송 요청 서비스
+ *
+ * <p>템플릿으로 메시지를 만든 뒤 발송 큐(kakao_send_queue)에 등록하고 바로 반환합니다. 실제 발송, 재시도, 전달 결과 대사는 {@link
+ * liaison.groble.application.notification.queue.KakaoSendQueueWorker}가 처리합니다. 호출 중인 트랜잭션이 있으면 함께
+ * 커밋되므로 롤백된 업무에 대한 알림은 발송되지 않습니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoNotificationService {
-  private final KakaoMessageSender kakaoMessageSender;
   private final KakaoTemplateResolver kakaoTemplateResolver;
   private final NotificationUrlBuilder notificationUrlBuilder;
+  private final KakaoSendQueueRepository kakaoSendQueueRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate separateTransaction;
+
+  public KakaoNotificationService(
+      KakaoTemplateResolver kakaoTemplateResolver,
+      NotificationUrlBuilder notificationUrlBuilder,
+      KakaoSendQueueRepository kakaoSendQueueRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.kakaoTemplateResolver = kakaoTemplateResolver;
+    this.notificationUrlBuilder = notificationUrlBuilder;
+    this.kakaoSendQueueRepository = kakaoSendQueueRepository;
+    this.objectMapper = objectMapper;
+    this.separateTransaction = new TransactionTemplate(transactionManager);
+    separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
 
   public void sendNotification(KakaoNotificationDTO kakaoNotificationDTO) {
+    sendNotifications(List.of(kakaoNotificationDTO));
+  }
+
+  /** 여러 알림톡을 한 번의 일괄 INSERT로 발송 큐에 등록합니다. */
+  public void sendNotifications(List<KakaoNotificationDTO> kakaoNotificationDTOs) {
+    List<KakaoSendQueueItemDTO> items = new ArrayList<>(kakaoNotificationDTOs.size());
+    for (KakaoNotificationDTO kakaoNotificationDTO : kakaoNotificationDTOs) {
+      try {
+        items.add(buildQueueItem(kakaoNotificationDTO));
+      } catch (Exception e) {
+        log.error(
+            "Failed to build Kakao notification. type: {}, user: {}",
+            kakaoNotificationDTO.getType(),
+            kakaoNotificationDTO.getUsername(),
+            e);
+      }
+    }
+    if (items.isEmpty()) {
+      return;
+    }
+
     try {
-      KakaoTemplate template = kakaoTemplateResolver.resolve(kakaoNotificationDTO.getType());
-      String messageContent = template.buildMessage(kakaoNotificationDTO);
-      List<ButtonInfo> buttons =
-          template.buildButtons(kakaoNotificationDTO, notificationUrlBuilder);
+      enqueue(items);
+      log.info(
+          "Kakao notifications queued. type: {}, count: {}",
+          items.get(0).getNotificationType(),
+          items.size());
+    } catch (Exception e) {
+      log.error("Failed to queue Kakao notifications. count: {}", items.size(), e);
+    }
+  }
 
-      MessageResponse response =
-          kakaoMessageSender.send(
-              KakaoMessageDTO.builder()
-                  .phoneNumber(kakaoNotificationDTO.getPhoneNumber())
-                  .templateCode(template.getCode())
-                  .title(template.getTitle())
-                  .content(messageContent)
-                  .buttons(buttons)
-                  .build());
+  private KakaoSendQueueItemDTO buildQueueItem(KakaoNotificationDTO kakaoNotificationDTO)
+      throws JsonProcessingException {
+    if (!StringUtils.hasText(kakaoNotificationDTO.getPhoneNumber())) {
+      throw new IllegalArgumentException("수신 전화번호가 없습니다.");
+    }
+    KakaoTemplate template = kakaoTemplateResolver.resolve(kakaoNotificationDTO.getType());
+    String messageContent = template.buildMessage(kakaoNotificationDTO);
+    List<ButtonInfo> buttons = template.buildButtons(kakaoNotificationDTO, notificationUrlBuilder);
 
-      handleResponse(response, kakaoNotificationDTO);
+    return KakaoSendQueueItemDTO.builder()
+        .notificationType(kakaoNotificationDTO.getType().name())
+        .templateCode(template.getCode())
+        .phoneNumber(kakaoNotificationDTO.getPhoneNumber())
+        .title(template.getTitle())
+        .content(messageContent)
+        .buttons(buttonsJson(buttons))
+        .refKey(UUID.randomUUID().toString().replace("-", ""))
+        .build();
+  }
 
-    } catch (Exception e) {
-      log.error(
-          "Failed to send Kakao notification. type: {}, user: {}",
-          kakaoNotificationDTO.getType(),
-          kakaoNotificationDTO.getUsername(),
-          e);
-      //            failedMessageRecorder.record(kakaoNotificationDTO, e);
+  private String buttonsJson(List<ButtonInfo> buttons) throws JsonProcessingException {
+    if (buttons == null || buttons.isEmpty()) {
+      return null;
     }
+    return objectMapper.writeValueAsString(buttons);
   }
 
-  private void handleResponse(MessageResponse response, KakaoNotificationDTO kakaoNotificationDTO) {
-    if (response.isSuccess()) {
-      log.info(
-          "Kakao message sent successfully. type: {}, messageKey: {}",
-          kakaoNotificationDTO.getType(),
-          response.getMessageKey());
-    } else {
-      log.warn(
-          "Kakao message failed. type: {}, error: {}",
-          kakaoNotificationDTO.getType(),
-          response.getErrorMessage());
-      //            failedMessageRecorder.record(kakaoNotificationDTO, response.getErrorMessage());
+  private void enqueue(List<KakaoSendQueueItemDTO> items) {
+    // 읽기 전용 트랜잭션에서는 INSERT할 수 없으므로 별도 트랜잭션으로 등록
+    if (TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      separateTransaction.executeWithoutResult(status -> kakaoSendQueueRepository.enqueue(items));
+      return;
     }
+    kakaoSendQueueRepository.enqueue(items);
   }
 }
@@ -121,6 +121,10 @@ public class NotificationService {
       return NotificationDetailsDTO.welcomeGroble(
           notification.getSystemDetails().getNickname(),
           notification.getSystemDetails().getSystemTitle());
+    } else if (subNotificationType == SubNotificationType.SCHEDULED_NOTICE) {
+      return NotificationDetailsDTO.scheduledNotice(
+          notification.getSystemDetails().getNickname(),
+          notification.getSystemDetails().getSystemTitle());
     }
     return null;
   }
@@ -11,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.service.ContentCacheService;
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.guest.reader.GuestUserReader;
 import liaison.groble.application.order.dto.CreateOrderRequestDTO;
 import liaison.groble.application.order.dto.CreateOrderSuccessDTO;
@@ -87,6 +89,8 @@ public class OrderService {
   // Event Publisher
   private final EventPublisher eventPublisher;
   private final SubscriptionPaymentMetadataProvider subscriptionPaymentMetadataProvider;
+  private final SellerSalesRollupService sellerSalesRollupService;
+  private final ContentCacheService contentCacheService;
 
   @Transactional
   public CreateOrderSuccessDTO createOrderForUser(CreateOrderRequestDTO dto, Long userId) {
@@ -295,13 +299,7 @@ public class OrderService {
     // 주문 생성
     Order order = Order.createOrderWithMultipleOptions(user, content, orderOptions, purchaser);
 
-    // 1차 저장 (ID 생성을 위함)
-    order = orderRepository.save(order);
-
-    // merchantUid 생성 및 할당
-    order.setMerchantUid(Order.generateMerchantUid(order.getId()));
-
-    // 2차 저장 (merchantUid 업데이트)
+    // ID 발급 시 merchantUid도 함께 정해져 INSERT 한 번으로 저장
     return orderRepository.save(order);
   }
 
@@ -568,8 +566,10 @@ public class OrderService {
    * @return 생성된 구매 정보
    */
   private Purchase createAndCompletePurchase(Order order) {
-    Purchase purchase = Purchase.createFromOrder(order);
-    return purchaseRepository.save(purchase);
+    Purchase purchase = purchaseRepository.save(Purchase.createFromOrder(order));
+    sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
+    contentCacheService.evictSoldContent(purchase.getContent());
+    return purchase;
   }
 
   /**
@@ -866,13 +866,7 @@ public class OrderService {
    * @return 저장된 주문
    */
   private Order saveOrderWithMerchantUid(Order order) {
-    // 1차 저장 (ID 생성)
-    order = orderRepository.save(order);
-
-    // merchantUid 생성 및 업데이트
-    order.setMerchantUid(Order.generateMerchantUid(order.getId()));
-
-    // 2차 저장 (merchantUid 업데이트)
+    // ID 발급 시 merchantUid도 함께 정해져 INSERT 한 번으로 저장 (Order#idAssigned)
     return orderRepository.save(order);
   }
 
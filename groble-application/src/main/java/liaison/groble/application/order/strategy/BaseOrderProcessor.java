@@ -10,13 +10,15 @@ import java.util.stream.Collectors;
 import jakarta.servlet.http.HttpServletRequest;
 
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.service.ContentCacheService;
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.guest.reader.GuestUserReader;
 import liaison.groble.application.order.dto.CreateOrderRequestDTO;
 import liaison.groble.application.order.dto.CreateOrderSuccessDTO;
 import liaison.groble.application.order.dto.OrderSuccessDTO;
 import liaison.groble.application.order.dto.ValidatedOrderOptionDTO;
 import liaison.groble.application.payment.dto.completion.FreePaymentCompletionResult;
-import liaison.groble.application.payment.event.PaymentCompletedEvent;
+import liaison.groble.application.payment.event.FreePaymentCompletedEvent;
 import liaison.groble.application.purchase.service.PurchaseReader;
 import liaison.groble.common.context.UserContext;
 import liaison.groble.common.event.EventPublisher;
@@ -68,6 +70,10 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
   // Event Publisher
   protected EventPublisher eventPublisher;
 
+  // Service
+  protected SellerSalesRollupService sellerSalesRollupService;
+  protected ContentCacheService contentCacheService;
+
   protected BaseOrderProcessor(
       ContentReader contentReader,
       PurchaseReader purchaseReader,
@@ -79,7 +85,9 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
       GuestUserRepository guestUserRepository,
       SubscriptionRepository subscriptionRepository,
       BillingKeyRepository billingKeyRepository,
-      EventPublisher eventPublisher) {
+      EventPublisher eventPublisher,
+      SellerSalesRollupService sellerSalesRollupService,
+      ContentCacheService contentCacheService) {
     this.contentReader = contentReader;
     this.purchaseReader = purchaseReader;
     this.guestUserReader = guestUserReader;
@@ -91,6 +99,8 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
     this.subscriptionRepository = subscriptionRepository;
     this.billingKeyRepository = billingKeyRepository;
     this.eventPublisher = eventPublisher;
+    this.sellerSalesRollupService = sellerSalesRollupService;
+    this.contentCacheService = contentCacheService;
 
     log.debug("BaseOrderProcessor initialized for {}", this.getClass().getSimpleName());
   }
@@ -288,13 +298,7 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
 
   /** 주문 저장 및 merchantUid 생성 */
   protected Order saveOrderWithMerchantUid(Order order) {
-    // 1차 저장 (ID 생성)
-    order = orderRepository.save(order);
-
-    // merchantUid 생성 및 업데이트
-    order.setMerchantUid(Order.generateMerchantUid(order.getId()));
-
-    // 2차 저장 (merchantUid 업데이트)
+    // ID 발급 시 merchantUid도 함께 정해져 INSERT 한 번으로 저장 (Order#idAssigned)
     return orderRepository.save(order);
   }
 
@@ -341,7 +345,8 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
         resultBuilder
             .userId(null) // 비회원은 userId가 없음
             .guestUserId(order.getGuestUser().getId())
-            .nickname(order.getGuestUser().getUsername()); // GuestUser의 username 사용
+            .nickname(order.getGuestUser().getUsername()) // GuestUser의 username 사용
+            .guestUserName(order.getGuestUser().getUsername());
       }
 
       FreePaymentCompletionResult freePaymentCompletionResult = resultBuilder.build();
@@ -375,8 +380,10 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
 
   /** 구매 정보 생성 및 완료 처리 */
   protected Purchase createAndCompletePurchase(Order order) {
-    Purchase purchase = Purchase.createFromOrder(order);
-    return purchaseRepository.save(purchase);
+    Purchase purchase = purchaseRepository.save(Purchase.createFromOrder(order));
+    sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
+    contentCacheService.evictSoldContent(purchase.getContent());
+    return purchase;
   }
 
   /** 무료 주문 처리 실패 시 처리 */
@@ -496,14 +503,19 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
         isFree);
   }
 
-  /** 결제 완료 이벤트 발행 */
+  /**
+   * 무료 결제 완료 이벤트 발행
+   *
+   * <p>무료 주문은 결제 트랜잭션 서비스를 거치지 않으므로 아웃박스가 아닌 애플리케이션 이벤트로 발행하며, {@code
+   * PaymentEventListener}가 받아 알림을 발송합니다.
+   */
   protected void publishFreePaymentCompletedEvent(
       FreePaymentCompletionResult freePaymentCompletionResult) {
     log.info("=== 무료 결제 이벤트 발행 시작 === orderId: {}", freePaymentCompletionResult.getOrderId());
 
     try {
-      PaymentCompletedEvent event =
-          PaymentCompletedEvent.builder()
+      FreePaymentCompletedEvent event =
+          FreePaymentCompletedEvent.builder()
               .orderId(freePaymentCompletionResult.getOrderId())
               .merchantUid(freePaymentCompletionResult.getMerchantUid())
               .paymentId(freePaymentCompletionResult.getPaymentId())
@@ -517,6 +529,7 @@ public abstract class BaseOrderProcessor implements OrderProcessorStrategy {
               .sellerEmail(freePaymentCompletionResult.getSellerEmail())
               .contentTitle(freePaymentCompletionResult.getContentTitle())
               .nickname(freePaymentCompletionResult.getNickname())
+              .guestUserName(freePaymentCompletionResult.getGuestUserName())
               .contentType(freePaymentCompletionResult.getContentType())
               .optionId(freePaymentCompletionResult.getOptionId())
               .selectedOptionName(freePaymentCompletionResult.getSelectedOptionName())
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.stereotype.Component;
 
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.service.ContentCacheService;
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.guest.reader.GuestUserReader;
 import liaison.groble.application.order.dto.CreateOrderRequestDTO;
 import liaison.groble.application.order.dto.CreateOrderSuccessDTO;
@@ -42,7 +44,9 @@ public class GuestOrderProcessor extends BaseOrderProcessor {
       GuestUserRepository guestUserRepository,
       SubscriptionRepository subscriptionRepository,
       BillingKeyRepository billingKeyRepository,
-      EventPublisher eventPublisher) {
+      EventPublisher eventPublisher,
+      SellerSalesRollupService sellerSalesRollupService,
+      ContentCacheService contentCacheService) {
     super(
         contentReader,
         purchaseReader,
@@ -54,7 +58,9 @@ public class GuestOrderProcessor extends BaseOrderProcessor {
         guestUserRepository, // ← 추가!
         subscriptionRepository,
         billingKeyRepository,
-        eventPublisher);
+        eventPublisher,
+        sellerSalesRollupService,
+        contentCacheService);
   }
 
   @Override
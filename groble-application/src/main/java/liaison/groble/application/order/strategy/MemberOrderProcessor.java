@@ -6,6 +6,8 @@ import java.util.List;
 import org.springframework.stereotype.Component;
 
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.service.ContentCacheService;
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.guest.reader.GuestUserReader;
 import liaison.groble.application.order.dto.CreateOrderRequestDTO;
 import liaison.groble.application.order.dto.CreateOrderSuccessDTO;
@@ -52,6 +54,8 @@ public class MemberOrderProcessor extends BaseOrderProcessor {
       SubscriptionRepository subscriptionRepository,
       BillingKeyRepository billingKeyRepository,
       EventPublisher eventPublisher,
+      SellerSalesRollupService sellerSalesRollupService,
+      ContentCacheService contentCacheService,
       SubscriptionPaymentMetadataProvider subscriptionPaymentMetadataProvider) {
     super(
         contentReader,
@@ -64,7 +68,9 @@ public class MemberOrderProcessor extends BaseOrderProcessor {
         guestUserRepository,
         subscriptionRepository,
         billingKeyRepository,
-        eventPublisher);
+        eventPublisher,
+        sellerSalesRollupService,
+        contentCacheService);
     this.userReader = userReader; // 이제 정상적으로 초기화됨
     this.subscriptionPaymentMetadataProvider = subscriptionPaymentMetadataProvider;
   }
@@ -0,0 +1,27 @@
+package liaison.groble.application.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기
+ *
+ * <p>이벤트 타입별로 하나씩 등록합니다. 예외를 던지면 릴레이가 지수 백오프로 재시도하므로, 부분 성공 후 재시도 시 중복 발송이 문제되는 작업은 처리기
+ * 내부에서 개별적으로 실패를 처리해야 합니다.
+ *
+ * <p>전달은 최소 1회(at-least-once)입니다. 점유 기간 안에 끝나지 않은 처리는 인터럽트로 취소하지만 이미 외부로 나간 발송은 되돌릴 수 없고,
+ * 완료 기록 전에 인스턴스가 종료되어도 같은 이벤트가 다시 전달됩니다. 처리기는 같은 이벤트를 두 번 받을 수 있다고 가정해야 하며, 인터럽트를 받으면 가능한
+ * 한 빨리 중단해야 합니다.
+ *
+ * @param <T> 이벤트 페이로드 타입
+ */
+public interface OutboxEventHandler<T> {
+
+  String eventType();
+
+  Class<T> payloadType();
+
+  void handle(T event);
+
+  /** 이 처리기의 최대 동시 처리 수 */
+  default int concurrency() {
+    return 1;
+  }
+}
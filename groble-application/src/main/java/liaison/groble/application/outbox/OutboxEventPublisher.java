@@ -0,0 +1,39 @@
+package liaison.groble.application.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.domain.outbox.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 이벤트 기록기
+ *
+ * <p>이벤트를 호출자의 트랜잭션 안에서 outbox_events 테이블에 기록합니다. 업무 데이터와 함께 커밋되므로 재시작이나 큐 포화로 유실되지 않으며, 실제
+ * 전달은 {@link OutboxRelay}가 커밋 이후 비동기로 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(String eventType, String aggregateType, Long aggregateId, Object event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("아웃박스 이벤트 직렬화 실패 - eventType: " + eventType, e);
+    }
+    outboxEventRepository.append(eventType, aggregateType, aggregateId, payload);
+    log.debug("아웃박스 이벤트 기록 - eventType: {}, aggregateId: {}", eventType, aggregateId);
+  }
+}
@@ -0,0 +1,259 @@
+package liaison.groble.application.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.common.executor.ExecutorPool;
+import liaison.groble.application.common.executor.InstrumentedExecutors;
+import liaison.groble.domain.outbox.dto.OutboxEventDTO;
+import liaison.groble.domain.outbox.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * <p>outbox_events를 SKIP LOCKED로 점유해 여러 인스턴스가 같은 이벤트를 동시에 가져가지 않도록 하고, 이벤트 타입별 처리기 전용 스레드 풀에서
+ * 병렬로 전달합니다. 처리기마다 풀을 분리해 느린 외부 연동(알림톡, 메일 등)이 다른 이벤트 전달을 막지 않으며, 실패하거나 점유 기간 안에 끝나지 않은
+ * 이벤트는 지수 백오프로 재시도하고 최대 시도 횟수를 넘기면 FAILED로 남깁니다. 전달은 최소 1회(at-least-once)를 보장합니다.
+ *
+ * <p>점유 기간 안에 끝나지 않은 처리는 인터럽트로 취소합니다. 처리기 풀의 대기열은 배치 크기로 제한되어, 취소에 응하지 않는 처리기가 스레드를 붙잡고
+ * 있으면 이후 이벤트는 대기열에 쌓이지 않고 재시도로 돌려집니다.
+ */
+@Slf4j
+@Service
+public class OutboxRelay implements DisposableBean {
+  private static final String METRIC_NAME = "outbox.events";
+  private static final int MAX_BATCHES_PER_RUN = 10;
+  private static final int PURGE_CHUNK_SIZE = 1000;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Dispatcher<?>> dispatchers = new HashMap<>();
+
+  private final int batchSize;
+  private final Duration lease;
+  private final int maxAttempts;
+  private final Duration retryBaseDelay;
+  private final Duration retryMaxDelay;
+  private final Duration retention;
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      List<OutboxEventHandler<?>> handlers,
+      @Value("${groble.outbox.relay.batch-size:100}") int batchSize,
+      @Value("${groble.outbox.relay.lease:2m}") Duration lease,
+      @Value("${groble.outbox.relay.max-attempts:10}") int maxAttempts,
+      @Value("${groble.outbox.relay.retry-base-delay:10s}") Duration retryBaseDelay,
+      @Value("${groble.outbox.relay.retry-max-delay:30m}") Duration retryMaxDelay,
+      @Value("${groble.outbox.retention:7d}") Duration retention) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.lease = lease;
+    this.maxAttempts = maxAttempts;
+    this.retryBaseDelay = retryBaseDelay;
+    this.retryMaxDelay = retryMaxDelay;
+    this.retention = retention;
+
+    for (OutboxEventHandler<?> handler : handlers) {
+      if (dispatchers.put(handler.eventType(), new Dispatcher<>(handler)) != null) {
+        throw new IllegalStateException("중복된 아웃박스 처리기: " + handler.eventType());
+      }
+    }
+  }
+
+  /** 대기 중인 이벤트를 배치 단위로 전달합니다. 한 번의 실행에서 최대 {@value #MAX_BATCHES_PER_RUN}개 배치까지 처리합니다. */
+  public void relayPending() {
+    for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+      if (relayBatch() < batchSize) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 이벤트 한 배치를 점유해 전달하고 결과를 기록합니다.
+   *
+   * @return 점유한 이벤트 수
+   */
+  public int relayBatch() {
+    List<OutboxEventDTO> events = outboxEventRepository.claimBatch(batchSize, lease, maxAttempts);
+    if (events.isEmpty()) {
+      return 0;
+    }
+
+    Map<OutboxEventDTO, Future<?>> inFlight = new LinkedHashMap<>();
+    for (OutboxEventDTO event : events) {
+      Dispatcher<?> dispatcher = dispatchers.get(event.getEventType());
+      if (dispatcher == null) {
+        fail(event, "등록된 처리기가 없습니다");
+        continue;
+      }
+      Runnable task;
+      try {
+        task = dispatcher.prepare(event.getPayload());
+      } catch (Exception e) {
+        // 역직렬화 실패는 재시도해도 성공할 수 없으므로 즉시 실패 처리
+        fail(event, describe(e));
+        continue;
+      }
+      try {
+        inFlight.put(event, dispatcher.executor.submit(task));
+      } catch (RejectedExecutionException e) {
+        // 이전 배치의 처리가 아직 풀을 점유하고 있으면 대기열에 쌓지 않고 재시도로 돌림
+        count(event, "rejected");
+        retryOrFail(event, e);
+      }
+    }
+
+    long deadline = System.nanoTime() + lease.toNanos();
+    List<OutboxEventDTO> delivered = new ArrayList<>(inFlight.size());
+    for (Map.Entry<OutboxEventDTO, Future<?>> entry : inFlight.entrySet()) {
+      OutboxEventDTO event = entry.getKey();
+      Future<?> future = entry.getValue();
+      try {
+        future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        delivered.add(event);
+        count(event, "delivered");
+      } catch (ExecutionException e) {
+        retryOrFail(event, e.getCause());
+      } catch (TimeoutException e) {
+        // 재점유된 이벤트와 동시에 처리되지 않도록 진행 중인 처리를 인터럽트로 취소
+        future.cancel(true);
+        // 시간 초과도 실패 시도로 보고 재시도 또는 실패 처리해 같은 이벤트가 무한히 재전달되지 않도록 함
+        count(event, "timeout");
+        retryOrFail(event, e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    int done = outboxEventRepository.markDone(delivered);
+    if (done < delivered.size()) {
+      log.warn("점유가 만료되어 완료 처리하지 못한 아웃박스 이벤트 - {}건", delivered.size() - done);
+    }
+    return events.size();
+  }
+
+  /** 보관 기간이 지난 전달 완료 이벤트를 삭제합니다. */
+  public long purgeDelivered() {
+    LocalDateTime before = LocalDateTime.now().minus(retention);
+    long removed = 0;
+    int deleted;
+    do {
+      deleted = outboxEventRepository.deleteDoneBefore(before, PURGE_CHUNK_SIZE);
+      removed += deleted;
+    } while (deleted == PURGE_CHUNK_SIZE);
+    return removed;
+  }
+
+  @Override
+  public void destroy() {
+    dispatchers.values().forEach(dispatcher -> dispatcher.executor.shutdown());
+  }
+
+  private void retryOrFail(OutboxEventDTO event, Throwable cause) {
+    if (event.getAttemptCount() >= maxAttempts) {
+      log.error(
+          "아웃박스 이벤트 최대 재시도 초과 - id: {}, type: {}, attempts: {}",
+          event.getId(),
+          event.getEventType(),
+          event.getAttemptCount(),
+          cause);
+      fail(event, describe(cause));
+      return;
+    }
+
+    Duration delay = backoff(event.getAttemptCount());
+    log.warn(
+        "아웃박스 이벤트 전달 실패, 재시도 예정 - id: {}, type: {}, attempt: {}, delay: {}",
+        event.getId(),
+        event.getEventType(),
+        event.getAttemptCount(),
+        delay,
+        cause);
+    if (outboxEventRepository.markRetry(event, LocalDateTime.now().plus(delay), describe(cause))) {
+      count(event, "retried");
+    } else {
+      lostLease(event);
+    }
+  }
+
+  private void fail(OutboxEventDTO event, String error) {
+    if (outboxEventRepository.markFailed(event, error)) {
+      count(event, "failed");
+    } else {
+      lostLease(event);
+    }
+  }
+
+  private void lostLease(OutboxEventDTO event) {
+    log.warn(
+        "점유가 만료되어 결과를 기록하지 못한 아웃박스 이벤트 - id: {}, type: {}",
+        event.getId(),
+        event.getEventType());
+    count(event, "lease_lost");
+  }
+
+  private Duration backoff(int attempt) {
+    Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+    return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+  }
+
+  private void count(OutboxEventDTO event, String outcome) {
+    meterRegistry
+        .counter(METRIC_NAME, "type", event.getEventType(), "outcome", outcome)
+        .increment();
+  }
+
+  private static String describe(Throwable cause) {
+    return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+  }
+
+  /** 처리기와 처리기 전용 스레드 풀 (풀 크기 = 처리기 최대 동시 처리 수, 대기열 = 배치 크기) */
+  private final class Dispatcher<T> {
+    private final OutboxEventHandler<T> handler;
+    private final ThreadPoolTaskExecutor executor;
+
+    private Dispatcher(OutboxEventHandler<T> handler) {
+      this.handler = handler;
+      this.executor =
+          InstrumentedExecutors.create(
+              "outbox-" + handler.eventType().toLowerCase(),
+              new ExecutorPool(
+                  handler.concurrency(),
+                  handler.concurrency(),
+                  batchSize,
+                  ExecutorPool.RejectionPolicy.ABORT),
+              meterRegistry);
+    }
+
+    private Runnable prepare(String payload) throws Exception {
+      T event = objectMapper.readValue(payload, handler.payloadType());
+      return () -> handler.handle(event);
+    }
+  }
+}
@@ -2,9 +2,9 @@ package liaison.groble.application.payment.event;
 
 import org.springframework.stereotype.Component;
 
+import liaison.groble.application.outbox.OutboxEventPublisher;
 import liaison.groble.application.payment.dto.PaymentCancelResult;
 import liaison.groble.application.payment.dto.completion.PaymentCompletionResult;
-import liaison.groble.common.event.EventPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,13 +13,19 @@ import lombok.extern.slf4j.Slf4j;
  * 결제 이벤트 발행자
  *
  * <p>결제 관련 이벤트 발행을 전담하는 컴포넌트입니다. 회원/비회원 구분에 따른 이벤트 생성 로직을 캡슐화합니다.
+ *
+ * <p>이벤트는 결제 완료/취소 트랜잭션 안에서 아웃박스에 기록되며, 알림 발송은 커밋 이후 아웃박스 릴레이가 수행합니다. 따라서 반드시 트랜잭션 안에서
+ * 호출해야 합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentEventPublisher {
+  public static final String PAYMENT_COMPLETED = "PAYMENT_COMPLETED";
+  public static final String PAYMENT_REFUNDED = "PAYMENT_REFUNDED";
+  private static final String AGGREGATE_ORDER = "ORDER";
 
-  private final EventPublisher eventPublisher;
+  private final OutboxEventPublisher outboxEventPublisher;
 
   /**
    * 회원 결제 완료 이벤트를 발행합니다.
@@ -55,7 +61,7 @@ public class PaymentEventPublisher {
               .subscriptionRound(completionResult.getSubscriptionRound())
               .build();
 
-      eventPublisher.publish(event);
+      outboxEventPublisher.publish(PAYMENT_COMPLETED, AGGREGATE_ORDER, event.getOrderId(), event);
       log.info("회원 결제 완료 이벤트 발행 완료 - orderId: {}", completionResult.getOrderId());
 
     } catch (Exception e) {
@@ -98,7 +104,7 @@ public class PaymentEventPublisher {
               .subscriptionRound(completionResult.getSubscriptionRound())
               .build();
 
-      eventPublisher.publish(event);
+      outboxEventPublisher.publish(PAYMENT_COMPLETED, AGGREGATE_ORDER, event.getOrderId(), event);
       log.info("비회원 결제 완료 이벤트 발행 완료 - orderId: {}", completionResult.getOrderId());
 
     } catch (Exception e) {
@@ -125,7 +131,7 @@ public class PaymentEventPublisher {
             .refundedAt(result.getRefundedAt())
             .build();
 
-    eventPublisher.publish(event);
+    outboxEventPublisher.publish(PAYMENT_REFUNDED, AGGREGATE_ORDER, event.getOrderId(), event);
   }
 
   /**
@@ -146,6 +152,6 @@ public class PaymentEventPublisher {
             .refundedAt(result.getRefundedAt())
             .build();
 
-    eventPublisher.publish(event);
+    outboxEventPublisher.publish(PAYMENT_REFUNDED, AGGREGATE_ORDER, event.getOrderId(), event);
   }
 }
@@ -5,10 +5,12 @@ import java.time.LocalDateTime;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /** 환불 완료 이벤트 */
 @Getter
 @Builder
+@Jacksonized
 public class PaymentRefundedEvent {
   private final Long orderId;
   private final Long paymentId;
@@ -0,0 +1,43 @@
+package liaison.groble.application.payment.listener;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.outbox.OutboxEventHandler;
+import liaison.groble.application.payment.event.PaymentCompletedEvent;
+import liaison.groble.application.payment.event.PaymentEventPublisher;
+import liaison.groble.application.payment.service.PaymentNotificationService;
+
+/** 아웃박스에 기록된 결제 완료 이벤트를 받아 알림을 발송합니다. */
+@Component
+public class PaymentCompletedOutboxHandler implements OutboxEventHandler<PaymentCompletedEvent> {
+  private final PaymentNotificationService paymentNotificationService;
+  private final int concurrency;
+
+  public PaymentCompletedOutboxHandler(
+      PaymentNotificationService paymentNotificationService,
+      @Value("${groble.outbox.handlers.payment-completed.concurrency:4}") int concurrency) {
+    this.paymentNotificationService = paymentNotificationService;
+    this.concurrency = concurrency;
+  }
+
+  @Override
+  public String eventType() {
+    return PaymentEventPublisher.PAYMENT_COMPLETED;
+  }
+
+  @Override
+  public Class<PaymentCompletedEvent> payloadType() {
+    return PaymentCompletedEvent.class;
+  }
+
+  @Override
+  public void handle(PaymentCompletedEvent event) {
+    paymentNotificationService.sendPaymentCompletedNotifications(event);
+  }
+
+  @Override
+  public int concurrency() {
+    return concurrency;
+  }
+}
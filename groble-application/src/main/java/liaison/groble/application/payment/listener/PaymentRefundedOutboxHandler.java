@@ -0,0 +1,43 @@
+package liaison.groble.application.payment.listener;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.outbox.OutboxEventHandler;
+import liaison.groble.application.payment.event.PaymentEventPublisher;
+import liaison.groble.application.payment.event.PaymentRefundedEvent;
+import liaison.groble.application.payment.service.PaymentNotificationService;
+
+/** 아웃박스에 기록된 환불 완료 이벤트를 받아 알림을 발송합니다. */
+@Component
+public class PaymentRefundedOutboxHandler implements OutboxEventHandler<PaymentRefundedEvent> {
+  private final PaymentNotificationService paymentNotificationService;
+  private final int concurrency;
+
+  public PaymentRefundedOutboxHandler(
+      PaymentNotificationService paymentNotificationService,
+      @Value("${groble.outbox.handlers.payment-refunded.concurrency:2}") int concurrency) {
+    this.paymentNotificationService = paymentNotificationService;
+    this.concurrency = concurrency;
+  }
+
+  @Override
+  public String eventType() {
+    return PaymentEventPublisher.PAYMENT_REFUNDED;
+  }
+
+  @Override
+  public Class<PaymentRefundedEvent> payloadType() {
+    return PaymentRefundedEvent.class;
+  }
+
+  @Override
+  public void handle(PaymentRefundedEvent event) {
+    paymentNotificationService.sendPaymentRefundedNotifications(event);
+  }
+
+  @Override
+  public int concurrency() {
+    return concurrency;
+  }
+}
@@ -1,7 +1,6 @@
 package liaison.groble.application.payment.service;
 
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
@@ -37,15 +36,14 @@ public class PaymentExecutionService {
    *
    * @param authResult 페이플 인증 결과
    * @param authInfoSupplier 인증 정보 저장 및 검증 로직
-   * @param completionFunction 결제 완료 처리 로직
-   * @param eventPublisher 이벤트 발행 로직
+   * @param completionFunction 결제 완료 처리 로직 (결제 완료 이벤트를 같은 트랜잭션에서 아웃박스에 기록)
    * @return 결제 처리 결과
    */
   public AppCardPayplePaymentDTO executePayment(
       PaypleAuthResultDTO authResult,
       Supplier<PaymentAuthInfo> authInfoSupplier,
-      BiFunction<PaymentAuthInfo, PaypleApprovalResult, PaymentCompletionResult> completionFunction,
-      Consumer<PaymentCompletionResult> eventPublisher) {
+      BiFunction<PaymentAuthInfo, PaypleApprovalResult, PaymentCompletionResult>
+          completionFunction) {
 
     try {
       // 1. 요청 검증
@@ -72,12 +70,9 @@ public class PaymentExecutionService {
       }
 
       // 5-2. 결제 완료 처리
-      PaymentCompletionResult completionResult = completionFunction.apply(authInfo, approvalResult);
+      completionFunction.apply(authInfo, approvalResult);
 
-      // 6. 이벤트 발행
-      eventPublisher.accept(completionResult);
-
-      // 7. 응답 생성
+      // 6. 응답 생성
       return buildPaymentResponse(approvalResult);
 
     } catch (PaymentAuthException e) {
@@ -38,34 +38,32 @@ public class PaymentNotificationService {
   private final SubscriptionPaymentSuccessReportService subscriptionPaymentSuccessReportService;
   private final KakaoNotificationService kakaoNotificationService;
 
-  @Async("defaultAsyncExecutor") // 명시적으로 Executor 지정
-  public void processAsyncPaymentCompletedEvent(PaymentCompletedEvent event) {
+  /**
+   * 결제 완료 알림을 발송합니다. 아웃박스 릴레이 스레드에서 호출됩니다.
+   *
+   * <p>채널별 발송 실패는 개별적으로 기록하고 넘어가므로, 이미 발송된 채널이 재시도로 중복 발송되지 않습니다.
+   */
+  public void sendPaymentCompletedNotifications(PaymentCompletedEvent event) {
     log.info(
-        "비동기 결제 완료 처리 시작 - orderId: {}, 쓰레드: {}",
+        "결제 완료 알림 처리 시작 - orderId: {}, 쓰레드: {}",
         event.getOrderId(),
         Thread.currentThread().getName());
 
-    try {
-      // 1. 판매자에게 알림 발송
-      sendSellerNotification(event);
-      sendSellerATNotification(event);
-      // 2. 구매자에게 알림 발송
-      sendBuyerNotification(event);
-      sendBuyerATNotification(event);
-      // 3. 판매자에게 이메일 발송
-      sendSaleNotificationEmail(event);
-
-      // 4. 결제 완료 디스코드 알림 발송
-      sendDiscordPaymentSuccessNotification(event);
-      log.info("비동기 결제 완료 처리 완료 - orderId: {}", event.getOrderId());
-
-    } catch (Exception e) {
-      log.error("비동기 결제 완료 처리 실패 - orderId: {}", event.getOrderId(), e);
-      // 필요시 재처리 로직이나 알람 발송
-    }
+    // 1. 판매자에게 알림 발송
+    sendSellerNotification(event);
+    sendSellerATNotification(event);
+    // 2. 구매자에게 알림 발송
+    sendBuyerNotification(event);
+    sendBuyerATNotification(event);
+    // 3. 판매자에게 이메일 발송
+    sendSaleNotificationEmail(event);
+
+    // 4. 결제 완료 디스코드 알림 발송
+    sendDiscordPaymentSuccessNotification(event);
+    log.info("결제 완료 알림 처리 완료 - orderId: {}", event.getOrderId());
   }
 
-  @Async("defaultAsyncExecutor") // 명시적으로 Executor 지정
+  @Async("notificationExecutor")
   public void processAsyncFreePaymentCompletedEvent(FreePaymentCompletedEvent event) {
     log.info(
         "비동기 무료 결제 완료 처리 시작 - orderId: {}, 쓰레드: {}",
@@ -92,24 +90,20 @@ public class PaymentNotificationService {
     }
   }
 
-  @Async("defaultAsyncExecutor") // 명시적으로 Executor 지정
-  public void processAsyncPaymentRefundedEvent(PaymentRefundedEvent event) {
+  /** 환불 완료 알림을 발송합니다. 아웃박스 릴레이 스레드에서 호출됩니다. */
+  public void sendPaymentRefundedNotifications(PaymentRefundedEvent event) {
     log.info(
-        "비동기 환불 처리 시작 - orderId: {}, 쓰레드: {}",
+        "환불 완료 알림 처리 시작 - orderId: {}, 쓰레드: {}",
         event.getOrderId(),
         Thread.currentThread().getName());
-    try {
-      // 1. 구매자에게 환불 알림 발송
-      sendRefundNotification(event);
 
-      // 2. 구매자에게 환불 이메일 발송
-      sendRefundEmail(event);
+    // 1. 구매자에게 환불 알림 발송
+    sendRefundNotification(event);
 
-      log.info("환불 완료 이벤트 처리 완료 - orderId: {}", event.getOrderId());
+    // 2. 구매자에게 환불 이메일 발송
+    sendRefundEmail(event);
 
-    } catch (Exception e) {
-      log.error("환불 완료 이벤트 처리 중 오류 발생 - orderId: {}", event.getOrderId(), e);
-    }
+    log.info("환불 완료 알림 처리 완료 - orderId: {}", event.getOrderId());
   }
 
   /** 구매자 알림 발송 */
@@ -3,6 +3,7 @@ package liaison.groble.application.payment.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.order.service.OrderReader;
 import liaison.groble.application.payment.dto.cancel.PaymentCancelDTO;
 import liaison.groble.application.payment.dto.cancel.PaymentCancelInfoDTO;
@@ -32,6 +33,7 @@ public class PaymentService {
   private final PaymentReader paymentReader;
   private final PurchaseReader purchaseReader;
   private final ContentPaymentRefundRequestService contentPaymentRefundRequestService;
+  private final SellerSalesRollupService sellerSalesRollupService;
 
   @Transactional
   public void requestPaymentCancel(
@@ -159,6 +161,8 @@ public class PaymentService {
       Order order, Purchase purchase, CancelReason cancelReason, String detailReason) {
     order.cancelRequestOrder(detailReason);
     purchase.cancelRequestPurchase(cancelReason);
+    // 취소 요청 상태부터 대시보드 매출에서 제외
+    sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
   }
 
   private CancelReason parseCancelReason(String cancelReason) {
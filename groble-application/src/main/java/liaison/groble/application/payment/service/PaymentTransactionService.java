@@ -10,6 +10,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.application.content.service.ContentCacheService;
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.order.service.OrderReader;
 import liaison.groble.application.payment.dto.PaymentAuthInfo;
 import liaison.groble.application.payment.dto.PaymentCancelInfo;
@@ -18,6 +20,7 @@ import liaison.groble.application.payment.dto.PaypleApprovalResult;
 import liaison.groble.application.payment.dto.PaypleAuthResultDTO;
 import liaison.groble.application.payment.dto.billing.BillingKeyAction;
 import liaison.groble.application.payment.dto.completion.PaymentCompletionResult;
+import liaison.groble.application.payment.event.PaymentEventPublisher;
 import liaison.groble.application.payment.util.CardQuotaNormalizer;
 import liaison.groble.application.payment.validator.PaymentValidator;
 import liaison.groble.application.purchase.service.PurchaseReader;
@@ -80,6 +83,9 @@ public class PaymentTransactionService {
   private final UserReader userReader;
   private final SubscriptionService subscriptionService;
   private final PaymentFailureReportService paymentFailureReportService;
+  private final SellerSalesRollupService sellerSalesRollupService;
+  private final ContentCacheService contentCacheService;
+  private final PaymentEventPublisher paymentEventPublisher;
 
   /**
    * 인증 정보 저장 및 검증
@@ -334,33 +340,38 @@ public class PaymentTransactionService {
       }
     }
 
-    return PaymentCompletionResult.builder()
-        .orderId(order.getId())
-        .merchantUid(order.getMerchantUid())
-        .paymentId(payment.getId())
-        .purchaseId(purchase.getId())
-        .userId(order.getUser().getId())
-        .contentId(purchase.getContent().getId())
-        .sellerId(purchase.getContent().getUser().getId())
-        .amount(payment.getPrice())
-        .completedAt(purchase.getPurchasedAt())
-        .sellerEmail(purchase.getContent().getUser().getEmail())
-        .contentTitle(purchase.getContent().getTitle())
-        .nickname(order.getUser().getNickname())
-        .contentType(purchase.getContent().getContentType().name())
-        .paymentType(purchase.getContent().getPaymentType())
-        .optionId(purchase.getSelectedOptionId())
-        .selectedOptionName(purchase.getSelectedOptionName())
-        .purchasedAt(purchase.getPurchasedAt())
-        .subscriptionRenewal(subscriptionResult != null && subscriptionResult.renewed())
-        .subscriptionId(
-            subscriptionResult != null ? subscriptionResult.subscription().getId() : null)
-        .subscriptionNextBillingDate(
-            subscriptionResult != null
-                ? subscriptionResult.subscription().getNextBillingDate()
-                : null)
-        .subscriptionRound(subscriptionRound)
-        .build();
+    PaymentCompletionResult completionResult =
+        PaymentCompletionResult.builder()
+            .orderId(order.getId())
+            .merchantUid(order.getMerchantUid())
+            .paymentId(payment.getId())
+            .purchaseId(purchase.getId())
+            .userId(order.getUser().getId())
+            .contentId(purchase.getContent().getId())
+            .sellerId(purchase.getContent().getUser().getId())
+            .amount(payment.getPrice())
+            .completedAt(purchase.getPurchasedAt())
+            .sellerEmail(purchase.getContent().getUser().getEmail())
+            .contentTitle(purchase.getContent().getTitle())
+            .nickname(order.getUser().getNickname())
+            .contentType(purchase.getContent().getContentType().name())
+            .paymentType(purchase.getContent().getPaymentType())
+            .optionId(purchase.getSelectedOptionId())
+            .selectedOptionName(purchase.getSelectedOptionName())
+            .purchasedAt(purchase.getPurchasedAt())
+            .subscriptionRenewal(subscriptionResult != null && subscriptionResult.renewed())
+            .subscriptionId(
+                subscriptionResult != null ? subscriptionResult.subscription().getId() : null)
+            .subscriptionNextBillingDate(
+                subscriptionResult != null
+                    ? subscriptionResult.subscription().getNextBillingDate()
+                    : null)
+            .subscriptionRound(subscriptionRound)
+            .build();
+
+    // 알림 발송 이벤트를 결제 완료와 같은 트랜잭션에 기록
+    paymentEventPublisher.publishPaymentCompleted(completionResult);
+    return completionResult;
   }
 
   /**
@@ -498,7 +509,10 @@ public class PaymentTransactionService {
     Content content = order.getOrderItems().get(0).getContent();
     content.incrementSaleCount();
     contentRepository.save(content);
-    return purchaseRepository.save(purchase);
+    Purchase savedPurchase = purchaseRepository.save(purchase);
+    sellerSalesRollupService.syncPurchaseAfterCommit(savedPurchase.getId());
+    contentCacheService.evictSoldContent(content);
+    return savedPurchase;
   }
 
   /** 정산 데이터 생성 - 원화 반올림 로직 명확화 */
@@ -678,6 +692,7 @@ public class PaymentTransactionService {
     // 2. 취소 처리
     order.cancelOrder(reason);
     purchase.cancelPayment();
+    sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
 
     // ========== 정산 환불 처리 추가 ==========
     try {
@@ -696,14 +711,17 @@ public class PaymentTransactionService {
         payment.getId(),
         purchase.getId());
 
-    return PaymentCancelResult.builder()
-        .orderId(order.getId())
-        .paymentId(payment.getId())
-        .userId(order.getUser().getId())
-        .refundAmount(cancelInfo.getRefundAmount())
-        .reason(reason)
-        .refundedAt(LocalDateTime.now())
-        .build();
+    PaymentCancelResult cancelResult =
+        PaymentCancelResult.builder()
+            .orderId(order.getId())
+            .paymentId(payment.getId())
+            .userId(order.getUser().getId())
+            .refundAmount(cancelInfo.getRefundAmount())
+            .reason(reason)
+            .refundedAt(LocalDateTime.now())
+            .build();
+    paymentEventPublisher.publishPaymentRefunded(cancelResult);
+    return cancelResult;
   }
 
   /** 환불 정산 처리 */
@@ -858,25 +876,29 @@ public class PaymentTransactionService {
       throw new IllegalStateException("정기결제는 비회원 결제를 지원하지 않습니다.");
     }
 
-    return PaymentCompletionResult.builder()
-        .orderId(order.getId())
-        .merchantUid(order.getMerchantUid())
-        .paymentId(payment.getId())
-        .purchaseId(purchase.getId())
-        .guestUserId(order.getGuestUser().getId())
-        .contentId(purchase.getContent().getId())
-        .sellerId(purchase.getContent().getUser().getId())
-        .amount(payment.getPrice())
-        .completedAt(purchase.getPurchasedAt())
-        .sellerEmail(purchase.getContent().getUser().getEmail())
-        .contentTitle(purchase.getContent().getTitle())
-        .guestUserName(order.getGuestUser().getUsername())
-        .contentType(purchase.getContent().getContentType().name())
-        .paymentType(purchase.getContent().getPaymentType())
-        .optionId(purchase.getSelectedOptionId())
-        .selectedOptionName(purchase.getSelectedOptionName())
-        .purchasedAt(purchase.getPurchasedAt())
-        .build();
+    PaymentCompletionResult completionResult =
+        PaymentCompletionResult.builder()
+            .orderId(order.getId())
+            .merchantUid(order.getMerchantUid())
+            .paymentId(payment.getId())
+            .purchaseId(purchase.getId())
+            .guestUserId(order.getGuestUser().getId())
+            .contentId(purchase.getContent().getId())
+            .sellerId(purchase.getContent().getUser().getId())
+            .amount(payment.getPrice())
+            .completedAt(purchase.getPurchasedAt())
+            .sellerEmail(purchase.getContent().getUser().getEmail())
+            .contentTitle(purchase.getContent().getTitle())
+            .guestUserName(order.getGuestUser().getUsername())
+            .contentType(purchase.getContent().getContentType().name())
+            .paymentType(purchase.getContent().getPaymentType())
+            .optionId(purchase.getSelectedOptionId())
+            .selectedOptionName(purchase.getSelectedOptionName())
+            .purchasedAt(purchase.getPurchasedAt())
+            .build();
+
+    paymentEventPublisher.publishPaymentCompletedForGuest(completionResult);
+    return completionResult;
   }
 
   /**
@@ -930,6 +952,7 @@ public class PaymentTransactionService {
     // 2. 취소 처리
     order.cancelOrder(reason);
     purchase.cancelPayment();
+    sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
 
     // ========== 정산 환불 처리 추가 ==========
     try {
@@ -948,14 +971,17 @@ public class PaymentTransactionService {
         payment.getId(),
         purchase.getId());
 
-    return PaymentCancelResult.builder()
-        .orderId(order.getId())
-        .paymentId(payment.getId())
-        .guestUserId(order.getGuestUser().getId())
-        .refundAmount(cancelInfo.getRefundAmount())
-        .reason(reason)
-        .refundedAt(LocalDateTime.now())
-        .build();
+    PaymentCancelResult cancelResult =
+        PaymentCancelResult.builder()
+            .orderId(order.getId())
+            .paymentId(payment.getId())
+            .guestUserId(order.getGuestUser().getId())
+            .refundAmount(cancelInfo.getRefundAmount())
+            .reason(reason)
+            .refundedAt(LocalDateTime.now())
+            .build();
+    paymentEventPublisher.publishPaymentRefundedForGuest(cancelResult);
+    return cancelResult;
   }
 
   /** 비회원용 PayplePayment 생성 */
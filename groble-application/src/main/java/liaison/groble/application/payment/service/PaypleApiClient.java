@@ -1,14 +1,18 @@
 package liaison.groble.application.payment.service;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.json.simple.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import liaison.groble.application.common.token.ExpiringTokenCache;
 import liaison.groble.application.payment.dto.PaymentCancelInfo;
 import liaison.groble.application.payment.dto.PaypleApprovalResult;
 import liaison.groble.application.payment.dto.PaypleAuthResponseDTO;
@@ -36,11 +40,19 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PaypleApiClient {
   private static final String RESULT_SUCCESS = "success";
+  private static final String CANCEL_AUTH_KEY = "CANCEL";
 
   private final PaypleService paypleService;
   private final PaypleConfig paypleConfig;
   private final PaypleCodeGenerator codeGenerator;
 
+  // 서버 간 호출(빌링키 결제, 빌링키 삭제, 환불)에 쓰는 AuthKey를 작업 구분별로 재사용
+  private final ExpiringTokenCache<String, PaypleAuthResponseDTO> authKeyCache =
+      new ExpiringTokenCache<>(Duration.ZERO);
+
+  @Value("${groble.payple-token.auth-key-ttl:60s}")
+  private Duration authKeyTtl = Duration.ofSeconds(60);
+
   /**
    * 일반 결제 인증 요청 (기존 호환성 유지)
    *
@@ -187,17 +199,23 @@ public class PaypleApiClient {
   public PaypleApprovalResult requestSimplePayment(PaypleSimplePayRequest request) {
     log.info("페이플 빌링키 결제 요청 - merchantUid: {}", request.getPayOid());
 
+    PaypleAuthResponseDTO authResponse = null;
     try {
-      PaypleAuthResponseDTO authResponse = requestAuth("PAY");
+      authResponse = cachedAuth("PAY", () -> requestAuth("PAY"));
       JSONObject approvalResult =
           paypleService.paySimplePayment(request, authResponse.getAuthKey());
       PaypleApprovalResult result = buildApprovalResult(approvalResult);
+      if (!result.isSuccess()) {
+        invalidateAuth("PAY", authResponse);
+      }
       log.info(
           "페이플 빌링키 결제 응답 - merchantUid: {}, result: {}", request.getPayOid(), result.getPayRst());
       return result;
     } catch (PaypleApiException e) {
+      invalidateAuth("PAY", authResponse);
       throw e;
     } catch (Exception e) {
+      invalidateAuth("PAY", authResponse);
       log.error("페이플 빌링키 결제 중 오류 발생 - merchantUid: {}", request.getPayOid(), e);
       throw new PaypleApiException("페이플 빌링키 결제 실패", e);
     }
@@ -206,13 +224,16 @@ public class PaypleApiClient {
   public void deleteBillingKey(String billingKey) {
     log.info("페이플 빌링키 삭제 요청 - payerId: {}", maskCode(billingKey));
 
+    String payWork = BillingKeyAction.DELETE.getPayWork();
+    PaypleAuthResponseDTO authResponse = null;
     try {
-      PaypleAuthResponseDTO authResponse = requestAuth(BillingKeyAction.DELETE.getPayWork());
+      authResponse = cachedAuth(payWork, () -> requestAuth(payWork));
       JSONObject deleteResult =
           paypleService.deleteBillingKey(billingKey, authResponse.getAuthKey());
 
       String payResult = getString(deleteResult, "PCD_PAY_RST");
       if (!RESULT_SUCCESS.equalsIgnoreCase(payResult)) {
+        invalidateAuth(payWork, authResponse);
         String errorMessage = getString(deleteResult, "PCD_PAY_MSG");
         throw new PaypleApiException(errorMessage != null ? errorMessage : "페이플 빌링키 삭제에 실패했습니다.");
       }
@@ -221,6 +242,7 @@ public class PaypleApiClient {
     } catch (PaypleApiException e) {
       throw e;
     } catch (Exception e) {
+      invalidateAuth(payWork, authResponse);
       log.error("페이플 빌링키 삭제 중 오류 발생", e);
       throw new PaypleApiException("페이플 빌링키 삭제에 실패했습니다.", e);
     }
@@ -239,9 +261,10 @@ public class PaypleApiClient {
         cancelInfo.getMerchantUid(),
         cancelInfo.getRefundAmount());
 
+    PaypleAuthResponseDTO authResponse = null;
     try {
-      // 1. 환불을 위한 전용 인증 요청
-      PaypleAuthResponseDTO authResponse = requestAuthForCancel();
+      // 1. 환불을 위한 전용 인증 (유효한 AuthKey가 있으면 재사용)
+      authResponse = cachedAuth(CANCEL_AUTH_KEY, this::requestAuthForCancel);
 
       // 2. 환불 요청 생성
       PaypleRefundRequest refundRequest =
@@ -266,6 +289,9 @@ public class PaypleApiClient {
       boolean isSuccess = RESULT_SUCCESS.equalsIgnoreCase(refundRst);
 
       log.info("페이플 환불 응답 - merchantUid: {}, result: {}", cancelInfo.getMerchantUid(), refundRst);
+      if (!isSuccess) {
+        invalidateAuth(CANCEL_AUTH_KEY, authResponse);
+      }
 
       return PaypleRefundResult.builder()
           .success(isSuccess)
@@ -279,8 +305,10 @@ public class PaypleApiClient {
           .build();
 
     } catch (PaypleApiException e) {
+      invalidateAuth(CANCEL_AUTH_KEY, authResponse);
       throw e;
     } catch (Exception e) {
+      invalidateAuth(CANCEL_AUTH_KEY, authResponse);
       log.error("페이플 환불 요청 중 오류 발생 - merchantUid: {}", cancelInfo.getMerchantUid(), e);
       throw new PaypleApiException("페이플 환불 요청 실패", e);
     }
@@ -375,6 +403,20 @@ public class PaypleApiClient {
         .build();
   }
 
+  /** 작업 구분별 AuthKey를 유효 시간 동안 재사용하고, 만료 시 한 번만 재인증 */
+  private PaypleAuthResponseDTO cachedAuth(
+      String cacheKey, Supplier<PaypleAuthResponseDTO> authRequest) {
+    return authKeyCache.get(
+        cacheKey, key -> new ExpiringTokenCache.Issued<>(authRequest.get(), authKeyTtl));
+  }
+
+  /** 실패한 요청에 사용한 AuthKey는 만료 여부와 관계없이 폐기 */
+  private void invalidateAuth(String cacheKey, PaypleAuthResponseDTO authResponse) {
+    if (authResponse != null) {
+      authKeyCache.invalidate(cacheKey, authResponse);
+    }
+  }
+
   /** 코드 마스킹 (보안을 위한 로깅용) */
   private String maskCode(String code) {
     if (code == null || code.length() <= 4) {
@@ -16,7 +16,6 @@ import liaison.groble.application.payment.dto.billing.RegisterBillingKeyCommand;
 import liaison.groble.application.payment.dto.billing.SubscriptionPaymentMetadata;
 import liaison.groble.application.payment.dto.billing.SubscriptionPaymentResult;
 import liaison.groble.application.payment.dto.completion.PaymentCompletionResult;
-import liaison.groble.application.payment.event.PaymentEventPublisher;
 import liaison.groble.application.payment.exception.PaypleApiException;
 import liaison.groble.application.subscription.service.SubscriptionRecurringOrderFactory;
 import liaison.groble.common.exception.EntityNotFoundException;
@@ -42,7 +41,6 @@ public class SubscriptionPaymentService {
   private final OrderReader orderReader;
   private final PaypleApiClient paypleApiClient;
   private final PaymentTransactionService paymentTransactionService;
-  private final PaymentEventPublisher paymentEventPublisher;
   private final SubscriptionRepository subscriptionRepository;
   private final SubscriptionRecurringOrderFactory subscriptionRecurringOrderFactory;
 
@@ -69,7 +67,6 @@ public class SubscriptionPaymentService {
 
     PaymentCompletionResult completionResult =
         paymentTransactionService.completePayment(authInfo, approvalResult);
-    paymentEventPublisher.publishPaymentCompleted(completionResult);
 
     Order updatedOrder = orderReader.getOrderById(completionResult.getOrderId());
     return buildResult(
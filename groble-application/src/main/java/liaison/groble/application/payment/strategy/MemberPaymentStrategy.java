@@ -10,7 +10,6 @@ import liaison.groble.application.payment.dto.PaymentCancelResult;
 import liaison.groble.application.payment.dto.PaypleAuthResultDTO;
 import liaison.groble.application.payment.dto.PaypleRefundResult;
 import liaison.groble.application.payment.dto.cancel.PaymentCancelResponse;
-import liaison.groble.application.payment.event.PaymentEventPublisher;
 import liaison.groble.application.payment.exception.PaypleRefundException;
 import liaison.groble.application.payment.service.PaymentExecutionService;
 import liaison.groble.application.payment.service.PaymentTransactionService;
@@ -31,7 +30,6 @@ public class MemberPaymentStrategy implements PaymentStrategy {
 
   private final PaypleApiClient paypleApiClient;
   private final PaymentTransactionService transactionService;
-  private final PaymentEventPublisher eventPublisher;
   private final PaymentExecutionService executionService;
 
   @Override
@@ -53,8 +51,7 @@ public class MemberPaymentStrategy implements PaymentStrategy {
     return executionService.executePayment(
         authResult,
         () -> transactionService.saveAuthAndValidate(userId, authResult),
-        (authInfo, approvalResult) -> transactionService.completePayment(authInfo, approvalResult),
-        completionResult -> eventPublisher.publishPaymentCompleted(completionResult));
+        (authInfo, approvalResult) -> transactionService.completePayment(authInfo, approvalResult));
   }
 
   @Override
@@ -75,13 +72,10 @@ public class MemberPaymentStrategy implements PaymentStrategy {
                 "회원 환불 실패 [%s]: %s", refundResult.getErrorCode(), refundResult.getErrorMessage()));
       }
 
-      // 3. 취소 완료 처리
+      // 3. 취소 완료 처리 (환불 완료 이벤트는 같은 트랜잭션에서 아웃박스에 기록)
       PaymentCancelResult cancelResult = transactionService.completeCancel(cancelInfo, reason);
 
-      // 4. 환불 완료 이벤트 발행
-      eventPublisher.publishPaymentRefunded(cancelResult);
-
-      // 5. 응답 생성
+      // 4. 응답 생성
       return buildCancelResponse(merchantUid, reason, cancelResult);
 
     } catch (PaypleRefundException e) {
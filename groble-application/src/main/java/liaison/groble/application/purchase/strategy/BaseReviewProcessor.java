@@ -63,14 +63,16 @@ public abstract class BaseReviewProcessor implements ReviewProcessorStrategy {
 
       if (contentReview.getReviewStatus() == ReviewStatus.DELETED) {
         contentReview.reactivate(reviewDTO.getRating(), reviewDTO.getReviewContent());
-        savedContentReview = contentReviewWriter.save(contentReview);
+        savedContentReview = contentReviewWriter.saveAndFlush(contentReview);
       } else {
         throw reviewAlreadyExistsException(content.getId(), userContext);
       }
     } else {
       ContentReview contentReview = createContentReview(userContext, purchase, content, reviewDTO);
-      savedContentReview = contentReviewWriter.save(contentReview);
+      savedContentReview = contentReviewWriter.saveAndFlush(contentReview);
     }
+    // 집계는 DB의 리뷰 행으로 계산하므로 변경 내용을 먼저 반영(saveAndFlush)한 뒤 갱신
+    contentReviewWriter.refreshReviewSummary(content.getId());
 
     String reviewerName = getUserDisplayName(userContext);
     sendReviewNotifications(content, purchase, reviewerName, savedContentReview.getId());
@@ -95,7 +97,8 @@ public abstract class BaseReviewProcessor implements ReviewProcessorStrategy {
     ContentReview contentReview = doGetContentReview(userContext, reviewId);
     contentReview.updateReview(reviewDTO.getRating(), reviewDTO.getReviewContent());
 
-    ContentReview savedContentReview = contentReviewWriter.save(contentReview);
+    ContentReview savedContentReview = contentReviewWriter.saveAndFlush(contentReview);
+    contentReviewWriter.refreshReviewSummary(savedContentReview.getContent().getId());
 
     return PurchaserContentReviewDTO.builder()
         .rating(savedContentReview.getRating())
@@ -106,7 +109,9 @@ public abstract class BaseReviewProcessor implements ReviewProcessorStrategy {
   @Override
   public final void deleteReview(UserContext userContext, Long reviewId) {
     validateUserTypeForDelete(userContext);
+    Long contentId = contentReviewReader.getContentReviewById(reviewId).getContent().getId();
     doDeleteReview(userContext, reviewId);
+    contentReviewWriter.refreshReviewSummary(contentId);
   }
 
   // Template Methods - 서브클래스에서 구현
@@ -0,0 +1,20 @@
+package liaison.groble.application.scheduler.content;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.content.service.ContentViewCountBuffer;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ContentViewCountFlushScheduler {
+
+  private final ContentViewCountBuffer contentViewCountBuffer;
+
+  @Scheduled(fixedDelayString = "${groble.content-view-count.flush-interval-ms:5000}")
+  public void flushViewCounts() {
+    contentViewCountBuffer.flush();
+  }
+}
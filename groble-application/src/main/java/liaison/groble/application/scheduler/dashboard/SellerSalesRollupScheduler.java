@@ -0,0 +1,25 @@
+package liaison.groble.application.scheduler.dashboard;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.dashboard.service.SellerSalesRollupJobService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerSalesRollupScheduler {
+
+  private final SellerSalesRollupJobService sellerSalesRollupJobService;
+
+  @Scheduled(
+      cron = "${dashboard.seller-sales-rollup.rebuild-cron:0 0 4 * * SUN}",
+      zone = "Asia/Seoul")
+  public void rebuildSellerSalesRollups() {
+    log.debug("판매자 매출 롤업 재계산 스케줄러 실행");
+    sellerSalesRollupJobService.rebuildAll();
+  }
+}
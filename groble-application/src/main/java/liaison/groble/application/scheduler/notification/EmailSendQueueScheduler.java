@@ -0,0 +1,30 @@
+package liaison.groble.application.scheduler.notification;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.notification.queue.EmailSendQueueWorker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailSendQueueScheduler {
+
+  private final EmailSendQueueWorker emailSendQueueWorker;
+
+  @Scheduled(fixedDelayString = "${groble.mail-queue.poll-interval-ms:1000}")
+  public void sendQueuedMails() {
+    emailSendQueueWorker.drain();
+  }
+
+  @Scheduled(cron = "0 55 4 * * ?", zone = "Asia/Seoul")
+  public void purgeSentMails() {
+    long removed = emailSendQueueWorker.purgeSent();
+    if (removed > 0) {
+      log.info("Email send queue cleanup removed {} sent mails.", removed);
+    }
+  }
+}
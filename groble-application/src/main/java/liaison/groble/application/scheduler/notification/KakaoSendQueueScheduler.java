@@ -0,0 +1,40 @@
+package liaison.groble.application.scheduler.notification;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.notification.queue.KakaoDeliveryReportService;
+import liaison.groble.application.notification.queue.KakaoSendQueueWorker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoSendQueueScheduler {
+
+  private final KakaoSendQueueWorker kakaoSendQueueWorker;
+  private final KakaoDeliveryReportService kakaoDeliveryReportService;
+
+  @Scheduled(fixedDelayString = "${groble.kakao-queue.poll-interval-ms:1000}")
+  public void sendQueuedMessages() {
+    kakaoSendQueueWorker.drain();
+  }
+
+  @Scheduled(fixedDelayString = "${groble.kakao-queue.report.sweep-interval-ms:600000}")
+  public void markUnreportedMessages() {
+    long marked = kakaoDeliveryReportService.markUnreported();
+    if (marked > 0) {
+      log.warn("Kakao send queue marked {} messages without delivery report.", marked);
+    }
+  }
+
+  @Scheduled(cron = "0 50 4 * * ?", zone = "Asia/Seoul")
+  public void purgeDeliveredMessages() {
+    long removed = kakaoDeliveryReportService.purgeDelivered();
+    if (removed > 0) {
+      log.info("Kakao send queue cleanup removed {} delivered messages.", removed);
+    }
+  }
+}
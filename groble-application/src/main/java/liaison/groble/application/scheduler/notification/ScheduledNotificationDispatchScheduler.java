@@ -0,0 +1,21 @@
+package liaison.groble.application.scheduler.notification;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.notification.scheduled.service.ScheduledNotificationDispatcher;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduledNotificationDispatchScheduler {
+
+  private final ScheduledNotificationDispatcher scheduledNotificationDispatcher;
+
+  @Scheduled(fixedDelayString = "${groble.scheduled-notification.dispatch.poll-interval-ms:10000}")
+  public void dispatchScheduledNotifications() {
+    scheduledNotificationDispatcher.scheduleDueRuns();
+    scheduledNotificationDispatcher.dispatchDueRuns();
+  }
+}
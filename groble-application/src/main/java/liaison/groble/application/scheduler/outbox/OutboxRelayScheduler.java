@@ -0,0 +1,30 @@
+package liaison.groble.application.scheduler.outbox;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.outbox.OutboxRelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+  private final OutboxRelay outboxRelay;
+
+  @Scheduled(fixedDelayString = "${groble.outbox.relay.poll-interval-ms:1000}")
+  public void relayOutboxEvents() {
+    outboxRelay.relayPending();
+  }
+
+  @Scheduled(cron = "0 40 4 * * ?", zone = "Asia/Seoul")
+  public void purgeDeliveredOutboxEvents() {
+    long removed = outboxRelay.purgeDelivered();
+    if (removed > 0) {
+      log.info("Outbox cleanup removed {} delivered events.", removed);
+    }
+  }
+}
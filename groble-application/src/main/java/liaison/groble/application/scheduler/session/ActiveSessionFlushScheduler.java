@@ -0,0 +1,31 @@
+package liaison.groble.application.scheduler.session;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.session.ActiveSessionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveSessionFlushScheduler {
+
+  private final ActiveSessionService activeSessionService;
+
+  @Scheduled(fixedDelayString = "${groble.active-session.flush-interval-ms:500}")
+  public void flushPendingSessions() {
+    activeSessionService.flushPendingActivity();
+  }
+
+  @Scheduled(fixedDelayString = "${groble.active-session.cleanup-interval-ms:60000}")
+  public void removeExpiredSessions() {
+    try {
+      activeSessionService.removeExpiredSessions();
+    } catch (Exception e) {
+      log.warn("Active session cleanup failed", e);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package liaison.groble.application.scheduler.settlement;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.application.admin.settlement.service.AdminSettlementService;
+import liaison.groble.application.settlement.service.SettlementReconciliationJobService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementReconciliationScheduler {
+
+  private final SettlementReconciliationJobService reconciliationJobService;
+  private final AdminSettlementService adminSettlementService;
+
+  @Value("${settlement.transfer-recovery.stale-after:30m}")
+  private Duration transferStaleAfter;
+
+  @Scheduled(cron = "${settlement.reconciliation.cron:0 30 3 * * ?}", zone = "Asia/Seoul")
+  public void reconcileSettlementTotals() {
+    log.debug("정산 합계 대사 스케줄러 실행");
+    reconciliationJobService.reconcileOpenSettlements();
+  }
+
+  @Scheduled(fixedDelayString = "${settlement.transfer-recovery.interval-ms:600000}")
+  public void recoverStaleTransfers() {
+    int recovered = adminSettlementService.recoverStaleProcessingSettlements(transferStaleAfter);
+    if (recovered > 0) {
+      log.warn("처리중으로 남은 정산 {}건 복구", recovered);
+    }
+  }
+}
@@ -218,7 +218,10 @@ public class SellContentService {
 
   @Transactional
   public void deleteReviewRequest(Long userId, Long reviewId) {
+    Long contentId = contentReviewReader.getContentReviewById(reviewId).getContent().getId();
     contentReviewWriter.updateContentReviewStatusToDeleteRequested(userId, reviewId);
+    // 삭제 요청된 리뷰는 공개 목록에서 빠지므로 집계에서도 제외
+    contentReviewWriter.refreshReviewSummary(contentId);
 
     // 디스코드 알림 발송
     DeleteReviewRequestReportDTO dto = buildDeleteReviewRequestReportDTO(userId, reviewId);
@@ -0,0 +1,142 @@
+package liaison.groble.application.session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.domain.session.ActiveSessionStore;
+import liaison.groble.domain.session.GuestActiveSession;
+import liaison.groble.domain.session.MemberActiveSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 활동 병합(coalescing) 버퍼
+ *
+ * <p>같은 세션 키의 활동은 마지막 한 건만 보관했다가 주기적으로 Redis 파이프라인 한 번에 기록합니다. 요청 스레드는 맵 갱신만 수행하므로 Redis 왕복이
+ * 발생하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ActiveSessionHeartbeatBuffer {
+  private static final String METRIC_NAME = "active_session.heartbeat";
+
+  private final ActiveSessionStore activeSessionStore;
+  private final int maxPendingSessions;
+
+  private final Map<String, MemberActiveSession> pendingMembers = new ConcurrentHashMap<>();
+  private final Map<String, GuestActiveSession> pendingGuests = new ConcurrentHashMap<>();
+
+  private final Counter recordedCounter;
+  private final Counter droppedCounter;
+  private final Counter flushedCounter;
+  private final Counter failedCounter;
+
+  public ActiveSessionHeartbeatBuffer(
+      ActiveSessionStore activeSessionStore,
+      MeterRegistry meterRegistry,
+      @Value("${groble.active-session.max-pending-sessions:50000}") int maxPendingSessions) {
+    this.activeSessionStore = activeSessionStore;
+    this.maxPendingSessions = maxPendingSessions;
+
+    Gauge.builder(METRIC_NAME + ".pending", this, ActiveSessionHeartbeatBuffer::pendingSize)
+        .description("플러시 대기 중인 세션 수")
+        .register(meterRegistry);
+    this.recordedCounter = counter(meterRegistry, "recorded");
+    this.droppedCounter = counter(meterRegistry, "dropped");
+    this.flushedCounter = counter(meterRegistry, "flushed");
+    this.failedCounter = counter(meterRegistry, "failed");
+  }
+
+  public void record(MemberActiveSession session) {
+    if (!hasCapacityFor(pendingMembers, session.getSessionKey())) {
+      return;
+    }
+    pendingMembers.merge(session.getSessionKey(), session, ActiveSessionHeartbeatBuffer::latest);
+    recordedCounter.increment();
+  }
+
+  public void record(GuestActiveSession session) {
+    if (!hasCapacityFor(pendingGuests, session.getSessionKey())) {
+      return;
+    }
+    pendingGuests.merge(session.getSessionKey(), session, ActiveSessionHeartbeatBuffer::latest);
+    recordedCounter.increment();
+  }
+
+  /** 대기 중인 세션을 꺼내 파이프라인으로 기록합니다. 꺼낸 이후 들어온 활동은 다음 플러시에 반영됩니다. */
+  public void flush(Duration ttl) {
+    List<MemberActiveSession> members = takeAll(pendingMembers);
+    List<GuestActiveSession> guests = takeAll(pendingGuests);
+    if (members.isEmpty() && guests.isEmpty()) {
+      return;
+    }
+
+    try {
+      activeSessionStore.upsertMemberSessions(members, ttl);
+      activeSessionStore.upsertGuestSessions(guests, ttl);
+      flushedCounter.increment(members.size() + guests.size());
+    } catch (Exception e) {
+      // 활동 기록은 다음 요청에서 다시 들어오므로 재시도하지 않음
+      failedCounter.increment(members.size() + guests.size());
+      log.warn(
+          "Failed to flush active sessions. members={}, guests={}",
+          members.size(),
+          guests.size(),
+          e);
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush(ActiveSessionService.SESSION_TTL);
+  }
+
+  public int pendingSize() {
+    return pendingMembers.size() + pendingGuests.size();
+  }
+
+  private boolean hasCapacityFor(Map<String, ?> pending, String sessionKey) {
+    // 이미 대기 중인 세션의 갱신은 항상 허용, 신규 세션만 상한 적용
+    if (pending.size() < maxPendingSessions || pending.containsKey(sessionKey)) {
+      return true;
+    }
+    droppedCounter.increment();
+    return false;
+  }
+
+  private static <T> List<T> takeAll(Map<String, T> pending) {
+    List<T> taken = new ArrayList<>(pending.size());
+    for (String key : pending.keySet()) {
+      T value = pending.remove(key);
+      if (value != null) {
+        taken.add(value);
+      }
+    }
+    return taken;
+  }
+
+  private static MemberActiveSession latest(MemberActiveSession current, MemberActiveSession next) {
+    return next.getLastSeenAt().isBefore(current.getLastSeenAt()) ? current : next;
+  }
+
+  private static GuestActiveSession latest(GuestActiveSession current, GuestActiveSession next) {
+    return next.getLastSeenAt().isBefore(current.getLastSeenAt()) ? current : next;
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_NAME + ".sessions")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
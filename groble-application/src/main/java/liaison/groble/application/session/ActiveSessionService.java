@@ -17,9 +17,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ActiveSessionService {
 
-  private static final Duration SESSION_TTL = Duration.ofMinutes(10);
+  static final Duration SESSION_TTL = Duration.ofMinutes(10);
 
   private final ActiveSessionStore activeSessionStore;
+  private final ActiveSessionHeartbeatBuffer heartbeatBuffer;
 
   public void recordMemberActivity(MemberActivityCommand command) {
     if (command == null || command.getUserId() == null || command.getSessionKey() == null) {
@@ -45,7 +46,8 @@ public class ActiveSessionService {
             .lastSeenAt(lastSeen)
             .build();
 
-    activeSessionStore.upsertMemberSession(session, SESSION_TTL);
+    // 요청 스레드에서는 버퍼에 병합만 하고, Redis 기록은 스케줄러가 파이프라인으로 일괄 처리
+    heartbeatBuffer.record(session);
   }
 
   public void recordGuestActivity(GuestActivityCommand command) {
@@ -71,7 +73,15 @@ public class ActiveSessionService {
             .lastSeenAt(lastSeen)
             .build();
 
-    activeSessionStore.upsertGuestSession(session, SESSION_TTL);
+    heartbeatBuffer.record(session);
+  }
+
+  public void flushPendingActivity() {
+    heartbeatBuffer.flush(SESSION_TTL);
+  }
+
+  public void removeExpiredSessions() {
+    activeSessionStore.removeExpiredSessions(Instant.now().minus(SESSION_TTL));
   }
 
   public ActiveSessionsSnapshot getActiveSessions(Duration window, int limit) {
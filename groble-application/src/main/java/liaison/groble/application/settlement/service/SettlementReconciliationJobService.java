@@ -0,0 +1,116 @@
+package liaison.groble.application.settlement.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import liaison.groble.domain.settlement.entity.Settlement;
+import liaison.groble.domain.settlement.entity.Settlement.SettlementStatus;
+import liaison.groble.domain.settlement.repository.SettlementRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정산 합계 대사(reconciliation) 배치
+ *
+ * <p>정산 합계는 항목 추가·환불 시 증분으로만 갱신되므로, 변경 가능한 상태의 정산을 주기적으로 항목 전체와 비교해 누락·중복 반영을 검출하고 보정합니다.
+ * 정산 건마다 별도 트랜잭션으로 처리하며, 동시 결제와 버전 충돌이 나면 다음 실행에서 다시 검증합니다.
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationJobService {
+  private static final List<SettlementStatus> TARGET_STATUSES =
+      List.of(SettlementStatus.PENDING, SettlementStatus.PROCESSING, SettlementStatus.ON_HOLD);
+  private static final String METRIC_NAME = "settlement.reconciliation.settlements";
+
+  private final SettlementRepository settlementRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  private final Counter matchedCounter;
+  private final Counter correctedCounter;
+  private final Counter failedCounter;
+
+  public SettlementReconciliationJobService(
+      SettlementRepository settlementRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${settlement.reconciliation.batch-size:200}") int batchSize) {
+    this.settlementRepository = settlementRepository;
+    this.batchSize = batchSize;
+
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.transactionTemplate = template;
+
+    this.matchedCounter = counter(meterRegistry, "matched");
+    this.correctedCounter = counter(meterRegistry, "corrected");
+    this.failedCounter = counter(meterRegistry, "failed");
+  }
+
+  /** 변경 가능한 상태(PENDING/PROCESSING/ON_HOLD)의 정산 합계를 항목 기준으로 검증·보정합니다. */
+  public void reconcileOpenSettlements() {
+    long lastId = 0L;
+    int checked = 0;
+    int corrected = 0;
+
+    while (true) {
+      List<Long> settlementIds =
+          settlementRepository.findIdsByStatusIn(TARGET_STATUSES, lastId, batchSize);
+      if (settlementIds.isEmpty()) {
+        break;
+      }
+
+      for (Long settlementId : settlementIds) {
+        checked++;
+        if (reconcile(settlementId)) {
+          corrected++;
+        }
+      }
+      lastId = settlementIds.get(settlementIds.size() - 1);
+    }
+
+    if (corrected > 0) {
+      log.warn("정산 합계 대사 완료 - 검증: {}건, 보정: {}건", checked, corrected);
+    } else {
+      log.info("정산 합계 대사 완료 - 검증: {}건, 불일치 없음", checked);
+    }
+  }
+
+  private boolean reconcile(Long settlementId) {
+    try {
+      Boolean corrected =
+          transactionTemplate.execute(
+              status ->
+                  settlementRepository
+                      .findById(settlementId)
+                      .map(Settlement::reconcileWithItems)
+                      .orElse(false));
+      if (Boolean.TRUE.equals(corrected)) {
+        correctedCounter.increment();
+        return true;
+      }
+      matchedCounter.increment();
+      return false;
+    } catch (ObjectOptimisticLockingFailureException e) {
+      failedCounter.increment();
+      log.info("정산 합계 대사 중 동시 변경 감지, 다음 실행에서 재검증 - settlementId: {}", settlementId);
+      return false;
+    } catch (Exception e) {
+      failedCounter.increment();
+      log.error("정산 합계 대사 실패 - settlementId: {}", settlementId, e);
+      return false;
+    }
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_NAME).tag("outcome", outcome).register(meterRegistry);
+  }
+}
@@ -1,38 +1,57 @@
 package liaison.groble.application.subscription.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import liaison.groble.application.common.executor.ExecutorPool;
+import liaison.groble.application.common.executor.InstrumentedExecutors;
+import liaison.groble.application.common.lock.SchedulerLock;
 import liaison.groble.application.notification.dto.KakaoNotificationDTO;
 import liaison.groble.application.notification.enums.KakaoNotificationType;
 import liaison.groble.application.notification.service.KakaoNotificationService;
 import liaison.groble.application.payment.service.SubscriptionPaymentService;
 import liaison.groble.domain.order.entity.Order;
+import liaison.groble.domain.subscription.dto.SubscriptionBillingTarget;
 import liaison.groble.domain.subscription.entity.Subscription;
 import liaison.groble.domain.subscription.enums.SubscriptionStatus;
 import liaison.groble.domain.subscription.repository.SubscriptionRepository;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-public class SubscriptionBillingJobService {
+public class SubscriptionBillingJobService implements DisposableBean {
 
   private static final ZoneId BILLING_ZONE_ID = ZoneId.of("Asia/Seoul");
+  private static final String BILLING_LOCK_NAME = "subscription-billing";
+  private static final String METRIC_PREFIX = "subscription.billing";
   private static final EnumSet<SubscriptionStatus> TARGET_STATUSES =
       EnumSet.of(SubscriptionStatus.ACTIVE, SubscriptionStatus.PAST_DUE);
 
@@ -41,10 +60,17 @@ public class SubscriptionBillingJobService {
   private final SubscriptionPaymentService subscriptionPaymentService;
   private final KakaoNotificationService kakaoNotificationService;
   private final TransactionTemplate transactionTemplate;
+  private final SchedulerLock schedulerLock;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolTaskExecutor billingExecutor;
+  private final AtomicInteger queueDepth = new AtomicInteger();
   private final int batchSize;
   private final int maxRetryCount;
   private final long retryIntervalMinutes;
   private final int gracePeriodDays;
+  private final int parallelism;
+  private final int maxConcurrencyPerSeller;
+  private final Duration lockLease;
 
   public SubscriptionBillingJobService(
       SubscriptionRepository subscriptionRepository,
@@ -52,10 +78,15 @@ public class SubscriptionBillingJobService {
       SubscriptionPaymentService subscriptionPaymentService,
       KakaoNotificationService kakaoNotificationService,
       PlatformTransactionManager transactionManager,
+      SchedulerLock schedulerLock,
+      MeterRegistry meterRegistry,
       @Value("${subscription.billing.batch-size:50}") int batchSize,
       @Value("${subscription.billing.max-retry-count:3}") int maxRetryCount,
       @Value("${subscription.billing.retry-interval-minutes:1440}") long retryIntervalMinutes,
-      @Value("${subscription.billing.grace-period-days:7}") int gracePeriodDays) {
+      @Value("${subscription.billing.grace-period-days:7}") int gracePeriodDays,
+      @Value("${subscription.billing.parallelism:4}") int parallelism,
+      @Value("${subscription.billing.max-concurrency-per-seller:2}") int maxConcurrencyPerSeller,
+      @Value("${subscription.billing.lock-lease:5m}") Duration lockLease) {
     this.subscriptionRepository = subscriptionRepository;
     this.recurringOrderFactory = recurringOrderFactory;
     this.subscriptionPaymentService = subscriptionPaymentService;
@@ -64,38 +95,147 @@ public class SubscriptionBillingJobService {
     this.maxRetryCount = maxRetryCount;
     this.retryIntervalMinutes = retryIntervalMinutes;
     this.gracePeriodDays = gracePeriodDays;
+    this.schedulerLock = schedulerLock;
+    this.meterRegistry = meterRegistry;
+    this.parallelism = Math.max(1, parallelism);
+    this.maxConcurrencyPerSeller = Math.max(1, maxConcurrencyPerSeller);
+    this.lockLease = lockLease;
 
     TransactionTemplate template = new TransactionTemplate(transactionManager);
     template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     this.transactionTemplate = template;
+
+    ExecutorPool billingPool = ExecutorPool.fixed(this.parallelism);
+    billingPool.setAwaitTermination(Duration.ofSeconds(60));
+    this.billingExecutor =
+        InstrumentedExecutors.create("subscription-billing", billingPool, meterRegistry);
+
+    Gauge.builder(METRIC_PREFIX + ".queue", queueDepth, AtomicInteger::get)
+        .description("청구 대기 및 진행 중인 구독 수")
+        .register(meterRegistry);
   }
 
+  /**
+   * 청구일이 도래한 구독을 모두 청구합니다.
+   *
+   * <p>클러스터 잠금을 획득한 노드 하나만 실행하며, 대상 구독을 ID keyset 슬라이스 단위로 비워질 때까지 조회해 워커 풀에서 병렬로 청구합니다. 같은
+   * 판매자의 구독은 동시에 최대 maxConcurrencyPerSeller건까지만 청구해 한 판매자의 대량 구독이 워커를 독점하지 않도록 합니다.
+   */
   public void processDueSubscriptions() {
-    LocalDateTime now = now();
-    LocalDate today = now.toLocalDate();
-    Pageable pageable =
-        PageRequest.of(
-            0, batchSize, Sort.by("nextBillingDate").ascending().and(Sort.by("id").ascending()));
+    if (!schedulerLock.tryAcquire(BILLING_LOCK_NAME, lockLease)) {
+      log.debug("다른 노드에서 정기결제 배치를 실행 중입니다.");
+      return;
+    }
+    try {
+      drainDueSubscriptions();
+    } finally {
+      schedulerLock.release(BILLING_LOCK_NAME);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    billingExecutor.shutdown();
+  }
 
-    List<Subscription> dueSubscriptions =
-        subscriptionRepository.findByStatusInAndNextBillingDateLessThanEqual(
-            TARGET_STATUSES, today, pageable);
+  private void drainDueSubscriptions() {
+    LocalDate today = now().toLocalDate();
+    long startedAt = System.nanoTime();
+    long cursor = 0L;
+    int processed = 0;
+
+    while (true) {
+      List<SubscriptionBillingTarget> slice =
+          subscriptionRepository.findBillingTargets(TARGET_STATUSES, today, cursor, batchSize);
+      if (slice.isEmpty()) {
+        break;
+      }
+      if (processed == 0) {
+        log.info(
+            "정기결제 배치 시작 - 기준일 {}, 병렬도 {}, 판매자별 동시 청구 {}건, 재시도 간격 {}분, 최대 재시도 {}회",
+            today,
+            parallelism,
+            maxConcurrencyPerSeller,
+            retryIntervalMinutes,
+            maxRetryCount);
+      }
 
-    if (dueSubscriptions.isEmpty()) {
+      chargeSlice(slice);
+      processed += slice.size();
+      cursor = slice.get(slice.size() - 1).subscriptionId();
+      if (slice.size() < batchSize) {
+        break;
+      }
+      if (!schedulerLock.extend(BILLING_LOCK_NAME, lockLease)) {
+        log.warn("정기결제 배치 잠금을 잃어 중단합니다. 처리 건수 {}, 마지막 구독 ID {}", processed, cursor);
+        return;
+      }
+    }
+
+    if (processed == 0) {
       log.debug("자동 정기결제 대상 구독이 없습니다. date={}", today);
       return;
     }
-
     log.info(
-        "정기결제 배치 시작 - 기준일 {}, 대상 건수 {}, 재시도 간격 {}분, 최대 재시도 {}회",
+        "정기결제 배치 종료 - 기준일 {}, 처리 건수 {}, 소요 {}ms",
         today,
-        dueSubscriptions.size(),
-        retryIntervalMinutes,
-        maxRetryCount);
-    dueSubscriptions.stream()
-        .map(Subscription::getId)
-        .filter(Objects::nonNull)
-        .forEach(subscriptionId -> processSingleSubscription(subscriptionId));
+        processed,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+  }
+
+  /** 슬라이스의 구독을 판매자별로 번갈아 워커 풀에 제출하고 모두 끝날 때까지 기다립니다. */
+  private void chargeSlice(List<SubscriptionBillingTarget> slice) {
+    Map<Long, Deque<Long>> pendingBySeller = new LinkedHashMap<>();
+    for (SubscriptionBillingTarget target : slice) {
+      pendingBySeller
+          .computeIfAbsent(target.sellerId(), sellerId -> new ArrayDeque<>())
+          .add(target.subscriptionId());
+    }
+    queueDepth.set(slice.size());
+
+    CompletionService<Long> completionService = new ExecutorCompletionService<>(billingExecutor);
+    Map<Long, Integer> inFlightBySeller = new HashMap<>();
+    int inFlight = 0;
+    try {
+      while (!pendingBySeller.isEmpty() || inFlight > 0) {
+        Iterator<Map.Entry<Long, Deque<Long>>> sellers = pendingBySeller.entrySet().iterator();
+        while (sellers.hasNext() && inFlight < parallelism) {
+          Map.Entry<Long, Deque<Long>> entry = sellers.next();
+          Long sellerId = entry.getKey();
+          if (inFlightBySeller.getOrDefault(sellerId, 0) >= maxConcurrencyPerSeller) {
+            continue;
+          }
+          Long subscriptionId = entry.getValue().poll();
+          if (entry.getValue().isEmpty()) {
+            sellers.remove();
+          }
+          inFlightBySeller.merge(sellerId, 1, Integer::sum);
+          inFlight++;
+          completionService.submit(
+              () -> {
+                try {
+                  processSingleSubscription(subscriptionId);
+                } catch (Exception e) {
+                  log.error("정기결제 청구 처리 중 오류 - subscriptionId: {}", subscriptionId, e);
+                }
+                return sellerId;
+              });
+        }
+
+        Long completedSellerId = completionService.take().get();
+        inFlight--;
+        inFlightBySeller.merge(completedSellerId, -1, Integer::sum);
+        queueDepth.decrementAndGet();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("정기결제 배치 대기 중 인터럽트 발생 - 진행 중 {}건", inFlight);
+    } catch (ExecutionException e) {
+      // 작업 내부에서 모든 예외를 처리하므로 발생하지 않음
+      log.error("정기결제 청구 작업 오류", e.getCause());
+    } finally {
+      queueDepth.set(0);
+    }
   }
 
   private void processSingleSubscription(Long subscriptionId) {
@@ -105,16 +245,20 @@ public class SubscriptionBillingJobService {
     BillingContext context = prepareBillingContext(subscriptionId, today, now);
     if (context == null) {
       log.info("정기결제 청구 준비 실패(조건 미충족) - subscriptionId: {}", subscriptionId);
+      meterRegistry.counter(METRIC_PREFIX + ".subscriptions", "outcome", "skipped").increment();
       return;
     }
 
+    Timer.Sample sample = Timer.start(meterRegistry);
     try {
       subscriptionPaymentService.chargeWithBillingKey(context.userId(), context.merchantUid());
+      recordCharge(sample, "success");
       log.info(
           "정기결제 자동 청구 성공 - subscriptionId: {}, merchantUid: {}",
           context.subscriptionId(),
           context.merchantUid());
     } catch (Exception ex) {
+      recordCharge(sample, "failure");
       log.error(
           "정기결제 자동 청구 실패 - subscriptionId: {}, merchantUid: {}",
           context.subscriptionId(),
@@ -318,6 +462,15 @@ public class SubscriptionBillingJobService {
     return removeLeadingErrorCode(message);
   }
 
+  private void recordCharge(Timer.Sample sample, String outcome) {
+    sample.stop(
+        Timer.builder(METRIC_PREFIX + ".charge")
+            .tag("outcome", outcome)
+            .description("빌링키 정기결제 승인 소요 시간")
+            .register(meterRegistry));
+    meterRegistry.counter(METRIC_PREFIX + ".subscriptions", "outcome", outcome).increment();
+  }
+
   private record BillingContext(Long subscriptionId, Long userId, String merchantUid) {}
 
   private SubscriptionNotificationInfo loadNotificationInfo(Long subscriptionId) {
@@ -13,6 +13,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.notification.dto.KakaoNotificationDTO;
 import liaison.groble.application.notification.enums.KakaoNotificationType;
 import liaison.groble.application.notification.service.KakaoNotificationService;
@@ -38,6 +39,7 @@ public class SubscriptionGracePeriodJobService {
   private final SubscriptionRepository subscriptionRepository;
   private final PurchaseRepository purchaseRepository;
   private final KakaoNotificationService kakaoNotificationService;
+  private final SellerSalesRollupService sellerSalesRollupService;
   private final TransactionTemplate transactionTemplate;
   private final int batchSize;
 
@@ -45,11 +47,13 @@ public class SubscriptionGracePeriodJobService {
       SubscriptionRepository subscriptionRepository,
       PurchaseRepository purchaseRepository,
       KakaoNotificationService kakaoNotificationService,
+      SellerSalesRollupService sellerSalesRollupService,
       PlatformTransactionManager transactionManager,
       @Value("${subscription.grace-period.batch-size:50}") int batchSize) {
     this.subscriptionRepository = subscriptionRepository;
     this.purchaseRepository = purchaseRepository;
     this.kakaoNotificationService = kakaoNotificationService;
+    this.sellerSalesRollupService = sellerSalesRollupService;
     this.batchSize = batchSize;
 
     TransactionTemplate template = new TransactionTemplate(transactionManager);
@@ -164,6 +168,7 @@ public class SubscriptionGracePeriodJobService {
             }
             purchase.cancelPayment();
             purchaseRepository.save(purchase);
+            sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
 
             log.info(
                 "유예기간 만료로 Purchase 취소 - purchaseId: {}, subscriptionId: {}",
@@ -52,8 +52,7 @@ public class SubscriptionRecurringOrderFactory {
             price,
             purchaser);
 
-    order = orderRepository.save(order);
-    order.setMerchantUid(Order.generateMerchantUid(order.getId()));
+    // ID 발급 시 merchantUid도 함께 정해져 INSERT 한 번으로 저장
     order = orderRepository.save(order);
 
     log.debug(
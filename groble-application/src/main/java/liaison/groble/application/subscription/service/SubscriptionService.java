@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.application.dashboard.service.SellerSalesRollupService;
 import liaison.groble.application.subscription.dto.SubscriptionCancelDTO;
 import liaison.groble.common.exception.EntityNotFoundException;
 import liaison.groble.domain.content.entity.Content;
@@ -34,6 +35,7 @@ public class SubscriptionService {
 
   private final SubscriptionRepository subscriptionRepository;
   private final PurchaseRepository purchaseRepository;
+  private final SellerSalesRollupService sellerSalesRollupService;
 
   @Value("${subscription.billing.grace-period-days:7}")
   private int gracePeriodDays;
@@ -167,6 +169,7 @@ public class SubscriptionService {
               if (status == Order.OrderStatus.PAID || status == Order.OrderStatus.CANCEL_REQUEST) {
                 order.cancelOrder(request.getDetailReason());
                 purchase.cancelSubscriptionPurchase(cancelReason);
+                sellerSalesRollupService.syncPurchaseAfterCommit(purchase.getId());
                 return;
               }
 
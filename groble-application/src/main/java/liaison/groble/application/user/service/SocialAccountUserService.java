@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import liaison.groble.application.auth.helper.AuthValidationHelper;
 import liaison.groble.application.auth.helper.TermsHelper;
 import liaison.groble.application.user.dto.SocialBasicInfoDTO;
+import liaison.groble.common.port.security.PrincipalCachePort;
 import liaison.groble.domain.market.entity.Market;
 import liaison.groble.domain.market.repository.MarketRepository;
 import liaison.groble.domain.terms.enums.TermsType;
@@ -28,6 +29,7 @@ public class SocialAccountUserService {
   private final UserReader userReader;
   private final SellerInfoRepository sellerInfoRepository;
   private final MarketRepository marketRepository;
+  private final PrincipalCachePort principalCachePort;
   // Helper
   private final AuthValidationHelper authValidationHelper;
   private final TermsHelper termsHelper;
@@ -72,5 +74,6 @@ public class SocialAccountUserService {
     user.getUserStatusInfo().updateStatus(UserStatus.ACTIVE);
 
     termsHelper.processTermsAgreements(user, agreedTermsTypes);
+    principalCachePort.evictPrincipal(user.getId());
   }
 }
@@ -3,6 +3,7 @@ package liaison.groble.application.user.service;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.common.port.security.PrincipalCachePort;
 import liaison.groble.domain.user.entity.IntegratedAccount;
 import liaison.groble.domain.user.entity.SocialAccount;
 import liaison.groble.domain.user.repository.IntegratedAccountRepository;
@@ -15,17 +16,20 @@ import lombok.RequiredArgsConstructor;
 public class UserWriter {
   private final IntegratedAccountRepository integratedAccountRepository;
   private final SocialAccountRepository socialAccountRepository;
+  private final PrincipalCachePort principalCachePort;
 
   @Transactional
   public void updateIntegratedAccountEmail(IntegratedAccount account, String newEmail) {
     account.updateEmail(newEmail);
     integratedAccountRepository.save(account);
+    principalCachePort.evictPrincipal(account.getUser().getId());
   }
 
   @Transactional
   public void updateSocialAccountEmail(SocialAccount account, String newEmail) {
     account.updateEmail(newEmail);
     socialAccountRepository.save(account);
+    principalCachePort.evictPrincipal(account.getUser().getId());
   }
 
   @Transactional
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.service.ContentCacheService;
 import liaison.groble.application.notification.service.NotificationReader;
 import liaison.groble.application.payment.service.BillingKeyService;
 import liaison.groble.application.user.dto.UserHeaderDTO;
@@ -14,6 +15,7 @@ import liaison.groble.application.user.dto.UserMyPageSummaryDTO;
 import liaison.groble.application.user.dto.UserPaymentMethodDTO;
 import liaison.groble.application.user.service.UserReader;
 import liaison.groble.application.user.service.UserService;
+import liaison.groble.common.port.security.PrincipalCachePort;
 import liaison.groble.domain.subscription.enums.SubscriptionStatus;
 import liaison.groble.domain.subscription.repository.SubscriptionRepository;
 import liaison.groble.domain.terms.enums.TermsType;
@@ -42,6 +44,8 @@ public class UserServiceImpl implements UserService {
   private final NotificationReader notificationReader;
   private final BillingKeyService billingKeyService;
   private final SubscriptionRepository subscriptionRepository;
+  private final PrincipalCachePort principalCachePort;
+  private final ContentCacheService contentCacheService;
 
   /**
    * 사용자 역할 전환 (판매자/구매자 모드 전환)
@@ -74,6 +78,7 @@ public class UserServiceImpl implements UserService {
     // 전환
     user.updateLastUserType(userType);
     userRepository.save(user);
+    principalCachePort.evictPrincipal(user.getId());
 
     log.info("역할 전환 성공: {} → {}", user.getEmail(), userType);
     return true;
@@ -218,6 +223,7 @@ public class UserServiceImpl implements UserService {
 
     user.updateProfileImageUrl(profileImageUrl);
     userRepository.save(user);
+    contentCacheService.evictSeller(userId);
   }
 
   @Override
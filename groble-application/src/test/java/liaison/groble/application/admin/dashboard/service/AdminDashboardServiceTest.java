@@ -0,0 +1,115 @@
+package liaison.groble.application.admin.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import liaison.groble.application.admin.dashboard.dto.AdminActiveVisitorsDTO;
+import liaison.groble.application.purchase.service.PurchaseReader;
+import liaison.groble.application.session.ActiveSessionService;
+import liaison.groble.application.settlement.reader.SettlementReader;
+import liaison.groble.domain.content.repository.ContentRepository;
+import liaison.groble.domain.guest.repository.GuestUserRepository;
+import liaison.groble.domain.session.ActiveSessionsSnapshot;
+import liaison.groble.domain.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AdminDashboardServiceTest {
+  private static final int CALLERS = 8;
+
+  @Mock private UserRepository userRepository;
+  @Mock private ContentRepository contentRepository;
+  @Mock private GuestUserRepository guestUserRepository;
+  @Mock private PurchaseReader purchaseReader;
+  @Mock private SettlementReader settlementReader;
+  @Mock private ActiveSessionService activeSessionService;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+  private AdminDashboardService adminDashboardService;
+
+  @BeforeEach
+  void setUp() {
+    adminDashboardService =
+        new AdminDashboardService(
+            userRepository,
+            contentRepository,
+            guestUserRepository,
+            purchaseReader,
+            settlementReader,
+            activeSessionService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void getActiveVisitors_rebuildsOnceForConcurrentCallers() throws Exception {
+    when(activeSessionService.getActiveSessions(Duration.ofMinutes(5), 50))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(100);
+              return emptySnapshot();
+            });
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<AdminActiveVisitorsDTO>> callers = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      callers.add(
+          executor.submit(
+              () -> {
+                start.await();
+                return adminDashboardService.getActiveVisitors(Duration.ofMinutes(5), 50);
+              }));
+    }
+    start.countDown();
+
+    AdminActiveVisitorsDTO first = callers.get(0).get(5, TimeUnit.SECONDS);
+    for (Future<AdminActiveVisitorsDTO> caller : callers) {
+      assertThat(caller.get(5, TimeUnit.SECONDS)).isSameAs(first);
+    }
+    verify(activeSessionService, times(1)).getActiveSessions(Duration.ofMinutes(5), 50);
+  }
+
+  @Test
+  void getActiveVisitors_cachesPerWindowAndLimitUntilTtlExpires() throws Exception {
+    when(activeSessionService.getActiveSessions(any(), anyInt()))
+        .thenAnswer(invocation -> emptySnapshot());
+
+    AdminActiveVisitorsDTO first = adminDashboardService.getActiveVisitors(null, 0);
+    assertThat(adminDashboardService.getActiveVisitors(Duration.ZERO, -1)).isSameAs(first);
+    adminDashboardService.getActiveVisitors(Duration.ofMinutes(10), 50);
+    verify(activeSessionService).getActiveSessions(Duration.ofMinutes(5), 50);
+    verify(activeSessionService).getActiveSessions(Duration.ofMinutes(10), 50);
+
+    // 2초 TTL이 지나면 다시 조회
+    Thread.sleep(2_100);
+    assertThat(adminDashboardService.getActiveVisitors(null, 0)).isNotSameAs(first);
+    verify(activeSessionService, times(2)).getActiveSessions(Duration.ofMinutes(5), 50);
+  }
+
+  private static ActiveSessionsSnapshot emptySnapshot() {
+    return ActiveSessionsSnapshot.builder()
+        .memberSessions(List.of())
+        .guestSessions(List.of())
+        .generatedAt(Instant.now())
+        .build();
+  }
+}
@@ -0,0 +1,173 @@
+package liaison.groble.application.admin.settlement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import liaison.groble.application.admin.settlement.dto.PayplePartnerAuthResult;
+import liaison.groble.application.admin.settlement.dto.SettlementApprovalRequestDTO;
+import liaison.groble.application.common.lock.SchedulerLock;
+import liaison.groble.application.notification.service.KakaoNotificationService;
+import liaison.groble.application.settlement.reader.SettlementReader;
+import liaison.groble.domain.purchase.entity.Purchase;
+import liaison.groble.domain.settlement.entity.Settlement;
+import liaison.groble.domain.settlement.entity.Settlement.SettlementStatus;
+import liaison.groble.domain.settlement.entity.SettlementItem;
+import liaison.groble.domain.settlement.repository.SettlementRepository;
+import liaison.groble.domain.user.entity.User;
+import liaison.groble.external.config.PaypleConfig;
+
+@ExtendWith(MockitoExtension.class)
+class AdminSettlementServiceTest {
+  private static final String TRANSFER_LOCK_NAME = "payple-settlement-transfer";
+  private static final String ACCESS_TOKEN = "access-token";
+
+  @Mock private SettlementRepository settlementRepository;
+  @Mock private PaypleSettlementService paypleSettlementService;
+  @Mock private SettlementReader settlementReader;
+  @Mock private PaypleConfig paypleConfig;
+  @Mock private PaypleAccountVerificationFactory paypleAccountVerificationFactory;
+  @Mock private KakaoNotificationService kakaoNotificationService;
+  @Mock private PayplePartnerAuthProvider payplePartnerAuthProvider;
+  @Mock private PaypleTransferDispatcher paypleTransferDispatcher;
+  @Mock private SchedulerLock schedulerLock;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private AdminSettlementService adminSettlementService;
+
+  @BeforeEach
+  void setUp() {
+    adminSettlementService =
+        new AdminSettlementService(
+            settlementRepository,
+            paypleSettlementService,
+            settlementReader,
+            paypleConfig,
+            paypleAccountVerificationFactory,
+            kakaoNotificationService,
+            payplePartnerAuthProvider,
+            paypleTransferDispatcher,
+            schedulerLock,
+            transactionManager);
+  }
+
+  @Test
+  void approve_recordsTransferExecutedBeforeApplyingResult() {
+    Settlement settlement = settlement(userWithPhone());
+    JSONObject verification = json("result", "A0000", "billing_tran_id", "billing-1");
+    when(schedulerLock.tryAcquire(eq(TRANSFER_LOCK_NAME), any())).thenReturn(true);
+    // 준비·이체 실행 기록은 성공하고, 결과 반영 트랜잭션에서 중단
+    when(settlementRepository.findByIdIn(List.of(1L)))
+        .thenReturn(List.of(settlement))
+        .thenReturn(List.of(settlement))
+        .thenThrow(new IllegalStateException("db down"));
+    when(payplePartnerAuthProvider.getPartnerAuth())
+        .thenReturn(
+            PayplePartnerAuthResult.builder().result("T0000").accessToken(ACCESS_TOKEN).build());
+    when(paypleSettlementService.requestAccountVerification(any(), eq(ACCESS_TOKEN)))
+        .thenReturn(verification);
+    when(paypleTransferDispatcher.requestTransfers(eq("billing-1"), anyList(), eq(ACCESS_TOKEN)))
+        .thenReturn("group-1");
+    when(paypleSettlementService.requestTransferExecute(
+            eq("group-1"), eq("ALL"), eq(ACCESS_TOKEN), any()))
+        .thenReturn(json("result", "A0000"));
+
+    assertThatThrownBy(() -> adminSettlementService.approveAndExecuteSettlements(request(1L)))
+        .hasMessage("db down");
+
+    assertThat(settlement.getStatus()).isEqualTo(SettlementStatus.PROCESSING);
+    assertThat(settlement.isTransferExecuted()).isTrue();
+    verify(paypleSettlementService).saveAccountVerificationResult(settlement, verification);
+    verify(schedulerLock).release(TRANSFER_LOCK_NAME);
+
+    // 복구 배치는 이체 실행 접수 기록을 보고 완료 처리
+    when(settlementRepository.findProcessingStartedBefore(any())).thenReturn(List.of(settlement));
+
+    int recovered = adminSettlementService.recoverStaleProcessingSettlements(Duration.ZERO);
+
+    assertThat(recovered).isEqualTo(1);
+
+    assertThat(settlement.getStatus()).isEqualTo(SettlementStatus.COMPLETED);
+    verify(kakaoNotificationService).sendNotification(any());
+  }
+
+  @Test
+  void recoverStaleProcessingSettlements_holdsSettlementWithoutTransferRecord() {
+    Settlement settlement = settlement(mock(User.class));
+    settlement.startProcessing();
+    when(schedulerLock.tryAcquire(eq(TRANSFER_LOCK_NAME), any())).thenReturn(true);
+    when(settlementRepository.findProcessingStartedBefore(any())).thenReturn(List.of(settlement));
+
+    int recovered =
+        adminSettlementService.recoverStaleProcessingSettlements(Duration.ofMinutes(30));
+
+    assertThat(recovered).isEqualTo(1);
+    assertThat(settlement.getStatus()).isEqualTo(SettlementStatus.ON_HOLD);
+    assertThat(settlement.getSettlementNote()).contains("이체 여부 확인 필요");
+    verify(schedulerLock).release(TRANSFER_LOCK_NAME);
+    verifyNoInteractions(kakaoNotificationService);
+  }
+
+  @Test
+  void recoverStaleProcessingSettlements_skipsWhileTransferIsRunning() {
+    when(schedulerLock.tryAcquire(eq(TRANSFER_LOCK_NAME), any())).thenReturn(false);
+
+    assertThat(adminSettlementService.recoverStaleProcessingSettlements(Duration.ofMinutes(30)))
+        .isZero();
+
+    verifyNoInteractions(settlementRepository);
+    verify(schedulerLock, never()).release(any());
+  }
+
+  private static Settlement settlement(User user) {
+    Settlement settlement =
+        Settlement.builder()
+            .user(user)
+            .settlementStartDate(LocalDate.of(2025, 1, 1))
+            .settlementEndDate(LocalDate.of(2025, 1, 31))
+            .bankName("국민은행")
+            .accountNumber("123-456")
+            .accountHolder("메이커")
+            .build();
+    ReflectionTestUtils.setField(settlement, "id", 1L);
+    settlement.addSettlementItem(
+        SettlementItem.builder()
+            .settlement(settlement)
+            .purchase(Purchase.builder().finalPrice(new BigDecimal("10000")).build())
+            .build());
+    return settlement;
+  }
+
+  private static User userWithPhone() {
+    User user = mock(User.class);
+    when(user.getPhoneNumber()).thenReturn("01012345678");
+    return user;
+  }
+
+  private static SettlementApprovalRequestDTO request(Long... settlementIds) {
+    return SettlementApprovalRequestDTO.builder().settlementIds(List.of(settlementIds)).build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JSONObject json(String... keyValues) {
+    JSONObject json = new JSONObject();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      json.put(keyValues[i], keyValues[i + 1]);
+    }
+    return json;
+  }
+}
@@ -0,0 +1,161 @@
+package liaison.groble.application.common.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import liaison.groble.application.common.buffer.WriteBehindBuffer.DropPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WriteBehindBufferTest {
+  private static final String FLUSHER_THREAD = "write-behind-test";
+
+  private final List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+  private final Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void offer_writesThroughBeforeStart() {
+    WriteBehindBuffer<Integer> buffer = buffer(100, batch -> {});
+
+    assertThat(buffer.offer(1)).isTrue();
+
+    assertThat(written).containsExactly(1);
+  }
+
+  @Test
+  void stop_flushesRemainingItemsAndRejectsLaterOffers() {
+    WriteBehindBuffer<Integer> buffer = buffer(1_000, batch -> {});
+    buffer.start();
+    for (int i = 0; i < 10; i++) {
+      buffer.offer(i);
+    }
+
+    buffer.stop(Duration.ofSeconds(5));
+
+    assertThat(written).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(buffer.offer(10)).isFalse();
+    assertThat(written).hasSize(10);
+    assertThat(rejectedCount()).isEqualTo(1.0);
+    assertThat(writerThreads).containsExactly(FLUSHER_THREAD);
+  }
+
+  @Test
+  void stop_writesEveryAcceptedItemWhileOffersRace() throws Exception {
+    WriteBehindBuffer<Integer> buffer = buffer(1_000, batch -> {});
+    buffer.start();
+    CountDownLatch offering = new CountDownLatch(8);
+    List<Future<Integer>> producers = new ArrayList<>();
+    for (int p = 0; p < 8; p++) {
+      int base = p * 1_000_000;
+      producers.add(
+          executor.submit(
+              () -> {
+                offering.countDown();
+                int accepted = 0;
+                for (int i = 0; buffer.offer(base + i); i++) {
+                  accepted++;
+                }
+                return accepted;
+              }));
+    }
+    offering.await();
+
+    buffer.stop(Duration.ofSeconds(5));
+
+    int accepted = 0;
+    for (Future<Integer> producer : producers) {
+      accepted += producer.get(5, TimeUnit.SECONDS);
+    }
+    assertThat(accepted).isPositive();
+    assertThat(written).hasSize(accepted);
+    assertThat(writerThreads).containsExactly(FLUSHER_THREAD);
+  }
+
+  @Test
+  void stop_leavesFlushToFlusherWhenJoinTimesOut() throws Exception {
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    WriteBehindBuffer<Integer> buffer =
+        buffer(
+            1,
+            batch -> {
+              writing.countDown();
+              await(release);
+            });
+    buffer.start();
+    buffer.offer(1);
+    assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+    buffer.offer(2);
+    buffer.offer(3);
+
+    buffer.stop(Duration.ofMillis(50));
+    assertThat(written).containsExactly(1);
+
+    release.countDown();
+    waitUntil(() -> written.size() == 3);
+    assertThat(written).containsExactly(1, 2, 3);
+    assertThat(writerThreads).containsExactly(FLUSHER_THREAD);
+  }
+
+  private WriteBehindBuffer<Integer> buffer(int flushSize, Consumer<List<Integer>> beforeWrite) {
+    return new WriteBehindBuffer<>(
+        "test",
+        100_000,
+        flushSize,
+        Duration.ofHours(1),
+        DropPolicy.DROP_NEWEST,
+        batch -> {
+          writerThreads.add(Thread.currentThread().getName());
+          written.addAll(batch);
+          beforeWrite.accept(batch);
+        },
+        meterRegistry);
+  }
+
+  private double rejectedCount() {
+    return meterRegistry
+        .get("write_behind.buffer.items")
+        .tag("buffer", "test")
+        .tag("outcome", "rejected")
+        .counter()
+        .count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package liaison.groble.application.common.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import liaison.groble.application.common.executor.ExecutorPool.RejectionPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InstrumentedExecutorsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ThreadPoolTaskExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+    MDC.clear();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void propagatesMdcAndSecurityContextThenRestoresWorkerThread() throws Exception {
+    executor = InstrumentedExecutors.create("test", ExecutorPool.fixed(1), meterRegistry);
+    MDC.put("traceId", "trace-1");
+    MDC.put("spanId", "span-1");
+    SecurityContextHolder.setContext(
+        new SecurityContextImpl(new TestingAuthenticationToken("user-1", null)));
+
+    assertThat(
+            CompletableFuture.supplyAsync(
+                    () ->
+                        MDC.get("spanId")
+                            + "/"
+                            + SecurityContextHolder.getContext().getAuthentication().getName(),
+                    executor)
+                .get(5, TimeUnit.SECONDS))
+        .isEqualTo("span-1/user-1");
+
+    // 같은 워커 스레드에서 컨텍스트 없이 제출한 다음 작업에는 이전 작업의 컨텍스트가 남지 않아야 함
+    MDC.clear();
+    SecurityContextHolder.clearContext();
+    assertThat(
+            CompletableFuture.supplyAsync(
+                    () ->
+                        MDC.get("spanId")
+                            + "/"
+                            + SecurityContextHolder.getContext().getAuthentication(),
+                    executor)
+                .get(5, TimeUnit.SECONDS))
+        .isEqualTo("null/null");
+  }
+
+  @Test
+  void countsDiscardedTasksWhenSaturated() throws Exception {
+    executor =
+        InstrumentedExecutors.create(
+            "saturated", new ExecutorPool(1, 1, 1, RejectionPolicy.DISCARD), meterRegistry);
+    CountDownLatch release = new CountDownLatch(1);
+
+    executor.execute(() -> awaitQuietly(release)); // 실행 중
+    executor.execute(() -> {}); // 대기열
+    executor.execute(() -> {}); // 거절
+    release.countDown();
+
+    double rejected =
+        meterRegistry.get("groble.executor.rejected").tag("name", "saturated").counter().count();
+    assertThat(rejected).isEqualTo(1.0);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package liaison.groble.application.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long PERMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Test
+  void grantsBurstImmediatelyThenPacesAtConfiguredRate() {
+    TokenBucket bucket = new TokenBucket(10, 3);
+    long now = System.nanoTime();
+
+    assertThat(bucket.reserve(now)).isZero();
+    assertThat(bucket.reserve(now)).isZero();
+    assertThat(bucket.reserve(now)).isZero();
+    assertThat(bucket.reserve(now)).isEqualTo(PERMIT_NANOS);
+    assertThat(bucket.reserve(now)).isEqualTo(2 * PERMIT_NANOS);
+  }
+
+  @Test
+  void idleTimeDoesNotAccumulateBeyondBurst() {
+    TokenBucket bucket = new TokenBucket(10, 2);
+    long later = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+    assertThat(bucket.reserve(later)).isZero();
+    assertThat(bucket.reserve(later)).isZero();
+    assertThat(bucket.reserve(later)).isEqualTo(PERMIT_NANOS);
+  }
+}
@@ -0,0 +1,116 @@
+package liaison.groble.application.common.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringTokenCacheTest {
+
+  private final AtomicInteger issueCount = new AtomicInteger();
+
+  @Test
+  void get_reusesTokenUntilExpiry() {
+    ExpiringTokenCache<String, String> cache = new ExpiringTokenCache<>(Duration.ZERO);
+
+    String first = cache.get("auth", key -> issue(Duration.ofMinutes(5)));
+    String second = cache.get("auth", key -> issue(Duration.ofMinutes(5)));
+
+    assertThat(second).isEqualTo(first);
+    assertThat(issueCount).hasValue(1);
+  }
+
+  @Test
+  void get_reissuesWhenWithinRefreshWindow() {
+    ExpiringTokenCache<String, String> cache = new ExpiringTokenCache<>(Duration.ofSeconds(60));
+
+    cache.get("auth", key -> issue(Duration.ofSeconds(30)));
+    cache.get("auth", key -> issue(Duration.ofSeconds(30)));
+
+    assertThat(issueCount).hasValue(2);
+  }
+
+  @Test
+  void invalidate_onlyRemovesMatchingToken() {
+    ExpiringTokenCache<String, String> cache = new ExpiringTokenCache<>(Duration.ZERO);
+    String token = cache.get("auth", key -> issue(Duration.ofMinutes(5)));
+
+    cache.invalidate("auth", "stale-token");
+    assertThat(cache.get("auth", key -> issue(Duration.ofMinutes(5)))).isEqualTo(token);
+
+    cache.invalidate("auth", token);
+    assertThat(cache.get("auth", key -> issue(Duration.ofMinutes(5)))).isNotEqualTo(token);
+  }
+
+  @Test
+  void get_issuesOnceForConcurrentCallers() throws Exception {
+    ExpiringTokenCache<String, String> cache = new ExpiringTokenCache<>(Duration.ZERO);
+    CountDownLatch issuing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      results.add(
+          executor.submit(
+              () ->
+                  cache.get(
+                      "auth",
+                      key -> {
+                        issuing.countDown();
+                        await(release);
+                        return issue(Duration.ofMinutes(5));
+                      })));
+      issuing.await(5, TimeUnit.SECONDS);
+      for (int i = 0; i < 7; i++) {
+        results.add(executor.submit(() -> cache.get("auth", key -> issue(Duration.ofMinutes(5)))));
+      }
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+      }
+      assertThat(issueCount).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void get_doesNotCacheFailedIssue() {
+    ExpiringTokenCache<String, String> cache = new ExpiringTokenCache<>(Duration.ZERO);
+
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    "auth",
+                    key -> {
+                      throw new IllegalStateException("auth failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(cache.get("auth", key -> issue(Duration.ofMinutes(5)))).isEqualTo("token-1");
+  }
+
+  private ExpiringTokenCache.Issued<String> issue(Duration ttl) {
+    return new ExpiringTokenCache.Issued<>("token-" + issueCount.incrementAndGet(), ttl);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
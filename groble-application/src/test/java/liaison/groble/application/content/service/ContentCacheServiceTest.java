@@ -0,0 +1,205 @@
+package liaison.groble.application.content.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.dto.CachedContentDTO;
+import liaison.groble.domain.content.entity.Content;
+import liaison.groble.domain.content.enums.ContentPaymentType;
+import liaison.groble.domain.port.ContentCachePort;
+import liaison.groble.domain.user.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ContentCacheServiceTest {
+  private static final Long SELLER_ID = 7L;
+
+  @Mock private ContentReader contentReader;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private MemoryCachePort cachePort;
+  private ContentCacheService cacheService;
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    cachePort = new MemoryCachePort();
+    cacheService = cacheService();
+  }
+
+  @Test
+  void getOrLoad_loadsOnceAndReturnsSameETag() {
+    CachedContentDTO<String> first = detail(1L, "v1");
+    CachedContentDTO<String> second = detail(1L, "v2");
+
+    assertThat(loads).hasValue(1);
+    assertThat(second.getValue()).isEqualTo("v1");
+    assertThat(second.getETag()).isEqualTo(first.getETag()).isNotNull();
+  }
+
+  @Test
+  void getOrLoad_sharesValueThroughRedisAcrossInstances() {
+    CachedContentDTO<String> first = detail(1L, "v1");
+
+    CachedContentDTO<String> fromOtherInstance =
+        cacheService()
+            .getOrLoad(
+                "detail:1",
+                List.of(ContentCacheService.contentScope(1L)),
+                new TypeReference<String>() {},
+                () -> load("v2"));
+
+    assertThat(loads).hasValue(1);
+    assertThat(fromOtherInstance.getValue()).isEqualTo("v1");
+    assertThat(fromOtherInstance.getETag()).isEqualTo(first.getETag());
+  }
+
+  @Test
+  void evictContent_reloadsOnlyThatContent() {
+    CachedContentDTO<String> before = detail(1L, "v1");
+    detail(2L, "other");
+
+    cacheService.evictContent(1L);
+
+    CachedContentDTO<String> after = detail(1L, "v2");
+    detail(2L, "other-reloaded");
+    assertThat(after.getValue()).isEqualTo("v2");
+    assertThat(after.getETag()).isNotEqualTo(before.getETag());
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void evictSeller_reloadsOnlyThatSellersContents() {
+    when(contentReader.findIdsByUserId(SELLER_ID)).thenReturn(List.of(1L));
+    detail(1L, "seller");
+    detail(2L, "other-seller");
+
+    cacheService.evictSeller(SELLER_ID);
+
+    assertThat(detail(1L, "seller-updated").getValue()).isEqualTo("seller-updated");
+    assertThat(detail(2L, "other-seller-reloaded").getValue()).isEqualTo("other-seller");
+    assertThat(cachePort.versions)
+        .containsEntry(ContentCacheService.contentScope(1L), 1L)
+        .containsEntry(ContentCacheService.FEED_SCOPE, 1L)
+        .doesNotContainKey(ContentCacheService.contentScope(2L));
+  }
+
+  @Test
+  void evictSeller_waitsForCommit() {
+    when(contentReader.findIdsByUserId(SELLER_ID)).thenReturn(List.of(1L));
+    detail(1L, "before-commit");
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cacheService.evictSeller(SELLER_ID);
+      assertThat(detail(1L, "uncommitted").getValue()).isEqualTo("before-commit");
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(detail(1L, "committed").getValue()).isEqualTo("committed");
+  }
+
+  @Test
+  void evictSoldContent_reloadsSalesHistoryWithoutTouchingFeed() {
+    detail(1L, "unsold");
+
+    cacheService.evictSoldContent(content(1L, ContentPaymentType.SUBSCRIPTION));
+
+    assertThat(detail(1L, "sold").getValue()).isEqualTo("sold");
+    assertThat(cachePort.versions).doesNotContainKey(ContentCacheService.FEED_SCOPE);
+  }
+
+  @Test
+  void evictSoldContent_keepsOneTimeContentCached() {
+    detail(1L, "one-time");
+
+    cacheService.evictSoldContent(content(1L, ContentPaymentType.ONE_TIME));
+
+    assertThat(detail(1L, "one-time-reloaded").getValue()).isEqualTo("one-time");
+    assertThat(cachePort.versions).isEmpty();
+  }
+
+  private CachedContentDTO<String> detail(Long contentId, String value) {
+    return cacheService.getOrLoad(
+        "detail:" + contentId,
+        List.of(ContentCacheService.contentScope(contentId)),
+        new TypeReference<>() {},
+        () -> load(value));
+  }
+
+  private String load(String value) {
+    loads.incrementAndGet();
+    return value;
+  }
+
+  private static Content content(Long contentId, ContentPaymentType paymentType) {
+    Content content = new Content(User.builder().build());
+    ReflectionTestUtils.setField(content, "id", contentId);
+    content.setPaymentType(paymentType);
+    return content;
+  }
+
+  private ContentCacheService cacheService() {
+    return new ContentCacheService(
+        cachePort,
+        contentReader,
+        new ObjectMapper(),
+        transactionManager,
+        new SimpleMeterRegistry(),
+        100,
+        Duration.ofMinutes(1),
+        Duration.ofSeconds(5),
+        Duration.ofMinutes(30));
+  }
+
+  /** 버전 카운터와 값을 메모리에 보관하는 캐시 저장소 */
+  private static class MemoryCachePort implements ContentCachePort {
+    private final Map<String, Long> versions = new HashMap<>();
+    private final Map<String, String> values = new HashMap<>();
+
+    @Override
+    public long getVersion(String scope) {
+      return versions.getOrDefault(scope, 0L);
+    }
+
+    @Override
+    public long incrementVersion(String scope) {
+      return versions.merge(scope, 1L, Long::sum);
+    }
+
+    @Override
+    public String get(String key) {
+      return values.get(key);
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+      values.put(key, value);
+    }
+  }
+}
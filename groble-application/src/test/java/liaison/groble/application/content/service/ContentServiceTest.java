@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -25,13 +26,20 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.content.ContentReplyReader;
 import liaison.groble.application.content.ContentReviewReader;
 import liaison.groble.application.content.dto.ContentDTO;
 import liaison.groble.application.content.dto.ContentOptionDTO;
+import liaison.groble.application.content.dto.review.ContentDetailReviewDTO;
+import liaison.groble.application.content.dto.review.ContentReviewPageDTO;
 import liaison.groble.application.sell.SellerContactReader;
 import liaison.groble.application.subscription.service.SubscriptionService;
 import liaison.groble.application.user.service.UserReader;
+import liaison.groble.domain.content.dto.ContentReviewCursor;
 import liaison.groble.domain.content.dto.FlatContentPreviewDTO;
+import liaison.groble.domain.content.dto.FlatContentReviewReplyDTO;
+import liaison.groble.domain.content.dto.FlatContentReviewSummaryDTO;
+import liaison.groble.domain.content.dto.FlatReviewReplyDTO;
 import liaison.groble.domain.content.entity.Category;
 import liaison.groble.domain.content.entity.CoachingOption;
 import liaison.groble.domain.content.entity.Content;
@@ -39,6 +47,7 @@ import liaison.groble.domain.content.enums.AdminContentCheckingStatus;
 import liaison.groble.domain.content.enums.ContentPaymentType;
 import liaison.groble.domain.content.enums.ContentStatus;
 import liaison.groble.domain.content.enums.ContentType;
+import liaison.groble.domain.content.enums.ReviewSortType;
 import liaison.groble.domain.content.enums.SubscriptionSellStatus;
 import liaison.groble.domain.content.repository.CategoryRepository;
 import liaison.groble.domain.content.repository.ContentCustomRepository;
@@ -55,6 +64,7 @@ class ContentServiceTest {
   @Mock private UserReader userReader;
   @Mock private ContentReader contentReader;
   @Mock private ContentReviewReader contentReviewReader;
+  @Mock private ContentReplyReader contentReplyReader;
   @Mock private SellerContactReader sellerContactReader;
   @Mock private ContentRepository contentRepository;
   @Mock private ContentCustomRepository contentCustomRepository;
@@ -63,6 +73,8 @@ class ContentServiceTest {
   @Mock private PurchaseRepository purchaseRepository;
   @Mock private DiscordContentRegisterReportService discordContentRegisterReportService;
   @Mock private SubscriptionService subscriptionService;
+  @Mock private ContentViewCountBuffer contentViewCountBuffer;
+  @Mock private ContentCacheService contentCacheService;
 
   private ContentService contentService;
 
@@ -73,6 +85,7 @@ class ContentServiceTest {
             userReader,
             contentReader,
             contentReviewReader,
+            contentReplyReader,
             sellerContactReader,
             contentRepository,
             contentCustomRepository,
@@ -80,7 +93,9 @@ class ContentServiceTest {
             fileRepository,
             purchaseRepository,
             discordContentRegisterReportService,
-            subscriptionService);
+            subscriptionService,
+            contentViewCountBuffer,
+            contentCacheService);
   }
 
   @Test
@@ -485,4 +500,62 @@ class ContentServiceTest {
         .containsExactlyInAnyOrder(ContentStatus.DRAFT, ContentStatus.DISCONTINUED);
     assertThat(includePausedCaptor.getValue()).isTrue();
   }
+
+  @Test
+  void getContentReviewPage_nextCursorResumesAfterLastReview() {
+    Long contentId = 7L;
+    LocalDateTime base = LocalDateTime.of(2025, 11, 28, 12, 0);
+    when(contentReviewReader.findReviewsByContentIdAfter(
+            eq(contentId), eq(ReviewSortType.LATEST), any(), eq(3)))
+        .thenReturn(
+            List.of(review(30L, base, "4.0"), review(20L, base, "5.0"), review(10L, base, "3.0")));
+    when(contentReplyReader.findRepliesByReviewIds(List.of(30L, 20L)))
+        .thenReturn(
+            List.of(
+                FlatReviewReplyDTO.builder().reviewId(20L).replyId(1L).replyContent("감사").build()));
+    when(contentReviewReader.getReviewSummary(contentId))
+        .thenReturn(
+            Optional.of(
+                FlatContentReviewSummaryDTO.builder()
+                    .contentId(contentId)
+                    .reviewCount(3)
+                    .ratingSum(new BigDecimal("12.0"))
+                    .rating5Count(1)
+                    .rating4Count(1)
+                    .rating3Count(1)
+                    .build()));
+
+    ContentReviewPageDTO page =
+        contentService.getContentReviewPage(contentId, "LATEST", null, 2, 1L);
+
+    assertThat(page.getReviews())
+        .extracting(ContentDetailReviewDTO::getReviewId)
+        .containsExactly(30L, 20L);
+    assertThat(page.getReviews().get(1).getReviewReplies()).hasSize(1);
+    assertThat(page.isHasNext()).isTrue();
+    assertThat(page.getAverageRating()).isEqualByComparingTo("4.00");
+    assertThat(page.getRatingDistribution()).containsEntry(5, 1L).containsEntry(1, 0L);
+
+    contentService.getContentReviewPage(contentId, "LATEST", page.getNextCursor(), 2, 1L);
+
+    ArgumentCaptor<ContentReviewCursor> cursorCaptor =
+        ArgumentCaptor.forClass(ContentReviewCursor.class);
+    verify(contentReviewReader, times(2))
+        .findReviewsByContentIdAfter(
+            eq(contentId), eq(ReviewSortType.LATEST), cursorCaptor.capture(), eq(3));
+    assertThat(cursorCaptor.getAllValues().get(0)).isNull();
+    assertThat(cursorCaptor.getAllValues().get(1).getReviewId()).isEqualTo(20L);
+    assertThat(cursorCaptor.getAllValues().get(1).getCreatedAt()).isEqualTo(base);
+  }
+
+  private static FlatContentReviewReplyDTO review(
+      Long reviewId, LocalDateTime createdAt, String rating) {
+    return FlatContentReviewReplyDTO.builder()
+        .reviewId(reviewId)
+        .reviewerId(reviewId)
+        .reviewCreatedAt(createdAt)
+        .reviewerNickname("구매자")
+        .rating(new BigDecimal(rating))
+        .build();
+  }
 }
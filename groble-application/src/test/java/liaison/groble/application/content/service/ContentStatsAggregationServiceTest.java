@@ -0,0 +1,115 @@
+package liaison.groble.application.content.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import liaison.groble.application.dashboard.service.ViewStatsAccumulator;
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
+import liaison.groble.domain.dashboard.entity.ContentViewStats;
+import liaison.groble.domain.dashboard.repository.ContentViewLogRepository;
+import liaison.groble.domain.dashboard.repository.ContentViewStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ContentStatsAggregationServiceTest {
+  private static final Long CONTENT_ID = 1L;
+
+  @Mock private ContentViewLogRepository contentViewLogRepository;
+  @Mock private ContentViewStatsRepository contentViewStatsRepository;
+
+  @InjectMocks private ContentStatsAggregationService service;
+
+  @Test
+  void aggregateMonthlyStats_scansLogsOnlyForDatesWithoutDailySketch() {
+    LocalDate monthStart = YearMonth.now().minusMonths(1).atDay(1);
+    LocalDate monthEnd = YearMonth.now().minusMonths(1).atEndOfMonth();
+    LocalDate missingDay = monthStart.plusDays(1);
+    LocalDate legacyDay = monthStart.plusDays(2);
+
+    // 둘째 날은 일별 행 없음, 셋째 날은 스케치 없는 (도입 이전) 행, 나머지 일자는 하루 1회 조회
+    List<FlatViewStatsSketchDTO> rows = new ArrayList<>();
+    long id = 1;
+    for (LocalDate date = monthStart; !date.isAfter(monthEnd); date = date.plusDays(1)) {
+      if (date.equals(missingDay)) {
+        continue;
+      }
+      rows.add(date.equals(legacyDay) ? legacyRow(id++, date) : sketchRow(id++, date));
+    }
+    when(contentViewStatsRepository.findDailySketchChunk(any(), any(), anyLong(), anyInt()))
+        .thenReturn(rows);
+    when(contentViewLogRepository.findViewLogChunk(any(), any(), anyLong(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              LocalDateTime dayStart = invocation.getArgument(1);
+              return List.of(viewLog(100L, dayStart.plusHours(1)));
+            });
+
+    service.aggregateMonthlyStats();
+
+    verify(contentViewLogRepository)
+        .findViewLogChunk(
+            missingDay.plusDays(1).atStartOfDay(), missingDay.atStartOfDay(), 0L, 5_000);
+    verify(contentViewLogRepository)
+        .findViewLogChunk(
+            legacyDay.plusDays(1).atStartOfDay(), legacyDay.atStartOfDay(), 0L, 5_000);
+    verifyNoMoreInteractions(contentViewLogRepository);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ContentViewStats>> saved = ArgumentCaptor.forClass(List.class);
+    verify(contentViewStatsRepository).saveAll(saved.capture());
+    assertThat(saved.getValue()).hasSize(1);
+    // 스케치 병합 (월 일수 - 2) + 로그 보충 2일
+    assertThat(saved.getValue().get(0).getViewCount()).isEqualTo(monthStart.lengthOfMonth());
+  }
+
+  private static FlatViewStatsSketchDTO sketchRow(long id, LocalDate date) {
+    ViewStatsAccumulator day = new ViewStatsAccumulator();
+    day.addLog(viewLog(id, date.atStartOfDay()));
+    List<FlatViewStatsSketchDTO> rows = new ArrayList<>();
+    day.forEach(
+        (contentId, entry) ->
+            rows.add(
+                FlatViewStatsSketchDTO.builder()
+                    .id(id)
+                    .targetId(contentId)
+                    .statDate(date)
+                    .viewCount(entry.getViewCount())
+                    .uniqueViewerSketch(entry.getUniqueViewerSketch())
+                    .build()));
+    return rows.get(0);
+  }
+
+  private static FlatViewStatsSketchDTO legacyRow(long id, LocalDate date) {
+    return FlatViewStatsSketchDTO.builder()
+        .id(id)
+        .targetId(CONTENT_ID)
+        .statDate(date)
+        .viewCount(1L)
+        .build();
+  }
+
+  private static FlatViewLogDTO viewLog(long id, LocalDateTime viewedAt) {
+    return FlatViewLogDTO.builder()
+        .id(id)
+        .targetId(CONTENT_ID)
+        .visitorHash("visitor-" + id)
+        .viewedAt(viewedAt)
+        .build();
+  }
+}
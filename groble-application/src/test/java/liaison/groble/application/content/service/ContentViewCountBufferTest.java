@@ -0,0 +1,57 @@
+package liaison.groble.application.content.service;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import liaison.groble.domain.content.repository.ContentRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ContentViewCountBufferTest {
+
+  @Mock private ContentRepository contentRepository;
+
+  private ContentViewCountBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    buffer = new ContentViewCountBuffer(contentRepository, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void flush_coalescesIncrementsPerContent() {
+    buffer.increment(1L);
+    buffer.increment(1L);
+    buffer.increment(2L);
+
+    buffer.flush();
+    buffer.flush();
+
+    verify(contentRepository, times(1)).incrementViewCounts(Map.of(1L, 2L, 2L, 1L));
+  }
+
+  @Test
+  void flush_requeuesDeltasWhenUpdateFails() {
+    doThrow(new RuntimeException("db down"))
+        .doNothing()
+        .when(contentRepository)
+        .incrementViewCounts(anyMap());
+    buffer.increment(1L);
+    buffer.flush();
+
+    buffer.increment(1L);
+    buffer.flush();
+
+    verify(contentRepository).incrementViewCounts(Map.of(1L, 1L));
+    verify(contentRepository).incrementViewCounts(Map.of(1L, 2L));
+  }
+}
@@ -0,0 +1,139 @@
+package liaison.groble.application.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.content.ContentReader;
+import liaison.groble.application.dashboard.dto.referrer.ReferrerDTO;
+import liaison.groble.application.dashboard.dto.referrer.ReferrerEventDTO;
+import liaison.groble.application.user.service.UserReader;
+import liaison.groble.domain.dashboard.entity.ContentReferrerStats;
+import liaison.groble.domain.dashboard.entity.ReferrerTracking;
+import liaison.groble.domain.dashboard.repository.ContentReferrerEventRepository;
+import liaison.groble.domain.dashboard.repository.ContentReferrerStatsRepository;
+import liaison.groble.domain.dashboard.repository.MarketReferrerEventRepository;
+import liaison.groble.domain.dashboard.repository.MarketReferrerStatsRepository;
+import liaison.groble.domain.dashboard.repository.ReferrerStatsDailyRepository;
+import liaison.groble.domain.dashboard.repository.ReferrerTrackingRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReferrerServiceTest {
+  private static final Long CONTENT_ID = 10L;
+  private static final String SESSION_ID = "session-1";
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+  @Mock private ContentReferrerStatsRepository contentReferrerStatsRepository;
+  @Mock private ContentReferrerEventRepository contentReferrerEventRepository;
+  @Mock private MarketReferrerStatsRepository marketReferrerStatsRepository;
+  @Mock private MarketReferrerEventRepository marketReferrerEventRepository;
+  @Mock private ReferrerTrackingRepository referrerTrackingRepository;
+  @Mock private ReferrerStatsDailyRepository referrerStatsDailyRepository;
+  @Mock private UserReader userReader;
+  @Mock private ContentReader contentReader;
+
+  private final List<List<ReferrerTracking>> savedBatches = new ArrayList<>();
+  private ReferrerSessionWindow referrerSessionWindow;
+  private ReferrerService referrerService;
+
+  @BeforeEach
+  void setUp() {
+    referrerSessionWindow = new ReferrerSessionWindow(1_000, Duration.ofMinutes(10));
+    referrerService =
+        new ReferrerService(
+            contentReferrerStatsRepository,
+            contentReferrerEventRepository,
+            marketReferrerStatsRepository,
+            marketReferrerEventRepository,
+            referrerTrackingRepository,
+            referrerStatsDailyRepository,
+            referrerSessionWindow,
+            userReader,
+            contentReader,
+            new ObjectMapper(),
+            new SimpleMeterRegistry());
+    when(contentReferrerStatsRepository
+            .findAllByContentIdAndReferrerDomainAndSourceAndMediumAndCampaign(
+                any(), any(), any(), any(), any()))
+        .thenReturn(List.of(mock(ContentReferrerStats.class)));
+  }
+
+  @Test
+  void recordBatch_skipsDuplicateWithinSameBatch() {
+    recordSaved();
+
+    referrerService.recordBatch(List.of(event(NOW), event(NOW.plusMinutes(1))));
+
+    assertThat(savedBatches).hasSize(1);
+    assertThat(savedBatches.get(0)).hasSize(1);
+    assertThat(referrerSessionWindow.findLastContentTracking(CONTENT_ID, SESSION_ID))
+        .isSameAs(savedBatches.get(0).get(0));
+  }
+
+  @Test
+  void recordBatch_skipsDuplicateOfPersistedTrackingInLaterBatch() {
+    recordSaved();
+
+    referrerService.recordBatch(List.of(event(NOW)));
+    referrerService.recordBatch(List.of(event(NOW.plusMinutes(1))));
+
+    assertThat(savedBatches).hasSize(1);
+  }
+
+  @Test
+  void recordBatch_doesNotRememberTrackingWhenPersistFails() {
+    doThrow(new IllegalStateException("db down"))
+        .doAnswer(this::save)
+        .when(referrerTrackingRepository)
+        .saveAllInBatch(anyList());
+
+    referrerService.recordBatch(List.of(event(NOW)));
+    assertThat(referrerSessionWindow.findLastContentTracking(CONTENT_ID, SESSION_ID)).isNull();
+
+    referrerService.recordBatch(List.of(event(NOW.plusMinutes(1))));
+
+    assertThat(savedBatches).hasSize(1);
+    assertThat(savedBatches.get(0)).hasSize(1);
+  }
+
+  private void recordSaved() {
+    doAnswer(this::save).when(referrerTrackingRepository).saveAllInBatch(anyList());
+  }
+
+  private Object save(InvocationOnMock invocation) {
+    List<ReferrerTracking> trackings = invocation.getArgument(0);
+    savedBatches.add(List.copyOf(trackings));
+    return null;
+  }
+
+  private static ReferrerEventDTO event(LocalDateTime timestamp) {
+    return ReferrerEventDTO.builder()
+        .contentId(CONTENT_ID)
+        .referrerDTO(
+            ReferrerDTO.builder()
+                .pageUrl("https://www.groble.im/contents/" + CONTENT_ID)
+                .referrerUrl("https://www.instagram.com/")
+                .sessionId(SESSION_ID)
+                .timestamp(timestamp)
+                .build())
+        .receivedAt(timestamp)
+        .build();
+  }
+}
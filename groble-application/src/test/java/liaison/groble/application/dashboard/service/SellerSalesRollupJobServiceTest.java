@@ -0,0 +1,105 @@
+package liaison.groble.application.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import liaison.groble.domain.dashboard.repository.SellerSalesRollupRepository;
+
+/**
+ * 재계산 배치의 트랜잭션 경계만 검증합니다. 재계산 SQL과 증분 동기화 사이의 잠금 동작은 실제 MySQL에서만 확인할 수 있어 여기서 다루지 않습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SellerSalesRollupJobServiceTest {
+  private static final int BATCH_SIZE = 2;
+
+  @Mock private SellerSalesRollupRepository repository;
+
+  private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+  @Test
+  void rebuildSeller_runsRepositoryInsideOneNewTransaction() {
+    List<Boolean> transactionActive = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+              return null;
+            })
+        .when(repository)
+        .rebuildSeller(1L);
+
+    assertThat(jobService().rebuildSeller(1L)).isTrue();
+
+    assertThat(transactionActive).containsExactly(true);
+    assertThat(transactionManager.propagations)
+        .containsExactly(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    assertThat(transactionManager.commits).isEqualTo(1);
+  }
+
+  @Test
+  void rebuildSeller_rollsBackAndReportsFailure() {
+    doThrow(new IllegalStateException("rebuild failed")).when(repository).rebuildSeller(1L);
+
+    assertThat(jobService().rebuildSeller(1L)).isFalse();
+
+    assertThat(transactionManager.rollbacks).isEqualTo(1);
+    assertThat(transactionManager.commits).isZero();
+  }
+
+  @Test
+  void rebuildAll_pagesBySellerIdAndContinuesAfterFailure() {
+    when(repository.findSellerIdsWithPurchases(0L, BATCH_SIZE)).thenReturn(List.of(1L, 2L));
+    when(repository.findSellerIdsWithPurchases(2L, BATCH_SIZE)).thenReturn(List.of(3L));
+    when(repository.findSellerIdsWithPurchases(3L, BATCH_SIZE)).thenReturn(List.of());
+    doThrow(new IllegalStateException("rebuild failed")).when(repository).rebuildSeller(2L);
+
+    jobService().rebuildAll();
+
+    verify(repository).rebuildSeller(1L);
+    verify(repository).rebuildSeller(3L);
+    assertThat(transactionManager.commits).isEqualTo(2);
+    assertThat(transactionManager.rollbacks).isEqualTo(1);
+  }
+
+  private SellerSalesRollupJobService jobService() {
+    return new SellerSalesRollupJobService(repository, transactionManager, BATCH_SIZE);
+  }
+
+  private static final class RecordingTransactionManager
+      extends AbstractPlatformTransactionManager {
+    private final List<Integer> propagations = new ArrayList<>();
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+      propagations.add(definition.getPropagationBehavior());
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+      commits++;
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+      rollbacks++;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package liaison.groble.application.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
+
+class ViewStatsAccumulatorTest {
+  private static final LocalDate DAY_1 = LocalDate.of(2025, 1, 1);
+  private static final LocalDate DAY_2 = LocalDate.of(2025, 1, 2);
+  private static final LocalDate DAY_3 = LocalDate.of(2025, 1, 3);
+
+  @Test
+  void addLog_countsViewsAndDistinctVisitorsPerTarget() {
+    ViewStatsAccumulator accumulator = new ViewStatsAccumulator();
+    accumulator.addLog(log(1L, 100L, null, "1.1.1.1"));
+    accumulator.addLog(log(1L, 100L, null, "2.2.2.2"));
+    accumulator.addLog(log(1L, null, "hash-a", "1.1.1.1"));
+    accumulator.addLog(log(1L, null, "hash-a", "3.3.3.3"));
+    accumulator.addLog(log(1L, null, null, "1.1.1.1"));
+    accumulator.addLog(log(2L, null, null, "1.1.1.1"));
+
+    Map<Long, ViewStatsAccumulator.Entry> entries = entries(accumulator);
+    assertThat(entries).containsOnlyKeys(1L, 2L);
+    assertThat(entries.get(1L).getViewCount()).isEqualTo(5);
+    // 회원 ID > 방문자 해시 > IP 순으로 방문자를 식별
+    assertThat(entries.get(1L).getUniqueViewerCount()).isEqualTo(3);
+    assertThat(entries.get(1L).getLoggedInViewerCount()).isEqualTo(1);
+    assertThat(entries.get(2L).getLoggedInViewerCount()).isZero();
+    assertThat(entries.get(2L).getLoggedInViewerSketch()).isNull();
+  }
+
+  @Test
+  void merge_combinesCountsAndDeduplicatesVisitors() {
+    ViewStatsAccumulator first = new ViewStatsAccumulator();
+    first.addLog(log(1L, 100L, null, null));
+    first.addLog(log(1L, null, "hash-a", null));
+    ViewStatsAccumulator second = new ViewStatsAccumulator();
+    second.addLog(log(1L, 100L, null, null));
+    second.addLog(log(1L, 200L, null, null));
+    second.addLog(log(2L, null, "hash-b", null));
+
+    first.merge(second);
+
+    Map<Long, ViewStatsAccumulator.Entry> entries = entries(first);
+    assertThat(entries.get(1L).getViewCount()).isEqualTo(4);
+    assertThat(entries.get(1L).getUniqueViewerCount()).isEqualTo(3);
+    assertThat(entries.get(1L).getLoggedInViewerCount()).isEqualTo(2);
+    assertThat(entries.get(2L).getUniqueViewerCount()).isEqualTo(1);
+  }
+
+  @Test
+  void mergeDaily_restoresStoredSketches() {
+    ViewStatsAccumulator day1 = new ViewStatsAccumulator();
+    day1.addLog(log(1L, 100L, null, null));
+    day1.addLog(log(1L, null, "hash-a", null));
+    ViewStatsAccumulator day2 = new ViewStatsAccumulator();
+    day2.addLog(log(1L, 100L, null, null));
+
+    ViewStatsAccumulator monthly = new ViewStatsAccumulator();
+    assertThat(monthly.mergeDaily(sketch(1L, DAY_1, day1))).isTrue();
+    assertThat(monthly.mergeDaily(sketch(2L, DAY_2, day2))).isTrue();
+
+    ViewStatsAccumulator.Entry entry = entries(monthly).get(1L);
+    assertThat(entry.getViewCount()).isEqualTo(3);
+    assertThat(entry.getUniqueViewerCount()).isEqualTo(2);
+    assertThat(entry.getLoggedInViewerCount()).isEqualTo(1);
+  }
+
+  @Test
+  void mergeDaily_reportsRowsWithoutSketch() {
+    ViewStatsAccumulator monthly = new ViewStatsAccumulator();
+
+    assertThat(monthly.mergeDaily(legacy(1L, DAY_1, 5L))).isFalse();
+  }
+
+  @Test
+  void dailySketchMerger_reportsDatesWithoutRowsOrWithLegacyRows() {
+    ViewStatsAccumulator day = new ViewStatsAccumulator();
+    day.addLog(log(1L, 100L, null, null));
+    ViewStatsAccumulator monthly = new ViewStatsAccumulator();
+    DailySketchMerger merger = new DailySketchMerger(monthly);
+
+    merger.add(sketch(1L, DAY_1, day));
+    // DAY_2 행 없음 (일별 집계 누락), DAY_3은 스케치 없는 행 포함
+    merger.add(sketch(2L, DAY_3, day));
+    merger.add(legacy(3L, DAY_3, 7L));
+
+    assertThat(merger.missingDates(DAY_1, DAY_3)).containsExactly(DAY_2, DAY_3);
+    // 누락 일자의 행은 반영하지 않아 로그 재집계와 중복되지 않음
+    assertThat(entries(monthly).get(1L).getViewCount()).isEqualTo(1);
+  }
+
+  private static FlatViewLogDTO log(Long targetId, Long viewerId, String visitorHash, String ip) {
+    return FlatViewLogDTO.builder()
+        .targetId(targetId)
+        .viewerId(viewerId)
+        .visitorHash(visitorHash)
+        .viewerIp(ip)
+        .viewedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+        .build();
+  }
+
+  /** 대상 1의 일별 집계 결과를 저장된 행 형태로 변환 */
+  private static FlatViewStatsSketchDTO sketch(Long id, LocalDate date, ViewStatsAccumulator day) {
+    ViewStatsAccumulator.Entry entry = entries(day).get(1L);
+    return FlatViewStatsSketchDTO.builder()
+        .id(id)
+        .targetId(1L)
+        .statDate(date)
+        .viewCount(entry.getViewCount())
+        .uniqueViewerSketch(entry.getUniqueViewerSketch())
+        .loggedInViewerSketch(entry.getLoggedInViewerSketch())
+        .build();
+  }
+
+  private static FlatViewStatsSketchDTO legacy(Long id, LocalDate date, Long viewCount) {
+    return FlatViewStatsSketchDTO.builder()
+        .id(id)
+        .targetId(1L)
+        .statDate(date)
+        .viewCount(viewCount)
+        .build();
+  }
+
+  private static Map<Long, ViewStatsAccumulator.Entry> entries(ViewStatsAccumulator accumulator) {
+    Map<Long, ViewStatsAccumulator.Entry> entries = new HashMap<>();
+    accumulator.forEach(entries::put);
+    return entries;
+  }
+}
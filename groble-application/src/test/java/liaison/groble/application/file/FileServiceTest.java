@@ -0,0 +1,69 @@
+package liaison.groble.application.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import liaison.groble.application.content.service.ContentCacheService;
+import liaison.groble.application.user.service.UserReader;
+import liaison.groble.domain.file.entity.PresignedUrlInfo;
+import liaison.groble.domain.file.repository.FileRepository;
+import liaison.groble.domain.file.service.FileStorageService;
+import liaison.groble.domain.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FileServiceTest {
+  private static final String UUID_PATTERN =
+      "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+  @Mock private FileStorageService fileStorageService;
+  @Mock private FileRepository fileRepository;
+  @Mock private UserRepository userRepository;
+  @Mock private UserReader userReader;
+  @Mock private ContentCacheService contentCacheService;
+
+  @InjectMocks private FileService fileService;
+
+  @BeforeEach
+  void setUp() {
+    when(fileStorageService.generatePresignedUploadUrl(anyString(), any(), any(), anyLong()))
+        .thenReturn(PresignedUrlInfo.builder().key("key").build());
+  }
+
+  @Test
+  void issuePresignedUpload_keepsOnlySafeExtensionInObjectKey() {
+    assertThat(issuedFileName("강의 자료 (최종).PDF")).matches(UUID_PATTERN + "\\.pdf");
+    assertThat(issuedFileName("archive.tar.gz")).matches(UUID_PATTERN + "\\.gz");
+  }
+
+  @Test
+  void issuePresignedUpload_dropsUnsafeOrMissingExtension() {
+    assertThat(issuedFileName("../../etc/passwd")).matches(UUID_PATTERN);
+    assertThat(issuedFileName("image.png/../../secret")).matches(UUID_PATTERN);
+    assertThat(issuedFileName("payload.p h p")).matches(UUID_PATTERN);
+    assertThat(issuedFileName("noextension")).matches(UUID_PATTERN);
+    assertThat(issuedFileName("trailing.")).matches(UUID_PATTERN);
+    assertThat(issuedFileName(null)).matches(UUID_PATTERN);
+  }
+
+  private String issuedFileName(String originalFilename) {
+    clearInvocations(fileStorageService);
+    fileService.issuePresignedUpload(1L, originalFilename, "application/pdf", "contents");
+
+    ArgumentCaptor<String> fileName = ArgumentCaptor.forClass(String.class);
+    verify(fileStorageService)
+        .generatePresignedUploadUrl(
+            fileName.capture(), eq("application/pdf"), eq("contents"), eq(1L));
+    return fileName.getValue();
+  }
+}
@@ -0,0 +1,119 @@
+package liaison.groble.application.notification.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.domain.notification.queue.dto.EmailSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.EmailSendQueueRepository;
+import liaison.groble.external.mail.dto.MailSendResult;
+import liaison.groble.external.mail.service.SmtpMailSender;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class EmailSendQueueWorkerTest {
+  private static final int MAX_ATTEMPTS = 5;
+
+  @Mock private EmailSendQueueRepository emailSendQueueRepository;
+  @Mock private SmtpMailSender smtpMailSender;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private EmailSendQueueWorker worker;
+
+  @AfterEach
+  void tearDown() {
+    worker.destroy();
+  }
+
+  @Test
+  void sendBatch_countsSentOnlyForMailsWhoseResultWasRecorded() {
+    worker = worker(Duration.ofSeconds(5));
+    EmailSendQueueItemDTO recorded = item(1L);
+    EmailSendQueueItemDTO reclaimed = item(2L);
+    when(emailSendQueueRepository.claimBatch(anyInt(), any(), eq(MAX_ATTEMPTS)))
+        .thenReturn(List.of(recorded, reclaimed));
+    when(smtpMailSender.sendAll(anyList()))
+        .thenReturn(List.of(MailSendResult.sent(), MailSendResult.sent()));
+    when(emailSendQueueRepository.markSent(List.of(recorded, reclaimed)))
+        .thenReturn(List.of(recorded));
+
+    worker.sendBatch();
+
+    assertThat(count("sent")).isEqualTo(1.0);
+    assertThat(count("lease_lost")).isEqualTo(1.0);
+  }
+
+  @Test
+  void sendBatch_leavesRunningChunkToRecordItsOwnResultsAfterTimeout() {
+    worker = worker(Duration.ofMillis(200));
+    CountDownLatch release = new CountDownLatch(1);
+    EmailSendQueueItemDTO running = item(1L);
+    EmailSendQueueItemDTO queued = item(2L);
+    when(emailSendQueueRepository.claimBatch(anyInt(), any(), eq(MAX_ATTEMPTS)))
+        .thenReturn(List.of(running), List.of(queued));
+    when(smtpMailSender.sendAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return List.of(MailSendResult.sent());
+            });
+    when(emailSendQueueRepository.markSent(anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(emailSendQueueRepository.markRetry(any(), any(), any())).thenReturn(true);
+
+    // 첫 묶음은 발송 중에 시간 초과, 두 번째 묶음은 연결이 비지 않아 시작하지 못한 채 시간 초과
+    worker.sendBatch();
+    worker.sendBatch();
+
+    verify(emailSendQueueRepository, never()).markRetry(eq(running), any(), any());
+    verify(emailSendQueueRepository).markRetry(eq(queued), any(), any());
+
+    release.countDown();
+    verify(emailSendQueueRepository, timeout(1000)).markSent(List.of(running));
+    verify(smtpMailSender, after(300).times(1)).sendAll(anyList());
+  }
+
+  // 연결 1개로 고정해 묶음이 하나씩 순서대로 발송되도록 함
+  private EmailSendQueueWorker worker(Duration lease) {
+    return new EmailSendQueueWorker(
+        emailSendQueueRepository,
+        smtpMailSender,
+        new ObjectMapper(),
+        meterRegistry,
+        100,
+        lease,
+        MAX_ATTEMPTS,
+        Duration.ofSeconds(30),
+        Duration.ofMinutes(30),
+        Duration.ofDays(7),
+        1);
+  }
+
+  private double count(String outcome) {
+    return meterRegistry
+        .counter("email.send.queue", "template", "VERIFICATION", "outcome", outcome)
+        .count();
+  }
+
+  private static EmailSendQueueItemDTO item(Long id) {
+    return EmailSendQueueItemDTO.builder()
+        .id(id)
+        .template("VERIFICATION")
+        .recipient("user" + id + "@example.com")
+        .params("{\"code\":\"123456\"}")
+        .attemptCount(1)
+        .build();
+  }
+}
@@ -0,0 +1,198 @@
+package liaison.groble.application.notification.queue;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.application.common.ratelimit.TokenBucket;
+import liaison.groble.application.notification.dto.KakaoMessageDTO;
+import liaison.groble.application.notification.service.KakaoMessageSender;
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
+import liaison.groble.external.infotalk.dto.message.MessageResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoSendQueueWorkerTest {
+  private static final int TEMPLATE_REJECTED = 3015;
+  private static final int MESSAGE_REJECTED = 3001;
+
+  @Mock private KakaoSendQueueRepository kakaoSendQueueRepository;
+  @Mock private KakaoMessageSender kakaoMessageSender;
+
+  private KakaoSendQueueWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    worker = worker(Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    worker.destroy();
+  }
+
+  @Test
+  void sendBatch_marksAcceptedMessagesSent() {
+    KakaoSendQueueItemDTO item = item(1L, "TEMPLATE_A", 1);
+    when(kakaoSendQueueRepository.claimBatch(anyInt(), any(), eq(3))).thenReturn(List.of(item));
+    when(kakaoMessageSender.send(any(KakaoMessageDTO.class), any()))
+        .thenReturn(response(1000, "mk-1"));
+    when(kakaoSendQueueRepository.markSent(any(), any())).thenReturn(true);
+
+    worker.sendBatch();
+
+    verify(kakaoSendQueueRepository).markSent(item, "mk-1");
+  }
+
+  @Test
+  void sendBatch_holdsRemainingMessagesOfRejectedTemplate() {
+    KakaoSendQueueItemDTO first = item(1L, "TEMPLATE_A", 1);
+    KakaoSendQueueItemDTO second = item(2L, "TEMPLATE_A", 1);
+    KakaoSendQueueItemDTO other = item(3L, "TEMPLATE_B", 1);
+    when(kakaoSendQueueRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(first, second, other));
+    when(kakaoSendQueueRepository.markRetry(any(), any(), any())).thenReturn(true);
+    when(kakaoSendQueueRepository.markDeferred(any(), any(), any())).thenReturn(true);
+    when(kakaoSendQueueRepository.markSent(any(), any())).thenReturn(true);
+    when(kakaoMessageSender.send(any(KakaoMessageDTO.class), any()))
+        .thenAnswer(
+            invocation ->
+                "TEMPLATE_A".equals(templateCode(invocation))
+                    ? response(TEMPLATE_REJECTED, null)
+                    : response(1000, "mk-3"));
+
+    worker.sendBatch();
+
+    // 거절된 템플릿은 첫 건만 호출하고, 나머지는 시도 횟수를 되돌려 대기
+    verify(kakaoMessageSender, times(2)).send(any(KakaoMessageDTO.class), any());
+    verify(kakaoSendQueueRepository).markRetry(eq(first), any(LocalDateTime.class), anyString());
+    verify(kakaoSendQueueRepository)
+        .markDeferred(eq(second), any(LocalDateTime.class), startsWith("같은 템플릿"));
+    verify(kakaoSendQueueRepository, never()).markRetry(eq(second), any(), any());
+    verify(kakaoSendQueueRepository).markSent(other, "mk-3");
+  }
+
+  @Test
+  void sendBatch_keepsSendingTemplateAfterMessageLevelError() {
+    KakaoSendQueueItemDTO first = item(1L, "TEMPLATE_A", 1);
+    KakaoSendQueueItemDTO second = item(2L, "TEMPLATE_A", 1);
+    when(kakaoSendQueueRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(first, second));
+    when(kakaoSendQueueRepository.markRetry(any(), any(), any())).thenReturn(true);
+    when(kakaoSendQueueRepository.markSent(any(), any())).thenReturn(true);
+    when(kakaoMessageSender.send(any(KakaoMessageDTO.class), any()))
+        .thenReturn(response(MESSAGE_REJECTED, null), response(1000, "mk-2"));
+
+    worker.sendBatch();
+
+    // 메시지 한 건의 오류는 같은 템플릿의 다른 메시지 발송을 막지 않음
+    verify(kakaoMessageSender, times(2)).send(any(KakaoMessageDTO.class), any());
+    verify(kakaoSendQueueRepository).markRetry(eq(first), any(LocalDateTime.class), anyString());
+    verify(kakaoSendQueueRepository).markSent(second, "mk-2");
+    verify(kakaoSendQueueRepository, never()).markDeferred(any(), any(), any());
+  }
+
+  @Test
+  void sendBatch_deadLettersInvalidAndExhaustedMessages() {
+    KakaoSendQueueItemDTO invalid = item(1L, "TEMPLATE_A", 1);
+    KakaoSendQueueItemDTO exhausted = item(2L, "TEMPLATE_B", 3);
+    when(kakaoSendQueueRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(invalid, exhausted));
+    when(kakaoSendQueueRepository.markDead(any(), any())).thenReturn(true);
+    when(kakaoMessageSender.send(any(KakaoMessageDTO.class), any()))
+        .thenAnswer(
+            invocation -> {
+              if ("TEMPLATE_A".equals(templateCode(invocation))) {
+                throw new IllegalArgumentException("올바른 휴대폰 번호 형식이 아닙니다");
+              }
+              throw new RuntimeException("메시지 발송 실패");
+            });
+
+    worker.sendBatch();
+
+    verify(kakaoSendQueueRepository).markDead(eq(invalid), startsWith("IllegalArgumentException"));
+    verify(kakaoSendQueueRepository).markDead(eq(exhausted), startsWith("RuntimeException"));
+    verify(kakaoSendQueueRepository, never()).markRetry(any(), any(), anyString());
+  }
+
+  @Test
+  void sendBatch_countsTimeoutAsFailedAttempt() {
+    worker.destroy();
+    worker = worker(Duration.ofMillis(50));
+    KakaoSendQueueItemDTO slow = item(1L, "TEMPLATE_A", 1);
+    KakaoSendQueueItemDTO queued = item(2L, "TEMPLATE_A", 3);
+    when(kakaoSendQueueRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(slow, queued));
+    when(kakaoSendQueueRepository.markRetry(any(), any(), any())).thenReturn(true);
+    when(kakaoSendQueueRepository.markDead(any(), any())).thenReturn(true);
+    when(kakaoMessageSender.send(any(KakaoMessageDTO.class), any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(500);
+              return response(1000, "mk-1");
+            });
+
+    worker.sendBatch();
+
+    verify(kakaoSendQueueRepository).markRetry(eq(slow), any(LocalDateTime.class), anyString());
+    verify(kakaoSendQueueRepository).markDead(eq(queued), startsWith("TimeoutException"));
+    // 시간 초과로 취소된 대기 중 발송은 호출하지 않음
+    verify(kakaoMessageSender, after(700).times(1)).send(any(KakaoMessageDTO.class), any());
+  }
+
+  // 동시 발송 1개로 고정해 같은 템플릿의 발송 순서를 보장
+  private KakaoSendQueueWorker worker(Duration lease) {
+    return new KakaoSendQueueWorker(
+        kakaoSendQueueRepository,
+        kakaoMessageSender,
+        new ObjectMapper(),
+        new SimpleMeterRegistry(),
+        new TokenBucket(1000, 1000),
+        100,
+        lease,
+        3,
+        Duration.ofSeconds(30),
+        Duration.ofMinutes(30),
+        1,
+        Set.of(TEMPLATE_REJECTED));
+  }
+
+  private static KakaoSendQueueItemDTO item(Long id, String templateCode, int attemptCount) {
+    return KakaoSendQueueItemDTO.builder()
+        .id(id)
+        .notificationType("WELCOME")
+        .templateCode(templateCode)
+        .phoneNumber("01012345678")
+        .title("title")
+        .content("content")
+        .refKey("ref-" + id)
+        .attemptCount(attemptCount)
+        .build();
+  }
+
+  private static String templateCode(InvocationOnMock invocation) {
+    return invocation.getArgument(0, KakaoMessageDTO.class).getTemplateCode();
+  }
+
+  private static MessageResponse response(int code, String messageKey) {
+    MessageResponse response = new MessageResponse();
+    response.setCode(code);
+    response.setMessageKey(messageKey);
+    return response;
+  }
+}
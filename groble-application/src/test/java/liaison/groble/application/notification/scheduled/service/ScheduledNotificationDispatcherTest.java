@@ -0,0 +1,182 @@
+package liaison.groble.application.notification.scheduled.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
+import liaison.groble.domain.notification.repository.NotificationRepository;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationDispatchRun;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecipient;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationChannel;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSegmentType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSendType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationStatus;
+import liaison.groble.domain.notification.scheduled.repository.ScheduledNotificationDispatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledNotificationDispatcherTest {
+  private static final Long RUN_ID = 1L;
+  private static final Long NOTIFICATION_ID = 10L;
+  private static final int PAGE_SIZE = 2;
+  private static final int MAX_RETRIES = 3;
+
+  @Mock private ScheduledNotificationDispatchRepository dispatchRepository;
+  @Mock private NotificationRepository notificationRepository;
+  @Mock private KakaoSendQueueRepository kakaoSendQueueRepository;
+
+  private ScheduledNotificationDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    dispatcher =
+        new ScheduledNotificationDispatcher(
+            dispatchRepository,
+            notificationRepository,
+            kakaoSendQueueRepository,
+            new ObjectMapper(),
+            new SimpleMeterRegistry(),
+            PAGE_SIZE,
+            Duration.ofMinutes(5),
+            MAX_RETRIES,
+            5);
+  }
+
+  @Test
+  void dispatchDueRuns_enqueuesKakaoPagesAndCompletesRun() {
+    when(dispatchRepository.claimRun(anyString(), any()))
+        .thenReturn(Optional.of(kakaoRun(0)), Optional.empty());
+    when(dispatchRepository.findRecipients(
+            ScheduledNotificationSegmentType.ALL_USERS, null, true, 0L, PAGE_SIZE))
+        .thenReturn(List.of(recipient(1L), recipient(2L)));
+    when(dispatchRepository.findRecipients(
+            ScheduledNotificationSegmentType.ALL_USERS, null, true, 2L, PAGE_SIZE))
+        .thenReturn(List.of(recipient(3L)));
+    when(dispatchRepository.checkpoint(
+            eq(RUN_ID), anyString(), anyLong(), anyInt(), anyInt(), anyInt(), any()))
+        .thenReturn(true);
+    when(dispatchRepository.completeRun(eq(RUN_ID), anyString())).thenReturn(true);
+
+    dispatcher.dispatchDueRuns();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<KakaoSendQueueItemDTO>> enqueued = ArgumentCaptor.forClass(List.class);
+    verify(kakaoSendQueueRepository, times(2)).enqueue(enqueued.capture());
+    List<KakaoSendQueueItemDTO> firstPage = enqueued.getAllValues().get(0);
+    assertThat(firstPage)
+        .extracting(KakaoSendQueueItemDTO::getPhoneNumber)
+        .containsExactly("010-0000-0001", "010-0000-0002");
+    assertThat(firstPage.get(0).getTemplateCode()).isEqualTo("TEMPLATE");
+    assertThat(firstPage.get(0).getSenderKey()).isEqualTo("sender-key");
+    assertThat(firstPage.get(0).getRefKey()).isNotEqualTo(firstPage.get(1).getRefKey());
+    verify(dispatchRepository)
+        .checkpoint(eq(RUN_ID), anyString(), eq(2L), eq(2), eq(2), eq(0), any());
+    verify(dispatchRepository)
+        .checkpoint(eq(RUN_ID), anyString(), eq(3L), eq(1), eq(1), eq(0), any());
+    verify(dispatchRepository)
+        .finishNotification(NOTIFICATION_ID, ScheduledNotificationStatus.SENT);
+  }
+
+  @Test
+  void dispatch_releasesRunWithoutCheckpointWhenEnqueueFails() {
+    when(dispatchRepository.findRecipients(any(), any(), anyBoolean(), anyLong(), anyInt()))
+        .thenReturn(List.of(recipient(5L), recipient(6L)));
+    doThrow(new IllegalStateException("db down")).when(kakaoSendQueueRepository).enqueue(any());
+
+    dispatcher.dispatch(kakaoRun(4));
+
+    // 커서를 옮기지 않고 반납하므로 다음 점유 시 같은 페이지부터 다시 등록
+    verify(dispatchRepository).releaseRun(eq(RUN_ID), anyString(), contains("db down"));
+    verify(dispatchRepository, never())
+        .checkpoint(any(), any(), anyLong(), anyInt(), anyInt(), anyInt(), any());
+    verify(dispatchRepository, never()).completeRun(any(), any());
+  }
+
+  @Test
+  void dispatch_stopsWhenCheckpointLosesLease() {
+    when(dispatchRepository.findRecipients(any(), any(), anyBoolean(), anyLong(), anyInt()))
+        .thenReturn(List.of(recipient(1L), recipient(2L)));
+    when(dispatchRepository.checkpoint(
+            eq(RUN_ID), anyString(), anyLong(), anyInt(), anyInt(), anyInt(), any()))
+        .thenReturn(false);
+
+    dispatcher.dispatch(kakaoRun(0));
+
+    verify(kakaoSendQueueRepository, times(1)).enqueue(any());
+    verify(dispatchRepository, never()).completeRun(any(), any());
+    verify(dispatchRepository, never()).releaseRun(any(), any(), any());
+  }
+
+  @Test
+  void dispatch_failsRunExceedingMaxRetries() {
+    when(dispatchRepository.failRun(eq(RUN_ID), anyString(), anyString())).thenReturn(true);
+
+    dispatcher.dispatch(run(ScheduledNotificationSegmentType.ALL_USERS, null, MAX_RETRIES + 1));
+
+    verify(dispatchRepository)
+        .finishNotification(NOTIFICATION_ID, ScheduledNotificationStatus.FAILED);
+    verify(dispatchRepository, never())
+        .findRecipients(any(), any(), anyBoolean(), anyLong(), anyInt());
+    verifyNoInteractions(kakaoSendQueueRepository);
+  }
+
+  @Test
+  void dispatch_failsRunWithInvalidCustomSegment() {
+    when(dispatchRepository.failRun(eq(RUN_ID), anyString(), anyString())).thenReturn(true);
+
+    dispatcher.dispatch(run(ScheduledNotificationSegmentType.CUSTOM, "{}", 0));
+
+    verify(dispatchRepository)
+        .failRun(eq(RUN_ID), anyString(), eq("CUSTOM 세그먼트 조건에 userIds 배열이 필요합니다."));
+    verifyNoInteractions(kakaoSendQueueRepository);
+  }
+
+  private static ScheduledNotificationDispatchRun kakaoRun(long lastRecipientId) {
+    return run(ScheduledNotificationSegmentType.ALL_USERS, null, lastRecipientId, 0);
+  }
+
+  private static ScheduledNotificationDispatchRun run(
+      ScheduledNotificationSegmentType segmentType, String segmentPayload, int retryCount) {
+    return run(segmentType, segmentPayload, 0, retryCount);
+  }
+
+  private static ScheduledNotificationDispatchRun run(
+      ScheduledNotificationSegmentType segmentType,
+      String segmentPayload,
+      long lastRecipientId,
+      int retryCount) {
+    return new ScheduledNotificationDispatchRun(
+        RUN_ID,
+        NOTIFICATION_ID,
+        ScheduledNotificationChannel.KAKAO_BIZ,
+        ScheduledNotificationSendType.ONCE,
+        "공지",
+        "예약 공지 내용",
+        "TEMPLATE",
+        "sender-key",
+        segmentType,
+        segmentPayload,
+        lastRecipientId,
+        retryCount);
+  }
+
+  private static ScheduledNotificationRecipient recipient(Long userId) {
+    return new ScheduledNotificationRecipient(
+        userId, "user" + userId, String.format("010-0000-%04d", userId));
+  }
+}
@@ -0,0 +1,69 @@
+package liaison.groble.application.order.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import liaison.groble.application.payment.dto.completion.FreePaymentCompletionResult;
+import liaison.groble.application.payment.event.FreePaymentCompletedEvent;
+import liaison.groble.application.payment.listener.PaymentEventListener;
+import liaison.groble.application.payment.service.PaymentNotificationService;
+import liaison.groble.common.event.EventPublisher;
+
+class FreeOrderEventTest {
+  private final PaymentNotificationService paymentNotificationService =
+      mock(PaymentNotificationService.class);
+
+  private AnnotationConfigApplicationContext context;
+  private GuestOrderProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    context = new AnnotationConfigApplicationContext();
+    context.registerBean(PaymentNotificationService.class, () -> paymentNotificationService);
+    context.register(PaymentEventListener.class);
+    context.refresh();
+
+    // 무료 이벤트 발행만 검증하므로 저장소 의존성 없이 실제 메서드를 호출
+    processor = mock(GuestOrderProcessor.class, CALLS_REAL_METHODS);
+    processor.eventPublisher = new EventPublisher(context);
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+  }
+
+  @Test
+  void publishFreePaymentCompletedEvent_reachesPaymentNotificationService() {
+    processor.publishFreePaymentCompletedEvent(
+        FreePaymentCompletionResult.builder()
+            .orderId(10L)
+            .merchantUid("merchant-10")
+            .paymentId(20L)
+            .purchaseId(30L)
+            .guestUserId(40L)
+            .guestUserName("guest")
+            .contentId(50L)
+            .sellerId(60L)
+            .amount(BigDecimal.ZERO)
+            .completedAt(LocalDateTime.of(2025, 3, 1, 0, 0))
+            .build());
+
+    ArgumentCaptor<FreePaymentCompletedEvent> event =
+        ArgumentCaptor.forClass(FreePaymentCompletedEvent.class);
+    verify(paymentNotificationService).processAsyncFreePaymentCompletedEvent(event.capture());
+    assertThat(event.getValue().getOrderId()).isEqualTo(10L);
+    assertThat(event.getValue().getPurchaseId()).isEqualTo(30L);
+    assertThat(event.getValue().getGuestUserId()).isEqualTo(40L);
+    assertThat(event.getValue().getGuestUserName()).isEqualTo("guest");
+  }
+}
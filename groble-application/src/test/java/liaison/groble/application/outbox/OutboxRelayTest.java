@@ -0,0 +1,215 @@
+package liaison.groble.application.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import liaison.groble.domain.outbox.dto.OutboxEventDTO;
+import liaison.groble.domain.outbox.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock private OutboxEventRepository outboxEventRepository;
+
+  private final EchoHandler handler = new EchoHandler();
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay = relay(Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    handler.release.countDown();
+    relay.destroy();
+  }
+
+  @Test
+  void relayBatch_marksDeliveredEventsDone() {
+    OutboxEventDTO event = event(1L, "ECHO", "\"ok\"", 1);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3))).thenReturn(List.of(event));
+    when(outboxEventRepository.markDone(any())).thenReturn(1);
+
+    relay.relayBatch();
+
+    verify(outboxEventRepository).markDone(List.of(event));
+  }
+
+  @Test
+  void relayBatch_schedulesRetryUntilMaxAttempts() {
+    OutboxEventDTO retried = event(1L, "ECHO", "\"fail\"", 1);
+    OutboxEventDTO exhausted = event(2L, "ECHO", "\"fail\"", 3);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(retried, exhausted));
+    when(outboxEventRepository.markRetry(any(), any(), any())).thenReturn(true);
+    when(outboxEventRepository.markFailed(any(), any())).thenReturn(true);
+
+    relay.relayBatch();
+
+    verify(outboxEventRepository).markRetry(eq(retried), any(LocalDateTime.class), anyString());
+    verify(outboxEventRepository).markFailed(eq(exhausted), startsWith("IllegalStateException"));
+    verify(outboxEventRepository).markDone(List.of());
+  }
+
+  @Test
+  void relayBatch_failsEventsWithoutHandler() {
+    OutboxEventDTO event = event(1L, "UNKNOWN", "{}", 1);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3))).thenReturn(List.of(event));
+    when(outboxEventRepository.markFailed(any(), any())).thenReturn(true);
+
+    relay.relayBatch();
+
+    verify(outboxEventRepository).markFailed(eq(event), anyString());
+    verify(outboxEventRepository, never()).markRetry(any(), any(), any());
+  }
+
+  @Test
+  void relayBatch_countsTimeoutAsFailedAttempt() {
+    relay.destroy();
+    relay = relay(Duration.ofMillis(50));
+    OutboxEventDTO retried = event(1L, "ECHO", "\"slow\"", 1);
+    OutboxEventDTO exhausted = event(2L, "ECHO", "\"slow\"", 3);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(retried, exhausted));
+    when(outboxEventRepository.markRetry(any(), any(), any())).thenReturn(true);
+    when(outboxEventRepository.markFailed(any(), any())).thenReturn(true);
+
+    relay.relayBatch();
+
+    verify(outboxEventRepository).markRetry(eq(retried), any(LocalDateTime.class), anyString());
+    verify(outboxEventRepository).markFailed(eq(exhausted), startsWith("TimeoutException"));
+    verify(outboxEventRepository).markDone(List.of());
+  }
+
+  @Test
+  void relayBatch_interruptsHandlerThatTimesOut() throws Exception {
+    relay.destroy();
+    relay = relay(Duration.ofMillis(50));
+    OutboxEventDTO event = event(1L, "ECHO", "\"slow\"", 1);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3))).thenReturn(List.of(event));
+    when(outboxEventRepository.markRetry(any(), any(), any())).thenReturn(true);
+
+    relay.relayBatch();
+
+    assertThat(handler.interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    verify(outboxEventRepository).markRetry(eq(event), any(LocalDateTime.class), anyString());
+  }
+
+  @Test
+  void relayBatch_retriesInsteadOfQueueingWhenHandlerPoolIsFull() {
+    relay.destroy();
+    relay = relay(Duration.ofMillis(50), 1);
+    OutboxEventDTO stuck = event(1L, "ECHO", "\"stuck\"", 1);
+    OutboxEventDTO queued = event(2L, "ECHO", "\"ok\"", 1);
+    OutboxEventDTO rejected = event(3L, "ECHO", "\"ok\"", 1);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3)))
+        .thenReturn(List.of(stuck), List.of(queued), List.of(rejected));
+    when(outboxEventRepository.markRetry(any(), any(), any())).thenReturn(true);
+
+    // 인터럽트에 응하지 않는 처리기가 스레드를 붙잡고, 다음 이벤트가 대기열(배치 크기 1)을 채움
+    relay.relayBatch();
+    relay.relayBatch();
+    relay.relayBatch();
+
+    verify(outboxEventRepository)
+        .markRetry(eq(rejected), any(LocalDateTime.class), startsWith("RejectedExecution"));
+  }
+
+  @Test
+  void relayBatch_ignoresResultWhenLeaseWasLost() {
+    OutboxEventDTO event = event(1L, "ECHO", "\"fail\"", 1);
+    when(outboxEventRepository.claimBatch(anyInt(), any(), eq(3))).thenReturn(List.of(event));
+    when(outboxEventRepository.markRetry(any(), any(), any())).thenReturn(false);
+
+    relay.relayBatch();
+
+    verify(outboxEventRepository).markRetry(eq(event), any(LocalDateTime.class), anyString());
+    verify(outboxEventRepository, never()).markFailed(any(), any());
+  }
+
+  private OutboxRelay relay(Duration lease) {
+    return relay(lease, 100);
+  }
+
+  private OutboxRelay relay(Duration lease, int batchSize) {
+    return new OutboxRelay(
+        outboxEventRepository,
+        new ObjectMapper(),
+        new SimpleMeterRegistry(),
+        List.of(handler),
+        batchSize,
+        lease,
+        3,
+        Duration.ofSeconds(10),
+        Duration.ofMinutes(30),
+        Duration.ofDays(7));
+  }
+
+  private static OutboxEventDTO event(Long id, String type, String payload, int attemptCount) {
+    return OutboxEventDTO.builder()
+        .id(id)
+        .eventType(type)
+        .aggregateType("TEST")
+        .payload(payload)
+        .attemptCount(attemptCount)
+        .build();
+  }
+
+  private static class EchoHandler implements OutboxEventHandler<String> {
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public String eventType() {
+      return "ECHO";
+    }
+
+    @Override
+    public Class<String> payloadType() {
+      return String.class;
+    }
+
+    @Override
+    public void handle(String event) {
+      if ("fail".equals(event)) {
+        throw new IllegalStateException("handler failed");
+      }
+      if ("slow".equals(event)) {
+        try {
+          Thread.sleep(500);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          Thread.currentThread().interrupt();
+        }
+      }
+      if ("stuck".equals(event)) {
+        boolean released = false;
+        while (!released) {
+          try {
+            released = release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            // 취소 요청을 무시하는 처리기
+          }
+        }
+      }
+    }
+  }
+}
@@ -27,7 +27,6 @@ import liaison.groble.application.payment.dto.billing.BillingKeyInfoDTO;
 import liaison.groble.application.payment.dto.billing.RegisterBillingKeyCommand;
 import liaison.groble.application.payment.dto.billing.SubscriptionPaymentMetadata;
 import liaison.groble.application.payment.dto.billing.SubscriptionPaymentResult;
-import liaison.groble.application.payment.event.PaymentEventPublisher;
 import liaison.groble.application.subscription.service.SubscriptionRecurringOrderFactory;
 import liaison.groble.domain.order.entity.Order;
 import liaison.groble.domain.subscription.repository.SubscriptionRepository;
@@ -41,7 +40,6 @@ class SubscriptionPaymentServiceTest {
   @Mock private OrderReader orderReader;
   @Mock private PaypleApiClient paypleApiClient;
   @Mock private PaymentTransactionService paymentTransactionService;
-  @Mock private PaymentEventPublisher paymentEventPublisher;
   @Mock private SubscriptionRepository subscriptionRepository;
   @Mock private SubscriptionRecurringOrderFactory subscriptionRecurringOrderFactory;
 
@@ -57,7 +55,6 @@ class SubscriptionPaymentServiceTest {
             orderReader,
             paypleApiClient,
             paymentTransactionService,
-            paymentEventPublisher,
             subscriptionRepository,
             subscriptionRecurringOrderFactory);
   }
@@ -0,0 +1,151 @@
+package liaison.groble.application.purchase.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import liaison.groble.application.content.ContentReviewReader;
+import liaison.groble.application.content.ContentReviewWriter;
+import liaison.groble.application.notification.service.KakaoNotificationService;
+import liaison.groble.application.notification.service.NotificationService;
+import liaison.groble.application.order.service.OrderReader;
+import liaison.groble.application.purchase.dto.PurchaserContentReviewDTO;
+import liaison.groble.application.purchase.service.PurchaseReader;
+import liaison.groble.application.user.service.UserReader;
+import liaison.groble.common.context.UserContext;
+import liaison.groble.domain.content.dto.FlatContentReviewSummaryDTO;
+import liaison.groble.domain.content.entity.Content;
+import liaison.groble.domain.content.entity.ContentReview;
+import liaison.groble.domain.content.repository.ContentReviewCustomRepository;
+import liaison.groble.domain.content.repository.ContentReviewRepository;
+import liaison.groble.domain.content.repository.ContentReviewSummaryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MemberReviewProcessorTest {
+  private static final Long CONTENT_ID = 10L;
+  private static final Long USER_ID = 1L;
+
+  @Mock private UserReader userReader;
+  @Mock private PurchaseReader purchaseReader;
+  @Mock private OrderReader orderReader;
+  @Mock private ContentReviewReader contentReviewReader;
+  @Mock private ContentReviewCustomRepository contentReviewCustomRepository;
+  @Mock private NotificationService notificationService;
+  @Mock private KakaoNotificationService kakaoNotificationService;
+  @Mock private UserContext userContext;
+  @Mock private Content content;
+
+  private ReviewTable reviewTable;
+  private MemberReviewProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    reviewTable = new ReviewTable();
+    processor =
+        new MemberReviewProcessor(
+            userReader,
+            purchaseReader,
+            orderReader,
+            contentReviewReader,
+            new ContentReviewWriter(contentReviewCustomRepository, reviewTable, reviewTable),
+            notificationService,
+            kakaoNotificationService);
+  }
+
+  @Test
+  void updateReview_refreshesSummaryWithEditedRating() {
+    when(userContext.isMember()).thenReturn(true);
+    when(userContext.getId()).thenReturn(USER_ID);
+    when(content.getId()).thenReturn(CONTENT_ID);
+    ContentReview other = review(1L, "4.0");
+    ContentReview edited = review(2L, "2.0");
+    reviewTable.saveAndFlush(other);
+    reviewTable.saveAndFlush(edited);
+    reviewTable.refresh(CONTENT_ID);
+    assertThat(reviewTable.averageRating).isEqualByComparingTo("3.0");
+    when(contentReviewReader.getContentReview(USER_ID, 2L)).thenReturn(edited);
+
+    processor.updateReview(
+        userContext,
+        2L,
+        PurchaserContentReviewDTO.builder()
+            .rating(new BigDecimal("5.0"))
+            .reviewContent("수정한 리뷰")
+            .build());
+
+    assertThat(reviewTable.averageRating).isEqualByComparingTo("4.5");
+  }
+
+  private ContentReview review(Long id, String rating) {
+    return ContentReview.builder()
+        .id(id)
+        .content(content)
+        .rating(new BigDecimal(rating))
+        .reviewContent("리뷰")
+        .build();
+  }
+
+  /**
+   * 리뷰 테이블과 집계를 흉내 내는 저장소. 집계는 실제 구현처럼 엔티티가 아닌 반영(flush)된 행으로만 계산하므로, 영속 상태의 엔티티만 변경하고 반영하지 않으면
+   * 이전 별점으로 집계됩니다.
+   */
+  private static class ReviewTable
+      implements ContentReviewRepository, ContentReviewSummaryRepository {
+    private final Map<Long, BigDecimal> flushedRatings = new HashMap<>();
+    private BigDecimal averageRating;
+
+    @Override
+    public ContentReview save(ContentReview contentReview) {
+      return contentReview;
+    }
+
+    @Override
+    public ContentReview saveAndFlush(ContentReview contentReview) {
+      flushedRatings.put(contentReview.getId(), contentReview.getRating());
+      return contentReview;
+    }
+
+    @Override
+    public Optional<ContentReview> getContentReviewById(Long reviewId) {
+      return Optional.empty();
+    }
+
+    @Override
+    public boolean existsContentReview(Long userId, Long contentId) {
+      return false;
+    }
+
+    @Override
+    public boolean existsContentReviewForGuest(Long guestUserId, Long contentId) {
+      return false;
+    }
+
+    @Override
+    public Optional<ContentReview> findByPurchaseId(Long purchaseId) {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<FlatContentReviewSummaryDTO> findByContentId(Long contentId) {
+      return Optional.empty();
+    }
+
+    @Override
+    public void refresh(Long contentId) {
+      BigDecimal sum = flushedRatings.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+      averageRating =
+          sum.divide(BigDecimal.valueOf(flushedRatings.size()), 1, RoundingMode.HALF_UP);
+    }
+  }
+}
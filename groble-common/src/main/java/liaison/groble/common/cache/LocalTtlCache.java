@@ -0,0 +1,114 @@
+package liaison.groble.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 LRU + TTL 캐시
+ *
+ * <p>최대 건수를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 조회 시점에 만료된 항목은 없는 것으로 취급합니다. 분산 캐시 앞단의 짧은 수명 캐시로
+ * 사용하는 것을 전제로 하므로 별도의 만료 정리 스레드는 두지 않습니다.
+ *
+ * <p>요청마다 호출되는 조회 경로(JWT 인증 주체 등)에서 스레드끼리 경합하지 않도록 {@link ConcurrentHashMap} 위에 구현하며, 조회와 저장에는 잠금을
+ * 쓰지 않습니다. 최대 건수를 넘으면 한 스레드가 최대 건수의 90%까지 한꺼번에 줄여 정리 비용을 여러 저장에 나누므로, 순간적으로 최대 건수를 조금 넘을
+ * 수 있습니다. 사용 시각은 {@link #ACCESS_GRANULARITY_NANOS} 단위로만 갱신해 LRU 순서는 근사치입니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LocalTtlCache<K, V> {
+  // 자주 조회되는 키의 사용 시각을 매번 기록하면 코어 간 캐시 라인 경합이 생기므로 이 간격보다 오래된 경우에만 갱신
+  private static final long ACCESS_GRANULARITY_NANOS = Duration.ofMillis(100).toNanos();
+
+  private final int maximumSize;
+  private final long ttlNanos;
+  private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  public LocalTtlCache(int maximumSize, Duration ttl) {
+    this.maximumSize = Math.max(1, maximumSize);
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /** 만료되지 않은 값을 반환하고, 없거나 만료되었으면 null을 반환합니다. */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    long now = System.nanoTime();
+    if (now - entry.storedAt > ttlNanos) {
+      entries.remove(key, entry);
+      return null;
+    }
+    if (now - entry.accessedAt > ACCESS_GRANULARITY_NANOS) {
+      entry.accessedAt = now;
+    }
+    return entry.value;
+  }
+
+  public void put(K key, V value) {
+    entries.put(key, new Entry<>(value, System.nanoTime()));
+    if (entries.size() > maximumSize) {
+      evict();
+    }
+  }
+
+  public void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /** 만료된 항목을 먼저 지우고, 그래도 넘치면 가장 오래 사용되지 않은 항목부터 최대 건수의 90%까지 제거합니다. */
+  private void evict() {
+    // 다른 스레드가 정리 중이면 그 결과에 맡기고 바로 반환
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      long now = System.nanoTime();
+      entries.entrySet().removeIf(e -> now - e.getValue().storedAt > ttlNanos);
+      if (entries.size() <= maximumSize) {
+        return;
+      }
+
+      // 정렬 중에 사용 시각이 바뀌지 않도록 시각을 복사해 둔 뒤 정렬
+      List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+      entries.forEach(
+          (key, entry) -> candidates.add(new Candidate<>(key, entry, entry.accessedAt)));
+      candidates.sort(Comparator.comparingLong(Candidate::accessedAt));
+      int excess = candidates.size() - (maximumSize - maximumSize / 10);
+      for (int i = 0; i < excess; i++) {
+        Candidate<K, V> eldest = candidates.get(i);
+        entries.remove(eldest.key(), eldest.entry());
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private record Candidate<K, V>(K key, Entry<V> entry, long accessedAt) {}
+
+  private static final class Entry<V> {
+    private final V value;
+    private final long storedAt;
+    private volatile long accessedAt;
+
+    private Entry(V value, long storedAt) {
+      this.value = value;
+      this.storedAt = storedAt;
+      this.accessedAt = storedAt;
+    }
+  }
+}
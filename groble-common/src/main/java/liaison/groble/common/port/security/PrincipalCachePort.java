@@ -0,0 +1,13 @@
+package liaison.groble.common.port.security;
+
+/** 인증 주체(Principal) 캐시 무효화 포트 */
+public interface PrincipalCachePort {
+  /**
+   * 사용자 인증 정보 캐시를 무효화합니다. 역할·상태·이메일 등 인증 정보에 포함되는 값이 바뀐 경우 호출합니다.
+   *
+   * <p>트랜잭션 안에서 호출되면 커밋 이후에 무효화되며, 모든 서버 인스턴스의 로컬 캐시에도 전파됩니다.
+   *
+   * @param userId 사용자 ID
+   */
+  void evictPrincipal(Long userId);
+}
@@ -1,6 +1,7 @@
 package liaison.groble.common.response;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -38,4 +39,47 @@ public class ResponseHelper {
   public <T> ResponseEntity<GrobleResponse<T>> success(T data, HttpStatus status) {
     return success(data, "요청이 성공적으로 처리되었습니다.", status);
   }
+
+  /**
+   * ETag 기반 조건부 응답 생성
+   *
+   * <p>If-None-Match가 현재 ETag와 일치하면 본문 없이 304를 반환하고, 이 경우 응답 변환(data)도 수행하지 않습니다. ETag가 없으면 일반
+   * 성공 응답을 반환합니다.
+   */
+  public <T> ResponseEntity<GrobleResponse<T>> conditional(
+      String eTag, String ifNoneMatch, Supplier<T> data, String message, HttpStatus status) {
+    if (eTag == null) {
+      return success(data.get(), message, status);
+    }
+    if (matchesETag(eTag, ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+    return ResponseEntity.status(status)
+        .eTag(eTag)
+        .body(
+            GrobleResponse.<T>builder()
+                .status(ResponseStatus.SUCCESS)
+                .code(status.value())
+                .message(message)
+                .data(data.get())
+                .timestamp(LocalDateTime.now())
+                .build());
+  }
+
+  private boolean matchesETag(String eTag, String ifNoneMatch) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String trimmed = candidate.trim();
+      // GET 요청의 If-None-Match는 약한 비교를 사용 (W/ 접두어 무시)
+      if (trimmed.startsWith("W/")) {
+        trimmed = trimmed.substring(2);
+      }
+      if ("*".equals(trimmed) || eTag.equals(trimmed)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
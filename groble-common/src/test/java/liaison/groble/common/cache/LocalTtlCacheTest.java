@@ -0,0 +1,39 @@
+package liaison.groble.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class LocalTtlCacheTest {
+
+  @Test
+  void get_treatsExpiredEntryAsMissing() throws InterruptedException {
+    LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofMillis(1));
+    cache.put("key", "value");
+
+    Thread.sleep(5);
+
+    assertThat(cache.get("key")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void put_evictsLeastRecentlyUsedEntriesWhenFull() throws InterruptedException {
+    LocalTtlCache<Integer, String> cache = new LocalTtlCache<>(10, Duration.ofMinutes(1));
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, "v" + i);
+    }
+    // 사용 시각은 일정 간격보다 오래된 경우에만 갱신되므로 간격이 지난 뒤 조회
+    Thread.sleep(150);
+    assertThat(cache.get(0)).isEqualTo("v0");
+
+    cache.put(10, "v10");
+
+    // 최대 건수를 넘으면 90%까지 줄이며, 최근에 조회한 항목과 새 항목은 남김
+    assertThat(cache.size()).isEqualTo(9);
+    assertThat(cache.get(0)).isEqualTo("v0");
+    assertThat(cache.get(10)).isEqualTo("v10");
+  }
+}
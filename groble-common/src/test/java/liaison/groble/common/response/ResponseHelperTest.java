@@ -0,0 +1,70 @@
+package liaison.groble.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ResponseHelperTest {
+  private static final String ETAG = "\"abc123\"";
+
+  private final ResponseHelper responseHelper = new ResponseHelper();
+  private final AtomicInteger conversions = new AtomicInteger();
+
+  @Test
+  void conditional_returnsBodyWithETagWhenNotMatched() {
+    ResponseEntity<GrobleResponse<String>> response = conditional(ETAG, "\"other\"");
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+    assertThat(response.getBody().getData()).isEqualTo("data");
+    assertThat(conversions).hasValue(1);
+  }
+
+  @Test
+  void conditional_returnsNotModifiedWithoutConvertingWhenMatched() {
+    ResponseEntity<GrobleResponse<String>> response = conditional(ETAG, ETAG);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+    assertThat(response.getBody()).isNull();
+    assertThat(conversions).hasValue(0);
+  }
+
+  @Test
+  void conditional_matchesWeakTagsListsAndWildcard() {
+    assertThat(conditional(ETAG, "W/" + ETAG).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(conditional(ETAG, "\"other\", " + ETAG).getStatusCode())
+        .isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(conditional(ETAG, "*").getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(conversions).hasValue(0);
+  }
+
+  @Test
+  void conditional_returnsBodyWhenIfNoneMatchIsMissing() {
+    assertThat(conditional(ETAG, null).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(conditional(ETAG, " ").getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void conditional_omitsETagWhenUnavailable() {
+    ResponseEntity<GrobleResponse<String>> response = conditional(null, "*");
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isNull();
+    assertThat(response.getBody().getData()).isEqualTo("data");
+  }
+
+  private ResponseEntity<GrobleResponse<String>> conditional(String eTag, String ifNoneMatch) {
+    Supplier<String> data =
+        () -> {
+          conversions.incrementAndGet();
+          return "data";
+        };
+    return responseHelper.conditional(eTag, ifNoneMatch, data, "조회 성공", HttpStatus.OK);
+  }
+}
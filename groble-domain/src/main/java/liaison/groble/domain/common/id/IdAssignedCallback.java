@@ -0,0 +1,6 @@
+package liaison.groble.domain.common.id;
+
+/** {@link TimeOrderedId} 식별자가 발급된 직후, INSERT 전에 호출되는 엔티티 콜백 */
+public interface IdAssignedCallback {
+  void idAssigned(Long id);
+}
@@ -0,0 +1,21 @@
+package liaison.groble.domain.common.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 애플리케이션에서 시간순 ID를 발급하는 식별자
+ *
+ * <p>IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT(hibernate.jdbc.batch_size)가 적용되고,
+ * 저장 직후 ID를 쓰기 위해 flush할 필요가 없습니다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {}
@@ -0,0 +1,31 @@
+package liaison.groble.domain.common.id;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/** {@link TimeOrderedId} 식별자를 persist 시점에 발급하는 Hibernate 생성기 */
+public class TimeOrderedIdentifierGenerator implements BeforeExecutionGenerator {
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session,
+      Object owner,
+      Object currentValue,
+      EventType eventType) {
+    long id = TimeOrderedIdGenerator.next();
+    // INSERT 값은 ID 발급 이후에 읽으므로 ID로 만드는 값도 같은 INSERT에 포함됨
+    if (owner instanceof IdAssignedCallback callback) {
+      callback.idAssigned(id);
+    }
+    return id;
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
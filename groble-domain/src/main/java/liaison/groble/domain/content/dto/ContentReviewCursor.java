@@ -0,0 +1,23 @@
+package liaison.groble.domain.content.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 공개 리뷰 커서 조회 위치
+ *
+ * <p>직전 페이지 마지막 리뷰의 정렬 키입니다. LATEST는 createdAt, 별점 정렬은 rating을 사용하며 reviewId로 같은 값 사이의 순서를
+ * 정합니다. 별점이 없는 리뷰는 rating이 null입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ContentReviewCursor {
+  private LocalDateTime createdAt;
+  private BigDecimal rating;
+  private Long reviewId;
+}
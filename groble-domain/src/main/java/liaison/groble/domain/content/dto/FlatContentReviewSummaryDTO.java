@@ -0,0 +1,24 @@
+package liaison.groble.domain.content.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 콘텐츠별 ACTIVE 리뷰 집계 (content_review_summary) */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlatContentReviewSummaryDTO {
+  private Long contentId;
+  private long reviewCount;
+  private BigDecimal ratingSum;
+  private long rating1Count;
+  private long rating2Count;
+  private long rating3Count;
+  private long rating4Count;
+  private long rating5Count;
+}
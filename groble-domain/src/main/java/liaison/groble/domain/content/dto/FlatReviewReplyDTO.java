@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class FlatReviewReplyDTO {
+  private Long reviewId;
   private Long replyId;
   private LocalDateTime createdAt;
   private String replierNickname;
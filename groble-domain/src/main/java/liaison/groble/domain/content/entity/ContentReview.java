@@ -44,6 +44,12 @@ import lombok.NoArgsConstructor;
       @Index(
           name = "idx_content_reviews_content_rating",
           columnList = "content_id, rating, review_status"),
+      @Index(
+          name = "idx_content_reviews_content_status_created_id",
+          columnList = "content_id, review_status, created_at, id"),
+      @Index(
+          name = "idx_content_reviews_content_status_rating_id",
+          columnList = "content_id, review_status, rating, id"),
       @Index(name = "idx_content_reviews_purchase", columnList = "purchase_id")
     })
 @Getter
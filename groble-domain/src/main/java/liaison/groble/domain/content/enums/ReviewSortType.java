@@ -0,0 +1,7 @@
+package liaison.groble.domain.content.enums;
+
+public enum ReviewSortType {
+  LATEST, // 최신순
+  RATING_HIGH, // 별점 높은순
+  RATING_LOW // 별점 낮은순
+}
@@ -11,4 +11,6 @@ public interface ContentReplyCustomRepository {
   void deleteReply(Long userId, Long reviewId, Long replyId);
 
   List<FlatReviewReplyDTO> findRepliesByReviewId(Long reviewId);
+
+  List<FlatReviewReplyDTO> findRepliesByReviewIds(List<Long> reviewIds);
 }
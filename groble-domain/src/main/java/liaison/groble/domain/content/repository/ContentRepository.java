@@ -1,6 +1,7 @@
 package liaison.groble.domain.content.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import liaison.groble.domain.content.dto.FlatContentPreviewDTO;
@@ -23,6 +24,9 @@ public interface ContentRepository {
 
   void delete(Content content);
 
+  /** 콘텐츠별 조회수 증가분을 view_count에 가산합니다. (contentId → 증가분) */
+  void incrementViewCounts(Map<Long, Long> deltas);
+
   Optional<FlatContentPreviewDTO> findFlatContentById(Long contentId);
 
   List<FlatContentPreviewDTO> findFlatContentsByUserId(Long userId);
@@ -6,9 +6,11 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import liaison.groble.domain.content.dto.ContentReviewCursor;
 import liaison.groble.domain.content.dto.FlatContentReviewDetailDTO;
 import liaison.groble.domain.content.dto.FlatContentReviewReplyDTO;
 import liaison.groble.domain.content.entity.ContentReview;
+import liaison.groble.domain.content.enums.ReviewSortType;
 
 public interface ContentReviewCustomRepository {
   Optional<ContentReview> getContentReview(Long userId, Long reviewId);
@@ -26,6 +28,14 @@ public interface ContentReviewCustomRepository {
 
   List<FlatContentReviewReplyDTO> findReviewsWithRepliesByContentId(Long contentId);
 
+  /**
+   * 공개(ACTIVE) 리뷰를 정렬 순서대로 커서 다음 위치부터 조회합니다. 답글 필드는 채우지 않습니다.
+   *
+   * @param cursor 직전 페이지 마지막 리뷰의 정렬 키, 첫 페이지는 null
+   */
+  List<FlatContentReviewReplyDTO> findReviewsByContentIdAfter(
+      Long contentId, ReviewSortType sortType, ContentReviewCursor cursor, int limit);
+
   void updateContentReviewStatusToDeleteRequested(Long userId, Long reviewId);
 
   void deleteContentReview(Long userId, Long reviewId);
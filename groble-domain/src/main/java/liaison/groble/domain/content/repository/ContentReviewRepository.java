@@ -7,6 +7,8 @@ import liaison.groble.domain.content.entity.ContentReview;
 public interface ContentReviewRepository {
   ContentReview save(ContentReview contentReview);
 
+  ContentReview saveAndFlush(ContentReview contentReview);
+
   Optional<ContentReview> getContentReviewById(Long reviewId);
 
   boolean existsContentReview(Long userId, Long contentId);
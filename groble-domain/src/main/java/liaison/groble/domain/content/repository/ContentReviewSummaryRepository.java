@@ -0,0 +1,12 @@
+package liaison.groble.domain.content.repository;
+
+import java.util.Optional;
+
+import liaison.groble.domain.content.dto.FlatContentReviewSummaryDTO;
+
+public interface ContentReviewSummaryRepository {
+  Optional<FlatContentReviewSummaryDTO> findByContentId(Long contentId);
+
+  /** 콘텐츠의 ACTIVE 리뷰로 집계를 다시 계산해 저장합니다. */
+  void refresh(Long contentId);
+}
@@ -0,0 +1,22 @@
+package liaison.groble.domain.dashboard.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 조회 로그 집계용 경량 프로젝션 (콘텐츠/마켓 공용, targetId = contentId 또는 marketId) */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlatViewLogDTO {
+  private Long id;
+  private Long targetId;
+  private Long viewerId;
+  private String visitorHash;
+  private String viewerIp;
+  private LocalDateTime viewedAt;
+}
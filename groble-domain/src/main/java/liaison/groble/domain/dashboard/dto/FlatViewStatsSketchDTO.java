@@ -0,0 +1,22 @@
+package liaison.groble.domain.dashboard.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 일별 조회 통계 스케치 프로젝션 (월별 병합용, targetId = contentId 또는 marketId) */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlatViewStatsSketchDTO {
+  private Long id;
+  private Long targetId;
+  private LocalDate statDate;
+  private Long viewCount;
+  private byte[] uniqueViewerSketch;
+  private byte[] loggedInViewerSketch;
+}
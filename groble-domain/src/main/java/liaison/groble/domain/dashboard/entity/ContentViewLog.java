@@ -1,6 +1,5 @@
 package liaison.groble.domain.dashboard.entity;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 import java.time.LocalDateTime;
@@ -8,7 +7,6 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
@@ -16,6 +14,8 @@ import jakarta.persistence.Table;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import liaison.groble.domain.common.id.TimeOrderedId;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,7 +28,8 @@ import lombok.NoArgsConstructor;
     name = "content_view_logs",
     indexes = {
       @Index(name = "idx_cvl_content_viewed", columnList = "content_id, viewed_at"),
-      @Index(name = "idx_cvl_visitor_hash", columnList = "content_id, viewed_at, visitor_hash")
+      @Index(name = "idx_cvl_visitor_hash", columnList = "content_id, viewed_at, visitor_hash"),
+      @Index(name = "idx_cvl_viewed_at", columnList = "viewed_at")
     })
 @Getter
 @Builder
@@ -36,7 +37,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ContentViewLog {
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @Column(name = "content_id", nullable = false)
@@ -1,19 +1,19 @@
 package liaison.groble.domain.dashboard.entity;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import org.springframework.data.annotation.CreatedDate;
 
+import liaison.groble.domain.common.id.TimeOrderedId;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,7 +30,8 @@ import lombok.NoArgsConstructor;
     name = "market_view_logs",
     indexes = {
       @Index(name = "idx_mvl_market_viewed", columnList = "market_id, viewed_at"),
-      @Index(name = "idx_mvl_visitor_hash", columnList = "market_id, viewed_at, visitor_hash")
+      @Index(name = "idx_mvl_visitor_hash", columnList = "market_id, viewed_at, visitor_hash"),
+      @Index(name = "idx_mvl_viewed_at", columnList = "viewed_at")
     })
 @Getter
 @Builder
@@ -38,7 +39,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class MarketViewLog {
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @Column(name = "market_id", nullable = false)
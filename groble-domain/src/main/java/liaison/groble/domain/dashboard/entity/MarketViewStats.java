@@ -11,6 +11,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -28,7 +29,8 @@ import lombok.NoArgsConstructor;
     uniqueConstraints =
         @UniqueConstraint(
             name = "uk_mvs_market_date_period",
-            columnNames = {"market_id", "stat_date", "period_type"}))
+            columnNames = {"market_id", "stat_date", "period_type"}),
+    indexes = @Index(name = "idx_mvs_period_date", columnList = "period_type, stat_date"))
 @Getter
 @Builder
 @NoArgsConstructor(access = PROTECTED)
@@ -56,4 +58,11 @@ public class MarketViewStats extends BaseTimeEntity {
 
   @Column(name = "logged_in_viewer_count", nullable = false, columnDefinition = "bigint default 0")
   private Long loggedInViewerCount = 0L;
+
+  // 일별 HyperLogLog 스케치 (월별 고유 방문자 병합용, 월별 행은 저장하지 않음)
+  @Column(name = "unique_viewer_sketch", columnDefinition = "varbinary(4097)")
+  private byte[] uniqueViewerSketch;
+
+  @Column(name = "logged_in_viewer_sketch", columnDefinition = "varbinary(4097)")
+  private byte[] loggedInViewerSketch;
 }
@@ -1,13 +1,11 @@
 package liaison.groble.domain.dashboard.entity;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
@@ -15,6 +13,7 @@ import jakarta.persistence.Table;
 import org.hibernate.annotations.Comment;
 
 import liaison.groble.domain.common.entity.BaseTimeEntity;
+import liaison.groble.domain.common.id.TimeOrderedId;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,7 +39,7 @@ import lombok.NoArgsConstructor;
 public class ReferrerTracking extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @Column(name = "content_id", length = 255)
@@ -1,7 +1,11 @@
 package liaison.groble.domain.dashboard.repository;
 
+import java.util.List;
+
 import liaison.groble.domain.dashboard.entity.ContentReferrerEvent;
 
 public interface ContentReferrerEventRepository {
   ContentReferrerEvent save(ContentReferrerEvent contentReferrerEvent);
+
+  void saveAllInBatch(List<ContentReferrerEvent> events);
 }
@@ -1,6 +1,7 @@
 package liaison.groble.domain.dashboard.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import liaison.groble.domain.dashboard.entity.ContentReferrerStats;
@@ -10,6 +11,9 @@ public interface ContentReferrerStatsRepository {
 
   void delete(ContentReferrerStats contentReferrerStats);
 
+  /** 통계 ID별 방문 수 증가분을 visit_count에 가산합니다. (statsId → 증가분) */
+  void incrementVisitCounts(Map<Long, Integer> deltas);
+
   Optional<ContentReferrerStats> findByContentIdAndReferrerDomainAndSourceAndMediumAndCampaign(
       Long contentId, String referrerDomain, String source, String medium, String campaign);
 
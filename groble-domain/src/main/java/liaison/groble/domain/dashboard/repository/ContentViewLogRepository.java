@@ -3,12 +3,22 @@ package liaison.groble.domain.dashboard.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
 import liaison.groble.domain.dashboard.entity.ContentViewLog;
 
 public interface ContentViewLogRepository {
   ContentViewLog save(ContentViewLog contentViewLog);
 
-  List<ContentViewLog> findByViewedAtBetween(LocalDateTime start, LocalDateTime end);
+  /** 다건 INSERT 문으로 로그를 일괄 저장합니다. (쓰기 지연 버퍼 플러시용) */
+  void saveAllInBatch(List<ContentViewLog> logs);
+
+  /**
+   * [start, end) 구간 로그를 (viewedAt, id) 키셋으로 limit 건씩 조회합니다.
+   *
+   * <p>첫 호출은 lastViewedAt = start, lastId = 0 으로 시작합니다.
+   */
+  List<FlatViewLogDTO> findViewLogChunk(
+      LocalDateTime end, LocalDateTime lastViewedAt, Long lastId, int limit);
 
   List<ContentViewLog> findByContentIdsAndViewedAtBetween(
       List<Long> contentIds, LocalDateTime start, LocalDateTime end);
@@ -1,7 +1,11 @@
 package liaison.groble.domain.dashboard.repository;
 
+import java.util.List;
+
 import liaison.groble.domain.dashboard.entity.MarketReferrerEvent;
 
 public interface MarketReferrerEventRepository {
   MarketReferrerEvent save(MarketReferrerEvent marketReferrerEvent);
+
+  void saveAllInBatch(List<MarketReferrerEvent> events);
 }
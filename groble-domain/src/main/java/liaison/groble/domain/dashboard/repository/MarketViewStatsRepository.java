@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import liaison.groble.domain.common.enums.PeriodType;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
 import liaison.groble.domain.dashboard.entity.MarketViewStats;
 
 public interface MarketViewStatsRepository {
@@ -11,5 +12,9 @@ public interface MarketViewStatsRepository {
 
   void deleteByStatDateAndPeriodType(LocalDate date, PeriodType periodType);
 
+  /** [startDate, endDate] 일별 통계 스케치를 (statDate, id) 키셋으로 limit 건씩 조회합니다. */
+  List<FlatViewStatsSketchDTO> findDailySketchChunk(
+      LocalDate endDate, LocalDate lastStatDate, Long lastId, int limit);
+
   Long getTotalMarketViews(Long sellerId, LocalDate startDate, LocalDate endDate);
 }
@@ -0,0 +1,17 @@
+package liaison.groble.domain.dashboard.repository;
+
+import java.util.List;
+
+import liaison.groble.domain.dashboard.entity.ReferrerTracking;
+
+/**
+ * 유입경로 일별 롤업 저장소
+ *
+ * <p>원본 유입 기록(referrer_tracking) 저장 시점에 대상(콘텐츠/마켓)·일자·차원(리퍼러 URL, 정규화 도메인, UTM)별 방문 수를 1 증가시킵니다.
+ * 대시보드 유입경로 통계는 원본 대신 이 롤업을 조회합니다.
+ */
+public interface ReferrerStatsDailyRepository {
+
+  /** 저장된 유입 기록을 건별로 일별 롤업에 반영합니다. */
+  void incrementAll(List<ReferrerTracking> trackings);
+}
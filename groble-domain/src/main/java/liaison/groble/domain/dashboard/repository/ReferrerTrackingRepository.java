@@ -1,6 +1,7 @@
 package liaison.groble.domain.dashboard.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import liaison.groble.domain.dashboard.entity.ReferrerTracking;
@@ -9,6 +10,8 @@ public interface ReferrerTrackingRepository {
 
   ReferrerTracking save(ReferrerTracking referrerTracking);
 
+  void saveAllInBatch(List<ReferrerTracking> trackings);
+
   Optional<ReferrerTracking> findRecentContentTracking(String sessionId, String contentId);
 
   Optional<ReferrerTracking> findRecentMarketTracking(String sessionId, String marketLinkUrl);
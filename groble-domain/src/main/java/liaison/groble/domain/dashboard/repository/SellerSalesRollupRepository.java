@@ -0,0 +1,31 @@
+package liaison.groble.domain.dashboard.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import liaison.groble.domain.dashboard.dto.FlatDashboardOverviewDTO;
+
+/**
+ * 판매자 매출 롤업 저장소
+ *
+ * <p>구매별 반영 상태를 원장(seller_sales_purchases)에 기록하고, 상태가 바뀐 경우에만 일별 매출·누적/월별 합계·고유 고객 집합에 증감분을
+ * 반영합니다. 같은 구매를 여러 번 동기화해도 결과가 달라지지 않습니다.
+ */
+public interface SellerSalesRollupRepository {
+
+  /**
+   * 구매의 현재 상태(결제 완료 & 미취소)를 롤업에 반영합니다.
+   *
+   * @return 롤업 값이 변경되었으면 true
+   */
+  boolean syncPurchase(Long purchaseId);
+
+  /** 판매자의 누적 및 해당 월 매출/고객 수를 조회합니다. */
+  FlatDashboardOverviewDTO getOverview(Long sellerId, YearMonth month);
+
+  /** 구매 이력이 있는 판매자 ID를 키셋으로 limit 건씩 조회합니다. */
+  List<Long> findSellerIdsWithPurchases(Long lastSellerId, int limit);
+
+  /** 판매자의 롤업을 purchases 기준으로 다시 계산합니다. */
+  void rebuildSeller(Long sellerId);
+}
@@ -1,13 +1,20 @@
 package liaison.groble.domain.file.entity;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import lombok.Builder;
+import lombok.Getter;
 
+@Getter
 @Builder
 public class PresignedUrlInfo {
   private String key;
   private String url;
   private LocalDateTime expiration;
   private String contentType;
+  // 업로드 요청에 그대로 포함해야 하는 서명된 헤더
+  private Map<String, String> headers;
+  // 업로드 완료 후 접근할 공개 URL
+  private String fileUrl;
 }
@@ -0,0 +1,15 @@
+package liaison.groble.domain.file.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** 스토리지에 저장된 파일의 메타데이터 */
+@Getter
+@Builder
+public class StoredFileInfo {
+  private String key;
+  private String fileUrl;
+  private String contentType;
+  private long contentLength;
+  private Long uploaderId;
+}
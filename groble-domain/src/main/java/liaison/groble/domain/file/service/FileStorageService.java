@@ -1,6 +1,10 @@
 package liaison.groble.domain.file.service;
 
 import java.io.InputStream;
+import java.util.Optional;
+
+import liaison.groble.domain.file.entity.PresignedUrlInfo;
+import liaison.groble.domain.file.entity.StoredFileInfo;
 
 public interface FileStorageService {
   /**
@@ -14,6 +18,43 @@ public interface FileStorageService {
    */
   String uploadFile(InputStream inputStream, String fileName, String contentType, String directory);
 
+  /**
+   * 크기를 알고 있는 파일을 S3에 스트리밍 업로드합니다. 임계값 이상의 파일은 멀티파트로 업로드합니다.
+   *
+   * @param inputStream 파일 데이터
+   * @param contentLength 파일 크기 (byte)
+   * @param fileName 저장할 파일명
+   * @param contentType 파일 타입
+   * @param directory 저장할 디렉토리
+   * @return 업로드된 파일 URL
+   */
+  String uploadFile(
+      InputStream inputStream,
+      long contentLength,
+      String fileName,
+      String contentType,
+      String directory);
+
+  /**
+   * 클라이언트가 S3에 직접 업로드할 수 있는 PUT presigned URL을 발급합니다.
+   *
+   * @param fileName 저장할 파일명
+   * @param contentType 파일 타입 (업로드 시 동일한 Content-Type 헤더 필요)
+   * @param directory 저장할 디렉토리
+   * @param uploaderId 업로더 ID (객체 메타데이터로 서명되어 업로드 완료 시 검증에 사용)
+   * @return presigned URL 정보
+   */
+  PresignedUrlInfo generatePresignedUploadUrl(
+      String fileName, String contentType, String directory, Long uploaderId);
+
+  /**
+   * 저장된 파일의 메타데이터를 조회합니다.
+   *
+   * @param fileKey S3 파일 키
+   * @return 파일이 없으면 빈 값
+   */
+  Optional<StoredFileInfo> findStoredFile(String fileKey);
+
   /**
    * 파일을 삭제합니다.
    *
@@ -1,5 +1,6 @@
 package liaison.groble.domain.guest.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -10,6 +11,8 @@ import liaison.groble.domain.guest.entity.GuestUser;
 public interface GuestUserRepository {
   Optional<GuestUser> findById(Long guestUserId);
 
+  List<GuestUser> findByIdIn(List<Long> guestUserIds);
+
   Optional<GuestUser> findByPhoneNumber(String phoneNumber);
 
   boolean existsByPhoneNumber(String phone);
@@ -0,0 +1,23 @@
+package liaison.groble.domain.lock.repository;
+
+import java.time.Duration;
+
+/** 여러 노드 중 하나만 작업을 수행하도록 보장하는 만료 시각 기반 잠금 저장소 */
+public interface SchedulerLockRepository {
+
+  /**
+   * 잠금이 비어 있거나 만료되었으면 획득합니다. 이미 보유 중인 노드가 다시 호출하면 만료 시각을 연장합니다.
+   *
+   * @return 획득(또는 연장) 여부
+   */
+  boolean tryAcquire(String name, String owner, Duration lease);
+
+  /**
+   * 보유 중인 잠금의 만료 시각을 연장합니다.
+   *
+   * @return 잠금을 여전히 보유하고 있으면 true
+   */
+  boolean extend(String name, String owner, Duration lease);
+
+  void release(String name, String owner);
+}
@@ -9,8 +9,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -24,6 +22,7 @@ import jakarta.persistence.Transient;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import liaison.groble.domain.common.id.TimeOrderedId;
 import liaison.groble.domain.notification.entity.detail.CertifyDetails;
 import liaison.groble.domain.notification.entity.detail.PurchaseDetails;
 import liaison.groble.domain.notification.entity.detail.ReviewDetails;
@@ -49,7 +48,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Notification {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
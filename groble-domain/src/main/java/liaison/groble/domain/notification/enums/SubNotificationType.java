@@ -17,5 +17,6 @@ public enum SubNotificationType {
   MAKER_CERTIFY_REJECTED, // 메이커 인증 반려 [✅ 메이커 인증이 반려됐어요] - 📄[V]
 
   // SYSTEM [시스템 관련]
-  WELCOME_GROBLE // 그로블 환영 [✅ 그로블에 오신 것을 환영합니다!] - 📄[V]
+  WELCOME_GROBLE, // 그로블 환영 [✅ 그로블에 오신 것을 환영합니다!] - 📄[V]
+  SCHEDULED_NOTICE // 관리자 예약 공지 [✅ 예약 알림 제목]
 }
@@ -0,0 +1,22 @@
+package liaison.groble.domain.notification.queue.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** 메일 발송 큐 항목 (등록 시에는 id, attemptCount, createdAt이 비어 있음) */
+@Getter
+@Builder
+public class EmailSendQueueItemDTO {
+  private final Long id;
+  private final String template;
+  private final String recipient;
+  // 템플릿 값 JSON (발송 완료 후 삭제)
+  private final String params;
+  // 이 시각이 지나면 발송하지 않음 (null이면 제한 없음)
+  private final LocalDateTime expiresAt;
+  // 이번 시도를 포함한 누적 시도 횟수
+  private final int attemptCount;
+  private final LocalDateTime createdAt;
+}
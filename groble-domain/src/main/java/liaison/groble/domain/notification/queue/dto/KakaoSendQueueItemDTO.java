@@ -0,0 +1,22 @@
+package liaison.groble.domain.notification.queue.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** 알림톡 발송 큐 항목 (등록 시에는 id, attemptCount가 비어 있음) */
+@Getter
+@Builder
+public class KakaoSendQueueItemDTO {
+  private final Long id;
+  private final String notificationType;
+  private final String templateCode;
+  private final String phoneNumber;
+  private final String title;
+  private final String content;
+  // 버튼 목록 JSON
+  private final String buttons;
+  private final String senderKey;
+  private final String refKey;
+  // 이번 시도를 포함한 누적 시도 횟수
+  private final int attemptCount;
+}
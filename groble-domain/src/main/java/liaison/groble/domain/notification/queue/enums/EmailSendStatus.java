@@ -0,0 +1,13 @@
+package liaison.groble.domain.notification.queue.enums;
+
+/** 메일 발송 큐 상태 */
+public enum EmailSendStatus {
+  /** 발송 대기 (최초 등록 또는 재시도 대기) */
+  PENDING,
+  /** 발송 워커가 점유하여 발송 중 */
+  PROCESSING,
+  /** SMTP 서버 접수 완료 */
+  SENT,
+  /** 최대 재시도 초과, 유효 시간 경과 또는 재시도해도 성공할 수 없는 요청 (dead-letter) */
+  DEAD
+}
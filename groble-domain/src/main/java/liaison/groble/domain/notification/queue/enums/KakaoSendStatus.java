@@ -0,0 +1,17 @@
+package liaison.groble.domain.notification.queue.enums;
+
+/** 알림톡 발송 큐 상태 */
+public enum KakaoSendStatus {
+  /** 발송 대기 (최초 등록 또는 재시도 대기) */
+  PENDING,
+  /** 발송 워커가 점유하여 발송 중 */
+  PROCESSING,
+  /** 비즈뿌리오 접수 완료, 전달 결과 리포트 대기 */
+  SENT,
+  /** 전달 성공 리포트 수신 */
+  DELIVERED,
+  /** 전달 실패 리포트 수신 또는 리포트 미수신 */
+  UNDELIVERED,
+  /** 최대 재시도 초과 또는 재시도해도 성공할 수 없는 요청 (dead-letter) */
+  DEAD
+}
@@ -0,0 +1,36 @@
+package liaison.groble.domain.notification.queue.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import liaison.groble.domain.notification.queue.dto.EmailSendQueueItemDTO;
+
+public interface EmailSendQueueRepository {
+
+  /** 발송 대기 항목을 등록합니다. 현재 트랜잭션이 있으면 함께 커밋됩니다. */
+  void enqueue(EmailSendQueueItemDTO item);
+
+  /**
+   * 발송 가능한 항목을 점유하고 시도 횟수를 1 증가시킵니다. 다른 인스턴스가 점유 중인 행은 건너뛰며(SKIP LOCKED), 점유 기간(lease) 안에 결과가
+   * 기록되지 않은 행은 다시 점유 대상이 됩니다. 단, 시도 횟수가 maxAttempts에 도달한 채 점유가 만료된 행은 다시 점유하지 않고 DEAD로 변경합니다.
+   */
+  List<EmailSendQueueItemDTO> claimBatch(int limit, Duration lease, int maxAttempts);
+
+  /**
+   * 발송 완료된 항목을 기록하고 템플릿 값(인증 코드, 토큰 등)을 삭제합니다. 아래 결과 기록 메서드는 모두 점유 이후 다른 워커가 다시 점유하지 않은 경우에만
+   * 반영됩니다.
+   *
+   * @return 실제로 반영된 항목 (점유를 잃은 항목 제외)
+   */
+  List<EmailSendQueueItemDTO> markSent(List<EmailSendQueueItemDTO> items);
+
+  /** 재시도 대기로 되돌립니다. 점유를 잃은 경우 false를 반환합니다. */
+  boolean markRetry(EmailSendQueueItemDTO item, LocalDateTime nextAttemptAt, String error);
+
+  /** dead-letter로 기록하고 템플릿 값을 삭제합니다. 점유를 잃은 경우 false를 반환합니다. */
+  boolean markDead(EmailSendQueueItemDTO item, String error);
+
+  /** 지정 시각 이전에 발송 완료된 항목을 최대 limit 건 삭제합니다. */
+  int deleteSentBefore(LocalDateTime before, int limit);
+}
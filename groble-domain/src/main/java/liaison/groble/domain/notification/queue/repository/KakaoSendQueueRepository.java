@@ -0,0 +1,45 @@
+package liaison.groble.domain.notification.queue.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+
+public interface KakaoSendQueueRepository {
+
+  /** 발송 대기 항목을 일괄 등록합니다. 현재 트랜잭션이 있으면 함께 커밋됩니다. */
+  void enqueue(List<KakaoSendQueueItemDTO> items);
+
+  /**
+   * 발송 가능한 항목을 점유하고 시도 횟수를 1 증가시킵니다. 다른 인스턴스가 점유 중인 행은 건너뛰며(SKIP LOCKED), 점유 기간(lease) 안에 결과가
+   * 기록되지 않은 행은 다시 점유 대상이 됩니다. 단, 시도 횟수가 maxAttempts에 도달한 채 점유가 만료된 행은 다시 점유하지 않고 DEAD로 변경합니다.
+   */
+  List<KakaoSendQueueItemDTO> claimBatch(int limit, Duration lease, int maxAttempts);
+
+  /**
+   * 접수 완료된 항목을 리포트 대기 상태로 변경합니다. 아래 결과 기록 메서드는 모두 점유 이후 다른 워커가 다시 점유하지 않은 경우에만 반영되며, 점유를 잃었으면
+   * false를 반환합니다.
+   */
+  boolean markSent(KakaoSendQueueItemDTO item, String messageKey);
+
+  boolean markRetry(KakaoSendQueueItemDTO item, LocalDateTime nextAttemptAt, String error);
+
+  /** 발송을 시도하지 않고 대기로 돌립니다. 점유 시 증가한 시도 횟수를 되돌립니다. */
+  boolean markDeferred(KakaoSendQueueItemDTO item, LocalDateTime nextAttemptAt, String reason);
+
+  boolean markDead(KakaoSendQueueItemDTO item, String error);
+
+  /**
+   * 전달 결과 리포트를 반영합니다. 리포트 대기 중이거나, 접수 결과가 기록되기 전에 리포트가 먼저 도착한 발송 중 항목만 변경됩니다.
+   *
+   * @return 반영되었으면 true
+   */
+  boolean applyReport(String refKey, boolean delivered, String reportCode);
+
+  /** 지정 시각 이전에 접수되고 리포트가 오지 않은 항목을 최대 limit 건 전달 실패로 처리합니다. */
+  int markUnreportedBefore(LocalDateTime sentBefore, int limit);
+
+  /** 지정 시각 이전에 전달 완료된 항목을 최대 limit 건 삭제합니다. */
+  int deleteDeliveredBefore(LocalDateTime before, int limit);
+}
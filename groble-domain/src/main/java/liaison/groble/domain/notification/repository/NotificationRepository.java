@@ -1,8 +1,10 @@
 package liaison.groble.domain.notification.repository;
 
+import java.util.Map;
 import java.util.Optional;
 
 import liaison.groble.domain.notification.entity.Notification;
+import liaison.groble.domain.notification.enums.SubNotificationType;
 
 public interface NotificationRepository {
   Notification save(Notification notification);
@@ -10,4 +12,13 @@ public interface NotificationRepository {
   Optional<Notification> findByIdAndUserId(Long notificationId, Long userId);
 
   long countUnreadByUserId(Long userId);
+
+  /**
+   * 시스템 알림을 일괄 저장합니다. 엔티티를 거치지 않고 배치 INSERT로 기록합니다.
+   *
+   * @param detailsByReceiverId 수신자 ID별 세부 정보 JSON
+   * @return 저장한 알림 수
+   */
+  int saveAllSystemNotifications(
+      SubNotificationType subNotificationType, Map<Long, String> detailsByReceiverId);
 }
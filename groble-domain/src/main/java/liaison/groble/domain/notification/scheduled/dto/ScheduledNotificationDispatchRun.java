@@ -0,0 +1,20 @@
+package liaison.groble.domain.notification.scheduled.dto;
+
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationChannel;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSegmentType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSendType;
+
+/** 발송 노드가 점유한 실행 건과 발송에 필요한 예약 알림 정보 */
+public record ScheduledNotificationDispatchRun(
+    Long runId,
+    Long scheduledNotificationId,
+    ScheduledNotificationChannel channel,
+    ScheduledNotificationSendType sendType,
+    String title,
+    String content,
+    String bizTemplateCode,
+    String bizSenderKey,
+    ScheduledNotificationSegmentType segmentType,
+    String segmentPayload,
+    long lastRecipientId,
+    int retryCount) {}
@@ -0,0 +1,3 @@
+package liaison.groble.domain.notification.scheduled.dto;
+
+public record ScheduledNotificationRecipient(Long userId, String nickname, String phoneNumber) {}
@@ -0,0 +1,11 @@
+package liaison.groble.domain.notification.scheduled.dto;
+
+import java.time.LocalDateTime;
+
+/** 반복 예약 알림의 다음 실행 시각 계산에 필요한 정보 */
+public record ScheduledNotificationRecurrence(
+    Long scheduledNotificationId,
+    String repeatCron,
+    String timezone,
+    LocalDateTime scheduledAt,
+    LocalDateTime lastExecutionTime) {}
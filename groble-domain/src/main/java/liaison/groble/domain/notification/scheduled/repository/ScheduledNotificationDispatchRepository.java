@@ -0,0 +1,76 @@
+package liaison.groble.domain.notification.scheduled.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationDispatchRun;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecipient;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecurrence;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSegmentType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationStatus;
+
+/** 예약 알림 발송 엔진용 저장소 (실행 건 생성·점유·체크포인트, 세그먼트 수신자 조회) */
+public interface ScheduledNotificationDispatchRepository {
+
+  /** 발송 시각이 지난 단건 예약 알림의 실행 건을 생성합니다. 이미 생성된 실행 건은 무시합니다. */
+  int createDueOnceRuns(LocalDateTime now);
+
+  List<ScheduledNotificationRecurrence> findActiveRecurrences();
+
+  /** @return 새로 생성했으면 true, 같은 실행 시각의 실행 건이 이미 있으면 false */
+  boolean createRunIfAbsent(Long scheduledNotificationId, LocalDateTime executionTime);
+
+  /** 취소되었거나 더 이상 발송 대상이 아닌 예약 알림의 대기·진행 중 실행 건을 취소합니다. */
+  int cancelRunsOfInactiveNotifications(LocalDateTime now);
+
+  /**
+   * 실행 시각이 된 대기 건 또는 점유가 만료된 진행 건 하나를 점유합니다. 여러 노드가 동시에 호출해도 같은 실행 건을 가져가지 않습니다.
+   *
+   * @param owner 점유 노드 식별자
+   * @param lease 점유 유지 시간
+   */
+  Optional<ScheduledNotificationDispatchRun> claimRun(String owner, Duration lease);
+
+  /**
+   * 한 페이지 발송 결과를 누적하고 커서와 점유 만료 시각을 갱신합니다.
+   *
+   * @return 점유를 잃었거나 실행 건이 취소되었으면 false
+   */
+  boolean checkpoint(
+      Long runId,
+      String owner,
+      long lastRecipientId,
+      int targetCount,
+      int successCount,
+      int failCount,
+      Duration lease);
+
+  boolean completeRun(Long runId, String owner);
+
+  /** 발송 오류로 점유를 반납하고 대기 상태로 되돌립니다. 재시도 횟수가 증가하며, 커서는 유지되어 다음 점유 시 이어서 발송합니다. */
+  boolean releaseRun(Long runId, String owner, String errorMessage);
+
+  /** 노드 종료 등으로 점유를 반납합니다. 재시도 횟수는 증가하지 않습니다. */
+  boolean yieldRun(Long runId, String owner);
+
+  boolean failRun(Long runId, String owner, String errorMessage);
+
+  /** 발송 대기(READY) 중인 예약 알림의 상태를 변경합니다. 단건 예약 알림의 발송 종료 시 사용합니다. */
+  void finishNotification(Long scheduledNotificationId, ScheduledNotificationStatus status);
+
+  /**
+   * 세그먼트 수신자를 사용자 ID 오름차순 keyset 방식으로 조회합니다.
+   *
+   * @param customUserIds CUSTOM 세그먼트의 대상 사용자 ID (그 외 세그먼트는 무시)
+   * @param requirePhoneNumber 휴대폰 번호가 있는 사용자만 조회할지 여부
+   * @param afterUserId 이 ID보다 큰 사용자부터 조회
+   */
+  List<ScheduledNotificationRecipient> findRecipients(
+      ScheduledNotificationSegmentType segmentType,
+      List<Long> customUserIds,
+      boolean requirePhoneNumber,
+      long afterUserId,
+      int limit);
+}
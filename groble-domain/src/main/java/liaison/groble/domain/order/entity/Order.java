@@ -14,8 +14,6 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -26,6 +24,8 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 import liaison.groble.domain.common.entity.BaseTimeEntity;
+import liaison.groble.domain.common.id.IdAssignedCallback;
+import liaison.groble.domain.common.id.TimeOrderedId;
 import liaison.groble.domain.content.entity.Content;
 import liaison.groble.domain.content.enums.ContentStatus;
 import liaison.groble.domain.coupon.entity.UserCoupon;
@@ -51,10 +51,10 @@ import lombok.NoArgsConstructor;
     })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Order extends BaseTimeEntity {
+public class Order extends BaseTimeEntity implements IdAssignedCallback {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -263,6 +263,14 @@ public class Order extends BaseTimeEntity {
     this.merchantUid = merchantUid;
   }
 
+  /** ID 발급과 함께 merchantUid를 정해 주문을 INSERT 한 번으로 저장합니다. */
+  @Override
+  public void idAssigned(Long id) {
+    if (this.merchantUid == null) {
+      this.merchantUid = generateMerchantUid(id);
+    }
+  }
+
   // 팩토리 메서드 수정 (쿠폰 지원)
   public static Order createOrderWithCoupon(
       User user,
@@ -7,14 +7,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 import liaison.groble.domain.common.entity.BaseTimeEntity;
+import liaison.groble.domain.common.id.TimeOrderedId;
 import liaison.groble.domain.content.entity.Content;
 
 import lombok.AccessLevel;
@@ -29,7 +28,7 @@ import lombok.NoArgsConstructor;
 public class OrderItem extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,17 @@
+package liaison.groble.domain.outbox.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** 릴레이가 점유한 아웃박스 이벤트 */
+@Getter
+@Builder
+public class OutboxEventDTO {
+  private final Long id;
+  private final String eventType;
+  private final String aggregateType;
+  private final Long aggregateId;
+  private final String payload;
+  // 이번 시도를 포함한 누적 시도 횟수
+  private final int attemptCount;
+}
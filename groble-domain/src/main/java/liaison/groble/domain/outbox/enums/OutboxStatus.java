@@ -0,0 +1,13 @@
+package liaison.groble.domain.outbox.enums;
+
+/** 아웃박스 이벤트 전달 상태 */
+public enum OutboxStatus {
+  /** 전달 대기 (최초 기록 또는 재시도 대기) */
+  PENDING,
+  /** 릴레이가 점유하여 전달 중 */
+  PROCESSING,
+  /** 전달 완료 */
+  DONE,
+  /** 최대 재시도 초과 또는 처리기 없음 */
+  FAILED
+}
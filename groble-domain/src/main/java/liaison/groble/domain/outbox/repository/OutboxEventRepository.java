@@ -0,0 +1,35 @@
+package liaison.groble.domain.outbox.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import liaison.groble.domain.outbox.dto.OutboxEventDTO;
+
+public interface OutboxEventRepository {
+
+  /** 현재 트랜잭션에 이벤트를 기록합니다. */
+  void append(String eventType, String aggregateType, Long aggregateId, String payload);
+
+  /**
+   * 전달 가능한 이벤트를 점유하고 시도 횟수를 1 증가시킵니다. 다른 인스턴스가 점유 중인 행은 건너뛰며(SKIP LOCKED), 점유 기간(lease) 안에 결과가
+   * 기록되지 않은 행은 다시 점유 대상이 됩니다. 단, 시도 횟수가 maxAttempts에 도달한 채 점유가 만료된 행은 다시 점유하지 않고 FAILED로 변경합니다.
+   */
+  List<OutboxEventDTO> claimBatch(int limit, Duration lease, int maxAttempts);
+
+  /**
+   * 점유한 이벤트를 완료 처리합니다. 점유 이후 다른 릴레이가 다시 점유한 행은 갱신하지 않습니다.
+   *
+   * @return 실제로 완료 처리된 행 수
+   */
+  int markDone(List<OutboxEventDTO> events);
+
+  /** 점유한 이벤트를 재시도 대기로 되돌립니다. 점유를 잃은 경우 false를 반환합니다. */
+  boolean markRetry(OutboxEventDTO event, LocalDateTime nextAttemptAt, String error);
+
+  /** 점유한 이벤트를 실패 처리합니다. 점유를 잃은 경우 false를 반환합니다. */
+  boolean markFailed(OutboxEventDTO event, String error);
+
+  /** 지정 시각 이전에 완료된 이벤트를 최대 limit 건 삭제합니다. */
+  int deleteDoneBefore(LocalDateTime before, int limit);
+}
@@ -11,8 +11,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -20,6 +18,7 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 
 import liaison.groble.domain.common.entity.AggregateRoot;
+import liaison.groble.domain.common.id.TimeOrderedId;
 import liaison.groble.domain.order.entity.Order;
 import liaison.groble.domain.payment.event.PaymentCancelledEvent;
 import liaison.groble.domain.payment.event.PaymentCompletedEvent;
@@ -45,7 +44,7 @@ import lombok.NoArgsConstructor;
 public class Payment extends AggregateRoot {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   /** 주문 정보 (1:1 관계) */
@@ -0,0 +1,16 @@
+package liaison.groble.domain.port;
+
+import java.time.Duration;
+
+/** 공개 콘텐츠 응답 캐시 저장소 (버전 카운터 + 직렬화된 값) */
+public interface ContentCachePort {
+  /** 범위(scope)의 현재 버전을 반환합니다. 한 번도 무효화되지 않았으면 0입니다. */
+  long getVersion(String scope);
+
+  /** 범위의 버전을 1 올려 이전 버전으로 저장된 캐시 값을 모두 무효화합니다. */
+  long incrementVersion(String scope);
+
+  String get(String key);
+
+  void put(String key, String value, Duration ttl);
+}
@@ -2,13 +2,18 @@ package liaison.groble.domain.session;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface ActiveSessionStore {
 
-  void upsertMemberSession(MemberActiveSession session, Duration ttl);
+  /** 세션 목록을 한 번의 파이프라인으로 기록합니다. */
+  void upsertMemberSessions(Collection<MemberActiveSession> sessions, Duration ttl);
 
-  void upsertGuestSession(GuestActiveSession session, Duration ttl);
+  void upsertGuestSessions(Collection<GuestActiveSession> sessions, Duration ttl);
+
+  /** threshold 이전에 마지막으로 활동한 세션을 인덱스에서 제거합니다. */
+  void removeExpiredSessions(Instant threshold);
 
   List<MemberActiveSession> findActiveMemberSessions(Instant threshold, int limit);
 
@@ -5,6 +5,7 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -193,6 +194,34 @@ public class Settlement extends BaseTimeEntity {
   @Column(name = "vat_rate", nullable = false, precision = 5, scale = 4)
   private BigDecimal vatRate = new BigDecimal("0.1000"); // 10%
 
+  // 가중 평균 수수료율 계산용 누적값 (Σ 판매금액 × 항목 수수료율) - 항목 증감 시 O(1)로 갱신
+  // 판매금액(소수 2자리) × 수수료율(소수 4자리)을 반올림 없이 담도록 소수 6자리로 저장 (대사 재계산 값과 일치)
+  @Column(name = "platform_fee_rate_weighted_sum", nullable = false, precision = 24, scale = 6)
+  private BigDecimal platformFeeRateWeightedSum = BigDecimal.ZERO;
+
+  @Column(
+      name = "platform_fee_rate_display_weighted_sum",
+      nullable = false,
+      precision = 24,
+      scale = 6)
+  private BigDecimal platformFeeRateDisplayWeightedSum = BigDecimal.ZERO;
+
+  @Column(
+      name = "platform_fee_rate_baseline_weighted_sum",
+      nullable = false,
+      precision = 24,
+      scale = 6)
+  private BigDecimal platformFeeRateBaselineWeightedSum = BigDecimal.ZERO;
+
+  @Column(name = "pg_fee_rate_weighted_sum", nullable = false, precision = 24, scale = 6)
+  private BigDecimal pgFeeRateWeightedSum = BigDecimal.ZERO;
+
+  @Column(name = "pg_fee_rate_display_weighted_sum", nullable = false, precision = 24, scale = 6)
+  private BigDecimal pgFeeRateDisplayWeightedSum = BigDecimal.ZERO;
+
+  @Column(name = "pg_fee_rate_baseline_weighted_sum", nullable = false, precision = 24, scale = 6)
+  private BigDecimal pgFeeRateBaselineWeightedSum = BigDecimal.ZERO;
+
   // 정산 은행 정보
   @Column(name = "bank_name", length = 100)
   private String bankName;
@@ -235,6 +264,13 @@ public class Settlement extends BaseTimeEntity {
   @Column(name = "payple_bank_rsp_msg", length = 500)
   private String paypleBankRspMsg; // 은행 응답 메시지
 
+  // 정산 이체 진행 정보 (처리중으로 남은 정산 복구 기준)
+  @Column(name = "processing_started_at")
+  private LocalDateTime processingStartedAt; // 처리중 전환 시간
+
+  @Column(name = "payple_transfer_executed_at")
+  private LocalDateTime paypleTransferExecutedAt; // 페이플 이체 실행 접수 시간
+
   // 동시성 제어를 위한 버전
   @Version private Long version;
 
@@ -301,12 +337,17 @@ public class Settlement extends BaseTimeEntity {
 
   // === 비즈니스 메서드 ===
 
-  /** 정산 항목 추가 */
+  /**
+   * 정산 항목 추가
+   *
+   * <p>합계는 추가된 항목만큼 증분 반영합니다. 지연 로딩된 항목 컬렉션은 초기화되지 않은 경우 추가 작업만 대기열에 쌓이므로 기존 항목 전체를 조회하지
+   * 않습니다.
+   */
   public void addSettlementItem(SettlementItem item) {
     ensureModifiable();
     settlementItems.add(item);
     item.setSettlement(this);
-    recalcFromItems();
+    applyItemDelta(item, 1);
   }
 
   /** 정산 항목 제거 */
@@ -314,7 +355,17 @@ public class Settlement extends BaseTimeEntity {
     ensureModifiable();
     settlementItems.remove(item);
     item.setSettlement(null);
-    recalcFromItems();
+    applyItemDelta(item, -1);
+  }
+
+  /**
+   * 항목 하나의 합계 기여분을 더하거나(sign = 1) 뺍니다(sign = -1).
+   *
+   * <p>항목의 환불·수수료 변경 시에는 변경 전 기여분을 빼고 변경 후 기여분을 더하는 방식으로 사용합니다.
+   */
+  public void applyItemDelta(SettlementItem item, int sign) {
+    accumulate(item, sign);
+    refreshWeightedRates();
   }
 
   private static BigDecimal nullSafeValue(BigDecimal value) {
@@ -328,6 +379,19 @@ public class Settlement extends BaseTimeEntity {
     }
     validateBankInfo();
     this.status = SettlementStatus.PROCESSING;
+    this.processingStartedAt = LocalDateTime.now();
+    this.paypleTransferExecutedAt = null;
+  }
+
+  /** 페이플 이체 실행 접수 기록 (결과 반영 전에 중단되어도 이체 여부를 알 수 있도록 먼저 저장) */
+  public void markTransferExecuted() {
+    if (this.status == SettlementStatus.PROCESSING) {
+      this.paypleTransferExecutedAt = LocalDateTime.now();
+    }
+  }
+
+  public boolean isTransferExecuted() {
+    return paypleTransferExecutedAt != null;
   }
 
   /** 정산 완료 처리 */
@@ -499,100 +563,161 @@ public class Settlement extends BaseTimeEntity {
    * 총 차감액 = 플랫폼수수료 + PG수수료 + 수수료VAT 4. 실정산액 = 판매금액 - 총차감액
    */
   public void recalcFromItems() {
-    BigDecimal gross = BigDecimal.ZERO;
-    BigDecimal platformFeeSum = BigDecimal.ZERO;
-    BigDecimal platformFeeForgoneSum = BigDecimal.ZERO;
-    BigDecimal platformFeeDisplaySum = BigDecimal.ZERO;
-    BigDecimal pgFeeSum = BigDecimal.ZERO;
-    BigDecimal pgFeeDisplaySum = BigDecimal.ZERO;
-    BigDecimal pgFeeRefundExpectedSum = BigDecimal.ZERO;
-    BigDecimal feeVatSum = BigDecimal.ZERO;
-    BigDecimal feeVatDisplaySum = BigDecimal.ZERO;
-    BigDecimal totalFeeSum = BigDecimal.ZERO;
-    BigDecimal totalFeeDisplaySum = BigDecimal.ZERO;
-    BigDecimal net = BigDecimal.ZERO;
-    BigDecimal netDisplay = BigDecimal.ZERO;
-    BigDecimal refund = BigDecimal.ZERO;
-    int refundCnt = 0;
-    BigDecimal platformRateWeightedSum = BigDecimal.ZERO;
-    BigDecimal platformRateDisplayWeightedSum = BigDecimal.ZERO;
-    BigDecimal platformRateBaselineWeightedSum = BigDecimal.ZERO;
-    BigDecimal pgRateWeightedSum = BigDecimal.ZERO;
-    BigDecimal pgRateDisplayWeightedSum = BigDecimal.ZERO;
-    BigDecimal pgRateBaselineWeightedSum = BigDecimal.ZERO;
+    this.totalSalesAmount = BigDecimal.ZERO;
+    this.platformFee = BigDecimal.ZERO;
+    this.platformFeeDisplay = BigDecimal.ZERO;
+    this.platformFeeForgone = BigDecimal.ZERO;
+    this.pgFee = BigDecimal.ZERO;
+    this.pgFeeDisplay = BigDecimal.ZERO;
+    this.pgFeeRefundExpected = BigDecimal.ZERO;
+    this.feeVat = BigDecimal.ZERO;
+    this.feeVatDisplay = BigDecimal.ZERO;
+    this.totalFee = BigDecimal.ZERO;
+    this.totalFeeDisplay = BigDecimal.ZERO;
+    this.settlementAmount = BigDecimal.ZERO;
+    this.settlementAmountDisplay = BigDecimal.ZERO;
+    this.totalRefundAmount = BigDecimal.ZERO;
+    this.refundCount = 0;
+    this.platformFeeRateWeightedSum = BigDecimal.ZERO;
+    this.platformFeeRateDisplayWeightedSum = BigDecimal.ZERO;
+    this.platformFeeRateBaselineWeightedSum = BigDecimal.ZERO;
+    this.pgFeeRateWeightedSum = BigDecimal.ZERO;
+    this.pgFeeRateDisplayWeightedSum = BigDecimal.ZERO;
+    this.pgFeeRateBaselineWeightedSum = BigDecimal.ZERO;
 
     for (SettlementItem item : settlementItems) {
-      if (Boolean.TRUE.equals(item.getIsRefunded())) {
-        // 환불 항목
-        refund = refund.add(nullSafeValue(item.getSalesAmount()));
-        refundCnt++;
-        continue;
-      }
+      accumulate(item, 1);
+    }
+    refreshWeightedRates();
+  }
 
-      // 정상 항목
-      BigDecimal salesAmount = nullSafeValue(item.getSalesAmount());
-      gross = gross.add(salesAmount);
-      platformFeeSum = platformFeeSum.add(nullSafeValue(item.getPlatformFee()));
-      platformFeeForgoneSum =
-          platformFeeForgoneSum.add(nullSafeValue(item.getPlatformFeeForgone()));
-      platformFeeDisplaySum =
-          platformFeeDisplaySum.add(nullSafeValue(item.getPlatformFeeDisplay()));
-      pgFeeSum = pgFeeSum.add(nullSafeValue(item.getPgFee()));
-      pgFeeDisplaySum = pgFeeDisplaySum.add(nullSafeValue(item.getPgFeeDisplay()));
-      pgFeeRefundExpectedSum =
-          pgFeeRefundExpectedSum.add(nullSafeValue(item.getPgFeeRefundExpected()));
-      feeVatSum = feeVatSum.add(nullSafeValue(item.getFeeVat()));
-      feeVatDisplaySum = feeVatDisplaySum.add(nullSafeValue(item.getFeeVatDisplay()));
-      totalFeeSum = totalFeeSum.add(nullSafeValue(item.getTotalFee()));
-      totalFeeDisplaySum = totalFeeDisplaySum.add(nullSafeValue(item.getTotalFeeDisplay()));
-      net = net.add(nullSafeValue(item.getSettlementAmount()));
-      netDisplay = netDisplay.add(nullSafeValue(item.getSettlementAmountDisplay()));
-      platformRateWeightedSum =
-          platformRateWeightedSum.add(
-              salesAmount.multiply(nullSafeValue(item.getCapturedPlatformFeeRate())));
-      platformRateDisplayWeightedSum =
-          platformRateDisplayWeightedSum.add(
-              salesAmount.multiply(nullSafeValue(item.getCapturedPlatformFeeRateDisplay())));
-      platformRateBaselineWeightedSum =
-          platformRateBaselineWeightedSum.add(
-              salesAmount.multiply(nullSafeValue(item.getCapturedPlatformFeeRateBaseline())));
-      pgRateWeightedSum =
-          pgRateWeightedSum.add(salesAmount.multiply(nullSafeValue(item.getCapturedPgFeeRate())));
-      pgRateDisplayWeightedSum =
-          pgRateDisplayWeightedSum.add(
-              salesAmount.multiply(nullSafeValue(item.getCapturedPgFeeRateDisplay())));
-      pgRateBaselineWeightedSum =
-          pgRateBaselineWeightedSum.add(
-              salesAmount.multiply(nullSafeValue(item.getCapturedPgFeeRateBaseline())));
-    }
-
-    // 원화 처리 - 소수점 없음
-    this.totalSalesAmount = gross;
-    this.platformFee = platformFeeSum;
-    this.platformFeeDisplay = platformFeeDisplaySum;
-    this.platformFeeForgone = platformFeeForgoneSum;
-    this.pgFee = pgFeeSum;
-    this.pgFeeDisplay = pgFeeDisplaySum;
-    this.pgFeeRefundExpected = pgFeeRefundExpectedSum;
-    this.feeVat = feeVatSum;
-    this.feeVatDisplay = feeVatDisplaySum;
-    this.totalFee = totalFeeSum;
-    this.totalFeeDisplay = totalFeeDisplaySum;
-    this.settlementAmount = net;
-    this.settlementAmountDisplay = netDisplay;
-    this.totalRefundAmount = refund;
-    this.refundCount = refundCnt;
-
-    if (gross.signum() > 0) {
-      this.platformFeeRate = platformRateWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
-      this.platformFeeRateDisplay =
-          platformRateDisplayWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
-      this.platformFeeRateBaseline =
-          platformRateBaselineWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
-      this.pgFeeRate = pgRateWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
-      this.pgFeeRateDisplay = pgRateDisplayWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
-      this.pgFeeRateBaseline = pgRateBaselineWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+  /**
+   * 저장된 합계가 항목 기준 재계산 결과와 일치하는지 검증하고, 다르면 재계산 값으로 보정합니다. (정산 대사 배치용 - 항목 전체를 로딩함)
+   *
+   * @return 불일치가 있어 보정했으면 true
+   */
+  public boolean reconcileWithItems() {
+    List<Object> before = totalsSnapshot();
+    recalcFromItems();
+    List<Object> after = totalsSnapshot();
+
+    for (int i = 0; i < before.size(); i++) {
+      Object expected = after.get(i);
+      Object actual = before.get(i);
+      boolean equal =
+          expected instanceof BigDecimal expectedAmount && actual instanceof BigDecimal actualAmount
+              ? expectedAmount.compareTo(actualAmount) == 0
+              : Objects.equals(expected, actual);
+      if (!equal) {
+        log.warn(
+            "정산 합계 불일치 보정 - settlementId: {}, index: {}, stored: {}, recalculated: {}",
+            id,
+            i,
+            actual,
+            expected);
+        return true;
+      }
     }
+    return false;
+  }
+
+  private List<Object> totalsSnapshot() {
+    return Arrays.asList(
+        totalSalesAmount,
+        platformFee,
+        platformFeeDisplay,
+        platformFeeForgone,
+        pgFee,
+        pgFeeDisplay,
+        pgFeeRefundExpected,
+        feeVat,
+        feeVatDisplay,
+        totalFee,
+        totalFeeDisplay,
+        settlementAmount,
+        settlementAmountDisplay,
+        totalRefundAmount,
+        refundCount,
+        platformFeeRateWeightedSum,
+        platformFeeRateDisplayWeightedSum,
+        platformFeeRateBaselineWeightedSum,
+        pgFeeRateWeightedSum,
+        pgFeeRateDisplayWeightedSum,
+        pgFeeRateBaselineWeightedSum);
+  }
+
+  /** 항목 하나의 금액을 합계에 누적 (sign = -1이면 차감) */
+  private void accumulate(SettlementItem item, int sign) {
+    BigDecimal salesAmount = signed(item.getSalesAmount(), sign);
+
+    if (Boolean.TRUE.equals(item.getIsRefunded())) {
+      // 환불 항목
+      this.totalRefundAmount = nullSafeValue(totalRefundAmount).add(salesAmount);
+      this.refundCount = (refundCount == null ? 0 : refundCount) + sign;
+      return;
+    }
+
+    // 정상 항목 (원화 처리 - 소수점 없음)
+    this.totalSalesAmount = nullSafeValue(totalSalesAmount).add(salesAmount);
+    this.platformFee = nullSafeValue(platformFee).add(signed(item.getPlatformFee(), sign));
+    this.platformFeeForgone =
+        nullSafeValue(platformFeeForgone).add(signed(item.getPlatformFeeForgone(), sign));
+    this.platformFeeDisplay =
+        nullSafeValue(platformFeeDisplay).add(signed(item.getPlatformFeeDisplay(), sign));
+    this.pgFee = nullSafeValue(pgFee).add(signed(item.getPgFee(), sign));
+    this.pgFeeDisplay = nullSafeValue(pgFeeDisplay).add(signed(item.getPgFeeDisplay(), sign));
+    this.pgFeeRefundExpected =
+        nullSafeValue(pgFeeRefundExpected).add(signed(item.getPgFeeRefundExpected(), sign));
+    this.feeVat = nullSafeValue(feeVat).add(signed(item.getFeeVat(), sign));
+    this.feeVatDisplay = nullSafeValue(feeVatDisplay).add(signed(item.getFeeVatDisplay(), sign));
+    this.totalFee = nullSafeValue(totalFee).add(signed(item.getTotalFee(), sign));
+    this.totalFeeDisplay =
+        nullSafeValue(totalFeeDisplay).add(signed(item.getTotalFeeDisplay(), sign));
+    this.settlementAmount =
+        nullSafeValue(settlementAmount).add(signed(item.getSettlementAmount(), sign));
+    this.settlementAmountDisplay =
+        nullSafeValue(settlementAmountDisplay)
+            .add(signed(item.getSettlementAmountDisplay(), sign));
+
+    this.platformFeeRateWeightedSum =
+        nullSafeValue(platformFeeRateWeightedSum)
+            .add(salesAmount.multiply(nullSafeValue(item.getCapturedPlatformFeeRate())));
+    this.platformFeeRateDisplayWeightedSum =
+        nullSafeValue(platformFeeRateDisplayWeightedSum)
+            .add(salesAmount.multiply(nullSafeValue(item.getCapturedPlatformFeeRateDisplay())));
+    this.platformFeeRateBaselineWeightedSum =
+        nullSafeValue(platformFeeRateBaselineWeightedSum)
+            .add(salesAmount.multiply(nullSafeValue(item.getCapturedPlatformFeeRateBaseline())));
+    this.pgFeeRateWeightedSum =
+        nullSafeValue(pgFeeRateWeightedSum)
+            .add(salesAmount.multiply(nullSafeValue(item.getCapturedPgFeeRate())));
+    this.pgFeeRateDisplayWeightedSum =
+        nullSafeValue(pgFeeRateDisplayWeightedSum)
+            .add(salesAmount.multiply(nullSafeValue(item.getCapturedPgFeeRateDisplay())));
+    this.pgFeeRateBaselineWeightedSum =
+        nullSafeValue(pgFeeRateBaselineWeightedSum)
+            .add(salesAmount.multiply(nullSafeValue(item.getCapturedPgFeeRateBaseline())));
+  }
+
+  /** 판매금액 가중 평균 수수료율 갱신 (판매금액이 없으면 기존 값 유지) */
+  private void refreshWeightedRates() {
+    BigDecimal gross = nullSafeValue(totalSalesAmount);
+    if (gross.signum() <= 0) {
+      return;
+    }
+    this.platformFeeRate = platformFeeRateWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+    this.platformFeeRateDisplay =
+        platformFeeRateDisplayWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+    this.platformFeeRateBaseline =
+        platformFeeRateBaselineWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+    this.pgFeeRate = pgFeeRateWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+    this.pgFeeRateDisplay = pgFeeRateDisplayWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+    this.pgFeeRateBaseline = pgFeeRateBaselineWeightedSum.divide(gross, 4, RoundingMode.HALF_UP);
+  }
+
+  private static BigDecimal signed(BigDecimal value, int sign) {
+    BigDecimal safe = nullSafeValue(value);
+    return sign < 0 ? safe.negate() : safe;
   }
 
   // 종료일 기준 다음달 1일 계산
@@ -11,8 +11,6 @@ import java.util.Optional;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -23,6 +21,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 import liaison.groble.domain.common.entity.BaseTimeEntity;
+import liaison.groble.domain.common.id.TimeOrderedId;
 import liaison.groble.domain.content.enums.ContentPaymentType;
 import liaison.groble.domain.purchase.entity.Purchase;
 
@@ -44,7 +43,7 @@ import lombok.NoArgsConstructor;
 public class SettlementItem extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -287,6 +286,7 @@ public class SettlementItem extends BaseTimeEntity {
       throw new IllegalStateException("이미 환불 처리된 항목입니다.");
     }
 
+    retractFromSettlement();
     this.isRefunded = true;
     this.refundedAt = LocalDateTime.now();
 
@@ -294,10 +294,8 @@ public class SettlementItem extends BaseTimeEntity {
     this.settlementAmount = BigDecimal.ZERO;
     this.settlementAmountDisplay = BigDecimal.ZERO;
 
-    // Settlement의 금액 재계산 호출
-    if (settlement != null) {
-      settlement.recalcFromItems();
-    }
+    // Settlement 합계에 변경분 반영
+    applyToSettlement();
   }
 
   /** 환불 취소 환불을 취소하고 정산금액을 복원 */
@@ -306,6 +304,7 @@ public class SettlementItem extends BaseTimeEntity {
       throw new IllegalStateException("환불되지 않은 항목입니다.");
     }
 
+    retractFromSettlement();
     this.isRefunded = false;
     this.refundedAt = null;
 
@@ -313,10 +312,8 @@ public class SettlementItem extends BaseTimeEntity {
     this.settlementAmount = this.salesAmount.subtract(this.totalFee);
     this.settlementAmountDisplay = this.salesAmount.subtract(this.totalFeeDisplay);
 
-    // Settlement의 금액 재계산 호출
-    if (settlement != null) {
-      settlement.recalcFromItems();
-    }
+    // Settlement 합계에 변경분 반영
+    applyToSettlement();
   }
 
   /** 정산 금액 재계산 (수수료율 변경 시) - VAT 처리 포함 */
@@ -333,6 +330,8 @@ public class SettlementItem extends BaseTimeEntity {
       return; // 환불된 항목은 재계산하지 않음
     }
 
+    retractFromSettlement();
+
     // 새로운 수수료율 저장
     if (newPlatformFeeRate == null) {
       newPlatformFeeRate = new BigDecimal("0.0150");
@@ -401,10 +400,8 @@ public class SettlementItem extends BaseTimeEntity {
     this.settlementAmount = this.salesAmount.subtract(this.totalFee);
     this.settlementAmountDisplay = this.salesAmount.subtract(this.totalFeeDisplay);
 
-    // Settlement의 금액 재계산
-    if (settlement != null) {
-      settlement.recalcFromItems();
-    }
+    // Settlement 합계에 변경분 반영
+    applyToSettlement();
   }
 
   public boolean isSubscriptionSettlement() {
@@ -424,6 +421,20 @@ public class SettlementItem extends BaseTimeEntity {
         newVatRate);
   }
 
+  /** 변경 전 기여분을 Settlement 합계에서 차감 (항목 전체 재계산 대신 증분 반영) */
+  private void retractFromSettlement() {
+    if (settlement != null) {
+      settlement.applyItemDelta(this, -1);
+    }
+  }
+
+  /** 변경 후 기여분을 Settlement 합계에 가산 */
+  private void applyToSettlement() {
+    if (settlement != null) {
+      settlement.applyItemDelta(this, 1);
+    }
+  }
+
   // === 연관관계 메서드 ===
   /** Settlement 설정 (양방향 관계) Settlement.addSettlementItem()에서 호출됨 */
   protected void setSettlement(Settlement settlement) {
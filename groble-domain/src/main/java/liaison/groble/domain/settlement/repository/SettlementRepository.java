@@ -2,10 +2,12 @@ package liaison.groble.domain.settlement.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import liaison.groble.domain.settlement.entity.Settlement;
+import liaison.groble.domain.settlement.entity.Settlement.SettlementStatus;
 
 public interface SettlementRepository {
   Optional<Settlement> findByUserIdAndPeriod(
@@ -37,6 +39,18 @@ public interface SettlementRepository {
    */
   List<Settlement> findByPaypleBillingTranId(String billingTranId);
 
+  /** 지정 시각 이전에 처리중으로 전환된 뒤 아직 처리중인 정산 조회 (이체 복구용) */
+  List<Settlement> findProcessingStartedBefore(LocalDateTime startedBefore);
+
   /** COMPLETED 상태 정산들의 PG 수수료 환급 예상액 합계 */
   BigDecimal sumPgFeeRefundExpectedForCompleted();
+
+  /**
+   * 상태별 정산 ID를 ID 오름차순으로 키셋 조회 (정산 대사 배치용)
+   *
+   * @param statuses 대상 상태
+   * @param lastId 직전 청크의 마지막 ID (처음이면 0)
+   * @param limit 최대 건수
+   */
+  List<Long> findIdsByStatusIn(List<SettlementStatus> statuses, Long lastId, int limit);
 }
@@ -0,0 +1,4 @@
+package liaison.groble.domain.subscription.dto;
+
+/** 정기결제 청구 대상 구독과 판매자 ID */
+public record SubscriptionBillingTarget(Long subscriptionId, Long sellerId) {}
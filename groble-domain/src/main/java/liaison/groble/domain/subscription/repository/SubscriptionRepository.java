@@ -8,6 +8,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import liaison.groble.domain.subscription.dto.SubscriptionBillingTarget;
 import liaison.groble.domain.subscription.entity.Subscription;
 import liaison.groble.domain.subscription.enums.SubscriptionStatus;
 
@@ -40,6 +41,14 @@ public interface SubscriptionRepository {
   List<Subscription> findByStatusInAndNextBillingDateLessThanEqual(
       Collection<SubscriptionStatus> statuses, LocalDate billingDate, Pageable pageable);
 
+  /**
+   * 청구일이 도래한 구독을 ID 오름차순 keyset 방식으로 조회합니다.
+   *
+   * @param afterId 이 ID보다 큰 구독부터 조회
+   */
+  List<SubscriptionBillingTarget> findBillingTargets(
+      Collection<SubscriptionStatus> statuses, LocalDate billingDate, long afterId, int limit);
+
   Optional<Subscription> findWithLockingById(Long id);
 
   Optional<Subscription> findById(Long id);
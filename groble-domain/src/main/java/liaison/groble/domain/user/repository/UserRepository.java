@@ -1,5 +1,6 @@
 package liaison.groble.domain.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import liaison.groble.domain.user.entity.User;
@@ -8,6 +9,9 @@ import liaison.groble.domain.user.enums.UserStatus;
 public interface UserRepository {
   Optional<User> findById(Long userId);
 
+  /** 여러 사용자를 계정 정보(통합·소셜)와 함께 한 번에 조회합니다. 없는 ID는 결과에서 빠집니다. */
+  List<User> findByIdIn(List<Long> userIds);
+
   Optional<User> findByNickname(String nickname);
 
   Optional<User> findByNicknameAndStatus(String nickname, UserStatus status);
@@ -0,0 +1,105 @@
+package liaison.groble.domain.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+  private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+  private static final int TIMESTAMP_SHIFT =
+      TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS;
+
+  @Test
+  void nextId_encodesTimestampNodeAndSequence() {
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(5, () -> NOW);
+
+    long first = generator.nextId();
+    long second = generator.nextId();
+
+    assertThat(first >>> TIMESTAMP_SHIFT).isEqualTo(NOW - TimeOrderedIdGenerator.EPOCH_MILLIS);
+    assertThat(nodeOf(first)).isEqualTo(5);
+    assertThat(sequenceOf(first)).isZero();
+    assertThat(sequenceOf(second)).isEqualTo(1);
+    // 53비트 이내 (JavaScript Number 안전 정수 범위)
+    assertThat(first).isLessThan(1L << 53);
+  }
+
+  @Test
+  void nextId_separatesNodesWithinSameMillisecond() {
+    long fromNode1 = new TimeOrderedIdGenerator(1, () -> NOW).nextId();
+    long fromNode2 = new TimeOrderedIdGenerator(2, () -> NOW).nextId();
+
+    assertThat(fromNode1).isNotEqualTo(fromNode2);
+    assertThat(nodeOf(fromNode1)).isEqualTo(1);
+    assertThat(nodeOf(fromNode2)).isEqualTo(2);
+    assertThat(fromNode1 >>> TIMESTAMP_SHIFT).isEqualTo(fromNode2 >>> TIMESTAMP_SHIFT);
+  }
+
+  @Test
+  void nextId_staysMonotonicWhenClockGoesBackwards() {
+    AtomicLong clock = new AtomicLong(NOW);
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, clock::get);
+
+    long beforeRewind = generator.nextId();
+    clock.set(NOW - 5_000L);
+    long afterRewind = generator.nextId();
+    long later = generator.nextId();
+
+    assertThat(afterRewind).isGreaterThan(beforeRewind);
+    assertThat(later).isGreaterThan(afterRewind);
+    assertThat(afterRewind >>> TIMESTAMP_SHIFT).isEqualTo(beforeRewind >>> TIMESTAMP_SHIFT);
+  }
+
+  @Test
+  void nextId_borrowsNextMillisecondWhenSequenceRollsOver() {
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, () -> NOW);
+    int perMillisecond = 1 << TimeOrderedIdGenerator.SEQUENCE_BITS;
+
+    long previous = -1L;
+    for (int i = 0; i < perMillisecond; i++) {
+      long id = generator.nextId();
+      assertThat(id).isGreaterThan(previous);
+      previous = id;
+    }
+    long rolledOver = generator.nextId();
+
+    assertThat(sequenceOf(previous)).isEqualTo(perMillisecond - 1);
+    assertThat(rolledOver).isGreaterThan(previous);
+    assertThat(sequenceOf(rolledOver)).isZero();
+    assertThat(rolledOver >>> TIMESTAMP_SHIFT).isEqualTo((previous >>> TIMESTAMP_SHIFT) + 1);
+  }
+
+  @Test
+  void nextId_refusesAfterLeaseExpires() {
+    AtomicLong clock = new AtomicLong(NOW);
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(4, clock::get);
+    generator.leaseUntil(NOW + 1_000L);
+
+    generator.nextId();
+    clock.set(NOW + 1_000L);
+
+    assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    generator.leaseUntil(NOW + 2_000L);
+    assertThat(nodeOf(generator.nextId())).isEqualTo(4);
+  }
+
+  @Test
+  void constructor_rejectsNodeIdOutOfRange() {
+    assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1, () -> NOW))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long nodeOf(long id) {
+    return (id >>> TimeOrderedIdGenerator.SEQUENCE_BITS) & TimeOrderedIdGenerator.MAX_NODE_ID;
+  }
+
+  private static long sequenceOf(long id) {
+    return id & ((1L << TimeOrderedIdGenerator.SEQUENCE_BITS) - 1);
+  }
+}
@@ -0,0 +1,58 @@
+package liaison.groble.domain.dashboard.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+  @Test
+  void estimate_staysWithinStandardErrorRange() {
+    HyperLogLog sketch = sketch(0, 10_000);
+
+    assertThat((double) sketch.estimate()).isCloseTo(10_000, within(500.0));
+  }
+
+  @Test
+  void estimate_isExactEnoughForSmallCounts() {
+    assertThat(new HyperLogLog().estimate()).isZero();
+    assertThat(sketch(0, 10).estimate()).isEqualTo(10);
+  }
+
+  @Test
+  void merge_equalsSketchOfUnion() {
+    HyperLogLog merged = sketch(0, 6_000);
+    merged.merge(sketch(4_000, 10_000));
+
+    assertThat(merged.toBytes()).isEqualTo(sketch(0, 10_000).toBytes());
+  }
+
+  @Test
+  void merge_ignoresDuplicatesAndNull() {
+    HyperLogLog merged = sketch(0, 1_000);
+    merged.merge(sketch(0, 1_000));
+    merged.merge(null);
+
+    assertThat(merged.estimate()).isEqualTo(sketch(0, 1_000).estimate());
+  }
+
+  @Test
+  void fromBytes_restoresSparseAndDenseSketches() {
+    HyperLogLog sparse = sketch(0, 100);
+    HyperLogLog dense = sketch(0, 50_000);
+
+    assertThat(sparse.toBytes()).hasSizeLessThan(HyperLogLog.MAX_SERIALIZED_SIZE);
+    assertThat(dense.toBytes()).hasSize(HyperLogLog.MAX_SERIALIZED_SIZE);
+    assertThat(HyperLogLog.fromBytes(sparse.toBytes()).toBytes()).isEqualTo(sparse.toBytes());
+    assertThat(HyperLogLog.fromBytes(dense.toBytes()).estimate()).isEqualTo(dense.estimate());
+  }
+
+  private static HyperLogLog sketch(int from, int to) {
+    HyperLogLog sketch = new HyperLogLog();
+    for (int i = from; i < to; i++) {
+      sketch.add("user:" + i);
+    }
+    return sketch;
+  }
+}
@@ -0,0 +1,186 @@
+package liaison.groble.domain.settlement.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.persistence.Column;
+
+import org.junit.jupiter.api.Test;
+
+import liaison.groble.domain.purchase.entity.Purchase;
+import liaison.groble.domain.user.entity.User;
+
+class SettlementTest {
+
+  @Test
+  void addSettlementItem_roundsFeesPerItem() {
+    Settlement settlement = settlement();
+
+    // 9,900원: 플랫폼 148.5 -> 149, PG 168.3 -> 168, VAT 31.7 -> 32
+    settlement.addSettlementItem(item(settlement, "9900"));
+    // 33,333원: 플랫폼 499.995 -> 500, PG 566.661 -> 567, VAT 106.7 -> 107
+    settlement.addSettlementItem(item(settlement, "33333"));
+
+    assertThat(settlement.getTotalSalesAmount()).isEqualByComparingTo("43233");
+    // 합계에 수수료율을 곱하면 648원이지만 항목별 반올림 합은 649원
+    assertThat(settlement.getPlatformFee()).isEqualByComparingTo("649");
+    assertThat(settlement.getPgFee()).isEqualByComparingTo("735");
+    assertThat(settlement.getFeeVat()).isEqualByComparingTo("139");
+    assertThat(settlement.getTotalFee()).isEqualByComparingTo("1523");
+    assertThat(settlement.getSettlementAmount()).isEqualByComparingTo("41710");
+    assertMatchesRecalculation(settlement);
+  }
+
+  @Test
+  void refundAndCancelRefund_keepTotalsEqualToRecalculation() {
+    Settlement settlement = settlement();
+    SettlementItem first = item(settlement, "9900");
+    SettlementItem second = item(settlement, "33333");
+    SettlementItem third = item(settlement, "15555");
+    settlement.addSettlementItem(first);
+    settlement.addSettlementItem(second);
+    settlement.addSettlementItem(third);
+    assertMatchesRecalculation(settlement);
+
+    first.processRefund();
+    assertThat(settlement.getTotalSalesAmount()).isEqualByComparingTo("48888");
+    assertThat(settlement.getTotalRefundAmount()).isEqualByComparingTo("9900");
+    assertThat(settlement.getRefundCount()).isEqualTo(1);
+    assertMatchesRecalculation(settlement);
+
+    third.processRefund();
+    assertMatchesRecalculation(settlement);
+
+    first.cancelRefund();
+    assertThat(settlement.getTotalRefundAmount()).isEqualByComparingTo("15555");
+    assertThat(settlement.getRefundCount()).isEqualTo(1);
+    assertMatchesRecalculation(settlement);
+
+    third.cancelRefund();
+    assertThat(settlement.getTotalRefundAmount()).isEqualByComparingTo("0");
+    assertThat(settlement.getRefundCount()).isZero();
+    assertThat(settlement.getTotalSalesAmount()).isEqualByComparingTo("58788");
+    assertMatchesRecalculation(settlement);
+  }
+
+  @Test
+  void recalculateWithNewFeeRates_keepsTotalsAndWeightedRatesEqualToRecalculation() {
+    Settlement settlement = settlement();
+    SettlementItem first = item(settlement, "9900");
+    SettlementItem second = item(settlement, "33333");
+    settlement.addSettlementItem(first);
+    settlement.addSettlementItem(second);
+
+    second.recalculateWithNewFeeRates(
+        new BigDecimal("0.0000"), new BigDecimal("0.0190"), new BigDecimal("0.1000"));
+
+    assertThat(settlement.getPlatformFee()).isEqualByComparingTo("149");
+    assertThat(settlement.getPgFee()).isEqualByComparingTo("801");
+    assertThat(settlement.getPlatformFeeRate()).isEqualByComparingTo("0.0034");
+    assertMatchesRecalculation(settlement);
+
+    second.processRefund();
+    second.cancelRefund();
+    assertMatchesRecalculation(settlement);
+  }
+
+  @Test
+  void removeSettlementItem_subtractsItsContribution() {
+    Settlement settlement = settlement();
+    SettlementItem kept = item(settlement, "9900");
+    SettlementItem removed = item(settlement, "33333");
+    settlement.addSettlementItem(kept);
+    settlement.addSettlementItem(removed);
+    removed.processRefund();
+
+    settlement.removeSettlementItem(removed);
+
+    assertThat(settlement.getTotalRefundAmount()).isEqualByComparingTo("0");
+    assertThat(settlement.getRefundCount()).isZero();
+    assertThat(settlement.getSettlementAmount()).isEqualByComparingTo("9551");
+    assertMatchesRecalculation(settlement);
+  }
+
+  @Test
+  void rateWeightedSumColumns_storeSalesAmountTimesRateWithoutRounding() throws Exception {
+    // 저장 시 반올림되면 대사 배치의 재계산 값과 달라져 매번 불일치로 보고됨
+    int productScale =
+        scale(SettlementItem.class, "salesAmount")
+            + scale(SettlementItem.class, "capturedPlatformFeeRate");
+
+    for (String field :
+        List.of(
+            "platformFeeRateWeightedSum",
+            "platformFeeRateDisplayWeightedSum",
+            "platformFeeRateBaselineWeightedSum",
+            "pgFeeRateWeightedSum",
+            "pgFeeRateDisplayWeightedSum",
+            "pgFeeRateBaselineWeightedSum")) {
+      assertThat(scale(Settlement.class, field)).as(field).isGreaterThanOrEqualTo(productScale);
+    }
+  }
+
+  /** 증분 반영한 합계가 항목 전체 재계산 결과와 같은지 검증 */
+  private static void assertMatchesRecalculation(Settlement settlement) {
+    List<Object> incremental = totals(settlement);
+
+    assertThat(settlement.reconcileWithItems()).isFalse();
+
+    List<Object> recalculated = totals(settlement);
+    for (int i = 0; i < incremental.size(); i++) {
+      Object expected = recalculated.get(i);
+      Object actual = incremental.get(i);
+      if (expected instanceof BigDecimal expectedAmount) {
+        assertThat((BigDecimal) actual).as("index %d", i).isEqualByComparingTo(expectedAmount);
+      } else {
+        assertThat(actual).as("index %d", i).isEqualTo(expected);
+      }
+    }
+  }
+
+  private static List<Object> totals(Settlement settlement) {
+    return Arrays.asList(
+        settlement.getTotalSalesAmount(),
+        settlement.getPlatformFee(),
+        settlement.getPlatformFeeDisplay(),
+        settlement.getPlatformFeeForgone(),
+        settlement.getPgFee(),
+        settlement.getPgFeeDisplay(),
+        settlement.getPgFeeRefundExpected(),
+        settlement.getFeeVat(),
+        settlement.getFeeVatDisplay(),
+        settlement.getTotalFee(),
+        settlement.getTotalFeeDisplay(),
+        settlement.getSettlementAmount(),
+        settlement.getSettlementAmountDisplay(),
+        settlement.getTotalRefundAmount(),
+        settlement.getRefundCount(),
+        settlement.getPlatformFeeRate(),
+        settlement.getPgFeeRate());
+  }
+
+  private static int scale(Class<?> type, String fieldName) throws NoSuchFieldException {
+    Field field = type.getDeclaredField(fieldName);
+    return field.getAnnotation(Column.class).scale();
+  }
+
+  private static Settlement settlement() {
+    return Settlement.builder()
+        .user(User.builder().build())
+        .settlementStartDate(LocalDate.of(2025, 1, 1))
+        .settlementEndDate(LocalDate.of(2025, 1, 31))
+        .build();
+  }
+
+  private static SettlementItem item(Settlement settlement, String finalPrice) {
+    return SettlementItem.builder()
+        .settlement(settlement)
+        .purchase(Purchase.builder().finalPrice(new BigDecimal(finalPrice)).build())
+        .build();
+  }
+}
@@ -3,6 +3,7 @@ package liaison.groble.external.adapter;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +11,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -52,33 +55,63 @@ public class RedisActiveSessionStore implements ActiveSessionStore {
   private final StringRedisTemplate redisTemplate;
 
   @Override
-  public void upsertMemberSession(MemberActiveSession session, Duration ttl) {
-    if (session == null || session.getSessionKey() == null) {
+  public void upsertMemberSessions(Collection<MemberActiveSession> sessions, Duration ttl) {
+    if (CollectionUtils.isEmpty(sessions)) {
       return;
     }
 
-    long score = session.getLastSeenAt().toEpochMilli();
-    cleanupExpired(MEMBER_ZSET_KEY, score - ttl.toMillis());
-
-    redisTemplate.opsForZSet().add(MEMBER_ZSET_KEY, session.getSessionKey(), score);
-    String detailKey = MEMBER_HASH_KEY_PREFIX + session.getSessionKey();
-    redisTemplate.opsForHash().putAll(detailKey, toMemberMap(session));
-    redisTemplate.expire(detailKey, ttl);
+    long ttlSeconds = ttl.toSeconds();
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection stringConnection = (StringRedisConnection) connection;
+              for (MemberActiveSession session : sessions) {
+                if (session == null || session.getSessionKey() == null) {
+                  continue;
+                }
+                String detailKey = MEMBER_HASH_KEY_PREFIX + session.getSessionKey();
+                stringConnection.zAdd(
+                    MEMBER_ZSET_KEY,
+                    session.getLastSeenAt().toEpochMilli(),
+                    session.getSessionKey());
+                stringConnection.hMSet(detailKey, toMemberMap(session));
+                stringConnection.expire(detailKey, ttlSeconds);
+              }
+              return null;
+            });
   }
 
   @Override
-  public void upsertGuestSession(GuestActiveSession session, Duration ttl) {
-    if (session == null || session.getSessionKey() == null) {
+  public void upsertGuestSessions(Collection<GuestActiveSession> sessions, Duration ttl) {
+    if (CollectionUtils.isEmpty(sessions)) {
       return;
     }
 
-    long score = session.getLastSeenAt().toEpochMilli();
-    cleanupExpired(GUEST_ZSET_KEY, score - ttl.toMillis());
+    long ttlSeconds = ttl.toSeconds();
+    redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection stringConnection = (StringRedisConnection) connection;
+              for (GuestActiveSession session : sessions) {
+                if (session == null || session.getSessionKey() == null) {
+                  continue;
+                }
+                String detailKey = GUEST_HASH_KEY_PREFIX + session.getSessionKey();
+                stringConnection.zAdd(
+                    GUEST_ZSET_KEY,
+                    session.getLastSeenAt().toEpochMilli(),
+                    session.getSessionKey());
+                stringConnection.hMSet(detailKey, toGuestMap(session));
+                stringConnection.expire(detailKey, ttlSeconds);
+              }
+              return null;
+            });
+  }
 
-    redisTemplate.opsForZSet().add(GUEST_ZSET_KEY, session.getSessionKey(), score);
-    String detailKey = GUEST_HASH_KEY_PREFIX + session.getSessionKey();
-    redisTemplate.opsForHash().putAll(detailKey, toGuestMap(session));
-    redisTemplate.expire(detailKey, ttl);
+  @Override
+  public void removeExpiredSessions(Instant threshold) {
+    cleanupExpired(MEMBER_ZSET_KEY, threshold.toEpochMilli());
+    cleanupExpired(GUEST_ZSET_KEY, threshold.toEpochMilli());
   }
 
   @Override
@@ -95,15 +128,19 @@ public class RedisActiveSessionStore implements ActiveSessionStore {
       return Collections.emptyList();
     }
 
-    List<MemberActiveSession> sessions = new ArrayList<>();
-    for (String sessionKey : sessionKeys) {
-      MemberActiveSession session = readMemberSession(sessionKey);
+    List<String> keys = new ArrayList<>(sessionKeys);
+    List<Map<?, ?>> details = readDetails(MEMBER_HASH_KEY_PREFIX, keys);
+    List<MemberActiveSession> sessions = new ArrayList<>(keys.size());
+    List<String> staleKeys = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      MemberActiveSession session = toMemberSession(keys.get(i), details.get(i));
       if (session != null) {
         sessions.add(session);
       } else {
-        redisTemplate.opsForZSet().remove(MEMBER_ZSET_KEY, sessionKey);
+        staleKeys.add(keys.get(i));
       }
     }
+    removeStaleKeys(MEMBER_ZSET_KEY, staleKeys);
 
     return sessions;
   }
@@ -122,19 +159,51 @@ public class RedisActiveSessionStore implements ActiveSessionStore {
       return Collections.emptyList();
     }
 
-    List<GuestActiveSession> sessions = new ArrayList<>();
-    for (String sessionKey : sessionKeys) {
-      GuestActiveSession session = readGuestSession(sessionKey);
+    List<String> keys = new ArrayList<>(sessionKeys);
+    List<Map<?, ?>> details = readDetails(GUEST_HASH_KEY_PREFIX, keys);
+    List<GuestActiveSession> sessions = new ArrayList<>(keys.size());
+    List<String> staleKeys = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      GuestActiveSession session = toGuestSession(keys.get(i), details.get(i));
       if (session != null) {
         sessions.add(session);
       } else {
-        redisTemplate.opsForZSet().remove(GUEST_ZSET_KEY, sessionKey);
+        staleKeys.add(keys.get(i));
       }
     }
+    removeStaleKeys(GUEST_ZSET_KEY, staleKeys);
 
     return sessions;
   }
 
+  /** 세션 상세 해시를 한 번의 파이프라인으로 읽습니다. 결과는 sessionKeys와 같은 순서입니다. */
+  private List<Map<?, ?>> readDetails(String hashKeyPrefix, List<String> sessionKeys) {
+    List<Object> results =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                  for (String sessionKey : sessionKeys) {
+                    stringConnection.hGetAll(hashKeyPrefix + sessionKey);
+                  }
+                  return null;
+                });
+
+    List<Map<?, ?>> details = new ArrayList<>(sessionKeys.size());
+    for (int i = 0; i < sessionKeys.size(); i++) {
+      Object result = i < results.size() ? results.get(i) : null;
+      details.add(result instanceof Map<?, ?> map ? map : Collections.emptyMap());
+    }
+    return details;
+  }
+
+  /** 상세 해시가 만료된 세션 키를 인덱스에서 한 번에 제거합니다. */
+  private void removeStaleKeys(String zsetKey, List<String> staleKeys) {
+    if (!staleKeys.isEmpty()) {
+      redisTemplate.opsForZSet().remove(zsetKey, staleKeys.toArray());
+    }
+  }
+
   private void cleanupExpired(String zsetKey, double cutoffScore) {
     try {
       redisTemplate.opsForZSet().removeRangeByScore(zsetKey, 0, cutoffScore);
@@ -176,9 +245,7 @@ public class RedisActiveSessionStore implements ActiveSessionStore {
     return map;
   }
 
-  private MemberActiveSession readMemberSession(String sessionKey) {
-    String detailKey = MEMBER_HASH_KEY_PREFIX + sessionKey;
-    Map<Object, Object> entries = redisTemplate.opsForHash().entries(detailKey);
+  private MemberActiveSession toMemberSession(String sessionKey, Map<?, ?> entries) {
     if (CollectionUtils.isEmpty(entries)) {
       return null;
     }
@@ -205,9 +272,7 @@ public class RedisActiveSessionStore implements ActiveSessionStore {
     }
   }
 
-  private GuestActiveSession readGuestSession(String sessionKey) {
-    String detailKey = GUEST_HASH_KEY_PREFIX + sessionKey;
-    Map<Object, Object> entries = redisTemplate.opsForHash().entries(detailKey);
+  private GuestActiveSession toGuestSession(String sessionKey, Map<?, ?> entries) {
     if (CollectionUtils.isEmpty(entries)) {
       return null;
     }
@@ -0,0 +1,41 @@
+package liaison.groble.external.adapter;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import liaison.groble.domain.port.ContentCachePort;
+
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor
+public class RedisContentCacheAdapter implements ContentCachePort {
+  private static final String VERSION_KEY = "content:cache:version:%s"; // scope
+  private static final String VALUE_KEY = "content:cache:value:%s"; // versioned key
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public long getVersion(String scope) {
+    String version = redisTemplate.opsForValue().get(String.format(VERSION_KEY, scope));
+    return version != null ? Long.parseLong(version) : 0L;
+  }
+
+  @Override
+  public long incrementVersion(String scope) {
+    Long version = redisTemplate.opsForValue().increment(String.format(VERSION_KEY, scope));
+    return version != null ? version : 0L;
+  }
+
+  @Override
+  public String get(String key) {
+    return redisTemplate.opsForValue().get(String.format(VALUE_KEY, key));
+  }
+
+  @Override
+  public void put(String key, String value, Duration ttl) {
+    redisTemplate.opsForValue().set(String.format(VALUE_KEY, key), value, ttl);
+  }
+}
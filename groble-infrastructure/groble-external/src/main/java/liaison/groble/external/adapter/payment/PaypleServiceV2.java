@@ -503,8 +503,9 @@ public class PaypleServiceV2 implements PaypleService {
     headers.put("charset", "UTF-8");
     headers.put("referer", paypleConfig.getRefererUrl());
 
+    // 인증 토큰 발급은 중복 호출해도 안전하므로 응답 유실 시에도 재시도
     HttpRequest httpRequest =
-        HttpRequest.postWithHeaders(authUrl, headers, requestBody.toJSONString());
+        HttpRequest.postWithHeaders(authUrl, headers, requestBody.toJSONString()).asIdempotent();
 
     return httpClient.post(httpRequest);
   }
@@ -534,8 +535,9 @@ public class PaypleServiceV2 implements PaypleService {
     headers.put("charset", "UTF-8");
     headers.put("referer", paypleConfig.getRefererUrl());
 
+    // 인증 토큰 발급은 중복 호출해도 안전하므로 응답 유실 시에도 재시도
     HttpRequest httpRequest =
-        HttpRequest.postWithHeaders(authUrl, headers, requestBody.toJSONString());
+        HttpRequest.postWithHeaders(authUrl, headers, requestBody.toJSONString()).asIdempotent();
 
     return httpClient.post(httpRequest);
   }
@@ -566,7 +568,8 @@ public class PaypleServiceV2 implements PaypleService {
     headers.put("referer", paypleConfig.getRefererUrl());
 
     HttpRequest httpRequest =
-        HttpRequest.postWithHeaders(accountVerificationUrl, headers, requestBody.toJSONString());
+        HttpRequest.postWithHeaders(accountVerificationUrl, headers, requestBody.toJSONString())
+            .asIdempotent();
     return httpClient.post(httpRequest);
   }
 
@@ -592,7 +595,8 @@ public class PaypleServiceV2 implements PaypleService {
     headers.put("referer", paypleConfig.getRefererUrl());
 
     HttpRequest httpRequest =
-        HttpRequest.postWithHeaders(accountRemainUrl, headers, requestBody.toJSONString());
+        HttpRequest.postWithHeaders(accountRemainUrl, headers, requestBody.toJSONString())
+            .asIdempotent();
     return httpClient.post(httpRequest);
   }
 
@@ -1,18 +1,39 @@
 package liaison.groble.external.adapter.payment.http;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.HttpURLConnection;
 import java.net.SocketTimeoutException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.ssl.SSLContexts;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StopWatch;
 
@@ -21,13 +42,13 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 기본 HTTP 클라이언트 어댑터 구현체
  *
- * <p>HttpURLConnection을 사용한 HTTP 클라이언트 구현체입니다. Template Method 패턴을 통해 공통 처리 로직을 추상화하고, 리소스 관리와 예외
- * 처리를 체계적으로 수행합니다.
+ * <p>커넥션 풀을 공유하는 Apache HttpClient 기반 구현체입니다. 목적지(route)별 최대 커넥션 수를 제한하고 keep-alive 커넥션을 재사용하며,
+ * 하나의 SSLContext를 공유해 새 커넥션을 열 때도 TLS 세션을 재개(abbreviated handshake)합니다. 응답 본문은 항상 끝까지 읽어 커넥션이
+ * 풀로 반환되도록 합니다.
  */
 @Slf4j
 @Component
-@Primary
-public class DefaultHttpClientAdapter implements HttpClientAdapter {
+public class DefaultHttpClientAdapter implements HttpClientAdapter, DisposableBean {
 
   private static final String CONTENT_TYPE_JSON = "application/json; charset=UTF-8";
   private static final String USER_AGENT = "Groble-HttpClient/1.0";
@@ -35,15 +56,63 @@ public class DefaultHttpClientAdapter implements HttpClientAdapter {
   private int defaultConnectionTimeout = 5000; // 5초
   private int defaultReadTimeout = 10000; // 10초
 
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final CloseableHttpClient httpClient;
+  private final int connectionRequestTimeoutMs;
+
   @Autowired(required = false)
   private PaypleHttpLoggingInterceptor loggingInterceptor;
 
+  public DefaultHttpClientAdapter(
+      @Value("${groble.payple-http.pool.max-total:50}") int maxTotal,
+      @Value("${groble.payple-http.pool.max-per-route:20}") int maxPerRoute,
+      @Value("${groble.payple-http.pool.keep-alive:30s}") Duration keepAlive,
+      @Value("${groble.payple-http.pool.validate-after-inactivity:2s}")
+          Duration validateAfterInactivity,
+      @Value("${groble.payple-http.pool.connection-request-timeout:2s}")
+          Duration connectionRequestTimeout) {
+    // 소켓 팩토리를 하나만 만들어 SSLContext(세션 캐시)를 모든 커넥션이 공유하도록 함
+    SSLConnectionSocketFactory sslSocketFactory =
+        new SSLConnectionSocketFactory(
+            SSLContexts.createDefault(), SSLConnectionSocketFactory.getDefaultHostnameVerifier());
+
+    this.connectionManager =
+        new PoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build());
+    connectionManager.setMaxTotal(maxTotal);
+    connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+    // 오래 쉰 커넥션은 빌려주기 전에 검사해 서버가 이미 닫은 커넥션으로 요청하지 않도록 함
+    connectionManager.setValidateAfterInactivity((int) validateAfterInactivity.toMillis());
+
+    this.connectionRequestTimeoutMs = (int) connectionRequestTimeout.toMillis();
+    this.httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(keepAliveStrategy(keepAlive.toMillis()))
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive.toMillis(), TimeUnit.MILLISECONDS)
+            // 재시도는 멱등성을 아는 상위 어댑터(ResilientHttpClientAdapter)에서만 수행
+            .disableAutomaticRetries()
+            // 클라이언트 인증서를 쓰지 않으므로 사용자 상태로 커넥션을 구분하지 않음
+            .disableConnectionState()
+            .setUserAgent(USER_AGENT)
+            .build();
+
+    log.info(
+        "HTTP 커넥션 풀 초기화 - maxTotal: {}, maxPerRoute: {}, keepAlive: {}",
+        maxTotal,
+        maxPerRoute,
+        keepAlive);
+  }
+
   @Override
   public HttpResponse post(HttpRequest request) throws HttpClientException {
     StopWatch stopWatch = new StopWatch();
     stopWatch.start();
 
-    HttpURLConnection connection = null;
     try {
       log.debug("HTTP POST 요청 시작 - URL: {}", request.getUrl());
 
@@ -52,11 +121,10 @@ public class DefaultHttpClientAdapter implements HttpClientAdapter {
         loggingInterceptor.logHttpRequest(request);
       }
 
-      connection = createConnection(request);
-      setupConnection(connection, request);
-      sendRequest(connection, request);
-
-      HttpResponse response = receiveResponse(connection, stopWatch);
+      HttpResponse response;
+      try (CloseableHttpResponse httpResponse = httpClient.execute(createPost(request))) {
+        response = receiveResponse(httpResponse, stopWatch);
+      }
 
       log.debug(
           "HTTP POST 요청 완료 - URL: {}, 응답시간: {}ms, 상태코드: {}",
@@ -71,60 +139,14 @@ public class DefaultHttpClientAdapter implements HttpClientAdapter {
 
       return response;
 
-    } catch (SocketTimeoutException e) {
-      stopWatch.stop();
-      log.error(
-          "HTTP 요청 타임아웃 - URL: {}, 소요시간: {}ms", request.getUrl(), stopWatch.getTotalTimeMillis());
-
-      // 오류 로깅
-      if (loggingInterceptor != null) {
-        loggingInterceptor.logHttpError(request.getUrl(), e, stopWatch.getTotalTimeMillis());
-      }
-
-      throw new HttpClientException(
-          "HTTP 요청 타임아웃", request.getUrl(), -1, (int) stopWatch.getTotalTimeMillis(), e);
+    } catch (ConnectionPoolTimeoutException e) {
+      throw failure("HTTP 커넥션 풀 대기 시간 초과", request, stopWatch, e);
+    } catch (SocketTimeoutException | ConnectTimeoutException e) {
+      throw failure("HTTP 요청 타임아웃", request, stopWatch, e);
     } catch (IOException e) {
-      stopWatch.stop();
-      log.error(
-          "HTTP 요청 I/O 오류 - URL: {}, 소요시간: {}ms",
-          request.getUrl(),
-          stopWatch.getTotalTimeMillis(),
-          e);
-
-      // 오류 로깅
-      if (loggingInterceptor != null) {
-        loggingInterceptor.logHttpError(request.getUrl(), e, stopWatch.getTotalTimeMillis());
-      }
-
-      throw new HttpClientException(
-          "HTTP 요청 I/O 오류: " + e.getMessage(),
-          request.getUrl(),
-          -1,
-          (int) stopWatch.getTotalTimeMillis(),
-          e);
+      throw failure("HTTP 요청 I/O 오류: " + e.getMessage(), request, stopWatch, e);
     } catch (Exception e) {
-      stopWatch.stop();
-      log.error(
-          "HTTP 요청 예상치 못한 오류 - URL: {}, 소요시간: {}ms",
-          request.getUrl(),
-          stopWatch.getTotalTimeMillis(),
-          e);
-
-      // 오류 로깅
-      if (loggingInterceptor != null) {
-        loggingInterceptor.logHttpError(request.getUrl(), e, stopWatch.getTotalTimeMillis());
-      }
-
-      throw new HttpClientException(
-          "HTTP 요청 예상치 못한 오류: " + e.getMessage(),
-          request.getUrl(),
-          -1,
-          (int) stopWatch.getTotalTimeMillis(),
-          e);
-    } finally {
-      if (connection != null) {
-        connection.disconnect();
-      }
+      throw failure("HTTP 요청 예상치 못한 오류: " + e.getMessage(), request, stopWatch, e);
     }
   }
 
@@ -138,17 +160,23 @@ public class DefaultHttpClientAdapter implements HttpClientAdapter {
     this.defaultReadTimeout = timeoutMs;
   }
 
-  private HttpURLConnection createConnection(HttpRequest request) throws IOException {
-    URL url = new URL(request.getUrl());
-    return (HttpURLConnection) url.openConnection();
+  /**
+   * 커넥션 풀 현황을 반환합니다. (모니터링 용도)
+   *
+   * @return 전체 사용 중/유휴/대기 커넥션 수
+   */
+  public PoolStats getPoolStats() {
+    return connectionManager.getTotalStats();
   }
 
-  private void setupConnection(HttpURLConnection connection, HttpRequest request)
-      throws IOException {
-    // 기본 설정
-    connection.setRequestMethod(request.getMethod());
-    connection.setDoOutput(true);
-    connection.setDoInput(true);
+  @Override
+  public void destroy() throws IOException {
+    httpClient.close();
+    log.info("HTTP 커넥션 풀 종료");
+  }
+
+  private HttpPost createPost(HttpRequest request) {
+    HttpPost post = new HttpPost(request.getUrl());
 
     // 타임아웃 설정
     int connectionTimeout =
@@ -158,52 +186,42 @@ public class DefaultHttpClientAdapter implements HttpClientAdapter {
     int readTimeout =
         request.getReadTimeoutMs() > 0 ? request.getReadTimeoutMs() : defaultReadTimeout;
 
-    connection.setConnectTimeout(connectionTimeout);
-    connection.setReadTimeout(readTimeout);
+    post.setConfig(
+        RequestConfig.custom()
+            .setConnectTimeout(connectionTimeout)
+            .setSocketTimeout(readTimeout)
+            .setConnectionRequestTimeout(connectionRequestTimeoutMs)
+            .build());
 
     // 기본 헤더 설정
-    connection.setRequestProperty("Content-Type", CONTENT_TYPE_JSON);
-    connection.setRequestProperty("User-Agent", USER_AGENT);
-    connection.setRequestProperty("Accept", "application/json");
+    post.setHeader("Content-Type", CONTENT_TYPE_JSON);
+    post.setHeader("Accept", "application/json");
 
     // 커스텀 헤더 설정
     if (request.getHeaders() != null) {
-      request.getHeaders().forEach(connection::setRequestProperty);
+      request.getHeaders().forEach(post::setHeader);
     }
-  }
 
-  private void sendRequest(HttpURLConnection connection, HttpRequest request) throws IOException {
     if (request.getBody() != null && !request.getBody().isEmpty()) {
-      try (OutputStreamWriter writer =
-          new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8)) {
-        writer.write(request.getBody());
-        writer.flush();
-      }
+      post.setEntity(new StringEntity(request.getBody(), ContentType.APPLICATION_JSON));
     }
+    return post;
   }
 
-  private HttpResponse receiveResponse(HttpURLConnection connection, StopWatch stopWatch)
+  private HttpResponse receiveResponse(CloseableHttpResponse httpResponse, StopWatch stopWatch)
       throws IOException {
-    int statusCode = connection.getResponseCode();
-
-    // 응답 본문 읽기
-    String responseBody;
-    if (statusCode >= 200 && statusCode < 300) {
-      responseBody = readInputStream(connection.getInputStream());
-    } else {
-      responseBody = readInputStream(connection.getErrorStream());
-    }
+    int statusCode = httpResponse.getStatusLine().getStatusCode();
+
+    // 응답 본문을 끝까지 읽어야 커넥션이 풀로 반환됨
+    HttpEntity entity = httpResponse.getEntity();
+    String responseBody =
+        entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8).trim() : "";
 
     // 응답 헤더 읽기
     Map<String, String> responseHeaders = new HashMap<>();
-    connection
-        .getHeaderFields()
-        .forEach(
-            (key, values) -> {
-              if (key != null && !values.isEmpty()) {
-                responseHeaders.put(key, values.get(0));
-              }
-            });
+    for (Header header : httpResponse.getAllHeaders()) {
+      responseHeaders.putIfAbsent(header.getName(), header.getValue());
+    }
 
     stopWatch.stop();
 
@@ -215,19 +233,39 @@ public class DefaultHttpClientAdapter implements HttpClientAdapter {
         .build();
   }
 
-  private String readInputStream(java.io.InputStream inputStream) throws IOException {
-    if (inputStream == null) {
-      return "";
+  private HttpClientException failure(
+      String message, HttpRequest request, StopWatch stopWatch, Exception e) {
+    if (stopWatch.isRunning()) {
+      stopWatch.stop();
+    }
+    log.error(
+        "{} - URL: {}, 소요시간: {}ms", message, request.getUrl(), stopWatch.getTotalTimeMillis(), e);
+
+    // 오류 로깅
+    if (loggingInterceptor != null) {
+      loggingInterceptor.logHttpError(request.getUrl(), e, stopWatch.getTotalTimeMillis());
     }
 
-    StringBuilder response = new StringBuilder();
-    try (BufferedReader reader =
-        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        response.append(line).append("\n");
+    return new HttpClientException(
+        message, request.getUrl(), -1, (int) stopWatch.getTotalTimeMillis(), e);
+  }
+
+  /** 서버가 Keep-Alive: timeout=N 을 주면 그 값을, 아니면 기본 유지 시간을 사용합니다. */
+  private static ConnectionKeepAliveStrategy keepAliveStrategy(long defaultKeepAliveMs) {
+    return (response, context) -> {
+      BasicHeaderElementIterator it =
+          new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+      while (it.hasNext()) {
+        HeaderElement element = it.nextElement();
+        if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+          try {
+            return Math.min(Long.parseLong(element.getValue()) * 1000, defaultKeepAliveMs);
+          } catch (NumberFormatException ignored) {
+            // 잘못된 값은 기본 유지 시간 사용
+          }
+        }
       }
-    }
-    return response.toString().trim();
+      return defaultKeepAliveMs;
+    };
   }
 }
@@ -12,7 +12,7 @@ import lombok.RequiredArgsConstructor;
  * <p>HTTP 요청에 필요한 모든 정보를 불변 객체로 관리합니다. Builder 패턴을 통해 선택적 파라미터를 지원합니다.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @RequiredArgsConstructor
 public class HttpRequest {
 
@@ -23,6 +23,9 @@ public class HttpRequest {
   private final int connectionTimeoutMs;
   private final int readTimeoutMs;
 
+  // 같은 요청을 다시 보내도 결과가 달라지지 않는 요청 여부 (응답 유실 시 재시도 허용)
+  private final boolean idempotent;
+
   /**
    * POST 요청을 생성합니다.
    *
@@ -58,4 +61,13 @@ public class HttpRequest {
         .readTimeoutMs(10000)
         .build();
   }
+
+  /**
+   * 멱등 요청으로 표시한 사본을 반환합니다. 조회·토큰 발급처럼 중복 호출이 안전한 요청에만 사용합니다.
+   *
+   * @return 멱등 요청 객체
+   */
+  public HttpRequest asIdempotent() {
+    return toBuilder().idempotent(true).build();
+  }
 }
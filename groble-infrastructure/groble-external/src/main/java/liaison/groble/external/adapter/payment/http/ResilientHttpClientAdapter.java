@@ -1,93 +1,139 @@
 package liaison.groble.external.adapter.payment.http;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 탄력성 있는 HTTP 클라이언트 어댑터
  *
- * <p>Circuit Breaker 패턴과 Retry 패턴을 조합하여 외부 API 호출의 안정성을 확보합니다. Decorator 패턴을 통해 기본 HTTP 클라이언트에 탄력성
- * 기능을 추가합니다.
+ * <p>Circuit Breaker, Bulkhead, Retry 패턴을 조합하여 외부 API 호출의 안정성을 확보합니다. Decorator 패턴을 통해 기본 HTTP
+ * 클라이언트에 탄력성 기능을 추가합니다.
+ *
+ * <p>차단기 상태, 동시 호출 제한, 응답 시간 히스토그램은 엔드포인트(호스트 + 경로)별로 관리합니다. 같은 호스트의 이체 API가 장애를 일으켜도 카드 승인 API
+ * 호출은 차단되지 않고, 느린 엔드포인트가 같은 route의 커넥션을 모두 점유하지 못합니다.
  *
  * <p><strong>적용된 패턴:</strong>
  *
  * <ul>
- *   <li>Circuit Breaker Pattern: 연속 실패 시 차단
- *   <li>Retry Pattern: 지수 백오프로 재시도
+ *   <li>Circuit Breaker Pattern: 엔드포인트별 연속 실패 시 차단
+ *   <li>Bulkhead Pattern: 엔드포인트별 동시 호출 수 제한
+ *   <li>Retry Pattern: 지터를 적용한 지수 백오프 재시도. 멱등 요청이거나 요청이 서버에 전달되지 않은 경우(연결 실패)에만 재시도
  *   <li>Decorator Pattern: 기본 클라이언트 기능 확장
  * </ul>
  */
 @Slf4j
 @Component
+@Primary
 public class ResilientHttpClientAdapter implements HttpClientAdapter {
+  private static final String METRIC_PREFIX = "payple.http.client";
 
-  private final HttpClientAdapter delegate;
-
-  // Circuit Breaker 상태
-  private enum CircuitState {
-    CLOSED,
-    OPEN,
-    HALF_OPEN
-  }
-
-  private volatile CircuitState circuitState = CircuitState.CLOSED;
+  private final DefaultHttpClientAdapter delegate;
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
 
   // Circuit Breaker 설정
-  private static final int FAILURE_THRESHOLD = 5; // 실패 임계값
-  private static final int TIMEOUT_DURATION_SECONDS = 60; // 차단 시간 (초)
-  private static final int SUCCESS_THRESHOLD = 2; // 복구 임계값
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final int successThreshold;
+
+  // Bulkhead 설정
+  private final int maxConcurrentCalls;
+  private final long maxWaitNanos;
 
-  // 통계
-  private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
-  private final AtomicInteger halfOpenSuccesses = new AtomicInteger(0);
-  private final AtomicLong lastFailureTime = new AtomicLong(0);
+  // Retry 설정
+  private final int maxAttempts;
+  private final long retryBaseDelayMs;
+  private final long retryMaxDelayMs;
 
-  public ResilientHttpClientAdapter(DefaultHttpClientAdapter delegate) {
+  public ResilientHttpClientAdapter(
+      DefaultHttpClientAdapter delegate,
+      MeterRegistry meterRegistry,
+      @Value("${groble.payple-http.circuit.failure-threshold:5}") int failureThreshold,
+      @Value("${groble.payple-http.circuit.open-duration:60s}") Duration openDuration,
+      @Value("${groble.payple-http.circuit.success-threshold:2}") int successThreshold,
+      @Value("${groble.payple-http.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+      @Value("${groble.payple-http.bulkhead.max-wait:500ms}") Duration maxWait,
+      @Value("${groble.payple-http.retry.max-attempts:3}") int maxAttempts,
+      @Value("${groble.payple-http.retry.base-delay:500ms}") Duration retryBaseDelay,
+      @Value("${groble.payple-http.retry.max-delay:5s}") Duration retryMaxDelay) {
     this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.successThreshold = successThreshold;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryBaseDelayMs = retryBaseDelay.toMillis();
+    this.retryMaxDelayMs = retryMaxDelay.toMillis();
+
+    Gauge.builder(METRIC_PREFIX + ".pool.leased", delegate, d -> d.getPoolStats().getLeased())
+        .description("사용 중인 커넥션 수")
+        .register(meterRegistry);
+    Gauge.builder(
+            METRIC_PREFIX + ".pool.available", delegate, d -> d.getPoolStats().getAvailable())
+        .description("재사용 대기 중인 keep-alive 커넥션 수")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".pool.pending", delegate, d -> d.getPoolStats().getPending())
+        .description("커넥션 할당 대기 요청 수")
+        .register(meterRegistry);
   }
 
   @Override
-  @Retryable(
-      value = {HttpClientException.class},
-      maxAttempts = 3,
-      backoff = @Backoff(delay = 1000, multiplier = 2.0, maxDelay = 10000))
   public HttpResponse post(HttpRequest request) throws HttpClientException {
-    // Circuit Breaker 상태 확인
-    if (isCircuitOpen()) {
-      log.warn("Circuit Breaker OPEN 상태 - 요청 차단: {}", request.getUrl());
-      throw new HttpClientException("Circuit Breaker OPEN - 서비스 일시적으로 사용 불가", request.getUrl());
-    }
+    Endpoint endpoint = endpoints.computeIfAbsent(endpointKey(request.getUrl()), Endpoint::new);
 
-    try {
-      log.debug("HTTP 요청 실행 (Circuit: {}) - URL: {}", circuitState, request.getUrl());
-
-      HttpResponse response = delegate.post(request);
-
-      // 성공 시 Circuit Breaker 상태 업데이트
-      handleSuccess();
-
-      return response;
-
-    } catch (HttpClientException e) {
-      // 실패 시 Circuit Breaker 상태 업데이트
-      handleFailure();
-
-      log.error(
-          "HTTP 요청 실패 (연속실패: {}, Circuit: {}) - URL: {}, 오류: {}",
-          consecutiveFailures.get(),
-          circuitState,
-          request.getUrl(),
-          e.getMessage());
-
-      throw e;
+    for (int attempt = 1; ; attempt++) {
+      boolean lastAttempt = attempt >= maxAttempts;
+      try {
+        HttpResponse response = endpoint.execute(request);
+        if (lastAttempt || !response.isServerError() || !request.isIdempotent()) {
+          return response;
+        }
+        log.warn(
+            "HTTP 서버 오류 응답, 재시도 예정 (시도: {}/{}) - endpoint: {}, 상태코드: {}",
+            attempt,
+            maxAttempts,
+            endpoint.key,
+            response.getStatusCode());
+        if (!backoff(attempt)) {
+          return response;
+        }
+      } catch (HttpClientException e) {
+        if (lastAttempt || !isRetryable(request, e)) {
+          throw e;
+        }
+        log.warn(
+            "HTTP 요청 실패, 재시도 예정 (시도: {}/{}) - endpoint: {}, 오류: {}",
+            attempt,
+            maxAttempts,
+            endpoint.key,
+            e.getMessage());
+        if (!backoff(attempt)) {
+          throw e;
+        }
+      }
+      endpoint.retries.increment();
     }
   }
 
@@ -101,75 +147,222 @@ public class ResilientHttpClientAdapter implements HttpClientAdapter {
     delegate.setReadTimeout(timeoutMs);
   }
 
-  private boolean isCircuitOpen() {
-    if (circuitState == CircuitState.OPEN) {
-      // 타임아웃 시간이 지났으면 HALF_OPEN으로 전환
-      if (isTimeoutExpired()) {
-        circuitState = CircuitState.HALF_OPEN;
-        halfOpenSuccesses.set(0);
-        log.info("Circuit Breaker HALF_OPEN 전환 - 복구 시도 시작");
-        return false;
-      }
-      return true;
+  /**
+   * 엔드포인트별 Circuit Breaker 상태 정보를 반환합니다. (모니터링 용도)
+   *
+   * @return 상태 정보 문자열
+   */
+  public String getCircuitStatus() {
+    if (endpoints.isEmpty()) {
+      return "호출 이력 없음";
     }
-    return false;
+    return endpoints.values().stream()
+        .map(
+            endpoint ->
+                String.format(
+                    "[%s] Circuit: %s, 연속실패: %d, 동시호출: %d",
+                    endpoint.key,
+                    endpoint.breaker.state,
+                    endpoint.breaker.consecutiveFailures,
+                    maxConcurrentCalls - endpoint.bulkhead.availablePermits()))
+        .collect(Collectors.joining("\n"));
   }
 
-  private boolean isTimeoutExpired() {
-    long lastFailure = lastFailureTime.get();
-    if (lastFailure == 0) return false;
-
-    LocalDateTime failureTime =
-        LocalDateTime.ofEpochSecond(lastFailure / 1000, 0, java.time.ZoneOffset.UTC);
-    LocalDateTime now = LocalDateTime.now(java.time.ZoneOffset.UTC);
+  /**
+   * 재시도 가능 여부를 판단합니다. 차단기·동시 호출 제한에 의한 거절은 재시도하지 않으며, 비멱등 요청(결제 승인, 환불, 이체 등)은 서버에 전달되지 않은 것이
+   * 확실한 연결 단계 실패만 재시도합니다.
+   */
+  private static boolean isRetryable(HttpRequest request, HttpClientException e) {
+    if (e instanceof CallNotPermittedException) {
+      return false;
+    }
+    if (request.isIdempotent()) {
+      return true;
+    }
+    Throwable cause = e.getCause();
+    // ConnectionPoolTimeoutException도 ConnectTimeoutException의 하위 타입
+    return cause instanceof ConnectException
+        || cause instanceof ConnectTimeoutException
+        || cause instanceof NoRouteToHostException
+        || cause instanceof UnknownHostException;
+  }
 
-    return ChronoUnit.SECONDS.between(failureTime, now) >= TIMEOUT_DURATION_SECONDS;
+  /**
+   * 지수 백오프에 full jitter를 적용해 대기합니다. 여러 스레드가 동시에 실패해도 재시도 시점이 분산됩니다.
+   *
+   * @return 대기를 마쳤으면 true, 인터럽트되었으면 false
+   */
+  private boolean backoff(int attempt) {
+    long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt - 1, 20));
+    long delayMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+    try {
+      Thread.sleep(delayMs);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 
-  private void handleSuccess() {
-    if (circuitState == CircuitState.HALF_OPEN) {
-      int successes = halfOpenSuccesses.incrementAndGet();
-      if (successes >= SUCCESS_THRESHOLD) {
-        // Circuit 완전 복구
-        circuitState = CircuitState.CLOSED;
-        consecutiveFailures.set(0);
-        lastFailureTime.set(0);
-        log.info("Circuit Breaker CLOSED 전환 - 서비스 완전 복구");
+  private static String endpointKey(String url) {
+    try {
+      URI uri = URI.create(url);
+      if (uri.getHost() != null) {
+        return uri.getHost() + (uri.getPath() != null ? uri.getPath() : "");
       }
-    } else if (circuitState == CircuitState.CLOSED) {
-      // 성공 시 실패 카운터 리셋
-      consecutiveFailures.set(0);
+    } catch (IllegalArgumentException ignored) {
+      // 잘못된 URL은 원문을 키로 사용 (실제 요청 시 오류 처리됨)
     }
+    return url;
   }
 
-  private void handleFailure() {
-    int failures = consecutiveFailures.incrementAndGet();
-    lastFailureTime.set(System.currentTimeMillis());
-
-    if (circuitState == CircuitState.CLOSED && failures >= FAILURE_THRESHOLD) {
-      // Circuit OPEN으로 전환
-      circuitState = CircuitState.OPEN;
-      log.error(
-          "Circuit Breaker OPEN 전환 - 연속 실패 {}회, {}초 후 복구 시도", failures, TIMEOUT_DURATION_SECONDS);
-    } else if (circuitState == CircuitState.HALF_OPEN) {
-      // HALF_OPEN에서 실패하면 다시 OPEN
-      circuitState = CircuitState.OPEN;
-      log.warn("Circuit Breaker OPEN 재전환 - 복구 시도 실패");
+  /** 엔드포인트별 차단기, 동시 호출 제한, 지표 */
+  private final class Endpoint {
+    private final String key;
+    private final CircuitBreaker breaker = new CircuitBreaker();
+    private final Semaphore bulkhead = new Semaphore(maxConcurrentCalls);
+    private final Counter retries;
+
+    Endpoint(String key) {
+      this.key = key;
+      this.retries =
+          Counter.builder(METRIC_PREFIX + ".retries")
+              .tag("endpoint", key)
+              .register(meterRegistry);
+      Gauge.builder(METRIC_PREFIX + ".circuit.state", breaker, b -> b.state.ordinal())
+          .tag("endpoint", key)
+          .description("차단기 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+          .register(meterRegistry);
+    }
+
+    HttpResponse execute(HttpRequest request) throws HttpClientException {
+      if (!breaker.tryAcquirePermission()) {
+        reject("circuit_open");
+        log.warn("Circuit Breaker OPEN 상태 - 요청 차단: {}", key);
+        throw new CallNotPermittedException(
+            "Circuit Breaker OPEN - 서비스 일시적으로 사용 불가", request.getUrl());
+      }
+      if (!acquireBulkhead()) {
+        reject("bulkhead_full");
+        log.warn("동시 호출 한도 초과 - 요청 거절: {}, 한도: {}", key, maxConcurrentCalls);
+        throw new CallNotPermittedException("동시 호출 한도 초과 - 잠시 후 다시 시도해주세요", request.getUrl());
+      }
+
+      long startedAt = System.nanoTime();
+      String outcome = "failure";
+      try {
+        log.debug("HTTP 요청 실행 (Circuit: {}) - endpoint: {}", breaker.state, key);
+        HttpResponse response = delegate.post(request);
+        if (response.isServerError()) {
+          outcome = "server_error";
+          breaker.onFailure();
+        } else {
+          outcome = response.isSuccess() ? "success" : "client_error";
+          breaker.onSuccess();
+        }
+        return response;
+      } catch (HttpClientException e) {
+        breaker.onFailure();
+        log.error(
+            "HTTP 요청 실패 (연속실패: {}, Circuit: {}) - endpoint: {}, 오류: {}",
+            breaker.consecutiveFailures,
+            breaker.state,
+            key,
+            e.getMessage());
+        throw e;
+      } finally {
+        bulkhead.release();
+        Timer.builder(METRIC_PREFIX + ".requests")
+            .tag("endpoint", key)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    private boolean acquireBulkhead() {
+      try {
+        return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    private void reject(String reason) {
+      meterRegistry
+          .counter(METRIC_PREFIX + ".rejections", "endpoint", key, "reason", reason)
+          .increment();
+    }
+
+    /** 연속 실패 기반 차단기. OPEN 유지 시간이 지나면 HALF_OPEN으로 전환해 복구를 시도합니다. */
+    private final class CircuitBreaker {
+      private volatile CircuitState state = CircuitState.CLOSED;
+      private volatile int consecutiveFailures;
+      private int halfOpenSuccesses;
+      private long openedAt;
+
+      synchronized boolean tryAcquirePermission() {
+        if (state == CircuitState.OPEN) {
+          if (System.nanoTime() - openedAt < openDurationNanos) {
+            return false;
+          }
+          state = CircuitState.HALF_OPEN;
+          halfOpenSuccesses = 0;
+          log.info("Circuit Breaker HALF_OPEN 전환 - 복구 시도 시작: {}", key);
+        }
+        return true;
+      }
+
+      synchronized void onSuccess() {
+        if (state == CircuitState.HALF_OPEN) {
+          if (++halfOpenSuccesses >= successThreshold) {
+            // Circuit 완전 복구
+            state = CircuitState.CLOSED;
+            consecutiveFailures = 0;
+            log.info("Circuit Breaker CLOSED 전환 - 서비스 완전 복구: {}", key);
+          }
+        } else if (state == CircuitState.CLOSED) {
+          // 성공 시 실패 카운터 리셋
+          consecutiveFailures = 0;
+        }
+      }
+
+      synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold) {
+          open();
+          log.error(
+              "Circuit Breaker OPEN 전환 - endpoint: {}, 연속 실패 {}회, {}초 후 복구 시도",
+              key,
+              consecutiveFailures,
+              TimeUnit.NANOSECONDS.toSeconds(openDurationNanos));
+        } else if (state == CircuitState.HALF_OPEN) {
+          // HALF_OPEN에서 실패하면 다시 OPEN
+          open();
+          log.warn("Circuit Breaker OPEN 재전환 - 복구 시도 실패: {}", key);
+        }
+      }
+
+      private void open() {
+        state = CircuitState.OPEN;
+        openedAt = System.nanoTime();
+      }
     }
   }
 
-  /**
-   * Circuit Breaker 상태 정보를 반환합니다. (모니터링 용도)
-   *
-   * @return 상태 정보 문자열
-   */
-  public String getCircuitStatus() {
-    return String.format(
-        "Circuit: %s, 연속실패: %d, 마지막실패: %s",
-        circuitState,
-        consecutiveFailures.get(),
-        lastFailureTime.get() > 0
-            ? LocalDateTime.ofEpochSecond(lastFailureTime.get() / 1000, 0, java.time.ZoneOffset.UTC)
-            : "없음");
+  // Circuit Breaker 상태
+  private enum CircuitState {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+  }
+
+  /** 차단기 또는 동시 호출 제한으로 요청을 보내지 않은 경우 (재시도 대상 아님) */
+  private static final class CallNotPermittedException extends HttpClientException {
+    CallNotPermittedException(String message, String url) {
+      super(message, url);
+    }
   }
 }
@@ -26,6 +26,9 @@ public class BizppurioConfig {
   // 토큰 관련 설정
   private int tokenRefreshMarginMinutes = 60;
 
+  // 선제 갱신 실패 시 재시도 간격 (초)
+  private int tokenRefreshRetrySeconds = 30;
+
   // HTTP 연결 타임아웃 설정 (밀리초)
   private int connectTimeout = 5000;
   private int readTimeout = 30000;
@@ -5,7 +5,6 @@ import java.util.Properties;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 @Configuration
@@ -24,7 +23,7 @@ public class EmailConfig {
   private String password;
 
   @Bean
-  public JavaMailSender javaMailSender() {
+  public JavaMailSenderImpl javaMailSender() {
     JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
 
     javaMailSender.setHost(host); // 10.0.1.231
@@ -1,5 +1,6 @@
 package liaison.groble.external.discord.service;
 
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
@@ -13,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DiscordService {
 
+  /** 웹훅 전용 풀에서 전송해 Discord 응답 지연이 요청 처리 시간에 포함되지 않도록 합니다. */
+  @Async("webhookExecutor")
   public void sendMessages(String webhookUrl, String content) {
     try {
       DiscordWebhookPayload payload = new DiscordWebhookPayload(content);
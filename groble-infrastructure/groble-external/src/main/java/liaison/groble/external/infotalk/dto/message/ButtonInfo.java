@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 버튼 정보 DTO
@@ -13,6 +14,7 @@ import lombok.Data;
  */
 @Data
 @Builder
+@Jacksonized
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ButtonInfo {
   @JsonProperty("name")
@@ -34,7 +34,7 @@ public class MessageRequest {
   private Object content; // String 또는 AtContent 객체 (하나로 통합)
 
   @JsonProperty("refkey")
-  private String refKey; // 고객사 메시지 고유키 (중복 발송 방지용)
+  private String refKey; // 고객사 메시지 고유키 (전달 결과 리포트 연결용)
 
   // 알림톡용 내부 클래스들
   @Data
@@ -8,8 +8,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -30,7 +28,10 @@ import lombok.extern.slf4j.Slf4j;
  * <p>이 서비스는 다양한 유형의 메시지를 발송하는 기능을 제공합니다. 토큰 관리는 BizppurioTokenService가 자동으로 처리하므로, 이 클래스는 메시지 발송
  * 로직에만 집중합니다.
  *
- * <p>주요 기능: 1. SMS/LMS/MMS 발송 2. 알림톡/친구톡 발송 3. 예약 발송 4. 대체 발송 설정 5. 자동 재시도 (네트워크 오류 시)
+ * <p>주요 기능: 1. SMS/LMS/MMS 발송 2. 알림톡/친구톡 발송 3. 예약 발송 4. 대체 발송 설정
+ *
+ * <p>재시도는 호출 측(알림톡 발송 큐)에서 같은 refKey로 수행합니다. refKey는 전달 결과 리포트를 발송 건에 연결하는 용도이며 중복 발송을 막지
+ * 않으므로, 접수 응답을 받지 못한 발송을 재시도하면 같은 메시지가 두 번 발송될 수 있습니다.
  */
 @Slf4j
 @Service
@@ -60,6 +61,23 @@ public class BizppurioMessageService {
       String content,
       String senderKey,
       List<ButtonInfo> buttons) {
+    return sendAlimtalk(to, templateCode, title, content, senderKey, buttons, generateRefKey());
+  }
+
+  /**
+   * 알림톡 발송 - 참조키 지정 버전
+   *
+   * @param refKey 고객사 메시지 고유키 (전달 결과 리포트를 발송 건에 연결할 때 사용)
+   * @return 발송 응답
+   */
+  public MessageResponse sendAlimtalk(
+      String to,
+      String templateCode,
+      String title,
+      String content,
+      String senderKey,
+      List<ButtonInfo> buttons,
+      String refKey) {
 
     // 1. 알림톡 메시지 구조 생성
     MessageRequest.AtMessage atMessage =
@@ -82,7 +100,7 @@ public class BizppurioMessageService {
             .from(config.getDefaultSender()) // 발신번호
             .to(formatPhoneNumber(to)) // 수신번호
             .content(atContent) // AtContent 객체 사용
-            .refKey(generateRefKey()) // 고유 참조키
+            .refKey(refKey) // 고유 참조키
             .build();
 
     log.debug("알림톡 요청 생성 - Template: {}, SenderKey: {}", templateCode, senderKey);
@@ -90,15 +108,13 @@ public class BizppurioMessageService {
   }
 
   /**
-   * 실제 메시지 발송 처리 @Retryable 어노테이션으로 자동 재시도를 구현합니다. 네트워크 오류나 일시적인 서버 오류 시 자동으로 재시도합니다.
+   * 실제 메시지 발송 처리
+   *
+   * <p>5xx 오류는 그대로 던져 호출 측에서 재시도 여부를 판단하게 하고, 4xx 오류는 재시도해도 성공할 수 없으므로 원인을 담아 감싸서 던집니다.
    *
    * @param request 메시지 요청
    * @return 발송 응답
    */
-  @Retryable(
-      value = {HttpServerErrorException.class},
-      maxAttempts = 3,
-      backoff = @Backoff(delay = 1000, multiplier = 2))
   private MessageResponse sendMessage(MessageRequest request) {
     try {
       // 1. Bearer 토큰 획득 (자동 갱신)
@@ -153,7 +169,7 @@ public class BizppurioMessageService {
     } catch (HttpServerErrorException e) {
       // 5xx 에러 (서버 오류) - 재시도 대상
       log.error("메시지 발송 실패 - 서버 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-      throw e; // @Retryable에 의해 재시도됨
+      throw e; // 호출 측에서 재시도
 
     } catch (Exception e) {
       // 기타 오류
@@ -165,7 +181,7 @@ public class BizppurioMessageService {
   /**
    * 고유한 참조키 생성
    *
-   * <p>RefKey는 중복 발송을 방지하는 중요한 역할을 합니다. 같은 RefKey로 재발송하면 비즈뿌리오에서 중복으로 처리합니다.
+   * <p>RefKey는 전달 결과 리포트를 발송 건에 연결하는 고객사 메시지 키입니다. 같은 RefKey로 다시 보내도 중복 발송이 막히지는 않습니다.
    *
    * @return 고유 참조키 (32자)
    */
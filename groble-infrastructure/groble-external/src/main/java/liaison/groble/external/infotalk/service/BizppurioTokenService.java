@@ -2,12 +2,18 @@ package liaison.groble.external.infotalk.service;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.annotation.PostConstruct;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +21,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -28,17 +35,28 @@ import lombok.extern.slf4j.Slf4j;
  * 비즈뿌리오 인증토큰 관리 서비스
  *
  * <p>이 클래스는 다음과 같은 핵심 기능을 제공합니다: 1. 토큰 발급 및 갱신 2. 토큰 유효성 검증 3. 자동 갱신을 통한 토큰 관리
+ *
+ * <p>토큰은 불변 스냅샷으로 보관하므로 조회 시 락을 잡지 않습니다. 만료 여유시간(tokenRefreshMarginMinutes) 시점에 백그라운드에서 미리
+ * 갱신하고, 동시에 갱신이 필요해도 토큰 발급 요청은 한 번만 나갑니다.
  */
 @Slf4j
 @Service
-public class BizppurioTokenService {
+public class BizppurioTokenService implements DisposableBean {
   private final BizppurioConfig config;
   private final RestTemplate restTemplate;
 
-  // 토큰 정보를 메모리에 캐싱
-  // volatile 키워드로 멀티스레드 환경에서의 가시성 보장
-  private volatile String currentToken;
-  private volatile LocalDateTime tokenExpireTime;
+  // 토큰 정보를 불변 스냅샷으로 메모리에 캐싱 (토큰과 만료시간을 항상 함께 교체)
+  private final AtomicReference<TokenSnapshot> snapshot = new AtomicReference<>();
+
+  // 진행 중인 토큰 발급 요청 (동시 갱신 요청을 하나로 합침)
+  private final AtomicReference<CompletableFuture<TokenSnapshot>> inFlightRefresh =
+      new AtomicReference<>();
+
+  // 다음 선제 갱신 예약
+  private final AtomicReference<ScheduledFuture<?>> scheduledRefresh = new AtomicReference<>();
+
+  // 선제 갱신 전용 스케줄러 (발송 스레드가 갱신 요청을 기다리지 않도록 분리)
+  private final ThreadPoolTaskScheduler refreshScheduler;
 
   // 날짜 포맷터 (스레드 세이프하게 static final로 선언)
   private static final DateTimeFormatter DATE_FORMATTER =
@@ -56,6 +74,12 @@ public class BizppurioTokenService {
             .setConnectTimeout(Duration.ofMillis(config.getConnectTimeout()))
             .setReadTimeout(Duration.ofMillis(config.getReadTimeout()))
             .build();
+
+    this.refreshScheduler = new ThreadPoolTaskScheduler();
+    refreshScheduler.setPoolSize(1);
+    refreshScheduler.setThreadNamePrefix("bizppurio-token-");
+    refreshScheduler.setDaemon(true);
+    refreshScheduler.initialize();
   }
 
   /** 애플리케이션 시작 시 토큰을 미리 발급받습니다. 이렇게 하면 첫 API 호출 시 지연을 방지할 수 있습니다. */
@@ -63,7 +87,7 @@ public class BizppurioTokenService {
   public void initializeToken() {
     try {
       log.info("비즈뿌리오 초기 토큰 발급 시작");
-      issueNewToken();
+      await(refresh(false));
     } catch (Exception e) {
       // 초기화 실패는 경고만 하고 진행 (첫 API 호출 시 재시도)
       log.warn("초기 토큰 발급 실패. 첫 API 호출 시 재시도합니다.", e);
@@ -73,55 +97,142 @@ public class BizppurioTokenService {
   /**
    * 유효한 토큰을 반환합니다.
    *
-   * <p>synchronized 키워드로 동시성 제어: - 여러 스레드가 동시에 토큰을 요청해도 중복 발급을 방지 - 토큰 갱신 중 다른 요청은 대기 후 갱신된 토큰을 받음
+   * <p>락 없이 현재 스냅샷만 읽습니다: - 갱신 기준 시간 전이면 그대로 반환 - 갱신 기준은 지났지만 만료 전이면 백그라운드 갱신을 시작하고 현재 토큰을 반환 -
+   * 토큰이 없거나 만료된 경우에만 진행 중인 발급 요청을 기다림
    *
    * @return 유효한 Bearer 토큰
    */
-  public synchronized String getValidToken() {
-    // 토큰이 유효한지 검증
-    if (!isTokenValid()) {
-      log.info("토큰이 만료되었거나 없습니다. 새로 발급받습니다.");
-      issueNewToken();
+  public String getValidToken() {
+    TokenSnapshot current = snapshot.get();
+    LocalDateTime now = LocalDateTime.now();
+
+    if (current != null && current.isFresh(now)) {
+      return current.token();
+    }
+
+    if (current != null && current.isUsable(now)) {
+      // 만료 전이므로 발송은 기존 토큰으로 계속하고 갱신은 백그라운드에서 수행
+      refresh(true);
+      return current.token();
     }
 
-    return currentToken;
+    log.info("토큰이 만료되었거나 없습니다. 새로 발급받습니다.");
+    return await(refresh(false)).token();
   }
 
   /**
-   * 토큰 유효성을 검증합니다.
+   * 토큰 갱신을 시작합니다.
    *
-   * <p>검증 로직: 1. 토큰이 존재하는지 확인 2. 만료 시간이 설정되어 있는지 확인 3. 현재 시간이 (만료시간 - 여유시간) 이전인지 확인
+   * <p>이미 진행 중인 발급 요청이 있으면 그 요청을 함께 기다리고, 없을 때만 새 발급 요청을 만듭니다.
    *
-   * @return 토큰이 유효하면 true
+   * @param background true면 갱신 스레드에서, false면 호출 스레드에서 발급
+   * @return 발급 결과
    */
-  private boolean isTokenValid() {
-    // 토큰이 없거나 만료시간이 없으면 무효
-    if (currentToken == null || tokenExpireTime == null) {
-      return false;
-    }
+  private CompletableFuture<TokenSnapshot> refresh(boolean background) {
+    while (true) {
+      CompletableFuture<TokenSnapshot> existing = inFlightRefresh.get();
+      if (existing != null) {
+        return existing;
+      }
 
-    LocalDateTime now = LocalDateTime.now();
+      CompletableFuture<TokenSnapshot> call = new CompletableFuture<>();
+      if (!inFlightRefresh.compareAndSet(null, call)) {
+        continue;
+      }
 
-    // 여유시간을 두고 미리 갱신 (예: 만료 1시간 전)
-    // 이렇게 하면 정확히 만료 시점에 API 호출이 실패하는 것을 방지
-    LocalDateTime refreshThreshold =
-        tokenExpireTime.minusMinutes(config.getTokenRefreshMarginMinutes());
+      if (!background) {
+        issueInto(call);
+        return call;
+      }
+      try {
+        refreshScheduler.execute(() -> issueInto(call));
+      } catch (RuntimeException e) {
+        // 종료 중 등으로 작업을 받지 못한 경우
+        call.completeExceptionally(e);
+        inFlightRefresh.compareAndSet(call, null);
+      }
+      return call;
+    }
+  }
 
-    boolean isValid = now.isBefore(refreshThreshold);
+  private void issueInto(CompletableFuture<TokenSnapshot> call) {
+    try {
+      // 앞선 발급이 막 끝났을 수 있으므로 다시 확인
+      TokenSnapshot current = snapshot.get();
+      if (current != null && current.isFresh(LocalDateTime.now())) {
+        call.complete(current);
+        return;
+      }
 
-    if (!isValid) {
-      log.debug("토큰 갱신 필요 - 현재: {}, 갱신기준: {}, 만료: {}", now, refreshThreshold, tokenExpireTime);
+      TokenSnapshot issued = issueNewToken();
+      snapshot.set(issued);
+      scheduleProactiveRefresh(issued.refreshAt());
+      call.complete(issued);
+    } catch (RuntimeException e) {
+      call.completeExceptionally(e);
+    } finally {
+      inFlightRefresh.compareAndSet(call, null);
     }
+  }
 
-    return isValid;
+  /** 갱신 기준 시간에 백그라운드 갱신을 예약합니다. 이전 예약은 취소합니다. */
+  private void scheduleProactiveRefresh(LocalDateTime refreshAt) {
+    Duration delay = Duration.between(LocalDateTime.now(), refreshAt);
+    if (delay.isNegative()) {
+      delay = Duration.ZERO;
+    }
+    try {
+      ScheduledFuture<?> next =
+          refreshScheduler.schedule(this::proactiveRefresh, Instant.now().plus(delay));
+      ScheduledFuture<?> previous = scheduledRefresh.getAndSet(next);
+      if (previous != null) {
+        previous.cancel(false);
+      }
+    } catch (RuntimeException e) {
+      log.warn("토큰 선제 갱신 예약 실패. 다음 조회 시 갱신합니다.", e);
+    }
+  }
+
+  /** 예약된 선제 갱신. 실패하면 기존 토큰이 만료되기 전까지 일정 간격으로 다시 시도합니다. */
+  private void proactiveRefresh() {
+    log.info("토큰 만료 여유시간 도달. 백그라운드에서 갱신합니다.");
+    refresh(false)
+        .whenComplete(
+            (issued, error) -> {
+              if (error == null) {
+                return;
+              }
+              LocalDateTime retryAt =
+                  LocalDateTime.now().plusSeconds(config.getTokenRefreshRetrySeconds());
+              TokenSnapshot current = snapshot.get();
+              if (current != null && current.isUsable(retryAt)) {
+                log.warn("토큰 선제 갱신 실패. {}초 후 재시도합니다.", config.getTokenRefreshRetrySeconds());
+                scheduleProactiveRefresh(retryAt);
+              } else {
+                log.warn("토큰 선제 갱신 실패. 다음 조회 시 갱신합니다.");
+              }
+            });
+  }
+
+  private static TokenSnapshot await(CompletableFuture<TokenSnapshot> call) {
+    try {
+      return call.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
   }
 
   /**
    * 새로운 토큰을 발급받습니다.
    *
-   * <p>구현 포인트: 1. Basic Authentication 헤더 생성 2. POST 요청으로 토큰 발급 3. 응답에서 토큰과 만료시간 추출 4. 메모리에 캐싱
+   * <p>구현 포인트: 1. Basic Authentication 헤더 생성 2. POST 요청으로 토큰 발급 3. 응답에서 토큰과 만료시간 추출
+   *
+   * @return 발급된 토큰 스냅샷
    */
-  private void issueNewToken() {
+  private TokenSnapshot issueNewToken() {
     try {
       // API URL 구성
       String url = config.getBaseUrl() + TOKEN_ENDPOINT;
@@ -140,7 +251,7 @@ public class BizppurioTokenService {
 
       // 응답 처리
       if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-        handleTokenResponse(response.getBody());
+        return handleTokenResponse(response.getBody());
       } else {
         throw new RuntimeException("토큰 발급 실패 - 응답코드: " + response.getStatusCode());
       }
@@ -181,27 +292,50 @@ public class BizppurioTokenService {
     return headers;
   }
 
-  /** 토큰 응답을 처리하고 메모리에 저장합니다. */
-  private void handleTokenResponse(TokenResponse tokenResponse) {
-    // 토큰 저장
-    this.currentToken = tokenResponse.getAccessToken();
+  /** 토큰 응답을 스냅샷으로 변환합니다. */
+  private TokenSnapshot handleTokenResponse(TokenResponse tokenResponse) {
+    String token = tokenResponse.getAccessToken();
 
-    // 만료시간 파싱 및 저장
-    this.tokenExpireTime = LocalDateTime.parse(tokenResponse.getExpired(), DATE_FORMATTER);
+    // 만료시간 파싱
+    LocalDateTime expireTime = LocalDateTime.parse(tokenResponse.getExpired(), DATE_FORMATTER);
 
-    log.info("토큰 발급 성공 - 타입: {}, 만료시간: {}", tokenResponse.getType(), tokenExpireTime);
+    // 여유시간을 두고 미리 갱신 (예: 만료 1시간 전)
+    // 이렇게 하면 정확히 만료 시점에 API 호출이 실패하는 것을 방지
+    LocalDateTime refreshAt = expireTime.minusMinutes(config.getTokenRefreshMarginMinutes());
+
+    log.info(
+        "토큰 발급 성공 - 타입: {}, 만료시간: {}, 갱신예정: {}", tokenResponse.getType(), expireTime, refreshAt);
 
     // 토큰 길이 로깅 (보안상 토큰 자체는 로깅하지 않음)
-    log.debug("토큰 길이: {} 문자", currentToken.length());
+    log.debug("토큰 길이: {} 문자", token.length());
+
+    return new TokenSnapshot(token, expireTime, refreshAt);
   }
 
   /** 현재 토큰의 남은 유효시간을 분 단위로 반환합니다. 모니터링이나 디버깅에 유용합니다. */
   public long getRemainingTokenMinutes() {
-    if (tokenExpireTime == null) {
+    TokenSnapshot current = snapshot.get();
+    if (current == null) {
       return 0;
     }
 
-    Duration remaining = Duration.between(LocalDateTime.now(), tokenExpireTime);
+    Duration remaining = Duration.between(LocalDateTime.now(), current.expireTime());
     return remaining.toMinutes();
   }
+
+  @Override
+  public void destroy() {
+    refreshScheduler.shutdown();
+  }
+
+  /** 토큰, 만료시간, 갱신 기준 시간을 함께 담는 불변 스냅샷 */
+  private record TokenSnapshot(String token, LocalDateTime expireTime, LocalDateTime refreshAt) {
+    boolean isFresh(LocalDateTime now) {
+      return now.isBefore(refreshAt);
+    }
+
+    boolean isUsable(LocalDateTime now) {
+      return now.isBefore(expireTime);
+    }
+  }
 }
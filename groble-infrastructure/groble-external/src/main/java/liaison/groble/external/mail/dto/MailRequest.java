@@ -0,0 +1,8 @@
+package liaison.groble.external.mail.dto;
+
+import java.util.Map;
+
+import liaison.groble.external.mail.template.MailTemplateType;
+
+/** 템플릿 메일 한 건의 발송 요청 */
+public record MailRequest(MailTemplateType template, String to, Map<String, String> params) {}
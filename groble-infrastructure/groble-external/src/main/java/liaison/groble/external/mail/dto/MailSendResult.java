@@ -0,0 +1,25 @@
+package liaison.groble.external.mail.dto;
+
+/** 메일 한 건의 발송 결과 */
+public record MailSendResult(Status status, String error) {
+
+  public enum Status {
+    SENT,
+    // 연결 오류, 일시적 거절 등 재시도로 성공할 수 있는 실패
+    FAILED,
+    // 수신 주소 거절, 템플릿 값 누락 등 재시도해도 성공할 수 없는 실패
+    REJECTED
+  }
+
+  public static MailSendResult sent() {
+    return new MailSendResult(Status.SENT, null);
+  }
+
+  public static MailSendResult failed(String error) {
+    return new MailSendResult(Status.FAILED, error);
+  }
+
+  public static MailSendResult rejected(String error) {
+    return new MailSendResult(Status.REJECTED, error);
+  }
+}
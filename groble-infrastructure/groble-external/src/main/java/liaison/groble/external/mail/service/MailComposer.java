@@ -0,0 +1,86 @@
+package liaison.groble.external.mail.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import liaison.groble.external.mail.dto.MailRequest;
+import liaison.groble.external.mail.template.MailTemplate;
+import liaison.groble.external.mail.template.MailTemplateType;
+
+/**
+ * 템플릿 메일 작성기
+ *
+ * <p>기동 시 classpath:mail/ 아래의 HTML/텍스트 본문을 모두 읽어 컴파일해 두고, 발송 시에는 값만 채워 텍스트+HTML 이중본 메시지를 만듭니다.
+ * 템플릿 파일이 없으면 기동에 실패합니다.
+ */
+@Component
+public class MailComposer {
+  private static final String REPLY_TO = "groble@groble.im";
+  private static final String LIST_UNSUBSCRIBE = "<mailto:groble@groble.im>";
+
+  private final JavaMailSender mailSender;
+  private final String from;
+  private final String frontendUrl;
+  private final Map<MailTemplateType, MailTemplate> textTemplates =
+      new EnumMap<>(MailTemplateType.class);
+  private final Map<MailTemplateType, MailTemplate> htmlTemplates =
+      new EnumMap<>(MailTemplateType.class);
+
+  public MailComposer(
+      JavaMailSender mailSender,
+      @Value("${spring.mail.username}") String fromEmail,
+      @Value("${app.frontend-url}") String frontendUrl) {
+    this.mailSender = mailSender;
+    this.from = String.format("Groble <%s>", fromEmail);
+    this.frontendUrl = frontendUrl;
+    for (MailTemplateType type : MailTemplateType.values()) {
+      textTemplates.put(type, load(type, "txt"));
+      htmlTemplates.put(type, load(type, "html"));
+    }
+  }
+
+  public MimeMessage compose(MailRequest request) throws MessagingException {
+    Map<String, String> values = new HashMap<>(request.params());
+    values.put("frontendUrl", frontendUrl);
+    values.put("email", request.to());
+
+    String plainText =
+        textTemplates.get(request.template()).render(values, UnaryOperator.identity());
+    String htmlContent =
+        htmlTemplates.get(request.template()).render(values, HtmlUtils::htmlEscape);
+
+    MimeMessage message = mailSender.createMimeMessage();
+    message.addHeader("List-Unsubscribe", LIST_UNSUBSCRIBE);
+    MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    helper.setFrom(from);
+    helper.setReplyTo(REPLY_TO);
+    helper.setTo(request.to());
+    helper.setSubject(request.template().getSubject());
+    helper.setText(plainText, htmlContent);
+    return message;
+  }
+
+  private static MailTemplate load(MailTemplateType type, String extension) {
+    String path = "mail/" + type.getResourceName() + "." + extension;
+    try (InputStream in = new ClassPathResource(path).getInputStream()) {
+      return MailTemplate.compile(path, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new IllegalStateException("메일 템플릿을 읽을 수 없습니다: " + path, e);
+    }
+  }
+}
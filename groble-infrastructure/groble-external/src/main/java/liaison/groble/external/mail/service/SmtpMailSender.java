@@ -0,0 +1,140 @@
+package liaison.groble.external.mail.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+
+import org.springframework.stereotype.Component;
+
+import liaison.groble.external.mail.dto.MailRequest;
+import liaison.groble.external.mail.dto.MailSendResult;
+import liaison.groble.external.mail.service.SmtpTransportPool.PooledTransport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 풀링된 SMTP 연결로 템플릿 메일을 일괄 발송합니다.
+ *
+ * <p>한 번의 호출에서 연결 하나를 빌려 모든 메일을 같은 세션으로 보냅니다. 수신 주소 거절은 해당 메일만 실패로 처리하고 연결을 계속 사용하며, 연결 오류가 나면
+ * 연결을 버리고 남은 메일은 새 연결로 이어서 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpMailSender {
+  private static final String METRIC_PREFIX = "mail.smtp";
+
+  private final MailComposer mailComposer;
+  private final SmtpTransportPool transportPool;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 메일을 순서대로 발송합니다.
+   *
+   * @return 요청과 같은 순서의 발송 결과
+   */
+  public List<MailSendResult> sendAll(List<MailRequest> requests) {
+    List<MailSendResult> results = new ArrayList<>(requests.size());
+    PooledTransport connection = null;
+    try {
+      for (MailRequest request : requests) {
+        MimeMessage message;
+        try {
+          message = mailComposer.compose(request);
+        } catch (MessagingException | IllegalArgumentException e) {
+          results.add(record(request, MailSendResult.rejected(describe(e)), -1L));
+          continue;
+        }
+
+        if (connection == null) {
+          try {
+            connection = transportPool.borrow();
+          } catch (MessagingException e) {
+            // 연결할 수 없으면 남은 메일은 모두 다음 시도로 미룸
+            log.warn(
+                "SMTP 연결 실패 - 대기 메일: {}, 오류: {}",
+                requests.size() - results.size(),
+                describe(e));
+            while (results.size() < requests.size()) {
+              results.add(MailSendResult.failed(describe(e)));
+            }
+            return results;
+          }
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+          connection.send(message);
+          results.add(record(request, MailSendResult.sent(), System.nanoTime() - startedAt));
+        } catch (SendFailedException e) {
+          MailSendResult result =
+              isRecipientRejected(e)
+                  ? MailSendResult.rejected(describe(e))
+                  : MailSendResult.failed(describe(e));
+          results.add(record(request, result, System.nanoTime() - startedAt));
+        } catch (MessagingException e) {
+          results.add(
+              record(request, MailSendResult.failed(describe(e)), System.nanoTime() - startedAt));
+          transportPool.release(connection, false);
+          connection = null;
+        }
+      }
+      return results;
+    } finally {
+      if (connection != null) {
+        transportPool.release(connection, true);
+      }
+    }
+  }
+
+  /** 유휴 시간을 넘긴 풀 연결을 정리합니다. */
+  public void evictIdleConnections() {
+    transportPool.evictIdle();
+  }
+
+  private MailSendResult record(MailRequest request, MailSendResult result, long elapsedNanos) {
+    String template = request.template().name();
+    String outcome = result.status().name().toLowerCase();
+    meterRegistry
+        .counter(METRIC_PREFIX + ".messages", "template", template, "outcome", outcome)
+        .increment();
+    // 작성 단계에서 실패해 전송하지 않은 메일은 전송 시간에 포함하지 않음
+    if (elapsedNanos >= 0) {
+      Timer.builder(METRIC_PREFIX + ".send")
+          .tag("template", template)
+          .tag("outcome", outcome)
+          .description("SMTP 메일 한 건 전송 소요 시간")
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+    if (result.status() != MailSendResult.Status.SENT) {
+      log.warn(
+          "메일 발송 실패 - template: {}, 수신자: {}, 결과: {}, 오류: {}",
+          request.template(),
+          request.to(),
+          result.status(),
+          result.error());
+    }
+    return result;
+  }
+
+  // 서버가 수신 주소를 거절해 아무에게도 보내지 못한 경우 재시도해도 성공할 수 없음
+  private static boolean isRecipientRejected(SendFailedException e) {
+    return e.getInvalidAddresses() != null
+        && e.getInvalidAddresses().length > 0
+        && (e.getValidSentAddresses() == null || e.getValidSentAddresses().length == 0)
+        && (e.getValidUnsentAddresses() == null || e.getValidUnsentAddresses().length == 0);
+  }
+
+  private static String describe(Throwable cause) {
+    return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+  }
+}
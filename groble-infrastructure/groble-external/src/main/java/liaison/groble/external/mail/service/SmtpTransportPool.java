@@ -0,0 +1,182 @@
+package liaison.groble.external.mail.service;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 SMTP 연결 풀
+ *
+ * <p>JavaMailSender.send()는 메일마다 연결, STARTTLS, AUTH, QUIT을 반복합니다. 이 풀은 인증을 마친 연결을 최대 {@code
+ * size}개까지 유지하며 여러 메일을 같은 세션으로 보냅니다. 연결은 최근 반납된 것부터 재사용하고, 유휴 시간이나 연결당 발송 수 한도를 넘기면 닫고 새로
+ * 연결해 서버 측 세션 제한에 걸리지 않게 합니다. 재사용 전에는 NOOP으로 연결이 살아 있는지 확인합니다.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool implements DisposableBean {
+  private static final String METRIC_PREFIX = "mail.smtp";
+
+  private final JavaMailSenderImpl mailSender;
+  private final MeterRegistry meterRegistry;
+  private final Semaphore permits;
+  private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+
+  private final int maxMessagesPerConnection;
+  private final long maxIdleNanos;
+  private final long borrowTimeoutNanos;
+  private volatile boolean closed;
+
+  public SmtpTransportPool(
+      JavaMailSenderImpl mailSender,
+      MeterRegistry meterRegistry,
+      @Value("${groble.mail-pool.size:4}") int size,
+      @Value("${groble.mail-pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+      @Value("${groble.mail-pool.max-idle:30s}") Duration maxIdle,
+      @Value("${groble.mail-pool.borrow-timeout:10s}") Duration borrowTimeout) {
+    this.mailSender = mailSender;
+    this.meterRegistry = meterRegistry;
+    this.permits = new Semaphore(size, true);
+    this.maxMessagesPerConnection = maxMessagesPerConnection;
+    this.maxIdleNanos = maxIdle.toNanos();
+    this.borrowTimeoutNanos = borrowTimeout.toNanos();
+
+    Gauge.builder(METRIC_PREFIX + ".pool.active", permits, p -> size - p.availablePermits())
+        .description("발송 중인 SMTP 연결 수")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".pool.idle", idle, Deque::size)
+        .description("재사용 대기 중인 SMTP 연결 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 인증된 연결을 빌립니다. 사용 후에는 반드시 {@link #release}로 반납해야 합니다.
+   *
+   * @throws MessagingException 대기 시간 안에 연결을 얻지 못했거나 연결, 인증에 실패한 경우
+   */
+  public PooledTransport borrow() throws MessagingException {
+    acquirePermit();
+    try {
+      PooledTransport transport;
+      while ((transport = idle.pollFirst()) != null) {
+        if (isReusable(transport)) {
+          return transport;
+        }
+        transport.close();
+      }
+      return open();
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 연결을 반납합니다.
+   *
+   * @param reusable 발송 중 연결 오류가 났으면 false로 넘겨 연결을 닫습니다
+   */
+  public void release(PooledTransport transport, boolean reusable) {
+    try {
+      if (reusable && !closed && transport.sentCount < maxMessagesPerConnection) {
+        transport.lastUsedAt = System.nanoTime();
+        idle.offerFirst(transport);
+      } else {
+        transport.close();
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /** 유휴 시간을 넘긴 연결을 닫습니다. 서버가 먼저 끊기 전에 정리해 소켓을 붙잡고 있지 않게 합니다. */
+  public void evictIdle() {
+    long now = System.nanoTime();
+    for (PooledTransport transport : idle) {
+      if (now - transport.lastUsedAt > maxIdleNanos && idle.remove(transport)) {
+        transport.close();
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {
+    closed = true;
+    PooledTransport transport;
+    while ((transport = idle.pollFirst()) != null) {
+      transport.close();
+    }
+  }
+
+  private void acquirePermit() throws MessagingException {
+    try {
+      if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new MessagingException("SMTP 연결 대기 시간 초과");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("SMTP 연결 대기 중 인터럽트", e);
+    }
+  }
+
+  private boolean isReusable(PooledTransport transport) {
+    return System.nanoTime() - transport.lastUsedAt <= maxIdleNanos
+        && transport.transport.isConnected();
+  }
+
+  private PooledTransport open() throws MessagingException {
+    Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+    try {
+      transport.connect(
+          mailSender.getHost(),
+          mailSender.getPort(),
+          mailSender.getUsername(),
+          mailSender.getPassword());
+    } catch (MessagingException e) {
+      meterRegistry.counter(METRIC_PREFIX + ".connections", "event", "failed").increment();
+      throw e;
+    }
+    meterRegistry.counter(METRIC_PREFIX + ".connections", "event", "opened").increment();
+    return new PooledTransport(transport);
+  }
+
+  /** 풀에서 빌린 SMTP 연결 */
+  public final class PooledTransport {
+    private final Transport transport;
+    private int sentCount;
+    private volatile long lastUsedAt = System.nanoTime();
+
+    private PooledTransport(Transport transport) {
+      this.transport = transport;
+    }
+
+    public void send(MimeMessage message) throws MessagingException {
+      message.saveChanges();
+      sentCount++;
+      transport.sendMessage(message, message.getAllRecipients());
+    }
+
+    private void close() {
+      try {
+        transport.close();
+      } catch (MessagingException e) {
+        log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+      }
+      meterRegistry.counter(METRIC_PREFIX + ".connections", "event", "closed").increment();
+    }
+  }
+}
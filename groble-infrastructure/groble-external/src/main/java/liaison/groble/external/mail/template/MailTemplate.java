@@ -0,0 +1,62 @@
+package liaison.groble.external.mail.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일된 메일 본문 템플릿
+ *
+ * <p>로딩 시 한 번만 {@code {{name}}} 자리표시자를 찾아 고정 문자열과 변수 조각으로 나눠 두고, 발송 시에는 조각을 이어 붙이기만 합니다.
+ */
+public final class MailTemplate {
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+
+  private final String name;
+  private final List<String> literals;
+  private final List<String> variables;
+  private final int literalLength;
+
+  private MailTemplate(String name, List<String> literals, List<String> variables) {
+    this.name = name;
+    this.literals = literals;
+    this.variables = variables;
+    this.literalLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  public static MailTemplate compile(String name, String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    Matcher matcher = PLACEHOLDER.matcher(source);
+    int last = 0;
+    while (matcher.find()) {
+      literals.add(source.substring(last, matcher.start()));
+      variables.add(matcher.group(1));
+      last = matcher.end();
+    }
+    literals.add(source.substring(last));
+    return new MailTemplate(name, List.copyOf(literals), List.copyOf(variables));
+  }
+
+  /**
+   * 값을 채워 본문을 만듭니다.
+   *
+   * @param escaper 값에 적용할 변환 (HTML 본문은 이스케이프)
+   * @throws IllegalArgumentException 템플릿이 요구하는 값이 없는 경우
+   */
+  public String render(Map<String, String> values, UnaryOperator<String> escaper) {
+    StringBuilder out = new StringBuilder(literalLength + variables.size() * 32);
+    for (int i = 0; i < variables.size(); i++) {
+      String value = values.get(variables.get(i));
+      if (value == null) {
+        throw new IllegalArgumentException(
+            "메일 템플릿 값 누락 - template: " + name + ", key: " + variables.get(i));
+      }
+      out.append(literals.get(i)).append(escaper.apply(value));
+    }
+    return out.append(literals.get(variables.size())).toString();
+  }
+}
@@ -0,0 +1,16 @@
+package liaison.groble.external.mail.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 메일 템플릿 종류 (본문은 classpath:mail/{resourceName}.html, .txt) */
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplateType {
+  VERIFICATION("verification", "Groble 서비스 이메일 인증 코드"),
+  PASSWORD_RESET("password-reset", "Groble 비밀번호 재설정"),
+  SALE_NOTIFICATION("sale-notification", "Groble 콘텐츠 판매 알림");
+
+  private final String resourceName;
+  private final String subject;
+}
@@ -2,18 +2,33 @@ package liaison.groble.external.s3;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.util.UriUtils;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
+import liaison.groble.domain.file.entity.PresignedUrlInfo;
+import liaison.groble.domain.file.entity.StoredFileInfo;
 import liaison.groble.domain.file.service.FileStorageService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class S3FileStorageService implements FileStorageService {
+  private static final String UPLOADER_ID_METADATA = "uploader-id";
 
   private final AmazonS3 amazonS3;
 
@@ -32,36 +48,163 @@ public class S3FileStorageService implements FileStorageService {
   @Value("${cloud.aws.s3.cloud-front-image-domain}")
   private String cloudDomain;
 
+  @Value("${cloud.aws.s3.multipart.threshold:16MB}")
+  private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+
+  @Value("${cloud.aws.s3.multipart.part-size:8MB}")
+  private DataSize multipartPartSize = DataSize.ofMegabytes(8);
+
+  @Value("${cloud.aws.s3.presigned-upload.expiration:PT15M}")
+  private Duration presignedUploadExpiration = Duration.ofMinutes(15);
+
+  // 멀티파트 업로드 전용, init() 이전(단위 테스트 등)에는 단일 PUT으로 업로드
+  private TransferManager transferManager;
+
   @PostConstruct
   public void init() {
-    log.info("▶ S3FileStorageService initialized for bucket={}", bucketName);
+    transferManager =
+        TransferManagerBuilder.standard()
+            .withS3Client(amazonS3)
+            .withMultipartUploadThreshold(multipartThreshold.toBytes())
+            .withMinimumUploadPartSize(multipartPartSize.toBytes())
+            .build();
+    log.info(
+        "▶ S3FileStorageService initialized for bucket={}, multipartThreshold={}, partSize={}",
+        bucketName,
+        multipartThreshold,
+        multipartPartSize);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (transferManager != null) {
+      // AmazonS3 클라이언트는 빈으로 공유되므로 함께 종료하지 않음
+      transferManager.shutdownNow(false);
+    }
   }
 
   @Override
   public String uploadFile(
       InputStream inputStream, String fileName, String contentType, String directory) {
+    // 크기를 모르는 스트림은 SDK가 메모리에 버퍼링하므로 가능하면 contentLength 오버로드를 사용
+    return uploadFile(inputStream, -1L, fileName, contentType, directory);
+  }
+
+  @Override
+  public String uploadFile(
+      InputStream inputStream,
+      long contentLength,
+      String fileName,
+      String contentType,
+      String directory) {
     // 1) 원본 키(슬래시 포함) 생성
-    String rawKey = (directory.endsWith("/") ? directory : directory + "/") + fileName;
+    String rawKey = buildKey(directory, fileName);
 
-    // 2) S3에 업로드
+    // 2) S3에 업로드 (크기를 알면 버퍼링 없이 스트리밍, 임계값 이상이면 멀티파트)
     ObjectMetadata metadata = new ObjectMetadata();
     metadata.setContentType(contentType);
-    amazonS3.putObject(new PutObjectRequest(bucketName, rawKey, inputStream, metadata));
-
-    // 3) 키를 URL-안전하게 인코딩 (슬래시만 제외)
-    String encodedKey = encodeKeyPreservingHierarchy(rawKey);
-
-    // 4) 퍼블릭 도메인 + 인코딩된 키를 합쳐서 반환
-    String resultUrl = cloudDomain + "/" + encodedKey;
+    if (contentLength >= 0) {
+      metadata.setContentLength(contentLength);
+    }
+    PutObjectRequest request = new PutObjectRequest(bucketName, rawKey, inputStream, metadata);
+
+    if (transferManager != null && contentLength >= multipartThreshold.toBytes()) {
+      uploadMultipart(request, contentLength);
+    } else {
+      amazonS3.putObject(request);
+    }
+
+    // 3) 퍼블릭 도메인 + 인코딩된 키를 합쳐서 반환
+    String resultUrl = toPublicUrl(rawKey);
     log.debug("Uploaded to S3, returning URL: {}", resultUrl);
     return resultUrl;
   }
 
+  @Override
+  public PresignedUrlInfo generatePresignedUploadUrl(
+      String fileName, String contentType, String directory, Long uploaderId) {
+    String rawKey = buildKey(directory, fileName);
+    LocalDateTime expiration = LocalDateTime.now().plus(presignedUploadExpiration);
+
+    GeneratePresignedUrlRequest request =
+        new GeneratePresignedUrlRequest(bucketName, rawKey)
+            .withMethod(HttpMethod.PUT)
+            .withContentType(contentType)
+            .withExpiration(Date.from(expiration.atZone(ZoneId.systemDefault()).toInstant()));
+    // 서명에 포함되므로 클라이언트는 동일한 헤더로만 업로드할 수 있음
+    String uploaderHeader = Headers.S3_USER_METADATA_PREFIX + UPLOADER_ID_METADATA;
+    request.putCustomRequestHeader(uploaderHeader, String.valueOf(uploaderId));
+
+    return PresignedUrlInfo.builder()
+        .key(rawKey)
+        .url(amazonS3.generatePresignedUrl(request).toString())
+        .expiration(expiration)
+        .contentType(contentType)
+        .headers(
+            Map.of(
+                Headers.CONTENT_TYPE, contentType, uploaderHeader, String.valueOf(uploaderId)))
+        .fileUrl(toPublicUrl(rawKey))
+        .build();
+  }
+
+  @Override
+  public Optional<StoredFileInfo> findStoredFile(String fileKey) {
+    ObjectMetadata metadata;
+    try {
+      metadata = amazonS3.getObjectMetadata(bucketName, fileKey);
+    } catch (AmazonS3Exception e) {
+      if (e.getStatusCode() == 404) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+
+    String uploaderId = metadata.getUserMetaDataOf(UPLOADER_ID_METADATA);
+    return Optional.of(
+        StoredFileInfo.builder()
+            .key(fileKey)
+            .fileUrl(toPublicUrl(fileKey))
+            .contentType(metadata.getContentType())
+            .contentLength(metadata.getContentLength())
+            .uploaderId(parseUploaderId(uploaderId))
+            .build());
+  }
+
   @Override
   public void deleteFile(String fileKey) {
     amazonS3.deleteObject(new DeleteObjectRequest(bucketName, fileKey));
   }
 
+  private void uploadMultipart(PutObjectRequest request, long contentLength) {
+    try {
+      transferManager.upload(request).waitForCompletion();
+      log.debug("Multipart upload completed - key: {}, size: {}", request.getKey(), contentLength);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AmazonClientException("S3 멀티파트 업로드가 중단되었습니다: " + request.getKey(), e);
+    }
+  }
+
+  private String buildKey(String directory, String fileName) {
+    return (directory.endsWith("/") ? directory : directory + "/") + fileName;
+  }
+
+  private String toPublicUrl(String rawKey) {
+    // 키를 URL-안전하게 인코딩 (슬래시만 제외)
+    return cloudDomain + "/" + encodeKeyPreservingHierarchy(rawKey);
+  }
+
+  private Long parseUploaderId(String uploaderId) {
+    if (uploaderId == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(uploaderId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   private String encodeKeyPreservingHierarchy(String rawKey) {
     return Arrays.stream(rawKey.split("/"))
         .map(this::encodePathSegmentStrictly)
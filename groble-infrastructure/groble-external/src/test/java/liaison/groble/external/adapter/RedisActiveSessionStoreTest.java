@@ -0,0 +1,129 @@
+package liaison.groble.external.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import liaison.groble.domain.session.GuestActiveSession;
+import liaison.groble.domain.session.MemberActiveSession;
+
+@ExtendWith(MockitoExtension.class)
+class RedisActiveSessionStoreTest {
+  private static final String MEMBER_ZSET_KEY = "active:sessions:member";
+  private static final String GUEST_ZSET_KEY = "active:sessions:guest";
+  private static final Instant THRESHOLD = Instant.parse("2025-03-01T00:00:00Z");
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ZSetOperations<String, String> zSetOperations;
+  @Mock private StringRedisConnection connection;
+
+  private final List<String> pipelinedKeys = new ArrayList<>();
+  private RedisActiveSessionStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new RedisActiveSessionStore(redisTemplate);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+  }
+
+  @Test
+  void findActiveMemberSessions_keepsKeyOrderAndRemovesStaleKeys() {
+    givenSessionKeys(MEMBER_ZSET_KEY, "s3", "s1", "s2");
+    // 파이프라인 결과는 명령 순서대로 반환되며, 만료된 상세 해시는 빈 맵으로 옴
+    givenDetails(
+        Map.of(
+            "active:sessions:member:s3", member(3L),
+            "active:sessions:member:s2", member(2L)));
+
+    List<MemberActiveSession> sessions = store.findActiveMemberSessions(THRESHOLD, 10);
+
+    assertThat(pipelinedKeys)
+        .containsExactly(
+            "active:sessions:member:s3", "active:sessions:member:s1", "active:sessions:member:s2");
+    assertThat(sessions).extracting(MemberActiveSession::getSessionKey).containsExactly("s3", "s2");
+    assertThat(sessions).extracting(MemberActiveSession::getUserId).containsExactly(3L, 2L);
+    assertThat(sessions.get(0).getRoles()).containsExactly("ROLE_USER", "ROLE_SELLER");
+    verify(zSetOperations).remove(MEMBER_ZSET_KEY, "s1");
+  }
+
+  @Test
+  void findActiveGuestSessions_treatsMissingPipelineResultsAsStale() {
+    givenSessionKeys(GUEST_ZSET_KEY, "g1", "g2");
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              RedisCallback<?> callback = invocation.getArgument(0);
+              callback.doInRedis(connection);
+              List<Object> results = new ArrayList<>();
+              results.add(Map.of("guestId", "7", "authenticated", "true"));
+              return results;
+            });
+
+    List<GuestActiveSession> sessions = store.findActiveGuestSessions(THRESHOLD, 10);
+
+    assertThat(sessions).extracting(GuestActiveSession::getSessionKey).containsExactly("g1");
+    assertThat(sessions.get(0).getGuestId()).isEqualTo(7L);
+    assertThat(sessions.get(0).isAuthenticated()).isTrue();
+    verify(zSetOperations).remove(GUEST_ZSET_KEY, "g2");
+  }
+
+  @Test
+  void findActiveMemberSessions_skipsRemovalWhenNothingIsStale() {
+    givenSessionKeys(MEMBER_ZSET_KEY, "s1");
+    givenDetails(Map.of("active:sessions:member:s1", member(1L)));
+
+    assertThat(store.findActiveMemberSessions(THRESHOLD, 10)).hasSize(1);
+
+    verify(zSetOperations, never()).remove(anyString(), any(Object[].class));
+  }
+
+  private void givenSessionKeys(String zsetKey, String... sessionKeys) {
+    when(zSetOperations.reverseRangeByScore(
+            eq(zsetKey), anyDouble(), anyDouble(), anyLong(), anyLong()))
+        .thenReturn(new LinkedHashSet<>(List.of(sessionKeys)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenDetails(Map<String, Map<String, String>> detailsByKey) {
+    when(connection.hGetAll(anyString()))
+        .thenAnswer(
+            invocation -> {
+              pipelinedKeys.add(invocation.getArgument(0));
+              return null;
+            });
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              RedisCallback<?> callback = invocation.getArgument(0);
+              callback.doInRedis(connection);
+              List<Object> results = new ArrayList<>();
+              for (String key : pipelinedKeys) {
+                results.add(detailsByKey.getOrDefault(key, Map.of()));
+              }
+              return results;
+            });
+  }
+
+  private static Map<String, String> member(Long userId) {
+    return Map.of(
+        "userId", String.valueOf(userId),
+        "accountType", "INTEGRATED",
+        "roles", "ROLE_USER, ROLE_SELLER",
+        "lastSeenAt", "2025-03-01T00:01:00Z");
+  }
+}
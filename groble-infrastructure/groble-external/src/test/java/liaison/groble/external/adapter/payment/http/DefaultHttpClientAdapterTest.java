@@ -0,0 +1,135 @@
+package liaison.groble.external.adapter.payment.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DefaultHttpClientAdapterTest {
+
+  private HttpServer server;
+  private String baseUrl;
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger transferCalls = new AtomicInteger();
+
+  private DefaultHttpClientAdapter adapter;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/approval",
+        exchange -> {
+          clientPorts.add(exchange.getRemoteAddress().getPort());
+          respond(exchange, 200, "{\"PCD_PAY_RST\":\"success\"}");
+        });
+    server.createContext(
+        "/transfer",
+        exchange -> {
+          transferCalls.incrementAndGet();
+          respond(exchange, 500, "{\"result\":\"error\"}");
+        });
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+    adapter =
+        new DefaultHttpClientAdapter(
+            10, 5, Duration.ofSeconds(30), Duration.ofSeconds(2), Duration.ofSeconds(1));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    adapter.destroy();
+    server.stop(0);
+  }
+
+  @Test
+  void post_reusesKeepAliveConnection() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      HttpResponse response = adapter.post(HttpRequest.post(baseUrl + "/approval", "{}"));
+      assertEquals(200, response.getStatusCode());
+      assertEquals("{\"PCD_PAY_RST\":\"success\"}", response.getBody());
+    }
+
+    // 순차 요청 5건이 하나의 TCP 커넥션(같은 클라이언트 포트)으로 처리되어야 함
+    assertEquals(1, clientPorts.size());
+    assertEquals(1, adapter.getPoolStats().getAvailable());
+  }
+
+  @Test
+  void circuitBreaker_isTrackedPerEndpoint() throws Exception {
+    ResilientHttpClientAdapter resilient =
+        new ResilientHttpClientAdapter(
+            adapter,
+            new SimpleMeterRegistry(),
+            2,
+            Duration.ofMinutes(1),
+            1,
+            4,
+            Duration.ofMillis(100),
+            3,
+            Duration.ofMillis(1),
+            Duration.ofMillis(5));
+
+    // 비멱등 요청의 5xx 응답은 재시도하지 않음
+    resilient.post(HttpRequest.post(baseUrl + "/transfer", "{}"));
+    resilient.post(HttpRequest.post(baseUrl + "/transfer", "{}"));
+    assertEquals(2, transferCalls.get());
+
+    // 이체 엔드포인트만 차단되고 승인 엔드포인트는 계속 호출 가능해야 함
+    assertThrows(
+        HttpClientException.class,
+        () -> resilient.post(HttpRequest.post(baseUrl + "/transfer", "{}")));
+    assertEquals(2, transferCalls.get());
+    assertEquals(
+        200, resilient.post(HttpRequest.post(baseUrl + "/approval", "{}")).getStatusCode());
+  }
+
+  @Test
+  void idempotentRequest_isRetriedOnServerError() throws Exception {
+    ResilientHttpClientAdapter resilient =
+        new ResilientHttpClientAdapter(
+            adapter,
+            new SimpleMeterRegistry(),
+            10,
+            Duration.ofMinutes(1),
+            1,
+            4,
+            Duration.ofMillis(100),
+            3,
+            Duration.ofMillis(1),
+            Duration.ofMillis(5));
+
+    HttpResponse response =
+        resilient.post(HttpRequest.post(baseUrl + "/transfer", "{}").asIdempotent());
+
+    assertEquals(500, response.getStatusCode());
+    assertEquals(3, transferCalls.get());
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+}
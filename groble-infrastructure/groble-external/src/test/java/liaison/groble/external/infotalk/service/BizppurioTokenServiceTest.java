@@ -0,0 +1,190 @@
+package liaison.groble.external.infotalk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import liaison.groble.external.config.BizppurioConfig;
+
+class BizppurioTokenServiceTest {
+  private static final DateTimeFormatter EXPIRED_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+  private static final int CALLERS = 16;
+
+  private final AtomicInteger tokenCalls = new AtomicInteger();
+  private final CountDownLatch secondCallStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseSecondCall = new CountDownLatch(1);
+  private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+  private HttpServer server;
+  private volatile IntFunction<LocalDateTime> expiryOfCall;
+  private volatile boolean failAfterFirstCall;
+  private BizppurioTokenService tokenService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/v1/token", this::issueToken);
+    server.start();
+
+    BizppurioConfig config = new BizppurioConfig();
+    config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+    config.setAccount("account");
+    config.setPassword("password");
+    config.setTokenRefreshMarginMinutes(60);
+    tokenService = new BizppurioTokenService(config, new RestTemplateBuilder());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    releaseSecondCall.countDown();
+    tokenService.destroy();
+    server.stop(0);
+  }
+
+  @Test
+  void getValidToken_issuesOnceWhenCallersHitExpiryTogether() throws Exception {
+    // 첫 토큰은 이미 만료, 이후 토큰은 2시간 유효
+    expiryOfCall = call -> call == 1 ? LocalDateTime.now().minusMinutes(1) : inTwoHours();
+    tokenService.initializeToken();
+
+    List<Future<String>> callers = callConcurrently();
+    assertThat(secondCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    // 발급 요청이 진행되는 동안 다른 호출자는 새 요청 없이 같은 요청을 기다림
+    Thread.sleep(100);
+    assertThat(tokenCalls).hasValue(2);
+    releaseSecondCall.countDown();
+
+    for (Future<String> caller : callers) {
+      assertThat(caller.get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+    }
+    assertThat(tokenCalls).hasValue(2);
+  }
+
+  @Test
+  void getValidToken_servesCurrentTokenWhileRefreshingOnceInBackground() throws Exception {
+    // 첫 토큰은 만료 30분 전(갱신 여유시간 60분 안)이라 바로 선제 갱신 대상
+    expiryOfCall = call -> call == 1 ? LocalDateTime.now().plusMinutes(30) : inTwoHours();
+    tokenService.initializeToken();
+
+    List<Future<String>> callers = callConcurrently();
+    assertThat(secondCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // 갱신이 끝나지 않았어도 만료 전 토큰으로 바로 응답
+    for (Future<String> caller : callers) {
+      assertThat(caller.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+    }
+    releaseSecondCall.countDown();
+
+    waitUntil(() -> "token-2".equals(tokenService.getValidToken()));
+    assertThat(tokenService.getValidToken()).isEqualTo("token-2");
+    assertThat(tokenCalls).hasValue(2);
+  }
+
+  @Test
+  void getValidToken_propagatesFailureToWaitingCallersAndRetriesLater() throws Exception {
+    expiryOfCall = call -> call == 1 ? LocalDateTime.now().minusMinutes(1) : inTwoHours();
+    failAfterFirstCall = true;
+    tokenService.initializeToken();
+
+    List<Future<String>> callers = callConcurrently();
+    assertThat(secondCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    releaseSecondCall.countDown();
+
+    for (Future<String> caller : callers) {
+      assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS))
+          .hasRootCauseInstanceOf(HttpClientErrorException.class);
+    }
+
+    failAfterFirstCall = false;
+    assertThat(tokenService.getValidToken()).startsWith("token-");
+    assertThat(tokenCalls.get()).isGreaterThan(2);
+  }
+
+  private List<Future<String>> callConcurrently() {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<String>> callers = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      callers.add(
+          executor.submit(
+              () -> {
+                start.await();
+                return tokenService.getValidToken();
+              }));
+    }
+    start.countDown();
+    return callers;
+  }
+
+  private void issueToken(HttpExchange exchange) throws IOException {
+    int call = tokenCalls.incrementAndGet();
+    if (call == 2) {
+      secondCallStarted.countDown();
+      await(releaseSecondCall);
+    }
+    if (call > 1 && failAfterFirstCall) {
+      respond(exchange, 401, "{\"code\":\"1002\"}");
+      return;
+    }
+    respond(
+        exchange,
+        200,
+        String.format(
+            "{\"accesstoken\":\"token-%d\",\"type\":\"Bearer\",\"expired\":\"%s\"}",
+            call, EXPIRED_FORMAT.format(expiryOfCall.apply(call))));
+  }
+
+  private static LocalDateTime inTwoHours() {
+    return LocalDateTime.now().plusHours(2);
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package liaison.groble.external.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 SMTP 서버
+ *
+ * <p>EHLO, AUTH(PLAIN, LOGIN), MAIL, RCPT, DATA, RSET, NOOP, QUIT만 처리하며 받은 메일을 메모리에 보관합니다. 연결 수와 인증
+ * 횟수로 세션 재사용 여부를 확인할 수 있습니다.
+ */
+public final class LocalSmtpServer implements AutoCloseable {
+  private final ServerSocket serverSocket;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger authentications = new AtomicInteger();
+  private final List<String> messages = new CopyOnWriteArrayList<>();
+  private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+
+  private LocalSmtpServer() throws IOException {
+    this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+  }
+
+  public static LocalSmtpServer start() throws IOException {
+    LocalSmtpServer server = new LocalSmtpServer();
+    server.executor.execute(server::acceptLoop);
+    return server;
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /** RCPT TO 단계에서 550으로 거절할 주소를 등록합니다. */
+  public void rejectRecipient(String address) {
+    rejectedRecipients.add(address);
+  }
+
+  public int getConnectionCount() {
+    return connections.get();
+  }
+
+  public int getAuthenticationCount() {
+    return authentications.get();
+  }
+
+  /** DATA로 받은 메일 원문 */
+  public List<String> getMessages() {
+    return messages;
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    executor.shutdownNow();
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connections.incrementAndGet();
+        executor.execute(() -> handle(socket));
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void handle(Socket socket) {
+    try (socket;
+        BufferedReader in =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+      OutputStream out = socket.getOutputStream();
+      reply(out, "220 localhost ESMTP");
+
+      String line;
+      while ((line = in.readLine()) != null) {
+        String command = line.toUpperCase(Locale.ROOT);
+        if (command.startsWith("EHLO")) {
+          reply(out, "250-localhost\r\n250-AUTH PLAIN LOGIN\r\n250 8BITMIME");
+        } else if (command.startsWith("HELO")) {
+          reply(out, "250 localhost");
+        } else if (command.startsWith("AUTH PLAIN")) {
+          if (line.trim().length() == "AUTH PLAIN".length()) {
+            reply(out, "334 ");
+            in.readLine();
+          }
+          authentications.incrementAndGet();
+          reply(out, "235 2.7.0 Authentication successful");
+        } else if (command.startsWith("AUTH LOGIN")) {
+          if (line.trim().length() == "AUTH LOGIN".length()) {
+            reply(out, "334 VXNlcm5hbWU6");
+            in.readLine();
+          }
+          reply(out, "334 UGFzc3dvcmQ6");
+          in.readLine();
+          authentications.incrementAndGet();
+          reply(out, "235 2.7.0 Authentication successful");
+        } else if (command.startsWith("MAIL FROM")) {
+          reply(out, "250 2.1.0 OK");
+        } else if (command.startsWith("RCPT TO")) {
+          String address = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+          reply(
+              out,
+              rejectedRecipients.contains(address)
+                  ? "550 5.1.1 Mailbox unavailable"
+                  : "250 2.1.5 OK");
+        } else if (command.equals("DATA")) {
+          reply(out, "354 End data with <CR><LF>.<CR><LF>");
+          StringBuilder message = new StringBuilder();
+          String dataLine;
+          while ((dataLine = in.readLine()) != null && !dataLine.equals(".")) {
+            message.append(dataLine).append("\r\n");
+          }
+          messages.add(message.toString());
+          reply(out, "250 2.0.0 Queued");
+        } else if (command.equals("RSET") || command.equals("NOOP")) {
+          reply(out, "250 2.0.0 OK");
+        } else if (command.equals("QUIT")) {
+          reply(out, "221 2.0.0 Bye");
+          return;
+        } else {
+          reply(out, "502 5.5.2 Command not implemented");
+        }
+      }
+    } catch (IOException e) {
+      // 클라이언트가 연결을 끊은 경우
+    }
+  }
+
+  private static void reply(OutputStream out, String response) throws IOException {
+    out.write((response + "\r\n").getBytes(StandardCharsets.UTF_8));
+    out.flush();
+  }
+}
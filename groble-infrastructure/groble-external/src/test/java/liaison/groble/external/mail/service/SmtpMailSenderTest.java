@@ -0,0 +1,104 @@
+package liaison.groble.external.mail.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import liaison.groble.external.mail.LocalSmtpServer;
+import liaison.groble.external.mail.dto.MailRequest;
+import liaison.groble.external.mail.dto.MailSendResult;
+import liaison.groble.external.mail.dto.MailSendResult.Status;
+import liaison.groble.external.mail.template.MailTemplateType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SmtpMailSenderTest {
+
+  private LocalSmtpServer server;
+  private SmtpTransportPool pool;
+  private SmtpMailSender sender;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = LocalSmtpServer.start();
+
+    JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    mailSender.setHost("127.0.0.1");
+    mailSender.setPort(server.getPort());
+    mailSender.setUsername("noreply@groble.im");
+    mailSender.setPassword("secret");
+    Properties properties = new Properties();
+    properties.setProperty("mail.smtp.auth", "true");
+    properties.setProperty("mail.smtp.connectiontimeout", "2000");
+    properties.setProperty("mail.smtp.timeout", "2000");
+    mailSender.setJavaMailProperties(properties);
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    pool =
+        new SmtpTransportPool(
+            mailSender, meterRegistry, 2, 100, Duration.ofSeconds(30), Duration.ofSeconds(2));
+    sender =
+        new SmtpMailSender(
+            new MailComposer(mailSender, "noreply@groble.im", "https://www.groble.im"),
+            pool,
+            meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    pool.destroy();
+    server.close();
+  }
+
+  @Test
+  void sendAll_reusesOneAuthenticatedSession() {
+    List<MailRequest> requests =
+        List.of(
+            verification("a@groble.im"), verification("b@groble.im"), verification("c@groble.im"));
+
+    assertEquals(
+        List.of(Status.SENT, Status.SENT, Status.SENT), statuses(sender.sendAll(requests)));
+    assertEquals(
+        List.of(Status.SENT), statuses(sender.sendAll(List.of(verification("d@groble.im")))));
+
+    // 두 번의 호출, 메일 4건이 인증 한 번으로 연결 하나에서 발송되어야 함
+    assertEquals(4, server.getMessages().size());
+    assertEquals(1, server.getConnectionCount());
+    assertEquals(1, server.getAuthenticationCount());
+  }
+
+  @Test
+  void sendAll_rejectedRecipientDoesNotBreakSession() {
+    server.rejectRecipient("unknown@groble.im");
+
+    List<MailSendResult> results =
+        sender.sendAll(
+            List.of(
+                verification("a@groble.im"),
+                verification("unknown@groble.im"),
+                new MailRequest(MailTemplateType.VERIFICATION, "b@groble.im", Map.of()),
+                verification("c@groble.im")));
+
+    // 수신 거절과 템플릿 값 누락은 재시도 대상이 아니며, 나머지 메일은 같은 연결로 계속 발송
+    assertEquals(
+        List.of(Status.SENT, Status.REJECTED, Status.REJECTED, Status.SENT), statuses(results));
+    assertEquals(2, server.getMessages().size());
+    assertEquals(1, server.getConnectionCount());
+  }
+
+  private static MailRequest verification(String to) {
+    return new MailRequest(MailTemplateType.VERIFICATION, to, Map.of("code", "123456"));
+  }
+
+  private static List<Status> statuses(List<MailSendResult> results) {
+    return results.stream().map(MailSendResult::status).toList();
+  }
+}
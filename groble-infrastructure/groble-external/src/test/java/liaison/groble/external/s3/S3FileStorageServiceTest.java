@@ -64,4 +64,24 @@ class S3FileStorageServiceTest {
         putObjectCaptor.getValue().getKey(),
         "S3 object key should preserve original filename");
   }
+
+  @Test
+  void uploadFile_WithContentLength_ShouldStreamWithKnownLength() {
+    // given
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    ArgumentCaptor<PutObjectRequest> putObjectCaptor =
+        ArgumentCaptor.forClass(PutObjectRequest.class);
+
+    // when
+    org.mockito.Mockito.doReturn(new PutObjectResult())
+        .when(amazonS3)
+        .putObject(any(PutObjectRequest.class));
+
+    fileStorageService.uploadFile(
+        inputStream, 3L, "UUID_document.pdf", "application/pdf", "contents/document");
+
+    // then - metadata carries the length so the SDK does not buffer the stream
+    verify(amazonS3).putObject(putObjectCaptor.capture());
+    assertEquals(3L, putObjectCaptor.getValue().getMetadata().getContentLength());
+  }
 }
@@ -0,0 +1,184 @@
+package liaison.groble.persistence;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import liaison.groble.domain.common.id.IdAssignedCallback;
+import liaison.groble.domain.common.id.TimeOrderedId;
+
+/**
+ * ID 전략별 INSERT 처리량 벤치마크
+ *
+ * <p>IDENTITY(기존)와 시간순 ID(@TimeOrderedId)로 같은 행을 저장해 비교합니다. batchInsert는 트랜잭션 하나에
+ * {@value #ROWS}행을 저장하며 IDENTITY는 행마다 INSERT를 실행하고 시간순 ID는 hibernate.jdbc.batch_size 단위로
+ * 묶어 실행합니다. orderWrite는 주문처럼 ID로 만든 값을 함께 저장하는 경우로 IDENTITY는 INSERT 후 UPDATE, 시간순
+ * ID는 INSERT 한 번입니다.
+ *
+ * <p>실행: {@code ./gradlew :groble-infrastructure:groble-persistence:jmh}. 기본 대상은 인메모리 H2이며,
+ * 네트워크 왕복이 포함된 실제 차이는 jdbcUrl에 MySQL(rewriteBatchedStatements=true)을 지정해 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdStrategyInsertBenchmark {
+  private static final int ROWS = 100;
+
+  @Param({"IDENTITY", "TIME_ORDERED"})
+  private String strategy;
+
+  @Param({"jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+  private String jdbcUrl;
+
+  @Param({"sa"})
+  private String username;
+
+  @Param({""})
+  private String password;
+
+  private SessionFactory sessionFactory;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(IdentityRow.class)
+            .addAnnotatedClass(TimeOrderedRow.class)
+            .setProperty("hibernate.connection.url", jdbcUrl)
+            .setProperty("hibernate.connection.username", username)
+            .setProperty("hibernate.connection.password", password)
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            // application.yml과 같은 배치 설정
+            .setProperty("hibernate.jdbc.batch_size", "50")
+            .setProperty("hibernate.order_inserts", "true")
+            .buildSessionFactory();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  /** 트랜잭션 하나에 여러 행 저장 (조회 로그, 알림 일괄 등록 등) - 초당 저장 행 수 */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void batchInsert() {
+    sessionFactory.inTransaction(
+        session -> {
+          for (int i = 0; i < ROWS; i++) {
+            session.persist(newRow());
+          }
+        });
+  }
+
+  /** ID로 만든 값을 함께 저장하는 단건 저장 (주문 merchantUid) - 초당 저장 행 수 */
+  @Benchmark
+  public Object orderWrite() {
+    return sessionFactory.fromTransaction(
+        session -> {
+          Row row = newRow();
+          session.persist(row);
+          if (row.getUid() == null) {
+            // IDENTITY: INSERT로 ID를 받은 뒤 UPDATE
+            session.flush();
+            row.setUid("ORDER-" + row.getId());
+          }
+          return row.getId();
+        });
+  }
+
+  private Row newRow() {
+    return "IDENTITY".equals(strategy) ? new IdentityRow() : new TimeOrderedRow();
+  }
+
+  /** 두 엔티티의 공통 접근자 */
+  public interface Row {
+    Long getId();
+
+    String getUid();
+
+    void setUid(String uid);
+  }
+
+  @Entity
+  @Table(name = "bench_identity_rows")
+  public static class IdentityRow implements Row {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String uid;
+
+    private String payload = "referrer=https://groble.im/market/bench&utm_source=benchmark";
+
+    @Override
+    public Long getId() {
+      return id;
+    }
+
+    @Override
+    public String getUid() {
+      return uid;
+    }
+
+    @Override
+    public void setUid(String uid) {
+      this.uid = uid;
+    }
+  }
+
+  @Entity
+  @Table(name = "bench_time_ordered_rows")
+  public static class TimeOrderedRow implements Row, IdAssignedCallback {
+    @Id @TimeOrderedId private Long id;
+
+    private String uid;
+
+    private String payload = "referrer=https://groble.im/market/bench&utm_source=benchmark";
+
+    @Override
+    public Long getId() {
+      return id;
+    }
+
+    @Override
+    public String getUid() {
+      return uid;
+    }
+
+    @Override
+    public void setUid(String uid) {
+      this.uid = uid;
+    }
+
+    @Override
+    public void idAssigned(Long id) {
+      this.uid = "ORDER-" + id;
+    }
+  }
+}
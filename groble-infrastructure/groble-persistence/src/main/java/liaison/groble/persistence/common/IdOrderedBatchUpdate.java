@@ -0,0 +1,33 @@
+package liaison.groble.persistence.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** id별 증감량을 id 순서로 일괄 반영하는 공통 처리 */
+public final class IdOrderedBatchUpdate {
+
+  private IdOrderedBatchUpdate() {}
+
+  /**
+   * 증감량을 id 오름차순으로 batchUpdate 합니다.
+   *
+   * <p>여러 트랜잭션이 같은 행들을 갱신할 때 잠금 획득 순서가 항상 같아야 데드락이 생기지 않으므로 id 순서로 정렬합니다.
+   *
+   * @param sql 첫 번째 바인딩 값이 증감량, 두 번째가 id 인 UPDATE 문
+   */
+  public static void apply(
+      JdbcTemplate jdbcTemplate, String sql, Map<Long, ? extends Number> deltas) {
+    if (deltas == null || deltas.isEmpty()) {
+      return;
+    }
+    List<Object[]> args =
+        deltas.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+            .collect(Collectors.toList());
+    jdbcTemplate.batchUpdate(sql, args);
+  }
+}
@@ -0,0 +1,187 @@
+package liaison.groble.persistence.common;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 점유(lease) 기반 작업 큐 테이블 공통 처리
+ *
+ * <p>status, attempt_count, next_attempt_at 컬럼을 가진 큐 테이블에서 PENDING 행과 점유가 만료된 PROCESSING 행을 SKIP
+ * LOCKED로 점유하고, 점유한 워커만 결과를 기록할 수 있도록 합니다. PROCESSING 행의 next_attempt_at은 점유 만료 시각입니다.
+ *
+ * <p>점유 시 attempt_count를 1 증가시키므로, 행 매퍼는 조회한 attempt_count + 1을 시도 횟수로 매핑해야 합니다. 결과 기록은 상태가
+ * PROCESSING이고 시도 횟수가 점유 당시와 같은 경우에만 반영되어, 점유가 만료된 워커가 다시 점유한 워커의 결과를 덮어쓰지 않습니다.
+ *
+ * <p>{@link #claim}은 조회와 점유 갱신을 한 트랜잭션에서 실행해야 하므로 호출하는 저장소 메서드에 {@code @Transactional}을 지정합니다.
+ */
+public class LeaseQueue<T> {
+  private static final int MAX_ERROR_LENGTH = 1000;
+  private static final String OWNED_BY_CLAIM =
+      " WHERE id = ? AND status = 'PROCESSING' AND attempt_count = ?";
+  private static final String EXHAUSTED =
+      " WHERE status = 'PROCESSING' AND next_attempt_at <= ? AND attempt_count >= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String table;
+  private final RowMapper<T> rowMapper;
+  private final ToLongFunction<T> idOf;
+  private final ToIntFunction<T> attemptOf;
+  private final String selectClaimable;
+
+  /**
+   * @param selectColumns 점유 시 조회할 컬럼 목록 (attempt_count 포함)
+   * @param idOf 항목의 id
+   * @param attemptOf 항목의 시도 횟수 (점유 이후 attempt_count)
+   */
+  public LeaseQueue(
+      JdbcTemplate jdbcTemplate,
+      String table,
+      String selectColumns,
+      RowMapper<T> rowMapper,
+      ToLongFunction<T> idOf,
+      ToIntFunction<T> attemptOf) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.table = table;
+    this.rowMapper = rowMapper;
+    this.idOf = idOf;
+    this.attemptOf = attemptOf;
+    this.selectClaimable =
+        "SELECT "
+            + selectColumns
+            + " FROM "
+            + table
+            + " WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= ? "
+            + "AND attempt_count < ? "
+            + "ORDER BY next_attempt_at, id LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED";
+  }
+
+  /**
+   * 시도 횟수를 모두 쓴 채 점유가 만료된 행을 다시 점유하지 않도록 종료 상태로 변경합니다.
+   *
+   * @param assignments 종료 상태로 바꿀 SET 절 (예: {@code status = ?, completed_at = ?})
+   * @param args assignments의 바인딩 값
+   * @return 변경된 행 수
+   */
+  public int expireExhausted(
+      LocalDateTime now, int maxAttempts, String assignments, Object... args) {
+    return jdbcTemplate.update(
+        "UPDATE " + table + " SET " + assignments + EXHAUSTED,
+        append(args, now, maxAttempts));
+  }
+
+  /** 최대 limit 건을 점유하고 시도 횟수를 1 증가시킵니다. 시도 횟수가 maxAttempts에 도달한 행은 점유하지 않습니다. */
+  public List<T> claim(LocalDateTime now, int limit, Duration lease, int maxAttempts) {
+    List<T> claimed = jdbcTemplate.query(selectClaimable, rowMapper, now, maxAttempts, limit);
+    if (claimed.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<Object> args = new ArrayList<>(claimed.size() + 1);
+    args.add(now.plus(lease));
+    for (T item : claimed) {
+      args.add(idOf.applyAsLong(item));
+    }
+    jdbcTemplate.update(
+        "UPDATE "
+            + table
+            + " SET status = 'PROCESSING', attempt_count = attempt_count + 1, "
+            + "next_attempt_at = ? WHERE id IN ("
+            + String.join(", ", Collections.nCopies(claimed.size(), "?"))
+            + ")",
+        args.toArray());
+    return claimed;
+  }
+
+  /**
+   * 점유한 항목 하나의 결과를 기록합니다.
+   *
+   * @param assignments SET 절
+   * @param args assignments의 바인딩 값
+   * @return 점유를 잃어 반영되지 않았으면 false
+   */
+  public boolean updateClaimed(T item, String assignments, Object... args) {
+    return jdbcTemplate.update(
+            "UPDATE " + table + " SET " + assignments + OWNED_BY_CLAIM,
+            append(args, idOf.applyAsLong(item), attemptOf.applyAsInt(item)))
+        > 0;
+  }
+
+  /**
+   * 점유한 여러 항목에 같은 결과를 기록합니다.
+   *
+   * @return 실제로 반영된 행 수
+   */
+  public int updateAllClaimed(List<T> items, String assignments, Object... args) {
+    if (items.isEmpty()) {
+      return 0;
+    }
+    List<Object> params = new ArrayList<>(args.length + items.size() * 2);
+    params.addAll(Arrays.asList(args));
+    for (T item : items) {
+      params.add(idOf.applyAsLong(item));
+      params.add(attemptOf.applyAsInt(item));
+    }
+    return jdbcTemplate.update(
+        "UPDATE "
+            + table
+            + " SET "
+            + assignments
+            + " WHERE status = 'PROCESSING' AND (id, attempt_count) IN ("
+            + String.join(", ", Collections.nCopies(items.size(), "(?, ?)"))
+            + ")",
+        params.toArray());
+  }
+
+  /**
+   * 점유 당시 시도 횟수 그대로 지정 상태에 있는 항목만 골라냅니다. 일괄 기록이 일부만 반영됐을 때, 다시 점유되지 않아 이 워커의 결과가 반영된 항목을 확인하는
+   * 데 사용합니다.
+   */
+  public List<T> filterInStatus(List<T> items, String status) {
+    if (items.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Object> params = new ArrayList<>(items.size() * 2 + 1);
+    params.add(status);
+    for (T item : items) {
+      params.add(idOf.applyAsLong(item));
+      params.add(attemptOf.applyAsInt(item));
+    }
+    Set<Long> ids =
+        new HashSet<>(
+            jdbcTemplate.queryForList(
+                "SELECT id FROM "
+                    + table
+                    + " WHERE status = ? AND (id, attempt_count) IN ("
+                    + String.join(", ", Collections.nCopies(items.size(), "(?, ?)"))
+                    + ")",
+                Long.class,
+                params.toArray()));
+    return items.stream().filter(item -> ids.contains(idOf.applyAsLong(item))).toList();
+  }
+
+  /** last_error 컬럼 길이에 맞게 오류 메시지를 자릅니다. */
+  public static String truncateError(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  private static Object[] append(Object[] args, Object... tail) {
+    Object[] params = Arrays.copyOf(args, args.length + tail.length);
+    System.arraycopy(tail, 0, params, args.length, tail.length);
+    return params;
+  }
+}
@@ -0,0 +1,65 @@
+package liaison.groble.persistence.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 다건 INSERT 공통 처리
+ *
+ * <p>행 목록을 maxRowsPerStatement 건씩 나눠 {@code INSERT INTO ... VALUES (...), (...)} 한 문장으로 저장합니다. JPA
+ * 배치보다 DB 왕복이 적어 로그성 테이블의 대량 저장에 사용합니다.
+ */
+public class MultiRowInsert<T> {
+  private final String insertPrefix;
+  private final String rowPlaceholder;
+  private final int columnCount;
+  private final int maxRowsPerStatement;
+  private final BiConsumer<T, List<Object>> rowBinder;
+
+  /**
+   * @param columns INSERT 할 컬럼 목록
+   * @param maxRowsPerStatement 한 문장당 최대 행 수
+   * @param rowBinder 행 하나의 바인딩 값을 columns 순서대로 추가
+   */
+  public MultiRowInsert(
+      String table,
+      List<String> columns,
+      int maxRowsPerStatement,
+      BiConsumer<T, List<Object>> rowBinder) {
+    this.insertPrefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+    this.rowPlaceholder = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    this.columnCount = columns.size();
+    this.maxRowsPerStatement = maxRowsPerStatement;
+    this.rowBinder = rowBinder;
+  }
+
+  public void execute(JdbcTemplate jdbcTemplate, List<T> rows) {
+    if (rows == null || rows.isEmpty()) {
+      return;
+    }
+    for (int from = 0; from < rows.size(); from += maxRowsPerStatement) {
+      List<T> chunk = rows.subList(from, Math.min(from + maxRowsPerStatement, rows.size()));
+      StringBuilder sql = new StringBuilder(insertPrefix);
+      List<Object> params = new ArrayList<>(chunk.size() * columnCount);
+      for (int i = 0; i < chunk.size(); i++) {
+        if (i > 0) {
+          sql.append(", ");
+        }
+        sql.append(rowPlaceholder);
+        rowBinder.accept(chunk.get(i), params);
+        if (params.size() != (i + 1) * columnCount) {
+          throw new IllegalStateException(
+              "바인딩 값 수가 컬럼 수와 다릅니다. expected="
+                  + (i + 1) * columnCount
+                  + ", actual="
+                  + params.size());
+        }
+      }
+      jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+  }
+}
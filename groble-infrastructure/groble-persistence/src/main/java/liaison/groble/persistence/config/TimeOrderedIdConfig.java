@@ -0,0 +1,120 @@
+package liaison.groble.persistence.config;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import liaison.groble.domain.common.id.TimeOrderedIdGenerator;
+import liaison.groble.domain.lock.repository.SchedulerLockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간순 ID 생성기 노드 설정
+ *
+ * <p>EntityManagerFactory가 ID를 발급하기 전에 인스턴스의 노드 번호를 정합니다. 운영처럼 여러 인스턴스가 함께 뜨는 환경에서는 노드 번호를
+ * scheduler_locks 테이블에서 임대({@link TimeOrderedIdNodeLease})하고, 실행 중에는 주기적으로 연장하며 종료 시 반납합니다. 따라서 동시에
+ * 실행되는 인스턴스(블루/그린 전환 중인 태스크 포함)는 16개 이하여야 합니다.
+ *
+ * <p>groble.id.node-id를 지정하면 임대 없이 그 번호를 사용하므로 단일 인스턴스로 실행할 때만 지정합니다. local·test 프로필에서 지정하지 않으면
+ * 노드 번호 0을 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class TimeOrderedIdConfig implements DisposableBean {
+  private static final Profiles SINGLE_NODE_PROFILES = Profiles.of("local", "test");
+  private static final int SINGLE_NODE_ID = 0;
+
+  private TimeOrderedIdNodeLease nodeLease;
+  private ScheduledExecutorService renewer;
+
+  public TimeOrderedIdConfig(
+      @Value("${groble.id.node-id:-1}") int nodeId,
+      @Value("${groble.id.node-lease:5m}") Duration lease,
+      Environment environment,
+      ObjectProvider<SchedulerLockRepository> schedulerLockRepository) {
+    if (nodeId >= 0) {
+      TimeOrderedIdGenerator.configure(nodeId);
+      log.info("시간순 ID 생성기 노드 번호(지정): {}", nodeId);
+      return;
+    }
+    if (environment.acceptsProfiles(SINGLE_NODE_PROFILES)) {
+      TimeOrderedIdGenerator.configure(SINGLE_NODE_ID);
+      log.warn("groble.id.node-id 미지정 - 단일 노드 환경으로 보고 노드 번호 {} 사용", SINGLE_NODE_ID);
+      return;
+    }
+
+    nodeLease =
+        new TimeOrderedIdNodeLease(
+            schedulerLockRepository.getObject(),
+            resolveOwner(),
+            lease,
+            System::currentTimeMillis);
+    int leased = nodeLease.acquire();
+    log.info("시간순 ID 생성기 노드 번호(임대): {}, 임대 시간: {}", leased, lease);
+
+    renewer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "id-node-lease");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = nodeLease.renewInterval().toMillis();
+    renewer.scheduleWithFixedDelay(this::renewLease, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Bean
+  public static EntityManagerFactoryDependsOnPostProcessor timeOrderedIdDependsOnPostProcessor() {
+    return new EntityManagerFactoryDependsOnPostProcessor(TimeOrderedIdConfig.class);
+  }
+
+  @Override
+  public void destroy() {
+    if (nodeLease == null) {
+      return;
+    }
+    renewer.shutdownNow();
+    try {
+      nodeLease.release();
+      log.info("시간순 ID 노드 번호 임대 반납 완료");
+    } catch (Exception e) {
+      // 반납하지 못해도 임대가 만료되면 다른 인스턴스가 이어받음
+      log.warn("시간순 ID 노드 번호 임대 반납 실패", e);
+    }
+  }
+
+  private void renewLease() {
+    try {
+      nodeLease.renew();
+    } catch (Exception e) {
+      // 연장하지 못한 채 허용 시각이 지나면 생성기가 발급을 멈추고, 다음 주기에 다시 시도
+      log.error("시간순 ID 노드 번호 임대 연장 실패", e);
+    }
+  }
+
+  private static String resolveOwner() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    if (host.length() > 40) {
+      host = host.substring(0, 40);
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
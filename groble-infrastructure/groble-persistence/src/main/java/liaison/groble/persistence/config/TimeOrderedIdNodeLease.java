@@ -0,0 +1,103 @@
+package liaison.groble.persistence.config;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import liaison.groble.domain.common.id.TimeOrderedIdGenerator;
+import liaison.groble.domain.lock.repository.SchedulerLockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간순 ID 노드 번호 임대
+ *
+ * <p>scheduler_locks 테이블에 노드 번호마다 잠금 행({@code id-node-0} ~ {@code id-node-15})을 두고, 비어 있거나 만료된 번호
+ * 하나를 인스턴스가 임대합니다. 배포 중 블루/그린 태스크가 함께 떠 있어도 실행 중인 인스턴스끼리는 번호가 겹치지 않습니다.
+ *
+ * <p>임대는 주기적으로 연장하며, 생성기에는 잠금 만료 시각보다 {@code lease / 3} 이른 시각까지만 발급을 허용합니다. 연장이 실패한 채 그 시각이
+ * 지나면 다른 인스턴스가 번호를 이어받기 전에 발급을 멈추고, 번호를 잃었으면 비어 있는 번호를 다시 임대합니다.
+ */
+@Slf4j
+final class TimeOrderedIdNodeLease {
+  static final String LOCK_PREFIX = "id-node-";
+
+  private final SchedulerLockRepository schedulerLockRepository;
+  private final String owner;
+  private final Duration lease;
+  private final LongSupplier clock;
+
+  private volatile TimeOrderedIdGenerator generator;
+
+  TimeOrderedIdNodeLease(
+      SchedulerLockRepository schedulerLockRepository,
+      String owner,
+      Duration lease,
+      LongSupplier clock) {
+    this.schedulerLockRepository = schedulerLockRepository;
+    this.owner = owner;
+    this.lease = lease;
+    this.clock = clock;
+  }
+
+  /**
+   * 비어 있는 노드 번호를 임대해 공용 생성기를 설정합니다.
+   *
+   * @return 임대한 노드 번호
+   * @throws IllegalStateException 모든 노드 번호를 다른 인스턴스가 사용 중인 경우
+   */
+  synchronized int acquire() {
+    for (int nodeId = 0; nodeId <= TimeOrderedIdGenerator.MAX_NODE_ID; nodeId++) {
+      long startedAt = clock.getAsLong();
+      if (schedulerLockRepository.tryAcquire(lockName(nodeId), owner, lease)) {
+        TimeOrderedIdGenerator configured = TimeOrderedIdGenerator.configure(nodeId, clock);
+        configured.leaseUntil(validUntil(startedAt));
+        generator = configured;
+        return nodeId;
+      }
+    }
+    throw new IllegalStateException(
+        "임대할 수 있는 시간순 ID 노드 번호가 없습니다. 동시에 실행되는 인스턴스는 "
+            + (TimeOrderedIdGenerator.MAX_NODE_ID + 1)
+            + "개 이하여야 합니다.");
+  }
+
+  /** 임대를 연장하고, 번호를 잃었으면 다른 번호를 다시 임대합니다. */
+  synchronized void renew() {
+    TimeOrderedIdGenerator current = generator;
+    if (current == null) {
+      return;
+    }
+    long startedAt = clock.getAsLong();
+    if (schedulerLockRepository.extend(lockName(current.getNodeId()), owner, lease)) {
+      current.leaseUntil(validUntil(startedAt));
+      return;
+    }
+    current.leaseUntil(startedAt);
+    log.warn("시간순 ID 노드 번호 임대를 잃어 다시 임대합니다 - 이전 노드 번호: {}", current.getNodeId());
+    int nodeId = acquire();
+    log.info("시간순 ID 노드 번호 재임대 완료 - 노드 번호: {}", nodeId);
+  }
+
+  /** 발급을 멈추고 임대를 반납합니다. */
+  synchronized void release() {
+    TimeOrderedIdGenerator current = generator;
+    if (current == null) {
+      return;
+    }
+    current.leaseUntil(clock.getAsLong());
+    generator = null;
+    schedulerLockRepository.release(lockName(current.getNodeId()), owner);
+  }
+
+  Duration renewInterval() {
+    return lease.dividedBy(3);
+  }
+
+  private long validUntil(long startedAt) {
+    return startedAt + lease.minus(lease.dividedBy(3)).toMillis();
+  }
+
+  private static String lockName(int nodeId) {
+    return LOCK_PREFIX + nodeId;
+  }
+}
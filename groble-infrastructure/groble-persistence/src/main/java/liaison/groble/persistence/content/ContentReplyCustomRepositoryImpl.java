@@ -57,6 +57,7 @@ public class ContentReplyCustomRepositoryImpl implements ContentReplyCustomRepos
         .select(
             Projections.fields(
                 FlatReviewReplyDTO.class,
+                qContentReply.contentReview.id.as("reviewId"),
                 qContentReply.id.as("replyId"),
                 qContentReply.createdAt.as("createdAt"),
                 qContentReply.seller.userProfile.nickname.as("replierNickname"),
@@ -66,4 +67,28 @@ public class ContentReplyCustomRepositoryImpl implements ContentReplyCustomRepos
         .where(qContentReply.contentReview.id.eq(reviewId).and(qContentReply.isDeleted.isFalse()))
         .fetch();
   }
+
+  @Override
+  public List<FlatReviewReplyDTO> findRepliesByReviewIds(List<Long> reviewIds) {
+    if (reviewIds.isEmpty()) {
+      return List.of();
+    }
+    QContentReply qContentReply = QContentReply.contentReply;
+    QUser user = QUser.user;
+    return jpaQueryFactory
+        .select(
+            Projections.fields(
+                FlatReviewReplyDTO.class,
+                qContentReply.contentReview.id.as("reviewId"),
+                qContentReply.id.as("replyId"),
+                qContentReply.createdAt.as("createdAt"),
+                user.userProfile.nickname.as("replierNickname"),
+                qContentReply.replyContent.as("replyContent")))
+        .from(qContentReply)
+        .leftJoin(qContentReply.seller, user)
+        .where(
+            qContentReply.contentReview.id.in(reviewIds).and(qContentReply.isDeleted.isFalse()))
+        .orderBy(qContentReply.contentReview.id.asc(), qContentReply.createdAt.asc())
+        .fetch();
+  }
 }
@@ -1,8 +1,10 @@
 package liaison.groble.persistence.content;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.content.dto.FlatContentPreviewDTO;
@@ -11,14 +13,20 @@ import liaison.groble.domain.content.enums.ContentStatus;
 import liaison.groble.domain.content.repository.ContentCustomRepository;
 import liaison.groble.domain.content.repository.ContentRepository;
 import liaison.groble.domain.user.entity.User;
+import liaison.groble.persistence.common.IdOrderedBatchUpdate;
 
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class ContentRepositoryImpl implements ContentRepository {
+  // 조회수 반영이 콘텐츠 수정 일시를 바꾸지 않도록 updated_at 유지
+  private static final String INCREMENT_VIEW_COUNT =
+      "UPDATE contents SET view_count = view_count + ?, updated_at = updated_at WHERE id = ?";
+
   private final JpaContentRepository jpaContentRepository;
   private final ContentCustomRepository contentCustomRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public Optional<Content> findById(Long contentId) {
@@ -96,4 +104,9 @@ public class ContentRepositoryImpl implements ContentRepository {
   public List<FlatContentPreviewDTO> findFlatContentsByUserId(Long userId) {
     return contentCustomRepository.findFlatContentsByUserId(userId);
   }
+
+  @Override
+  public void incrementViewCounts(Map<Long, Long> deltas) {
+    IdOrderedBatchUpdate.apply(jdbcTemplate, INCREMENT_VIEW_COUNT, deltas);
+  }
 }
@@ -3,6 +3,7 @@ package liaison.groble.persistence.content;
 import static com.querydsl.core.types.dsl.Expressions.*;
 import static com.querydsl.jpa.JPAExpressions.select;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -25,12 +26,14 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import liaison.groble.domain.content.dto.ContentReviewCursor;
 import liaison.groble.domain.content.dto.FlatContentReviewDetailDTO;
 import liaison.groble.domain.content.dto.FlatContentReviewReplyDTO;
 import liaison.groble.domain.content.entity.ContentReview;
 import liaison.groble.domain.content.entity.QContent;
 import liaison.groble.domain.content.entity.QContentReply;
 import liaison.groble.domain.content.entity.QContentReview;
+import liaison.groble.domain.content.enums.ReviewSortType;
 import liaison.groble.domain.content.enums.ReviewStatus;
 import liaison.groble.domain.content.repository.ContentReviewCustomRepository;
 import liaison.groble.domain.guest.entity.QGuestUser;
@@ -427,6 +430,106 @@ public class ContentReviewCustomRepositoryImpl implements ContentReviewCustomRep
         .fetch();
   }
 
+  @Override
+  public List<FlatContentReviewReplyDTO> findReviewsByContentIdAfter(
+      Long contentId, ReviewSortType sortType, ContentReviewCursor cursor, int limit) {
+    QContentReview qContentReview = QContentReview.contentReview;
+    QUser qReviewer = new QUser("reviewer");
+    QGuestUser qGuestReviewer = new QGuestUser("guestReviewer");
+    QPurchase qPurchase = QPurchase.purchase;
+    QOrder qOrder = QOrder.order;
+
+    return jpaQueryFactory
+        .select(
+            Projections.fields(
+                FlatContentReviewReplyDTO.class,
+                qContentReview.id.as("reviewId"),
+                cases()
+                    .when(qContentReview.user.isNotNull())
+                    .then(qContentReview.user.id)
+                    .when(qContentReview.guestUser.isNotNull())
+                    .then(qContentReview.guestUser.id)
+                    .otherwise(nullExpression(Long.class))
+                    .as("reviewerId"),
+                qContentReview.createdAt.as("reviewCreatedAt"),
+                cases()
+                    .when(qContentReview.user.isNotNull())
+                    .then(qReviewer.userProfile.profileImageUrl)
+                    .otherwise(nullExpression(String.class))
+                    .as("reviewerProfileImageUrl"),
+                cases()
+                    .when(qContentReview.user.isNotNull())
+                    .then(qReviewer.userProfile.nickname)
+                    .when(qContentReview.guestUser.isNotNull())
+                    .then(qGuestReviewer.username)
+                    .otherwise(nullExpression(String.class))
+                    .as("reviewerNickname"),
+                qContentReview.reviewContent.as("reviewContent"),
+                qPurchase.selectedOptionName.as("selectedOptionName"),
+                qContentReview.rating.as("rating"),
+                qOrder.merchantUid.as("merchantUid")))
+        .from(qContentReview)
+        .leftJoin(qContentReview.user, qReviewer)
+        .leftJoin(qContentReview.guestUser, qGuestReviewer)
+        .leftJoin(qContentReview.purchase, qPurchase)
+        .leftJoin(qPurchase.order, qOrder)
+        .where(
+            qContentReview.content.id.eq(contentId),
+            qContentReview.reviewStatus.eq(ReviewStatus.ACTIVE),
+            afterCursor(qContentReview, sortType, cursor))
+        .orderBy(reviewOrder(qContentReview, sortType))
+        .limit(limit)
+        .fetch();
+  }
+
+  // (content_id, review_status, 정렬 키, id) 인덱스 순서와 같은 정렬
+  private OrderSpecifier<?>[] reviewOrder(QContentReview qContentReview, ReviewSortType sortType) {
+    return switch (sortType) {
+      case LATEST ->
+          new OrderSpecifier<?>[] {qContentReview.createdAt.desc(), qContentReview.id.desc()};
+      case RATING_HIGH ->
+          new OrderSpecifier<?>[] {qContentReview.rating.desc(), qContentReview.id.desc()};
+      case RATING_LOW ->
+          new OrderSpecifier<?>[] {qContentReview.rating.asc(), qContentReview.id.asc()};
+    };
+  }
+
+  // MySQL은 NULL을 가장 작은 값으로 정렬하므로 별점이 없는 리뷰는 RATING_HIGH에서 마지막, RATING_LOW에서 처음에 위치
+  private BooleanExpression afterCursor(
+      QContentReview qContentReview, ReviewSortType sortType, ContentReviewCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    Long id = cursor.getReviewId();
+    BigDecimal rating = cursor.getRating();
+    return switch (sortType) {
+      case LATEST ->
+          qContentReview
+              .createdAt
+              .lt(cursor.getCreatedAt())
+              .or(qContentReview.createdAt.eq(cursor.getCreatedAt()).and(qContentReview.id.lt(id)));
+      case RATING_HIGH ->
+          rating == null
+              ? qContentReview.rating.isNull().and(qContentReview.id.lt(id))
+              : qContentReview
+                  .rating
+                  .lt(rating)
+                  .or(qContentReview.rating.eq(rating).and(qContentReview.id.lt(id)))
+                  .or(qContentReview.rating.isNull());
+      case RATING_LOW ->
+          rating == null
+              ? qContentReview
+                  .rating
+                  .isNull()
+                  .and(qContentReview.id.gt(id))
+                  .or(qContentReview.rating.isNotNull())
+              : qContentReview
+                  .rating
+                  .gt(rating)
+                  .or(qContentReview.rating.eq(rating).and(qContentReview.id.gt(id)));
+    };
+  }
+
   @Override
   public void updateContentReviewStatusToDeleteRequested(Long userId, Long reviewId) {
     QContentReview qContentReview = QContentReview.contentReview;
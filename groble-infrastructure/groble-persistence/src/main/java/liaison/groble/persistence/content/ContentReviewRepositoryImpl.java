@@ -19,6 +19,11 @@ public class ContentReviewRepositoryImpl implements ContentReviewRepository {
     return jpaContentReviewRepository.save(contentReview);
   }
 
+  @Override
+  public ContentReview saveAndFlush(ContentReview contentReview) {
+    return jpaContentReviewRepository.saveAndFlush(contentReview);
+  }
+
   public Optional<ContentReview> getContentReviewById(Long reviewId) {
     return jpaContentReviewRepository.findById(reviewId);
   }
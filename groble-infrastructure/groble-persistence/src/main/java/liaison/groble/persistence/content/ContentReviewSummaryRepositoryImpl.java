@@ -0,0 +1,68 @@
+package liaison.groble.persistence.content;
+
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import liaison.groble.domain.content.dto.FlatContentReviewSummaryDTO;
+import liaison.groble.domain.content.repository.ContentReviewSummaryRepository;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class ContentReviewSummaryRepositoryImpl implements ContentReviewSummaryRepository {
+
+  private static final String SELECT_SUMMARY =
+      "SELECT content_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, "
+          + "rating4_count, rating5_count FROM content_review_summary WHERE content_id = ?";
+
+  // 증감 대신 (content_id, review_status, rating, id) 인덱스만 읽어 다시 계산하므로
+  // 생성·수정·삭제 요청·삭제·재활성화 어느 상태 변경에서도 같은 결과를 보장
+  private static final String REFRESH_SUMMARY =
+      "INSERT INTO content_review_summary (content_id, review_count, rating_sum, "
+          + "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, "
+          + "updated_at) "
+          + "SELECT ?, COUNT(*), COALESCE(SUM(rating), 0), "
+          + "COALESCE(SUM(rating < 2), 0), "
+          + "COALESCE(SUM(rating >= 2 AND rating < 3), 0), "
+          + "COALESCE(SUM(rating >= 3 AND rating < 4), 0), "
+          + "COALESCE(SUM(rating >= 4 AND rating < 5), 0), "
+          + "COALESCE(SUM(rating >= 5), 0), NOW(6) "
+          + "FROM content_reviews WHERE content_id = ? AND review_status = 'ACTIVE' "
+          + "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), "
+          + "rating_sum = VALUES(rating_sum), "
+          + "rating1_count = VALUES(rating1_count), "
+          + "rating2_count = VALUES(rating2_count), "
+          + "rating3_count = VALUES(rating3_count), "
+          + "rating4_count = VALUES(rating4_count), "
+          + "rating5_count = VALUES(rating5_count), "
+          + "updated_at = VALUES(updated_at)";
+
+  private static final RowMapper<FlatContentReviewSummaryDTO> SUMMARY_ROW_MAPPER =
+      (rs, rowNum) ->
+          FlatContentReviewSummaryDTO.builder()
+              .contentId(rs.getLong("content_id"))
+              .reviewCount(rs.getLong("review_count"))
+              .ratingSum(rs.getBigDecimal("rating_sum"))
+              .rating1Count(rs.getLong("rating1_count"))
+              .rating2Count(rs.getLong("rating2_count"))
+              .rating3Count(rs.getLong("rating3_count"))
+              .rating4Count(rs.getLong("rating4_count"))
+              .rating5Count(rs.getLong("rating5_count"))
+              .build();
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public Optional<FlatContentReviewSummaryDTO> findByContentId(Long contentId) {
+    return jdbcTemplate.query(SELECT_SUMMARY, SUMMARY_ROW_MAPPER, contentId).stream().findFirst();
+  }
+
+  @Override
+  public void refresh(Long contentId) {
+    jdbcTemplate.update(REFRESH_SUMMARY, contentId, contentId);
+  }
+}
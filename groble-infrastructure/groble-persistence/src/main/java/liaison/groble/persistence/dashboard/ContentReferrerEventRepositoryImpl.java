@@ -1,19 +1,41 @@
 package liaison.groble.persistence.dashboard;
 
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.dashboard.entity.ContentReferrerEvent;
 import liaison.groble.domain.dashboard.repository.ContentReferrerEventRepository;
+import liaison.groble.persistence.common.MultiRowInsert;
 
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class ContentReferrerEventRepositoryImpl implements ContentReferrerEventRepository {
+  private static final MultiRowInsert<ContentReferrerEvent> INSERT =
+      new MultiRowInsert<>(
+          "content_referrer_events",
+          List.of("referrer_stats_id", "content_id", "event_date"),
+          500,
+          (event, params) -> {
+            params.add(event.getReferrerStatsId());
+            params.add(event.getContentId());
+            params.add(Timestamp.valueOf(event.getEventDate()));
+          });
+
   private final JpaContentReferrerEventRepository jpaContentReferrerEventRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public ContentReferrerEvent save(ContentReferrerEvent contentReferrerEvent) {
     return jpaContentReferrerEventRepository.save(contentReferrerEvent);
   }
+
+  @Override
+  public void saveAllInBatch(List<ContentReferrerEvent> events) {
+    INSERT.execute(jdbcTemplate, events);
+  }
 }
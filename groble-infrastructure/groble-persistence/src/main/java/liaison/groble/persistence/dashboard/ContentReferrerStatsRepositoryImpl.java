@@ -1,19 +1,27 @@
 package liaison.groble.persistence.dashboard;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.dashboard.entity.ContentReferrerStats;
 import liaison.groble.domain.dashboard.repository.ContentReferrerStatsRepository;
+import liaison.groble.persistence.common.IdOrderedBatchUpdate;
 
 import lombok.AllArgsConstructor;
 
 @Repository
 @AllArgsConstructor
 public class ContentReferrerStatsRepositoryImpl implements ContentReferrerStatsRepository {
+  private static final String INCREMENT_VISIT_COUNT =
+      "UPDATE content_referrer_stats "
+          + "SET visit_count = visit_count + ?, updated_at = CURRENT_TIMESTAMP(6) WHERE id = ?";
+
   private final JpaContentReferrerStatsRepository jpaContentReferrerStatsRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public ContentReferrerStats save(ContentReferrerStats contentReferrerStats) {
@@ -42,4 +50,9 @@ public class ContentReferrerStatsRepositoryImpl implements ContentReferrerStatsR
         .findAllByContentIdAndReferrerDomainAndSourceAndMediumAndCampaign(
             contentId, referrerDomain, source, medium, campaign);
   }
+
+  @Override
+  public void incrementVisitCounts(Map<Long, Integer> deltas) {
+    IdOrderedBatchUpdate.apply(jdbcTemplate, INCREMENT_VISIT_COUNT, deltas);
+  }
 }
@@ -3,9 +3,11 @@ package liaison.groble.persistence.dashboard;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.common.enums.PeriodType;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
 import liaison.groble.domain.dashboard.entity.ContentViewStats;
 import liaison.groble.domain.dashboard.repository.ContentViewStatsRepository;
 
@@ -26,6 +28,13 @@ public class ContentViewStatsRepositoryImpl implements ContentViewStatsRepositor
     jpaContentViewStatsRepository.deleteByStatDateAndPeriodType(date, periodType);
   }
 
+  @Override
+  public List<FlatViewStatsSketchDTO> findDailySketchChunk(
+      LocalDate endDate, LocalDate lastStatDate, Long lastId, int limit) {
+    return jpaContentViewStatsRepository.findDailySketchChunk(
+        endDate, lastStatDate, lastId, PageRequest.of(0, limit));
+  }
+
   @Override
   public Long getTotalContentViews(List<Long> contentIds, LocalDate startDate, LocalDate endDate) {
     return jpaContentViewStatsRepository.getTotalContentViews(contentIds, startDate, endDate);
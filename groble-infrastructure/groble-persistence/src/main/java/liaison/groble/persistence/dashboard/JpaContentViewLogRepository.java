@@ -3,14 +3,28 @@ package liaison.groble.persistence.dashboard;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
 import liaison.groble.domain.dashboard.entity.ContentViewLog;
 
 public interface JpaContentViewLogRepository extends JpaRepository<ContentViewLog, Long> {
-  List<ContentViewLog> findByViewedAtBetween(LocalDateTime start, LocalDateTime end);
+  @Query(
+      "select new liaison.groble.domain.dashboard.dto.FlatViewLogDTO("
+          + "c.id, c.contentId, c.viewerId, c.visitorHash, c.viewerIp, c.viewedAt) "
+          + "from ContentViewLog c "
+          + "where c.viewedAt < :end "
+          + "and (c.viewedAt > :lastViewedAt "
+          + "or (c.viewedAt = :lastViewedAt and c.id > :lastId)) "
+          + "order by c.viewedAt asc, c.id asc")
+  List<FlatViewLogDTO> findViewLogChunk(
+      @Param("end") LocalDateTime end,
+      @Param("lastViewedAt") LocalDateTime lastViewedAt,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
 
   List<ContentViewLog> findByContentIdInAndViewedAtBetween(
       List<Long> contentIds, LocalDateTime start, LocalDateTime end);
@@ -3,16 +3,34 @@ package liaison.groble.persistence.dashboard;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import liaison.groble.domain.common.enums.PeriodType;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
 import liaison.groble.domain.dashboard.entity.ContentViewStats;
 
 public interface JpaContentViewStatsRepository extends JpaRepository<ContentViewStats, Long> {
   void deleteByStatDateAndPeriodType(LocalDate date, PeriodType periodType);
 
+  @Query(
+      "SELECT new liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO("
+          + "cvs.id, cvs.contentId, cvs.statDate, cvs.viewCount, "
+          + "cvs.uniqueViewerSketch, cvs.loggedInViewerSketch) "
+          + "FROM ContentViewStats cvs "
+          + "WHERE cvs.periodType = 'DAILY' "
+          + "AND cvs.statDate <= :endDate "
+          + "AND (cvs.statDate > :lastStatDate "
+          + "OR (cvs.statDate = :lastStatDate AND cvs.id > :lastId)) "
+          + "ORDER BY cvs.statDate ASC, cvs.id ASC")
+  List<FlatViewStatsSketchDTO> findDailySketchChunk(
+      @Param("endDate") LocalDate endDate,
+      @Param("lastStatDate") LocalDate lastStatDate,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
+
   @Query(
       "SELECT COALESCE(SUM(cvs.viewCount), 0) FROM ContentViewStats cvs "
           + "WHERE cvs.contentId IN :contentIds "
@@ -3,14 +3,28 @@ package liaison.groble.persistence.dashboard;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import liaison.groble.domain.dashboard.dto.FlatViewLogDTO;
 import liaison.groble.domain.dashboard.entity.MarketViewLog;
 
 public interface JpaMarketViewLogRepository extends JpaRepository<MarketViewLog, Long> {
-  List<MarketViewLog> findByViewedAtBetween(LocalDateTime start, LocalDateTime end);
+  @Query(
+      "select new liaison.groble.domain.dashboard.dto.FlatViewLogDTO("
+          + "m.id, m.marketId, m.viewerId, m.visitorHash, m.viewerIp, m.viewedAt) "
+          + "from MarketViewLog m "
+          + "where m.viewedAt < :end "
+          + "and (m.viewedAt > :lastViewedAt "
+          + "or (m.viewedAt = :lastViewedAt and m.id > :lastId)) "
+          + "order by m.viewedAt asc, m.id asc")
+  List<FlatViewLogDTO> findViewLogChunk(
+      @Param("end") LocalDateTime end,
+      @Param("lastViewedAt") LocalDateTime lastViewedAt,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
 
   List<MarketViewLog> findByMarketIdAndViewedAtBetween(
       Long marketId, LocalDateTime start, LocalDateTime end);
@@ -1,17 +1,36 @@
 package liaison.groble.persistence.dashboard;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import liaison.groble.domain.common.enums.PeriodType;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
 import liaison.groble.domain.dashboard.entity.MarketViewStats;
 
 public interface JpaMarketViewStatsRepository extends JpaRepository<MarketViewStats, Long> {
   void deleteByStatDateAndPeriodType(LocalDate date, PeriodType periodType);
 
+  @Query(
+      "SELECT new liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO("
+          + "mvs.id, mvs.marketId, mvs.statDate, mvs.viewCount, "
+          + "mvs.uniqueViewerSketch, mvs.loggedInViewerSketch) "
+          + "FROM MarketViewStats mvs "
+          + "WHERE mvs.periodType = 'DAILY' "
+          + "AND mvs.statDate <= :endDate "
+          + "AND (mvs.statDate > :lastStatDate "
+          + "OR (mvs.statDate = :lastStatDate AND mvs.id > :lastId)) "
+          + "ORDER BY mvs.statDate ASC, mvs.id ASC")
+  List<FlatViewStatsSketchDTO> findDailySketchChunk(
+      @Param("endDate") LocalDate endDate,
+      @Param("lastStatDate") LocalDate lastStatDate,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
+
   @Query(
       "SELECT COALESCE(SUM(mvs.viewCount), 0) FROM MarketViewStats mvs "
           + "JOIN Market m ON m.id = mvs.marketId "
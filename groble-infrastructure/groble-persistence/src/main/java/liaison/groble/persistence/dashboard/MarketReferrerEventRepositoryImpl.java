@@ -1,19 +1,41 @@
 package liaison.groble.persistence.dashboard;
 
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.dashboard.entity.MarketReferrerEvent;
 import liaison.groble.domain.dashboard.repository.MarketReferrerEventRepository;
+import liaison.groble.persistence.common.MultiRowInsert;
 
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class MarketReferrerEventRepositoryImpl implements MarketReferrerEventRepository {
+  private static final MultiRowInsert<MarketReferrerEvent> INSERT =
+      new MultiRowInsert<>(
+          "market_referrer_events",
+          List.of("referrer_stats_id", "market_id", "event_date"),
+          500,
+          (event, params) -> {
+            params.add(event.getReferrerStatsId());
+            params.add(event.getMarketId());
+            params.add(Timestamp.valueOf(event.getEventDate()));
+          });
+
   private final JpaMarketReferrerEventRepository jpaMarketReferrerEventRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public MarketReferrerEvent save(MarketReferrerEvent marketReferrerEvent) {
     return jpaMarketReferrerEventRepository.save(marketReferrerEvent);
   }
+
+  @Override
+  public void saveAllInBatch(List<MarketReferrerEvent> events) {
+    INSERT.execute(jdbcTemplate, events);
+  }
 }
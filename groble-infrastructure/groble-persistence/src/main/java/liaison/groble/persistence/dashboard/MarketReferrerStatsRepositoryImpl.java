@@ -1,19 +1,27 @@
 package liaison.groble.persistence.dashboard;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.dashboard.entity.MarketReferrerStats;
 import liaison.groble.domain.dashboard.repository.MarketReferrerStatsRepository;
+import liaison.groble.persistence.common.IdOrderedBatchUpdate;
 
 import lombok.AllArgsConstructor;
 
 @Repository
 @AllArgsConstructor
 public class MarketReferrerStatsRepositoryImpl implements MarketReferrerStatsRepository {
+  private static final String INCREMENT_VISIT_COUNT =
+      "UPDATE market_referrer_stats "
+          + "SET visit_count = visit_count + ?, updated_at = CURRENT_TIMESTAMP(6) WHERE id = ?";
+
   private final JpaMarketReferrerStatsRepository jpaMarketReferrerStatsRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public MarketReferrerStats save(MarketReferrerStats marketReferrerStats) {
@@ -40,4 +48,9 @@ public class MarketReferrerStatsRepositoryImpl implements MarketReferrerStatsRep
         .findAllByMarketIdAndReferrerDomainAndSourceAndMediumAndCampaign(
             marketId, referrerDomain, source, medium, campaign);
   }
+
+  @Override
+  public void incrementVisitCounts(Map<Long, Integer> deltas) {
+    IdOrderedBatchUpdate.apply(jdbcTemplate, INCREMENT_VISIT_COUNT, deltas);
+  }
 }
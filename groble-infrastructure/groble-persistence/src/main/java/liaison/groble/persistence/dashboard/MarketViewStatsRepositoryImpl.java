@@ -3,9 +3,11 @@ package liaison.groble.persistence.dashboard;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.common.enums.PeriodType;
+import liaison.groble.domain.dashboard.dto.FlatViewStatsSketchDTO;
 import liaison.groble.domain.dashboard.entity.MarketViewStats;
 import liaison.groble.domain.dashboard.repository.MarketViewStatsRepository;
 
@@ -26,6 +28,13 @@ public class MarketViewStatsRepositoryImpl implements MarketViewStatsRepository
     jpaMarketViewStatsRepository.deleteByStatDateAndPeriodType(date, periodType);
   }
 
+  @Override
+  public List<FlatViewStatsSketchDTO> findDailySketchChunk(
+      LocalDate endDate, LocalDate lastStatDate, Long lastId, int limit) {
+    return jpaMarketViewStatsRepository.findDailySketchChunk(
+        endDate, lastStatDate, lastId, PageRequest.of(0, limit));
+  }
+
   @Override
   public Long getTotalMarketViews(Long sellerId, LocalDate startDate, LocalDate endDate) {
     return jpaMarketViewStatsRepository.getTotalMarketViews(sellerId, startDate, endDate);
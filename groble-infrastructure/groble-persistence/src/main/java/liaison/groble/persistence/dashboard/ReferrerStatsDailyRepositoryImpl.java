@@ -0,0 +1,107 @@
+package liaison.groble.persistence.dashboard;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import liaison.groble.domain.dashboard.entity.ReferrerTracking;
+import liaison.groble.domain.dashboard.repository.ReferrerStatsDailyRepository;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class ReferrerStatsDailyRepositoryImpl implements ReferrerStatsDailyRepository {
+
+  static final String TARGET_CONTENT = "CONTENT";
+  static final String TARGET_MARKET = "MARKET";
+
+  // 도메인 정규화와 차원 해시는 백필 마이그레이션(V20251123_01)과 동일한 규칙을 사용
+  private static final String UPSERT =
+      "INSERT INTO referrer_stats_daily (target_type, target_key, stat_date, dimension_hash, "
+          + "referrer_url, referrer_domain, utm_source, utm_medium, utm_campaign, utm_content, "
+          + "utm_term, visit_count) "
+          + "SELECT d.target_type, d.target_key, d.stat_date, "
+          + "SHA2(CONCAT_WS(CHAR(31 USING utf8mb4), "
+          + "COALESCE(LOWER(d.referrer_url), CHAR(0 USING utf8mb4)), "
+          + "COALESCE(LOWER(d.referrer_domain), CHAR(0 USING utf8mb4)), "
+          + "COALESCE(LOWER(d.utm_source), CHAR(0 USING utf8mb4)), "
+          + "COALESCE(LOWER(d.utm_medium), CHAR(0 USING utf8mb4)), "
+          + "COALESCE(LOWER(d.utm_campaign), CHAR(0 USING utf8mb4)), "
+          + "COALESCE(LOWER(d.utm_content), CHAR(0 USING utf8mb4)), "
+          + "COALESCE(LOWER(d.utm_term), CHAR(0 USING utf8mb4))), 256), "
+          + "d.referrer_url, d.referrer_domain, d.utm_source, d.utm_medium, d.utm_campaign, "
+          + "d.utm_content, d.utm_term, 1 "
+          + "FROM (SELECT ? AS target_type, ? AS target_key, ? AS stat_date, "
+          + "? AS referrer_url, "
+          + "CASE WHEN ? IS NOT NULL AND ? <> '' THEN LOWER(SUBSTRING_INDEX(?, ':', 1)) "
+          + "WHEN ? IS NULL OR ? = '' THEN NULL "
+          + "ELSE LOWER(SUBSTRING_INDEX(SUBSTRING_INDEX(SUBSTRING_INDEX(?, '://', -1), '/', 1), "
+          + "':', 1)) END AS referrer_domain, "
+          + "? AS utm_source, ? AS utm_medium, ? AS utm_campaign, ? AS utm_content, "
+          + "? AS utm_term) d "
+          + "ON DUPLICATE KEY UPDATE visit_count = referrer_stats_daily.visit_count + 1";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void incrementAll(List<ReferrerTracking> trackings) {
+    List<Object[]> args = new ArrayList<>(trackings.size());
+    for (ReferrerTracking tracking : trackings) {
+      Object[] row = toUpsertArgs(tracking);
+      if (row != null) {
+        args.add(row);
+      }
+    }
+    if (!args.isEmpty()) {
+      jdbcTemplate.batchUpdate(UPSERT, args);
+    }
+  }
+
+  private Object[] toUpsertArgs(ReferrerTracking tracking) {
+    String targetType;
+    String targetKey;
+    if (tracking.getContentId() != null) {
+      targetType = TARGET_CONTENT;
+      targetKey = tracking.getContentId();
+    } else if (tracking.getMarketLinkUrl() != null) {
+      targetType = TARGET_MARKET;
+      targetKey = tracking.getMarketLinkUrl();
+    } else {
+      return null;
+    }
+
+    String referrerUrl = tracking.getReferrerUrl();
+    String referrerDomain = tracking.getReferrerDomain();
+    return new Object[] {
+      targetType,
+      targetKey,
+      Date.valueOf(resolveStatDate(tracking)),
+      referrerUrl,
+      referrerDomain,
+      referrerDomain,
+      referrerDomain,
+      referrerUrl,
+      referrerUrl,
+      referrerUrl,
+      tracking.getUtmSource(),
+      tracking.getUtmMedium(),
+      tracking.getUtmCampaign(),
+      tracking.getUtmContent(),
+      tracking.getUtmTerm()
+    };
+  }
+
+  private LocalDate resolveStatDate(ReferrerTracking tracking) {
+    LocalDateTime timestamp =
+        tracking.getEventTimestamp() != null
+            ? tracking.getEventTimestamp()
+            : tracking.getCreatedAt();
+    return timestamp != null ? timestamp.toLocalDate() : LocalDate.now();
+  }
+}
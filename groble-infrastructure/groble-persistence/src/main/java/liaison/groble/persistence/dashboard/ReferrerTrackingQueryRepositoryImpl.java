@@ -1,7 +1,6 @@
 package liaison.groble.persistence.dashboard;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,48 +17,37 @@ import liaison.groble.domain.dashboard.repository.ReferrerTrackingQueryRepositor
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 유입경로 통계 조회
+ *
+ * <p>원본(referrer_tracking) 대신 일별 롤업(referrer_stats_daily)을 (target_type, target_key,
+ * stat_date) 고유 키 범위로 조회하고, 기간 내 일자별 행을 차원 해시 기준으로 합산합니다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class ReferrerTrackingQueryRepositoryImpl implements ReferrerTrackingQueryRepository {
 
-  private static final String DOMAIN_EXPRESSION =
-      "CASE "
-          + "WHEN rt.referrer_domain IS NOT NULL AND rt.referrer_domain <> '' THEN "
-          + "LOWER(SUBSTRING_INDEX(rt.referrer_domain, ':', 1)) "
-          + "WHEN rt.referrer_url IS NULL OR rt.referrer_url = '' THEN NULL "
-          + "ELSE LOWER(SUBSTRING_INDEX(SUBSTRING_INDEX(SUBSTRING_INDEX(rt.referrer_url, '://', -1), '/', 1), ':', 1)) "
-          + "END";
-
-  private static final String DOMAIN_GROUP_EXPRESSION = "(" + DOMAIN_EXPRESSION + ")";
-
-  private static final String CONTENT_BASE_FILTER =
-      " FROM referrer_tracking rt "
-          + "WHERE rt.content_id = :contentId "
-          + "AND COALESCE(rt.event_timestamp, rt.created_at) >= :start "
-          + "AND COALESCE(rt.event_timestamp, rt.created_at) < :end";
-
-  private static final String MARKET_BASE_FILTER =
-      " FROM referrer_tracking rt "
-          + "WHERE rt.market_link_url = :marketLinkUrl "
-          + "AND COALESCE(rt.event_timestamp, rt.created_at) >= :start "
-          + "AND COALESCE(rt.event_timestamp, rt.created_at) < :end";
-
-  private static final String GROUP_BY_COLUMNS =
-      " GROUP BY rt.referrer_url, "
-          + DOMAIN_GROUP_EXPRESSION
-          + ", rt.utm_source, rt.utm_medium, rt.utm_campaign, rt.utm_content, rt.utm_term";
-
-  private static final String DATA_PROJECTION =
-      "SELECT rt.referrer_url, "
-          + DOMAIN_GROUP_EXPRESSION
-          + " AS referrer_domain, "
+  private static final String BASE_FILTER =
+      " FROM referrer_stats_daily rs "
+          + "WHERE rs.target_type = :targetType "
+          + "AND rs.target_key = :targetKey "
+          + "AND rs.stat_date BETWEEN :startDate AND :endDate";
+
+  private static final String DATA_QUERY =
+      "SELECT ANY_VALUE(rs.referrer_url), "
+          + "ANY_VALUE(rs.referrer_domain), "
           + "NULL AS referrer_path, "
-          + "rt.utm_source, "
-          + "rt.utm_medium, "
-          + "rt.utm_campaign, "
-          + "rt.utm_content, "
-          + "rt.utm_term, "
-          + "COUNT(*) AS visit_count";
+          + "ANY_VALUE(rs.utm_source), "
+          + "ANY_VALUE(rs.utm_medium), "
+          + "ANY_VALUE(rs.utm_campaign), "
+          + "ANY_VALUE(rs.utm_content), "
+          + "ANY_VALUE(rs.utm_term), "
+          + "SUM(rs.visit_count) AS visit_count"
+          + BASE_FILTER
+          + " GROUP BY rs.dimension_hash ORDER BY visit_count DESC";
+
+  private static final String COUNT_QUERY =
+      "SELECT COUNT(DISTINCT rs.dimension_hash)" + BASE_FILTER;
 
   private final EntityManager entityManager;
 
@@ -70,48 +58,38 @@ public class ReferrerTrackingQueryRepositoryImpl implements ReferrerTrackingQuer
       return Page.empty(pageable);
     }
 
-    LocalDateTime startDateTime = startDate.atStartOfDay();
-    LocalDateTime endExclusive = endDate.plusDays(1).atStartOfDay();
-
-    String baseFilter = CONTENT_BASE_FILTER;
-
     return executeAggregation(
-        baseFilter,
-        builder -> builder.setParameter("contentId", contentId.toString()),
-        startDateTime,
-        endExclusive,
+        ReferrerStatsDailyRepositoryImpl.TARGET_CONTENT,
+        contentId.toString(),
+        startDate,
+        endDate,
         pageable);
   }
 
   @Override
   public Page<FlatReferrerStatsDTO> findMarketReferrerStats(
       String marketLinkUrl, LocalDate startDate, LocalDate endDate, Pageable pageable) {
-    LocalDateTime startDateTime = startDate.atStartOfDay();
-    LocalDateTime endExclusive = endDate.plusDays(1).atStartOfDay();
-
-    String baseFilter = MARKET_BASE_FILTER;
+    if (marketLinkUrl == null) {
+      return Page.empty(pageable);
+    }
 
     return executeAggregation(
-        baseFilter,
-        builder -> builder.setParameter("marketLinkUrl", marketLinkUrl),
-        startDateTime,
-        endExclusive,
+        ReferrerStatsDailyRepositoryImpl.TARGET_MARKET,
+        marketLinkUrl,
+        startDate,
+        endDate,
         pageable);
   }
 
   private Page<FlatReferrerStatsDTO> executeAggregation(
-      String baseFilter,
-      QueryParameterApplier parameterApplier,
-      LocalDateTime startDateTime,
-      LocalDateTime endExclusive,
+      String targetType,
+      String targetKey,
+      LocalDate startDate,
+      LocalDate endDate,
       Pageable pageable) {
 
-    String dataQuerySql =
-        DATA_PROJECTION + baseFilter + GROUP_BY_COLUMNS + " ORDER BY visit_count DESC";
-    Query dataQuery = entityManager.createNativeQuery(dataQuerySql);
-    parameterApplier.apply(dataQuery);
-    dataQuery.setParameter("start", startDateTime);
-    dataQuery.setParameter("end", endExclusive);
+    Query dataQuery = entityManager.createNativeQuery(DATA_QUERY);
+    applyParameters(dataQuery, targetType, targetKey, startDate, endDate);
     dataQuery.setFirstResult((int) pageable.getOffset());
     dataQuery.setMaxResults(pageable.getPageSize());
 
@@ -133,19 +111,23 @@ public class ReferrerTrackingQueryRepositoryImpl implements ReferrerTrackingQuer
               .build());
     }
 
-    String countQuerySql =
-        "SELECT COUNT(*) FROM (SELECT 1" + baseFilter + GROUP_BY_COLUMNS + ") grouped";
-    Query countQuery = entityManager.createNativeQuery(countQuerySql);
-    parameterApplier.apply(countQuery);
-    countQuery.setParameter("start", startDateTime);
-    countQuery.setParameter("end", endExclusive);
+    // 첫 페이지가 다 차지 않으면 전체 건수가 확정되므로 카운트 쿼리 생략
+    if (pageable.getOffset() == 0 && rows.size() < pageable.getPageSize()) {
+      return new PageImpl<>(content, pageable, rows.size());
+    }
+
+    Query countQuery = entityManager.createNativeQuery(COUNT_QUERY);
+    applyParameters(countQuery, targetType, targetKey, startDate, endDate);
     Number total = (Number) countQuery.getSingleResult();
 
     return new PageImpl<>(content, pageable, total.longValue());
   }
 
-  @FunctionalInterface
-  private interface QueryParameterApplier {
-    void apply(Query query);
+  private void applyParameters(
+      Query query, String targetType, String targetKey, LocalDate startDate, LocalDate endDate) {
+    query.setParameter("targetType", targetType);
+    query.setParameter("targetKey", targetKey);
+    query.setParameter("startDate", startDate);
+    query.setParameter("endDate", endDate);
   }
 }
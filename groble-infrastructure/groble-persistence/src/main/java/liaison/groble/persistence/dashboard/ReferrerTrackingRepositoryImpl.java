@@ -1,12 +1,17 @@
 package liaison.groble.persistence.dashboard;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import liaison.groble.domain.common.id.TimeOrderedIdGenerator;
 import liaison.groble.domain.dashboard.entity.ReferrerTracking;
 import liaison.groble.domain.dashboard.repository.ReferrerTrackingRepository;
+import liaison.groble.persistence.common.MultiRowInsert;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,13 +19,75 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReferrerTrackingRepositoryImpl implements ReferrerTrackingRepository {
 
+  // 시간순 ID를 직접 발급해 한 문장에 여러 행을 INSERT (JPA 배치보다 왕복이 적음)
+  private static final MultiRowInsert<ReferrerTracking> INSERT =
+      new MultiRowInsert<>(
+          "referrer_tracking",
+          List.of(
+              "id",
+              "content_id",
+              "market_link_url",
+              "page_url",
+              "referrer_url",
+              "referrer_domain",
+              "utm_source",
+              "utm_medium",
+              "utm_campaign",
+              "utm_content",
+              "utm_term",
+              "landing_page_url",
+              "last_page_url",
+              "referrer_chain",
+              "referrer_metadata",
+              "session_id",
+              "actor_id",
+              "actor_type",
+              "is_authenticated",
+              "user_agent",
+              "ip_address",
+              "event_timestamp"),
+          200,
+          (tracking, params) -> {
+            params.add(TimeOrderedIdGenerator.next());
+            params.add(tracking.getContentId());
+            params.add(tracking.getMarketLinkUrl());
+            params.add(tracking.getPageUrl());
+            params.add(tracking.getReferrerUrl());
+            params.add(tracking.getReferrerDomain());
+            params.add(tracking.getUtmSource());
+            params.add(tracking.getUtmMedium());
+            params.add(tracking.getUtmCampaign());
+            params.add(tracking.getUtmContent());
+            params.add(tracking.getUtmTerm());
+            params.add(tracking.getLandingPageUrl());
+            params.add(tracking.getLastPageUrl());
+            params.add(tracking.getReferrerChain());
+            params.add(tracking.getReferrerMetadata());
+            params.add(tracking.getSessionId());
+            params.add(tracking.getActorId());
+            params.add(tracking.getActorType());
+            params.add(tracking.getAuthenticated());
+            params.add(tracking.getUserAgent());
+            params.add(tracking.getIpAddress());
+            params.add(
+                tracking.getEventTimestamp() != null
+                    ? Timestamp.valueOf(tracking.getEventTimestamp())
+                    : null);
+          });
+
   private final JpaReferrerTrackingRepository jpaReferrerTrackingRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public ReferrerTracking save(ReferrerTracking referrerTracking) {
     return jpaReferrerTrackingRepository.save(referrerTracking);
   }
 
+  @Override
+  public void saveAllInBatch(List<ReferrerTracking> trackings) {
+    INSERT.execute(jdbcTemplate, trackings);
+  }
+
   @Override
   public Optional<ReferrerTracking> findRecentContentTracking(String sessionId, String contentId) {
     return jpaReferrerTrackingRepository.findFirstBySessionIdAndContentIdOrderByCreatedAtDesc(
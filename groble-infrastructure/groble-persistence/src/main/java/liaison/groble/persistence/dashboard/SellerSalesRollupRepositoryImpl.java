@@ -0,0 +1,259 @@
+package liaison.groble.persistence.dashboard;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import liaison.groble.domain.dashboard.dto.FlatDashboardOverviewDTO;
+import liaison.groble.domain.dashboard.repository.SellerSalesRollupRepository;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class SellerSalesRollupRepositoryImpl implements SellerSalesRollupRepository {
+
+  private static final String SCOPE_ALL = "ALL";
+
+  private static final String CUSTOMER_KEY_EXPR =
+      "CASE WHEN p.user_id IS NOT NULL THEN CONCAT('U:', p.user_id) "
+          + "WHEN p.guest_user_id IS NOT NULL THEN CONCAT('G:', p.guest_user_id) END";
+
+  // 대시보드 집계 조건과 동일: 구매 완료 & 미취소 & 주문 결제완료
+  // 잠금 읽기로 최신 커밋 상태를 읽어, 동시에 실행된 이전 동기화가 오래된 상태를 덮어쓰지 않도록 함
+  private static final String SELECT_PURCHASE_STATE =
+      "SELECT c.user_id AS seller_id, DATE(p.purchased_at) AS sales_date, "
+          + CUSTOMER_KEY_EXPR
+          + " AS customer_key, "
+          + "p.final_price AS amount, (p.cancelled_at IS NULL AND o.status = 'PAID') AS active "
+          + "FROM purchases p "
+          + "JOIN contents c ON c.id = p.content_id "
+          + "JOIN orders o ON o.id = p.order_id "
+          + "WHERE p.id = ? AND p.purchased_at IS NOT NULL "
+          + "FOR SHARE OF p, o";
+
+  private static final String INSERT_LEDGER =
+      "INSERT IGNORE INTO seller_sales_purchases "
+          + "(purchase_id, seller_id, sales_date, customer_key, amount, active) "
+          + "VALUES (?, ?, ?, ?, ?, FALSE)";
+
+  private static final String UPDATE_LEDGER_ACTIVE =
+      "UPDATE seller_sales_purchases SET active = ? WHERE purchase_id = ? AND active <> ?";
+
+  // 반영 시점의 금액/날짜로 되돌리기 위해 원장 스냅샷을 사용
+  private static final String SELECT_LEDGER =
+      "SELECT seller_id, sales_date, customer_key, amount, active "
+          + "FROM seller_sales_purchases WHERE purchase_id = ?";
+
+  private static final String UPSERT_DAILY =
+      "INSERT INTO seller_sales_daily (seller_id, sales_date, revenue, sales_count) "
+          + "VALUES (?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE revenue = revenue + VALUES(revenue), "
+          + "sales_count = sales_count + VALUES(sales_count)";
+
+  private static final String UPSERT_CUSTOMER =
+      "INSERT INTO seller_sales_customers (seller_id, scope, customer_key, purchase_count) "
+          + "VALUES (?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE purchase_count = purchase_count + VALUES(purchase_count)";
+
+  private static final String SELECT_CUSTOMER_COUNT =
+      "SELECT purchase_count FROM seller_sales_customers "
+          + "WHERE seller_id = ? AND scope = ? AND customer_key = ?";
+
+  private static final String DELETE_EMPTY_CUSTOMER =
+      "DELETE FROM seller_sales_customers "
+          + "WHERE seller_id = ? AND scope = ? AND customer_key = ? AND purchase_count <= 0";
+
+  private static final String UPSERT_ROLLUP =
+      "INSERT INTO seller_sales_rollups "
+          + "(seller_id, scope, revenue, sales_count, customer_count) VALUES (?, ?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE revenue = revenue + VALUES(revenue), "
+          + "sales_count = sales_count + VALUES(sales_count), "
+          + "customer_count = customer_count + VALUES(customer_count)";
+
+  private static final String SELECT_OVERVIEW =
+      "SELECT scope, revenue, sales_count, customer_count FROM seller_sales_rollups "
+          + "WHERE seller_id = ? AND scope IN (?, ?)";
+
+  private static final String SELECT_SELLER_IDS =
+      "SELECT DISTINCT c.user_id FROM contents c "
+          + "WHERE c.user_id > ? "
+          + "AND EXISTS (SELECT 1 FROM purchases p WHERE p.content_id = c.id) "
+          + "ORDER BY c.user_id LIMIT ?";
+
+  private static final String[] DELETE_SELLER_ROWS = {
+    "DELETE FROM seller_sales_purchases WHERE seller_id = ?",
+    "DELETE FROM seller_sales_daily WHERE seller_id = ?",
+    "DELETE FROM seller_sales_customers WHERE seller_id = ?",
+    "DELETE FROM seller_sales_rollups WHERE seller_id = ?"
+  };
+
+  private static final String REBUILD_LEDGER =
+      "INSERT INTO seller_sales_purchases "
+          + "(purchase_id, seller_id, sales_date, customer_key, amount, active) "
+          + "SELECT p.id, c.user_id, DATE(p.purchased_at), "
+          + CUSTOMER_KEY_EXPR
+          + ", p.final_price, (p.cancelled_at IS NULL AND o.status = 'PAID') "
+          + "FROM purchases p "
+          + "JOIN contents c ON c.id = p.content_id "
+          + "JOIN orders o ON o.id = p.order_id "
+          + "WHERE c.user_id = ? AND p.purchased_at IS NOT NULL";
+
+  private static final String REBUILD_DAILY =
+      "INSERT INTO seller_sales_daily (seller_id, sales_date, revenue, sales_count) "
+          + "SELECT seller_id, sales_date, SUM(amount), COUNT(*) FROM seller_sales_purchases "
+          + "WHERE seller_id = ? AND active = TRUE GROUP BY seller_id, sales_date";
+
+  private static final String REBUILD_CUSTOMERS =
+      "INSERT INTO seller_sales_customers (seller_id, scope, customer_key, purchase_count) "
+          + "SELECT seller_id, 'ALL', customer_key, COUNT(*) FROM seller_sales_purchases "
+          + "WHERE seller_id = ? AND active = TRUE AND customer_key IS NOT NULL "
+          + "GROUP BY seller_id, customer_key "
+          + "UNION ALL "
+          + "SELECT seller_id, DATE_FORMAT(sales_date, '%Y-%m'), customer_key, COUNT(*) "
+          + "FROM seller_sales_purchases "
+          + "WHERE seller_id = ? AND active = TRUE AND customer_key IS NOT NULL "
+          + "GROUP BY seller_id, DATE_FORMAT(sales_date, '%Y-%m'), customer_key";
+
+  private static final String REBUILD_ROLLUPS =
+      "INSERT INTO seller_sales_rollups (seller_id, scope, revenue, sales_count, customer_count) "
+          + "SELECT seller_id, 'ALL', SUM(amount), COUNT(*), COUNT(DISTINCT customer_key) "
+          + "FROM seller_sales_purchases WHERE seller_id = ? AND active = TRUE "
+          + "GROUP BY seller_id "
+          + "UNION ALL "
+          + "SELECT seller_id, DATE_FORMAT(sales_date, '%Y-%m'), SUM(amount), COUNT(*), "
+          + "COUNT(DISTINCT customer_key) "
+          + "FROM seller_sales_purchases WHERE seller_id = ? AND active = TRUE "
+          + "GROUP BY seller_id, DATE_FORMAT(sales_date, '%Y-%m')";
+
+  private static final RowMapper<SalesEntry> SALES_ENTRY_MAPPER =
+      (rs, rowNum) ->
+          new SalesEntry(
+              rs.getLong("seller_id"),
+              rs.getDate("sales_date").toLocalDate(),
+              rs.getString("customer_key"),
+              rs.getBigDecimal("amount"),
+              rs.getBoolean("active"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean syncPurchase(Long purchaseId) {
+    List<SalesEntry> current =
+        jdbcTemplate.query(SELECT_PURCHASE_STATE, SALES_ENTRY_MAPPER, purchaseId);
+    if (current.isEmpty()) {
+      return false;
+    }
+    SalesEntry state = current.get(0);
+
+    jdbcTemplate.update(
+        INSERT_LEDGER,
+        purchaseId,
+        state.sellerId(),
+        Date.valueOf(state.salesDate()),
+        state.customerKey(),
+        state.amount());
+
+    // 원장 행 잠금과 함께 상태 전이 여부를 판정하므로 같은 전이는 한 번만 반영됨
+    int changed =
+        jdbcTemplate.update(UPDATE_LEDGER_ACTIVE, state.active(), purchaseId, state.active());
+    if (changed == 0) {
+      return false;
+    }
+
+    SalesEntry ledger = jdbcTemplate.queryForObject(SELECT_LEDGER, SALES_ENTRY_MAPPER, purchaseId);
+    applyDelta(ledger, state.active() ? 1 : -1);
+    return true;
+  }
+
+  @Override
+  public FlatDashboardOverviewDTO getOverview(Long sellerId, YearMonth month) {
+    String monthScope = month.toString();
+    FlatDashboardOverviewDTO.FlatDashboardOverviewDTOBuilder builder =
+        FlatDashboardOverviewDTO.builder()
+            .totalRevenue(BigDecimal.ZERO)
+            .totalSalesCount(0L)
+            .totalCustomers(0L)
+            .currentMonthRevenue(BigDecimal.ZERO)
+            .currentMonthSalesCount(0L)
+            .recentCustomers(0L);
+
+    jdbcTemplate.query(
+        SELECT_OVERVIEW,
+        rs -> {
+          if (SCOPE_ALL.equals(rs.getString("scope"))) {
+            builder
+                .totalRevenue(rs.getBigDecimal("revenue"))
+                .totalSalesCount(rs.getLong("sales_count"))
+                .totalCustomers(rs.getLong("customer_count"));
+          } else {
+            builder
+                .currentMonthRevenue(rs.getBigDecimal("revenue"))
+                .currentMonthSalesCount(rs.getLong("sales_count"))
+                .recentCustomers(rs.getLong("customer_count"));
+          }
+        },
+        sellerId,
+        SCOPE_ALL,
+        monthScope);
+
+    return builder.build();
+  }
+
+  @Override
+  public List<Long> findSellerIdsWithPurchases(Long lastSellerId, int limit) {
+    return jdbcTemplate.queryForList(SELECT_SELLER_IDS, Long.class, lastSellerId, limit);
+  }
+
+  @Override
+  public void rebuildSeller(Long sellerId) {
+    for (String sql : DELETE_SELLER_ROWS) {
+      jdbcTemplate.update(sql, sellerId);
+    }
+    jdbcTemplate.update(REBUILD_LEDGER, sellerId);
+    jdbcTemplate.update(REBUILD_DAILY, sellerId);
+    jdbcTemplate.update(REBUILD_CUSTOMERS, sellerId, sellerId);
+    jdbcTemplate.update(REBUILD_ROLLUPS, sellerId, sellerId);
+  }
+
+  private void applyDelta(SalesEntry entry, int sign) {
+    BigDecimal amount = entry.amount().multiply(BigDecimal.valueOf(sign));
+    jdbcTemplate.update(
+        UPSERT_DAILY, entry.sellerId(), Date.valueOf(entry.salesDate()), amount, sign);
+
+    String monthScope = YearMonth.from(entry.salesDate()).toString();
+    for (String scope : new String[] {SCOPE_ALL, monthScope}) {
+      int customerDelta = applyCustomerDelta(entry, scope, sign);
+      jdbcTemplate.update(UPSERT_ROLLUP, entry.sellerId(), scope, amount, sign, customerDelta);
+    }
+  }
+
+  /** 고객 집합의 구매 건수를 증감하고, 고객이 새로 생기거나(0→1) 사라지면(1→0) 고유 고객 수 증감분을 반환합니다. */
+  private int applyCustomerDelta(SalesEntry entry, String scope, int sign) {
+    if (entry.customerKey() == null) {
+      return 0;
+    }
+    jdbcTemplate.update(UPSERT_CUSTOMER, entry.sellerId(), scope, entry.customerKey(), sign);
+    Integer purchaseCount =
+        jdbcTemplate.queryForObject(
+            SELECT_CUSTOMER_COUNT, Integer.class, entry.sellerId(), scope, entry.customerKey());
+
+    if (sign > 0) {
+      return purchaseCount != null && purchaseCount == 1 ? 1 : 0;
+    }
+    if (purchaseCount != null && purchaseCount <= 0) {
+      jdbcTemplate.update(DELETE_EMPTY_CUSTOMER, entry.sellerId(), scope, entry.customerKey());
+      return purchaseCount == 0 ? -1 : 0;
+    }
+    return 0;
+  }
+
+  private record SalesEntry(
+      Long sellerId, LocalDate salesDate, String customerKey, BigDecimal amount, boolean active) {}
+}
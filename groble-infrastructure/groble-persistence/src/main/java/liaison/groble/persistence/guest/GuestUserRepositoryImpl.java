@@ -1,5 +1,6 @@
 package liaison.groble.persistence.guest;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -21,6 +22,14 @@ public class GuestUserRepositoryImpl implements GuestUserRepository {
     return jpaGuestUserRepository.findById(guestUserId);
   }
 
+  @Override
+  public List<GuestUser> findByIdIn(List<Long> guestUserIds) {
+    if (guestUserIds.isEmpty()) {
+      return List.of();
+    }
+    return jpaGuestUserRepository.findAllById(guestUserIds);
+  }
+
   @Override
   public Optional<GuestUser> findByPhoneNumber(String phoneNumber) {
     return jpaGuestUserRepository.findByPhoneNumber(phoneNumber);
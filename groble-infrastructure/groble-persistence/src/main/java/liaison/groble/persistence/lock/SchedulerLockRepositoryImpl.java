@@ -0,0 +1,59 @@
+package liaison.groble.persistence.lock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import liaison.groble.domain.lock.repository.SchedulerLockRepository;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class SchedulerLockRepositoryImpl implements SchedulerLockRepository {
+
+  private static final String TAKE_OVER =
+      "UPDATE scheduler_locks SET locked_by = ?, locked_until = ?, locked_at = ? "
+          + "WHERE name = ? AND (locked_until <= ? OR locked_by = ?)";
+
+  // 최초 획득 시 행 생성, 동시에 생성하면 기본 키 충돌로 한 노드만 성공
+  private static final String INSERT =
+      "INSERT IGNORE INTO scheduler_locks (name, locked_by, locked_until, locked_at) "
+          + "VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean tryAcquire(String name, String owner, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime until = now.plus(lease);
+    if (jdbcTemplate.update(TAKE_OVER, owner, until, now, name, now, owner) > 0) {
+      return true;
+    }
+    return jdbcTemplate.update(INSERT, name, owner, until, now) > 0;
+  }
+
+  @Override
+  public boolean extend(String name, String owner, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update(
+            "UPDATE scheduler_locks SET locked_until = ? "
+                + "WHERE name = ? AND locked_by = ? AND locked_until > ?",
+            now.plus(lease),
+            name,
+            owner,
+            now)
+        > 0;
+  }
+
+  @Override
+  public void release(String name, String owner) {
+    jdbcTemplate.update(
+        "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?",
+        LocalDateTime.now(),
+        name,
+        owner);
+  }
+}
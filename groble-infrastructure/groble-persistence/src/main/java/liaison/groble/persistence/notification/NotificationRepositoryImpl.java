@@ -1,10 +1,19 @@
 package liaison.groble.persistence.notification;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import liaison.groble.domain.common.id.TimeOrderedIdGenerator;
 import liaison.groble.domain.notification.entity.Notification;
+import liaison.groble.domain.notification.enums.NotificationReadStatus;
+import liaison.groble.domain.notification.enums.NotificationType;
+import liaison.groble.domain.notification.enums.SubNotificationType;
 import liaison.groble.domain.notification.repository.NotificationRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -12,7 +21,13 @@ import lombok.RequiredArgsConstructor;
 @Repository
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepository {
+  private static final String INSERT_NOTIFICATION =
+      "INSERT INTO notifications (id, receiver_user_id, notification_type, "
+          + "sub_notification_type, notification_read_status, details, created_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
   private final JpaNotificationRepository jpaNotificationRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public Notification save(final Notification notification) {
@@ -28,4 +43,28 @@ public class NotificationRepositoryImpl implements NotificationRepository {
   public long countUnreadByUserId(Long userId) {
     return jpaNotificationRepository.countUnreadByUserId(userId);
   }
+
+  @Override
+  public int saveAllSystemNotifications(
+      SubNotificationType subNotificationType, Map<Long, String> detailsByReceiverId) {
+    if (detailsByReceiverId.isEmpty()) {
+      return 0;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> batchArgs = new ArrayList<>(detailsByReceiverId.size());
+    detailsByReceiverId.forEach(
+        (receiverId, details) ->
+            batchArgs.add(
+                new Object[] {
+                  TimeOrderedIdGenerator.next(),
+                  receiverId,
+                  NotificationType.SYSTEM.name(),
+                  subNotificationType.name(),
+                  NotificationReadStatus.UNREAD.name(),
+                  details,
+                  now
+                }));
+    jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, batchArgs);
+    return batchArgs.size();
+  }
 }
@@ -0,0 +1,125 @@
+package liaison.groble.persistence.notification.queue;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import liaison.groble.domain.notification.queue.dto.EmailSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.enums.EmailSendStatus;
+import liaison.groble.domain.notification.queue.repository.EmailSendQueueRepository;
+import liaison.groble.persistence.common.LeaseQueue;
+
+@Repository
+public class EmailSendQueueRepositoryImpl implements EmailSendQueueRepository {
+  private static final String EXHAUSTED_LEASE_ERROR = "최대 시도 횟수 초과 (점유 만료)";
+
+  private static final String INSERT =
+      "INSERT INTO email_send_queue (template, recipient, params, status, attempt_count, "
+          + "next_attempt_at, expires_at, created_at) VALUES (?, ?, ?, ?, 0, ?, ?, ?)";
+
+  private static final RowMapper<EmailSendQueueItemDTO> CLAIMED_ROW_MAPPER =
+      (rs, rowNum) ->
+          EmailSendQueueItemDTO.builder()
+              .id(rs.getLong("id"))
+              .template(rs.getString("template"))
+              .recipient(rs.getString("recipient"))
+              .params(rs.getString("params"))
+              .expiresAt(toLocalDateTime(rs.getTimestamp("expires_at")))
+              .attemptCount(rs.getInt("attempt_count") + 1)
+              .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+              .build();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LeaseQueue<EmailSendQueueItemDTO> queue;
+
+  public EmailSendQueueRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.queue =
+        new LeaseQueue<>(
+            jdbcTemplate,
+            "email_send_queue",
+            "id, template, recipient, params, expires_at, attempt_count, created_at",
+            CLAIMED_ROW_MAPPER,
+            EmailSendQueueItemDTO::getId,
+            EmailSendQueueItemDTO::getAttemptCount);
+  }
+
+  @Override
+  public void enqueue(EmailSendQueueItemDTO item) {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update(
+        INSERT,
+        item.getTemplate(),
+        item.getRecipient(),
+        item.getParams(),
+        EmailSendStatus.PENDING.name(),
+        now,
+        item.getExpiresAt(),
+        now);
+  }
+
+  @Override
+  @Transactional
+  public List<EmailSendQueueItemDTO> claimBatch(int limit, Duration lease, int maxAttempts) {
+    LocalDateTime now = LocalDateTime.now();
+    queue.expireExhausted(
+        now,
+        maxAttempts,
+        "status = ?, params = NULL, last_error = ?",
+        EmailSendStatus.DEAD.name(),
+        EXHAUSTED_LEASE_ERROR);
+    return queue.claim(now, limit, lease, maxAttempts);
+  }
+
+  @Override
+  public List<EmailSendQueueItemDTO> markSent(List<EmailSendQueueItemDTO> items) {
+    int marked =
+        queue.updateAllClaimed(
+            items,
+            "status = ?, sent_at = ?, params = NULL, last_error = NULL",
+            EmailSendStatus.SENT.name(),
+            LocalDateTime.now());
+    if (marked == items.size()) {
+      return items;
+    }
+    return queue.filterInStatus(items, EmailSendStatus.SENT.name());
+  }
+
+  @Override
+  public boolean markRetry(EmailSendQueueItemDTO item, LocalDateTime nextAttemptAt, String error) {
+    return queue.updateClaimed(
+        item,
+        "status = ?, next_attempt_at = ?, last_error = ?",
+        EmailSendStatus.PENDING.name(),
+        nextAttemptAt,
+        LeaseQueue.truncateError(error));
+  }
+
+  @Override
+  public boolean markDead(EmailSendQueueItemDTO item, String error) {
+    return queue.updateClaimed(
+        item,
+        "status = ?, params = NULL, last_error = ?",
+        EmailSendStatus.DEAD.name(),
+        LeaseQueue.truncateError(error));
+  }
+
+  @Override
+  public int deleteSentBefore(LocalDateTime before, int limit) {
+    return jdbcTemplate.update(
+        "DELETE FROM email_send_queue WHERE status = ? AND sent_at < ? LIMIT ?",
+        EmailSendStatus.SENT.name(),
+        before,
+        limit);
+  }
+
+  private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toLocalDateTime() : null;
+  }
+}
@@ -0,0 +1,176 @@
+package liaison.groble.persistence.notification.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import liaison.groble.domain.notification.queue.dto.KakaoSendQueueItemDTO;
+import liaison.groble.domain.notification.queue.enums.KakaoSendStatus;
+import liaison.groble.domain.notification.queue.repository.KakaoSendQueueRepository;
+import liaison.groble.persistence.common.LeaseQueue;
+
+@Repository
+public class KakaoSendQueueRepositoryImpl implements KakaoSendQueueRepository {
+  private static final String EXHAUSTED_LEASE_ERROR = "최대 시도 횟수 초과 (점유 만료)";
+
+  private static final String INSERT =
+      "INSERT INTO kakao_send_queue (notification_type, template_code, phone_number, title, "
+          + "content, buttons, sender_key, ref_key, status, attempt_count, next_attempt_at, "
+          + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+  private static final RowMapper<KakaoSendQueueItemDTO> CLAIMED_ROW_MAPPER =
+      (rs, rowNum) ->
+          KakaoSendQueueItemDTO.builder()
+              .id(rs.getLong("id"))
+              .notificationType(rs.getString("notification_type"))
+              .templateCode(rs.getString("template_code"))
+              .phoneNumber(rs.getString("phone_number"))
+              .title(rs.getString("title"))
+              .content(rs.getString("content"))
+              .buttons(rs.getString("buttons"))
+              .senderKey(rs.getString("sender_key"))
+              .refKey(rs.getString("ref_key"))
+              .attemptCount(rs.getInt("attempt_count") + 1)
+              .build();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LeaseQueue<KakaoSendQueueItemDTO> queue;
+
+  public KakaoSendQueueRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.queue =
+        new LeaseQueue<>(
+            jdbcTemplate,
+            "kakao_send_queue",
+            "id, notification_type, template_code, phone_number, title, content, buttons, "
+                + "sender_key, ref_key, attempt_count",
+            CLAIMED_ROW_MAPPER,
+            KakaoSendQueueItemDTO::getId,
+            KakaoSendQueueItemDTO::getAttemptCount);
+  }
+
+  @Override
+  public void enqueue(List<KakaoSendQueueItemDTO> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> rows = new ArrayList<>(items.size());
+    for (KakaoSendQueueItemDTO item : items) {
+      rows.add(
+          new Object[] {
+            item.getNotificationType(),
+            item.getTemplateCode(),
+            item.getPhoneNumber(),
+            item.getTitle(),
+            item.getContent(),
+            item.getButtons(),
+            item.getSenderKey(),
+            item.getRefKey(),
+            KakaoSendStatus.PENDING.name(),
+            now,
+            now
+          });
+    }
+    jdbcTemplate.batchUpdate(INSERT, rows);
+  }
+
+  @Override
+  @Transactional
+  public List<KakaoSendQueueItemDTO> claimBatch(int limit, Duration lease, int maxAttempts) {
+    LocalDateTime now = LocalDateTime.now();
+    queue.expireExhausted(
+        now,
+        maxAttempts,
+        "status = ?, completed_at = ?, last_error = ?",
+        KakaoSendStatus.DEAD.name(),
+        now,
+        EXHAUSTED_LEASE_ERROR);
+    return queue.claim(now, limit, lease, maxAttempts);
+  }
+
+  @Override
+  public boolean markSent(KakaoSendQueueItemDTO item, String messageKey) {
+    return queue.updateClaimed(
+        item,
+        "status = ?, message_key = ?, sent_at = ?, last_error = NULL",
+        KakaoSendStatus.SENT.name(),
+        messageKey,
+        LocalDateTime.now());
+  }
+
+  @Override
+  public boolean markRetry(KakaoSendQueueItemDTO item, LocalDateTime nextAttemptAt, String error) {
+    return queue.updateClaimed(
+        item,
+        "status = ?, next_attempt_at = ?, last_error = ?",
+        KakaoSendStatus.PENDING.name(),
+        nextAttemptAt,
+        LeaseQueue.truncateError(error));
+  }
+
+  @Override
+  public boolean markDeferred(
+      KakaoSendQueueItemDTO item, LocalDateTime nextAttemptAt, String reason) {
+    return queue.updateClaimed(
+        item,
+        "status = ?, attempt_count = attempt_count - 1, next_attempt_at = ?, last_error = ?",
+        KakaoSendStatus.PENDING.name(),
+        nextAttemptAt,
+        LeaseQueue.truncateError(reason));
+  }
+
+  @Override
+  public boolean markDead(KakaoSendQueueItemDTO item, String error) {
+    return queue.updateClaimed(
+        item,
+        "status = ?, completed_at = ?, last_error = ?",
+        KakaoSendStatus.DEAD.name(),
+        LocalDateTime.now(),
+        LeaseQueue.truncateError(error));
+  }
+
+  @Override
+  public boolean applyReport(String refKey, boolean delivered, String reportCode) {
+    KakaoSendStatus status = delivered ? KakaoSendStatus.DELIVERED : KakaoSendStatus.UNDELIVERED;
+    // 접수 응답 기록 전에 리포트가 먼저 도착할 수 있으므로 발송 중(PROCESSING)인 항목도 반영
+    return jdbcTemplate.update(
+            "UPDATE kakao_send_queue SET status = ?, report_code = ?, completed_at = ? "
+                + "WHERE ref_key = ? AND status IN (?, ?)",
+            status.name(),
+            reportCode,
+            LocalDateTime.now(),
+            refKey,
+            KakaoSendStatus.SENT.name(),
+            KakaoSendStatus.PROCESSING.name())
+        > 0;
+  }
+
+  @Override
+  public int markUnreportedBefore(LocalDateTime sentBefore, int limit) {
+    return jdbcTemplate.update(
+        "UPDATE kakao_send_queue SET status = ?, completed_at = ?, last_error = ? "
+            + "WHERE status = ? AND sent_at < ? LIMIT ?",
+        KakaoSendStatus.UNDELIVERED.name(),
+        LocalDateTime.now(),
+        "전달 결과 리포트 미수신",
+        KakaoSendStatus.SENT.name(),
+        sentBefore,
+        limit);
+  }
+
+  @Override
+  public int deleteDeliveredBefore(LocalDateTime before, int limit) {
+    return jdbcTemplate.update(
+        "DELETE FROM kakao_send_queue WHERE status = ? AND completed_at < ? LIMIT ?",
+        KakaoSendStatus.DELIVERED.name(),
+        before,
+        limit);
+  }
+}
@@ -0,0 +1,300 @@
+package liaison.groble.persistence.notification.scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationDispatchRun;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecipient;
+import liaison.groble.domain.notification.scheduled.dto.ScheduledNotificationRecurrence;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationChannel;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSegmentType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationSendType;
+import liaison.groble.domain.notification.scheduled.enums.ScheduledNotificationStatus;
+import liaison.groble.domain.notification.scheduled.repository.ScheduledNotificationDispatchRepository;
+
+import lombok.AllArgsConstructor;
+
+@Repository
+@AllArgsConstructor
+public class ScheduledNotificationDispatchRepositoryImpl
+    implements ScheduledNotificationDispatchRepository {
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  // 유니크 키(scheduled_notification_id, execution_time)로 여러 노드가 동시에 생성해도 한 건만 남음
+  private static final String INSERT_DUE_ONCE_RUNS =
+      "INSERT IGNORE INTO scheduled_notification_runs "
+          + "(scheduled_notification_id, execution_time, status, retry_count, created_at, "
+          + "updated_at, version) "
+          + "SELECT n.id, n.scheduled_at, 'PENDING', 0, ?, ?, 0 FROM scheduled_notifications n "
+          + "LEFT JOIN scheduled_notification_runs r ON r.scheduled_notification_id = n.id "
+          + "WHERE n.status = 'READY' AND n.send_type = 'ONCE' AND n.scheduled_at <= ? "
+          + "AND r.id IS NULL";
+
+  private static final String INSERT_RUN =
+      "INSERT IGNORE INTO scheduled_notification_runs "
+          + "(scheduled_notification_id, execution_time, status, retry_count, created_at, "
+          + "updated_at, version) VALUES (?, ?, 'PENDING', 0, ?, ?, 0)";
+
+  private static final String SELECT_ACTIVE_RECURRENCES =
+      "SELECT n.id, n.repeat_cron, n.timezone, n.scheduled_at, "
+          + "MAX(r.execution_time) AS last_execution_time "
+          + "FROM scheduled_notifications n "
+          + "LEFT JOIN scheduled_notification_runs r ON r.scheduled_notification_id = n.id "
+          + "WHERE n.status = 'READY' AND n.send_type = 'RECURRING' AND n.repeat_cron IS NOT NULL "
+          + "GROUP BY n.id, n.repeat_cron, n.timezone, n.scheduled_at";
+
+  private static final String CANCEL_INACTIVE_RUNS =
+      "UPDATE scheduled_notification_runs r "
+          + "JOIN scheduled_notifications n ON n.id = r.scheduled_notification_id "
+          + "SET r.status = 'CANCELLED', r.completed_at = ?, r.lease_owner = NULL, "
+          + "r.lease_expires_at = NULL, r.version = r.version + 1, r.updated_at = ? "
+          + "WHERE r.status IN ('PENDING', 'RUNNING') AND n.status = 'CANCELLED'";
+
+  // 실행 시각이 된 대기 건과 점유가 만료된(노드 장애) 진행 건을 함께 점유 대상으로 봄
+  private static final String SELECT_CLAIMABLE_RUN =
+      "SELECT r.id FROM scheduled_notification_runs r "
+          + "JOIN scheduled_notifications n ON n.id = r.scheduled_notification_id "
+          + "WHERE n.status = 'READY' AND ((r.status = 'PENDING' AND r.execution_time <= ?) "
+          + "OR (r.status = 'RUNNING' AND r.lease_expires_at <= ?)) "
+          + "ORDER BY r.execution_time, r.id LIMIT 1 "
+          + "FOR UPDATE OF r SKIP LOCKED";
+
+  // 점유 만료된 진행 건을 가져오면 이전 노드가 비정상 종료한 것이므로 재시도로 집계
+  // (MySQL은 SET 절을 왼쪽부터 평가하므로 status 갱신 전에 retry_count를 계산)
+  private static final String UPDATE_CLAIM =
+      "UPDATE scheduled_notification_runs "
+          + "SET retry_count = COALESCE(retry_count, 0) + IF(status = 'RUNNING', 1, 0), "
+          + "started_at = COALESCE(started_at, ?), status = 'RUNNING', lease_owner = ?, "
+          + "lease_expires_at = ?, version = version + 1, updated_at = ? WHERE id = ?";
+
+  private static final String SELECT_CLAIMED_RUN =
+      "SELECT r.id, r.scheduled_notification_id, r.last_recipient_id, r.retry_count, "
+          + "n.channel, n.send_type, n.title, n.content, n.biz_template_code, n.biz_sender_key, "
+          + "n.segment_type, n.segment_payload "
+          + "FROM scheduled_notification_runs r "
+          + "JOIN scheduled_notifications n ON n.id = r.scheduled_notification_id "
+          + "WHERE r.id = ?";
+
+  private static final String UPDATE_CHECKPOINT =
+      "UPDATE scheduled_notification_runs SET last_recipient_id = ?, "
+          + "total_targets = COALESCE(total_targets, 0) + ?, "
+          + "success_count = COALESCE(success_count, 0) + ?, "
+          + "fail_count = COALESCE(fail_count, 0) + ?, "
+          + "lease_expires_at = ?, version = version + 1, updated_at = ? "
+          + "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'";
+
+  private static final RowMapper<ScheduledNotificationDispatchRun> DISPATCH_RUN_ROW_MAPPER =
+      (rs, rowNum) ->
+          new ScheduledNotificationDispatchRun(
+              rs.getLong("id"),
+              rs.getLong("scheduled_notification_id"),
+              ScheduledNotificationChannel.valueOf(rs.getString("channel")),
+              ScheduledNotificationSendType.valueOf(rs.getString("send_type")),
+              rs.getString("title"),
+              rs.getString("content"),
+              rs.getString("biz_template_code"),
+              rs.getString("biz_sender_key"),
+              ScheduledNotificationSegmentType.valueOf(rs.getString("segment_type")),
+              rs.getString("segment_payload"),
+              rs.getLong("last_recipient_id"),
+              rs.getInt("retry_count"));
+
+  private static final RowMapper<ScheduledNotificationRecurrence> RECURRENCE_ROW_MAPPER =
+      (rs, rowNum) ->
+          new ScheduledNotificationRecurrence(
+              rs.getLong("id"),
+              rs.getString("repeat_cron"),
+              rs.getString("timezone"),
+              rs.getObject("scheduled_at", LocalDateTime.class),
+              rs.getObject("last_execution_time", LocalDateTime.class));
+
+  private static final RowMapper<ScheduledNotificationRecipient> RECIPIENT_ROW_MAPPER =
+      (rs, rowNum) ->
+          new ScheduledNotificationRecipient(
+              rs.getLong("id"), rs.getString("nickname"), rs.getString("phone_number"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public int createDueOnceRuns(LocalDateTime now) {
+    return jdbcTemplate.update(INSERT_DUE_ONCE_RUNS, now, now, now);
+  }
+
+  @Override
+  public List<ScheduledNotificationRecurrence> findActiveRecurrences() {
+    return jdbcTemplate.query(SELECT_ACTIVE_RECURRENCES, RECURRENCE_ROW_MAPPER);
+  }
+
+  @Override
+  public boolean createRunIfAbsent(Long scheduledNotificationId, LocalDateTime executionTime) {
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update(INSERT_RUN, scheduledNotificationId, executionTime, now, now) > 0;
+  }
+
+  @Override
+  public int cancelRunsOfInactiveNotifications(LocalDateTime now) {
+    return jdbcTemplate.update(CANCEL_INACTIVE_RUNS, now, now);
+  }
+
+  @Override
+  @Transactional
+  public Optional<ScheduledNotificationDispatchRun> claimRun(String owner, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> ids =
+        jdbcTemplate.query(SELECT_CLAIMABLE_RUN, (rs, rowNum) -> rs.getLong("id"), now, now);
+    if (ids.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Long runId = ids.get(0);
+    jdbcTemplate.update(UPDATE_CLAIM, now, owner, now.plus(lease), now, runId);
+    return jdbcTemplate.query(SELECT_CLAIMED_RUN, DISPATCH_RUN_ROW_MAPPER, runId).stream()
+        .findFirst();
+  }
+
+  @Override
+  public boolean checkpoint(
+      Long runId,
+      String owner,
+      long lastRecipientId,
+      int targetCount,
+      int successCount,
+      int failCount,
+      Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update(
+            UPDATE_CHECKPOINT,
+            lastRecipientId,
+            targetCount,
+            successCount,
+            failCount,
+            now.plus(lease),
+            now,
+            runId,
+            owner)
+        > 0;
+  }
+
+  @Override
+  public boolean completeRun(Long runId, String owner) {
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update(
+            "UPDATE scheduled_notification_runs SET status = 'COMPLETED', completed_at = ?, "
+                + "lease_owner = NULL, lease_expires_at = NULL, version = version + 1, "
+                + "updated_at = ? WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'",
+            now,
+            now,
+            runId,
+            owner)
+        > 0;
+  }
+
+  @Override
+  public boolean releaseRun(Long runId, String owner, String errorMessage) {
+    return jdbcTemplate.update(
+            "UPDATE scheduled_notification_runs SET status = 'PENDING', error_message = ?, "
+                + "retry_count = COALESCE(retry_count, 0) + 1, lease_owner = NULL, "
+                + "lease_expires_at = NULL, version = version + 1, updated_at = ? "
+                + "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'",
+            truncate(errorMessage),
+            LocalDateTime.now(),
+            runId,
+            owner)
+        > 0;
+  }
+
+  @Override
+  public boolean yieldRun(Long runId, String owner) {
+    return jdbcTemplate.update(
+            "UPDATE scheduled_notification_runs SET status = 'PENDING', lease_owner = NULL, "
+                + "lease_expires_at = NULL, version = version + 1, updated_at = ? "
+                + "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'",
+            LocalDateTime.now(),
+            runId,
+            owner)
+        > 0;
+  }
+
+  @Override
+  public boolean failRun(Long runId, String owner, String errorMessage) {
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update(
+            "UPDATE scheduled_notification_runs SET status = 'FAILED', error_message = ?, "
+                + "completed_at = ?, lease_owner = NULL, lease_expires_at = NULL, "
+                + "version = version + 1, updated_at = ? "
+                + "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'",
+            truncate(errorMessage),
+            now,
+            now,
+            runId,
+            owner)
+        > 0;
+  }
+
+  @Override
+  public void finishNotification(
+      Long scheduledNotificationId, ScheduledNotificationStatus status) {
+    jdbcTemplate.update(
+        "UPDATE scheduled_notifications SET status = ?, version = version + 1, "
+            + "updated_at = ? WHERE id = ? AND status = 'READY'",
+        status.name(),
+        LocalDateTime.now(),
+        scheduledNotificationId);
+  }
+
+  @Override
+  public List<ScheduledNotificationRecipient> findRecipients(
+      ScheduledNotificationSegmentType segmentType,
+      List<Long> customUserIds,
+      boolean requirePhoneNumber,
+      long afterUserId,
+      int limit) {
+    StringBuilder sql =
+        new StringBuilder(
+            "SELECT u.id, u.nickname, u.phone_number FROM users u "
+                + "WHERE u.id > ? AND u.status = 'ACTIVE'");
+    List<Object> args = new ArrayList<>();
+    args.add(afterUserId);
+
+    if (requirePhoneNumber) {
+      sql.append(" AND u.phone_number IS NOT NULL AND u.phone_number <> ''");
+    }
+    switch (segmentType) {
+      case MAKERS -> sql.append(" AND u.is_seller = 1");
+      case BUYERS -> sql.append(
+          " AND EXISTS (SELECT 1 FROM orders o WHERE o.user_id = u.id AND o.status = 'PAID')");
+      case CUSTOM -> {
+        if (customUserIds == null || customUserIds.isEmpty()) {
+          return Collections.emptyList();
+        }
+        sql.append(" AND u.id IN (").append(placeholders(customUserIds.size())).append(")");
+        args.addAll(customUserIds);
+      }
+      case ALL_USERS -> {}
+    }
+    sql.append(" ORDER BY u.id LIMIT ?");
+    args.add(limit);
+
+    return jdbcTemplate.query(sql.toString(), RECIPIENT_ROW_MAPPER, args.toArray());
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,116 @@
+package liaison.groble.persistence.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import liaison.groble.domain.outbox.dto.OutboxEventDTO;
+import liaison.groble.domain.outbox.enums.OutboxStatus;
+import liaison.groble.domain.outbox.repository.OutboxEventRepository;
+import liaison.groble.persistence.common.LeaseQueue;
+
+@Repository
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+  private static final String EXHAUSTED_LEASE_ERROR = "최대 시도 횟수 초과 (점유 만료)";
+
+  private static final String INSERT =
+      "INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, status, "
+          + "attempt_count, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+
+  private static final RowMapper<OutboxEventDTO> CLAIMED_ROW_MAPPER =
+      (rs, rowNum) ->
+          OutboxEventDTO.builder()
+              .id(rs.getLong("id"))
+              .eventType(rs.getString("event_type"))
+              .aggregateType(rs.getString("aggregate_type"))
+              .aggregateId(rs.getObject("aggregate_id", Long.class))
+              .payload(rs.getString("payload"))
+              .attemptCount(rs.getInt("attempt_count") + 1)
+              .build();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LeaseQueue<OutboxEventDTO> queue;
+
+  public OutboxEventRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.queue =
+        new LeaseQueue<>(
+            jdbcTemplate,
+            "outbox_events",
+            "id, event_type, aggregate_type, aggregate_id, payload, attempt_count",
+            CLAIMED_ROW_MAPPER,
+            OutboxEventDTO::getId,
+            OutboxEventDTO::getAttemptCount);
+  }
+
+  @Override
+  public void append(String eventType, String aggregateType, Long aggregateId, String payload) {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update(
+        INSERT,
+        eventType,
+        aggregateType,
+        aggregateId,
+        payload,
+        OutboxStatus.PENDING.name(),
+        now,
+        now);
+  }
+
+  @Override
+  @Transactional
+  public List<OutboxEventDTO> claimBatch(int limit, Duration lease, int maxAttempts) {
+    LocalDateTime now = LocalDateTime.now();
+    queue.expireExhausted(
+        now,
+        maxAttempts,
+        "status = ?, processed_at = ?, last_error = ?",
+        OutboxStatus.FAILED.name(),
+        now,
+        EXHAUSTED_LEASE_ERROR);
+    return queue.claim(now, limit, lease, maxAttempts);
+  }
+
+  @Override
+  public int markDone(List<OutboxEventDTO> events) {
+    return queue.updateAllClaimed(
+        events,
+        "status = ?, processed_at = ?, last_error = NULL",
+        OutboxStatus.DONE.name(),
+        LocalDateTime.now());
+  }
+
+  @Override
+  public boolean markRetry(OutboxEventDTO event, LocalDateTime nextAttemptAt, String error) {
+    return queue.updateClaimed(
+        event,
+        "status = ?, next_attempt_at = ?, last_error = ?",
+        OutboxStatus.PENDING.name(),
+        nextAttemptAt,
+        LeaseQueue.truncateError(error));
+  }
+
+  @Override
+  public boolean markFailed(OutboxEventDTO event, String error) {
+    return queue.updateClaimed(
+        event,
+        "status = ?, processed_at = ?, last_error = ?",
+        OutboxStatus.FAILED.name(),
+        LocalDateTime.now(),
+        LeaseQueue.truncateError(error));
+  }
+
+  @Override
+  public int deleteDoneBefore(LocalDateTime before, int limit) {
+    return jdbcTemplate.update(
+        "DELETE FROM outbox_events WHERE status = ? AND processed_at < ? LIMIT ?",
+        OutboxStatus.DONE.name(),
+        before,
+        limit);
+  }
+}
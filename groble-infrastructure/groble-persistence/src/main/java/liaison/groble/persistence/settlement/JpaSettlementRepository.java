@@ -2,14 +2,17 @@ package liaison.groble.persistence.settlement;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import liaison.groble.domain.settlement.entity.Settlement;
+import liaison.groble.domain.settlement.entity.Settlement.SettlementStatus;
 
 public interface JpaSettlementRepository extends JpaRepository<Settlement, Long> {
 
@@ -40,7 +43,19 @@ public interface JpaSettlementRepository extends JpaRepository<Settlement, Long>
 
   List<Settlement> findByPaypleBillingTranId(String billingTranId);
 
+  List<Settlement> findByStatusAndProcessingStartedAtBefore(
+      SettlementStatus status, LocalDateTime startedBefore);
+
   @Query(
       "SELECT COALESCE(SUM(s.pgFeeRefundExpected), 0) FROM Settlement s WHERE s.status = 'COMPLETED'")
   BigDecimal sumPgFeeRefundExpectedForCompleted();
+
+  @Query(
+      "SELECT s.id FROM Settlement s "
+          + "WHERE s.status IN :statuses AND s.id > :lastId "
+          + "ORDER BY s.id")
+  List<Long> findIdsByStatusIn(
+      @Param("statuses") List<SettlementStatus> statuses,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
 }
@@ -2,12 +2,15 @@ package liaison.groble.persistence.settlement;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import liaison.groble.domain.settlement.entity.Settlement;
+import liaison.groble.domain.settlement.entity.Settlement.SettlementStatus;
 import liaison.groble.domain.settlement.repository.SettlementCustomRepository;
 import liaison.groble.domain.settlement.repository.SettlementRepository;
 
@@ -60,8 +63,19 @@ public class SettlementRepositoryImpl implements SettlementRepository {
     return jpaSettlementRepository.findByPaypleBillingTranId(billingTranId);
   }
 
+  @Override
+  public List<Settlement> findProcessingStartedBefore(LocalDateTime startedBefore) {
+    return jpaSettlementRepository.findByStatusAndProcessingStartedAtBefore(
+        SettlementStatus.PROCESSING, startedBefore);
+  }
+
   @Override
   public BigDecimal sumPgFeeRefundExpectedForCompleted() {
     return jpaSettlementRepository.sumPgFeeRefundExpectedForCompleted();
   }
+
+  @Override
+  public List<Long> findIdsByStatusIn(List<SettlementStatus> statuses, Long lastId, int limit) {
+    return jpaSettlementRepository.findIdsByStatusIn(statuses, lastId, PageRequest.of(0, limit));
+  }
 }
@@ -15,6 +15,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import liaison.groble.domain.subscription.dto.SubscriptionBillingTarget;
 import liaison.groble.domain.subscription.entity.Subscription;
 import liaison.groble.domain.subscription.enums.SubscriptionStatus;
 
@@ -49,6 +50,18 @@ public interface JpaSubscriptionRepository extends JpaRepository<Subscription, L
   @EntityGraph(attributePaths = {"user", "content"})
   Optional<Subscription> findWithUserAndContentById(Long id);
 
+  @Query(
+      "select new liaison.groble.domain.subscription.dto.SubscriptionBillingTarget("
+          + "s.id, c.user.id) "
+          + "from Subscription s join s.content c "
+          + "where s.status in :statuses and s.nextBillingDate <= :billingDate and s.id > :afterId "
+          + "order by s.id")
+  List<SubscriptionBillingTarget> findBillingTargets(
+      @Param("statuses") Collection<SubscriptionStatus> statuses,
+      @Param("billingDate") LocalDate billingDate,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
+
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("select s from Subscription s where s.id = :id")
   Optional<Subscription> findWithLockingById(@Param("id") Long id);
@@ -6,9 +6,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import liaison.groble.domain.subscription.dto.SubscriptionBillingTarget;
 import liaison.groble.domain.subscription.entity.Subscription;
 import liaison.groble.domain.subscription.enums.SubscriptionStatus;
 import liaison.groble.domain.subscription.repository.SubscriptionRepository;
@@ -86,6 +88,13 @@ public class SubscriptionRepositoryImpl implements SubscriptionRepository {
         statuses, billingDate, pageable);
   }
 
+  @Override
+  public List<SubscriptionBillingTarget> findBillingTargets(
+      Collection<SubscriptionStatus> statuses, LocalDate billingDate, long afterId, int limit) {
+    return jpaSubscriptionRepository.findBillingTargets(
+        statuses, billingDate, afterId, PageRequest.of(0, limit));
+  }
+
   @Override
   public Optional<Subscription> findWithLockingById(Long id) {
     return jpaSubscriptionRepository.findWithLockingById(id);
@@ -1,8 +1,11 @@
 package liaison.groble.persistence.user;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import liaison.groble.domain.user.entity.User;
 import liaison.groble.domain.user.enums.UserStatus;
@@ -10,6 +13,12 @@ import liaison.groble.domain.user.enums.UserStatus;
 public interface JpaUserRepository extends JpaRepository<User, Long> {
   Optional<User> findById(Long id);
 
+  // 이메일 조회에 필요한 1:1 계정을 함께 가져와 사용자마다 추가 조회가 발생하지 않도록 함
+  @Query(
+      "SELECT u FROM User u LEFT JOIN FETCH u.integratedAccount LEFT JOIN FETCH u.socialAccount"
+          + " WHERE u.id IN :ids")
+  List<User> findWithAccountsByIdIn(@Param("ids") List<Long> ids);
+
   Optional<User> findByUserProfileNickname(String nickname);
 
   Optional<User> findByUserProfileNicknameAndUserStatusInfo_Status(
@@ -1,5 +1,6 @@
 package liaison.groble.persistence.user;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
@@ -22,6 +23,14 @@ public class UserRepositoryImpl implements UserRepository {
     return jpaUserRepository.findById(userId);
   }
 
+  @Override
+  public List<User> findByIdIn(List<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+    return jpaUserRepository.findWithAccountsByIdIn(userIds);
+  }
+
   @Override
   public Optional<User> findByNickname(String nickname) {
     return jpaUserRepository.findByUserProfileNickname(nickname);
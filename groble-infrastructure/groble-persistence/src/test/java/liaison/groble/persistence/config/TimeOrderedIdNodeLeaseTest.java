@@ -0,0 +1,122 @@
+package liaison.groble.persistence.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import liaison.groble.domain.common.id.TimeOrderedIdGenerator;
+import liaison.groble.domain.lock.repository.SchedulerLockRepository;
+
+class TimeOrderedIdNodeLeaseTest {
+  private static final Duration LEASE = Duration.ofMinutes(3);
+  private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+  private final AtomicLong clock = new AtomicLong(NOW);
+  private final InMemorySchedulerLockRepository locks = new InMemorySchedulerLockRepository();
+
+  @Test
+  void acquire_givesConcurrentInstancesDistinctNodeIds() {
+    int blue = lease("blue").acquire();
+    int green = lease("green").acquire();
+
+    assertThat(blue).isZero();
+    assertThat(green).isEqualTo(1);
+  }
+
+  @Test
+  void acquire_failsWhenEveryNodeIdIsLeased() {
+    for (int i = 0; i <= TimeOrderedIdGenerator.MAX_NODE_ID; i++) {
+      lease("node-" + i).acquire();
+    }
+
+    assertThatThrownBy(() -> lease("extra").acquire()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void release_letsAnotherInstanceTakeTheNodeId() {
+    TimeOrderedIdNodeLease blue = lease("blue");
+    blue.acquire();
+
+    blue.release();
+
+    assertThat(lease("green").acquire()).isZero();
+  }
+
+  @Test
+  void renew_stopsIssuingBeforeAnotherInstanceCanTakeOver() {
+    TimeOrderedIdNodeLease blue = lease("blue");
+    blue.acquire();
+    locks.unavailable = true;
+
+    assertThatThrownBy(blue::renew).isInstanceOf(IllegalStateException.class);
+    // 연장하지 못하면 잠금 만료(3분)보다 1분 이른 2분 시점에 발급을 멈춤
+    clock.addAndGet(Duration.ofMinutes(2).toMillis() - 1);
+    TimeOrderedIdGenerator.next();
+    clock.incrementAndGet();
+    locks.unavailable = false;
+    assertThatThrownBy(TimeOrderedIdGenerator::next).isInstanceOf(IllegalStateException.class);
+    assertThat(lease("green").acquire()).isEqualTo(1);
+  }
+
+  @Test
+  void renew_reacquiresAnotherNodeIdAfterLosingTheLease() {
+    TimeOrderedIdNodeLease blue = lease("blue");
+    blue.acquire();
+    clock.addAndGet(LEASE.plusSeconds(1).toMillis());
+    lease("green").acquire();
+
+    blue.renew();
+
+    long id = TimeOrderedIdGenerator.next();
+    assertThat((id >>> TimeOrderedIdGenerator.SEQUENCE_BITS) & TimeOrderedIdGenerator.MAX_NODE_ID)
+        .isEqualTo(1);
+  }
+
+  private TimeOrderedIdNodeLease lease(String owner) {
+    return new TimeOrderedIdNodeLease(locks, owner, LEASE, clock::get);
+  }
+
+  /** scheduler_locks의 만료 시각 기반 획득/연장/반납 규칙을 테스트 시계로 흉내 내는 저장소 */
+  private final class InMemorySchedulerLockRepository implements SchedulerLockRepository {
+    private final Map<String, String> owners = new HashMap<>();
+    private final Map<String, Long> lockedUntil = new HashMap<>();
+    private boolean unavailable;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration lease) {
+      long now = clock.get();
+      if (lockedUntil.getOrDefault(name, 0L) > now && !owner.equals(owners.get(name))) {
+        return false;
+      }
+      owners.put(name, owner);
+      lockedUntil.put(name, now + lease.toMillis());
+      return true;
+    }
+
+    @Override
+    public boolean extend(String name, String owner, Duration lease) {
+      if (unavailable) {
+        throw new IllegalStateException("DB 연결 실패");
+      }
+      long now = clock.get();
+      if (!owner.equals(owners.get(name)) || lockedUntil.getOrDefault(name, 0L) <= now) {
+        return false;
+      }
+      lockedUntil.put(name, now + lease.toMillis());
+      return true;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+      if (owner.equals(owners.get(name))) {
+        lockedUntil.put(name, clock.get());
+      }
+    }
+  }
+}
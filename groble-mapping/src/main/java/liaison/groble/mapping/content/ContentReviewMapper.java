@@ -3,15 +3,19 @@ package liaison.groble.mapping.content;
 import org.mapstruct.Mapper;
 
 import liaison.groble.api.model.content.response.review.ContentDetailReviewResponse;
+import liaison.groble.api.model.content.response.review.ContentReviewPageResponse;
 import liaison.groble.api.model.content.response.review.ContentReviewResponse;
 import liaison.groble.application.content.dto.review.ContentDetailReviewDTO;
 import liaison.groble.application.content.dto.review.ContentReviewDTO;
+import liaison.groble.application.content.dto.review.ContentReviewPageDTO;
 import liaison.groble.mapping.config.GrobleMapperConfig;
 
 @Mapper(config = GrobleMapperConfig.class)
 public interface ContentReviewMapper {
   ContentReviewResponse toContentReviewResponse(ContentReviewDTO contentReviewDTO);
 
+  ContentReviewPageResponse toContentReviewPageResponse(ContentReviewPageDTO contentReviewPageDTO);
+
   ContentDetailReviewResponse toContentDetailReviewResponse(
       ContentDetailReviewDTO contentDetailReviewDTO);
 }
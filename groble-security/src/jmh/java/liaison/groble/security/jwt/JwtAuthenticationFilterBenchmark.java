@@ -0,0 +1,121 @@
+package liaison.groble.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 벤치마크
+ *
+ * <p>공개 경로 판별(요청마다 매처 재생성 vs 사전 컴파일 트라이)과 액세스 토큰 처리(서명 검증 3회 vs 캐시된 파서로 1회)를 비교합니다. 실행:
+ * {@code ./gradlew :groble-security:jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+  private static final String ACCESS_SECRET =
+      "benchmark-access-token-secret-benchmark-access-token-secret-0001";
+  private static final String ISSUER = "auth-service";
+  private static final String ENVIRONMENT = "local";
+
+  @Param({"/api/v1/market/contents/42", "/api/v1/auth/sign-in", "/api/v1/users/me"})
+  private String path;
+
+  private MockHttpServletRequest request;
+  private PublicPathMatcher publicPathMatcher;
+  private JwtTokenProvider jwtTokenProvider;
+  private SecretKey accessKey;
+  private String accessToken;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    request = new MockHttpServletRequest("GET", path);
+    request.setServletPath(path);
+    publicPathMatcher = new PublicPathMatcher(JwtAuthenticationFilter.PUBLIC_PATHS);
+
+    jwtTokenProvider =
+        new JwtTokenProvider(
+            ACCESS_SECRET,
+            "benchmark-refresh-token-secret-benchmark-refresh-token-secret-01",
+            "benchmark-guest-token-secret-benchmark-guest-token-secret-000001",
+            3_600_000L,
+            1_209_600_000L,
+            3_600_000L,
+            ISSUER,
+            ENVIRONMENT);
+    accessKey = Keys.hmacShaKeyFor(ACCESS_SECRET.getBytes(StandardCharsets.UTF_8));
+    accessToken = jwtTokenProvider.createAccessToken(42L, "bench@groble.im");
+  }
+
+  /** 기존 방식: 요청마다 AntPathRequestMatcher 목록과 OrRequestMatcher 생성 */
+  @Benchmark
+  public boolean publicPathRebuiltPerRequest() {
+    List<RequestMatcher> matchers =
+        JwtAuthenticationFilter.PUBLIC_PATHS.stream()
+            .map(
+                (String pattern) ->
+                    pattern.contains("**")
+                        ? (RequestMatcher) new AntPathRequestMatcher(pattern)
+                        : new AntPathRequestMatcher(pattern, null, false))
+            .toList();
+    return new OrRequestMatcher(matchers.toArray(new RequestMatcher[0])).matches(request);
+  }
+
+  @Benchmark
+  public boolean publicPathPrecompiled() {
+    return publicPathMatcher.matches(request);
+  }
+
+  /** 기존 방식: 검증·userId·email 조회마다 파서를 새로 만들어 서명 재검증 */
+  @Benchmark
+  public void accessTokenParsedPerAccessor(Blackhole blackhole) {
+    blackhole.consume(parseWithNewParser(accessToken));
+    blackhole.consume(parseWithNewParser(accessToken).get("userId", Long.class));
+    blackhole.consume(parseWithNewParser(accessToken).get("email", String.class));
+  }
+
+  @Benchmark
+  public void accessTokenParsedOnce(Blackhole blackhole) {
+    Claims claims = jwtTokenProvider.parseClaimsJws(accessToken, TokenType.ACCESS);
+    blackhole.consume(jwtTokenProvider.getUserId(claims));
+    blackhole.consume(jwtTokenProvider.getEmail(claims));
+  }
+
+  private Claims parseWithNewParser(String token) {
+    return Jwts.parserBuilder()
+        .setSigningKey(accessKey)
+        .requireIssuer(ISSUER)
+        .require("env", ENVIRONMENT)
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+}
@@ -184,6 +184,8 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/payment/**")
                     .permitAll()
+                    .requestMatchers("/api/v1/bizppurio/report")
+                    .permitAll()
                     .requestMatchers("/api/v1/groble/contents")
                     .permitAll()
                     .requestMatchers(
@@ -0,0 +1,47 @@
+package liaison.groble.security.jwt;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import liaison.groble.domain.user.entity.User;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 저장되는 인증 주체 스냅샷
+ *
+ * <p>엔티티 참조 없이 인증에 필요한 값만 보관하며, 비밀번호는 저장하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CachedPrincipal {
+  private Long id;
+  private String email;
+  private List<String> roles;
+  private String accountType;
+  private String lastUserType;
+
+  public static CachedPrincipal from(User user) {
+    return new CachedPrincipal(
+        user.getId(),
+        user.getEmail(),
+        user.getUserRoles().stream().map(userRole -> userRole.getRole().getName()).toList(),
+        user.getAccountType().name(),
+        user.getLastUserType().getDescription());
+  }
+
+  public UserDetailsImpl toUserDetails() {
+    return new UserDetailsImpl(
+        id,
+        email,
+        null,
+        roles.stream().map(SimpleGrantedAuthority::new).toList(),
+        accountType,
+        lastUserType);
+  }
+}
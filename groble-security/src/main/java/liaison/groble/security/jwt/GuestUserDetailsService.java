@@ -1,25 +1,42 @@
 package liaison.groble.security.jwt;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import liaison.groble.common.cache.LocalTtlCache;
 import liaison.groble.domain.guest.repository.GuestUserRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GuestUserDetailsService {
   private final GuestUserRepository guestUserRepository;
+  // 존재가 확인된 게스트만 캐시 (게스트는 삭제되지 않으므로 무효화 불필요)
+  private final LocalTtlCache<Long, Boolean> existingGuests;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public GuestUserDetailsService(
+      GuestUserRepository guestUserRepository,
+      MeterRegistry meterRegistry,
+      @Value("${groble.principal-cache.guest-max-size:10000}") int guestMaxSize,
+      @Value("${groble.principal-cache.guest-ttl:5m}") Duration guestTtl) {
+    this.guestUserRepository = guestUserRepository;
+    this.existingGuests = new LocalTtlCache<>(guestMaxSize, guestTtl);
+    this.hitCounter = counter(meterRegistry, "hit");
+    this.missCounter = counter(meterRegistry, "miss");
+  }
 
   /**
    * 게스트 ID로 게스트 사용자 정보 로드
@@ -28,12 +45,17 @@ public class GuestUserDetailsService {
    * @return UserDetails 구현체
    * @throws UsernameNotFoundException 게스트를 찾을 수 없는 경우
    */
-  @Transactional(readOnly = true)
   public UserDetails loadUserByGuestId(Long guestUserId) {
-    boolean exists = guestUserRepository.existsById(guestUserId);
-    if (!exists) {
-      log.warn("존재하지 않는 게스트 접근 시도: {}", guestUserId);
-      throw new UsernameNotFoundException("게스트를 찾을 수 없습니다: " + guestUserId);
+    if (existingGuests.get(guestUserId) != null) {
+      hitCounter.increment();
+    } else {
+      missCounter.increment();
+      boolean exists = guestUserRepository.existsById(guestUserId);
+      if (!exists) {
+        log.warn("존재하지 않는 게스트 접근 시도: {}", guestUserId);
+        throw new UsernameNotFoundException("게스트를 찾을 수 없습니다: " + guestUserId);
+      }
+      existingGuests.put(guestUserId, Boolean.TRUE);
     }
 
     // 간단한 UserDetails 구현
@@ -74,4 +96,12 @@ public class GuestUserDetailsService {
       }
     };
   }
+
+  private Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("principal.cache.lookups")
+        .tag("principal", "guest")
+        .tag("tier", "local")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
 }
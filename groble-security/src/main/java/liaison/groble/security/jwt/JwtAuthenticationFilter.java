@@ -16,17 +16,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
-import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import liaison.groble.common.utils.CookieUtils;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
@@ -49,11 +46,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private String serverEnv;
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final UserDetailsService userDetailsService;
+  private final UserDetailsServiceImpl userDetailsService;
   private final GuestUserDetailsService guestUserDetailsService;
 
   // 인증이 필요없는 경로 패턴 목록
-  private static final List<String> PUBLIC_PATHS =
+  static final List<String> PUBLIC_PATHS =
       List.of(
           "test-external",
           "api/v1/oauth2/**",
@@ -88,6 +85,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
           "/webjars/**",
           "/favicon.ico");
 
+  // 요청마다 매처를 새로 만들지 않도록 기동 시 한 번만 컴파일
+  private static final PublicPathMatcher PUBLIC_PATH_MATCHER = new PublicPathMatcher(PUBLIC_PATHS);
+
   // Swagger 관련 경로인지 확인하는 메소드
   private boolean isSwaggerRequest(String path) {
     return path.startsWith("/swagger-ui")
@@ -105,8 +105,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     boolean isSwagger = isSwaggerRequest(path);
 
     // 공개 경로 매처를 사용하여 필터링 여부 결정
-    RequestMatcher publicPathsMatcher = buildPublicPathsMatcher();
-    boolean isPublicPath = publicPathsMatcher.matches(request);
+    boolean isPublicPath = PUBLIC_PATH_MATCHER.matches(request);
 
     return isSwagger || isPublicPath;
   }
@@ -140,14 +139,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
       // 3. 리프레시 토큰 추출 및 검증
       var refreshTokenOpt = CookieUtils.getCookie(request, "refreshToken");
-      boolean validRefreshToken = false;
-      String refreshToken = null;
+      // 검증된 리프레시 토큰 Claims (재발급 시 재파싱하지 않고 그대로 사용)
+      Claims refreshClaims = null;
 
       if (refreshTokenOpt.isPresent()) {
-        refreshToken = refreshTokenOpt.get().getValue();
+        String refreshToken = refreshTokenOpt.get().getValue();
         try {
-          jwtTokenProvider.parseClaimsJws(refreshToken, TokenType.REFRESH);
-          validRefreshToken = true;
+          refreshClaims = jwtTokenProvider.parseClaimsJws(refreshToken, TokenType.REFRESH);
         } catch (ExpiredJwtException e) {
           log.info("리프레시 토큰 만료 - URI: {}", request.getRequestURI());
           deleteAuthCookies(request, response);
@@ -160,24 +158,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       if (accessTokenPresent) {
         // 회원 토큰 처리
         try {
-          jwtTokenProvider.parseClaimsJws(accessJwt, TokenType.ACCESS);
-          authenticate(accessJwt, request);
+          Claims accessClaims = jwtTokenProvider.parseClaimsJws(accessJwt, TokenType.ACCESS);
+          authenticate(accessClaims, request);
         } catch (ExpiredJwtException exp) {
           log.debug("액세스 토큰 만료 - URI: {}", request.getRequestURI());
-          handleTokenRefresh(refreshToken, validRefreshToken, response, request);
+          handleTokenRefresh(refreshClaims, response, request);
         } catch (JwtException | IllegalArgumentException bad) {
           log.debug("유효하지 않은 액세스 토큰 - URI: {}", request.getRequestURI());
           response.addHeader("X-Token-Refresh-Status", "invalid-access");
 
-          if (validRefreshToken) {
-            handleTokenRefresh(refreshToken, true, response, request);
-          }
+          handleTokenRefresh(refreshClaims, response, request);
         }
       } else if (guestTokenPresent) {
         // 게스트 토큰 처리 ✅
         try {
-          if (jwtTokenProvider.validateGuestToken(guestJwt)) {
-            authenticateGuest(guestJwt, request);
+          Claims guestClaims = jwtTokenProvider.parseValidGuestClaims(guestJwt);
+          if (guestClaims != null) {
+            authenticateGuest(guestClaims, request);
             log.debug("게스트 인증 성공 - URI: {}", request.getRequestURI());
           } else {
             log.debug("유효하지 않은 게스트 토큰 - URI: {}", request.getRequestURI());
@@ -193,9 +190,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
       } else {
         // 토큰이 없는 경우 리프레시 토큰으로 재발급 시도
-        if (validRefreshToken) {
-          handleTokenRefresh(refreshToken, true, response, request);
-        }
+        handleTokenRefresh(refreshClaims, response, request);
       }
 
     } catch (Exception e) {
@@ -212,22 +207,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   /** 리프레시 토큰으로 액세스 토큰 재발급 처리 */
   private void handleTokenRefresh(
-      String refreshToken,
-      boolean validRefreshToken,
-      HttpServletResponse response,
-      HttpServletRequest request) {
-    if (!validRefreshToken || refreshToken == null) {
+      Claims refreshClaims, HttpServletResponse response, HttpServletRequest request) {
+    if (refreshClaims == null) {
       return;
     }
 
     try {
-      Long userId = jwtTokenProvider.getUserId(refreshToken, TokenType.REFRESH);
-      String email = jwtTokenProvider.getEmail(refreshToken, TokenType.REFRESH);
+      Long userId = jwtTokenProvider.getUserId(refreshClaims);
+      String email = jwtTokenProvider.getEmail(refreshClaims);
+      LocalDateTime refreshExpiration = jwtTokenProvider.getExpirationAt(refreshClaims);
 
       String newAccess =
-          jwtTokenProvider.createAccessTokenWithRefreshConstraint(userId, email, refreshToken);
+          jwtTokenProvider.createAccessTokenWithRefreshConstraint(userId, email, refreshExpiration);
 
-      LocalDateTime refreshExpiration = jwtTokenProvider.getRefreshTokenExpirationAt(refreshToken);
       Instant refreshInstant = refreshExpiration.atZone(ZoneId.systemDefault()).toInstant();
       Instant now = Instant.now();
       int maxAge =
@@ -249,7 +241,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       CookieUtils.addCookie(
           response, "accessToken", newAccess, maxAge, "/", true, true, sameSite, domain);
 
-      setAuthentication(newAccess, request);
+      setAuthentication(userId, request);
     } catch (Exception e) {
       log.error("토큰 재발급 처리 중 오류 발생", e);
       response.addHeader("X-Token-Refresh-Status", "refresh-error");
@@ -333,35 +325,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     return null;
   }
 
-  /** 공개 경로 매처 생성 */
-  private RequestMatcher buildPublicPathsMatcher() {
-    List<RequestMatcher> matchers =
-        PUBLIC_PATHS.stream()
-            .map(
-                (String pattern) -> {
-                  RequestMatcher matcher;
-                  if (pattern.contains("**")) {
-                    // 와일드카드 패턴 매칭
-                    matcher = new AntPathRequestMatcher(pattern);
-                  } else {
-                    // 정확한 경로 매칭
-                    matcher = new AntPathRequestMatcher(pattern, null, false);
-                  }
-                  return matcher;
-                })
-            .toList();
-
-    return new OrRequestMatcher(matchers.toArray(new RequestMatcher[0]));
-  }
-
-  /** 주어진 accessToken 으로 인증 정보를 생성하여 SecurityContext 에 설정 */
-  private void authenticate(String jwt, HttpServletRequest request) {
+  /** 검증된 accessToken Claims로 인증 정보를 생성하여 SecurityContext 에 설정 */
+  private void authenticate(Claims accessClaims, HttpServletRequest request) {
     try {
       // 토큰에서 사용자 정보 추출
-      Long userId = jwtTokenProvider.getUserId(jwt, TokenType.ACCESS);
+      Long userId = jwtTokenProvider.getUserId(accessClaims);
 
       // ✅ 중요: 매번 새로운 인증 정보로 교체 (기존 인증 정보 무시)
-      UserDetails ud = userDetailsService.loadUserByUsername(userId.toString());
+      UserDetails ud = userDetailsService.loadUserById(userId);
       UsernamePasswordAuthenticationToken auth =
           new UsernamePasswordAuthenticationToken(ud, null, ud.getAuthorities());
       auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -375,14 +346,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
   }
 
-  /** 재발급된 accessToken 으로 SecurityContext 를 업데이트 */
-  private void setAuthentication(String newAccessToken, HttpServletRequest request) {
+  /** 재발급된 accessToken 의 사용자로 SecurityContext 를 업데이트 */
+  private void setAuthentication(Long userId, HttpServletRequest request) {
     try {
-      // ✅ 토큰에서 사용자 ID 추출
-      Long userId = jwtTokenProvider.getUserId(newAccessToken, TokenType.ACCESS);
-
       // ✅ userId 기반으로 사용자 정보 조회
-      UserDetails ud = userDetailsService.loadUserByUsername(userId.toString());
+      UserDetails ud = userDetailsService.loadUserById(userId);
 
       UsernamePasswordAuthenticationToken auth =
           new UsernamePasswordAuthenticationToken(ud, null, ud.getAuthorities());
@@ -412,10 +380,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   }
 
   /** 게스트 토큰으로 인증 처리 ✅ */
-  private void authenticateGuest(String guestToken, HttpServletRequest request) {
+  private void authenticateGuest(Claims guestClaims, HttpServletRequest request) {
     try {
       // 게스트 토큰에서 ID 추출
-      Long guestUserId = jwtTokenProvider.getGuestIdFromToken(guestToken);
+      Long guestUserId = jwtTokenProvider.getGuestId(guestClaims);
 
       // 게스트 사용자 정보 로드
       UserDetails guestDetails = guestUserDetailsService.loadUserByGuestId(guestUserId);
@@ -24,6 +24,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -43,6 +44,11 @@ public class JwtTokenProvider {
   private final String issuer;
   private final String environment;
 
+  // 서명 키·검증 조건이 고정이므로 파서를 한 번만 생성해 재사용 (JwtParser는 스레드 안전)
+  private final JwtParser accessTokenParser;
+  private final JwtParser refreshTokenParser;
+  private final JwtParser guestTokenParser;
+
   private static final String ENV_CLAIM = "env";
 
   /** 생성자 - 설정 값 주입 및 초기화 */
@@ -65,6 +71,9 @@ public class JwtTokenProvider {
     this.guestTokenExpirationMs = guestTokenExpirationMs; // 1 hour for guest tokens
     this.issuer = issuer;
     this.environment = environment;
+    this.accessTokenParser = buildParser(accessTokenKey, 0);
+    this.refreshTokenParser = buildParser(refreshTokenKey, 0);
+    this.guestTokenParser = buildParser(guestTokenKey, 60); // 스큐 허용
 
     log.info(
         "JWT 토큰 제공자 초기화 완료 - 액세스 토큰 만료: {}ms, 리프레시 토큰 만료: {}ms",
@@ -122,24 +131,22 @@ public class JwtTokenProvider {
     return null;
   }
 
-  /** 토큰 타입에 따른 키 반환 */
-  private Key getKeyForTokenType(TokenType tokenType) {
+  /** 토큰 타입에 따른 파서 반환 */
+  private JwtParser getParserForTokenType(TokenType tokenType) {
     return switch (tokenType) {
-      case ACCESS -> accessTokenKey;
-      case REFRESH -> refreshTokenKey;
+      case ACCESS -> accessTokenParser;
+      case REFRESH -> refreshTokenParser;
       default -> throw new TokenException("지원되지 않는 토큰 타입: " + tokenType);
     };
   }
 
-  /** 토큰 파싱하여 Claims 반환 */
-  private Claims parseToken(String token, Key key) {
+  private JwtParser buildParser(Key key, long allowedClockSkewSeconds) {
     return Jwts.parserBuilder()
         .setSigningKey(key)
         .requireIssuer(issuer)
         .require(ENV_CLAIM, environment)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+        .setAllowedClockSkewSeconds(allowedClockSkewSeconds)
+        .build();
   }
 
   /** 액세스 토큰 만료 시간 (밀리초) 반환 */
@@ -207,14 +214,9 @@ public class JwtTokenProvider {
 
   public LocalDateTime getRefreshTokenExpirationAt(String refreshToken) {
     try {
-      Claims claims = parseToken(refreshToken, refreshTokenKey);
-      return claims.getExpiration().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+      return getExpirationAt(parseClaimsJws(refreshToken, TokenType.REFRESH));
     } catch (ExpiredJwtException e) {
-      return e.getClaims()
-          .getExpiration()
-          .toInstant()
-          .atZone(ZoneId.systemDefault())
-          .toLocalDateTime();
+      return getExpirationAt(e.getClaims());
     } catch (Exception e) {
       throw new TokenException("RefreshToken에서 만료 시간을 추출할 수 없습니다", e);
     }
@@ -222,8 +224,7 @@ public class JwtTokenProvider {
 
   public Long getUserIdFromRefreshToken(String token) {
     try {
-      Claims claims = parseToken(token, getKeyForTokenType(TokenType.REFRESH));
-      return claims.get("userId", Long.class);
+      return getUserId(parseClaimsJws(token, TokenType.REFRESH));
     } catch (ExpiredJwtException e) {
       return e.getClaims().get("userId", Long.class);
     } catch (Exception e) {
@@ -233,37 +234,51 @@ public class JwtTokenProvider {
 
   public Long getUserId(String token, TokenType type) {
     try {
-      return parseClaimsJws(token, type).get("userId", Long.class);
+      return getUserId(parseClaimsJws(token, type));
     } catch (ExpiredJwtException e) {
-      return e.getClaims().get("userId", Long.class);
+      return getUserId(e.getClaims());
     }
   }
 
   public String getEmail(String token, TokenType type) {
     try {
-      return parseClaimsJws(token, type).get("email", String.class);
+      return getEmail(parseClaimsJws(token, type));
     } catch (ExpiredJwtException e) {
-      return e.getClaims().get("email", String.class);
+      return getEmail(e.getClaims());
     }
   }
 
+  /** 이미 검증된 Claims에서 사용자 ID 추출 (서명 재검증 없음) */
+  public Long getUserId(Claims claims) {
+    return claims.get("userId", Long.class);
+  }
+
+  /** 이미 검증된 Claims에서 이메일 추출 (서명 재검증 없음) */
+  public String getEmail(Claims claims) {
+    return claims.get("email", String.class);
+  }
+
+  /** 이미 검증된 Claims에서 만료 시각 추출 */
+  public LocalDateTime getExpirationAt(Claims claims) {
+    return claims.getExpiration().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+  }
+
   public Claims parseClaimsJws(String token, TokenType type) {
-    Key key = getKeyForTokenType(type); // ACCESS/REFRESH 키 반환
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .requireIssuer(issuer)
-        .require(ENV_CLAIM, environment)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+    return getParserForTokenType(type).parseClaimsJws(token).getBody();
   }
 
   /** 리프레시 토큰의 만료 시간을 고려하여 액세스 토큰을 생성 액세스 토큰은 리프레시 토큰보다 길게 유효하지 않음 */
   public String createAccessTokenWithRefreshConstraint(
       Long userId, String email, String refreshToken) {
+    // 리프레시 토큰의 만료 시간 가져오기
+    return createAccessTokenWithRefreshConstraint(
+        userId, email, getRefreshTokenExpirationAt(refreshToken));
+  }
+
+  /** 이미 파싱한 리프레시 토큰 만료 시각으로 액세스 토큰 생성 (리프레시 토큰 재파싱 없음) */
+  public String createAccessTokenWithRefreshConstraint(
+      Long userId, String email, LocalDateTime refreshExpiration) {
     try {
-      // 리프레시 토큰의 만료 시간 가져오기
-      LocalDateTime refreshExpiration = getRefreshTokenExpirationAt(refreshToken);
       LocalDateTime now = LocalDateTime.now();
 
       // 기본 액세스 토큰 만료 시간
@@ -324,7 +339,11 @@ public class JwtTokenProvider {
 
   // Guest ID 추출
   public Long getGuestIdFromToken(String token) {
-    Claims claims = getClaims(token);
+    return getGuestId(getClaims(token));
+  }
+
+  /** 이미 검증된 게스트 토큰 Claims에서 Guest ID 추출 */
+  public Long getGuestId(Claims claims) {
     String subject = claims.getSubject(); // "guest:123"
 
     return Long.valueOf(subject.substring(6));
@@ -336,14 +355,7 @@ public class JwtTokenProvider {
       throw new JwtException("토큰이 비어 있습니다.");
     }
     try {
-      return Jwts.parserBuilder()
-          .setSigningKey(guestTokenKey) // secretKey → guestTokenKey로 변경
-          .requireIssuer(issuer)
-          .require(ENV_CLAIM, environment)
-          .setAllowedClockSkewSeconds(60) // 스큐 허용
-          .build()
-          .parseClaimsJws(token)
-          .getBody();
+      return guestTokenParser.parseClaimsJws(token).getBody();
     } catch (ExpiredJwtException e) {
       log.warn("JWT expired (exp={})", e.getClaims().getExpiration());
       throw new JwtException("토큰이 만료되었습니다", e);
@@ -369,10 +381,20 @@ public class JwtTokenProvider {
    * @return 유효하면 true, 아니면 false
    */
   public boolean validateGuestToken(String token) {
+    return parseValidGuestClaims(token) != null;
+  }
+
+  /**
+   * 게스트 토큰을 한 번만 파싱해 검증하고 Claims를 반환
+   *
+   * @param token 검증할 게스트 토큰
+   * @return 유효하면 Claims, 아니면 null
+   */
+  public Claims parseValidGuestClaims(String token) {
     try {
-      // 토큰이 없으면 false
+      // 토큰이 없으면 null
       if (token == null || token.isBlank()) {
-        return false;
+        return null;
       }
 
       // Claims 파싱 (만료, 서명 등 자동 검증됨)
@@ -382,34 +404,34 @@ public class JwtTokenProvider {
       String type = claims.get("type", String.class);
       if (!"GUEST".equals(type)) {
         log.warn("토큰 타입이 GUEST가 아님: {}", type);
-        return false;
+        return null;
       }
 
       // subject 형식 검증 (guest:숫자 형식인지)
       String subject = claims.getSubject();
       if (subject == null || !subject.startsWith("guest:")) {
         log.warn("잘못된 게스트 토큰 subject 형식: {}", subject);
-        return false;
+        return null;
       }
 
       // 만료 시간 체크 (이미 parseClaimsJws에서 체크되지만 명시적으로)
       Date expiration = claims.getExpiration();
       if (expiration != null && expiration.before(new Date())) {
         log.debug("게스트 토큰 만료됨");
-        return false;
+        return null;
       }
 
-      return true;
+      return claims;
 
     } catch (ExpiredJwtException e) {
       log.debug("게스트 토큰 만료: {}", e.getMessage());
-      return false;
+      return null;
     } catch (JwtException e) {
       log.debug("게스트 토큰 검증 실패: {}", e.getMessage());
-      return false;
+      return null;
     } catch (Exception e) {
       log.error("게스트 토큰 검증 중 예상치 못한 오류", e);
-      return false;
+      return null;
     }
   }
 }
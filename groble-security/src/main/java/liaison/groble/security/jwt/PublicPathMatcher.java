@@ -0,0 +1,111 @@
+package liaison.groble.security.jwt;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 인증 제외(공개) 경로 매처
+ *
+ * <p>애플리케이션 시작 시 한 번만 컴파일되며, 요청마다 객체를 생성하지 않고 문자 단위 트라이를 따라가며 판별합니다. 매칭 규칙은 기존 {@code
+ * AntPathRequestMatcher} 설정과 동일합니다.
+ *
+ * <ul>
+ *   <li>{@code /prefix/**}: 대소문자를 구분하는 하위 경로 매칭 ({@code /prefix} 자체 포함)
+ *   <li>그 외: 대소문자를 구분하지 않는 정확한 경로 매칭
+ * </ul>
+ */
+final class PublicPathMatcher {
+  private static final String SUBPATH_SUFFIX = "/**";
+
+  private final Node prefixRoot = new Node();
+  private final Node exactRoot = new Node();
+
+  PublicPathMatcher(Collection<String> patterns) {
+    for (String pattern : patterns) {
+      if (pattern.endsWith(SUBPATH_SUFFIX)) {
+        insert(prefixRoot, pattern.substring(0, pattern.length() - SUBPATH_SUFFIX.length()), false);
+      } else {
+        insert(exactRoot, pattern, true);
+      }
+    }
+  }
+
+  boolean matches(HttpServletRequest request) {
+    String servletPath = request.getServletPath();
+    String pathInfo = request.getPathInfo();
+    if (pathInfo == null) {
+      return matches(servletPath);
+    }
+    // pathInfo가 있는 서블릿 매핑은 공개 경로 대상이 아니므로 드문 경우에만 문자열을 합침
+    return matches(servletPath + pathInfo);
+  }
+
+  boolean matches(String path) {
+    return matchesSubpath(path) || matchesExact(path);
+  }
+
+  private boolean matchesSubpath(String path) {
+    Node node = prefixRoot;
+    int length = path.length();
+    for (int i = 0; i < length; i++) {
+      node = node.child(path.charAt(i));
+      if (node == null) {
+        return false;
+      }
+      if (node.terminal && (i + 1 == length || path.charAt(i + 1) == '/')) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean matchesExact(String path) {
+    Node node = exactRoot;
+    for (int i = 0; i < path.length(); i++) {
+      node = node.child(Character.toLowerCase(path.charAt(i)));
+      if (node == null) {
+        return false;
+      }
+    }
+    return node.terminal;
+  }
+
+  private static void insert(Node root, String path, boolean ignoreCase) {
+    Node node = root;
+    for (int i = 0; i < path.length(); i++) {
+      char c = path.charAt(i);
+      node = node.childOrCreate(ignoreCase ? Character.toLowerCase(c) : c);
+    }
+    node.terminal = true;
+  }
+
+  private static final class Node {
+    private char[] keys = new char[0];
+    private Node[] children = new Node[0];
+    private boolean terminal;
+
+    private Node child(char c) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] == c) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    private Node childOrCreate(char c) {
+      Node existing = child(c);
+      if (existing != null) {
+        return existing;
+      }
+      Node created = new Node();
+      keys = Arrays.copyOf(keys, keys.length + 1);
+      children = Arrays.copyOf(children, children.length + 1);
+      keys[keys.length - 1] = c;
+      children[children.length - 1] = created;
+      return created;
+    }
+  }
+}
@@ -1,82 +1,135 @@
 package liaison.groble.security.jwt;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import liaison.groble.common.cache.LocalTtlCache;
+import liaison.groble.common.port.security.PrincipalCachePort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
-/** 사용자 정보 캐싱 서비스 인증 성능 향상을 위해 Redis를 활용하여 사용자 정보를 캐시 */
+/**
+ * 인증 주체 2단계 캐시 (로컬 LRU → Redis → DB)
+ *
+ * <p>JWT 인증 시 매 요청마다 사용자 정보를 DB에서 다시 조회하지 않도록, 짧은 TTL의 로컬 캐시와 Redis 캐시를 차례로 확인합니다. 무효화는 Redis 키
+ * 삭제와 함께 pub/sub 채널로 전파되어 모든 인스턴스의 로컬 캐시에서도 제거됩니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class UserCacheService {
+public class UserCacheService implements PrincipalCachePort, MessageListener {
+  private static final String USER_CACHE_PREFIX = "user:cache:";
+  private static final String INVALIDATION_CHANNEL = "user:cache:invalidate";
+  private static final String INVALIDATE_ALL = "*";
+  private static final String METRIC_NAME = "principal.cache.lookups";
 
   private final RedisTemplate<String, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
   private final ObjectMapper objectMapper;
+  private final LocalTtlCache<Long, CachedPrincipal> localCache;
+  private final Duration redisTtl;
 
-  private static final String USER_CACHE_PREFIX = "user:cache:";
-  private static final long CACHE_TTL_MINUTES = 30;
+  private final Counter localHitCounter;
+  private final Counter localMissCounter;
+  private final Counter redisHitCounter;
+  private final Counter redisMissCounter;
 
-  /**
-   * 사용자 ID를 기반으로 캐시에서 사용자 정보 조회
-   *
-   * @param userId 사용자 ID
-   * @return 캐시된 사용자 정보 또는 null
-   */
-  public UserDetails getUserFromCache(Long userId) {
-    try {
-      String key = USER_CACHE_PREFIX + userId;
-      Object cachedUser = redisTemplate.opsForValue().get(key);
-
-      if (cachedUser != null) {
-        if (cachedUser instanceof UserDetails) {
-          return (UserDetails) cachedUser;
-        } else {
-          // 문자열 또는 직렬화된 객체인 경우 변환
-          return objectMapper.convertValue(cachedUser, UserDetails.class);
-        }
-      }
-    } catch (Exception e) {
-      log.warn("캐시에서 사용자 정보를 가져오는 중 오류 발생: {}", e.getMessage());
-    }
+  public UserCacheService(
+      RedisTemplate<String, Object> redisTemplate,
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${groble.principal-cache.local-max-size:10000}") int localMaxSize,
+      @Value("${groble.principal-cache.local-ttl:30s}") Duration localTtl,
+      @Value("${groble.principal-cache.redis-ttl:10m}") Duration redisTtl) {
+    this.redisTemplate = redisTemplate;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.localCache = new LocalTtlCache<>(localMaxSize, localTtl);
+    this.redisTtl = redisTtl;
 
-    return null;
+    this.localHitCounter = counter(meterRegistry, "local", "hit");
+    this.localMissCounter = counter(meterRegistry, "local", "miss");
+    this.redisHitCounter = counter(meterRegistry, "redis", "hit");
+    this.redisMissCounter = counter(meterRegistry, "redis", "miss");
+
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
   }
 
   /**
-   * 사용자 정보를 캐시에 저장
+   * 캐시에서 사용자 인증 정보를 조회하고, 없으면 loader로 조회한 뒤 캐시에 저장합니다.
    *
    * @param userId 사용자 ID
-   * @param userDetails 캐시할 사용자 상세 정보
+   * @param loader 캐시 미스 시 DB 조회 함수
+   * @return 인증 정보 스냅샷
    */
-  public void cacheUser(Long userId, UserDetails userDetails) {
-    try {
-      String key = USER_CACHE_PREFIX + userId;
-      redisTemplate.opsForValue().set(key, userDetails);
-      redisTemplate.expire(key, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+  public CachedPrincipal getOrLoad(Long userId, Function<Long, CachedPrincipal> loader) {
+    CachedPrincipal principal = localCache.get(userId);
+    if (principal != null) {
+      localHitCounter.increment();
+      return principal;
+    }
+    localMissCounter.increment();
 
-      log.debug("사용자 정보가 캐시됨: {}, TTL: {}분", userId, CACHE_TTL_MINUTES);
-    } catch (Exception e) {
-      log.warn("사용자 정보 캐싱 중 오류 발생: {}", e.getMessage());
-      // 캐싱 실패는 애플리케이션 동작에 영향을 주지 않아야 함
+    principal = getFromRedis(userId);
+    if (principal != null) {
+      redisHitCounter.increment();
+      localCache.put(userId, principal);
+      return principal;
+    }
+    redisMissCounter.increment();
+
+    principal = loader.apply(userId);
+    localCache.put(userId, principal);
+    putToRedis(principal);
+    return principal;
+  }
+
+  @Override
+  public void evictPrincipal(Long userId) {
+    if (userId == null) {
+      return;
     }
+    // 커밋 전에 지우면 동시 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 무효화
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              invalidateUserCache(userId);
+            }
+          });
+      return;
+    }
+    invalidateUserCache(userId);
   }
 
   /**
-   * 사용자 캐시 무효화
+   * 사용자 캐시 무효화 (Redis 삭제 후 전체 인스턴스에 전파)
    *
    * @param userId 사용자 ID
    */
   public void invalidateUserCache(Long userId) {
+    localCache.invalidate(userId);
     try {
-      String key = USER_CACHE_PREFIX + userId;
-      redisTemplate.delete(key);
+      redisTemplate.delete(USER_CACHE_PREFIX + userId);
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
       log.debug("사용자 캐시 무효화: {}", userId);
     } catch (Exception e) {
       log.warn("사용자 캐시 무효화 중 오류 발생: {}", e.getMessage());
@@ -85,11 +138,57 @@ public class UserCacheService {
 
   /** 모든 사용자 캐시 무효화 (주의: 필요한 경우만 사용) */
   public void invalidateAllUserCache() {
+    localCache.invalidateAll();
     try {
       redisTemplate.delete(redisTemplate.keys(USER_CACHE_PREFIX + "*"));
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, INVALIDATE_ALL);
       log.info("모든 사용자 캐시가 무효화되었습니다");
     } catch (Exception e) {
       log.error("모든 사용자 캐시 무효화 중 오류 발생: {}", e.getMessage());
     }
   }
+
+  /** 다른 인스턴스에서 전파된 무효화 메시지 처리 */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (INVALIDATE_ALL.equals(body)) {
+      localCache.invalidateAll();
+      return;
+    }
+    try {
+      localCache.invalidate(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 사용자 캐시 무효화 메시지: {}", body);
+    }
+  }
+
+  private CachedPrincipal getFromRedis(Long userId) {
+    try {
+      Object cached = redisTemplate.opsForValue().get(USER_CACHE_PREFIX + userId);
+      if (cached != null) {
+        return objectMapper.convertValue(cached, CachedPrincipal.class);
+      }
+    } catch (Exception e) {
+      log.warn("캐시에서 사용자 정보를 가져오는 중 오류 발생: {}", e.getMessage());
+    }
+    return null;
+  }
+
+  private void putToRedis(CachedPrincipal principal) {
+    try {
+      redisTemplate.opsForValue().set(USER_CACHE_PREFIX + principal.getId(), principal, redisTtl);
+    } catch (Exception e) {
+      // 캐싱 실패는 인증 처리에 영향을 주지 않아야 함
+      log.warn("사용자 정보 캐싱 중 오류 발생: {}", e.getMessage());
+    }
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+    return Counter.builder(METRIC_NAME)
+        .tag("principal", "user")
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
 }
@@ -4,30 +4,38 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import liaison.groble.domain.user.entity.User;
 import liaison.groble.domain.user.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /** Spring Security에서 사용자 정보를 로드하는 서비스 UserDetailsService 인터페이스를 구현하여 데이터베이스에서 사용자 정보를 조회 */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
   private final UserRepository userRepository;
+  private final UserCacheService userCacheService;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+
+  public UserDetailsServiceImpl(
+      UserRepository userRepository,
+      UserCacheService userCacheService,
+      PlatformTransactionManager transactionManager) {
+    this.userRepository = userRepository;
+    this.userCacheService = userCacheService;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+  }
 
   @Override
   @Transactional(readOnly = true) // 읽기 전용 트랜잭션으로 변경
   public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
     Long userId = Long.valueOf(username);
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(
-                () -> new UsernameNotFoundException("ID '" + userId + "'의 사용자를 찾을 수 없습니다."));
+    User user = findUser(userId);
 
     log.debug("사용자 로드 완료 - userId: {}", userId);
 
@@ -37,4 +45,30 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     return UserDetailsImpl.build(user);
   }
+
+  /**
+   * JWT 인증용 사용자 정보 조회 (캐시 우선)
+   *
+   * <p>캐시 적중 시에는 트랜잭션·DB 커넥션을 사용하지 않으며, 반환값에는 비밀번호가 포함되지 않습니다.
+   *
+   * @param userId 사용자 ID
+   * @return UserDetailsImpl 객체
+   * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
+   */
+  public UserDetailsImpl loadUserById(Long userId) {
+    return userCacheService.getOrLoad(userId, this::loadPrincipal).toUserDetails();
+  }
+
+  private CachedPrincipal loadPrincipal(Long userId) {
+    CachedPrincipal principal =
+        readOnlyTransactionTemplate.execute(status -> CachedPrincipal.from(findUser(userId)));
+    log.debug("사용자 로드 완료 (캐시 미스) - userId: {}", userId);
+    return principal;
+  }
+
+  private User findUser(Long userId) {
+    return userRepository
+        .findById(userId)
+        .orElseThrow(() -> new UsernameNotFoundException("ID '" + userId + "'의 사용자를 찾을 수 없습니다."));
+  }
 }
@@ -0,0 +1,109 @@
+package liaison.groble.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+class PublicPathMatcherTest {
+  private final PublicPathMatcher matcher =
+      new PublicPathMatcher(JwtAuthenticationFilter.PUBLIC_PATHS);
+  private final RequestMatcher antMatcher = antMatcher(JwtAuthenticationFilter.PUBLIC_PATHS);
+
+  @Test
+  void matches_agreesWithAntPathRequestMatcher() {
+    for (String path : candidatePaths()) {
+      MockHttpServletRequest request = request(path, null);
+
+      assertThat(matcher.matches(request)).as(path).isEqualTo(antMatcher.matches(request));
+    }
+  }
+
+  @Test
+  void matches_agreesWithAntPathRequestMatcherWhenPathInfoIsPresent() {
+    MockHttpServletRequest subpath = request("/payment", "/approve");
+    MockHttpServletRequest exact = request("/api/v1", "/home");
+    MockHttpServletRequest other = request("/api/v1", "/purchase");
+
+    assertThat(matcher.matches(subpath)).isTrue().isEqualTo(antMatcher.matches(subpath));
+    assertThat(matcher.matches(exact)).isTrue().isEqualTo(antMatcher.matches(exact));
+    assertThat(matcher.matches(other)).isFalse().isEqualTo(antMatcher.matches(other));
+  }
+
+  @Test
+  void matches_appliesSubpathAndExactRules() {
+    assertThat(matcher.matches("/api/v1/market/contents")).isTrue();
+    assertThat(matcher.matches("/api/v1/market/contents/abc/detail")).isTrue();
+    assertThat(matcher.matches("/api/v1/market/contentsX")).isFalse();
+    assertThat(matcher.matches("/API/v1/market/contents/abc")).isFalse();
+    assertThat(matcher.matches("/API/V1/HOME")).isTrue();
+    assertThat(matcher.matches("/api/v1/home/")).isFalse();
+    assertThat(matcher.matches("/test-external")).isFalse();
+  }
+
+  /**
+   * 공개 경로마다 경계 근처의 변형을 만들어 비교 대상으로 사용
+   *
+   * <p>{@code //}, {@code /./} 같은 정규화되지 않은 경로는 StrictHttpFirewall이 필터 전에 거부하므로 제외합니다.
+   */
+  private static Set<String> candidatePaths() {
+    Set<String> paths = new LinkedHashSet<>();
+    for (String pattern : JwtAuthenticationFilter.PUBLIC_PATHS) {
+      String base = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern;
+      String rooted = base.startsWith("/") ? base : "/" + base;
+      for (String path : List.of(base, rooted)) {
+        paths.add(path);
+        paths.add(path + "/");
+        paths.add(path + "/child");
+        paths.add(path + "/child/grandchild");
+        paths.add(path + "x");
+        paths.add(path + "-x/child");
+        paths.add(path.toUpperCase(Locale.ROOT));
+        paths.add(path.toUpperCase(Locale.ROOT) + "/child");
+        paths.add(path.substring(0, path.length() - 1));
+        paths.add(path.substring(0, path.lastIndexOf('/') + 1));
+      }
+    }
+    paths.addAll(
+        List.of(
+            "/",
+            "",
+            "/api",
+            "/api/v1",
+            "/api/v1/purchase/content",
+            "/api/v1/oauth2/authorize",
+            "/swagger-ui.htm",
+            "/swagger-ui.html/x",
+            "/webjars",
+            "/favicon.ico.map"));
+    return paths;
+  }
+
+  private static MockHttpServletRequest request(String servletPath, String pathInfo) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", servletPath);
+    request.setServletPath(servletPath);
+    request.setPathInfo(pathInfo);
+    return request;
+  }
+
+  /** 기존 shouldNotFilter가 요청마다 만들던 매처 구성 */
+  private static RequestMatcher antMatcher(List<String> patterns) {
+    List<RequestMatcher> matchers = new ArrayList<>();
+    for (String pattern : patterns) {
+      matchers.add(
+          pattern.contains("**")
+              ? new AntPathRequestMatcher(pattern)
+              : new AntPathRequestMatcher(pattern, null, false));
+    }
+    return new OrRequestMatcher(matchers);
+  }
+}